@@ -4,6 +4,7 @@ import edu.alibaba.mpc4j.common.rpc.utils.DataPacket;
 import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 协议通信接口。
@@ -76,6 +77,27 @@ public interface Rpc {
      */
     DataPacket receive(DataPacketHeader header);
 
+    /**
+     * Receives a data packet asynchronously. The returned future completes when the data packet arrives, so that the
+     * caller can overlap local computation with in-flight receives, or wait on many receives without holding a thread
+     * for each of them. Receiving the same header again before the future completes is not allowed.
+     * <p>
+     * The default implementation waits for the data packet by calling {@link #receive(DataPacketHeader)} in a new
+     * daemon thread. Implementations that buffer received data packets complete the future by the receiving thread
+     * without blocking any thread.
+     * </p>
+     *
+     * @param header the header.
+     * @return a future of the received data packet.
+     */
+    default CompletableFuture<DataPacket> receiveAsync(DataPacketHeader header) {
+        return CompletableFuture.supplyAsync(() -> receive(header), runnable -> {
+            Thread thread = new Thread(runnable, ownParty().getPartyName() + "-receive");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
     /**
      * Receives any data packet. It blocks and wait until there is at least one received data packet. If there are many
      * received data packet, it returns any valid data packet.
@@ -4,6 +4,8 @@ import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.NettyParty;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.robust.RobustNettyRpc;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.simple.SimpleNettyRpc;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory.DataPacketBufferType;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.common.tool.utils.PropertiesUtils;
 
@@ -45,11 +47,15 @@ public class RpcPropertiesUtils {
         NettyParty ownParty = Preconditions.checkNotNull(
             nettyPartyMap.get(ownName), "ownName must be in %s: %s", Arrays.toString(partyPrefix), ownName
         );
+        DataPacketBufferType bufferType = DataPacketBufferType.valueOf(PropertiesUtils.readString(
+            properties, "rpc_buffer_type", DataPacketBufferFactory.DEFAULT_TYPE.name()
+        ));
         boolean robustRpc = PropertiesUtils.readBoolean(properties, "robust_rpc", false);
         if (!robustRpc) {
-            return new SimpleNettyRpc(ownParty, nettyPartySet);
+            boolean streamRpc = PropertiesUtils.readBoolean(properties, "stream_rpc", false);
+            return new SimpleNettyRpc(ownParty, nettyPartySet, streamRpc, bufferType);
         } else {
-            return new RobustNettyRpc(ownParty, nettyPartySet);
+            return new RobustNettyRpc(ownParty, nettyPartySet, null, bufferType);
         }
     }
 }
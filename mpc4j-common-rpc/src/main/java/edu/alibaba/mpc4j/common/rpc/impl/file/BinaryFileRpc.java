@@ -0,0 +1,437 @@
+package edu.alibaba.mpc4j.common.rpc.impl.file;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.rpc.Party;
+import edu.alibaba.mpc4j.common.rpc.Rpc;
+import edu.alibaba.mpc4j.common.rpc.impl.file.FilePtoDesc.StepEnum;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacket;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 二进制文件通信机制。
+ * <p>
+ * 与FileRpc相比，核心区别：
+ * <ul>
+ *   <li>负载以长度前缀的二进制格式经FileChannel写入，不再做Base64编码，文件大小约为负载大小。</li>
+ *   <li>发送方先写临时文件，写完后原子重命名为正式文件，重命名本身即表示写入完毕，不再需要状态文件。</li>
+ *   <li>接收方通过WatchService监听目录中新文件的创建，而不是固定间隔地sleep轮询；读取后直接删除文件，不再等待。</li>
+ * </ul>
+ * 负载文件格式：{@code [num(4B)][len0(4B)][data0][len1(4B)][data1]...}。
+ * </p>
+ * <p>
+ * 读取时没有使用MappedByteBuffer：在Windows下，映射未被GC回收前文件无法删除，而接收方读取后必须立即删除文件。
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class BinaryFileRpc implements Rpc {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryFileRpc.class);
+    /**
+     * each file contains 7 fields: taskId, ptoId, stepId, extraInfo, senderId, receiverId, suffix.
+     */
+    private static final int FILE_NAME_SPLIT_NUM = 7;
+    /**
+     * 等待新文件的最长时间。通知不会在检查与等待之间丢失（见{@link #fileEventNum}），但WatchService在部分平台上是轮询实现的，
+     * 且事件可能溢出，因此超时后仍主动检查一次文件。
+     */
+    private static final int DEFAULT_WAIT_MILLI_SECOND = 100;
+    /**
+     * 读写缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * 文件名分隔符
+     */
+    private static final String FILE_NAME_SEPARATOR = "_";
+    /**
+     * 正在写入的临时文件后缀
+     */
+    private static final String FILE_TEMP_SUFFIX = "TMP";
+    /**
+     * 写入完毕的负载文件后缀
+     */
+    private static final String FILE_BINARY_SUFFIX = "BIN";
+    /**
+     * 参与方ID映射
+     */
+    private final HashMap<Integer, FileParty> partyIdHashMap;
+    /**
+     * 自己的参与方信息
+     */
+    private final FileParty ownParty;
+    /**
+     * Own party's ID
+     */
+    private final int ownPartyId;
+    /**
+     * 新文件通知的等待对象
+     */
+    private final Object fileMonitor;
+    /**
+     * 监听到的新文件事件数量，由fileMonitor保护。等待方在检查文件之前记录该值，只有该值未变化时才等待，
+     * 因此检查之后、等待之前到达的通知不会丢失。
+     */
+    private long fileEventNum;
+    /**
+     * 目录监听服务，connect()时创建，disconnect()时关闭
+     */
+    private WatchService watchService;
+    /**
+     * 数据包数量
+     */
+    private long dataPacketNum;
+    /**
+     * 负载字节长度
+     */
+    private long payloadByteLength;
+    /**
+     * 发送字节长度
+     */
+    private long sendByteLength;
+
+    /**
+     * 构建二进制文件RPC。
+     *
+     * @param ownParty 自己的参与方信息。
+     * @param partySet 参与方集合。
+     */
+    public BinaryFileRpc(FileParty ownParty, Set<FileParty> partySet) {
+        // 所有参与方的数量必须大于1
+        Preconditions.checkArgument(partySet.size() > 1, "Party set size must be greater than 1");
+        // 参与方自身必须在所有参与方之中
+        Preconditions.checkArgument(partySet.contains(ownParty), "Party set must contain own party");
+        this.ownParty = ownParty;
+        ownPartyId = ownParty.getPartyId();
+        // 按照参与方索引值，将参与方信息插入到ID映射中
+        partyIdHashMap = new HashMap<>();
+        partySet.forEach(partySpec -> partyIdHashMap.put(partySpec.getPartyId(), partySpec));
+        fileMonitor = new Object();
+        watchService = null;
+        dataPacketNum = 0;
+        payloadByteLength = 0;
+        sendByteLength = 0;
+    }
+
+    @Override
+    public Party ownParty() {
+        return ownParty;
+    }
+
+    @Override
+    public Set<Party> getPartySet() {
+        return partyIdHashMap.keySet().stream().map(partyIdHashMap::get).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Party getParty(int partyId) {
+        assert (partyIdHashMap.containsKey(partyId));
+        return partyIdHashMap.get(partyId);
+    }
+
+    @Override
+    public void connect() {
+        if (watchService != null) {
+            LOGGER.warn("{} already connected, skip connect()", ownParty);
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            Paths.get(ownParty.getPartyFilePath()).register(watchService, StandardWatchEventKinds.ENTRY_CREATE);
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new IllegalStateException("Cannot watch file path: " + ownParty.getPartyFilePath());
+        }
+        // 监听线程只负责唤醒等待者，等待者被唤醒后自行检查目标文件是否存在
+        WatchService currentWatchService = watchService;
+        Thread watchThread = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey watchKey = currentWatchService.take();
+                    watchKey.pollEvents();
+                    synchronized (fileMonitor) {
+                        fileEventNum++;
+                        fileMonitor.notifyAll();
+                    }
+                    if (!watchKey.reset()) {
+                        return;
+                    }
+                }
+            } catch (ClosedWatchServiceException | InterruptedException e) {
+                // disconnect() closes the watch service
+            }
+        }, ownParty.getPartyName() + "-" + BinaryFileRpc.class.getSimpleName() + "-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        partyIdHashMap.keySet().stream().sorted().forEach(otherPartyId -> {
+            if (otherPartyId != ownPartyId) {
+                LOGGER.debug(
+                    "{} successfully make connection with {}",
+                    partyIdHashMap.get(ownPartyId), partyIdHashMap.get(otherPartyId)
+                );
+            }
+        });
+        LOGGER.info("{} connected", ownParty);
+    }
+
+    @Override
+    public void send(DataPacket dataPacket) {
+        DataPacketHeader header = dataPacket.getHeader();
+        Preconditions.checkArgument(
+            ownPartyId == header.getSenderId(), "Sender ID must be %s", ownPartyId
+        );
+        Preconditions.checkArgument(
+            partyIdHashMap.containsKey(header.getReceiverId()),
+            "Party set does not contain Receiver ID = %s", header.getReceiverId()
+        );
+        String receiverFilePath = partyIdHashMap.get(header.getReceiverId()).getPartyFilePath();
+        List<byte[]> payload = dataPacket.getPayload();
+        Path tempFile = Paths.get(receiverFilePath, getFileName(header, FILE_TEMP_SUFFIX));
+        Path binaryFile = Paths.get(receiverFilePath, getFileName(header, FILE_BINARY_SUFFIX));
+        // 在写入之前必然没有负载文件
+        if (Files.exists(binaryFile)) {
+            throw new IllegalStateException("File " + binaryFile.getFileName() + " already exists.");
+        }
+        try (FileChannel fileChannel = FileChannel.open(tempFile,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // 大于缓冲区的数组会绕过缓冲区直接写入FileChannel
+            DataOutputStream dataOutputStream = new DataOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(fileChannel), BUFFER_SIZE)
+            );
+            dataOutputStream.writeInt(payload.size());
+            for (byte[] byteArray : payload) {
+                payloadByteLength += byteArray.length;
+                dataOutputStream.writeInt(byteArray.length);
+                dataOutputStream.write(byteArray);
+            }
+            dataOutputStream.flush();
+            sendByteLength += fileChannel.size();
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new IllegalStateException("Unknown IOException for receiver file path: " + receiverFilePath);
+        }
+        try {
+            // 原子重命名，接收方看到正式文件时，文件一定已经写入完毕
+            Files.move(tempFile, binaryFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new IllegalStateException("Cannot rename file: " + tempFile.getFileName());
+        }
+        dataPacketNum++;
+    }
+
+    @Override
+    public DataPacket receive(DataPacketHeader header) {
+        Preconditions.checkArgument(
+            ownPartyId == header.getReceiverId(), "Receiver ID must be %s", ownPartyId
+        );
+        Preconditions.checkArgument(
+            partyIdHashMap.containsKey(header.getSenderId()),
+            "Party set does not contain Sender ID = %s", header.getSenderId()
+        );
+        Path binaryFile = Paths.get(ownParty.getPartyFilePath(), getFileName(header, FILE_BINARY_SUFFIX));
+        try {
+            while (true) {
+                long eventNum = getFileEventNum();
+                if (Files.exists(binaryFile)) {
+                    break;
+                }
+                waitNewFile(eventNum);
+            }
+        } catch (InterruptedException e) {
+            return null;
+        }
+        return read(header, binaryFile);
+    }
+
+    private long getFileEventNum() {
+        synchronized (fileMonitor) {
+            return fileEventNum;
+        }
+    }
+
+    /**
+     * 等待目录中出现新文件，或等待超时。如果检查文件之后已经有新文件事件，则直接返回。
+     *
+     * @param eventNum 检查文件之前的新文件事件数量。
+     * @throws InterruptedException interrupted exception.
+     */
+    private void waitNewFile(long eventNum) throws InterruptedException {
+        synchronized (fileMonitor) {
+            if (fileEventNum == eventNum) {
+                fileMonitor.wait(DEFAULT_WAIT_MILLI_SECOND);
+            }
+        }
+    }
+
+    /**
+     * 读取负载文件，读取后删除。
+     *
+     * @param header     数据包头。
+     * @param binaryFile 负载文件。
+     * @return 数据包。
+     */
+    private DataPacket read(DataPacketHeader header, Path binaryFile) {
+        List<byte[]> byteArrayData;
+        try (FileChannel fileChannel = FileChannel.open(binaryFile, StandardOpenOption.READ)) {
+            DataInputStream dataInputStream = new DataInputStream(
+                new BufferedInputStream(Channels.newInputStream(fileChannel), BUFFER_SIZE)
+            );
+            int num = dataInputStream.readInt();
+            byteArrayData = new ArrayList<>(num);
+            for (int i = 0; i < num; i++) {
+                byte[] byteArray = new byte[dataInputStream.readInt()];
+                dataInputStream.readFully(byteArray);
+                byteArrayData.add(byteArray);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new IllegalStateException("Unknown IOException for receiver file: " + binaryFile.getFileName());
+        }
+        try {
+            // 文件已经关闭，可以直接删除
+            Files.delete(binaryFile);
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new IllegalStateException("Cannot delete file: " + binaryFile.getFileName());
+        }
+        return DataPacket.fromByteArrayList(header, byteArrayData);
+    }
+
+    @Override
+    public DataPacket receiveAny(int ptoId) {
+        DataPacketHeader[] receivedDataPacketHeaders;
+        try {
+            while (true) {
+                long eventNum = getFileEventNum();
+                receivedDataPacketHeaders = getReceivedDataPacketHeaders(ptoId);
+                if (receivedDataPacketHeaders.length > 0) {
+                    break;
+                }
+                waitNewFile(eventNum);
+            }
+        } catch (InterruptedException e) {
+            return null;
+        }
+        return receive(receivedDataPacketHeaders[0]);
+    }
+
+    @Override
+    public long getPayloadByteLength() {
+        return payloadByteLength;
+    }
+
+    @Override
+    public long getSendByteLength() {
+        return sendByteLength;
+    }
+
+    @Override
+    public long getSendDataPacketNum() {
+        return dataPacketNum;
+    }
+
+    @Override
+    public void reset() {
+        payloadByteLength = 0;
+        sendByteLength = 0;
+        dataPacketNum = 0;
+    }
+
+    @Override
+    public void synchronize() {
+        // 对参与方进行排序，所有在自己之前的自己作为client、所有在自己之后的自己作为server
+        partyIdHashMap.keySet().stream().sorted().forEach(otherPartyId -> {
+            if (otherPartyId < ownPartyId) {
+                // 如果对方排序比自己小，则自己是client，需要给对方发送同步信息
+                DataPacketHeader clientSynchronizeHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - ownPartyId, FilePtoDesc.getInstance().getPtoId(), StepEnum.CLIENT_SYNCHRONIZE.ordinal(),
+                    ownPartyId, otherPartyId
+                );
+                send(DataPacket.fromByteArrayList(clientSynchronizeHeader, new LinkedList<>()));
+                // 获得对方的回复
+                DataPacketHeader serverSynchronizeHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - otherPartyId, FilePtoDesc.getInstance().getPtoId(), StepEnum.SERVER_SYNCHRONIZE.ordinal(),
+                    otherPartyId, ownPartyId
+                );
+                receive(serverSynchronizeHeader);
+            } else if (otherPartyId > ownPartyId) {
+                // 如果对方排序比自己大，则自己是server
+                DataPacketHeader clientSynchronizeHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - otherPartyId, FilePtoDesc.getInstance().getPtoId(), StepEnum.CLIENT_SYNCHRONIZE.ordinal(),
+                    otherPartyId, ownPartyId
+                );
+                receive(clientSynchronizeHeader);
+                DataPacketHeader serverSynchronizeHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - ownPartyId, FilePtoDesc.getInstance().getPtoId(), StepEnum.SERVER_SYNCHRONIZE.ordinal(),
+                    ownPartyId, otherPartyId
+                );
+                send(DataPacket.fromByteArrayList(serverSynchronizeHeader, new LinkedList<>()));
+            }
+        });
+        LOGGER.info("{} synchronized", ownParty);
+    }
+
+    private String getFileName(DataPacketHeader header, String suffix) {
+        // testId_PtoId_StepId_extraInfo_senderId_receiverId_SUFFIX
+        return header.getEncodeTaskId()
+            + FILE_NAME_SEPARATOR + header.getPtoId()
+            + FILE_NAME_SEPARATOR + header.getStepId()
+            + FILE_NAME_SEPARATOR + header.getExtraInfo()
+            + FILE_NAME_SEPARATOR + header.getSenderId()
+            + FILE_NAME_SEPARATOR + header.getReceiverId()
+            + FILE_NAME_SEPARATOR + suffix;
+    }
+
+    private DataPacketHeader[] getReceivedDataPacketHeaders(int targetPtoId) {
+        // read all binary files
+        File ownFilePath = new File(ownParty.getPartyFilePath());
+        File[] files = ownFilePath.listFiles();
+        Objects.requireNonNull(files, ownFilePath + " is not a dictionary");
+        return Arrays.stream(files)
+            .map(File::getName)
+            .map(fileName -> fileName.split(FILE_NAME_SEPARATOR))
+            // valid file name
+            .filter(splitFileName -> splitFileName.length == FILE_NAME_SPLIT_NUM)
+            // given sender and receiver
+            .filter(splitFileName ->
+                splitFileName[FILE_NAME_SPLIT_NUM - 1].equals(FILE_BINARY_SUFFIX)
+                && Integer.parseInt(splitFileName[5]) == ownPartyId
+            )
+            .map(splitFileName -> {
+                long taskId = Long.parseLong(splitFileName[0]);
+                int ptoId = Integer.parseInt(splitFileName[1]);
+                int stepId = Integer.parseInt(splitFileName[2]);
+                int senderId = Integer.parseInt(splitFileName[4]);
+                long extraInfo = Long.parseLong(splitFileName[3]);
+                return new DataPacketHeader(taskId, ptoId, stepId, extraInfo, senderId, ownPartyId);
+            })
+            .filter(header -> header.getPtoId() == targetPtoId)
+            .toArray(DataPacketHeader[]::new);
+    }
+
+    @Override
+    public void disconnect() {
+        if (watchService == null) {
+            LOGGER.warn("{} already disconnected, skip disconnect()", ownParty);
+            return;
+        }
+        try {
+            // 关闭后监听线程的take()会抛出ClosedWatchServiceException并退出
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.error("Failed to close watch service", e);
+        }
+        watchService = null;
+        LOGGER.info("{} disconnected", ownParty);
+    }
+}
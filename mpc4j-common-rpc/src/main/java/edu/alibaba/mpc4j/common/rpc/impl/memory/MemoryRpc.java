@@ -12,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -155,6 +156,18 @@ public class MemoryRpc implements Rpc {
         }
     }
 
+    @Override
+    public CompletableFuture<DataPacket> receiveAsync(DataPacketHeader header) {
+        Preconditions.checkArgument(
+            ownPartyId == header.getReceiverId(), "Receiver ID must be %s", ownPartyId
+        );
+        Preconditions.checkArgument(
+            partyIdHashMap.containsKey(header.getSenderId()),
+            "Party set does not contain Sender ID = %s", header.getSenderId()
+        );
+        return dataPacketBuffer.takeAsync(header);
+    }
+
     @Override
     public DataPacket receiveAny(int ptoId) {
         try {
@@ -8,6 +8,8 @@ import edu.alibaba.mpc4j.common.rpc.impl.netty.NettyParty;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.protobuf.RobustNettyRpcProtobuf.ChunkProto;
 import edu.alibaba.mpc4j.common.rpc.utils.DataPacket;
 import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBuffer;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory.DataPacketBufferType;
 import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
 import edu.alibaba.mpc4j.common.rpc.utils.PayloadType;
 import io.netty.channel.ChannelHandler;
@@ -22,6 +24,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CyclicBarrier;
 import java.util.stream.Collectors;
 
@@ -112,6 +115,19 @@ public class RobustNettyRpc implements Rpc {
      * @param extraSendHandler 可选的发送管道额外Handler（如故障注入Handler）；传null则不注入。
      */
     public RobustNettyRpc(NettyParty ownParty, Set<NettyParty> partySet, ChannelHandler extraSendHandler) {
+        this(ownParty, partySet, extraSendHandler, DataPacketBufferFactory.DEFAULT_TYPE);
+    }
+
+    /**
+     * 构建RobustNettyRpc。
+     *
+     * @param ownParty         参与方信息。
+     * @param partySet         所有参与方集合。
+     * @param extraSendHandler 可选的发送管道额外Handler（如故障注入Handler）；传null则不注入。
+     * @param bufferType       数据接收缓存区类型。
+     */
+    public RobustNettyRpc(NettyParty ownParty, Set<NettyParty> partySet, ChannelHandler extraSendHandler,
+                          DataPacketBufferType bufferType) {
         Preconditions.checkArgument(partySet.size() > 1, "Party set size must be greater than 1");
         Preconditions.checkArgument(partySet.contains(ownParty), "Party set must contain own party");
         testPortInUse(ownParty.getPort());
@@ -127,7 +143,7 @@ public class RobustNettyRpc implements Rpc {
         robustDataReceiveThread = null;
         robustDataSendManager = null;
         robustChunkAssembler = new RobustChunkAssembler();
-        dataPacketBuffer = new DataPacketBuffer();
+        dataPacketBuffer = DataPacketBufferFactory.createInstance(bufferType);
         this.extraSendHandler = extraSendHandler;
     }
 
@@ -330,6 +346,14 @@ public class RobustNettyRpc implements Rpc {
         }
     }
 
+    @Override
+    public CompletableFuture<DataPacket> receiveAsync(DataPacketHeader header) {
+        Preconditions.checkArgument(ownPartyId == header.getReceiverId(), "Receiver ID must be %s", ownPartyId);
+        Preconditions.checkArgument(partyIdHashMap.containsKey(header.getSenderId()),
+            "Party set does not contain Sender ID = %s", header.getSenderId());
+        return dataPacketBuffer.takeAsync(header);
+    }
+
     @Override
     public DataPacket receiveAny(int ptoId) {
         try {
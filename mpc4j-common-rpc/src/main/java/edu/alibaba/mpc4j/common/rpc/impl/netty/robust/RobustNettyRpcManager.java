@@ -5,6 +5,8 @@ import edu.alibaba.mpc4j.common.rpc.Party;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.RpcManager;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.NettyParty;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory.DataPacketBufferType;
 import io.netty.channel.ChannelHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +60,19 @@ public class RobustNettyRpcManager implements RpcManager {
      * @param extraHandler 可选的发送管道额外Handler（如测试用的故障注入Handler）；传null则不注入。
      */
     public RobustNettyRpcManager(int partyNum, int startPort, ChannelHandler extraHandler) {
+        this(partyNum, startPort, extraHandler, DataPacketBufferFactory.DEFAULT_TYPE);
+    }
+
+    /**
+     * 初始化Robust Netty通信管理器。
+     *
+     * @param partyNum     参与方数量。
+     * @param startPort    起始端口。
+     * @param extraHandler 可选的发送管道额外Handler（如测试用的故障注入Handler）；传null则不注入。
+     * @param bufferType   数据接收缓存区类型。
+     */
+    public RobustNettyRpcManager(int partyNum, int startPort, ChannelHandler extraHandler,
+                                 DataPacketBufferType bufferType) {
         Preconditions.checkArgument(partyNum > 1, "Number of parties must be greater than 1");
         this.partyNum = partyNum;
         nettyPartySet = new HashSet<>(partyNum);
@@ -69,7 +84,7 @@ public class RobustNettyRpcManager implements RpcManager {
             nettyPartySet.add(nettyParty);
         });
         for (NettyParty nettyParty : nettyPartySet) {
-            RobustNettyRpc robustNettyRpc = new RobustNettyRpc(nettyParty, nettyPartySet, extraHandler);
+            RobustNettyRpc robustNettyRpc = new RobustNettyRpc(nettyParty, nettyPartySet, extraHandler, bufferType);
             nettyRpcMap.put(robustNettyRpc.ownParty().getPartyId(), robustNettyRpc);
             LOGGER.debug("Add Robust Netty party: {}", nettyParty);
         }
@@ -27,6 +27,9 @@ import java.util.stream.Collectors;
  * ProtobufVarint32FrameDecoder → ProtobufDecoder → 本Handler.channelRead()
  * </p>
  * <p>
+ * 流式模式下的处理链为：SimpleStreamDecoder → 本Handler.channelRead()，收到的是已经重组好的DataPacket。
+ * </p>
+ * <p>
  * <code>@ChannelHandler.Sharable</code>注解说明：
  * <ul>
  *   <li>表示此Handler可以安全地被多个Channel共享</li>
@@ -51,6 +54,11 @@ public class SimpleDataReceiveHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        // 流式模式下，SimpleStreamDecoder已经直接重组出DataPacket
+        if (msg instanceof DataPacket dataPacket) {
+            dataPacketBuffer.put(dataPacket);
+            return;
+        }
         // 当Pipeline中的上一个Handler（ProtobufDecoder）完成解码后，调用此方法
         // ProtobufDecoder已经把msg解码为DataPacketProto对象
         DataPacketProto dataPacketProto = (DataPacketProto) msg;
@@ -47,6 +47,10 @@ public class SimpleDataReceiveThread extends Thread {
      * 数据缓冲区
      */
     private final DataPacketBuffer dataPacketBuffer;
+    /**
+     * 是否使用流式模式
+     */
+    private final boolean stream;
     /**
      * BossGroup用来处理nio的Accept
      */
@@ -67,8 +71,22 @@ public class SimpleDataReceiveThread extends Thread {
      * @param cyclicBarrier 用于线程同步的cyclicBarrier
      */
     public SimpleDataReceiveThread(NettyParty ownParty, CyclicBarrier cyclicBarrier, DataPacketBuffer dataPacketBuffer) {
+        this(ownParty, cyclicBarrier, dataPacketBuffer, false);
+    }
+
+    /**
+     * 构建数据接收管理器
+     *
+     * @param ownParty         参与方自身信息
+     * @param cyclicBarrier    用于线程同步的cyclicBarrier
+     * @param dataPacketBuffer 数据缓冲区
+     * @param stream           是否使用流式模式
+     */
+    public SimpleDataReceiveThread(NettyParty ownParty, CyclicBarrier cyclicBarrier, DataPacketBuffer dataPacketBuffer,
+                                   boolean stream) {
         this.ownParty = ownParty;
         this.dataPacketBuffer = dataPacketBuffer;
+        this.stream = stream;
         this.cyclicBarrier = cyclicBarrier;
         bossGroup = null;
         workerGroup = null;
@@ -94,6 +112,13 @@ public class SimpleDataReceiveThread extends Thread {
                 .childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     public void initChannel(SocketChannel ch) {
+                        if (stream) {
+                            // 流式模式：数据流向为 网络字节流 → SimpleStreamDecoder → 自定义Handler
+                            // SimpleStreamDecoder持有每个连接的解码状态，因此每个连接都要新建实例
+                            ch.pipeline().addLast(new SimpleStreamDecoder());
+                            ch.pipeline().addLast(simpleDataReceiveHandler);
+                            return;
+                        }
                         // 为每个新建立的连接配置pipeline（入站数据的处理链）
                         // 数据流向：网络字节流 → FrameDecoder → ProtobufDecoder → 自定义Handler
                         // ProtobufVarint32FrameDecoder: 根据varint32长度字段分割TCP流，解决粘包/拆包问题
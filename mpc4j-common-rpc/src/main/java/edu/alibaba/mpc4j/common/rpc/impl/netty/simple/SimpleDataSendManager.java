@@ -3,6 +3,7 @@ package edu.alibaba.mpc4j.common.rpc.impl.netty.simple;
 import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.NettyParty;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.protobuf.SimpleNettyRpcProtobuf;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacket;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -12,6 +13,7 @@ import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.protobuf.ProtobufEncoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 import org.slf4j.Logger;
@@ -44,6 +46,10 @@ public class SimpleDataSendManager {
      * 引导
      */
     private final Bootstrap senderBootstrap;
+    /**
+     * 是否使用流式模式
+     */
+    private final boolean stream;
     /**
      * 用于管理不同连接池的map，其中每个key对应一个远程地址
      */
@@ -61,6 +67,20 @@ public class SimpleDataSendManager {
      * </p>
      */
     public SimpleDataSendManager() {
+        this(false);
+    }
+
+    /**
+     * 构建client。
+     * <p>
+     * 流式模式下，pipeline中用ChunkedWriteHandler代替protobuf编码器，数据包以{@link SimpleStreamChunkedInput}的形式写出，
+     * 在Channel可写时逐片从payload读取并写入池化的直接内存，不会一次性生成整个数据包的编码结果。
+     * </p>
+     *
+     * @param stream 是否使用流式模式。
+     */
+    public SimpleDataSendManager(boolean stream) {
+        this.stream = stream;
         simpleDataSendHandler = new SimpleDataSendHandler();
         senderBootstrap = new Bootstrap();
         // NioEventLoopGroup: Netty的NIO线程组，处理所有Channel的IO事件
@@ -81,6 +101,12 @@ public class SimpleDataSendManager {
                     public void channelCreated(Channel channel) {
                         // 当连接池需要新建Channel时调用此方法，配置Channel的pipeline
                         SocketChannel ch = (SocketChannel) channel;
+                        if (stream) {
+                            // 按需读取ChunkedInput中的分片，并根据Channel的可写状态控制发送速度
+                            ch.pipeline().addLast(new ChunkedWriteHandler());
+                            ch.pipeline().addLast(simpleDataSendHandler);
+                            return;
+                        }
                         // 在消息前添加varint32格式的长度字段
                         ch.pipeline().addLast(new ProtobufVarint32LengthFieldPrepender());
                         // 将Protobuf消息对象编码为字节数组
@@ -107,8 +133,29 @@ public class SimpleDataSendManager {
      * @param dataPacketProto 用protobuf封装的数据包。
      */
     public void sendData(NettyParty receiver, SimpleNettyRpcProtobuf.DataPacketProto dataPacketProto) {
+        Preconditions.checkState(!stream, "Cannot send protobuf data packet in stream mode");
+        write(receiver, Preconditions.checkNotNull(dataPacketProto));
+    }
+
+    /**
+     * 以流式模式发送数据。
+     *
+     * @param receiver   接收方。
+     * @param dataPacket 数据包。
+     */
+    public void streamData(NettyParty receiver, DataPacket dataPacket) {
+        Preconditions.checkState(stream, "Cannot stream data packet in protobuf mode");
+        write(receiver, new SimpleStreamChunkedInput(Preconditions.checkNotNull(dataPacket)));
+    }
+
+    /**
+     * 从连接池中获取一个channel并写出消息，写完后释放channel。
+     *
+     * @param receiver 接收方。
+     * @param message  消息。
+     */
+    private void write(NettyParty receiver, Object message) {
         // 首先获取receiver主机对应的channelPool
-        Preconditions.checkNotNull(dataPacketProto);
         // poolMap.get永远会返回一个pool。如果key对应的pool还不存在，那会新建一个pool并返回
         SimpleChannelPool simpleChannelPool = this.poolMap.get(
             new InetSocketAddress(receiver.getHost(), receiver.getPort())
@@ -123,7 +170,8 @@ public class SimpleDataSendManager {
                 Channel ch = futureChannel.getNow();
                 // writeAndFlush也是异步：将数据写入发送缓冲区后立即返回ChannelFuture
                 // 实际发送和对端接收完成由回调通知
-                ChannelFuture writeFuture = ch.writeAndFlush(dataPacketProto);
+                // 流式模式下，writeFuture在最后一个分片写出后才完成，因此同一channel上的数据包不会交错
+                ChannelFuture writeFuture = ch.writeAndFlush(message);
                 // 监听write完成事件，确保数据已写入OS缓冲区
                 writeFuture.addListener(wf -> {
                     // release channel after write when write is complete
@@ -12,6 +12,8 @@ import edu.alibaba.mpc4j.common.rpc.impl.netty.protobuf.SimpleNettyRpcProtobuf.D
 import edu.alibaba.mpc4j.common.rpc.impl.netty.protobuf.SimpleNettyRpcProtobuf.DataPacketProto.TypeProto;
 import edu.alibaba.mpc4j.common.rpc.utils.DataPacket;
 import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBuffer;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory.DataPacketBufferType;
 import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
 import edu.alibaba.mpc4j.common.rpc.utils.PayloadType;
 import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
@@ -21,11 +23,13 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CyclicBarrier;
 import java.util.stream.Collectors;
 
@@ -81,6 +85,10 @@ public class SimpleNettyRpc implements Rpc {
      * 发送字节长度
      */
     private long sendByteLength;
+    /**
+     * 是否使用流式模式
+     */
+    private final boolean stream;
 
     /**
      * 构建NettyRPC。
@@ -88,6 +96,34 @@ public class SimpleNettyRpc implements Rpc {
      * @param ownParty 参与方信息。
      */
     public SimpleNettyRpc(NettyParty ownParty, Set<NettyParty> partySet) {
+        this(ownParty, partySet, false);
+    }
+
+    /**
+     * 构建NettyRPC。
+     * <p>
+     * 流式模式下，payload不再经过protobuf封装，而是按长度前缀的形式逐片写入池化的直接内存并发送，接收端边收边重组。
+     * 这样可以避免ByteString的中间拷贝，且单个数据包的大小不受单帧长度的限制。所有参与方必须使用相同的模式。
+     * </p>
+     *
+     * @param ownParty 参与方信息。
+     * @param partySet 所有参与方集合。
+     * @param stream   是否使用流式模式。
+     */
+    public SimpleNettyRpc(NettyParty ownParty, Set<NettyParty> partySet, boolean stream) {
+        this(ownParty, partySet, stream, DataPacketBufferFactory.DEFAULT_TYPE);
+    }
+
+    /**
+     * 构建NettyRPC。
+     *
+     * @param ownParty   参与方信息。
+     * @param partySet   所有参与方集合。
+     * @param stream     是否使用流式模式。
+     * @param bufferType 数据接收缓存区类型。
+     */
+    public SimpleNettyRpc(NettyParty ownParty, Set<NettyParty> partySet, boolean stream,
+                          DataPacketBufferType bufferType) {
         // 所有参与方的数量必须大于1
         Preconditions.checkArgument(partySet.size() > 1, "Party set size must be greater than 1");
         // 参与方自身必须在所有参与方之中
@@ -107,7 +143,8 @@ public class SimpleNettyRpc implements Rpc {
         cyclicBarrier = null;
         simpleDataReceiveThread = null;
         simpleDataSendManager = null;
-        dataPacketBuffer = new DataPacketBuffer();
+        dataPacketBuffer = DataPacketBufferFactory.createInstance(bufferType);
+        this.stream = stream;
     }
 
     /**
@@ -150,10 +187,10 @@ public class SimpleNettyRpc implements Rpc {
         // 每次connect()创建新的CyclicBarrier，用于父线程和server子线程的同步，parties设置成2
         cyclicBarrier = new CyclicBarrier(2);
         // 先开启数据接收服务
-        simpleDataReceiveThread = new SimpleDataReceiveThread(ownParty, cyclicBarrier, dataPacketBuffer);
+        simpleDataReceiveThread = new SimpleDataReceiveThread(ownParty, cyclicBarrier, dataPacketBuffer, stream);
         simpleDataReceiveThread.start();
         // 再开启数据发送服务
-        simpleDataSendManager = new SimpleDataSendManager();
+        simpleDataSendManager = new SimpleDataSendManager(stream);
         partyIdHashMap.keySet().stream().sorted().forEach(otherPartyId -> {
             if (otherPartyId < ownPartyId) {
                 // 如果对方排序比自己小，则自己是client，先给对方发送连接信息
@@ -263,6 +300,19 @@ public class SimpleNettyRpc implements Rpc {
             partyIdHashMap.containsKey(header.getReceiverId()),
             "Party set does not contain Receiver ID = %s", header.getReceiverId()
         );
+        if (stream) {
+            // stream payload directly, without protobuf packaging. The payload is read after send() returns, so we copy
+            // it here, otherwise modifying the original data after sending would also affect the data on the wire.
+            List<byte[]> copyPayload = payload.stream()
+                .map(each -> Arrays.copyOf(each, each.length))
+                .collect(Collectors.toList());
+            DataPacket copyDataPacket = DataPacket.fromByteArrayList(header, copyPayload);
+            payloadByteLength += copyPayload.stream().mapToLong(data -> data.length).sum();
+            sendByteLength += SimpleStreamChunkedInput.frameByteLength(copyDataPacket);
+            dataPacketNum++;
+            simpleDataSendManager.streamData(partyIdHashMap.get(header.getReceiverId()), copyDataPacket);
+            return;
+        }
         // package header
         HeaderProto headerProto = HeaderProto.newBuilder()
             .setEncodeTaskId(header.getEncodeTaskId())
@@ -329,6 +379,18 @@ public class SimpleNettyRpc implements Rpc {
         }
     }
 
+    @Override
+    public CompletableFuture<DataPacket> receiveAsync(DataPacketHeader header) {
+        Preconditions.checkArgument(
+            ownPartyId == header.getReceiverId(), "Receiver ID must be %s", ownPartyId
+        );
+        Preconditions.checkArgument(
+            partyIdHashMap.containsKey(header.getSenderId()),
+            "Party set does not contain Sender ID = %s", header.getSenderId()
+        );
+        return dataPacketBuffer.takeAsync(header);
+    }
+
     @Override
     public DataPacket receiveAny(int ptoId) {
         try {
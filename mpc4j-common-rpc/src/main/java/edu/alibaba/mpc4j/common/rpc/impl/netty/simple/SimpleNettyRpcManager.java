@@ -5,6 +5,8 @@ import edu.alibaba.mpc4j.common.rpc.Party;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.RpcManager;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.NettyParty;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory.DataPacketBufferType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +48,29 @@ public class SimpleNettyRpcManager implements RpcManager {
      * @param startPort 起始端口。
      */
     public SimpleNettyRpcManager(int partyNum, int startPort) {
+        this(partyNum, startPort, false);
+    }
+
+    /**
+     * 初始化Netty通信管理器。
+     *
+     * @param partyNum  参与方数量。
+     * @param startPort 起始端口。
+     * @param stream    是否使用流式模式。
+     */
+    public SimpleNettyRpcManager(int partyNum, int startPort, boolean stream) {
+        this(partyNum, startPort, stream, DataPacketBufferFactory.DEFAULT_TYPE);
+    }
+
+    /**
+     * 初始化Netty通信管理器。
+     *
+     * @param partyNum   参与方数量。
+     * @param startPort  起始端口。
+     * @param stream     是否使用流式模式。
+     * @param bufferType 数据接收缓存区类型。
+     */
+    public SimpleNettyRpcManager(int partyNum, int startPort, boolean stream, DataPacketBufferType bufferType) {
         Preconditions.checkArgument(partyNum > 1, "Number of parties must be greater than 1");
         this.partyNum = partyNum;
         nettyPartySet = new HashSet<>(partyNum);
@@ -59,7 +84,7 @@ public class SimpleNettyRpcManager implements RpcManager {
         });
         // 将所有的NettyRpc对象放到一个集合里
         for (NettyParty nettyParty : nettyPartySet) {
-            SimpleNettyRpc simpleNettyRpc = new SimpleNettyRpc(nettyParty, nettyPartySet);
+            SimpleNettyRpc simpleNettyRpc = new SimpleNettyRpc(nettyParty, nettyPartySet, stream, bufferType);
             nettyRpcMap.put(simpleNettyRpc.ownParty().getPartyId(), simpleNettyRpc);
             LOGGER.debug("Add Netty party: {}", nettyParty);
         }
@@ -0,0 +1,193 @@
+package edu.alibaba.mpc4j.common.rpc.impl.netty.simple;
+
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacket;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
+import edu.alibaba.mpc4j.common.rpc.utils.PayloadType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 流式发送的数据包分片输入，配合ChunkedWriteHandler使用。
+ * <p>
+ * 与protobuf模式不同，流式模式不会把整个payload先拷贝为ByteString再拼成一个大帧，而是在Channel可写时按需从
+ * {@code List<byte[]>}中读取数据，直接写入池化的直接内存ByteBuf（每片至多{@link #CHUNK_SIZE}字节）。
+ * 因此单个数据包的大小不再受单帧长度的限制，发送端的额外内存也只有若干个分片。
+ * </p>
+ * <p>
+ * 帧格式（大端序）：
+ * <pre>
+ * [encodeTaskId(8B)][ptoId(4B)][stepId(4B)][extraInfo(8B)][senderId(4B)][receiverId(4B)]
+ * [typeId(1B)][num(4B)][equalLength(4B)]
+ * NORMAL/EMPTY/SINGLETON: [len0(4B)][data0][len1(4B)][data1]...
+ * EQUAL_SIZE:             [data0][data1]...
+ * </pre>
+ * </p>
+ * <p>
+ * 注意：payload在send()返回后才会被逐片读取，因此SimpleNettyRpc在send()中先拷贝payload（与MemoryRpc一致），
+ * 调用方在发送后修改原数组不会影响写出的数据。
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class SimpleStreamChunkedInput implements ChunkedInput<ByteBuf> {
+    /**
+     * 分片大小：1MB
+     */
+    static final int CHUNK_SIZE = 1 << 20;
+    /**
+     * 帧头字节长度
+     */
+    static final int HEADER_BYTE_LENGTH = Long.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES
+        + Integer.BYTES + Integer.BYTES + Byte.BYTES + Integer.BYTES + Integer.BYTES;
+    /**
+     * 数据包
+     */
+    private final DataPacket dataPacket;
+    /**
+     * 每个数据是否需要长度前缀
+     */
+    private final boolean lengthPrefix;
+    /**
+     * payload迭代器（payload可能是LinkedList，不能用下标访问）
+     */
+    private final Iterator<byte[]> iterator;
+    /**
+     * 帧总字节长度
+     */
+    private final long length;
+    /**
+     * 帧头是否已写入
+     */
+    private boolean headerWritten;
+    /**
+     * 当前正在写入的数据
+     */
+    private byte[] current;
+    /**
+     * 当前数据已写入的字节数
+     */
+    private int currentOffset;
+    /**
+     * 当前数据的长度前缀是否已写入
+     */
+    private boolean currentLengthWritten;
+    /**
+     * 已写入的字节长度
+     */
+    private long progress;
+
+    SimpleStreamChunkedInput(DataPacket dataPacket) {
+        this.dataPacket = dataPacket;
+        lengthPrefix = !dataPacket.getPayloadType().equals(PayloadType.EQUAL_SIZE);
+        iterator = dataPacket.getPayload().iterator();
+        length = frameByteLength(dataPacket);
+        headerWritten = false;
+        current = null;
+        currentOffset = 0;
+        currentLengthWritten = false;
+        progress = 0;
+    }
+
+    /**
+     * 计算数据包在流式模式下的帧字节长度。
+     *
+     * @param dataPacket 数据包。
+     * @return 帧字节长度。
+     */
+    static long frameByteLength(DataPacket dataPacket) {
+        List<byte[]> payload = dataPacket.getPayload();
+        long byteLength = HEADER_BYTE_LENGTH;
+        for (byte[] data : payload) {
+            byteLength += data.length;
+        }
+        if (!dataPacket.getPayloadType().equals(PayloadType.EQUAL_SIZE)) {
+            byteLength += (long) Integer.BYTES * payload.size();
+        }
+        return byteLength;
+    }
+
+    @Override
+    public boolean isEndOfInput() {
+        return headerWritten && current == null && !iterator.hasNext();
+    }
+
+    @Override
+    public void close() {
+        // payload在堆上，无需释放资源
+    }
+
+    @Deprecated
+    @Override
+    public ByteBuf readChunk(ChannelHandlerContext ctx) {
+        return readChunk(ctx.alloc());
+    }
+
+    @Override
+    public ByteBuf readChunk(ByteBufAllocator allocator) {
+        if (isEndOfInput()) {
+            return null;
+        }
+        // 只分配剩余字节长度，避免小数据包也占用完整的分片。至少分配1字节，使得长度为0的等长数据也能被读完
+        int chunkSize = (int) Math.max(1, Math.min(CHUNK_SIZE, length - progress));
+        ByteBuf chunk = allocator.directBuffer(chunkSize);
+        if (!headerWritten) {
+            writeHeader(chunk);
+            headerWritten = true;
+        }
+        while (chunk.isWritable()) {
+            if (current == null) {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                current = iterator.next();
+                currentOffset = 0;
+                currentLengthWritten = !lengthPrefix;
+            }
+            if (!currentLengthWritten) {
+                // 长度前缀不跨片，剩余空间不足时留到下一片
+                if (chunk.writableBytes() < Integer.BYTES) {
+                    break;
+                }
+                chunk.writeInt(current.length);
+                currentLengthWritten = true;
+            }
+            int writeLength = Math.min(chunk.writableBytes(), current.length - currentOffset);
+            chunk.writeBytes(current, currentOffset, writeLength);
+            currentOffset += writeLength;
+            if (currentOffset == current.length) {
+                current = null;
+            }
+        }
+        progress += chunk.readableBytes();
+        return chunk;
+    }
+
+    private void writeHeader(ByteBuf chunk) {
+        DataPacketHeader header = dataPacket.getHeader();
+        chunk.writeLong(header.getEncodeTaskId());
+        chunk.writeInt(header.getPtoId());
+        chunk.writeInt(header.getStepId());
+        chunk.writeLong(header.getExtraInfo());
+        chunk.writeInt(header.getSenderId());
+        chunk.writeInt(header.getReceiverId());
+        chunk.writeByte(dataPacket.getPayloadType().ordinal());
+        chunk.writeInt(dataPacket.getPayload().size());
+        chunk.writeInt(dataPacket.getEqualLength());
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public long progress() {
+        return progress;
+    }
+}
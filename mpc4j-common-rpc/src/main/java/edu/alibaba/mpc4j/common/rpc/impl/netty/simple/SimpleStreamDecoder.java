@@ -0,0 +1,148 @@
+package edu.alibaba.mpc4j.common.rpc.impl.netty.simple;
+
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacket;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
+import edu.alibaba.mpc4j.common.rpc.utils.PayloadType;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 流式模式的接收端解码器，将{@link SimpleStreamChunkedInput}写出的字节流重组为DataPacket。
+ * <p>
+ * 解码器是一个状态机：读到数据长度后立即分配目标数组，之后每次有字节到达就直接拷贝到目标数组的对应偏移处，
+ * 因此累积缓冲区始终很小，不需要先把整帧缓存在内存中再反序列化。
+ * </p>
+ * <p>
+ * 解码器持有每个连接的解码状态，不能在多个Channel间共享，每个Channel都要创建新实例。
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class SimpleStreamDecoder extends ByteToMessageDecoder {
+    /**
+     * 解码状态
+     */
+    private enum State {
+        /**
+         * 等待帧头
+         */
+        HEADER,
+        /**
+         * 等待数据长度前缀
+         */
+        LENGTH,
+        /**
+         * 等待数据内容
+         */
+        DATA,
+    }
+
+    /**
+     * 当前解码状态
+     */
+    private State state;
+    /**
+     * 当前数据包头
+     */
+    private DataPacketHeader header;
+    /**
+     * 当前数据包类型
+     */
+    private PayloadType payloadType;
+    /**
+     * 当前数据包的数据数量
+     */
+    private int num;
+    /**
+     * 当前数据包的等长数据长度
+     */
+    private int equalLength;
+    /**
+     * 当前数据包已解码的payload
+     */
+    private List<byte[]> payload;
+    /**
+     * 当前正在填充的数据
+     */
+    private byte[] current;
+    /**
+     * 当前数据已填充的字节数
+     */
+    private int currentOffset;
+
+    SimpleStreamDecoder() {
+        state = State.HEADER;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        while (true) {
+            switch (state) {
+                case HEADER -> {
+                    if (in.readableBytes() < SimpleStreamChunkedInput.HEADER_BYTE_LENGTH) {
+                        return;
+                    }
+                    long encodeTaskId = in.readLong();
+                    int ptoId = in.readInt();
+                    int stepId = in.readInt();
+                    long extraInfo = in.readLong();
+                    int senderId = in.readInt();
+                    int receiverId = in.readInt();
+                    header = new DataPacketHeader(encodeTaskId, ptoId, stepId, extraInfo, senderId, receiverId);
+                    payloadType = PayloadType.values()[in.readByte()];
+                    num = in.readInt();
+                    equalLength = in.readInt();
+                    payload = new ArrayList<>(num);
+                    if (num == 0) {
+                        out.add(DataPacket.fromByteArrayList(header, payload));
+                    } else {
+                        nextData();
+                    }
+                }
+                case LENGTH -> {
+                    if (in.readableBytes() < Integer.BYTES) {
+                        return;
+                    }
+                    current = new byte[in.readInt()];
+                    currentOffset = 0;
+                    state = State.DATA;
+                }
+                case DATA -> {
+                    int readLength = Math.min(in.readableBytes(), current.length - currentOffset);
+                    in.readBytes(current, currentOffset, readLength);
+                    currentOffset += readLength;
+                    if (currentOffset < current.length) {
+                        return;
+                    }
+                    payload.add(current);
+                    current = null;
+                    if (payload.size() == num) {
+                        out.add(DataPacket.fromByteArrayList(header, payload));
+                        state = State.HEADER;
+                    } else {
+                        nextData();
+                    }
+                }
+                default -> throw new IllegalStateException("Invalid " + State.class.getSimpleName() + ": " + state);
+            }
+        }
+    }
+
+    /**
+     * 准备解码下一个数据。等长数据直接按帧头中的长度分配数组，否则先读取长度前缀。
+     */
+    private void nextData() {
+        if (payloadType.equals(PayloadType.EQUAL_SIZE)) {
+            current = new byte[equalLength];
+            currentOffset = 0;
+            state = State.DATA;
+        } else {
+            state = State.LENGTH;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package edu.alibaba.mpc4j.common.rpc.impl.shm;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.rpc.Party;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import java.io.File;
+
+/**
+ * 共享内存通信参与方信息。
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class ShmParty implements Party {
+    /**
+     * 参与方ID
+     */
+    private final int partyId;
+    /**
+     * 参与方名称
+     */
+    private final String partyName;
+    /**
+     * 参与方接收数据的环形缓冲区文件所在路径，通常位于/dev/shm下
+     */
+    private final String partyShmPath;
+
+    /**
+     * 构建共享内存通信参与方信息。
+     *
+     * @param partyId      参与方ID。
+     * @param partyName    参与方名称。
+     * @param partyShmPath 参与方接收数据的环形缓冲区文件所在路径。
+     */
+    public ShmParty(int partyId, String partyName, String partyShmPath) {
+        Preconditions.checkArgument(partyId >= 0, "Party ID must be greater than 0");
+        Preconditions.checkArgument(StringUtils.isNotBlank(partyName), "Party Name should not be blank");
+        File file = new File(partyShmPath);
+        Preconditions.checkArgument(file.isDirectory(), "%s must be a path", partyShmPath);
+        this.partyId = partyId;
+        this.partyName = partyName;
+        this.partyShmPath = partyShmPath;
+    }
+
+    @Override
+    public int getPartyId() {
+        return partyId;
+    }
+
+    @Override
+    public String getPartyName() {
+        return partyName;
+    }
+
+    public String getPartyShmPath() {
+        return partyShmPath;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+            .append(partyId)
+            .append(partyName)
+            .append(partyShmPath)
+            .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ShmParty that)) {
+            return false;
+        }
+        if (this == obj) {
+            return true;
+        }
+        return new EqualsBuilder()
+            .append(this.partyId, that.partyId)
+            .append(this.partyName, that.partyName)
+            .append(this.partyShmPath, that.partyShmPath)
+            .isEquals();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (ID = %s, path = %s)", partyName, partyId, partyShmPath);
+    }
+}
@@ -0,0 +1,73 @@
+package edu.alibaba.mpc4j.common.rpc.impl.shm;
+
+import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
+import edu.alibaba.mpc4j.common.rpc.desc.PtoDescManager;
+
+/**
+ * 共享内存连接协议信息。
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class ShmPtoDesc implements PtoDesc {
+    /**
+     * 协议ID
+     */
+    private static final int PTO_ID = Math.abs((int) 7375668359361068104L);
+    /**
+     * 协议名称
+     */
+    private static final String PTO_NAME = "SHM_CONNECT";
+
+    /**
+     * 协议步骤
+     */
+    enum StepEnum {
+        /**
+         * 客户端同步
+         */
+        CLIENT_SYNCHRONIZE,
+        /**
+         * 服务端同步
+         */
+        SERVER_SYNCHRONIZE,
+        /**
+         * 客户端断开连接
+         */
+        CLIENT_FINISH,
+        /**
+         * 服务端断开连接
+         */
+        SERVER_FINISH,
+    }
+
+    /**
+     * 单例模式
+     */
+    private static final ShmPtoDesc INSTANCE = new ShmPtoDesc();
+
+    /**
+     * 私有构造函数
+     */
+    private ShmPtoDesc() {
+        // empty
+    }
+
+    public static PtoDesc getInstance() {
+        return INSTANCE;
+    }
+
+    static {
+        PtoDescManager.registerPtoDesc(INSTANCE);
+    }
+
+    @Override
+    public int getPtoId() {
+        return PTO_ID;
+    }
+
+    @Override
+    public String getPtoName() {
+        return PTO_NAME;
+    }
+}
@@ -0,0 +1,298 @@
+package edu.alibaba.mpc4j.common.rpc.impl.shm;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 基于内存映射文件的单生产者、单消费者环形缓冲区，可在不同JVM进程之间传输字节流。
+ * <p>
+ * 文件布局：
+ * <pre>
+ * [writePosition(8B)] ... [readPosition(8B)] ... [magic(8B)][capacity(8B)] ... [data(capacity B)]
+ * 0                       64                     128                          192
+ * </pre>
+ * 读写位置单调递增，对容量取模后得到数据区的偏移量。读写位置分别位于不同的缓存行，避免伪共享。
+ * 生产者只写writePosition，消费者只写readPosition，两者通过acquire/release语义发布，不需要跨进程锁。
+ * </p>
+ * <p>
+ * 为减少跨进程的内存屏障，读写位置只在一帧写完/读完，或需要等待对方时才发布。
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class ShmRingBuffer {
+    /**
+     * 对映射内存做acquire/release访问的VarHandle
+     */
+    private static final VarHandle LONG_HANDLE = MethodHandles.byteBufferViewVarHandle(
+        long[].class, ByteOrder.nativeOrder()
+    );
+    /**
+     * 写位置的偏移量
+     */
+    private static final int WRITE_POSITION_OFFSET = 0;
+    /**
+     * 读位置的偏移量
+     */
+    private static final int READ_POSITION_OFFSET = 64;
+    /**
+     * 初始化完毕标识的偏移量
+     */
+    private static final int MAGIC_OFFSET = 128;
+    /**
+     * 容量的偏移量
+     */
+    private static final int CAPACITY_OFFSET = 136;
+    /**
+     * 数据区的偏移量
+     */
+    private static final int DATA_OFFSET = 192;
+    /**
+     * 初始化完毕标识
+     */
+    private static final long MAGIC = 0x6D7063346A53484DL;
+    /**
+     * 忙等次数，超过后开始park
+     */
+    private static final int SPIN_NUM = 1 << 10;
+    /**
+     * 每次park的时间
+     */
+    private static final long PARK_NANOS = 50_000L;
+    /**
+     * 映射内存
+     */
+    private final MappedByteBuffer buffer;
+    /**
+     * 是否为生产者
+     */
+    private final boolean isProducer;
+    /**
+     * 容量
+     */
+    private final int capacity;
+    /**
+     * 容量掩码
+     */
+    private final int mask;
+    /**
+     * 本地的写位置（生产者）或读位置（消费者）
+     */
+    private long localPosition;
+    /**
+     * 最近一次看到的对方位置
+     */
+    private long cachedRemotePosition;
+    /**
+     * 读写int/long时使用的临时数组
+     */
+    private final byte[] scratch;
+    /**
+     * 临时数组的ByteBuffer视图
+     */
+    private final ByteBuffer scratchBuffer;
+
+    private ShmRingBuffer(MappedByteBuffer buffer, int capacity, boolean producer) {
+        this.buffer = buffer;
+        isProducer = producer;
+        this.capacity = capacity;
+        mask = capacity - 1;
+        if (producer) {
+            localPosition = (long) LONG_HANDLE.getAcquire(buffer, WRITE_POSITION_OFFSET);
+            cachedRemotePosition = (long) LONG_HANDLE.getAcquire(buffer, READ_POSITION_OFFSET);
+        } else {
+            localPosition = (long) LONG_HANDLE.getAcquire(buffer, READ_POSITION_OFFSET);
+            cachedRemotePosition = (long) LONG_HANDLE.getAcquire(buffer, WRITE_POSITION_OFFSET);
+        }
+        scratch = new byte[Long.BYTES];
+        scratchBuffer = ByteBuffer.wrap(scratch);
+    }
+
+    /**
+     * 由消费者创建环形缓冲区。先在临时文件中完成初始化，再原子重命名，生产者看到文件时文件一定已经初始化完毕。
+     *
+     * @param path     文件路径。
+     * @param capacity 容量，必须是2的幂。
+     * @return 环形缓冲区（消费者端）。
+     * @throws IOException 如果创建失败。
+     */
+    static ShmRingBuffer create(Path path, int capacity) throws IOException {
+        Preconditions.checkArgument(
+            capacity > 0 && (capacity & (capacity - 1)) == 0, "capacity must be a power of 2: %s", capacity
+        );
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.deleteIfExists(tempPath);
+        MappedByteBuffer buffer;
+        try (FileChannel fileChannel = FileChannel.open(tempPath,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 映射在FileChannel关闭后仍然有效
+            buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) DATA_OFFSET + capacity);
+        }
+        LONG_HANDLE.setRelease(buffer, WRITE_POSITION_OFFSET, 0L);
+        LONG_HANDLE.setRelease(buffer, READ_POSITION_OFFSET, 0L);
+        LONG_HANDLE.setRelease(buffer, CAPACITY_OFFSET, (long) capacity);
+        LONG_HANDLE.setRelease(buffer, MAGIC_OFFSET, MAGIC);
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return new ShmRingBuffer(buffer, capacity, false);
+    }
+
+    /**
+     * 由生产者打开环形缓冲区，若文件尚不存在，则等待消费者创建。
+     *
+     * @param path    文件路径。
+     * @param running 是否继续等待。
+     * @return 环形缓冲区（生产者端）；若停止等待，返回null。
+     * @throws IOException 如果打开失败。
+     */
+    static ShmRingBuffer open(Path path, BooleanSupplier running) throws IOException {
+        int spin = 0;
+        while (!Files.exists(path)) {
+            if (!running.getAsBoolean()) {
+                return null;
+            }
+            spin = idle(spin);
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileChannel.size());
+        }
+        Preconditions.checkState(
+            (long) LONG_HANDLE.getAcquire(buffer, MAGIC_OFFSET) == MAGIC, "%s is not a ring buffer", path
+        );
+        int capacity = (int) (long) LONG_HANDLE.getAcquire(buffer, CAPACITY_OFFSET);
+        return new ShmRingBuffer(buffer, capacity, true);
+    }
+
+    /**
+     * 空闲等待：先忙等，再park。
+     *
+     * @param spin 已经空闲等待的次数。
+     * @return 新的空闲等待次数。
+     */
+    private static int idle(int spin) {
+        if (spin < SPIN_NUM) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return spin + 1;
+    }
+
+    /**
+     * 写入数据，若空间不足则等待消费者读取。
+     *
+     * @param src    数据。
+     * @param offset 起始位置。
+     * @param length 长度。
+     */
+    void write(byte[] src, int offset, int length) {
+        int spin = 0;
+        while (length > 0) {
+            int free = capacity - (int) (localPosition - cachedRemotePosition);
+            if (free == 0) {
+                // 发布已写入的数据，再看消费者是否读取了数据
+                publish();
+                cachedRemotePosition = (long) LONG_HANDLE.getAcquire(buffer, READ_POSITION_OFFSET);
+                if (capacity - (int) (localPosition - cachedRemotePosition) == 0) {
+                    spin = idle(spin);
+                }
+                continue;
+            }
+            spin = 0;
+            int index = (int) (localPosition & mask);
+            int writeLength = Math.min(length, Math.min(free, capacity - index));
+            buffer.put(DATA_OFFSET + index, src, offset, writeLength);
+            localPosition += writeLength;
+            offset += writeLength;
+            length -= writeLength;
+        }
+    }
+
+    void writeInt(int value) {
+        scratchBuffer.putInt(0, value);
+        write(scratch, 0, Integer.BYTES);
+    }
+
+    void writeLong(long value) {
+        scratchBuffer.putLong(0, value);
+        write(scratch, 0, Long.BYTES);
+    }
+
+    /**
+     * 发布本地写位置（生产者）或读位置（消费者）。
+     */
+    void publish() {
+        // 只有一方会写对应的位置，两端各自只发布自己的位置
+        if (isProducer) {
+            LONG_HANDLE.setRelease(buffer, WRITE_POSITION_OFFSET, localPosition);
+        } else {
+            LONG_HANDLE.setRelease(buffer, READ_POSITION_OFFSET, localPosition);
+        }
+    }
+
+    /**
+     * 读取数据，若数据不足则等待生产者写入。
+     *
+     * @param dst     目标数组。
+     * @param offset  起始位置。
+     * @param length  长度。
+     * @param running 是否继续等待。
+     * @return 若读取完毕，返回true；若停止等待，返回false。
+     */
+    boolean read(byte[] dst, int offset, int length, BooleanSupplier running) {
+        int spin = 0;
+        while (length > 0) {
+            int available = (int) (cachedRemotePosition - localPosition);
+            if (available == 0) {
+                // 发布已读取的位置，为生产者腾出空间，再看生产者是否写入了数据
+                publish();
+                cachedRemotePosition = (long) LONG_HANDLE.getAcquire(buffer, WRITE_POSITION_OFFSET);
+                if (cachedRemotePosition == localPosition) {
+                    if (!running.getAsBoolean()) {
+                        return false;
+                    }
+                    spin = idle(spin);
+                }
+                continue;
+            }
+            spin = 0;
+            int index = (int) (localPosition & mask);
+            int readLength = Math.min(length, Math.min(available, capacity - index));
+            buffer.get(DATA_OFFSET + index, dst, offset, readLength);
+            localPosition += readLength;
+            offset += readLength;
+            length -= readLength;
+        }
+        return true;
+    }
+
+    boolean readInt(int[] value, BooleanSupplier running) {
+        if (!read(scratch, 0, Integer.BYTES, running)) {
+            return false;
+        }
+        value[0] = scratchBuffer.getInt(0);
+        return true;
+    }
+
+    boolean readLong(long[] value, BooleanSupplier running) {
+        if (!read(scratch, 0, Long.BYTES, running)) {
+            return false;
+        }
+        value[0] = scratchBuffer.getLong(0);
+        return true;
+    }
+}
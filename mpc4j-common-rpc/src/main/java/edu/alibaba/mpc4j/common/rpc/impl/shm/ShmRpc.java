@@ -0,0 +1,467 @@
+package edu.alibaba.mpc4j.common.rpc.impl.shm;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.rpc.Party;
+import edu.alibaba.mpc4j.common.rpc.Rpc;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacket;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBuffer;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory.DataPacketBufferType;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 共享内存通信机制，适用于位于同一台机器、不同进程中的参与方。
+ * <p>
+ * 每对有序参与方(sender, receiver)使用一个位于receiver共享内存路径下的单生产者、单消费者环形缓冲区（见
+ * {@link ShmRingBuffer}）。接收方在connect()时创建所有入方向的环形缓冲区，并为每个环形缓冲区启动一个读取线程，
+ * 将解析出的数据包放入数据包缓存区；发送方打开出方向的环形缓冲区，直接把数据包写入映射内存。数据包仍然按照
+ * DataPacketHeader路由，因此receive()和receiveAny()的语义与其他通信机制相同。
+ * </p>
+ * <p>
+ * 帧格式：{@code [encodeTaskId(8B)][ptoId(4B)][stepId(4B)][extraInfo(8B)][senderId(4B)][receiverId(4B)][num(4B)]
+ * [len0(4B)][data0][len1(4B)][data1]...}。
+ * </p>
+ * <p>
+ * 环形缓冲区文件名为{@code <session>_<epoch>_<senderId>_<receiverId>_RING}，epoch为connect()的次数，
+ * 保证上一次连接遗留的文件不会被误用。各进程须使用相同的session；若之前的进程异常退出并遗留了文件，应换一个session。
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class ShmRpc implements Rpc {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShmRpc.class);
+    /**
+     * 默认环形缓冲区容量
+     */
+    public static final int DEFAULT_RING_CAPACITY = 1 << 24;
+    /**
+     * 帧头字节长度
+     */
+    private static final int HEADER_BYTE_LENGTH = Long.BYTES * 2 + Integer.BYTES * 4;
+    /**
+     * 文件名分隔符
+     */
+    private static final String FILE_NAME_SEPARATOR = "_";
+    /**
+     * 环形缓冲区文件后缀
+     */
+    private static final String FILE_RING_SUFFIX = "RING";
+    /**
+     * 参与方ID映射
+     */
+    private final HashMap<Integer, ShmParty> partyIdHashMap;
+    /**
+     * 自己的参与方信息
+     */
+    private final ShmParty ownParty;
+    /**
+     * Own party's ID
+     */
+    private final int ownPartyId;
+    /**
+     * 会话名称
+     */
+    private final String session;
+    /**
+     * 环形缓冲区容量
+     */
+    private final int ringCapacity;
+    /**
+     * 缓存区
+     */
+    private final DataPacketBuffer dataPacketBuffer;
+    /**
+     * 出方向的环形缓冲区，key为接收方ID
+     */
+    private final Map<Integer, ShmRingBuffer> outRingBufferMap;
+    /**
+     * 入方向的环形缓冲区文件
+     */
+    private final List<Path> inRingPathList;
+    /**
+     * 读取线程
+     */
+    private final List<Thread> readThreadList;
+    /**
+     * 是否已连接，读取线程在断开连接后退出
+     */
+    private volatile boolean connected;
+    /**
+     * connect()的次数
+     */
+    private int epoch;
+    /**
+     * 数据包数量
+     */
+    private long dataPacketNum;
+    /**
+     * 负载字节长度
+     */
+    private long payloadByteLength;
+    /**
+     * 发送字节长度
+     */
+    private long sendByteLength;
+
+    /**
+     * 构建共享内存RPC。
+     *
+     * @param ownParty 自己的参与方信息。
+     * @param partySet 参与方集合。
+     * @param session  会话名称。
+     */
+    public ShmRpc(ShmParty ownParty, Set<ShmParty> partySet, String session) {
+        this(ownParty, partySet, session, DEFAULT_RING_CAPACITY, DataPacketBufferFactory.DEFAULT_TYPE);
+    }
+
+    /**
+     * 构建共享内存RPC。
+     *
+     * @param ownParty     自己的参与方信息。
+     * @param partySet     参与方集合。
+     * @param session      会话名称。
+     * @param ringCapacity 环形缓冲区容量，必须是2的幂。
+     * @param bufferType   数据包缓存区类型。
+     */
+    public ShmRpc(ShmParty ownParty, Set<ShmParty> partySet, String session, int ringCapacity,
+                  DataPacketBufferType bufferType) {
+        // 所有参与方的数量必须大于1
+        Preconditions.checkArgument(partySet.size() > 1, "Party set size must be greater than 1");
+        // 参与方自身必须在所有参与方之中
+        Preconditions.checkArgument(partySet.contains(ownParty), "Party set must contain own party");
+        Preconditions.checkArgument(StringUtils.isNotBlank(session), "Session should not be blank");
+        Preconditions.checkArgument(!session.contains(FILE_NAME_SEPARATOR), "Session should not contain %s", FILE_NAME_SEPARATOR);
+        Preconditions.checkArgument(
+            ringCapacity > 0 && (ringCapacity & (ringCapacity - 1)) == 0,
+            "Ring capacity must be a power of 2: %s", ringCapacity
+        );
+        this.ownParty = ownParty;
+        ownPartyId = ownParty.getPartyId();
+        // 按照参与方索引值，将参与方信息插入到ID映射中
+        partyIdHashMap = new HashMap<>();
+        partySet.forEach(partySpec -> partyIdHashMap.put(partySpec.getPartyId(), partySpec));
+        this.session = session;
+        this.ringCapacity = ringCapacity;
+        dataPacketBuffer = DataPacketBufferFactory.createInstance(bufferType);
+        outRingBufferMap = new HashMap<>();
+        inRingPathList = new LinkedList<>();
+        readThreadList = new LinkedList<>();
+        connected = false;
+        epoch = 0;
+        dataPacketNum = 0;
+        payloadByteLength = 0;
+        sendByteLength = 0;
+    }
+
+    @Override
+    public Party ownParty() {
+        return ownParty;
+    }
+
+    @Override
+    public Set<Party> getPartySet() {
+        return partyIdHashMap.keySet().stream().map(partyIdHashMap::get).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Party getParty(int partyId) {
+        assert (partyIdHashMap.containsKey(partyId));
+        return partyIdHashMap.get(partyId);
+    }
+
+    @Override
+    public void connect() {
+        // 防止重复connect
+        if (connected) {
+            LOGGER.warn("{} already connected, skip connect()", ownParty);
+            return;
+        }
+        connected = true;
+        epoch++;
+        BooleanSupplier running = () -> connected;
+        List<Integer> otherPartyIdList = partyIdHashMap.keySet().stream()
+            .filter(otherPartyId -> otherPartyId != ownPartyId)
+            .sorted()
+            .collect(Collectors.toList());
+        try {
+            // 先创建所有入方向的环形缓冲区，再打开出方向的环形缓冲区，各参与方不会互相等待
+            for (int otherPartyId : otherPartyIdList) {
+                Path inRingPath = getRingPath(otherPartyId, ownPartyId);
+                ShmRingBuffer inRingBuffer = ShmRingBuffer.create(inRingPath, ringCapacity);
+                inRingPathList.add(inRingPath);
+                Thread readThread = new Thread(
+                    () -> read(inRingBuffer, running),
+                    ownParty.getPartyName() + "-" + ShmRpc.class.getSimpleName() + "-reader-" + otherPartyId
+                );
+                readThread.setDaemon(true);
+                readThread.start();
+                readThreadList.add(readThread);
+            }
+            for (int otherPartyId : otherPartyIdList) {
+                ShmRingBuffer outRingBuffer = ShmRingBuffer.open(getRingPath(ownPartyId, otherPartyId), running);
+                outRingBufferMap.put(otherPartyId, outRingBuffer);
+                LOGGER.debug(
+                    "{} successfully make connection with {}",
+                    partyIdHashMap.get(ownPartyId), partyIdHashMap.get(otherPartyId)
+                );
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new IllegalStateException("Cannot create ring buffer in " + ownParty.getPartyShmPath());
+        }
+        LOGGER.info("{} connected", ownParty);
+    }
+
+    private Path getRingPath(int senderId, int receiverId) {
+        String fileName = session
+            + FILE_NAME_SEPARATOR + epoch
+            + FILE_NAME_SEPARATOR + senderId
+            + FILE_NAME_SEPARATOR + receiverId
+            + FILE_NAME_SEPARATOR + FILE_RING_SUFFIX;
+        return Paths.get(partyIdHashMap.get(receiverId).getPartyShmPath(), fileName);
+    }
+
+    /**
+     * 从入方向的环形缓冲区中持续读取数据包，放入数据包缓存区，直到断开连接且环形缓冲区中没有数据。
+     *
+     * @param inRingBuffer 入方向的环形缓冲区。
+     * @param running      是否继续等待。
+     */
+    private void read(ShmRingBuffer inRingBuffer, BooleanSupplier running) {
+        long[] longValue = new long[1];
+        int[] intValue = new int[1];
+        while (true) {
+            // 只有帧的第一个字段允许因断开连接而读取失败
+            if (!inRingBuffer.readLong(longValue, running)) {
+                return;
+            }
+            long encodeTaskId = longValue[0];
+            inRingBuffer.readInt(intValue, () -> true);
+            int ptoId = intValue[0];
+            inRingBuffer.readInt(intValue, () -> true);
+            int stepId = intValue[0];
+            inRingBuffer.readLong(longValue, () -> true);
+            long extraInfo = longValue[0];
+            inRingBuffer.readInt(intValue, () -> true);
+            int senderId = intValue[0];
+            inRingBuffer.readInt(intValue, () -> true);
+            int receiverId = intValue[0];
+            DataPacketHeader header = new DataPacketHeader(encodeTaskId, ptoId, stepId, extraInfo, senderId, receiverId);
+            inRingBuffer.readInt(intValue, () -> true);
+            int num = intValue[0];
+            List<byte[]> payload = new ArrayList<>(num);
+            for (int index = 0; index < num; index++) {
+                inRingBuffer.readInt(intValue, () -> true);
+                byte[] data = new byte[intValue[0]];
+                inRingBuffer.read(data, 0, data.length, () -> true);
+                payload.add(data);
+            }
+            // 一帧读取完毕后发布读位置，为发送方腾出空间
+            inRingBuffer.publish();
+            dataPacketBuffer.put(DataPacket.fromByteArrayList(header, payload));
+        }
+    }
+
+    @Override
+    public void send(DataPacket dataPacket) {
+        DataPacketHeader header = dataPacket.getHeader();
+        Preconditions.checkArgument(
+            ownPartyId == header.getSenderId(), "Sender ID must be %s", ownPartyId
+        );
+        Preconditions.checkArgument(
+            partyIdHashMap.containsKey(header.getReceiverId()),
+            "Party set does not contain Receiver ID = %s", header.getReceiverId()
+        );
+        Preconditions.checkArgument(connected, "%s is not connected", ownParty);
+        ShmRingBuffer outRingBuffer = outRingBufferMap.get(header.getReceiverId());
+        List<byte[]> payload = dataPacket.getPayload();
+        int byteLength = 0;
+        // 环形缓冲区只支持单生产者，多个线程向同一接收方发送数据包时需要互斥
+        synchronized (outRingBuffer) {
+            outRingBuffer.writeLong(header.getEncodeTaskId());
+            outRingBuffer.writeInt(header.getPtoId());
+            outRingBuffer.writeInt(header.getStepId());
+            outRingBuffer.writeLong(header.getExtraInfo());
+            outRingBuffer.writeInt(header.getSenderId());
+            outRingBuffer.writeInt(header.getReceiverId());
+            outRingBuffer.writeInt(payload.size());
+            for (byte[] data : payload) {
+                outRingBuffer.writeInt(data.length);
+                outRingBuffer.write(data, 0, data.length);
+                byteLength += data.length;
+            }
+            // 一帧写入完毕后发布写位置
+            outRingBuffer.publish();
+        }
+        dataPacketNum++;
+        payloadByteLength += byteLength;
+        sendByteLength += HEADER_BYTE_LENGTH + Integer.BYTES + (long) Integer.BYTES * payload.size() + byteLength;
+    }
+
+    @Override
+    public DataPacket receive(DataPacketHeader header) {
+        Preconditions.checkArgument(
+            ownPartyId == header.getReceiverId(), "Receiver ID must be %s", ownPartyId
+        );
+        Preconditions.checkArgument(
+            partyIdHashMap.containsKey(header.getSenderId()),
+            "Party set does not contain Sender ID = %s", header.getSenderId()
+        );
+        try {
+            return dataPacketBuffer.take(header);
+        } catch (InterruptedException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public CompletableFuture<DataPacket> receiveAsync(DataPacketHeader header) {
+        Preconditions.checkArgument(
+            ownPartyId == header.getReceiverId(), "Receiver ID must be %s", ownPartyId
+        );
+        Preconditions.checkArgument(
+            partyIdHashMap.containsKey(header.getSenderId()),
+            "Party set does not contain Sender ID = %s", header.getSenderId()
+        );
+        return dataPacketBuffer.takeAsync(header);
+    }
+
+    @Override
+    public DataPacket receiveAny(int ptoId) {
+        try {
+            return dataPacketBuffer.take(ownPartyId, ptoId);
+        } catch (InterruptedException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public long getPayloadByteLength() {
+        return payloadByteLength;
+    }
+
+    @Override
+    public long getSendByteLength() {
+        return sendByteLength;
+    }
+
+    @Override
+    public long getSendDataPacketNum() {
+        return dataPacketNum;
+    }
+
+    @Override
+    public void reset() {
+        payloadByteLength = 0;
+        sendByteLength = 0;
+        dataPacketNum = 0;
+    }
+
+    @Override
+    public void synchronize() {
+        // 对参与方进行排序，所有在自己之前的自己作为client、所有在自己之后的自己作为server
+        partyIdHashMap.keySet().stream().sorted().forEach(otherPartyId -> {
+            if (otherPartyId < ownPartyId) {
+                // 如果对方排序比自己小，则自己是client，需要给对方发送同步信息
+                DataPacketHeader clientSynchronizeHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - ownPartyId, ShmPtoDesc.getInstance().getPtoId(), ShmPtoDesc.StepEnum.CLIENT_SYNCHRONIZE.ordinal(),
+                    ownPartyId, otherPartyId
+                );
+                send(DataPacket.fromByteArrayList(clientSynchronizeHeader, new LinkedList<>()));
+                // 获得对方的回复
+                DataPacketHeader serverSynchronizeHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - otherPartyId, ShmPtoDesc.getInstance().getPtoId(), ShmPtoDesc.StepEnum.SERVER_SYNCHRONIZE.ordinal(),
+                    otherPartyId, ownPartyId
+                );
+                receive(serverSynchronizeHeader);
+            } else if (otherPartyId > ownPartyId) {
+                // 如果对方排序比自己大，则自己是server
+                DataPacketHeader clientSynchronizeHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - otherPartyId, ShmPtoDesc.getInstance().getPtoId(), ShmPtoDesc.StepEnum.CLIENT_SYNCHRONIZE.ordinal(),
+                    otherPartyId, ownPartyId
+                );
+                receive(clientSynchronizeHeader);
+                DataPacketHeader serverSynchronizeHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - ownPartyId, ShmPtoDesc.getInstance().getPtoId(), ShmPtoDesc.StepEnum.SERVER_SYNCHRONIZE.ordinal(),
+                    ownPartyId, otherPartyId
+                );
+                send(DataPacket.fromByteArrayList(serverSynchronizeHeader, new LinkedList<>()));
+            }
+        });
+        LOGGER.info("{} synchronized", ownParty);
+    }
+
+    @Override
+    public void disconnect() {
+        // 防止重复disconnect
+        if (!connected) {
+            LOGGER.warn("{} already disconnected, skip disconnect()", ownParty);
+            return;
+        }
+        // 握手完毕后，对方不会再写入数据，可以安全地停止读取线程
+        partyIdHashMap.keySet().stream().sorted().forEach(otherPartyId -> {
+            if (otherPartyId < ownPartyId) {
+                // 如果对方排序比自己小，则自己是client，需要给对方发送断开连接信息
+                DataPacketHeader clientFinishHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - ownPartyId, ShmPtoDesc.getInstance().getPtoId(), ShmPtoDesc.StepEnum.CLIENT_FINISH.ordinal(),
+                    ownPartyId, otherPartyId
+                );
+                send(DataPacket.fromByteArrayList(clientFinishHeader, new LinkedList<>()));
+                // 获得对方的回复
+                DataPacketHeader serverFinishHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - otherPartyId, ShmPtoDesc.getInstance().getPtoId(), ShmPtoDesc.StepEnum.SERVER_FINISH.ordinal(),
+                    otherPartyId, ownPartyId
+                );
+                receive(serverFinishHeader);
+            } else if (otherPartyId > ownPartyId) {
+                // 如果对方排序比自己大，则自己是server
+                DataPacketHeader clientFinishHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - otherPartyId, ShmPtoDesc.getInstance().getPtoId(), ShmPtoDesc.StepEnum.CLIENT_FINISH.ordinal(),
+                    otherPartyId, ownPartyId
+                );
+                receive(clientFinishHeader);
+                DataPacketHeader serverFinishHeader = new DataPacketHeader(
+                    Long.MAX_VALUE - ownPartyId, ShmPtoDesc.getInstance().getPtoId(), ShmPtoDesc.StepEnum.SERVER_FINISH.ordinal(),
+                    ownPartyId, otherPartyId
+                );
+                send(DataPacket.fromByteArrayList(serverFinishHeader, new LinkedList<>()));
+            }
+        });
+        connected = false;
+        try {
+            for (Thread readThread : readThreadList) {
+                readThread.join();
+            }
+        } catch (InterruptedException e) {
+            LOGGER.error("Interrupted while disconnecting", e);
+            Thread.currentThread().interrupt();
+        }
+        // 删除入方向的环形缓冲区文件，映射内存在GC后释放
+        for (Path inRingPath : inRingPathList) {
+            try {
+                Files.deleteIfExists(inRingPath);
+            } catch (IOException e) {
+                LOGGER.warn("Cannot delete {}", inRingPath, e);
+            }
+        }
+        inRingPathList.clear();
+        readThreadList.clear();
+        outRingBufferMap.clear();
+        // 清空数据缓冲区，防止残留数据包干扰下次connect()的握手流程
+        dataPacketBuffer.clearAll();
+        LOGGER.info("{} disconnected", ownParty);
+    }
+}
@@ -0,0 +1,93 @@
+package edu.alibaba.mpc4j.common.rpc.impl.shm;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.rpc.Party;
+import edu.alibaba.mpc4j.common.rpc.Rpc;
+import edu.alibaba.mpc4j.common.rpc.RpcManager;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * 共享内存通信管理器。若存在/dev/shm，则环形缓冲区文件放在/dev/shm下，否则放在临时目录下。
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class ShmRpcManager implements RpcManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShmRpcManager.class);
+    /**
+     * Linux下的共享内存路径
+     */
+    private static final String DEV_SHM_PATH = "/dev/shm";
+    /**
+     * 测试时使用的环形缓冲区容量
+     */
+    private static final int RING_CAPACITY = 1 << 20;
+    /**
+     * 参与方数量
+     */
+    private final int partyNum;
+    /**
+     * 参与方集合
+     */
+    private final Set<ShmParty> shmPartySet;
+    /**
+     * 所有参与方RPC
+     */
+    private final Map<Integer, ShmRpc> shmRpcMap;
+
+    /**
+     * 初始化共享内存通信管理器。
+     *
+     * @param partyNum 参与方数量。
+     */
+    public ShmRpcManager(int partyNum) {
+        Preconditions.checkArgument(partyNum > 1, "Number of parties must be greater than 1");
+        this.partyNum = partyNum;
+        String shmPath = new File(DEV_SHM_PATH).isDirectory() ? DEV_SHM_PATH : System.getProperty("java.io.tmpdir");
+        // 每个管理器使用不同的会话名称，避免与其他管理器的环形缓冲区文件冲突
+        String session = ShmRpc.class.getSimpleName() + Math.abs(new Random().nextInt());
+        // 初始化所有参与方
+        shmPartySet = new HashSet<>(partyNum);
+        IntStream.range(0, partyNum).forEach(partyId -> {
+            ShmParty shmParty = new ShmParty(partyId, getPartyName(partyId), shmPath);
+            shmPartySet.add(shmParty);
+        });
+        // 初始化所有参与方的共享内存通信
+        shmRpcMap = new HashMap<>(partyNum);
+        for (ShmParty shmParty : shmPartySet) {
+            ShmRpc shmRpc = new ShmRpc(
+                shmParty, shmPartySet, session, RING_CAPACITY, DataPacketBufferFactory.DEFAULT_TYPE
+            );
+            shmRpcMap.put(shmRpc.ownParty().getPartyId(), shmRpc);
+            LOGGER.debug("Add shared memory party: {}", shmParty);
+        }
+    }
+
+    @Override
+    public Rpc getRpc(int partyId) {
+        Preconditions.checkArgument(
+            partyId >= 0 && partyId < partyNum, "Party ID must be in range [0, %s)", partyNum
+        );
+        return shmRpcMap.get(partyId);
+    }
+
+    private String getPartyName(int partyId) {
+        return "P_" + (partyId + 1);
+    }
+
+    @Override
+    public int getPartyNum() {
+        return partyNum;
+    }
+
+    @Override
+    public Set<Party> getPartySet() {
+        return new HashSet<>(shmPartySet);
+    }
+}
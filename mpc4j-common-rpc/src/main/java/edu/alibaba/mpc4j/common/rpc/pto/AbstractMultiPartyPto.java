@@ -19,6 +19,8 @@ import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Abstract multi-party protocol.
@@ -112,6 +114,18 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
      * parallel computing
      */
     protected boolean parallel;
+    /**
+     * executor that runs parallel computations
+     */
+    private PtoExecutor ptoExecutor;
+    /**
+     * nano time when the current step begins, used to compute the pool utilization
+     */
+    private long stepBeginNanoTime;
+    /**
+     * CPU time of the executor when the current step begins, used to compute the pool utilization
+     */
+    private long stepBeginCpuNanoTime;
 
     protected AbstractMultiPartyPto(PtoDesc ptoDesc, MultiPartyPtoConfig config, Rpc rpc, Party... otherParties) {
         // verify other parties are all valid.
@@ -138,6 +152,7 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
         envType = config.getEnvType();
         secureRandom = new SecureRandom();
         parallel = false;
+        ptoExecutor = PtoExecutor.commonPool();
         displayLogLevel = DEFAULT_DISPLAY_LOG_LEVEL;
     }
 
@@ -154,10 +169,7 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
      */
     protected void addSubPto(MultiPartyPto subPto) {
         // add sub-protocols must only be executed before initialized
-        switch (partyState) {
-            case NON_INITIALIZED -> {}
-            case INITIALIZED, DESTROYED -> throw new IllegalStateException("Party state must not be " + partyState);
-        }
+        checkNonInitialized();
         int subPtoIndex = subPtos.size();
         subPtos.add(subPto);
         int ptoPathLength = ptoPath.length;
@@ -168,6 +180,7 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
         // sub-protocols may be added in the init phase, we need to update related parameters
         subPto.setEncodeTaskId(taskId);
         subPto.setParallel(parallel);
+        subPto.setPtoExecutor(ptoExecutor);
         subPto.setSecureRandom(secureRandom);
     }
 
@@ -245,6 +258,33 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
         }
     }
 
+    @Override
+    public void setPtoExecutor(PtoExecutor ptoExecutor) {
+        this.ptoExecutor = ptoExecutor;
+        // set sub-protocols
+        for (MultiPartyPto subPto : subPtos) {
+            subPto.setPtoExecutor(ptoExecutor);
+        }
+    }
+
+    @Override
+    public PtoExecutor getPtoExecutor() {
+        return ptoExecutor;
+    }
+
+    /**
+     * Invokes the parallel computation in the executor of the protocol. Parallel streams invoked by the protocol run in
+     * the pool of the calling thread, i.e., the JVM-wide common pool unless the protocol itself is running in a
+     * dedicated executor. Wrapping the parallel computation with this method isolates it in the executor of the
+     * protocol in all cases.
+     *
+     * @param task parallel computation.
+     * @return the result.
+     */
+    protected <T> T parallelInvoke(Supplier<T> task) {
+        return parallel ? ptoExecutor.invoke(task) : task.get();
+    }
+
     @Override
     public void setSecureRandom(SecureRandom secureRandom) {
         this.secureRandom = secureRandom;
@@ -321,6 +361,25 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
         return payload;
     }
 
+    /**
+     * Receives payload from the given party asynchronously, so that the local computation can overlap with the
+     * in-flight receive. The receiving order is fixed when calling this method, i.e., payloads with the same step ID
+     * must be received in the order that they are sent.
+     *
+     * @param stepId    step ID.
+     * @param sendParty party to send payload.
+     * @return a future of payload.
+     */
+    protected CompletableFuture<List<byte[]>> receivePayloadAsync(int stepId, Party sendParty) {
+        int sendPartyId = sendParty.getPartyId();
+        int receivePartyId = ownParty().getPartyId();
+        DataPacketHeader header = new DataPacketHeader(
+            encodeTaskId, getPtoDesc().getPtoId(), stepId, receivingTimestamps[sendPartyId], sendPartyId, receivePartyId
+        );
+        receivingTimestamps[sendPartyId]++;
+        return rpc.receiveAsync(header).thenApply(DataPacket::getPayload);
+    }
+
     /**
      * Receives payload from the given party.
      *
@@ -356,6 +415,17 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
         }
     }
 
+    /**
+     * Checks that the party is not initialized. Settings that the protocol reads in the init phase (e.g., sub-protocols)
+     * must only be changed before initialized.
+     */
+    protected void checkNonInitialized() {
+        switch (partyState) {
+            case NON_INITIALIZED -> {}
+            case INITIALIZED, DESTROYED -> throw new IllegalStateException("Party state must not be " + partyState);
+        }
+    }
+
     /**
      * init, check and update party state.
      */
@@ -408,6 +478,7 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
     }
 
     protected void logPhaseInfo(PtoState ptoState) {
+        beginStep();
         switch (ptoState) {
             case INIT_BEGIN:
                 info("{}{} {} Init begin", ptoBeginLogPrefix, getPtoDesc().getPtoName(), ownParty().getPartyName());
@@ -427,6 +498,7 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
     }
 
     protected void logPhaseInfo(PtoState ptoState, String description) {
+        beginStep();
         switch (ptoState) {
             case INIT_BEGIN:
                 info(
@@ -462,15 +534,15 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
             : "step index must be in range [0, " + totalStepIndex + "]: " + stepIndex;
         switch (ptoState) {
             case INIT_STEP:
-                info("{}{} {} init Step {}/{} ({}ms)",
+                info("{}{} {} init Step {}/{} ({}ms){}",
                     ptoStepLogPrefix, getPtoDesc().getPtoName(), ownParty().getPartyName(),
-                    stepIndex, totalStepIndex, time
+                    stepIndex, totalStepIndex, time, endStep()
                 );
                 break;
             case PTO_STEP:
-                info("{}{} {} Step {}/{} ({}ms)",
+                info("{}{} {} Step {}/{} ({}ms){}",
                     ptoStepLogPrefix, getPtoDesc().getPtoName(), ownParty().getPartyName(),
-                    stepIndex, totalStepIndex, time
+                    stepIndex, totalStepIndex, time, endStep()
                 );
                 break;
             default:
@@ -483,15 +555,15 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
             : "step index must be in range [0, " + totalStepIndex + "]: " + stepIndex;
         switch (ptoState) {
             case INIT_STEP:
-                info("{}{} {} init Step {}/{} ({}ms): {}",
+                info("{}{} {} init Step {}/{} ({}ms){}: {}",
                     ptoStepLogPrefix, getPtoDesc().getPtoName(), ownParty().getPartyName(),
-                    stepIndex, totalStepIndex, time, description
+                    stepIndex, totalStepIndex, time, endStep(), description
                 );
                 break;
             case PTO_STEP:
-                info("{}{} {} Step {}/{} ({}ms): {}",
+                info("{}{} {} Step {}/{} ({}ms){}: {}",
                     ptoStepLogPrefix, getPtoDesc().getPtoName(), ownParty().getPartyName(),
-                    stepIndex, totalStepIndex, time, description
+                    stepIndex, totalStepIndex, time, endStep(), description
                 );
                 break;
             default:
@@ -505,15 +577,15 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
             : "current step index must be in range [0, " + totalSubStepIndex + "]: " + stepIndex;
         switch (ptoState) {
             case INIT_STEP:
-                info("{}{} {} init Step {}.{}/{}.{} ({}ms)",
+                info("{}{} {} init Step {}.{}/{}.{} ({}ms){}",
                     ptoStepLogPrefix, getPtoDesc().getPtoName(), ownParty().getPartyName(),
-                    stepIndex, subStepIndex, stepIndex, totalSubStepIndex, time
+                    stepIndex, subStepIndex, stepIndex, totalSubStepIndex, time, endStep()
                 );
                 break;
             case PTO_STEP:
-                info("{}{} {} Step {}.{}/{}.{} ({}ms)",
+                info("{}{} {} Step {}.{}/{}.{} ({}ms){}",
                     ptoStepLogPrefix, getPtoDesc().getPtoName(), ownParty().getPartyName(),
-                    stepIndex, subStepIndex, stepIndex, totalSubStepIndex, time
+                    stepIndex, subStepIndex, stepIndex, totalSubStepIndex, time, endStep()
                 );
                 break;
             default:
@@ -528,15 +600,15 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
             : "current step index must be in range [0, " + totalSubStepIndex + "]: " + stepIndex;
         switch (ptoState) {
             case INIT_STEP:
-                info("{}{} {} init Step {}.{}/{}.{} ({}ms): {}",
+                info("{}{} {} init Step {}.{}/{}.{} ({}ms){}: {}",
                     ptoStepLogPrefix, getPtoDesc().getPtoName(), ownParty().getPartyName(),
-                    stepIndex, subStepIndex, stepIndex, totalSubStepIndex, time, description
+                    stepIndex, subStepIndex, stepIndex, totalSubStepIndex, time, endStep(), description
                 );
                 break;
             case PTO_STEP:
-                info("{}{} {} Step {}.{}/{}.{} ({}ms): {}",
+                info("{}{} {} Step {}.{}/{}.{} ({}ms){}: {}",
                     ptoStepLogPrefix, getPtoDesc().getPtoName(), ownParty().getPartyName(),
-                    stepIndex, subStepIndex, stepIndex, totalSubStepIndex, time, description
+                    stepIndex, subStepIndex, stepIndex, totalSubStepIndex, time, endStep(), description
                 );
                 break;
             default:
@@ -544,6 +616,39 @@ public abstract class AbstractMultiPartyPto implements MultiPartyPto {
         }
     }
 
+    /**
+     * Marks the beginning of a step for computing the pool utilization.
+     */
+    private void beginStep() {
+        stepBeginNanoTime = System.nanoTime();
+        stepBeginCpuNanoTime = ptoExecutor.getCpuNanoTime();
+    }
+
+    /**
+     * Marks the end of a step, and returns the pool utilization since the beginning of the step. The utilization is
+     * the CPU time of workers divided by (wall time × parallelism). The utilization is empty if the executor does not
+     * record the CPU time, e.g., the executor is for the common pool.
+     *
+     * @return the pool utilization.
+     */
+    private String endStep() {
+        long endNanoTime = System.nanoTime();
+        long endCpuNanoTime = ptoExecutor.getCpuNanoTime();
+        String utilization;
+        if (stepBeginCpuNanoTime < 0 || endCpuNanoTime < 0 || endNanoTime <= stepBeginNanoTime) {
+            utilization = "";
+        } else {
+            double ratio = (double) (endCpuNanoTime - stepBeginCpuNanoTime)
+                / ((double) (endNanoTime - stepBeginNanoTime) * ptoExecutor.getParallelism());
+            utilization = String.format(
+                " [%s: %d threads, %.1f%% utilized]", ptoExecutor.getName(), ptoExecutor.getParallelism(), ratio * 100
+            );
+        }
+        stepBeginNanoTime = endNanoTime;
+        stepBeginCpuNanoTime = endCpuNanoTime;
+        return utilization;
+    }
+
     /**
      * Log a message at the INFO level if {@code logLevel} is not greater than {@code DISPLAY_LOG_LEVEL}.
      *
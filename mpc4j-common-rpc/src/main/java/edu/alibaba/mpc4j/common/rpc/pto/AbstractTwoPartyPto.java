@@ -5,6 +5,7 @@ import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Abstract two-party protocol.
@@ -69,6 +70,16 @@ public abstract class AbstractTwoPartyPto extends AbstractMultiPartyPto implemen
         return receivePayload(stepId, otherParty());
     }
 
+    /**
+     * Receives payload from the other party asynchronously.
+     *
+     * @param stepId step ID.
+     * @return a future of payload.
+     */
+    protected CompletableFuture<List<byte[]>> receiveOtherPartyPayloadAsync(int stepId) {
+        return receivePayloadAsync(stepId, otherParty());
+    }
+
     /**
      * Receives payload from the other party, used in the protocols that single message may exceed 1GB
      *
@@ -86,6 +86,20 @@ public interface MultiPartyPto {
      */
     boolean getParallel();
 
+    /**
+     * Sets the executor that runs parallel computations. All sub-protocols are set automatically.
+     *
+     * @param ptoExecutor the executor.
+     */
+    void setPtoExecutor(PtoExecutor ptoExecutor);
+
+    /**
+     * Gets the executor that runs parallel computations.
+     *
+     * @return the executor.
+     */
+    PtoExecutor getPtoExecutor();
+
     /**
      * Sets the secure random state.
      *
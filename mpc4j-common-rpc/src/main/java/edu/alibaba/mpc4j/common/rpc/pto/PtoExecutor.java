@@ -0,0 +1,237 @@
+package edu.alibaba.mpc4j.common.rpc.pto;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Protocol executor, i.e., the thread pool that runs parallel computations of protocols.
+ * <p>
+ * Parallel streams run in the fork/join pool of the calling thread if the calling thread is a worker of that pool, and
+ * in the JVM-wide common pool otherwise. A task invoked by a dedicated executor thus runs all its parallel streams
+ * (including those in sub-protocols) in the dedicated pool, so that concurrent sessions can be isolated and sized.
+ * </p>
+ * A dedicated executor also records the CPU time of its workers, from which the pool utilization can be observed.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class PtoExecutor implements AutoCloseable {
+    /**
+     * thread MX bean
+     */
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    /**
+     * executor for the common pool
+     */
+    private static final PtoExecutor COMMON_POOL_EXECUTOR = new PtoExecutor();
+
+    /**
+     * Protocol task that may abort.
+     */
+    @FunctionalInterface
+    public interface PtoRunnable {
+        /**
+         * Runs the task.
+         *
+         * @throws MpcAbortException the protocol failure aborts.
+         */
+        void run() throws MpcAbortException;
+    }
+
+    /**
+     * Gets the executor for the JVM-wide common pool. This is the default executor of protocols.
+     *
+     * @return the executor for the common pool.
+     */
+    public static PtoExecutor commonPool() {
+        return COMMON_POOL_EXECUTOR;
+    }
+
+    /**
+     * Creates a dedicated executor.
+     *
+     * @param name        name, used as the prefix of worker thread names.
+     * @param parallelism parallelism, i.e., the max number of workers running at the same time.
+     * @return a dedicated executor.
+     */
+    public static PtoExecutor create(String name, int parallelism) {
+        return new PtoExecutor(name, parallelism);
+    }
+
+    /**
+     * name
+     */
+    private final String name;
+    /**
+     * fork/join pool
+     */
+    private final ForkJoinPool pool;
+    /**
+     * whether the pool is dedicated to this executor
+     */
+    private final boolean dedicated;
+    /**
+     * alive workers
+     */
+    private final Set<ForkJoinWorkerThread> workers;
+    /**
+     * CPU time (in nanoseconds) of terminated workers
+     */
+    private final AtomicLong terminatedCpuNanoTime;
+
+    private PtoExecutor() {
+        name = "common-pool";
+        pool = ForkJoinPool.commonPool();
+        dedicated = false;
+        workers = Set.of();
+        terminatedCpuNanoTime = new AtomicLong();
+    }
+
+    private PtoExecutor(String name, int parallelism) {
+        MathPreconditions.checkPositive("parallelism", parallelism);
+        this.name = name;
+        dedicated = true;
+        workers = ConcurrentHashMap.newKeySet();
+        terminatedCpuNanoTime = new AtomicLong();
+        AtomicInteger workerIndex = new AtomicInteger();
+        pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread worker = new WorkerThread(forkJoinPool);
+            worker.setName(name + "-worker-" + workerIndex.getAndIncrement());
+            worker.setDaemon(true);
+            return worker;
+        }, null, false);
+    }
+
+    /**
+     * Worker thread that records its CPU time.
+     */
+    private class WorkerThread extends ForkJoinWorkerThread {
+
+        private WorkerThread(ForkJoinPool pool) {
+            super(pool);
+        }
+
+        @Override
+        protected void onStart() {
+            super.onStart();
+            workers.add(this);
+        }
+
+        @Override
+        protected void onTermination(Throwable exception) {
+            long cpuNanoTime = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+            workers.remove(this);
+            if (cpuNanoTime > 0) {
+                terminatedCpuNanoTime.addAndGet(cpuNanoTime);
+            }
+            super.onTermination(exception);
+        }
+    }
+
+    /**
+     * Invokes the task in the pool and waits for the result. Parallel streams in the task run in the pool.
+     *
+     * @param task task.
+     * @return the result.
+     */
+    public <T> T invoke(Supplier<T> task) {
+        if (!dedicated || inPool()) {
+            return task.get();
+        }
+        return pool.submit(task::get).join();
+    }
+
+    /**
+     * Runs the protocol task in the pool and waits for the completion. Parallel streams in the task run in the pool.
+     *
+     * @param task protocol task.
+     * @throws MpcAbortException the protocol failure aborts.
+     */
+    public void run(PtoRunnable task) throws MpcAbortException {
+        if (!dedicated || inPool()) {
+            task.run();
+            return;
+        }
+        // the pool wraps checked exceptions, so that we catch the failure in the task and throw it as it is
+        MpcAbortException[] failure = new MpcAbortException[1];
+        pool.submit(() -> {
+            try {
+                task.run();
+            } catch (MpcAbortException e) {
+                failure[0] = e;
+            }
+        }).join();
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    private boolean inPool() {
+        return Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the parallelism.
+     *
+     * @return the parallelism.
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Returns if the pool is dedicated to this executor, i.e., not the JVM-wide common pool.
+     *
+     * @return true if the pool is dedicated to this executor.
+     */
+    public boolean isDedicated() {
+        return dedicated;
+    }
+
+    /**
+     * Gets the total CPU time (in nanoseconds) of workers, or -1 if the CPU time is not available, e.g., the executor
+     * is for the common pool, or the JVM does not support measuring thread CPU time.
+     *
+     * @return the total CPU time of workers.
+     */
+    public long getCpuNanoTime() {
+        if (!dedicated || !THREAD_MX_BEAN.isThreadCpuTimeSupported() || !THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+            return -1;
+        }
+        long cpuNanoTime = terminatedCpuNanoTime.get();
+        for (ForkJoinWorkerThread worker : workers) {
+            // returns -1 if the worker is terminated, whose CPU time is already recorded
+            cpuNanoTime += Math.max(THREAD_MX_BEAN.getThreadCpuTime(worker.getId()), 0);
+        }
+        return cpuNanoTime;
+    }
+
+    /**
+     * Stops accepting new tasks. The executor for the common pool cannot be closed.
+     */
+    @Override
+    public void close() {
+        if (dedicated) {
+            pool.shutdown();
+        }
+    }
+}
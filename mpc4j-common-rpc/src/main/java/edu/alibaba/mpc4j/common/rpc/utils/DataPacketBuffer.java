@@ -1,75 +1,43 @@
 package edu.alibaba.mpc4j.common.rpc.utils;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * thread-safe data packet buffer. The design follows the Producer-Consumer pattern. See:
- * <p>
- * 《Java多线程设计模式》，第五章：Producer-Consumer，我来做，你来用。
- * </p>
+ * thread-safe data packet buffer. Receiving threads put data packets into the buffer, and protocol threads take data
+ * packets from the buffer.
  *
  * @author Weiran Liu
  * @date 2021/12/08
  */
-public class DataPacketBuffer {
-    /**
-     * default buffer size
-     */
-    private static final int DEFAULT_BUFFER_SIZE = 1 << 10;
-    /**
-     * buffer
-     */
-    private final Map<DataPacketHeader, List<byte[]>> dataPacketBuffer;
-
-    public DataPacketBuffer() {
-        dataPacketBuffer = new ConcurrentHashMap<>(DEFAULT_BUFFER_SIZE);
-    }
-
+public interface DataPacketBuffer {
     /**
      * Puts a data packet into the buffer.
      *
      * @param dataPacket the data packet.
      */
-    public synchronized void put(DataPacket dataPacket) {
-        assert (dataPacket != null);
-        dataPacketBuffer.put(dataPacket.getHeader(), dataPacket.getPayload());
-        notifyAll();
-    }
+    void put(DataPacket dataPacket);
 
     /**
      * Takes a data packet that matches the header immediately. If there is no match, return null.
      *
      * @param header the header.
      * @return data packet that matches the header; null if there is no matching data packet.
+     * @throws InterruptedException interrupted exception.
      */
-    public synchronized DataPacket takeImmediately(DataPacketHeader header) throws InterruptedException {
-        assert (header != null);
-        // if there is no target data packet in the buffer, return null immediately
-        if (!dataPacketBuffer.containsKey(header)) {
-            return null;
-        } else {
-            return DataPacket.fromByteArrayList(header, dataPacketBuffer.remove(header));
-        }
-    }
+    DataPacket takeImmediately(DataPacketHeader header) throws InterruptedException;
 
     /**
      * delete the specific message
      *
      * @param header the header.
      */
-    public synchronized void clearBuffer(DataPacketHeader header) {
-        dataPacketBuffer.remove(header);
-    }
+    void clearBuffer(DataPacketHeader header);
 
     /**
      * Clears all data packets in the buffer. Used after disconnect() to ensure no stale packets
-     * remain before the next connect().
+     * remain before the next connect(). Pending futures returned by takeAsync() are cancelled.
      */
-    public synchronized void clearAll() {
-        dataPacketBuffer.clear();
-    }
+    void clearAll();
 
     /**
      * Takes a data packet that matches the header.
@@ -78,14 +46,7 @@ public class DataPacketBuffer {
      * @return a data packet.
      * @throws InterruptedException interrupted exception.
      */
-    public synchronized DataPacket take(DataPacketHeader header) throws InterruptedException {
-        assert (header != null);
-        // if there is no target data packet in the buffer, waiting until new data packet is added.
-        while (!dataPacketBuffer.containsKey(header)) {
-            wait();
-        }
-        return DataPacket.fromByteArrayList(header, dataPacketBuffer.remove(header));
-    }
+    DataPacket take(DataPacketHeader header) throws InterruptedException;
 
     /**
      * Takes a data packet that matches the receiver ID and the protocol ID.
@@ -95,20 +56,17 @@ public class DataPacketBuffer {
      * @return a data packet.
      * @throws InterruptedException interrupted exception.
      */
-    public synchronized DataPacket take(int receiverId, int ptoId) throws InterruptedException {
-        DataPacketHeader targetHeader = null;
-        while (targetHeader == null) {
-            // we first try to find a candidate header
-            for (DataPacketHeader dataPacketHeader : dataPacketBuffer.keySet()) {
-                if (dataPacketHeader.getReceiverId() == receiverId && dataPacketHeader.getPtoId() == ptoId) {
-                    targetHeader = dataPacketHeader;
-                }
-            }
-            if (targetHeader == null) {
-                // if we cannot find any candidate, wait for new data packets.
-                wait();
-            }
-        }
-        return DataPacket.fromByteArrayList(targetHeader, dataPacketBuffer.remove(targetHeader));
-    }
+    DataPacket take(int receiverId, int ptoId) throws InterruptedException;
+
+    /**
+     * Takes a data packet that matches the header asynchronously. No thread blocks while waiting: the returned future is
+     * completed in the completion executor of the buffer once the matching data packet is put, so that dependent
+     * actions never run in the putting (IO) thread. If the future is cancelled before the data packet arrives, the data
+     * packet is kept in the buffer.
+     *
+     * @param header the header.
+     * @return a future of the data packet.
+     * @throws IllegalStateException if there is already a pending future for the header.
+     */
+    CompletableFuture<DataPacket> takeAsync(DataPacketHeader header);
 }
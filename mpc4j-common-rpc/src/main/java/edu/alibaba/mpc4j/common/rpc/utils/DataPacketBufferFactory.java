@@ -0,0 +1,57 @@
+package edu.alibaba.mpc4j.common.rpc.utils;
+
+/**
+ * data packet buffer factory.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class DataPacketBufferFactory {
+    /**
+     * private constructor.
+     */
+    private DataPacketBufferFactory() {
+        // empty
+    }
+
+    /**
+     * data packet buffer type
+     */
+    public enum DataPacketBufferType {
+        /**
+         * synchronizes on the whole buffer and wakes up all waiters on each put.
+         */
+        SYNC,
+        /**
+         * indexes data packets by (receiver ID, protocol ID) and wakes up only the matching waiter on each put.
+         */
+        INDEXED,
+    }
+
+    /**
+     * default data packet buffer type
+     */
+    public static final DataPacketBufferType DEFAULT_TYPE = DataPacketBufferType.SYNC;
+
+    /**
+     * Creates a data packet buffer.
+     *
+     * @param type type.
+     * @return a data packet buffer.
+     */
+    public static DataPacketBuffer createInstance(DataPacketBufferType type) {
+        return switch (type) {
+            case SYNC -> new SyncDataPacketBuffer();
+            case INDEXED -> new IndexedDataPacketBuffer();
+        };
+    }
+
+    /**
+     * Creates a default data packet buffer.
+     *
+     * @return a data packet buffer.
+     */
+    public static DataPacketBuffer createInstance() {
+        return createInstance(DEFAULT_TYPE);
+    }
+}
@@ -0,0 +1,287 @@
+package edu.alibaba.mpc4j.common.rpc.utils;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * indexed data packet buffer, designed for receivers with many concurrent sub-protocols and parties.
+ * <p>
+ * Data packets are indexed by (receiver ID, protocol ID). Each index has its own lock, a map of arrived data packets
+ * in arrival order, one condition per waited header, and one condition for threads waiting for any data packet.
+ * Compared with {@link SyncDataPacketBuffer}:
+ * <ul>
+ *   <li>put only locks its own index and signals only the thread waiting for that header (or one thread waiting for
+ *   any data packet), instead of waking up all waiters;</li>
+ *   <li>take(receiverId, ptoId) returns the earliest arrived data packet of the index in O(1), instead of scanning
+ *   all buffered headers.</li>
+ * </ul>
+ * </p>
+ * Waiting threads park on {@link java.util.concurrent.locks.LockSupport} instead of object monitors, so that blocking
+ * takes are friendly to lightweight (virtual) threads. A put that matches a pending asynchronous take completes its
+ * future in the completion executor (the common pool by default) instead of buffering the data packet.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class IndexedDataPacketBuffer implements DataPacketBuffer {
+    /**
+     * buckets, indexed by (receiver ID, protocol ID)
+     */
+    private final Map<Long, Bucket> buckets;
+    /**
+     * executor that completes futures of asynchronous takes
+     */
+    private final Executor completionExecutor;
+
+    public IndexedDataPacketBuffer() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an indexed data packet buffer.
+     *
+     * @param completionExecutor executor that completes futures of asynchronous takes.
+     */
+    public IndexedDataPacketBuffer(Executor completionExecutor) {
+        buckets = new ConcurrentHashMap<>();
+        this.completionExecutor = Preconditions.checkNotNull(completionExecutor);
+    }
+
+    /**
+     * Gets the bucket for the receiver ID and the protocol ID.
+     *
+     * @param receiverId receiver ID.
+     * @param ptoId      protocol ID.
+     * @return the bucket.
+     */
+    private Bucket getBucket(int receiverId, int ptoId) {
+        long key = ((long) receiverId << Integer.SIZE) | (ptoId & 0xFFFFFFFFL);
+        return buckets.computeIfAbsent(key, k -> new Bucket());
+    }
+
+    private Bucket getBucket(DataPacketHeader header) {
+        return getBucket(header.getReceiverId(), header.getPtoId());
+    }
+
+    @Override
+    public void put(DataPacket dataPacket) {
+        assert (dataPacket != null);
+        DataPacketHeader header = dataPacket.getHeader();
+        Bucket bucket = getBucket(header);
+        CompletableFuture<DataPacket> future;
+        bucket.lock.lock();
+        try {
+            future = bucket.futures.remove(header);
+            if (future == null) {
+                bucket.arrived.put(header, dataPacket.getPayload());
+                Waiter waiter = bucket.waiters.get(header);
+                if (waiter != null) {
+                    waiter.condition.signalAll();
+                } else {
+                    bucket.anyCondition.signal();
+                }
+                return;
+            }
+        } finally {
+            bucket.lock.unlock();
+        }
+        // complete the future in the completion executor, so that dependent actions never run in the putting thread,
+        // which is usually an IO thread
+        completionExecutor.execute(() -> {
+            if (!future.complete(dataPacket)) {
+                // the future is cancelled in the meantime, keep the data packet in the buffer
+                put(dataPacket);
+            }
+        });
+    }
+
+    @Override
+    public DataPacket takeImmediately(DataPacketHeader header) {
+        assert (header != null);
+        Bucket bucket = getBucket(header);
+        bucket.lock.lock();
+        try {
+            List<byte[]> payload = bucket.arrived.remove(header);
+            return payload == null ? null : DataPacket.fromByteArrayList(header, payload);
+        } finally {
+            bucket.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearBuffer(DataPacketHeader header) {
+        Bucket bucket = getBucket(header);
+        bucket.lock.lock();
+        try {
+            bucket.arrived.remove(header);
+        } finally {
+            bucket.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearAll() {
+        List<CompletableFuture<DataPacket>> pendingFutures = new ArrayList<>();
+        for (Bucket bucket : buckets.values()) {
+            bucket.lock.lock();
+            try {
+                bucket.arrived.clear();
+                pendingFutures.addAll(bucket.futures.values());
+                bucket.futures.clear();
+            } finally {
+                bucket.lock.unlock();
+            }
+        }
+        pendingFutures.forEach(future -> future.cancel(false));
+    }
+
+    @Override
+    public DataPacket take(DataPacketHeader header) throws InterruptedException {
+        assert (header != null);
+        Bucket bucket = getBucket(header);
+        bucket.lock.lock();
+        try {
+            List<byte[]> payload = bucket.arrived.remove(header);
+            if (payload != null) {
+                return DataPacket.fromByteArrayList(header, payload);
+            }
+            // register a waiter so that put only signals threads waiting for this header.
+            Waiter waiter = bucket.waiters.computeIfAbsent(header, h -> new Waiter(bucket.lock.newCondition()));
+            waiter.num++;
+            try {
+                while (payload == null) {
+                    waiter.condition.await();
+                    payload = bucket.arrived.remove(header);
+                }
+            } finally {
+                waiter.num--;
+                if (waiter.num == 0) {
+                    bucket.waiters.remove(header);
+                }
+            }
+            return DataPacket.fromByteArrayList(header, payload);
+        } finally {
+            bucket.lock.unlock();
+        }
+    }
+
+    @Override
+    public DataPacket take(int receiverId, int ptoId) throws InterruptedException {
+        Bucket bucket = getBucket(receiverId, ptoId);
+        bucket.lock.lock();
+        try {
+            while (bucket.arrived.isEmpty()) {
+                bucket.anyCondition.await();
+            }
+            // the earliest arrived data packet
+            Iterator<Map.Entry<DataPacketHeader, List<byte[]>>> iterator = bucket.arrived.entrySet().iterator();
+            Map.Entry<DataPacketHeader, List<byte[]>> entry = iterator.next();
+            iterator.remove();
+            // pass the signal on if other data packets are still available for other waiters.
+            if (!bucket.arrived.isEmpty()) {
+                bucket.anyCondition.signal();
+            }
+            return DataPacket.fromByteArrayList(entry.getKey(), entry.getValue());
+        } finally {
+            bucket.lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableFuture<DataPacket> takeAsync(DataPacketHeader header) {
+        assert (header != null);
+        Bucket bucket = getBucket(header);
+        CompletableFuture<DataPacket> future;
+        bucket.lock.lock();
+        try {
+            List<byte[]> payload = bucket.arrived.remove(header);
+            if (payload != null) {
+                return CompletableFuture.completedFuture(DataPacket.fromByteArrayList(header, payload));
+            }
+            if (bucket.futures.containsKey(header)) {
+                throw new IllegalStateException("There is already a pending future for " + header);
+            }
+            future = new CompletableFuture<>();
+            bucket.futures.put(header, future);
+        } finally {
+            bucket.lock.unlock();
+        }
+        // a cancelled future no longer waits for the data packet
+        future.whenComplete((dataPacket, throwable) -> {
+            if (future.isCancelled()) {
+                bucket.lock.lock();
+                try {
+                    bucket.futures.remove(header, future);
+                } finally {
+                    bucket.lock.unlock();
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * buffered data packets with the same (receiver ID, protocol ID).
+     */
+    private static class Bucket {
+        /**
+         * lock
+         */
+        private final ReentrantLock lock;
+        /**
+         * arrived data packets, in arrival order
+         */
+        private final LinkedHashMap<DataPacketHeader, List<byte[]>> arrived;
+        /**
+         * waiters for specific headers
+         */
+        private final Map<DataPacketHeader, Waiter> waiters;
+        /**
+         * condition for threads waiting for any data packet
+         */
+        private final Condition anyCondition;
+        /**
+         * pending futures of asynchronous takes
+         */
+        private final Map<DataPacketHeader, CompletableFuture<DataPacket>> futures;
+
+        private Bucket() {
+            lock = new ReentrantLock();
+            arrived = new LinkedHashMap<>();
+            waiters = new HashMap<>();
+            futures = new HashMap<>();
+            anyCondition = lock.newCondition();
+        }
+    }
+
+    /**
+     * threads waiting for a specific header.
+     */
+    private static class Waiter {
+        /**
+         * condition
+         */
+        private final Condition condition;
+        /**
+         * number of waiting threads
+         */
+        private int num;
+
+        private Waiter(Condition condition) {
+            this.condition = condition;
+            num = 0;
+        }
+    }
+}
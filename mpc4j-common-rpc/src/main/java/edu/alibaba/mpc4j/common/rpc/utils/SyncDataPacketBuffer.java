@@ -0,0 +1,162 @@
+package edu.alibaba.mpc4j.common.rpc.utils;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * thread-safe data packet buffer. The design follows the Producer-Consumer pattern. See:
+ * <p>
+ * 《Java多线程设计模式》，第五章：Producer-Consumer，我来做，你来用。
+ * </p>
+ * All operations synchronize on the whole buffer, and each put wakes up all waiters. A put that matches a pending
+ * asynchronous take completes its future in the completion executor (the common pool by default) instead of buffering
+ * the data packet.
+ *
+ * @author Weiran Liu
+ * @date 2021/12/08
+ */
+public class SyncDataPacketBuffer implements DataPacketBuffer {
+    /**
+     * default buffer size
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 10;
+    /**
+     * buffer
+     */
+    private final Map<DataPacketHeader, List<byte[]>> dataPacketBuffer;
+    /**
+     * pending futures of asynchronous takes
+     */
+    private final Map<DataPacketHeader, CompletableFuture<DataPacket>> futures;
+    /**
+     * executor that completes futures of asynchronous takes
+     */
+    private final Executor completionExecutor;
+
+    public SyncDataPacketBuffer() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a thread-safe data packet buffer.
+     *
+     * @param completionExecutor executor that completes futures of asynchronous takes.
+     */
+    public SyncDataPacketBuffer(Executor completionExecutor) {
+        dataPacketBuffer = new ConcurrentHashMap<>(DEFAULT_BUFFER_SIZE);
+        futures = new HashMap<>();
+        this.completionExecutor = Preconditions.checkNotNull(completionExecutor);
+    }
+
+    @Override
+    public void put(DataPacket dataPacket) {
+        assert (dataPacket != null);
+        DataPacketHeader header = dataPacket.getHeader();
+        CompletableFuture<DataPacket> future;
+        synchronized (this) {
+            future = futures.remove(header);
+            if (future == null) {
+                dataPacketBuffer.put(header, dataPacket.getPayload());
+                notifyAll();
+                return;
+            }
+        }
+        // complete the future in the completion executor, so that dependent actions never run in the putting thread,
+        // which is usually an IO thread
+        completionExecutor.execute(() -> {
+            if (!future.complete(dataPacket)) {
+                // the future is cancelled in the meantime, keep the data packet in the buffer
+                put(dataPacket);
+            }
+        });
+    }
+
+    @Override
+    public synchronized DataPacket takeImmediately(DataPacketHeader header) throws InterruptedException {
+        assert (header != null);
+        // if there is no target data packet in the buffer, return null immediately
+        if (!dataPacketBuffer.containsKey(header)) {
+            return null;
+        } else {
+            return DataPacket.fromByteArrayList(header, dataPacketBuffer.remove(header));
+        }
+    }
+
+    @Override
+    public synchronized void clearBuffer(DataPacketHeader header) {
+        dataPacketBuffer.remove(header);
+    }
+
+    @Override
+    public void clearAll() {
+        List<CompletableFuture<DataPacket>> pendingFutures;
+        synchronized (this) {
+            dataPacketBuffer.clear();
+            pendingFutures = new ArrayList<>(futures.values());
+            futures.clear();
+        }
+        pendingFutures.forEach(future -> future.cancel(false));
+    }
+
+    @Override
+    public synchronized DataPacket take(DataPacketHeader header) throws InterruptedException {
+        assert (header != null);
+        // if there is no target data packet in the buffer, waiting until new data packet is added.
+        while (!dataPacketBuffer.containsKey(header)) {
+            wait();
+        }
+        return DataPacket.fromByteArrayList(header, dataPacketBuffer.remove(header));
+    }
+
+    @Override
+    public synchronized DataPacket take(int receiverId, int ptoId) throws InterruptedException {
+        DataPacketHeader targetHeader = null;
+        while (targetHeader == null) {
+            // we first try to find a candidate header
+            for (DataPacketHeader dataPacketHeader : dataPacketBuffer.keySet()) {
+                if (dataPacketHeader.getReceiverId() == receiverId && dataPacketHeader.getPtoId() == ptoId) {
+                    targetHeader = dataPacketHeader;
+                }
+            }
+            if (targetHeader == null) {
+                // if we cannot find any candidate, wait for new data packets.
+                wait();
+            }
+        }
+        return DataPacket.fromByteArrayList(targetHeader, dataPacketBuffer.remove(targetHeader));
+    }
+
+    @Override
+    public CompletableFuture<DataPacket> takeAsync(DataPacketHeader header) {
+        assert (header != null);
+        CompletableFuture<DataPacket> future;
+        synchronized (this) {
+            List<byte[]> payload = dataPacketBuffer.remove(header);
+            if (payload != null) {
+                return CompletableFuture.completedFuture(DataPacket.fromByteArrayList(header, payload));
+            }
+            if (futures.containsKey(header)) {
+                throw new IllegalStateException("There is already a pending future for " + header);
+            }
+            future = new CompletableFuture<>();
+            futures.put(header, future);
+        }
+        // a cancelled future no longer waits for the data packet
+        future.whenComplete((dataPacket, throwable) -> {
+            if (future.isCancelled()) {
+                synchronized (this) {
+                    futures.remove(header, future);
+                }
+            }
+        });
+        return future;
+    }
+}
@@ -2,12 +2,16 @@ package edu.alibaba.mpc4j.common.rpc.impl;
 
 import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.RpcManager;
+import edu.alibaba.mpc4j.common.rpc.impl.file.BinaryFileRpc;
+import edu.alibaba.mpc4j.common.rpc.impl.file.BinaryFileRpcManager;
 import edu.alibaba.mpc4j.common.rpc.impl.file.FileRpc;
 import edu.alibaba.mpc4j.common.rpc.impl.file.FileRpcManager;
 import edu.alibaba.mpc4j.common.rpc.impl.memory.MemoryRpc;
 import edu.alibaba.mpc4j.common.rpc.impl.memory.MemoryRpcManager;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.robust.RobustNettyRpc;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.robust.RobustNettyRpcManager;
+import edu.alibaba.mpc4j.common.rpc.impl.shm.ShmRpc;
+import edu.alibaba.mpc4j.common.rpc.impl.shm.ShmRpcManager;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.simple.SimpleNettyRpc;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.simple.SimpleNettyRpcManager;
 import org.apache.commons.lang3.StringUtils;
@@ -59,6 +63,10 @@ public class RpcConnectTest {
         configurations.add(new Object[] {SimpleNettyRpc.class.getSimpleName(), new SimpleNettyRpcManager(PARTY_NUM, 9000),});
         // FileRpc
         configurations.add(new Object[]{FileRpc.class.getSimpleName(), new FileRpcManager(PARTY_NUM),});
+        // BinaryFileRpc
+        configurations.add(new Object[] {BinaryFileRpc.class.getSimpleName(), new BinaryFileRpcManager(PARTY_NUM),});
+        // ShmRpc
+        configurations.add(new Object[] {ShmRpc.class.getSimpleName(), new ShmRpcManager(PARTY_NUM),});
         // MemoryRpc
         configurations.add(new Object[]{MemoryRpc.class.getSimpleName(), new MemoryRpcManager(PARTY_NUM),});
 
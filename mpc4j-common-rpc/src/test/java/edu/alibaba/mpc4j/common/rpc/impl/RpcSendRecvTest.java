@@ -3,6 +3,8 @@ package edu.alibaba.mpc4j.common.rpc.impl;
 import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.RpcManager;
+import edu.alibaba.mpc4j.common.rpc.impl.file.BinaryFileRpc;
+import edu.alibaba.mpc4j.common.rpc.impl.file.BinaryFileRpcManager;
 import edu.alibaba.mpc4j.common.rpc.impl.file.FileRpc;
 import edu.alibaba.mpc4j.common.rpc.impl.file.FileRpcManager;
 import edu.alibaba.mpc4j.common.rpc.impl.memory.MemoryRpc;
@@ -11,7 +13,11 @@ import edu.alibaba.mpc4j.common.rpc.impl.netty.simple.SimpleNettyRpc;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.simple.SimpleNettyRpcManager;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.robust.RobustNettyRpc;
 import edu.alibaba.mpc4j.common.rpc.impl.netty.robust.RobustNettyRpcManager;
+import edu.alibaba.mpc4j.common.rpc.impl.shm.ShmRpc;
+import edu.alibaba.mpc4j.common.rpc.impl.shm.ShmRpcManager;
 import edu.alibaba.mpc4j.common.rpc.utils.DataPacket;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory.DataPacketBufferType;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.After;
 import org.junit.Assert;
@@ -22,9 +28,13 @@ import org.junit.runners.Parameterized;
 
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * RPC send/receive test.
@@ -43,15 +53,36 @@ public class RpcSendRecvTest {
         configurations.add(new Object[] {RobustNettyRpc.class.getSimpleName(), new RobustNettyRpcManager(3, 10100),});
         // SimpleNettyRpc
         configurations.add(new Object[] {SimpleNettyRpc.class.getSimpleName(), new SimpleNettyRpcManager(3, 9100),});
+        // SimpleNettyRpc (stream)
+        configurations.add(new Object[] {
+            SimpleNettyRpc.class.getSimpleName() + " (stream)", new SimpleNettyRpcManager(3, 9200, true),
+        });
         // FileRpc
         configurations.add(new Object[] {FileRpc.class.getSimpleName(), new FileRpcManager(3),});
+        // BinaryFileRpc
+        configurations.add(new Object[] {BinaryFileRpc.class.getSimpleName(), new BinaryFileRpcManager(3),});
+        // ShmRpc
+        configurations.add(new Object[] {ShmRpc.class.getSimpleName(), new ShmRpcManager(3),});
         // MemoryRpc
         configurations.add(new Object[] {MemoryRpc.class.getSimpleName(), new MemoryRpcManager(3),});
+        // MemoryRpc (indexed buffer)
+        configurations.add(new Object[] {
+            MemoryRpc.class.getSimpleName() + " (" + DataPacketBufferType.INDEXED.name() + ")",
+            new MemoryRpcManager(3, DataPacketBufferType.INDEXED),
+        });
 
         return configurations;
     }
 
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    /**
+     * number of data in the payload for testing modifying after sending
+     */
+    private static final int MODIFY_DATA_NUM = 4;
+    /**
+     * byte length of each data for testing modifying after sending, so that the streaming payload spans many chunks
+     */
+    private static final int MODIFY_DATA_BYTE_LENGTH = 3 * (1 << 20) + 1;
     /**
      * RPC manager
      */
@@ -105,4 +136,33 @@ public class RpcSendRecvTest {
         Assert.assertTrue(sendDataPacketSet.containsAll(receivedDataPacketSet));
         Assert.assertTrue(receivedDataPacketSet.containsAll(sendDataPacketSet));
     }
+
+    @Test
+    public void testModifyAfterSend() {
+        Rpc senderRpc = rpcManager.getRpc(0);
+        Rpc receiverRpc = rpcManager.getRpc(1);
+        int randomTaskId = Math.abs(SECURE_RANDOM.nextInt());
+        DataPacketHeader header = new DataPacketHeader(
+            randomTaskId, RpcImplTestPtoDesc.getInstance().getPtoId(), RpcImplTestPtoDesc.PtoStep.L8.ordinal(),
+            senderRpc.ownParty().getPartyId(), receiverRpc.ownParty().getPartyId()
+        );
+        List<byte[]> payload = IntStream.range(0, MODIFY_DATA_NUM)
+            .mapToObj(index -> {
+                byte[] data = new byte[MODIFY_DATA_BYTE_LENGTH];
+                SECURE_RANDOM.nextBytes(data);
+                return data;
+            })
+            .collect(Collectors.toList());
+        List<byte[]> expectPayload = payload.stream()
+            .map(data -> Arrays.copyOf(data, data.length))
+            .collect(Collectors.toList());
+        senderRpc.send(DataPacket.fromByteArrayList(header, payload));
+        // the caller may reuse the payload right after sending
+        payload.forEach(data -> Arrays.fill(data, (byte) 0));
+        List<byte[]> receivedPayload = receiverRpc.receive(header).getPayload();
+        Assert.assertEquals(MODIFY_DATA_NUM, receivedPayload.size());
+        for (int index = 0; index < MODIFY_DATA_NUM; index++) {
+            Assert.assertArrayEquals(expectPayload.get(index), receivedPayload.get(index));
+        }
+    }
 }
@@ -0,0 +1,100 @@
+package edu.alibaba.mpc4j.common.rpc.pto;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * protocol executor test.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class PtoExecutorTest {
+    /**
+     * parallelism
+     */
+    private static final int PARALLELISM = 2;
+    /**
+     * task num
+     */
+    private static final int TASK_NUM = 1 << 12;
+
+    @Test
+    public void testIllegalInputs() {
+        // create executor with parallelism = 0
+        Assert.assertThrows(IllegalArgumentException.class, () -> PtoExecutor.create("test", 0));
+    }
+
+    @Test
+    public void testCommonPool() {
+        PtoExecutor ptoExecutor = PtoExecutor.commonPool();
+        Assert.assertFalse(ptoExecutor.isDedicated());
+        Assert.assertEquals(-1, ptoExecutor.getCpuNanoTime());
+        // the task runs in the calling thread
+        Thread thread = Thread.currentThread();
+        Assert.assertEquals(thread, ptoExecutor.invoke(Thread::currentThread));
+        // the common pool cannot be closed
+        ptoExecutor.close();
+        long count = ptoExecutor.invoke(() -> IntStream.range(0, TASK_NUM).parallel().count());
+        Assert.assertEquals(TASK_NUM, count);
+    }
+
+    @Test
+    public void testParallelStream() {
+        try (PtoExecutor ptoExecutor = PtoExecutor.create("test", PARALLELISM)) {
+            Assert.assertTrue(ptoExecutor.isDedicated());
+            Assert.assertEquals(PARALLELISM, ptoExecutor.getParallelism());
+            // parallel streams run in the pool
+            Set<String> threadNames = ptoExecutor.invoke(() -> IntStream.range(0, TASK_NUM)
+                .parallel()
+                .mapToObj(i -> Thread.currentThread().getName())
+                .collect(Collectors.toSet())
+            );
+            Assert.assertTrue(threadNames.size() <= PARALLELISM);
+            threadNames.forEach(threadName -> Assert.assertTrue(threadName.startsWith("test-worker-")));
+            // nested invocations run in the calling worker
+            Assert.assertTrue(ptoExecutor.invoke(() -> {
+                Thread worker = Thread.currentThread();
+                return ptoExecutor.invoke(Thread::currentThread) == worker;
+            }));
+        }
+    }
+
+    @Test
+    public void testRun() throws MpcAbortException {
+        try (PtoExecutor ptoExecutor = PtoExecutor.create("test", PARALLELISM)) {
+            String[] threadName = new String[1];
+            ptoExecutor.run(() -> threadName[0] = Thread.currentThread().getName());
+            Assert.assertTrue(threadName[0].startsWith("test-worker-"));
+            // failures are thrown as they are
+            Assert.assertThrows(MpcAbortException.class, () -> ptoExecutor.run(() -> {
+                throw new MpcAbortException("abort");
+            }));
+            Assert.assertThrows(IllegalStateException.class, () -> ptoExecutor.run(() -> {
+                throw new IllegalStateException("illegal state");
+            }));
+        }
+    }
+
+    @Test
+    public void testCpuNanoTime() {
+        try (PtoExecutor ptoExecutor = PtoExecutor.create("test", PARALLELISM)) {
+            long beginCpuNanoTime = ptoExecutor.getCpuNanoTime();
+            long sum = ptoExecutor.invoke(() -> IntStream.range(0, TASK_NUM)
+                .parallel()
+                .mapToLong(i -> IntStream.range(0, TASK_NUM).mapToLong(j -> (long) i * j).sum())
+                .sum()
+            );
+            Assert.assertNotEquals(0, sum);
+            long endCpuNanoTime = ptoExecutor.getCpuNanoTime();
+            if (beginCpuNanoTime >= 0) {
+                Assert.assertTrue(endCpuNanoTime > beginCpuNanoTime);
+            }
+        }
+    }
+}
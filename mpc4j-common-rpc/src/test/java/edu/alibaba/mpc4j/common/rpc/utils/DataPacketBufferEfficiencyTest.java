@@ -0,0 +1,150 @@
+package edu.alibaba.mpc4j.common.rpc.utils;
+
+import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory.DataPacketBufferType;
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.DecimalFormat;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * data packet buffer efficiency test. Many sub-protocols concurrently wait for their own data packets, while many
+ * receiving threads concurrently put data packets into the buffer.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+@Ignore
+public class DataPacketBufferEfficiencyTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataPacketBufferEfficiencyTest.class);
+    /**
+     * protocol description
+     */
+    private static final PtoDesc PTO_DESC = DataPacketTestPtoDesc.getInstance();
+    /**
+     * sender ID
+     */
+    private static final int SENDER_ID = 1;
+    /**
+     * receiver ID
+     */
+    private static final int RECEIVER_ID = 2;
+    /**
+     * number of data packets for each sub-protocol
+     */
+    private static final int ROUND_NUM = 1 << 10;
+    /**
+     * number of buffered data packets that are not taken when testing receive any
+     */
+    private static final int PENDING_NUM = 1 << 12;
+    /**
+     * time format
+     */
+    private static final DecimalFormat TIME_DECIMAL_FORMAT = new DecimalFormat("0.000");
+    /**
+     * the stop watch
+     */
+    private static final StopWatch STOP_WATCH = new StopWatch();
+
+    @Test
+    public void testTakeEfficiency() throws InterruptedException {
+        LOGGER.info("{}\t{}\t{}", "    type", " sub_pto_num", "  packet/ms");
+        testTakeEfficiency(1);
+        testTakeEfficiency(1 << 2);
+        testTakeEfficiency(1 << 4);
+        testTakeEfficiency(1 << 6);
+    }
+
+    private void testTakeEfficiency(int subPtoNum) throws InterruptedException {
+        for (DataPacketBufferType type : DataPacketBufferType.values()) {
+            DataPacketBuffer dataPacketBuffer = DataPacketBufferFactory.createInstance(type);
+            // each sub-protocol has one producer and one consumer, and consumers wait for distinct headers
+            Thread[] threads = new Thread[subPtoNum * 2];
+            for (int subPtoIndex = 0; subPtoIndex < subPtoNum; subPtoIndex++) {
+                int encodeTaskId = subPtoIndex;
+                threads[subPtoIndex * 2] = new Thread(() -> {
+                    for (int round = 0; round < ROUND_NUM; round++) {
+                        dataPacketBuffer.put(DataPacket.fromByteArrayList(
+                            new DataPacketHeader(encodeTaskId, PTO_DESC.getPtoId(), 0, round, SENDER_ID, RECEIVER_ID),
+                            new LinkedList<>()
+                        ));
+                    }
+                });
+                threads[subPtoIndex * 2 + 1] = new Thread(() -> {
+                    try {
+                        for (int round = 0; round < ROUND_NUM; round++) {
+                            dataPacketBuffer.take(
+                                new DataPacketHeader(encodeTaskId, PTO_DESC.getPtoId(), 0, round, SENDER_ID, RECEIVER_ID)
+                            );
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            STOP_WATCH.start();
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            STOP_WATCH.stop();
+            double time = (double) STOP_WATCH.getTime(TimeUnit.MILLISECONDS);
+            STOP_WATCH.reset();
+            LOGGER.info(
+                "{}\t{}\t{}",
+                String.format("%8s", type.name()), String.format("%12s", subPtoNum),
+                String.format("%11s", TIME_DECIMAL_FORMAT.format(subPtoNum * ROUND_NUM / Math.max(time, 1)))
+            );
+        }
+    }
+
+    @Test
+    public void testTakeAnyEfficiency() throws InterruptedException {
+        LOGGER.info("{}\t{}\t{}", "    type", " pending_num", "  packet/ms");
+        for (DataPacketBufferType type : DataPacketBufferType.values()) {
+            DataPacketBuffer dataPacketBuffer = DataPacketBufferFactory.createInstance(type);
+            // data packets of other protocols that stay in the buffer
+            IntStream.range(0, PENDING_NUM).forEach(index -> dataPacketBuffer.put(DataPacket.fromByteArrayList(
+                new DataPacketHeader(index, PTO_DESC.getPtoId() + 1, 0, SENDER_ID, RECEIVER_ID), new LinkedList<>()
+            )));
+            AtomicInteger takeNum = new AtomicInteger();
+            Thread consumer = new Thread(() -> {
+                try {
+                    for (int round = 0; round < ROUND_NUM; round++) {
+                        dataPacketBuffer.take(RECEIVER_ID, PTO_DESC.getPtoId());
+                        takeNum.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            STOP_WATCH.start();
+            consumer.start();
+            for (int round = 0; round < ROUND_NUM; round++) {
+                dataPacketBuffer.put(DataPacket.fromByteArrayList(
+                    new DataPacketHeader(0, PTO_DESC.getPtoId(), 0, round, SENDER_ID, RECEIVER_ID), new LinkedList<>()
+                ));
+            }
+            consumer.join();
+            STOP_WATCH.stop();
+            double time = (double) STOP_WATCH.getTime(TimeUnit.MILLISECONDS);
+            STOP_WATCH.reset();
+            Assert.assertEquals(ROUND_NUM, takeNum.get());
+            LOGGER.info(
+                "{}\t{}\t{}",
+                String.format("%8s", type.name()), String.format("%12s", PENDING_NUM),
+                String.format("%11s", TIME_DECIMAL_FORMAT.format(ROUND_NUM / Math.max(time, 1)))
+            );
+        }
+    }
+}
@@ -1,11 +1,22 @@
 package edu.alibaba.mpc4j.common.rpc.utils;
 
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.rpc.utils.DataPacketBufferFactory.DataPacketBufferType;
+import edu.alibaba.mpc4j.common.tool.utils.LongUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.Assert;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 /**
@@ -14,7 +25,20 @@ import java.util.stream.LongStream;
  * @author Weiran Liu
  * @date 2023/2/9
  */
+@RunWith(Parameterized.class)
 public class DataPacketBufferTest {
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> configurations() {
+        Collection<Object[]> configurations = new ArrayList<>();
+
+        for (DataPacketBufferType type : DataPacketBufferType.values()) {
+            configurations.add(new Object[] {type.name(), type,});
+        }
+
+        return configurations;
+    }
+
     /**
      * party 1's ID
      */
@@ -51,10 +75,19 @@ public class DataPacketBufferTest {
     private static final Set<Long> CORRECT_SET = LongStream.range(SET_START_INDEX, SET_END_INDEX)
         .boxed()
         .collect(Collectors.toSet());
+    /**
+     * type
+     */
+    private final DataPacketBufferType type;
+
+    public DataPacketBufferTest(String name, DataPacketBufferType type) {
+        Preconditions.checkArgument(StringUtils.isNotBlank(name));
+        this.type = type;
+    }
 
     @Test
     public void testDataPacketBuffer() throws InterruptedException {
-        DataPacketBuffer dataPacketBuffer = new DataPacketBuffer();
+        DataPacketBuffer dataPacketBuffer = DataPacketBufferFactory.createInstance(type);
         DataPacketBufferParty1Thread party1Thread = new DataPacketBufferParty1Thread(dataPacketBuffer);
         DataPacketBufferParty2Thread party2Thread = new DataPacketBufferParty2Thread(dataPacketBuffer);
         party1Thread.start();
@@ -67,4 +100,69 @@ public class DataPacketBufferTest {
         Assert.assertEquals(CORRECT_SET, party1Thread.getPayloadSet());
         Assert.assertEquals(CORRECT_SET, party2Thread.getPayloadSet());
     }
+
+    @Test
+    public void testTakeAsync() throws InterruptedException, ExecutionException {
+        DataPacketBuffer dataPacketBuffer = DataPacketBufferFactory.createInstance(type);
+        // the data packet arrives before taking
+        DataPacket dataPacket = createDataPacket(0);
+        dataPacketBuffer.put(dataPacket);
+        CompletableFuture<DataPacket> future = dataPacketBuffer.takeAsync(dataPacket.getHeader());
+        Assert.assertTrue(future.isDone());
+        Assert.assertEquals(dataPacket, future.get());
+        // the data packet arrives after taking
+        dataPacket = createDataPacket(1);
+        future = dataPacketBuffer.takeAsync(dataPacket.getHeader());
+        Assert.assertFalse(future.isDone());
+        // cannot take the same header again when the future is pending
+        DataPacketHeader pendingHeader = dataPacket.getHeader();
+        Assert.assertThrows(IllegalStateException.class, () -> dataPacketBuffer.takeAsync(pendingHeader));
+        // the future is completed in the completion executor, not in the putting thread
+        Thread putThread = Thread.currentThread();
+        CompletableFuture<Thread> completingThread = future.thenApply(completedDataPacket -> Thread.currentThread());
+        dataPacketBuffer.put(dataPacket);
+        Assert.assertEquals(dataPacket, future.get());
+        Assert.assertNotEquals(putThread, completingThread.get());
+        // the data packet is not buffered when the future is completed
+        Assert.assertNull(dataPacketBuffer.takeImmediately(dataPacket.getHeader()));
+    }
+
+    @Test
+    public void testCancelTakeAsync() throws InterruptedException {
+        DataPacketBuffer dataPacketBuffer = DataPacketBufferFactory.createInstance(type);
+        // the data packet is kept in the buffer if the future is cancelled
+        DataPacket dataPacket = createDataPacket(0);
+        CompletableFuture<DataPacket> future = dataPacketBuffer.takeAsync(dataPacket.getHeader());
+        Assert.assertTrue(future.cancel(false));
+        dataPacketBuffer.put(dataPacket);
+        Assert.assertEquals(dataPacket, dataPacketBuffer.take(dataPacket.getHeader()));
+        // clearing the buffer cancels pending futures
+        future = dataPacketBuffer.takeAsync(createDataPacket(1).getHeader());
+        dataPacketBuffer.clearAll();
+        Assert.assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void testConcurrentTakeAsync() {
+        int num = (int) (LIST_END_INDEX - LIST_START_INDEX);
+        DataPacketBuffer dataPacketBuffer = DataPacketBufferFactory.createInstance(type);
+        DataPacket[] dataPackets = IntStream.range(0, num).mapToObj(this::createDataPacket).toArray(DataPacket[]::new);
+        // take all data packets asynchronously in one thread, while data packets are put concurrently
+        Thread putThread = new Thread(() -> IntStream.range(0, num).forEach(i -> dataPacketBuffer.put(dataPackets[i])));
+        putThread.start();
+        List<CompletableFuture<Long>> futures = IntStream.range(0, num)
+            .mapToObj(i -> dataPacketBuffer.takeAsync(dataPackets[i].getHeader())
+                .thenApply(dataPacket -> LongUtils.byteArrayToLong(dataPacket.getPayload().get(0)))
+            )
+            .collect(Collectors.toList());
+        List<Long> payloadList = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        Assert.assertEquals(CORRECT_LIST, payloadList);
+    }
+
+    private DataPacket createDataPacket(int index) {
+        DataPacketHeader header = new DataPacketHeader(0, 0, 0, index, PARTY_2_ID, PARTY_1_ID);
+        List<byte[]> payload = new ArrayList<>(1);
+        payload.add(LongUtils.longToByteArray(LIST_START_INDEX + index));
+        return DataPacket.fromByteArrayList(header, payload);
+    }
 }
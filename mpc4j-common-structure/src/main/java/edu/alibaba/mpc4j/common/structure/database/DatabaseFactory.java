@@ -41,6 +41,10 @@ public class DatabaseFactory {
          * Zl database
          */
         ZL,
+        /**
+         * off-heap database
+         */
+        OFF_HEAP,
     }
 
     /**
@@ -57,7 +61,7 @@ public class DatabaseFactory {
             case ZL64 -> {
                 return LongUtils.MAX_L_FOR_MODULE_N;
             }
-            case ZL, NAIVE -> {
+            case ZL, NAIVE, OFF_HEAP -> {
                 return Integer.MAX_VALUE;
             }
             default ->
@@ -87,6 +91,9 @@ public class DatabaseFactory {
             case NAIVE -> {
                 return NaiveDatabase.create(l, data);
             }
+            case OFF_HEAP -> {
+                return OffHeapDatabase.create(l, data);
+            }
             default ->
                 throw new IllegalArgumentException("Invalid " + type.getClass().getSimpleName() + ": " + type.name());
         }
@@ -115,6 +122,9 @@ public class DatabaseFactory {
             case NAIVE -> {
                 return NaiveDatabase.createRandom(l, rows, secureRandom);
             }
+            case OFF_HEAP -> {
+                return OffHeapDatabase.createRandom(l, rows, secureRandom);
+            }
             default ->
                 throw new IllegalArgumentException("Invalid " + type.getClass().getSimpleName() + ": " + type.name());
         }
@@ -141,6 +151,9 @@ public class DatabaseFactory {
             case NAIVE -> {
                 return NaiveDatabase.createEmpty(l);
             }
+            case OFF_HEAP -> {
+                return OffHeapDatabase.createEmpty(l);
+            }
             default ->
                 throw new IllegalArgumentException("Invalid " + type.getClass().getSimpleName() + ": " + type.name());
         }
@@ -169,6 +182,9 @@ public class DatabaseFactory {
             case NAIVE -> {
                 return NaiveDatabase.create(envType, parallel, bitVectors);
             }
+            case OFF_HEAP -> {
+                return OffHeapDatabase.create(envType, parallel, bitVectors);
+            }
             default ->
                 throw new IllegalArgumentException("Invalid " + type.getClass().getSimpleName() + ": " + type.name());
         }
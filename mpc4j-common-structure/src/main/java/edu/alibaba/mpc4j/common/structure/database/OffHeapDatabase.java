@@ -0,0 +1,522 @@
+package edu.alibaba.mpc4j.common.structure.database;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.structure.StructureUtils;
+import edu.alibaba.mpc4j.common.tool.EnvType;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.bitmatrix.dense.ByteDenseBitMatrix;
+import edu.alibaba.mpc4j.common.tool.bitmatrix.dense.DenseBitMatrix;
+import edu.alibaba.mpc4j.common.tool.bitmatrix.trans.TransBitMatrix;
+import edu.alibaba.mpc4j.common.tool.bitmatrix.trans.TransBitMatrixFactory;
+import edu.alibaba.mpc4j.common.tool.bitvector.BitVector;
+import edu.alibaba.mpc4j.common.tool.bitvector.BitVectorFactory;
+import edu.alibaba.mpc4j.common.tool.utils.BigIntegerUtils;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/**
+ * off-heap database. All rows are stored out of the Java heap in contiguous regions with a fixed row stride byteL,
+ * either in direct buffers or in a memory-mapped file. The regions are split into segments of at most 2^31 - 1 bytes,
+ * and a row never spans two segments. Rows are copied to the heap only when they are accessed, so that the database
+ * can be larger than the heap.
+ * <p>
+ * The file format used by {@link #createFromFile(int, Path)} and {@link #save(Path)} is the raw concatenation of all
+ * rows, each row is byteL bytes in big-endian order, without any header.
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class OffHeapDatabase implements Database {
+    /**
+     * max segment byte length
+     */
+    private static final int MAX_SEGMENT_BYTE_LENGTH = Integer.MAX_VALUE;
+    /**
+     * byte length of rows that are transposed together in bit partition
+     */
+    private static final int PARTITION_BYTE_LENGTH = 1 << 22;
+    /**
+     * element bit length
+     */
+    private final int l;
+    /**
+     * element byte length
+     */
+    private final int byteL;
+    /**
+     * number of rows in each segment
+     */
+    private final int segmentRows;
+    /**
+     * segments
+     */
+    private ByteBuffer[] segments;
+    /**
+     * index of the first row in segments
+     */
+    private int offset;
+    /**
+     * number of rows
+     */
+    private int rows;
+
+    /**
+     * Creates a database.
+     *
+     * @param l    element bit length.
+     * @param data data.
+     * @return a database.
+     */
+    public static OffHeapDatabase create(int l, byte[][] data) {
+        return create(l, data, MAX_SEGMENT_BYTE_LENGTH);
+    }
+
+    static OffHeapDatabase create(int l, byte[][] data, int segmentByteLength) {
+        OffHeapDatabase database = new OffHeapDatabase(l, segmentByteLength);
+        MathPreconditions.checkPositive("rows", data.length);
+        database.allocate(data.length);
+        for (int index = 0; index < data.length; index++) {
+            database.setBytesData(index, data[index]);
+        }
+        return database;
+    }
+
+    /**
+     * Creates a database by copying the given database and padding random rows.
+     *
+     * @param database     the database.
+     * @param paddingRows  number of rows after padding.
+     * @param secureRandom the random state.
+     * @return a database.
+     */
+    public static OffHeapDatabase createPadding(Database database, int paddingRows, SecureRandom secureRandom) {
+        MathPreconditions.checkGreaterOrEqual("paddingRows", paddingRows, database.rows());
+        MathPreconditions.checkPositive("paddingRows", paddingRows);
+        OffHeapDatabase paddingDatabase = new OffHeapDatabase(database.getL(), MAX_SEGMENT_BYTE_LENGTH);
+        paddingDatabase.allocate(paddingRows);
+        paddingDatabase.copyRows(database, 0);
+        paddingDatabase.fillRandom(database.rows(), paddingRows, secureRandom);
+        return paddingDatabase;
+    }
+
+    /**
+     * Creates a random database.
+     *
+     * @param l            element bit length.
+     * @param rows         number of rows.
+     * @param secureRandom the random state.
+     * @return a database.
+     */
+    public static OffHeapDatabase createRandom(int l, int rows, SecureRandom secureRandom) {
+        return createRandom(l, rows, secureRandom, MAX_SEGMENT_BYTE_LENGTH);
+    }
+
+    static OffHeapDatabase createRandom(int l, int rows, SecureRandom secureRandom, int segmentByteLength) {
+        OffHeapDatabase database = new OffHeapDatabase(l, segmentByteLength);
+        MathPreconditions.checkPositive("rows", rows);
+        database.allocate(rows);
+        database.fillRandom(0, rows, secureRandom);
+        return database;
+    }
+
+    /**
+     * Creates a database by combining bit vectors.
+     *
+     * @param envType    the environment.
+     * @param parallel   parallel combination.
+     * @param bitVectors the combining bit vectors.
+     * @return a database.
+     */
+    public static OffHeapDatabase create(EnvType envType, boolean parallel, BitVector... bitVectors) {
+        MathPreconditions.checkPositive("BitVectors.length", bitVectors.length);
+        int l = bitVectors.length;
+        int rows = bitVectors[0].bitNum();
+        // check all bit vectors has the same bit num
+        Arrays.stream(bitVectors).forEach(bitVector ->
+            MathPreconditions.checkEqual("rows", "BitVector.bitNum", rows, bitVector.bitNum())
+        );
+        TransBitMatrix bitMatrix = TransBitMatrixFactory.createInstance(envType, rows, l, parallel);
+        for (int columnIndex = 0; columnIndex < l; columnIndex++) {
+            bitMatrix.setColumn(columnIndex, bitVectors[columnIndex].getBytes());
+        }
+        TransBitMatrix transBitMatrix = bitMatrix.transpose();
+        OffHeapDatabase database = new OffHeapDatabase(l, MAX_SEGMENT_BYTE_LENGTH);
+        MathPreconditions.checkPositive("rows", rows);
+        database.allocate(rows);
+        for (int index = 0; index < rows; index++) {
+            BigInteger element = BigIntegerUtils.byteArrayToNonNegBigInteger(transBitMatrix.getColumn(index));
+            Preconditions.checkArgument(element.bitLength() <= l);
+            database.setBytesData(index, BigIntegerUtils.nonNegBigIntegerToByteArray(element, database.byteL));
+        }
+        return database;
+    }
+
+    /**
+     * Creates an empty database.
+     *
+     * @param l element bit length.
+     * @return a database.
+     */
+    public static OffHeapDatabase createEmpty(int l) {
+        OffHeapDatabase database = new OffHeapDatabase(l, MAX_SEGMENT_BYTE_LENGTH);
+        database.allocate(0);
+
+        return database;
+    }
+
+    /**
+     * Creates a database by memory-mapping a file. The file is mapped in the read-only mode, so that the database is
+     * read-only and {@link #setBytesData(int, byte[])} throws {@link java.nio.ReadOnlyBufferException}. All rows are
+     * checked to be valid, which reads the whole file once if l is not a multiple of Byte.SIZE.
+     *
+     * @param l    element bit length.
+     * @param path file path.
+     * @return a database.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static OffHeapDatabase createFromFile(int l, Path path) throws IOException {
+        return createFromFile(l, path, MAX_SEGMENT_BYTE_LENGTH);
+    }
+
+    static OffHeapDatabase createFromFile(int l, Path path, int segmentByteLength) throws IOException {
+        OffHeapDatabase database = new OffHeapDatabase(l, segmentByteLength);
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileByteLength = fileChannel.size();
+            Preconditions.checkArgument(
+                fileByteLength % database.byteL == 0,
+                "file byte length (%s) must be divisible by byteL (%s)", fileByteLength, database.byteL
+            );
+            long rows = fileByteLength / database.byteL;
+            MathPreconditions.checkPositiveInRangeClosed("rows", rows, Integer.MAX_VALUE);
+            database.rows = (int) rows;
+            int segmentNum = database.getSegmentNum(database.rows);
+            database.segments = new ByteBuffer[segmentNum];
+            for (int segmentIndex = 0; segmentIndex < segmentNum; segmentIndex++) {
+                long position = (long) segmentIndex * database.segmentRows * database.byteL;
+                long size = Math.min((long) database.segmentRows * database.byteL, fileByteLength - position);
+                // the mapping is still valid after the channel is closed
+                database.segments[segmentIndex] = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            }
+        }
+        if (l % Byte.SIZE != 0) {
+            byte[] row = new byte[database.byteL];
+            for (int index = 0; index < database.rows; index++) {
+                database.readRow(index, row);
+                Preconditions.checkArgument(
+                    BytesUtils.isFixedReduceByteArray(row, database.byteL, l),
+                    "%s-th row in %s has more than %s bits", index, path, l
+                );
+            }
+        }
+        return database;
+    }
+
+    private OffHeapDatabase(int l, int segmentByteLength) {
+        MathPreconditions.checkPositive("l", l);
+        this.l = l;
+        byteL = CommonUtils.getByteLength(l);
+        MathPreconditions.checkGreaterOrEqual("segmentByteLength", segmentByteLength, byteL);
+        segmentRows = segmentByteLength / byteL;
+    }
+
+    private int getSegmentNum(int rows) {
+        // do not use CommonUtils.getUnitNum, since rows + segmentRows may overflow
+        return rows == 0 ? 0 : (rows - 1) / segmentRows + 1;
+    }
+
+    private void allocate(int rows) {
+        int segmentNum = getSegmentNum(rows);
+        segments = new ByteBuffer[segmentNum];
+        for (int segmentIndex = 0; segmentIndex < segmentNum; segmentIndex++) {
+            int currentSegmentRows = Math.min(segmentRows, rows - segmentIndex * segmentRows);
+            segments[segmentIndex] = ByteBuffer.allocateDirect(currentSegmentRows * byteL);
+        }
+        offset = 0;
+        this.rows = rows;
+    }
+
+    private void fillRandom(int fromIndex, int toIndex, SecureRandom secureRandom) {
+        byte[] row = new byte[byteL];
+        for (int index = fromIndex; index < toIndex; index++) {
+            secureRandom.nextBytes(row);
+            BytesUtils.reduceByteArray(row, l);
+            writeRow(index, row);
+        }
+    }
+
+    private void copyRows(Database database, int toIndex) {
+        if (database instanceof OffHeapDatabase that) {
+            byte[] row = new byte[byteL];
+            for (int index = 0; index < that.rows; index++) {
+                that.readRow(index, row);
+                writeRow(toIndex + index, row);
+            }
+        } else {
+            for (int index = 0; index < database.rows(); index++) {
+                writeRow(toIndex + index, database.getBytesData(index));
+            }
+        }
+    }
+
+    private ByteBuffer getSegment(int index) {
+        return segments[(offset + index) / segmentRows];
+    }
+
+    private int getPosition(int index) {
+        return (offset + index) % segmentRows * byteL;
+    }
+
+    private void readRow(int index, byte[] row) {
+        getSegment(index).get(getPosition(index), row);
+    }
+
+    private void writeRow(int index, byte[] row) {
+        getSegment(index).put(getPosition(index), row);
+    }
+
+    @Override
+    public DatabaseFactory.DatabaseType getType() {
+        return DatabaseFactory.DatabaseType.OFF_HEAP;
+    }
+
+    @Override
+    public int rows() {
+        return rows;
+    }
+
+    @Override
+    public int getL() {
+        return l;
+    }
+
+    @Override
+    public int getByteL() {
+        return byteL;
+    }
+
+    @Override
+    public BitVector[] bitPartition(EnvType envType, boolean parallel) {
+        return bitPartition(envType, parallel, 0, l);
+    }
+
+    /**
+     * Partitions the bytes vector by columns in [fromColumn, toColumn). Rows are loaded and transposed chunk by chunk,
+     * so that only the resulting columns and one chunk are in the heap.
+     *
+     * @param envType    the environment.
+     * @param parallel   parallel operation.
+     * @param fromColumn from column (inclusive).
+     * @param toColumn   to column (exclusive).
+     * @return the partition result.
+     */
+    public BitVector[] bitPartition(EnvType envType, boolean parallel, int fromColumn, int toColumn) {
+        MathPreconditions.checkPositiveInRangeClosed("toColumn", toColumn, l);
+        MathPreconditions.checkNonNegativeInRange("fromColumn", fromColumn, toColumn);
+        int columnNum = toColumn - fromColumn;
+        if (rows == 0) {
+            return IntStream.range(0, columnNum)
+                .mapToObj(index -> BitVectorFactory.createEmpty())
+                .toArray(BitVector[]::new);
+        }
+        int byteRows = CommonUtils.getByteLength(rows);
+        byte[][] columns = new byte[columnNum][byteRows];
+        // Chunks are taken from the last row. Each chunk has a multiple of Byte.SIZE rows except the first one, so that
+        // each chunk fills whole bytes in columns, and the first chunk has the same padding bits as columns.
+        int chunkRows = Math.max(1, PARTITION_BYTE_LENGTH / byteL / Byte.SIZE) * Byte.SIZE;
+        int chunkNum = CommonUtils.getUnitNum(rows, chunkRows);
+        IntStream chunkIntStream = IntStream.range(0, chunkNum);
+        chunkIntStream = parallel ? chunkIntStream.parallel() : chunkIntStream;
+        chunkIntStream.forEach(chunkIndex -> {
+            int toRow = rows - chunkIndex * chunkRows;
+            int fromRow = Math.max(0, toRow - chunkRows);
+            byte[][] chunkData = IntStream.range(fromRow, toRow)
+                .mapToObj(this::getBytesData)
+                .toArray(byte[][]::new);
+            DenseBitMatrix transChunk = ByteDenseBitMatrix.createFromDense(l, chunkData)
+                .transpose(envType, parallel && chunkNum == 1);
+            int toByte = byteRows - chunkIndex * (chunkRows / Byte.SIZE);
+            for (int columnIndex = fromColumn; columnIndex < toColumn; columnIndex++) {
+                byte[] chunkColumn = transChunk.getByteArrayRow(columnIndex);
+                System.arraycopy(
+                    chunkColumn, 0, columns[columnIndex - fromColumn], toByte - chunkColumn.length, chunkColumn.length
+                );
+            }
+        });
+        return Arrays.stream(columns)
+            .map(column -> BitVectorFactory.create(rows, column))
+            .toArray(BitVector[]::new);
+    }
+
+    /**
+     * Splits the database with the split rows. The split database shares the off-heap memory with this database
+     * without copying rows. Since rows of the two databases are disjoint, setting data in one database does not
+     * affect the other one.
+     *
+     * @param splitRows the split rows.
+     * @return a new database with the split rows.
+     */
+    @Override
+    public OffHeapDatabase split(int splitRows) {
+        MathPreconditions.checkPositiveInRangeClosed("split rows", splitRows, rows);
+        OffHeapDatabase splitDatabase = new OffHeapDatabase(l, segmentRows * byteL);
+        splitDatabase.segments = segments;
+        splitDatabase.offset = offset + rows - splitRows;
+        splitDatabase.rows = splitRows;
+        rows = rows - splitRows;
+        return splitDatabase;
+    }
+
+    /**
+     * Reduces the database to the reduced rows. The off-heap memory is not released until the database is collected.
+     *
+     * @param reduceRows the reduced rows.
+     */
+    @Override
+    public void reduce(int reduceRows) {
+        MathPreconditions.checkPositiveInRangeClosed("reduce rows", reduceRows, rows);
+        rows = reduceRows;
+    }
+
+    /**
+     * Merges two databases. Rows are copied into newly allocated off-heap memory.
+     *
+     * @param other the other database.
+     */
+    @Override
+    public void merge(Database other) {
+        MathPreconditions.checkEqual("this.l", "that.l", this.l, other.getL());
+        OffHeapDatabase mergeDatabase = new OffHeapDatabase(l, segmentRows * byteL);
+        mergeDatabase.allocate(this.rows + other.rows());
+        mergeDatabase.copyRows(this, 0);
+        mergeDatabase.copyRows(other, this.rows);
+        segments = mergeDatabase.segments;
+        offset = mergeDatabase.offset;
+        rows = mergeDatabase.rows;
+    }
+
+    @Override
+    public byte[][] getBytesData() {
+        return IntStream.range(0, rows)
+            .mapToObj(this::getBytesData)
+            .toArray(byte[][]::new);
+    }
+
+    /**
+     * Sets data.
+     *
+     * @param index index.
+     * @param entry data.
+     */
+    public void setBytesData(int index, byte[] entry) {
+        MathPreconditions.checkNonNegativeInRange("index", index, rows);
+        Preconditions.checkArgument(BytesUtils.isFixedReduceByteArray(entry, byteL, l));
+        writeRow(index, entry);
+    }
+
+    @Override
+    public byte[] getBytesData(int index) {
+        MathPreconditions.checkNonNegativeInRange("index", index, rows);
+        byte[] row = new byte[byteL];
+        readRow(index, row);
+        return row;
+    }
+
+    /**
+     * Gets a read-only view of the row without copying. The view reflects later changes of the row.
+     *
+     * @param index the index.
+     * @return a read-only view of the row, with position 0 and limit byteL.
+     */
+    public ByteBuffer getRowView(int index) {
+        MathPreconditions.checkNonNegativeInRange("index", index, rows);
+        return getSegment(index).slice(getPosition(index), byteL).asReadOnlyBuffer();
+    }
+
+    @Override
+    public BigInteger[] getBigIntegerData() {
+        return IntStream.range(0, rows)
+            .mapToObj(this::getBigIntegerData)
+            .toArray(BigInteger[]::new);
+    }
+
+    @Override
+    public BigInteger getBigIntegerData(int index) {
+        return BigIntegerUtils.byteArrayToNonNegBigInteger(getBytesData(index));
+    }
+
+    /**
+     * Saves all rows into a file, which can be loaded by {@link #createFromFile(int, Path)}.
+     *
+     * @param path file path.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void save(Path path) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            int index = 0;
+            while (index < rows) {
+                // write all remaining rows in the current segment
+                int num = Math.min(rows - index, segmentRows - (offset + index) % segmentRows);
+                ByteBuffer region = getSegment(index).slice(getPosition(index), num * byteL);
+                while (region.hasRemaining()) {
+                    fileChannel.write(region);
+                }
+                index += num;
+            }
+            fileChannel.force(true);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        HashCodeBuilder hashCodeBuilder = new HashCodeBuilder()
+            .append(l)
+            .append(rows);
+        for (int index = 0; index < rows; index++) {
+            hashCodeBuilder.append(getRowView(index));
+        }
+        return hashCodeBuilder.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof OffHeapDatabase that) {
+            if (this.l != that.l || this.rows != that.rows) {
+                return false;
+            }
+            for (int index = 0; index < rows; index++) {
+                if (!this.getRowView(index).equals(that.getRowView(index))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        String[] stringData = IntStream.range(0, Math.min(rows, StructureUtils.DISPLAY_NUM))
+            .mapToObj(index -> BitVectorFactory.create(l, getBytesData(index)))
+            .map(Object::toString)
+            .map(element -> element.toUpperCase(Locale.ROOT))
+            .toArray(String[]::new);
+        return this.getClass().getSimpleName() + " (l = " + l + "): " + Arrays.toString(stringData);
+    }
+}
@@ -5,9 +5,15 @@ import edu.alibaba.mpc4j.common.tool.EnvType;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
+import edu.alibaba.mpc4j.common.tool.utils.SerializeUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
  * filter factory.
@@ -136,4 +142,84 @@ public class FilterFactory {
             case MOBILE_VACUUM_FILTER -> MobileVacuumFilter.load(envType, byteArrayList);
         };
     }
+
+    /**
+     * Returns whether the filter is compressed in {@link #saveCompressedFilter(Filter)}. Only the sparse random Bloom
+     * Filter is a sparse bit vector. About half of the bits in other Bloom Filters are set, and other filters contain
+     * random-looking fingerprints, so that they cannot be compressed.
+     *
+     * @param type filter type.
+     * @return whether the filter is compressed.
+     */
+    public static boolean isCompressible(FilterType type) {
+        return switch (type) {
+            case SPARSE_RANDOM_BLOOM_FILTER -> true;
+            case SET_FILTER, NAIVE_RANDOM_BLOOM_FILTER, DISTINCT_BLOOM_FILTER,
+                NAIVE_CUCKOO_FILTER, MOBILE_CUCKOO_FILTER, NAIVE_VACUUM_FILTER, MOBILE_VACUUM_FILTER -> false;
+        };
+    }
+
+    /**
+     * Packets the filter into compressed {@code List<byte[]>}. Compressible filters are compressed by Deflate, other
+     * filters are packeted as {@link Filter#save()}.
+     *
+     * @param filter the filter.
+     * @return the packet result.
+     */
+    public static List<byte[]> saveCompressedFilter(Filter<?> filter) {
+        List<byte[]> byteArrayList = filter.save();
+        if (!isCompressible(filter.getFilterType())) {
+            return byteArrayList;
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(SerializeUtils.compressUnequal(byteArrayList));
+        deflater.finish();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1 << 16];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            outputStream.write(buffer, 0, length);
+        }
+        deflater.end();
+        List<byte[]> compressedByteArrayList = new ArrayList<>(2);
+        // write type, so that the receiver knows whether the filter is compressed
+        compressedByteArrayList.add(IntUtils.intToByteArray(filter.getFilterType().ordinal()));
+        compressedByteArrayList.add(outputStream.toByteArray());
+        return compressedByteArrayList;
+    }
+
+    /**
+     * Loads the filter from compressed {@code List<byte[]>}.
+     *
+     * @param envType       environment.
+     * @param byteArrayList the compressed {@code List<byte[]>}.
+     * @return the filter.
+     */
+    public static <X> Filter<X> loadCompressedFilter(EnvType envType, List<byte[]> byteArrayList) {
+        Preconditions.checkArgument(!byteArrayList.isEmpty());
+        int filterTypeOrdinal = IntUtils.byteArrayToInt(byteArrayList.get(0));
+        MathPreconditions.checkNonNegativeInRange("filterTypeOrdinal", filterTypeOrdinal, FilterType.values().length);
+        if (!isCompressible(FilterType.values()[filterTypeOrdinal])) {
+            return loadFilter(envType, byteArrayList);
+        }
+        Preconditions.checkArgument(byteArrayList.size() == 2);
+        Inflater inflater = new Inflater();
+        inflater.setInput(byteArrayList.get(1));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1 << 16];
+        try {
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated compressed filter");
+                }
+                outputStream.write(buffer, 0, length);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Invalid compressed filter: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+        return loadFilter(envType, SerializeUtils.decompressUnequal(outputStream.toByteArray()));
+    }
 }
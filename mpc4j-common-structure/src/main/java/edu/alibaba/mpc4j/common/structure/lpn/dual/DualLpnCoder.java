@@ -36,6 +36,23 @@ public interface DualLpnCoder extends LpnCoder {
      */
     byte[][] dualEncode(byte[][] es);
 
+    /**
+     * Encodes GF2E vector e = (e_1, ..., e_n) to GF2E vector w = (w_1, ..., w_k), where w is returned in one flat byte
+     * array with w_i at <code>[i * e_1.length, (i + 1) * e_1.length)</code>.
+     *
+     * @param es GF2E vector e = (e_1, ..., e_n).
+     * @return GF2E vector w = (w_1, ..., w_k) in one flat byte array.
+     */
+    default byte[] dualEncodeFlat(byte[][] es) {
+        byte[][] ws = dualEncode(es);
+        int byteLength = es[0].length;
+        byte[] flatWs = new byte[ws.length * byteLength];
+        for (int i = 0; i < ws.length; i++) {
+            System.arraycopy(ws[i], 0, flatWs, i * byteLength, byteLength);
+        }
+        return flatWs;
+    }
+
     /**
      * Gets the rows for the parity check matrix, that is, n - k.
      *
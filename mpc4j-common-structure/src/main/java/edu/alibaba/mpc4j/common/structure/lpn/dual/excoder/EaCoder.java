@@ -73,13 +73,24 @@ public class EaCoder implements ExCoder {
     @Override
     public byte[][] dualEncode(byte[][] es) {
         MathPreconditions.checkEqual("n", "inputs.length", n, es.length);
+        // accumulate and expand
+        return expanderCoder.dualEncode(accumulate(es));
+    }
+
+    @Override
+    public byte[] dualEncodeFlat(byte[][] es) {
+        MathPreconditions.checkEqual("n", "inputs.length", n, es.length);
+        // accumulate and expand
+        return expanderCoder.dualEncodeFlat(accumulate(es));
+    }
+
+    private byte[][] accumulate(byte[][] es) {
         // here we cannot use System.arraycopy since this would be a soft copy.
         byte[][] ws = BytesUtils.clone(es);
         // accumulate
         for (int i = 0; i < n - 1; i++) {
             BytesUtils.xori(ws[i + 1], ws[i]);
         }
-        // expand
-        return expanderCoder.dualEncode(ws);
+        return ws;
     }
 }
@@ -187,13 +187,24 @@ public class NonSysEcCoder implements ExCoder {
     @Override
     public byte[][] dualEncode(byte[][] es) {
         MathPreconditions.checkEqual("n", "inputs.length", n, es.length);
+        // accumulate and expand
+        return expanderCoder.dualEncode(accumulate(es));
+    }
+
+    @Override
+    public byte[] dualEncodeFlat(byte[][] es) {
+        MathPreconditions.checkEqual("n", "inputs.length", n, es.length);
+        // accumulate and expand
+        return expanderCoder.dualEncodeFlat(accumulate(es));
+    }
+
+    private byte[][] accumulate(byte[][] es) {
         // here we cannot use System.arraycopy since this would be a soft copy.
         byte[][] ws = BytesUtils.clone(es);
         // accumulate
         accumulate(ws, es, DEFAULT_ORIG_SEED);
         accumulate(ws, es, DEFAULT_FLIP_SEED);
-        // expand
-        return expanderCoder.dualEncode(ws);
+        return ws;
     }
 
     private void accumulate(byte[][] ws, byte[][] es, byte[] seed) {
@@ -127,6 +127,26 @@ abstract class AbstractExpanderCoder implements DualLpnCoder {
             .toArray(byte[][]::new);
     }
 
+    @Override
+    public byte[] dualEncodeFlat(byte[][] es) {
+        MathPreconditions.checkEqual("n", "inputs.length", n, es.length);
+        int byteL = es[0].length;
+        byte[] ws = new byte[k * byteL];
+        IntStream rowIntStream = IntStream.range(0, k);
+        rowIntStream = parallel ? rowIntStream.parallel() : rowIntStream;
+        rowIntStream.forEach(i -> {
+            int offset = i * byteL;
+            for (int j = 0; j < matrix[i].length; j++) {
+                byte[] e = es[matrix[i][j]];
+                assert e.length == byteL;
+                for (int l = 0; l < byteL; l++) {
+                    ws[offset + l] ^= e[l];
+                }
+            }
+        });
+        return ws;
+    }
+
     /**
      * Gets the expander matrix B.
      *
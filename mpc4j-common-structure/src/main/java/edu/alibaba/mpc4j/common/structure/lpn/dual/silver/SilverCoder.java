@@ -123,11 +123,46 @@ public class SilverCoder implements DualLpnCoder {
     public byte[][] dualEncode(byte[][] es) {
         assert es.length == codeSize;
         // initialize w = [x | p | p' | p''], where x ∈ {0,1}^s, p ∈ {0,1}^g, p' ∈ {0,1}^s, p'' ∈ {0,1}^s
-        int byteLength = es[0].length;
         byte[][] x = new byte[kValue - gapValue][];
         for (int i = 0; i < x.length; i++) {
             x[i] = BytesUtils.clone(es[i]);
         }
+        byte[][][] pAndPp = dualEncodeParity(es);
+        // Step 4: compute x = p · D + x
+        matrixD.lExtMulAddi(pAndPp[0], x);
+        // Step 7, compute x = p' · A + x
+        matrixA.lExtMulAddi(pAndPp[1], x);
+
+        return x;
+    }
+
+    @Override
+    public byte[] dualEncodeFlat(byte[][] es) {
+        assert es.length == codeSize;
+        // initialize w = [x | p | p' | p''], where x ∈ {0,1}^s is in one flat byte array
+        int byteLength = es[0].length;
+        byte[] x = new byte[(kValue - gapValue) * byteLength];
+        for (int i = 0; i < kValue - gapValue; i++) {
+            System.arraycopy(es[i], 0, x, i * byteLength, byteLength);
+        }
+        byte[][][] pAndPp = dualEncodeParity(es);
+        // Step 4: compute x = p · D + x
+        matrixD.lExtMulAddi(pAndPp[0], x);
+        // Step 7, compute x = p' · A + x
+        matrixA.lExtMulAddi(pAndPp[1], x);
+
+        return x;
+    }
+
+    /**
+     * Computes p and p' used to update x, i.e., all steps except Step 4 and Step 7. Note that x is only updated in
+     * Step 4 and Step 7, and p (p') is not changed after Step 3 (Step 6).
+     *
+     * @param es GF2E vector e = (e_1, ..., e_n).
+     * @return p and p'.
+     */
+    private byte[][][] dualEncodeParity(byte[][] es) {
+        int byteLength = es[0].length;
         byte[][] p = new byte[gapValue][];
         for (int i = 0; i < p.length; i++) {
             p[i] = BytesUtils.clone(es[i + kValue - gapValue]);
@@ -143,16 +178,12 @@ public class SilverCoder implements DualLpnCoder {
         matrixB.lExtMulAddi(pp, p);
         // Step 3: compute p = p · E'^{-1}
         p = matrixEp.leftGf2lMultiply(p);
-        // Step 4: compute x = p · D + x
-        matrixD.lExtMulAddi(p, x);
         // Step 5: compute p'' = p · F + p''
         matrixF.lExtMulAddi(p, ppp);
         // Step 6: compute p' = p'' · C^{-1} + p'
         matrixC.invLextMulAddi(ppp, pp);
-        // Step 7, compute x = p' · A + x
-        matrixA.lExtMulAddi(pp, x);
 
-        return x;
+        return new byte[][][]{p, pp};
     }
 
     @Override
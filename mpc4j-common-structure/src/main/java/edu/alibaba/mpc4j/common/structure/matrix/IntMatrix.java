@@ -10,7 +10,8 @@ import java.util.Arrays;
 import java.util.stream.IntStream;
 
 /**
- * int matrix.
+ * int matrix. Elements are in Z_{2^32} and stored in a flat array in row-major order, so that multiplications and
+ * transpositions are computed using cache-blocked and SIMD kernels.
  *
  * @author Weiran Liu
  * @date 2024/7/5
@@ -29,7 +30,7 @@ public class IntMatrix implements Matrix {
         int rows = matrix.getRows();
         IntVector[][] decomposeRowVectors = new IntVector[size][rows];
         for (int i = 0; i < rows; i++) {
-            IntVector[] decomposedVector = IntVector.decompose(matrix.rowVectors[i], p);
+            IntVector[] decomposedVector = IntVector.decompose(matrix.getRow(i), p);
             for (int k = 0; k < size; k++) {
                 decomposeRowVectors[k][i] = decomposedVector[k];
             }
@@ -76,7 +77,7 @@ public class IntMatrix implements Matrix {
         int rows = matrix.getRows();
         IntVector[][] decomposeRowVectors = new IntVector[size][rows];
         for (int i = 0; i < rows; i++) {
-            IntVector[] decomposedVector = IntVector.decomposeToByteVector(matrix.rowVectors[i]);
+            IntVector[] decomposedVector = IntVector.decomposeToByteVector(matrix.getRow(i));
             for (int k = 0; k < size; k++) {
                 decomposeRowVectors[k][i] = decomposedVector[k];
             }
@@ -122,12 +123,12 @@ public class IntMatrix implements Matrix {
         int columns = elements[0].length;
         MathPreconditions.checkPositive("columns", columns);
         for (int[] row : elements) {
-            MathPreconditions.checkEqual("rows", "row.length", rows, row.length);
+            MathPreconditions.checkEqual("columns", "row.length", columns, row.length);
+        }
+        IntMatrix matrix = new IntMatrix(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(elements[i], 0, matrix.elements, i * columns, columns);
         }
-        IntMatrix matrix = new IntMatrix();
-        matrix.rowVectors = Arrays.stream(elements)
-            .map(IntVector::create)
-            .toArray(IntVector[]::new);
         return matrix;
     }
 
@@ -145,11 +146,29 @@ public class IntMatrix implements Matrix {
         for (IntVector rowVector : rowVectors) {
             MathPreconditions.checkEqual("columns", "row.length", columns, rowVector.getNum());
         }
-        IntMatrix matrix = new IntMatrix();
-        matrix.rowVectors = rowVectors;
+        IntMatrix matrix = new IntMatrix(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(rowVectors[i].getElements(), 0, matrix.elements, i * columns, columns);
+        }
         return matrix;
     }
 
+    /**
+     * Creates a matrix from row-major elements, i.e., the (i, j)-th element is elements[i * columns + j]. The elements
+     * are not copied.
+     *
+     * @param rows     rows.
+     * @param columns  columns.
+     * @param elements row-major elements.
+     * @return a matrix.
+     */
+    public static IntMatrix create(int rows, int columns, int[] elements) {
+        MathPreconditions.checkPositive("rows", rows);
+        MathPreconditions.checkPositive("columns", columns);
+        MathPreconditions.checkEqual("rows * columns", "elements.length", (long) rows * columns, elements.length);
+        return new IntMatrix(rows, columns, elements);
+    }
+
     /**
      * Creates a random matrix.
      *
@@ -161,10 +180,10 @@ public class IntMatrix implements Matrix {
     public static IntMatrix createRandom(int rows, int columns, SecureRandom secureRandom) {
         MathPreconditions.checkPositive("rows", rows);
         MathPreconditions.checkPositive("columns", columns);
-        IntMatrix matrix = new IntMatrix();
-        matrix.rowVectors = IntStream.range(0, rows)
-            .mapToObj(i -> IntVector.createRandom(columns, secureRandom))
-            .toArray(IntVector[]::new);
+        IntMatrix matrix = new IntMatrix(rows, columns);
+        for (int index = 0; index < matrix.elements.length; index++) {
+            matrix.elements[index] = secureRandom.nextInt();
+        }
         return matrix;
     }
 
@@ -192,42 +211,58 @@ public class IntMatrix implements Matrix {
     public static IntMatrix createZeros(int rows, int columns) {
         MathPreconditions.checkPositive("rows", rows);
         MathPreconditions.checkPositive("columns", columns);
-        IntMatrix matrix = new IntMatrix();
-        matrix.rowVectors = IntStream.range(0, rows)
-            .mapToObj(i -> IntVector.createZeros(columns))
-            .toArray(IntVector[]::new);
-        return matrix;
+        return new IntMatrix(rows, columns);
     }
 
     /**
-     * matrix
+     * rows
      */
-    private IntVector[] rowVectors;
+    private final int rows;
+    /**
+     * columns
+     */
+    private final int columns;
+    /**
+     * elements in row-major order, i.e., the (i, j)-th element is elements[i * columns + j].
+     */
+    private final int[] elements;
+
+    /**
+     * private constructor.
+     *
+     * @param rows    rows.
+     * @param columns columns.
+     */
+    private IntMatrix(int rows, int columns) {
+        this(rows, columns, new int[Math.multiplyExact(rows, columns)]);
+    }
 
     /**
      * private constructor.
+     *
+     * @param rows     rows.
+     * @param columns  columns.
+     * @param elements elements.
      */
-    private IntMatrix() {
-        // empty
+    private IntMatrix(int rows, int columns, int[] elements) {
+        this.rows = rows;
+        this.columns = columns;
+        this.elements = elements;
     }
 
     @Override
     public IntMatrix copy() {
-        IntVector[] copyRowVectors = IntStream.range(0, getRows())
-            .mapToObj(i -> rowVectors[i].copy())
-            .toArray(IntVector[]::new);
-        return create(copyRowVectors);
+        return new IntMatrix(rows, columns, Arrays.copyOf(elements, elements.length));
     }
 
     @Override
     public int getRows() {
-        return rowVectors.length;
+        return rows;
     }
 
     @Override
     public int getColumns() {
-        // we ensure rows > 0 so that this must not throw an exception.
-        return rowVectors[0].getNum();
+        return columns;
     }
 
     /**
@@ -238,17 +273,18 @@ public class IntMatrix implements Matrix {
      * @return element.
      */
     public int get(int i, int j) {
-        return rowVectors[i].getElement(j);
+        assert i >= 0 && i < rows && j >= 0 && j < columns;
+        return elements[i * columns + j];
     }
 
     /**
-     * Gets row.
+     * Gets a copy of the row.
      *
      * @param i row index.
      * @return row.
      */
     public IntVector getRow(int i) {
-        return rowVectors[i];
+        return IntVector.create(Arrays.copyOfRange(elements, i * columns, (i + 1) * columns));
     }
 
     /**
@@ -257,11 +293,21 @@ public class IntMatrix implements Matrix {
      * @return elements.
      */
     public int[][] getElements() {
-        return IntStream.range(0, getRows())
-            .mapToObj(i -> rowVectors[i].getElements())
+        return IntStream.range(0, rows)
+            .mapToObj(i -> Arrays.copyOfRange(elements, i * columns, (i + 1) * columns))
             .toArray(int[][]::new);
     }
 
+    /**
+     * Gets the row-major elements, i.e., the (i, j)-th element is elements[i * columns + j]. The elements are not
+     * copied.
+     *
+     * @return row-major elements.
+     */
+    public int[] getFlatElements() {
+        return elements;
+    }
+
     /**
      * Sets element.
      *
@@ -270,7 +316,8 @@ public class IntMatrix implements Matrix {
      * @param element element.
      */
     public void set(int i, int j, int element) {
-        rowVectors[i].setElement(j, element);
+        assert i >= 0 && i < rows && j >= 0 && j < columns;
+        elements[i * columns + j] = element;
     }
 
     /**
@@ -279,8 +326,13 @@ public class IntMatrix implements Matrix {
      * @param l bit length.
      */
     public void module(int l) {
-        for (IntVector rowVector : rowVectors) {
-            rowVector.module(l);
+        MathPreconditions.checkPositiveInRangeClosed("l", l, Integer.SIZE);
+        // do not need to operate when l = Integer.SIZE.
+        if (l < Integer.SIZE) {
+            int andModule = (1 << l) - 1;
+            for (int index = 0; index < elements.length; index++) {
+                elements[index] &= andModule;
+            }
         }
     }
 
@@ -292,17 +344,9 @@ public class IntMatrix implements Matrix {
      */
     public IntMatrix concat(IntVector that) {
         MathPreconditions.checkEqual("this.columns", "that.columns", this.getColumns(), that.getNum());
-        int currentRows = getRows();
-        IntVector[] appendedRowVectors = IntStream.range(0, currentRows + 1)
-            .mapToObj(i -> {
-                if (i < currentRows) {
-                    return rowVectors[i].copy();
-                } else {
-                    return that.copy();
-                }
-            })
-            .toArray(IntVector[]::new);
-        return create(appendedRowVectors);
+        int[] appendedElements = Arrays.copyOf(elements, elements.length + columns);
+        System.arraycopy(that.getElements(), 0, appendedElements, elements.length, columns);
+        return new IntMatrix(rows + 1, columns, appendedElements);
     }
 
     /**
@@ -313,9 +357,8 @@ public class IntMatrix implements Matrix {
     public void addi(IntMatrix that) {
         MathPreconditions.checkEqual("this.rows", "that.rows", this.getRows(), that.getRows());
         MathPreconditions.checkEqual("this.columns", "that.columns", this.getColumns(), that.getColumns());
-        int rows = getRows();
-        for (int i = 0; i < rows; i++) {
-            rowVectors[i].addi(that.getRow(i));
+        for (int index = 0; index < elements.length; index++) {
+            elements[index] += that.elements[index];
         }
     }
 
@@ -327,9 +370,8 @@ public class IntMatrix implements Matrix {
     public void subi(IntMatrix that) {
         MathPreconditions.checkEqual("this.rows", "that.rows", this.getRows(), that.getRows());
         MathPreconditions.checkEqual("this.columns", "that.columns", this.getColumns(), that.getColumns());
-        int rows = getRows();
-        for (int i = 0; i < rows; i++) {
-            rowVectors[i].subi(that.getRow(i));
+        for (int index = 0; index < elements.length; index++) {
+            elements[index] -= that.elements[index];
         }
     }
 
@@ -341,11 +383,20 @@ public class IntMatrix implements Matrix {
      */
     public IntMatrix mul(IntMatrix that) {
         MathPreconditions.checkEqual("this.columns", "that.rows", this.getColumns(), that.getRows());
-        int rows = getRows();
-        IntVector[] mulRowVectors = IntStream.range(0, rows)
-            .mapToObj(i -> that.leftMul(rowVectors[i]))
-            .toArray(IntVector[]::new);
-        return create(mulRowVectors);
+        int[] mulElements = IntMatrixUtils.mul(elements, rows, columns, that.elements, that.columns);
+        return new IntMatrix(rows, that.columns, mulElements);
+    }
+
+    /**
+     * matrix multiplication with a narrow matrix.
+     *
+     * @param that that matrix.
+     * @return result.
+     */
+    public IntMatrix mul(NarrowIntMatrix that) {
+        MathPreconditions.checkEqual("this.columns", "that.rows", this.getColumns(), that.getRows());
+        int[] mulElements = IntMatrixUtils.mul(elements, rows, columns, that.getFlatElements(), that.getColumns());
+        return new IntMatrix(rows, that.getColumns(), mulElements);
     }
 
     /**
@@ -354,40 +405,39 @@ public class IntMatrix implements Matrix {
      * @return result.
      */
     public IntMatrix transpose() {
-        int rows = getRows();
-        int columns = getColumns();
-        IntVector[] columnVectors = IntStream.range(0, columns)
-            .mapToObj(j -> {
-                IntVector columnVector = IntVector.createZeros(rows);
-                for (int i = 0; i < rows; i++) {
-                    columnVector.setElement(i, rowVectors[i].getElement(j));
-                }
-                return columnVector;
-            })
-            .toArray(IntVector[]::new);
-        return create(columnVectors);
+        return new IntMatrix(columns, rows, IntMatrixUtils.transpose(elements, rows, columns));
     }
 
     /**
-     * Left vector multiplication.
+     * Left vector multiplication, i.e., computes vector · matrix.
      *
      * @param vector vector.
      * @return result.
      */
     public IntVector leftMul(IntVector vector) {
         MathPreconditions.checkEqual("this.rows", "vector.length", this.getRows(), vector.getNum());
-        int rows = getRows();
-        int columns = getColumns();
-        IntVector leftMulVector = IntVector.createZeros(columns);
-        for (int i = 0; i < rows; i++) {
-            leftMulVector.addi(rowVectors[i].mul(vector.getElement(i)));
-        }
-        return leftMulVector;
+        return IntVector.create(IntMatrixUtils.leftMul(elements, rows, columns, vector.getElements()));
+    }
+
+    /**
+     * Right vector multiplication, i.e., computes matrix · vector. This equals transpose().leftMul(vector) without
+     * transposing the matrix.
+     *
+     * @param vector vector.
+     * @return result.
+     */
+    public IntVector rightMul(IntVector vector) {
+        MathPreconditions.checkEqual("this.columns", "vector.length", this.getColumns(), vector.getNum());
+        return IntVector.create(IntMatrixUtils.rightMul(elements, rows, columns, vector.getElements()));
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder().append(rowVectors).hashCode();
+        return new HashCodeBuilder()
+            .append(rows)
+            .append(columns)
+            .append(elements)
+            .hashCode();
     }
 
     @Override
@@ -396,7 +446,8 @@ public class IntMatrix implements Matrix {
             return true;
         }
         if (obj instanceof IntMatrix that) {
-            return Arrays.equals(this.rowVectors, that.rowVectors);
+            return this.rows == that.rows && this.columns == that.columns
+                && Arrays.equals(this.elements, that.elements);
         }
         return false;
     }
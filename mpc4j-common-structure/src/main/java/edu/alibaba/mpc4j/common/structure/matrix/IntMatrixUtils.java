@@ -0,0 +1,434 @@
+package edu.alibaba.mpc4j.common.structure.matrix;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernels for row-major matrices over Z_{2^32}, used by {@link IntMatrix} and {@link NarrowIntMatrix}. A matrix with
+ * r rows and c columns is stored in a flat array where the (i, j)-th element is at i * c + j. Narrow matrices store
+ * each element in [0, 2^8) as one (unsigned) byte.
+ * <p>
+ * All arithmetic is the wrapping int arithmetic, i.e., in Z_{2^32}. Inner loops are computed using jdk.incubator.vector
+ * lanes, and outer loops are blocked so that the accumulated part of the result (or the vector) stays in cache while
+ * the matrix is scanned exactly once.
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+final class IntMatrixUtils {
+    /**
+     * int species
+     */
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    /**
+     * number of int lanes
+     */
+    private static final int INT_LANES = INT_SPECIES.length();
+    /**
+     * byte species with the same shape, each byte vector is expanded to (Integer.SIZE / Byte.SIZE) int vectors
+     */
+    private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_PREFERRED;
+    /**
+     * number of byte lanes
+     */
+    private static final int BYTE_LANES = BYTE_SPECIES.length();
+    /**
+     * number of int vectors expanded from a byte vector
+     */
+    private static final int EXPAND_NUM = BYTE_LANES / INT_LANES;
+    /**
+     * byte mask
+     */
+    private static final int BYTE_MASK = 0xFF;
+    /**
+     * column block size (in elements) for matrix-vector multiplications, 16KB of ints fit in L1 cache
+     */
+    static final int VECTOR_COLUMN_BLOCK = 1 << 12;
+    /**
+     * column block size (in elements) for batched matrix-vector multiplications, blocks of 2^5 vectors (128KB of ints)
+     * fit in L2 cache
+     */
+    static final int BATCH_VECTOR_COLUMN_BLOCK = 1 << 10;
+    /**
+     * column block size (in elements) for matrix-matrix multiplications
+     */
+    static final int MATRIX_COLUMN_BLOCK = 1 << 10;
+    /**
+     * inner dimension block size for matrix-matrix multiplications, a MATRIX_INNER_BLOCK × MATRIX_COLUMN_BLOCK int
+     * panel is 256KB and fits in L2 cache
+     */
+    static final int MATRIX_INNER_BLOCK = 1 << 6;
+    /**
+     * tile size for transposition
+     */
+    static final int TRANSPOSE_BLOCK = 1 << 5;
+
+    /**
+     * private constructor.
+     */
+    private IntMatrixUtils() {
+        // empty
+    }
+
+    /**
+     * Computes y[yOffset, yOffset + length) += a · x[xOffset, xOffset + length).
+     *
+     * @param a       scalar a.
+     * @param x       vector x.
+     * @param xOffset offset of x.
+     * @param y       vector y.
+     * @param yOffset offset of y.
+     * @param length  length.
+     */
+    static void axpy(int a, int[] x, int xOffset, int[] y, int yOffset, int length) {
+        if (a == 0) {
+            return;
+        }
+        int j = 0;
+        int upperBound = INT_SPECIES.loopBound(length);
+        for (; j < upperBound; j += INT_LANES) {
+            IntVector xVector = IntVector.fromArray(INT_SPECIES, x, xOffset + j);
+            IntVector yVector = IntVector.fromArray(INT_SPECIES, y, yOffset + j);
+            xVector.lanewise(VectorOperators.MUL, a).add(yVector).intoArray(y, yOffset + j);
+        }
+        for (; j < length; j++) {
+            y[yOffset + j] += a * x[xOffset + j];
+        }
+    }
+
+    /**
+     * Computes y[yOffset, yOffset + length) += a · x[xOffset, xOffset + length), where x contains unsigned bytes.
+     *
+     * @param a       scalar a.
+     * @param x       vector x.
+     * @param xOffset offset of x.
+     * @param y       vector y.
+     * @param yOffset offset of y.
+     * @param length  length.
+     */
+    static void axpy(int a, byte[] x, int xOffset, int[] y, int yOffset, int length) {
+        if (a == 0) {
+            return;
+        }
+        int j = 0;
+        int upperBound = BYTE_SPECIES.loopBound(length);
+        for (; j < upperBound; j += BYTE_LANES) {
+            ByteVector xVector = ByteVector.fromArray(BYTE_SPECIES, x, xOffset + j);
+            for (int part = 0; part < EXPAND_NUM; part++) {
+                int offset = yOffset + j + part * INT_LANES;
+                IntVector yVector = IntVector.fromArray(INT_SPECIES, y, offset);
+                expand(xVector, part).lanewise(VectorOperators.MUL, a).add(yVector).intoArray(y, offset);
+            }
+        }
+        for (; j < length; j++) {
+            y[yOffset + j] += a * (x[xOffset + j] & BYTE_MASK);
+        }
+    }
+
+    /**
+     * Computes the inner product of x[xOffset, xOffset + length) and y[yOffset, yOffset + length).
+     *
+     * @param x       vector x.
+     * @param xOffset offset of x.
+     * @param y       vector y.
+     * @param yOffset offset of y.
+     * @param length  length.
+     * @return inner product.
+     */
+    static int innerMul(int[] x, int xOffset, int[] y, int yOffset, int length) {
+        int j = 0;
+        int upperBound = INT_SPECIES.loopBound(length);
+        IntVector sumVector = IntVector.zero(INT_SPECIES);
+        for (; j < upperBound; j += INT_LANES) {
+            IntVector xVector = IntVector.fromArray(INT_SPECIES, x, xOffset + j);
+            IntVector yVector = IntVector.fromArray(INT_SPECIES, y, yOffset + j);
+            sumVector = xVector.mul(yVector).add(sumVector);
+        }
+        int sum = sumVector.reduceLanes(VectorOperators.ADD);
+        for (; j < length; j++) {
+            sum += x[xOffset + j] * y[yOffset + j];
+        }
+        return sum;
+    }
+
+    /**
+     * Computes the inner product of x[xOffset, xOffset + length) and y[yOffset, yOffset + length), where x contains
+     * unsigned bytes.
+     *
+     * @param x       vector x.
+     * @param xOffset offset of x.
+     * @param y       vector y.
+     * @param yOffset offset of y.
+     * @param length  length.
+     * @return inner product.
+     */
+    static int innerMul(byte[] x, int xOffset, int[] y, int yOffset, int length) {
+        int j = 0;
+        int upperBound = BYTE_SPECIES.loopBound(length);
+        IntVector sumVector = IntVector.zero(INT_SPECIES);
+        for (; j < upperBound; j += BYTE_LANES) {
+            ByteVector xVector = ByteVector.fromArray(BYTE_SPECIES, x, xOffset + j);
+            for (int part = 0; part < EXPAND_NUM; part++) {
+                IntVector yVector = IntVector.fromArray(INT_SPECIES, y, yOffset + j + part * INT_LANES);
+                sumVector = expand(xVector, part).mul(yVector).add(sumVector);
+            }
+        }
+        int sum = sumVector.reduceLanes(VectorOperators.ADD);
+        for (; j < length; j++) {
+            sum += (x[xOffset + j] & BYTE_MASK) * y[yOffset + j];
+        }
+        return sum;
+    }
+
+    /**
+     * Zero-extends the part-th (INT_LANES) bytes of the byte vector to an int vector.
+     *
+     * @param byteVector byte vector.
+     * @param part       part index.
+     * @return int vector.
+     */
+    private static IntVector expand(ByteVector byteVector, int part) {
+        // ZERO_EXTEND_B2I is not supported by convertShape in JDK 17, so we sign-extend and then mask.
+        return ((IntVector) byteVector.convertShape(VectorOperators.B2I, INT_SPECIES, part)).and(BYTE_MASK);
+    }
+
+    /**
+     * Computes v · M for a vector v of length rows.
+     *
+     * @param matrix  M in row-major order.
+     * @param rows    rows of M.
+     * @param columns columns of M.
+     * @param vector  v.
+     * @return v · M.
+     */
+    static int[] leftMul(int[] matrix, int rows, int columns, int[] vector) {
+        int[] result = new int[columns];
+        // scan the matrix once, the accumulated result block stays in cache
+        for (int fromColumn = 0; fromColumn < columns; fromColumn += VECTOR_COLUMN_BLOCK) {
+            int blockLength = Math.min(VECTOR_COLUMN_BLOCK, columns - fromColumn);
+            for (int i = 0; i < rows; i++) {
+                axpy(vector[i], matrix, i * columns + fromColumn, result, fromColumn, blockLength);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes v · M for a vector v of length rows, where M contains unsigned bytes.
+     *
+     * @param matrix  M in row-major order.
+     * @param rows    rows of M.
+     * @param columns columns of M.
+     * @param vector  v.
+     * @return v · M.
+     */
+    static int[] leftMul(byte[] matrix, int rows, int columns, int[] vector) {
+        int[] result = new int[columns];
+        for (int fromColumn = 0; fromColumn < columns; fromColumn += VECTOR_COLUMN_BLOCK) {
+            int blockLength = Math.min(VECTOR_COLUMN_BLOCK, columns - fromColumn);
+            for (int i = 0; i < rows; i++) {
+                axpy(vector[i], matrix, i * columns + fromColumn, result, fromColumn, blockLength);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes M · v for a vector v of length columns.
+     *
+     * @param matrix  M in row-major order.
+     * @param rows    rows of M.
+     * @param columns columns of M.
+     * @param vector  v.
+     * @return M · v.
+     */
+    static int[] rightMul(int[] matrix, int rows, int columns, int[] vector) {
+        int[] result = new int[rows];
+        // scan the matrix once, the vector block stays in cache
+        for (int fromColumn = 0; fromColumn < columns; fromColumn += VECTOR_COLUMN_BLOCK) {
+            int blockLength = Math.min(VECTOR_COLUMN_BLOCK, columns - fromColumn);
+            for (int i = 0; i < rows; i++) {
+                result[i] += innerMul(matrix, i * columns + fromColumn, vector, fromColumn, blockLength);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes M · v for a vector v of length columns, where M contains unsigned bytes.
+     *
+     * @param matrix  M in row-major order.
+     * @param rows    rows of M.
+     * @param columns columns of M.
+     * @param vector  v.
+     * @return M · v.
+     */
+    static int[] rightMul(byte[] matrix, int rows, int columns, int[] vector) {
+        int[] result = new int[rows];
+        for (int fromColumn = 0; fromColumn < columns; fromColumn += VECTOR_COLUMN_BLOCK) {
+            int blockLength = Math.min(VECTOR_COLUMN_BLOCK, columns - fromColumn);
+            for (int i = 0; i < rows; i++) {
+                result[i] += innerMul(matrix, i * columns + fromColumn, vector, fromColumn, blockLength);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes M · v_0, ..., M · v_{b - 1} for b vectors of length columns, where M contains unsigned bytes. The matrix
+     * is scanned once: each block of a matrix row stays in L1 cache while it is multiplied with the same block of all
+     * vectors, so that reading M from memory is amortized over the b vectors.
+     *
+     * @param matrix  M in row-major order.
+     * @param rows    rows of M.
+     * @param columns columns of M.
+     * @param vectors v_0, ..., v_{b - 1}.
+     * @return M · v_0, ..., M · v_{b - 1}.
+     */
+    static int[][] rightMul(byte[] matrix, int rows, int columns, int[][] vectors) {
+        int[][] results = new int[vectors.length][rows];
+        for (int fromColumn = 0; fromColumn < columns; fromColumn += BATCH_VECTOR_COLUMN_BLOCK) {
+            int blockLength = Math.min(BATCH_VECTOR_COLUMN_BLOCK, columns - fromColumn);
+            for (int i = 0; i < rows; i++) {
+                int offset = i * columns + fromColumn;
+                for (int b = 0; b < vectors.length; b++) {
+                    results[b][i] += innerMul(matrix, offset, vectors[b], fromColumn, blockLength);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Computes A · B.
+     *
+     * @param a       A in row-major order.
+     * @param rows    rows of A.
+     * @param inner   columns of A, i.e., rows of B.
+     * @param b       B in row-major order.
+     * @param columns columns of B.
+     * @return A · B.
+     */
+    static int[] mul(int[] a, int rows, int inner, int[] b, int columns) {
+        int[] result = new int[rows * columns];
+        for (int fromInner = 0; fromInner < inner; fromInner += MATRIX_INNER_BLOCK) {
+            int toInner = Math.min(fromInner + MATRIX_INNER_BLOCK, inner);
+            for (int fromColumn = 0; fromColumn < columns; fromColumn += MATRIX_COLUMN_BLOCK) {
+                int blockLength = Math.min(MATRIX_COLUMN_BLOCK, columns - fromColumn);
+                // the panel B[fromInner, toInner) × [fromColumn, fromColumn + blockLength) stays in cache
+                for (int i = 0; i < rows; i++) {
+                    int resultOffset = i * columns + fromColumn;
+                    for (int k = fromInner; k < toInner; k++) {
+                        axpy(a[i * inner + k], b, k * columns + fromColumn, result, resultOffset, blockLength);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes A · B, where A contains unsigned bytes.
+     *
+     * @param a       A in row-major order.
+     * @param rows    rows of A.
+     * @param inner   columns of A, i.e., rows of B.
+     * @param b       B in row-major order.
+     * @param columns columns of B.
+     * @return A · B.
+     */
+    static int[] mul(byte[] a, int rows, int inner, int[] b, int columns) {
+        int[] result = new int[rows * columns];
+        for (int fromInner = 0; fromInner < inner; fromInner += MATRIX_INNER_BLOCK) {
+            int toInner = Math.min(fromInner + MATRIX_INNER_BLOCK, inner);
+            for (int fromColumn = 0; fromColumn < columns; fromColumn += MATRIX_COLUMN_BLOCK) {
+                int blockLength = Math.min(MATRIX_COLUMN_BLOCK, columns - fromColumn);
+                for (int i = 0; i < rows; i++) {
+                    int resultOffset = i * columns + fromColumn;
+                    for (int k = fromInner; k < toInner; k++) {
+                        axpy(a[i * inner + k] & BYTE_MASK, b, k * columns + fromColumn, result, resultOffset, blockLength);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes A · B, where B contains unsigned bytes.
+     *
+     * @param a       A in row-major order.
+     * @param rows    rows of A.
+     * @param inner   columns of A, i.e., rows of B.
+     * @param b       B in row-major order.
+     * @param columns columns of B.
+     * @return A · B.
+     */
+    static int[] mul(int[] a, int rows, int inner, byte[] b, int columns) {
+        int[] result = new int[rows * columns];
+        for (int fromInner = 0; fromInner < inner; fromInner += MATRIX_INNER_BLOCK) {
+            int toInner = Math.min(fromInner + MATRIX_INNER_BLOCK, inner);
+            for (int fromColumn = 0; fromColumn < columns; fromColumn += MATRIX_COLUMN_BLOCK) {
+                int blockLength = Math.min(MATRIX_COLUMN_BLOCK, columns - fromColumn);
+                for (int i = 0; i < rows; i++) {
+                    int resultOffset = i * columns + fromColumn;
+                    for (int k = fromInner; k < toInner; k++) {
+                        axpy(a[i * inner + k], b, k * columns + fromColumn, result, resultOffset, blockLength);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Transposes M.
+     *
+     * @param matrix  M in row-major order.
+     * @param rows    rows of M.
+     * @param columns columns of M.
+     * @return M^T in row-major order.
+     */
+    static int[] transpose(int[] matrix, int rows, int columns) {
+        int[] result = new int[rows * columns];
+        for (int fromRow = 0; fromRow < rows; fromRow += TRANSPOSE_BLOCK) {
+            int toRow = Math.min(fromRow + TRANSPOSE_BLOCK, rows);
+            for (int fromColumn = 0; fromColumn < columns; fromColumn += TRANSPOSE_BLOCK) {
+                int toColumn = Math.min(fromColumn + TRANSPOSE_BLOCK, columns);
+                for (int i = fromRow; i < toRow; i++) {
+                    for (int j = fromColumn; j < toColumn; j++) {
+                        result[j * rows + i] = matrix[i * columns + j];
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Transposes M, where M contains bytes.
+     *
+     * @param matrix  M in row-major order.
+     * @param rows    rows of M.
+     * @param columns columns of M.
+     * @return M^T in row-major order.
+     */
+    static byte[] transpose(byte[] matrix, int rows, int columns) {
+        byte[] result = new byte[rows * columns];
+        for (int fromRow = 0; fromRow < rows; fromRow += TRANSPOSE_BLOCK) {
+            int toRow = Math.min(fromRow + TRANSPOSE_BLOCK, rows);
+            for (int fromColumn = 0; fromColumn < columns; fromColumn += TRANSPOSE_BLOCK) {
+                int toColumn = Math.min(fromColumn + TRANSPOSE_BLOCK, columns);
+                for (int i = fromRow; i < toRow; i++) {
+                    for (int j = fromColumn; j < toColumn; j++) {
+                        result[j * rows + i] = matrix[i * columns + j];
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
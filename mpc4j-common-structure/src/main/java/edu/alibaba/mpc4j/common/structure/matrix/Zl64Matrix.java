@@ -17,6 +17,10 @@ import java.util.stream.IntStream;
  * @date 2023/5/23
  */
 public class Zl64Matrix implements LongRingMatrix {
+    /**
+     * inner dimension block size for matrix multiplications
+     */
+    private static final int MUL_INNER_BLOCK = 1 << 6;
     /**
      * Zl instance
      */
@@ -213,13 +217,21 @@ public class Zl64Matrix implements LongRingMatrix {
         }
         assert cols == that.rows;
         long[] element = new long[rows * that.cols];
-        IntStream.range(0, rows).forEach(i ->
-            IntStream.range(0, that.cols).forEach(j ->
-                IntStream.range(0, cols).forEach(l ->
-                    element[i * that.cols + j] = element[i * that.cols + j] + get(i, l) * that.get(l, j)
-                )
-            )
-        );
+        // i-l-j order with blocking on l, so that rows of that are scanned contiguously and stay in cache.
+        // Z_{2^l} operations are wrapping long operations followed by one modulus.
+        for (int fromL = 0; fromL < cols; fromL += MUL_INNER_BLOCK) {
+            int toL = Math.min(fromL + MUL_INNER_BLOCK, cols);
+            for (int i = 0; i < rows; i++) {
+                int resultOffset = i * that.cols;
+                for (int l = fromL; l < toL; l++) {
+                    long a = elements[i * cols + l];
+                    int thatOffset = l * that.cols;
+                    for (int j = 0; j < that.cols; j++) {
+                        element[resultOffset + j] += a * that.elements[thatOffset + j];
+                    }
+                }
+            }
+        }
         IntStream.range(0, rows * that.cols).forEach(i -> element[i] = zl64.module(element[i]));
         return Zl64Matrix.create(zl64, element, rows, that.cols);
     }
@@ -229,11 +241,15 @@ public class Zl64Matrix implements LongRingMatrix {
         assert cols == vector.getNum();
         Zl64Vector zl64Vector = (Zl64Vector) vector;
         long[] result = new long[rows];
-        IntStream.range(0, rows).forEach(rowIndex ->
-            IntStream.range(0, cols).forEach(colIndex ->
-                result[rowIndex] += get(rowIndex, colIndex) * zl64Vector.getElement(colIndex)
-            )
-        );
+        long[] vectorElements = zl64Vector.getElements();
+        for (int rowIndex = 0; rowIndex < rows; rowIndex++) {
+            int offset = rowIndex * cols;
+            long sum = 0L;
+            for (int colIndex = 0; colIndex < cols; colIndex++) {
+                sum += elements[offset + colIndex] * vectorElements[colIndex];
+            }
+            result[rowIndex] = sum;
+        }
         IntStream.range(0, rows).forEach(i -> result[i] = zl64.module(result[i]));
         return Zl64Vector.create(zl64, result);
     }
@@ -247,9 +263,15 @@ public class Zl64Matrix implements LongRingMatrix {
             return Zl64Matrix.create(zl64, elements, cols, 1);
         }
         Zl64Matrix transposedMatrix = Zl64Matrix.createZeros(zl64, cols, rows);
-        for (int i = 0; i < cols; i++) {
-            for (int j = 0; j < rows; j++) {
-                transposedMatrix.set(i, j, get(j, i));
+        for (int fromRow = 0; fromRow < rows; fromRow += IntMatrixUtils.TRANSPOSE_BLOCK) {
+            int toRow = Math.min(fromRow + IntMatrixUtils.TRANSPOSE_BLOCK, rows);
+            for (int fromColumn = 0; fromColumn < cols; fromColumn += IntMatrixUtils.TRANSPOSE_BLOCK) {
+                int toColumn = Math.min(fromColumn + IntMatrixUtils.TRANSPOSE_BLOCK, cols);
+                for (int i = fromRow; i < toRow; i++) {
+                    for (int j = fromColumn; j < toColumn; j++) {
+                        transposedMatrix.elements[j * rows + i] = elements[i * cols + j];
+                    }
+                }
             }
         }
         return transposedMatrix;
@@ -30,9 +30,22 @@ public class OkveHashUtils {
      * @return distinct positions.
      */
     public static <X> int[] distinctPositions(Prf hash, X key, int weight, int bound) {
+        return distinctPositions(hash, ObjectUtils.objectToByteArray(key), weight, bound);
+    }
+
+    /**
+     * Computes distinct positions for the key given in {@code byte[]}. The result is the same as
+     * {@link #distinctPositions(Prf, Object, int, int)} for a key whose {@code byte[]} representation is keyBytes.
+     *
+     * @param hash     hash.
+     * @param keyBytes key bytes.
+     * @param weight   number of outputs.
+     * @param bound    upper bound for the output range.
+     * @return distinct positions.
+     */
+    public static int[] distinctPositions(Prf hash, byte[] keyBytes, int weight, int bound) {
         assert hash.getOutputByteLength() == weight * Integer.BYTES;
         assert weight > 0 && weight <= bound;
-        byte[] keyBytes = ObjectUtils.objectToByteArray(key);
         int[] sparsePositions = IntUtils.byteArrayToIntArray(hash.getBytes(keyBytes));
         if (weight == 2) {
             sparsePositions[0] = Math.abs(sparsePositions[0] % bound);
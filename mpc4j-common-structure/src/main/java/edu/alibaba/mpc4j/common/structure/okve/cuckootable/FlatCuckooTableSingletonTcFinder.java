@@ -0,0 +1,159 @@
+package edu.alibaba.mpc4j.common.structure.okve.cuckootable;
+
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+
+import java.util.Arrays;
+
+/**
+ * Singleton 2-core finder for cuckoo tables stored in flat arrays. The i-th data is represented by its index i, and
+ * its vertices are vertices[i * hashNum], ..., vertices[i * hashNum + hashNum - 1]. Compared with
+ * {@link CuckooTableSingletonTcFinder}, this finder does not keep per-data maps or per-vertex sets. Each vertex only
+ * keeps its degree and the XOR of all its data indexes, so that the only data in a singleton vertex is exactly the
+ * XOR value.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class FlatCuckooTableSingletonTcFinder {
+    /**
+     * number of vertices
+     */
+    private final int numOfVertices;
+    /**
+     * number of hash functions
+     */
+    private final int hashNum;
+    /**
+     * number of removed data
+     */
+    private int removedDataNum;
+    /**
+     * removed data indexes, in the removal order
+     */
+    private int[] removedDataIndexes;
+    /**
+     * the singleton vertex for each removed data
+     */
+    private int[] removedDataSingletonVertices;
+    /**
+     * remained data indexes
+     */
+    private int[] remainedDataIndexes;
+
+    /**
+     * Creates a singleton 2-core finder.
+     *
+     * @param numOfVertices number of vertices.
+     * @param hashNum       number of hash functions.
+     */
+    public FlatCuckooTableSingletonTcFinder(int numOfVertices, int hashNum) {
+        MathPreconditions.checkPositive("numOfVertices", numOfVertices);
+        MathPreconditions.checkPositive("hashNum", hashNum);
+        this.numOfVertices = numOfVertices;
+        this.hashNum = hashNum;
+    }
+
+    /**
+     * Finds the 2-core graph.
+     *
+     * @param vertices vertices of all data in a flat array.
+     * @param dataNum  number of data.
+     */
+    public void findTwoCore(int[] vertices, int dataNum) {
+        MathPreconditions.checkEqual("vertices.length", "dataNum * hashNum", vertices.length, dataNum * hashNum);
+        int[] degrees = new int[numOfVertices];
+        int[] xorDataIndexes = new int[numOfVertices];
+        for (int dataIndex = 0; dataIndex < dataNum; dataIndex++) {
+            int offset = dataIndex * hashNum;
+            for (int hashIndex = 0; hashIndex < hashNum; hashIndex++) {
+                int vertex = vertices[offset + hashIndex];
+                assert vertex >= 0 && vertex < numOfVertices;
+                if (isFirstOccurrence(vertices, offset, hashIndex)) {
+                    degrees[vertex]++;
+                    xorDataIndexes[vertex] ^= dataIndex;
+                }
+            }
+        }
+        // a vertex is pushed only when its degree becomes 1, which happens at most once since degrees only decrease.
+        int[] singletonStack = new int[numOfVertices];
+        int stackSize = 0;
+        for (int vertex = 0; vertex < numOfVertices; vertex++) {
+            if (degrees[vertex] == 1) {
+                singletonStack[stackSize++] = vertex;
+            }
+        }
+        boolean[] removed = new boolean[dataNum];
+        removedDataIndexes = new int[dataNum];
+        removedDataSingletonVertices = new int[dataNum];
+        removedDataNum = 0;
+        while (stackSize > 0) {
+            int singletonVertex = singletonStack[--stackSize];
+            // the degree may become 0 if the last removal empties two singleton vertices
+            if (degrees[singletonVertex] == 1) {
+                int dataIndex = xorDataIndexes[singletonVertex];
+                int offset = dataIndex * hashNum;
+                for (int hashIndex = 0; hashIndex < hashNum; hashIndex++) {
+                    int vertex = vertices[offset + hashIndex];
+                    if (isFirstOccurrence(vertices, offset, hashIndex)) {
+                        degrees[vertex]--;
+                        xorDataIndexes[vertex] ^= dataIndex;
+                        if (degrees[vertex] == 1) {
+                            singletonStack[stackSize++] = vertex;
+                        }
+                    }
+                }
+                removed[dataIndex] = true;
+                removedDataIndexes[removedDataNum] = dataIndex;
+                removedDataSingletonVertices[removedDataNum] = singletonVertex;
+                removedDataNum++;
+            }
+        }
+        remainedDataIndexes = new int[dataNum - removedDataNum];
+        int remainedIndex = 0;
+        for (int dataIndex = 0; dataIndex < dataNum; dataIndex++) {
+            if (!removed[dataIndex]) {
+                remainedDataIndexes[remainedIndex++] = dataIndex;
+            }
+        }
+        removedDataIndexes = Arrays.copyOf(removedDataIndexes, removedDataNum);
+        removedDataSingletonVertices = Arrays.copyOf(removedDataSingletonVertices, removedDataNum);
+    }
+
+    private boolean isFirstOccurrence(int[] vertices, int offset, int hashIndex) {
+        int vertex = vertices[offset + hashIndex];
+        for (int previousIndex = 0; previousIndex < hashIndex; previousIndex++) {
+            if (vertices[offset + previousIndex] == vertex) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the remained data indexes, i.e., data in the 2-core graph.
+     *
+     * @return the remained data indexes.
+     */
+    public int[] getRemainedDataIndexes() {
+        return remainedDataIndexes;
+    }
+
+    /**
+     * Gets the removed data indexes in the removal order. Back-filling should be done in the reverse order.
+     *
+     * @return the removed data indexes.
+     */
+    public int[] getRemovedDataIndexes() {
+        return removedDataIndexes;
+    }
+
+    /**
+     * Gets the singleton vertex of each removed data when it was removed. When back-filling in the reverse order, the
+     * singleton vertex of the current data is not used by any data that has been back-filled.
+     *
+     * @return the singleton vertex of each removed data.
+     */
+    public int[] getRemovedDataSingletonVertices() {
+        return removedDataSingletonVertices;
+    }
+}
@@ -53,4 +53,16 @@ public class DistinctGbfUtils {
     public static <X> int[] sparsePositions(Prf hash, X key, int m) {
         return OkveHashUtils.distinctPositions(hash, key, SPARSE_HASH_NUM, m);
     }
+
+    /**
+     * Computes sparse positions for the key given in {@code byte[]}.
+     *
+     * @param hash     hash function.
+     * @param keyBytes key bytes.
+     * @param m        sparse position bound.
+     * @return sparse positions for the given key.
+     */
+    public static int[] sparsePositions(Prf hash, byte[] keyBytes, int m) {
+        return OkveHashUtils.distinctPositions(hash, keyBytes, SPARSE_HASH_NUM, m);
+    }
 }
@@ -105,6 +105,64 @@ abstract class AbstractGbfGf2eDokvs<T> extends AbstractGf2eDokvs<T> implements S
         return storage;
     }
 
+    /**
+     * Computes sparse positions for the key given in {@code byte[]}.
+     *
+     * @param keyBytes key bytes.
+     * @return sparse positions.
+     */
+    abstract int[] sparsePositionsFromBytes(byte[] keyBytes);
+
+    @Override
+    byte[][] encode(Gf2eDokvsKeys keys, byte[][] values, boolean doublyEncode) throws ArithmeticException {
+        checkEncodeInput(keys, values);
+        int num = keys.length();
+        int[][] sparsePositionsArray = new int[num][];
+        keys.forEach(parallelEncode, (keyBytes, index) ->
+            sparsePositionsArray[index] = sparsePositionsFromBytes(keyBytes)
+        );
+        // compute positions for all keys, create shares.
+        byte[][] storage = new byte[m][];
+        for (int index = 0; index < num; index++) {
+            byte[] finalShare = BytesUtils.clone(values[index]);
+            int emptySlot = -1;
+            for (int position : sparsePositionsArray[index]) {
+                if (storage[position] == null && emptySlot == -1) {
+                    emptySlot = position;
+                } else if (storage[position] == null) {
+                    storage[position] = BytesUtils.randomByteArray(byteL, l, secureRandom);
+                    BytesUtils.xori(finalShare, storage[position]);
+                } else {
+                    BytesUtils.xori(finalShare, storage[position]);
+                }
+            }
+            if (emptySlot == -1) {
+                throw new ArithmeticException("Failed to encode Key-Value Map, cannot find empty slot");
+            }
+            storage[emptySlot] = finalShare;
+        }
+        // pad random elements in all empty positions.
+        for (int i = 0; i < m; i++) {
+            if (storage[i] == null) {
+                storage[i] = BytesUtils.randomByteArray(byteL, l, secureRandom);
+            }
+        }
+        return storage;
+    }
+
+    @Override
+    void decode(byte[][] storage, Gf2eDokvsKeys keys, byte[][] values) {
+        MathPreconditions.checkEqual("storage.length", "m", storage.length, m);
+        MathPreconditions.checkEqual("keys.length", "values.length", keys.length(), values.length);
+        byte[] buffer = keys.createBuffer();
+        for (int index = 0; index < keys.length(); index++) {
+            byte[] value = resetDecodeValue(values, index);
+            for (int position : sparsePositionsFromBytes(keys.get(index, buffer))) {
+                BytesUtils.xori(value, storage[position]);
+            }
+        }
+    }
+
     @Override
     public byte[] decode(byte[][] storage, T key) {
         // here we do not verify bit length for each storage, otherwise decode would require O(n) computation.
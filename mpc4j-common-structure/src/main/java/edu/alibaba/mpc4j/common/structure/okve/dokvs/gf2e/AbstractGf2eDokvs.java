@@ -2,9 +2,11 @@ package edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e;
 
 import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
 
 import java.security.SecureRandom;
+import java.util.Arrays;
 
 /**
  * abstract GF(2^e)-DOKVS.
@@ -80,4 +82,75 @@ abstract class AbstractGf2eDokvs<T> implements Gf2eDokvs<T> {
     public int getL() {
         return l;
     }
+
+    @Override
+    public byte[][] encode(byte[][] keys, byte[][] values, boolean doublyEncode) throws ArithmeticException {
+        return encode(Gf2eDokvsKeys.of(keys), values, doublyEncode);
+    }
+
+    @Override
+    public byte[][] encode(long[] keys, byte[][] values, boolean doublyEncode) throws ArithmeticException {
+        return encode(Gf2eDokvsKeys.of(keys), values, doublyEncode);
+    }
+
+    /**
+     * Encodes key-value pairs given in parallel arrays.
+     *
+     * @param keys         keys.
+     * @param values       values.
+     * @param doublyEncode encode with doubly obliviousness.
+     * @return encoded storage.
+     * @throws ArithmeticException if we cannot finish encoding.
+     */
+    abstract byte[][] encode(Gf2eDokvsKeys keys, byte[][] values, boolean doublyEncode) throws ArithmeticException;
+
+    @Override
+    public void decode(byte[][] storage, byte[][] keys, byte[][] values) {
+        decode(storage, Gf2eDokvsKeys.of(keys), values);
+    }
+
+    @Override
+    public void decode(byte[][] storage, long[] keys, byte[][] values) {
+        decode(storage, Gf2eDokvsKeys.of(keys), values);
+    }
+
+    /**
+     * Decodes keys in batch.
+     *
+     * @param storage encoded storage.
+     * @param keys    keys.
+     * @param values  decoded values.
+     */
+    abstract void decode(byte[][] storage, Gf2eDokvsKeys keys, byte[][] values);
+
+    /**
+     * Checks key-value pairs given in parallel arrays.
+     *
+     * @param keys   keys.
+     * @param values values.
+     */
+    protected void checkEncodeInput(Gf2eDokvsKeys keys, byte[][] values) {
+        MathPreconditions.checkEqual("keys.length", "values.length", keys.length(), values.length);
+        MathPreconditions.checkLessOrEqual("key-value size", keys.length(), n);
+        for (byte[] value : values) {
+            Preconditions.checkArgument(BytesUtils.isFixedReduceByteArray(value, byteL, l));
+        }
+    }
+
+    /**
+     * Gets the zero-filled values[index] for decoding. If values[index] is null, a new array is allocated.
+     *
+     * @param values values.
+     * @param index  index.
+     * @return values[index].
+     */
+    protected byte[] resetDecodeValue(byte[][] values, int index) {
+        if (values[index] == null) {
+            values[index] = new byte[byteL];
+        } else {
+            MathPreconditions.checkEqual("values[i].length", "byteL", values[index].length, byteL);
+            Arrays.fill(values[index], (byte) 0);
+        }
+        return values[index];
+    }
 }
@@ -14,6 +14,7 @@ import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
 
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -82,6 +83,50 @@ abstract class AbstractH2ClusterBlazeGctGf2eDokvs<T> extends AbstractGf2eDokvs<T
             .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /**
+     * Splits key-value pairs given in parallel arrays into bins and encodes each bin.
+     *
+     * @param keys         keys.
+     * @param values       values.
+     * @param doublyEncode encode with doubly obliviousness.
+     * @return encoded storage for each bin.
+     * @throws ArithmeticException if we cannot finish encoding.
+     */
+    protected byte[][][] encodeBins(Gf2eDokvsKeys keys, byte[][] values, boolean doublyEncode)
+        throws ArithmeticException {
+        checkEncodeInput(keys, values);
+        int num = keys.length();
+        // compute bin indexes
+        int[] binIndexes = new int[num];
+        keys.forEach(parallelEncode, (keyBytes, index) -> binIndexes[index] = binHash.getInteger(keyBytes, binNum));
+        // split bins
+        int[] binSizes = new int[binNum];
+        for (int binIndex : binIndexes) {
+            binSizes[binIndex]++;
+        }
+        int[][] binKeyIndexes = new int[binNum][];
+        byte[][][] binValues = new byte[binNum][][];
+        for (int binIndex = 0; binIndex < binNum; binIndex++) {
+            binKeyIndexes[binIndex] = new int[binSizes[binIndex]];
+            binValues[binIndex] = new byte[binSizes[binIndex]][];
+        }
+        Arrays.fill(binSizes, 0);
+        for (int index = 0; index < num; index++) {
+            int binIndex = binIndexes[index];
+            binKeyIndexes[binIndex][binSizes[binIndex]] = index;
+            binValues[binIndex][binSizes[binIndex]] = values[index];
+            binSizes[binIndex]++;
+        }
+        // encode
+        IntStream binIndexIntStream = IntStream.range(0, binNum);
+        binIndexIntStream = parallelEncode ? binIndexIntStream.parallel() : binIndexIntStream;
+        return binIndexIntStream
+            .mapToObj(binIndex -> bins.get(binIndex).encode(
+                keys.select(binKeyIndexes[binIndex]), binValues[binIndex], doublyEncode
+            ))
+            .toArray(byte[][][]::new);
+    }
+
     @Override
     public int maxPositionNum() {
         return H2ClusterBlazeGctDokvsUtils.SPARSE_HASH_NUM + binNum * binRm;
@@ -70,6 +70,10 @@ abstract class AbstractH3GctGf2eDokvs<T> extends AbstractGf2eDokvs<T> implements
      * binary linear solver
      */
     private final BinaryLinearSolver linearSolver;
+    /**
+     * encoder for key-value pairs given in flat arrays
+     */
+    private final FlatGctGf2eDokvsEncoder flatEncoder;
     /**
      * key -> h1
      */
@@ -98,6 +102,7 @@ abstract class AbstractH3GctGf2eDokvs<T> extends AbstractGf2eDokvs<T> implements
         hr.setKey(keys[1]);
         singletonTcFinder = new CuckooTableSingletonTcFinder<>();
         linearSolver = new BinaryLinearSolver(l, secureRandom);
+        flatEncoder = new FlatGctGf2eDokvsEncoder(lm, rm, H3GctDokvsUtils.SPARSE_HASH_NUM, l, linearSolver, secureRandom);
     }
 
     @Override
@@ -146,6 +151,56 @@ abstract class AbstractH3GctGf2eDokvs<T> extends AbstractGf2eDokvs<T> implements
         return value;
     }
 
+    @Override
+    void decode(byte[][] storage, Gf2eDokvsKeys keys, byte[][] values) {
+        MathPreconditions.checkEqual("storage.length", "m", storage.length, m);
+        MathPreconditions.checkEqual("keys.length", "values.length", keys.length(), values.length);
+        byte[] buffer = keys.createBuffer();
+        for (int index = 0; index < keys.length(); index++) {
+            decode(storage, 0, lm, keys.get(index, buffer), resetDecodeValue(values, index));
+        }
+    }
+
+    /**
+     * Decodes the key given in {@code byte[]} and XORs the result into the value. The sparse part starts from
+     * sparseOffset and the dense part starts from denseOffset in the storage.
+     *
+     * @param storage      storage.
+     * @param sparseOffset offset of the sparse part.
+     * @param denseOffset  offset of the dense part.
+     * @param keyBytes     key bytes.
+     * @param value        value.
+     */
+    void decode(byte[][] storage, int sparseOffset, int denseOffset, byte[] keyBytes, byte[] value) {
+        int[] sparsePositions = H3GctDokvsUtils.sparsePositions(hl, keyBytes, lm);
+        for (int sparsePosition : sparsePositions) {
+            BytesUtils.xori(value, storage[sparseOffset + sparsePosition]);
+        }
+        byte[] densePositions = hr.getBytes(keyBytes);
+        for (int rmIndex = 0; rmIndex < rm; rmIndex++) {
+            if (BinaryUtils.getBoolean(densePositions, rmIndex)) {
+                BytesUtils.xori(value, storage[denseOffset + rmIndex]);
+            }
+        }
+    }
+
+    @Override
+    byte[][] encode(Gf2eDokvsKeys keys, byte[][] values, boolean doublyEncode) throws ArithmeticException {
+        checkEncodeInput(keys, values);
+        int num = keys.length();
+        int sparseNum = H3GctDokvsUtils.SPARSE_HASH_NUM;
+        int byteRm = rm / Byte.SIZE;
+        // compute positions for all keys in flat arrays
+        int[] flatSparsePositions = new int[num * sparseNum];
+        byte[] flatDensePositions = new byte[num * byteRm];
+        keys.forEach(parallelEncode, (keyBytes, index) -> {
+            int[] sparsePositions = H3GctDokvsUtils.sparsePositions(hl, keyBytes, lm);
+            System.arraycopy(sparsePositions, 0, flatSparsePositions, index * sparseNum, sparseNum);
+            System.arraycopy(hr.getBytes(keyBytes), 0, flatDensePositions, index * byteRm, byteRm);
+        });
+        return flatEncoder.encode(flatSparsePositions, flatDensePositions, values, doublyEncode);
+    }
+
     @Override
     public byte[][] encode(Map<T, byte[]> keyValueMap, boolean doublyEncode) throws ArithmeticException {
         MathPreconditions.checkLessOrEqual("key-value size", keyValueMap.size(), n);
@@ -36,6 +36,11 @@ public class DistinctGbfGf2eDokvs<T> extends AbstractGbfGf2eDokvs<T> {
         return DistinctGbfUtils.sparsePositions(hash, key, m);
     }
 
+    @Override
+    int[] sparsePositionsFromBytes(byte[] keyBytes) {
+        return DistinctGbfUtils.sparsePositions(hash, keyBytes, m);
+    }
+
     @Override
     public Gf2eDokvsFactory.Gf2eDokvsType getType() {
         return Gf2eDokvsFactory.Gf2eDokvsType.DISTINCT_GBF;
@@ -0,0 +1,253 @@
+package edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e;
+
+import cc.redberry.rings.linear.LinearSolver;
+import edu.alibaba.mpc4j.common.structure.okve.cuckootable.FlatCuckooTableSingletonTcFinder;
+import edu.alibaba.mpc4j.common.structure.okve.tool.BinaryLinearSolver;
+import edu.alibaba.mpc4j.common.tool.utils.BinaryUtils;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * GF(2^e)-DOKVS encoder for garbled cuckoo tables whose positions are given in flat arrays. The i-th key-value pair
+ * is represented by its index i, with sparse positions sparsePositions[i * sparseNum + j] in [0, lm), dense positions
+ * given by bits [i * rm, (i + 1) * rm) of densePositions, and value values[i]. No per-key map is created.
+ * <p>
+ * The 2-core graph is found by {@link FlatCuckooTableSingletonTcFinder}. Removed key-value pairs are back-filled in the
+ * reverse removal order, with the solution placed in its singleton vertex.
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class FlatGctGf2eDokvsEncoder {
+    /**
+     * left m, i.e., sparse part.
+     */
+    private final int lm;
+    /**
+     * right m, i.e., dense part.
+     */
+    private final int rm;
+    /**
+     * m = lm + rm
+     */
+    private final int m;
+    /**
+     * m in byte
+     */
+    private final int byteM;
+    /**
+     * number of sparse positions
+     */
+    private final int sparseNum;
+    /**
+     * bit length of values
+     */
+    private final int l;
+    /**
+     * l in byte
+     */
+    private final int byteL;
+    /**
+     * binary linear solver
+     */
+    private final BinaryLinearSolver linearSolver;
+    /**
+     * random state
+     */
+    private final SecureRandom secureRandom;
+
+    FlatGctGf2eDokvsEncoder(int lm, int rm, int sparseNum, int l, BinaryLinearSolver linearSolver, SecureRandom secureRandom) {
+        this.lm = lm;
+        this.rm = rm;
+        m = lm + rm;
+        byteM = CommonUtils.getByteLength(m);
+        this.sparseNum = sparseNum;
+        this.l = l;
+        byteL = CommonUtils.getByteLength(l);
+        this.linearSolver = linearSolver;
+        this.secureRandom = secureRandom;
+    }
+
+    /**
+     * Encodes key-value pairs.
+     *
+     * @param sparsePositions sparse positions of all keys in a flat array.
+     * @param densePositions  dense positions of all keys in a flat bit array.
+     * @param values          values.
+     * @param doublyEncode    encode with doubly obliviousness.
+     * @return encoded storage.
+     * @throws ArithmeticException if we cannot finish encoding.
+     */
+    byte[][] encode(int[] sparsePositions, byte[] densePositions, byte[][] values, boolean doublyEncode)
+        throws ArithmeticException {
+        int num = values.length;
+        assert sparsePositions.length == num * sparseNum;
+        assert densePositions.length * Byte.SIZE == num * rm;
+        // find two-core graph
+        FlatCuckooTableSingletonTcFinder tcFinder = new FlatCuckooTableSingletonTcFinder(lm, sparseNum);
+        tcFinder.findTwoCore(sparsePositions, num);
+        int[] coreIndexes = tcFinder.getRemainedDataIndexes();
+        byte[][] storage = doublyEncode
+            ? generateDoublyStorage(sparsePositions, densePositions, values, coreIndexes)
+            : generateFreeStorage(sparsePositions, densePositions, values, coreIndexes);
+        // back-fill
+        int[] removedIndexes = tcFinder.getRemovedDataIndexes();
+        int[] removedSingletonVertices = tcFinder.getRemovedDataSingletonVertices();
+        for (int removedIndex = removedIndexes.length - 1; removedIndex >= 0; removedIndex--) {
+            int index = removedIndexes[removedIndex];
+            int singletonVertex = removedSingletonVertices[removedIndex];
+            if (storage[singletonVertex] != null) {
+                throw new IllegalStateException("singleton vertex " + singletonVertex + " of the " + index + "-th key is full, error");
+            }
+            byte[] innerProduct = BytesUtils.clone(values[index]);
+            int denseOffset = index * rm;
+            for (int rmIndex = 0; rmIndex < rm; rmIndex++) {
+                if (BinaryUtils.getBoolean(densePositions, denseOffset + rmIndex)) {
+                    BytesUtils.xori(innerProduct, storage[lm + rmIndex]);
+                }
+            }
+            int sparseOffset = index * sparseNum;
+            for (int sparseIndex = 0; sparseIndex < sparseNum; sparseIndex++) {
+                int vertex = sparsePositions[sparseOffset + sparseIndex];
+                if (vertex != singletonVertex) {
+                    if (storage[vertex] == null) {
+                        storage[vertex] = BytesUtils.randomByteArray(byteL, l, secureRandom);
+                    }
+                    BytesUtils.xori(innerProduct, storage[vertex]);
+                }
+            }
+            storage[singletonVertex] = innerProduct;
+        }
+        // fill randomness in the left part
+        for (int vertex = 0; vertex < lm; vertex++) {
+            if (storage[vertex] == null) {
+                storage[vertex] = doublyEncode ? BytesUtils.randomByteArray(byteL, l, secureRandom) : new byte[byteL];
+            }
+        }
+        return storage;
+    }
+
+    private byte[][] generateDoublyStorage(int[] sparsePositions, byte[] densePositions, byte[][] values,
+                                           int[] coreIndexes) {
+        byte[][] storage = new byte[m][];
+        // Let d˜ = |R| and abort if d˜ > d + rm
+        int dTilde = coreIndexes.length;
+        if (dTilde == 0) {
+            // d˜ = 0, we do not need to solve equations, fill random variables.
+            for (int index = lm; index < m; index++) {
+                storage[index] = BytesUtils.randomByteArray(byteL, l, secureRandom);
+            }
+            return storage;
+        }
+        // construct the vertex -> index map
+        int[] coreVertexMap = new int[lm];
+        Arrays.fill(coreVertexMap, -1);
+        int[] coreVertexArray = new int[Math.min(lm, dTilde * sparseNum)];
+        int d = 0;
+        for (int coreIndex : coreIndexes) {
+            for (int sparseIndex = 0; sparseIndex < sparseNum; sparseIndex++) {
+                int vertex = sparsePositions[coreIndex * sparseNum + sparseIndex];
+                if (coreVertexMap[vertex] < 0) {
+                    coreVertexMap[vertex] = d;
+                    coreVertexArray[d] = vertex;
+                    d++;
+                }
+            }
+        }
+        if (dTilde > d + rm) {
+            throw new ArithmeticException("|d˜| = " + dTilde + ", d + rm = " + (d + rm) + " no solutions");
+        }
+        // Let M˜' ∈ {0, 1}^{d˜ × (d + rm)} be the sub-matrix of M˜ obtained by taking the row indexed by R.
+        int columnTildeBytes = CommonUtils.getByteLength(d + rm);
+        int columnTildeOffset = columnTildeBytes * Byte.SIZE - (d + rm);
+        byte[][] tildePrimeMatrix = new byte[dTilde][columnTildeBytes];
+        byte[][] vectorY = new byte[dTilde][];
+        for (int rowIndex = 0; rowIndex < dTilde; rowIndex++) {
+            int coreIndex = coreIndexes[rowIndex];
+            for (int sparseIndex = 0; sparseIndex < sparseNum; sparseIndex++) {
+                int vertex = sparsePositions[coreIndex * sparseNum + sparseIndex];
+                BinaryUtils.setBoolean(tildePrimeMatrix[rowIndex], columnTildeOffset + coreVertexMap[vertex], true);
+            }
+            for (int rmIndex = 0; rmIndex < rm; rmIndex++) {
+                boolean dense = BinaryUtils.getBoolean(densePositions, coreIndex * rm + rmIndex);
+                BinaryUtils.setBoolean(tildePrimeMatrix[rowIndex], columnTildeOffset + d + rmIndex, dense);
+            }
+            vectorY[rowIndex] = BytesUtils.clone(values[coreIndex]);
+        }
+        // Using Gaussian elimination solve the system
+        // M˜* (P_{m' + C_1}, ..., P_{m' + C_{d˜})^T = (v'_{R_1}, ..., v'_{R_{d˜})^T.
+        byte[][] vectorX = new byte[d + rm][];
+        LinearSolver.SystemInfo systemInfo = linearSolver.fullSolve(tildePrimeMatrix, d + rm, vectorY, vectorX);
+        if (!systemInfo.equals(LinearSolver.SystemInfo.Consistent)) {
+            throw new ArithmeticException("There is no solution, the linear system does not have full rank");
+        }
+        // update the result into the storage
+        for (int iRow = 0; iRow < d; iRow++) {
+            storage[coreVertexArray[iRow]] = BytesUtils.clone(vectorX[iRow]);
+        }
+        for (int rmIndex = 0; rmIndex < rm; rmIndex++) {
+            storage[lm + rmIndex] = BytesUtils.clone(vectorX[d + rmIndex]);
+        }
+        return storage;
+    }
+
+    private byte[][] generateFreeStorage(int[] sparsePositions, byte[] densePositions, byte[][] values,
+                                         int[] coreIndexes) {
+        byte[][] storage = new byte[m][];
+        int dTilde = coreIndexes.length;
+        if (dTilde == 0) {
+            // d˜ = 0, we do not need to solve equations, fill 0 variables
+            for (int index = lm; index < m; index++) {
+                storage[index] = new byte[byteL];
+            }
+            return storage;
+        }
+        // Let d˜ = |R| and abort if d˜ > d + rm
+        boolean[] coreVertices = new boolean[lm];
+        int d = 0;
+        for (int coreIndex : coreIndexes) {
+            for (int sparseIndex = 0; sparseIndex < sparseNum; sparseIndex++) {
+                int vertex = sparsePositions[coreIndex * sparseNum + sparseIndex];
+                if (!coreVertices[vertex]) {
+                    coreVertices[vertex] = true;
+                    d++;
+                }
+            }
+        }
+        if (dTilde > d + rm) {
+            throw new ArithmeticException("|d˜| = " + dTilde + ", d + rm = " + (d + rm) + " no solutions");
+        }
+        // we need to solve equations
+        byte[][] matrixM = new byte[dTilde][byteM];
+        byte[][] vectorX = new byte[m][];
+        byte[][] vectorY = new byte[dTilde][];
+        for (int rowIndex = 0; rowIndex < dTilde; rowIndex++) {
+            int coreIndex = coreIndexes[rowIndex];
+            for (int sparseIndex = 0; sparseIndex < sparseNum; sparseIndex++) {
+                BinaryUtils.setBoolean(matrixM[rowIndex], sparsePositions[coreIndex * sparseNum + sparseIndex], true);
+            }
+            for (int rmIndex = 0; rmIndex < rm; rmIndex++) {
+                boolean dense = BinaryUtils.getBoolean(densePositions, coreIndex * rm + rmIndex);
+                BinaryUtils.setBoolean(matrixM[rowIndex], lm + rmIndex, dense);
+            }
+            vectorY[rowIndex] = BytesUtils.clone(values[coreIndex]);
+        }
+        LinearSolver.SystemInfo systemInfo = linearSolver.freeSolve(matrixM, m, vectorY, vectorX);
+        if (!systemInfo.equals(LinearSolver.SystemInfo.Consistent)) {
+            throw new ArithmeticException("There is no solution, the linear system does not have full rank");
+        }
+        for (int vertex = 0; vertex < lm; vertex++) {
+            if (coreVertices[vertex]) {
+                // set left part
+                storage[vertex] = BytesUtils.clone(vectorX[vertex]);
+            }
+        }
+        // set right part
+        System.arraycopy(vectorX, lm, storage, lm, rm);
+        return storage;
+    }
+}
@@ -60,6 +60,52 @@ public interface Gf2eDokvs<T> {
      */
     byte[] decode(byte[][] storage, T key);
 
+    /**
+     * Encodes key-value pairs given in parallel arrays, i.e., (keys[i], values[i]) is the i-th key-value pair. Keys
+     * are hashed in the same way as the {@code byte[]} representation of T, so that the encoded storage can also be
+     * decoded by {@link #decode(byte[][], Object)} with keys whose {@code byte[]} representations are keys[i]. No
+     * per-key map is created. All keys must be distinct.
+     *
+     * @param keys         keys.
+     * @param values       values.
+     * @param doublyEncode encode with doubly obliviousness.
+     * @return encoded storage.
+     * @throws ArithmeticException if we cannot finish encoding.
+     */
+    byte[][] encode(byte[][] keys, byte[][] values, boolean doublyEncode) throws ArithmeticException;
+
+    /**
+     * Encodes key-value pairs with {@code long} keys given in parallel arrays. The encoded storage can also be decoded
+     * by {@link #decode(byte[][], Object)} with {@code Long} keys. All keys must be distinct.
+     *
+     * @param keys         keys.
+     * @param values       values.
+     * @param doublyEncode encode with doubly obliviousness.
+     * @return encoded storage.
+     * @throws ArithmeticException if we cannot finish encoding.
+     */
+    byte[][] encode(long[] keys, byte[][] values, boolean doublyEncode) throws ArithmeticException;
+
+    /**
+     * Decodes keys in batch. The i-th decoded value is written into values[i]. If values[i] is null, a new array is
+     * allocated; otherwise, values[i] is reused and must have the byte length of values.
+     *
+     * @param storage encoded storage.
+     * @param keys    keys.
+     * @param values  decoded values.
+     */
+    void decode(byte[][] storage, byte[][] keys, byte[][] values);
+
+    /**
+     * Decodes {@code long} keys in batch. The i-th decoded value is written into values[i]. If values[i] is null, a new
+     * array is allocated; otherwise, values[i] is reused and must have the byte length of values.
+     *
+     * @param storage encoded storage.
+     * @param keys    keys.
+     * @param values  decoded values.
+     */
+    void decode(byte[][] storage, long[] keys, byte[][] values);
+
     /**
      * Gets the number of keys to encode.
      *
@@ -0,0 +1,166 @@
+package edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e;
+
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * keys of GF(2^e)-DOKVS given in an array. Each key is read as {@code byte[]} into a buffer, so that {@code long} keys
+ * are kept in one flat buffer and are hashed without allocating a {@code byte[]} for each key.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+abstract class Gf2eDokvsKeys {
+    /**
+     * number of keys in one block, keys in one block share one buffer
+     */
+    private static final int BLOCK_SIZE = 1 << 10;
+
+    /**
+     * Creates keys given in {@code byte[][]}.
+     *
+     * @param keys keys.
+     * @return keys.
+     */
+    static Gf2eDokvsKeys of(byte[][] keys) {
+        return new BytesKeys(keys);
+    }
+
+    /**
+     * Creates keys given in {@code long[]}. The i-th key is read as the big-endian {@code byte[]} of keys[i], which is
+     * the same as the {@code byte[]} representation of {@code Long}.
+     *
+     * @param keys keys.
+     * @return keys.
+     */
+    static Gf2eDokvsKeys of(long[] keys) {
+        byte[] flatKeys = new byte[keys.length * Long.BYTES];
+        ByteBuffer.wrap(flatKeys).asLongBuffer().put(keys);
+        return new LongKeys(flatKeys);
+    }
+
+    /**
+     * Gets the number of keys.
+     *
+     * @return the number of keys.
+     */
+    abstract int length();
+
+    /**
+     * Creates a buffer for reading keys. A buffer can be reused, but cannot be shared among threads.
+     *
+     * @return a buffer.
+     */
+    abstract byte[] createBuffer();
+
+    /**
+     * Gets the key in {@code byte[]}. The result might be the buffer, so it is valid only until the buffer is reused.
+     *
+     * @param index  index.
+     * @param buffer buffer created by {@link #createBuffer()}.
+     * @return the key in {@code byte[]}.
+     */
+    abstract byte[] get(int index, byte[] buffer);
+
+    /**
+     * Selects keys with the given indexes.
+     *
+     * @param indexes indexes.
+     * @return selected keys.
+     */
+    abstract Gf2eDokvsKeys select(int[] indexes);
+
+    /**
+     * Performs the action for each key, with the key in {@code byte[]} and its index. Keys are split into blocks, each
+     * block reuses one buffer, and blocks are processed in parallel if parallel is set. The key in {@code byte[]} is
+     * valid only in the action.
+     *
+     * @param parallel parallel.
+     * @param action   action.
+     */
+    void forEach(boolean parallel, ObjIntConsumer<byte[]> action) {
+        int num = length();
+        int blockNum = CommonUtils.getUnitNum(num, BLOCK_SIZE);
+        IntStream blockIndexIntStream = IntStream.range(0, blockNum);
+        blockIndexIntStream = parallel ? blockIndexIntStream.parallel() : blockIndexIntStream;
+        blockIndexIntStream.forEach(blockIndex -> {
+            byte[] buffer = createBuffer();
+            int from = blockIndex * BLOCK_SIZE;
+            int to = Math.min(from + BLOCK_SIZE, num);
+            for (int index = from; index < to; index++) {
+                action.accept(get(index, buffer), index);
+            }
+        });
+    }
+
+    private static class BytesKeys extends Gf2eDokvsKeys {
+        /**
+         * keys
+         */
+        private final byte[][] keys;
+
+        private BytesKeys(byte[][] keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        int length() {
+            return keys.length;
+        }
+
+        @Override
+        byte[] createBuffer() {
+            return null;
+        }
+
+        @Override
+        byte[] get(int index, byte[] buffer) {
+            return keys[index];
+        }
+
+        @Override
+        Gf2eDokvsKeys select(int[] indexes) {
+            return new BytesKeys(Arrays.stream(indexes).mapToObj(index -> keys[index]).toArray(byte[][]::new));
+        }
+    }
+
+    private static class LongKeys extends Gf2eDokvsKeys {
+        /**
+         * keys in one flat buffer, the i-th key is in [i * Long.BYTES, (i + 1) * Long.BYTES)
+         */
+        private final byte[] flatKeys;
+
+        private LongKeys(byte[] flatKeys) {
+            this.flatKeys = flatKeys;
+        }
+
+        @Override
+        int length() {
+            return flatKeys.length / Long.BYTES;
+        }
+
+        @Override
+        byte[] createBuffer() {
+            return new byte[Long.BYTES];
+        }
+
+        @Override
+        byte[] get(int index, byte[] buffer) {
+            System.arraycopy(flatKeys, index * Long.BYTES, buffer, 0, Long.BYTES);
+            return buffer;
+        }
+
+        @Override
+        Gf2eDokvsKeys select(int[] indexes) {
+            byte[] selectFlatKeys = new byte[indexes.length * Long.BYTES];
+            for (int i = 0; i < indexes.length; i++) {
+                System.arraycopy(flatKeys, indexes[i] * Long.BYTES, selectFlatKeys, i * Long.BYTES, Long.BYTES);
+            }
+            return new LongKeys(selectFlatKeys);
+        }
+    }
+}
@@ -74,6 +74,26 @@ class H2NaiveClusterBlazeGctGf2eDokvs<T> extends AbstractH2ClusterBlazeGctGf2eDo
             .toArray(byte[][]::new);
     }
 
+    @Override
+    byte[][] encode(Gf2eDokvsKeys keys, byte[][] values, boolean doublyEncode) throws ArithmeticException {
+        return Arrays.stream(encodeBins(keys, values, doublyEncode))
+            .flatMap(Arrays::stream)
+            .toArray(byte[][]::new);
+    }
+
+    @Override
+    void decode(byte[][] storage, Gf2eDokvsKeys keys, byte[][] values) {
+        MathPreconditions.checkEqual("storage.length", "m", storage.length, m);
+        MathPreconditions.checkEqual("keys.length", "values.length", keys.length(), values.length);
+        byte[] buffer = keys.createBuffer();
+        for (int index = 0; index < keys.length(); index++) {
+            byte[] keyBytes = keys.get(index, buffer);
+            int binIndex = binHash.getInteger(keyBytes, binNum);
+            int binOffset = binIndex * binM;
+            bins.get(binIndex).decode(storage, binOffset, binOffset + binLm, keyBytes, resetDecodeValue(values, index));
+        }
+    }
+
     @Override
     public byte[] decode(byte[][] storage, T key) {
         // here we do not verify bit length for each storage, otherwise decode would require O(n) computation.
@@ -104,8 +104,16 @@ class H2SparseClusterBlazeGctGf2eDokvs<T> extends AbstractH2ClusterBlazeGctGf2eD
         byte[][][] naiveStorage = binIndexIntStream
             .mapToObj(binIndex -> bins.get(binIndex).encode(keyValueMaps.get(binIndex), doublyEncode))
             .toArray(byte[][][]::new);
-        // rearrange storage
-        byte[][] sparseStorage = new byte[binNum * binM][byteL];
+        return rearrange(naiveStorage);
+    }
+
+    @Override
+    byte[][] encode(Gf2eDokvsKeys keys, byte[][] values, boolean doublyEncode) throws ArithmeticException {
+        return rearrange(encodeBins(keys, values, doublyEncode));
+    }
+
+    private byte[][] rearrange(byte[][][] naiveStorage) {
+        byte[][] sparseStorage = new byte[binNum * binM][];
         for (int binIndex = 0; binIndex < binNum; binIndex++) {
             // copy sparse positions
             System.arraycopy(naiveStorage[binIndex], 0, sparseStorage, binLm * binIndex, binLm);
@@ -115,6 +123,20 @@ class H2SparseClusterBlazeGctGf2eDokvs<T> extends AbstractH2ClusterBlazeGctGf2eD
         return sparseStorage;
     }
 
+    @Override
+    void decode(byte[][] storage, Gf2eDokvsKeys keys, byte[][] values) {
+        MathPreconditions.checkEqual("storage.length", "m", storage.length, m);
+        MathPreconditions.checkEqual("keys.length", "values.length", keys.length(), values.length);
+        byte[] buffer = keys.createBuffer();
+        for (int index = 0; index < keys.length(); index++) {
+            byte[] keyBytes = keys.get(index, buffer);
+            int binIndex = binHash.getInteger(keyBytes, binNum);
+            bins.get(binIndex).decode(
+                storage, binLm * binIndex, binLm * binNum + binRm * binIndex, keyBytes, resetDecodeValue(values, index)
+            );
+        }
+    }
+
     @Override
     public byte[] decode(byte[][] storage, T key) {
         // here we do not verify bit length for each storage, otherwise decode would require O(n) computation.
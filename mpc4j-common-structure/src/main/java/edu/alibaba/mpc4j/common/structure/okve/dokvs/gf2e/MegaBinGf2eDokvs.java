@@ -232,6 +232,89 @@ public class MegaBinGf2eDokvs<T> implements Gf2eDokvs<T> {
         return gf2ePoly.evaluate(coefficients, hashKey);
     }
 
+    @Override
+    public byte[][] encode(byte[][] keys, byte[][] values, boolean doublyEncode) throws ArithmeticException {
+        return encode(Gf2eDokvsKeys.of(keys), values, doublyEncode);
+    }
+
+    @Override
+    public byte[][] encode(long[] keys, byte[][] values, boolean doublyEncode) throws ArithmeticException {
+        return encode(Gf2eDokvsKeys.of(keys), values, doublyEncode);
+    }
+
+    private byte[][] encode(Gf2eDokvsKeys keys, byte[][] values, boolean doublyEncode) throws ArithmeticException {
+        MathPreconditions.checkEqual("keys.length", "values.length", keys.length(), values.length);
+        MathPreconditions.checkLessOrEqual("key-value size", keys.length(), n);
+        int num = keys.length();
+        // compute hash keys and bin indexes
+        byte[][] hashKeys = new byte[num][];
+        int[] binIndexes = new int[num];
+        keys.forEach(parallelEncode, (keyBytes, index) -> {
+            hashKeys[index] = hm.getBytes(keyBytes);
+            BytesUtils.reduceByteArray(hashKeys[index], l);
+            binIndexes[index] = binHash.getInteger(hashKeys[index], binNum);
+        });
+        // place each element into the bin and verify each bin
+        int[] binSizes = new int[binNum];
+        for (int binIndex : binIndexes) {
+            binSizes[binIndex]++;
+            if (binSizes[binIndex] > binSize) {
+                throw new ArithmeticException(String.format("bin[%s] exceeds max bin size", binIndex));
+            }
+        }
+        byte[][][] xArrays = new byte[binNum][][];
+        byte[][][] yArrays = new byte[binNum][][];
+        for (int binIndex = 0; binIndex < binNum; binIndex++) {
+            xArrays[binIndex] = new byte[binSizes[binIndex]][];
+            yArrays[binIndex] = new byte[binSizes[binIndex]][];
+        }
+        Arrays.fill(binSizes, 0);
+        for (int index = 0; index < num; index++) {
+            int binIndex = binIndexes[index];
+            assert BytesUtils.isFixedReduceByteArray(values[index], byteL, l);
+            xArrays[binIndex][binSizes[binIndex]] = hashKeys[index];
+            yArrays[binIndex][binSizes[binIndex]] = values[index];
+            binSizes[binIndex]++;
+        }
+        // polynomial interpolation for each bin
+        IntStream binIndexIntStream = IntStream.range(0, binNum);
+        binIndexIntStream = parallelEncode ? binIndexIntStream.parallel() : binIndexIntStream;
+        return binIndexIntStream
+            .mapToObj(binIndex -> gf2ePoly.interpolate(binSize, xArrays[binIndex], yArrays[binIndex]))
+            .flatMap(Arrays::stream)
+            .toArray(byte[][]::new);
+    }
+
+    @Override
+    public void decode(byte[][] storage, byte[][] keys, byte[][] values) {
+        decode(storage, Gf2eDokvsKeys.of(keys), values);
+    }
+
+    @Override
+    public void decode(byte[][] storage, long[] keys, byte[][] values) {
+        decode(storage, Gf2eDokvsKeys.of(keys), values);
+    }
+
+    private void decode(byte[][] storage, Gf2eDokvsKeys keys, byte[][] values) {
+        MathPreconditions.checkEqual("storage.length", "m", storage.length, m);
+        MathPreconditions.checkEqual("keys.length", "values.length", keys.length(), values.length);
+        byte[][] coefficients = new byte[binSize][];
+        byte[] buffer = keys.createBuffer();
+        for (int index = 0; index < keys.length(); index++) {
+            byte[] hashKey = hm.getBytes(keys.get(index, buffer));
+            BytesUtils.reduceByteArray(hashKey, l);
+            int binIndex = binHash.getInteger(hashKey, binNum);
+            System.arraycopy(storage, binIndex * binSize, coefficients, 0, binSize);
+            byte[] value = gf2ePoly.evaluate(coefficients, hashKey);
+            if (values[index] == null) {
+                values[index] = value;
+            } else {
+                MathPreconditions.checkEqual("values[i].length", "byteL", values[index].length, byteL);
+                System.arraycopy(value, 0, values[index], 0, byteL);
+            }
+        }
+    }
+
     @Override
     public int getN() {
         return n;
@@ -64,6 +64,8 @@ public class DatabaseTest {
         configurations.add(new Object[]{DatabaseType.ZL.name(), DatabaseType.ZL});
         // naive database
         configurations.add(new Object[]{DatabaseType.NAIVE.name(), DatabaseType.NAIVE});
+        // off-heap database
+        configurations.add(new Object[]{DatabaseType.OFF_HEAP.name(), DatabaseType.OFF_HEAP});
 
         return configurations;
     }
@@ -0,0 +1,165 @@
+package edu.alibaba.mpc4j.common.structure.database;
+
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.common.tool.EnvType;
+import edu.alibaba.mpc4j.common.tool.bitvector.BitVector;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+import edu.alibaba.mpc4j.common.tool.utils.LongUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * off-heap database test.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class OffHeapDatabaseTest {
+    /**
+     * default rows
+     */
+    private static final int DEFAULT_ROWS = 1 << 12;
+    /**
+     * small segment byte length, so that the database is split into many segments
+     */
+    private static final int SMALL_SEGMENT_BYTE_LENGTH = 1 << 10;
+    /**
+     * l array
+     */
+    private static final int[] L_ARRAY = new int[]{
+        1, 5, 7, 9, 15, 16, 17, LongUtils.MAX_L_FOR_MODULE_N - 1, LongUtils.MAX_L_FOR_MODULE_N, Long.SIZE, CommonConstants.BLOCK_BIT_LENGTH,
+    };
+    /**
+     * the random state
+     */
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    @Test
+    public void testSegments() {
+        for (int l : L_ARRAY) {
+            testSegments(l);
+        }
+    }
+
+    private void testSegments(int l) {
+        byte[][] data = randomData(l, DEFAULT_ROWS);
+        NaiveDatabase naiveDatabase = NaiveDatabase.create(l, data);
+        OffHeapDatabase database = OffHeapDatabase.create(l, data, SMALL_SEGMENT_BYTE_LENGTH);
+        Assert.assertArrayEquals(naiveDatabase.getBytesData(), database.getBytesData());
+        Assert.assertEquals(OffHeapDatabase.create(l, data), database);
+        // bit partitions are the same as the naive database
+        Assert.assertArrayEquals(
+            naiveDatabase.bitPartition(EnvType.STANDARD, true), database.bitPartition(EnvType.STANDARD, true)
+        );
+        // split across segments
+        int splitRows = DEFAULT_ROWS / 3;
+        NaiveDatabase naiveSplitDatabase = naiveDatabase.split(splitRows);
+        OffHeapDatabase splitDatabase = database.split(splitRows);
+        Assert.assertArrayEquals(naiveSplitDatabase.getBytesData(), splitDatabase.getBytesData());
+        Assert.assertArrayEquals(naiveDatabase.getBytesData(), database.getBytesData());
+        Assert.assertArrayEquals(
+            naiveSplitDatabase.bitPartition(EnvType.STANDARD, false), splitDatabase.bitPartition(EnvType.STANDARD, false)
+        );
+        // merge back
+        database.merge(splitDatabase);
+        Assert.assertArrayEquals(data, database.getBytesData());
+    }
+
+    @Test
+    public void testColumnBitPartition() {
+        for (int l : L_ARRAY) {
+            OffHeapDatabase database = OffHeapDatabase.createRandom(l, DEFAULT_ROWS + 3, SECURE_RANDOM);
+            BitVector[] bitVectors = database.bitPartition(EnvType.STANDARD, true);
+            int fromColumn = l / 3;
+            int toColumn = Math.max(fromColumn + 1, l - l / 3);
+            BitVector[] columnBitVectors = database.bitPartition(EnvType.STANDARD, true, fromColumn, toColumn);
+            Assert.assertArrayEquals(Arrays.copyOfRange(bitVectors, fromColumn, toColumn), columnBitVectors);
+        }
+    }
+
+    @Test
+    public void testRowView() {
+        for (int l : L_ARRAY) {
+            byte[][] data = randomData(l, DEFAULT_ROWS);
+            OffHeapDatabase database = OffHeapDatabase.create(l, data, SMALL_SEGMENT_BYTE_LENGTH);
+            for (int index = 0; index < DEFAULT_ROWS; index++) {
+                ByteBuffer rowView = database.getRowView(index);
+                Assert.assertTrue(rowView.isReadOnly());
+                Assert.assertEquals(ByteBuffer.wrap(data[index]), rowView);
+            }
+            // the view reflects changes
+            int index = SECURE_RANDOM.nextInt(DEFAULT_ROWS);
+            ByteBuffer rowView = database.getRowView(index);
+            byte[] entry = BytesUtils.randomByteArray(database.getByteL(), l, SECURE_RANDOM);
+            database.setBytesData(index, entry);
+            Assert.assertEquals(ByteBuffer.wrap(entry), rowView);
+        }
+    }
+
+    @Test
+    public void testPadding() {
+        for (int l : L_ARRAY) {
+            NaiveDatabase naiveDatabase = NaiveDatabase.createRandom(l, DEFAULT_ROWS, SECURE_RANDOM);
+            OffHeapDatabase paddingDatabase = OffHeapDatabase.createPadding(naiveDatabase, DEFAULT_ROWS * 2, SECURE_RANDOM);
+            Assert.assertEquals(DEFAULT_ROWS * 2, paddingDatabase.rows());
+            for (int index = 0; index < DEFAULT_ROWS * 2; index++) {
+                byte[] element = paddingDatabase.getBytesData(index);
+                Assert.assertTrue(BytesUtils.isFixedReduceByteArray(element, paddingDatabase.getByteL(), l));
+                if (index < DEFAULT_ROWS) {
+                    Assert.assertArrayEquals(naiveDatabase.getBytesData(index), element);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFile() throws IOException {
+        Path path = Files.createTempFile(OffHeapDatabaseTest.class.getSimpleName(), ".db");
+        try {
+            for (int l : L_ARRAY) {
+                OffHeapDatabase database = OffHeapDatabase.createRandom(l, DEFAULT_ROWS, SECURE_RANDOM, SMALL_SEGMENT_BYTE_LENGTH);
+                // save a split database, whose rows do not start from the first segment
+                OffHeapDatabase splitDatabase = database.split(DEFAULT_ROWS / 3);
+                splitDatabase.save(path);
+                Assert.assertEquals((long) splitDatabase.rows() * splitDatabase.getByteL(), Files.size(path));
+                OffHeapDatabase fileDatabase = OffHeapDatabase.createFromFile(l, path);
+                Assert.assertEquals(splitDatabase, fileDatabase);
+                OffHeapDatabase segmentFileDatabase = OffHeapDatabase.createFromFile(l, path, SMALL_SEGMENT_BYTE_LENGTH);
+                Assert.assertEquals(splitDatabase, segmentFileDatabase);
+                // the database loaded from the file is read-only
+                byte[] entry = BytesUtils.randomByteArray(fileDatabase.getByteL(), l, SECURE_RANDOM);
+                Assert.assertThrows(ReadOnlyBufferException.class, () -> fileDatabase.setBytesData(0, entry));
+            }
+            // file with invalid rows
+            int l = 9;
+            byte[][] data = randomData(l, DEFAULT_ROWS);
+            data[DEFAULT_ROWS - 1][0] = (byte) 0xFF;
+            ByteBuffer fileBuffer = ByteBuffer.allocate(CommonUtils.getByteLength(l) * DEFAULT_ROWS);
+            Arrays.stream(data).forEach(fileBuffer::put);
+            Files.write(path, fileBuffer.array());
+            Assert.assertThrows(IllegalArgumentException.class, () -> OffHeapDatabase.createFromFile(l, path));
+            // file with invalid length
+            Files.write(path, new byte[CommonUtils.getByteLength(l) * DEFAULT_ROWS + 1]);
+            Assert.assertThrows(IllegalArgumentException.class, () -> OffHeapDatabase.createFromFile(l, path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static byte[][] randomData(int l, int rows) {
+        int byteL = CommonUtils.getByteLength(l);
+        return IntStream.range(0, rows)
+            .mapToObj(index -> BytesUtils.randomByteArray(byteL, l, SECURE_RANDOM))
+            .toArray(byte[][]::new);
+    }
+}
@@ -137,6 +137,23 @@ public class FilterTest {
         Assert.assertEquals(filter, recoveredFilter);
     }
 
+    @Test
+    public void testCompressedSerialize() {
+        byte[][] keys = BlockUtils.randomBlocks(FilterFactory.getHashKeyNum(type), SECURE_RANDOM);
+        Filter<ByteBuffer> filter = FilterFactory.createFilter(EnvType.STANDARD, type, DEFAULT_SIZE, keys);
+        // insert elements into the filter
+        Set<ByteBuffer> items = generateRandomItems(DEFAULT_SIZE);
+        items.forEach(filter::put);
+        // convert to compressed byte array list
+        List<byte[]> byteArrayList = FilterFactory.saveCompressedFilter(filter);
+        if (FilterFactory.isCompressible(type)) {
+            long compressedByteSize = byteArrayList.stream().mapToLong(byteArray -> byteArray.length).sum();
+            Assert.assertTrue(compressedByteSize < filter.byteSize());
+        }
+        Filter<ByteBuffer> recoveredFilter = FilterFactory.loadCompressedFilter(EnvType.STANDARD, byteArrayList);
+        Assert.assertEquals(filter, recoveredFilter);
+    }
+
     private Set<ByteBuffer> generateRandomItems(int size) {
         return IntStream.range(0, size)
             .mapToObj(index -> {
@@ -6,6 +6,7 @@ import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import org.junit.Assert;
 
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.stream.IntStream;
 
 /**
@@ -86,4 +87,21 @@ public class LpnCoderTestUtils {
             }
         }
     }
+
+    /**
+     * asserts that the flat encode result equals to the encode result.
+     *
+     * @param extendArray     extend array.
+     * @param flatExtendBytes flat extend bytes.
+     */
+    public static void assertFlatEncode(byte[][] extendArray, byte[] flatExtendBytes) {
+        int n = extendArray.length;
+        int byteLength = n == 0 ? 0 : extendArray[0].length;
+        Assert.assertEquals(n * byteLength, flatExtendBytes.length);
+        for (int i = 0; i < n; i++) {
+            Assert.assertArrayEquals(
+                extendArray[i], Arrays.copyOfRange(flatExtendBytes, i * byteLength, (i + 1) * byteLength)
+            );
+        }
+    }
 }
@@ -90,5 +90,8 @@ public class ExCoderTest {
         Assert.assertArrayEquals(extendR0Array, coder.dualEncode(r0Array));
         Assert.assertArrayEquals(extendChoices, coder.dualEncode(choices));
         Assert.assertArrayEquals(extendRbArray, coder.dualEncode(rbArray));
+        // flat encode
+        LpnCoderTestUtils.assertFlatEncode(extendR0Array, coder.dualEncodeFlat(r0Array));
+        LpnCoderTestUtils.assertFlatEncode(extendRbArray, coder.dualEncodeFlat(rbArray));
     }
 }
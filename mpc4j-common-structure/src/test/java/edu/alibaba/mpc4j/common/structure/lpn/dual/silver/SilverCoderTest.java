@@ -87,5 +87,8 @@ public class SilverCoderTest {
         Assert.assertArrayEquals(extendR0Array, silverCoder.dualEncode(r0Array));
         Assert.assertArrayEquals(extendChoices, silverCoder.dualEncode(choices));
         Assert.assertArrayEquals(extendRbArray, silverCoder.dualEncode(rbArray));
+        // flat encode
+        LpnCoderTestUtils.assertFlatEncode(extendR0Array, silverCoder.dualEncodeFlat(r0Array));
+        LpnCoderTestUtils.assertFlatEncode(extendRbArray, silverCoder.dualEncodeFlat(rbArray));
     }
 }
@@ -0,0 +1,118 @@
+package edu.alibaba.mpc4j.common.structure.matrix;
+
+import edu.alibaba.mpc4j.common.structure.vector.IntVector;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.SecureRandom;
+import java.text.DecimalFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * int matrix efficiency test. We treat the matrix as an LWE-based PIR database with 8-bit entries, and report the
+ * throughput (GB/s of database scanned per query) when answering queries, i.e., matrix-vector multiplications.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+@Ignore
+public class IntMatrixEfficiencyTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IntMatrixEfficiencyTest.class);
+    /**
+     * time format
+     */
+    private static final DecimalFormat TIME_DECIMAL_FORMAT = new DecimalFormat("0.000");
+    /**
+     * throughput format
+     */
+    private static final DecimalFormat THROUGHPUT_DECIMAL_FORMAT = new DecimalFormat("0.00");
+    /**
+     * random state
+     */
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    /**
+     * stop watch
+     */
+    private static final StopWatch STOP_WATCH = new StopWatch();
+    /**
+     * number of queries
+     */
+    private static final int QUERY_NUM = 10;
+    /**
+     * bytes in a GB
+     */
+    private static final double GB = 1 << 30;
+
+    @Test
+    public void testEfficiency() {
+        LOGGER.info(
+            "{}\t{}\t{}\t{}\t{}\t{}",
+            "                name", "  log(num)", "     query(ms)", "   db(GB/s)", " scan(GB/s)", " hint(s)"
+        );
+        // warm up
+        testEfficiency(16, false);
+        testEfficiency(20, true);
+        testEfficiency(24, true);
+        testEfficiency(26, true);
+        testEfficiency(28, true);
+    }
+
+    private void testEfficiency(int logNum, boolean printInfo) {
+        // square database, rows × columns = 2^logNum
+        int rows = 1 << (logNum / 2);
+        int columns = 1 << (logNum - logNum / 2);
+        long num = (long) rows * columns;
+        NarrowIntMatrix narrowDb = NarrowIntMatrix.createRandom(rows, columns, SECURE_RANDOM);
+        // SimplePIR uses the LWE dimension 1024 for the hint
+        IntMatrix matrixA = IntMatrix.createRandom(columns, 1 << 10, SECURE_RANDOM);
+        IntVector query = IntVector.createRandom(columns, SECURE_RANDOM);
+        // narrow matrix
+        STOP_WATCH.start();
+        narrowDb.mul(matrixA);
+        STOP_WATCH.stop();
+        double narrowHintTime = (double) STOP_WATCH.getTime(TimeUnit.MILLISECONDS) / 1000;
+        STOP_WATCH.reset();
+        STOP_WATCH.start();
+        for (int i = 0; i < QUERY_NUM; i++) {
+            narrowDb.rightMul(query);
+        }
+        STOP_WATCH.stop();
+        double narrowQueryTime = (double) STOP_WATCH.getTime(TimeUnit.MICROSECONDS) / 1000 / QUERY_NUM;
+        STOP_WATCH.reset();
+        // int matrix
+        IntMatrix intDb = narrowDb.toIntMatrix();
+        STOP_WATCH.start();
+        intDb.mul(matrixA);
+        STOP_WATCH.stop();
+        double intHintTime = (double) STOP_WATCH.getTime(TimeUnit.MILLISECONDS) / 1000;
+        STOP_WATCH.reset();
+        STOP_WATCH.start();
+        for (int i = 0; i < QUERY_NUM; i++) {
+            intDb.rightMul(query);
+        }
+        STOP_WATCH.stop();
+        double intQueryTime = (double) STOP_WATCH.getTime(TimeUnit.MICROSECONDS) / 1000 / QUERY_NUM;
+        STOP_WATCH.reset();
+        if (printInfo) {
+            print(NarrowIntMatrix.class.getSimpleName(), logNum, narrowQueryTime, num, num, narrowHintTime);
+            print(IntMatrix.class.getSimpleName(), logNum, intQueryTime, num, num * Integer.BYTES, intHintTime);
+        }
+    }
+
+    private void print(String name, int logNum, double queryTime, long dbBytes, long scanBytes, double hintTime) {
+        double querySecond = queryTime / 1000;
+        LOGGER.info(
+            "{}\t{}\t{}\t{}\t{}\t{}",
+            StringUtils.leftPad(name, 20),
+            StringUtils.leftPad(String.valueOf(logNum), 10),
+            StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(queryTime), 14),
+            StringUtils.leftPad(THROUGHPUT_DECIMAL_FORMAT.format(dbBytes / GB / querySecond), 11),
+            StringUtils.leftPad(THROUGHPUT_DECIMAL_FORMAT.format(scanBytes / GB / querySecond), 11),
+            StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(hintTime), 8)
+        );
+    }
+}
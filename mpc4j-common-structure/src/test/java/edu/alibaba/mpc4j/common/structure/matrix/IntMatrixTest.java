@@ -90,6 +90,62 @@ public class IntMatrixTest {
         Assert.assertEquals(matrix, ttMatrix);
     }
 
+    @Test
+    public void testMul() {
+        // small matrices
+        testMul(rows, columns, rows + 1);
+        // matrices with more than one block
+        testMul(rows, IntMatrixUtils.MATRIX_INNER_BLOCK * 2 + 1, IntMatrixUtils.MATRIX_COLUMN_BLOCK + 3);
+    }
+
+    private void testMul(int rows, int inner, int columns) {
+        IntMatrix a = IntMatrix.createRandom(rows, inner, secureRandom);
+        IntMatrix b = IntMatrix.createRandom(inner, columns, secureRandom);
+        IntMatrix ab = a.mul(b);
+        Assert.assertEquals(rows, ab.getRows());
+        Assert.assertEquals(columns, ab.getColumns());
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                int expect = 0;
+                for (int k = 0; k < inner; k++) {
+                    expect += a.get(i, k) * b.get(k, j);
+                }
+                Assert.assertEquals(expect, ab.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testVectorMul() {
+        // small matrices
+        testVectorMul(rows, columns);
+        // matrices with more than one block
+        testVectorMul(rows, IntMatrixUtils.VECTOR_COLUMN_BLOCK * 2 + 1);
+    }
+
+    private void testVectorMul(int rows, int columns) {
+        IntMatrix matrix = IntMatrix.createRandom(rows, columns, secureRandom);
+        // left multiplication
+        IntVector leftVector = IntVector.createRandom(rows, secureRandom);
+        Assert.assertThrows(IllegalArgumentException.class, () -> matrix.leftMul(IntVector.createZeros(rows + 1)));
+        IntVector leftMulVector = matrix.leftMul(leftVector);
+        for (int j = 0; j < columns; j++) {
+            int expect = 0;
+            for (int i = 0; i < rows; i++) {
+                expect += leftVector.getElement(i) * matrix.get(i, j);
+            }
+            Assert.assertEquals(expect, leftMulVector.getElement(j));
+        }
+        // right multiplication
+        IntVector rightVector = IntVector.createRandom(columns, secureRandom);
+        Assert.assertThrows(IllegalArgumentException.class, () -> matrix.rightMul(IntVector.createZeros(columns + 1)));
+        IntVector rightMulVector = matrix.rightMul(rightVector);
+        Assert.assertEquals(matrix.transpose().leftMul(rightVector), rightMulVector);
+        for (int i = 0; i < rows; i++) {
+            Assert.assertEquals(matrix.getRow(i).innerMul(rightVector), rightMulVector.getElement(i));
+        }
+    }
+
     @Test
     public void testDecompose() {
         IntMatrix matrix = IntMatrix.createRandom(rows, columns, secureRandom);
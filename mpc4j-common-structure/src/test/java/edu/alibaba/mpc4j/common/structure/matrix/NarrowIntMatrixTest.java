@@ -0,0 +1,130 @@
+package edu.alibaba.mpc4j.common.structure.matrix;
+
+import edu.alibaba.mpc4j.common.structure.vector.IntVector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.security.SecureRandom;
+import java.util.stream.IntStream;
+
+/**
+ * narrow int matrix test.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class NarrowIntMatrixTest {
+    /**
+     * rows
+     */
+    private final int rows;
+    /**
+     * columns
+     */
+    private final int columns;
+    /**
+     * random state
+     */
+    private final SecureRandom secureRandom;
+
+    public NarrowIntMatrixTest() {
+        rows = 63;
+        columns = 65;
+        secureRandom = new SecureRandom();
+    }
+
+    @Test
+    public void testElements() {
+        NarrowIntMatrix matrix = NarrowIntMatrix.createZeros(rows, columns);
+        matrix.set(1, 2, (byte) 0xFF);
+        Assert.assertEquals(0xFF, matrix.get(1, 2));
+        matrix.set(1, 2, (byte) 0x7F);
+        Assert.assertEquals(0x7F, matrix.get(1, 2));
+        // create with invalid length
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            NarrowIntMatrix.create(rows, columns, new byte[rows * columns + 1])
+        );
+        // elements are in [0, 2^8)
+        NarrowIntMatrix randomMatrix = NarrowIntMatrix.createRandom(rows, columns, secureRandom);
+        IntMatrix intMatrix = randomMatrix.toIntMatrix();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                Assert.assertTrue(randomMatrix.get(i, j) >= 0 && randomMatrix.get(i, j) < (1 << Byte.SIZE));
+                Assert.assertEquals(randomMatrix.get(i, j), intMatrix.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testTranspose() {
+        NarrowIntMatrix matrix = NarrowIntMatrix.createRandom(rows, columns, secureRandom);
+        NarrowIntMatrix tMatrix = matrix.transpose();
+        Assert.assertEquals(columns, tMatrix.getRows());
+        Assert.assertEquals(rows, tMatrix.getColumns());
+        Assert.assertEquals(matrix.toIntMatrix().transpose(), tMatrix.toIntMatrix());
+        Assert.assertEquals(matrix, tMatrix.transpose());
+    }
+
+    @Test
+    public void testMul() {
+        // small matrices
+        testMul(rows, columns, rows + 1);
+        // matrices with more than one block
+        testMul(rows, IntMatrixUtils.MATRIX_INNER_BLOCK * 2 + 1, IntMatrixUtils.MATRIX_COLUMN_BLOCK + 3);
+    }
+
+    private void testMul(int rows, int inner, int columns) {
+        // narrow · int
+        NarrowIntMatrix narrowA = NarrowIntMatrix.createRandom(rows, inner, secureRandom);
+        IntMatrix b = IntMatrix.createRandom(inner, columns, secureRandom);
+        Assert.assertEquals(narrowA.toIntMatrix().mul(b), narrowA.mul(b));
+        // int · narrow
+        IntMatrix a = IntMatrix.createRandom(rows, inner, secureRandom);
+        NarrowIntMatrix narrowB = NarrowIntMatrix.createRandom(inner, columns, secureRandom);
+        Assert.assertEquals(a.mul(narrowB.toIntMatrix()), a.mul(narrowB));
+    }
+
+    @Test
+    public void testVectorMul() {
+        // small matrices
+        testVectorMul(rows, columns);
+        // matrices with more than one block
+        testVectorMul(rows, IntMatrixUtils.VECTOR_COLUMN_BLOCK * 2 + 1);
+    }
+
+    private void testVectorMul(int rows, int columns) {
+        NarrowIntMatrix matrix = NarrowIntMatrix.createRandom(rows, columns, secureRandom);
+        IntMatrix intMatrix = matrix.toIntMatrix();
+        IntVector leftVector = IntVector.createRandom(rows, secureRandom);
+        Assert.assertEquals(intMatrix.leftMul(leftVector), matrix.leftMul(leftVector));
+        IntVector rightVector = IntVector.createRandom(columns, secureRandom);
+        Assert.assertEquals(intMatrix.rightMul(rightVector), matrix.rightMul(rightVector));
+        Assert.assertEquals(matrix.transpose().leftMul(rightVector), matrix.rightMul(rightVector));
+    }
+
+    @Test
+    public void testBatchVectorMul() {
+        // empty batch
+        NarrowIntMatrix matrix = NarrowIntMatrix.createRandom(rows, columns, secureRandom);
+        Assert.assertEquals(0, matrix.rightMul(new IntVector[0]).length);
+        // small matrices
+        testBatchVectorMul(rows, columns, 3);
+        // matrices with more than one block
+        testBatchVectorMul(rows, IntMatrixUtils.BATCH_VECTOR_COLUMN_BLOCK * 2 + 1, 5);
+    }
+
+    private void testBatchVectorMul(int rows, int columns, int batchNum) {
+        NarrowIntMatrix matrix = NarrowIntMatrix.createRandom(rows, columns, secureRandom);
+        IntVector[] vectors = IntStream.range(0, batchNum)
+            .mapToObj(b -> IntVector.createRandom(columns, secureRandom))
+            .toArray(IntVector[]::new);
+        IntVector[] results = matrix.rightMul(vectors);
+        Assert.assertEquals(batchNum, results.length);
+        for (int b = 0; b < batchNum; b++) {
+            Assert.assertEquals(matrix.rightMul(vectors[b]), results[b]);
+        }
+        // invalid length
+        IntVector[] invalidVectors = new IntVector[]{vectors[0], IntVector.createZeros(columns + 1)};
+        Assert.assertThrows(IllegalArgumentException.class, () -> matrix.rightMul(invalidVectors));
+    }
+}
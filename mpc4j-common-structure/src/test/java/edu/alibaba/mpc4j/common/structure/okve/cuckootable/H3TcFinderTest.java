@@ -122,4 +122,22 @@ public class H3TcFinderTest {
         Set<String> remainedDataSet = singletonFinder.getRemainedDataSet();
         Assert.assertEquals(remainedDataSetSize, remainedDataSet.size());
     }
+
+    @Test
+    public void testFlatCorrectness() {
+        int dataNum = h3CuckooTable.getDataNum();
+        String[] dataArray = h3CuckooTable.getDataSet().toArray(new String[0]);
+        int[] vertices = new int[dataNum * H3CuckooTable.HASH_NUM];
+        for (int dataIndex = 0; dataIndex < dataNum; dataIndex++) {
+            int[] dataVertices = h3CuckooTable.getVertices(dataArray[dataIndex]);
+            System.arraycopy(dataVertices, 0, vertices, dataIndex * H3CuckooTable.HASH_NUM, H3CuckooTable.HASH_NUM);
+        }
+        FlatCuckooTableSingletonTcFinder flatFinder = new FlatCuckooTableSingletonTcFinder(
+            h3CuckooTable.getNumOfVertices(), H3CuckooTable.HASH_NUM
+        );
+        flatFinder.findTwoCore(vertices, dataNum);
+        Assert.assertEquals(remainedDataSetSize, flatFinder.getRemainedDataIndexes().length);
+        Assert.assertEquals(dataNum - remainedDataSetSize, flatFinder.getRemovedDataIndexes().length);
+        Assert.assertEquals(dataNum - remainedDataSetSize, flatFinder.getRemovedDataSingletonVertices().length);
+    }
 }
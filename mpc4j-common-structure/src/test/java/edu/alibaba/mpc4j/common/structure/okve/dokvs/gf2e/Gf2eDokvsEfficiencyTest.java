@@ -17,6 +17,7 @@ import java.text.DecimalFormat;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -48,6 +49,17 @@ public class Gf2eDokvsEfficiencyTest {
      * default l
      */
     private static final int DEFAULT_L = 128;
+    /**
+     * types for primitive-key tests
+     */
+    private static final Gf2eDokvsType[] PRIMITIVE_KEY_TYPES = new Gf2eDokvsType[]{
+        Gf2eDokvsType.H2_BLAZE_GCT, Gf2eDokvsType.H3_BLAZE_GCT,
+        Gf2eDokvsType.H2_SPARSE_CLUSTER_BLAZE_GCT, Gf2eDokvsType.H3_SPARSE_CLUSTER_BLAZE_GCT,
+    };
+    /**
+     * memory format
+     */
+    private static final DecimalFormat MEMORY_DECIMAL_FORMAT = new DecimalFormat("0.0");
 
     @Test
     public void testEfficiency() {
@@ -64,6 +76,79 @@ public class Gf2eDokvsEfficiencyTest {
         testEfficiency(18);
     }
 
+    @Test
+    public void testPrimitiveKeyEfficiency() {
+        LOGGER.info(
+            "{}\t{}\t{}\t{}\t{}\t{}\t{}",
+            "                          name", "      logN", "  parallel",
+            "mapEnc(s)", "arrEnc(s)", " mapMem(MB)", " arrMem(MB)"
+        );
+        testPrimitiveKeyEfficiency(12);
+        testPrimitiveKeyEfficiency(16);
+        testPrimitiveKeyEfficiency(20);
+    }
+
+    private void testPrimitiveKeyEfficiency(int logN) {
+        testPrimitiveKeyEfficiency(logN, false);
+        testPrimitiveKeyEfficiency(logN, true);
+    }
+
+    private void testPrimitiveKeyEfficiency(int logN, boolean parallelEncode) {
+        int n = 1 << logN;
+        int l = DEFAULT_L;
+        for (Gf2eDokvsType type : PRIMITIVE_KEY_TYPES) {
+            int hashNum = Gf2eDokvsFactory.getHashKeyNum(type);
+            byte[][] hashKeys = BlockUtils.randomBlocks(hashNum, SECURE_RANDOM);
+            Gf2eDokvs<Long> dokvs = Gf2eDokvsFactory.createInstance(EnvType.STANDARD, type, n, l, hashKeys);
+            dokvs.setParallelEncode(parallelEncode);
+            long[] keys = SECURE_RANDOM.longs().distinct().limit(n).toArray();
+            byte[][] values = Gf2eDokvsTest.randomValues(n, l);
+            // map-based encode, memory includes the key-value map and the storage
+            long mapMemory = usedMemory();
+            Map<Long, byte[]> keyValueMap = IntStream.range(0, n).boxed()
+                .collect(Collectors.toMap(index -> keys[index], index -> values[index]));
+            STOP_WATCH.start();
+            byte[][] mapStorage = dokvs.encode(keyValueMap, true);
+            STOP_WATCH.stop();
+            mapMemory = usedMemory() - mapMemory;
+            double mapEncodeTime = (double) STOP_WATCH.getTime(TimeUnit.MILLISECONDS) / 1000;
+            STOP_WATCH.reset();
+            Assert.assertEquals(dokvs.getM(), mapStorage.length);
+            keyValueMap = null;
+            mapStorage = null;
+            // array-based encode, memory only includes the storage since keys and values are given
+            long arrayMemory = usedMemory();
+            STOP_WATCH.start();
+            byte[][] arrayStorage = dokvs.encode(keys, values, true);
+            STOP_WATCH.stop();
+            arrayMemory = usedMemory() - arrayMemory;
+            double arrayEncodeTime = (double) STOP_WATCH.getTime(TimeUnit.MILLISECONDS) / 1000;
+            STOP_WATCH.reset();
+            byte[][] decodeValues = new byte[n][];
+            dokvs.decode(arrayStorage, keys, decodeValues);
+            for (int index = 0; index < n; index++) {
+                Assert.assertArrayEquals(values[index], decodeValues[index]);
+            }
+            LOGGER.info(
+                "{}\t{}\t{}\t{}\t{}\t{}\t{}",
+                StringUtils.leftPad(type.name(), 30),
+                StringUtils.leftPad(String.valueOf(logN), 10),
+                StringUtils.leftPad(String.valueOf(parallelEncode), 10),
+                StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(mapEncodeTime), 9),
+                StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(arrayEncodeTime), 9),
+                StringUtils.leftPad(MEMORY_DECIMAL_FORMAT.format(mapMemory / 1024.0 / 1024.0), 11),
+                StringUtils.leftPad(MEMORY_DECIMAL_FORMAT.format(arrayMemory / 1024.0 / 1024.0), 11)
+            );
+        }
+        LOGGER.info(StringUtils.rightPad("", 60, '-'));
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
     private void testEfficiency(int logN) {
         testEfficiency(logN, false);
         testEfficiency(logN, true);
@@ -180,6 +180,82 @@ public class Gf2eDokvsTest {
         testDokvs(1 << 16, DEFAULT_L, true);
     }
 
+    @Test
+    public void testLongKeys() {
+        testLongKeyDokvs(1, false);
+        testLongKeyDokvs(40, false);
+        testLongKeyDokvs(1 << 12, false);
+        testLongKeyDokvs(1 << 16, true);
+    }
+
+    @Test
+    public void testBytesKeys() {
+        testBytesKeyDokvs(1, false);
+        testBytesKeyDokvs(40, false);
+        testBytesKeyDokvs(1 << 12, false);
+        testBytesKeyDokvs(1 << 16, true);
+    }
+
+    private void testLongKeyDokvs(int n, boolean parallelEncode) {
+        byte[][] hashKeys = BlockUtils.randomBlocks(hashKeyNum, SECURE_RANDOM);
+        Gf2eDokvs<Long> dokvs = Gf2eDokvsFactory.createInstance(EnvType.STANDARD, type, n, DEFAULT_L, hashKeys);
+        dokvs.setParallelEncode(parallelEncode);
+        long[] keys = SECURE_RANDOM.longs().distinct().limit(n).toArray();
+        byte[][] values = randomValues(n, DEFAULT_L);
+        for (boolean doublyEncode : new boolean[]{false, true}) {
+            byte[][] storage = dokvs.encode(keys, values, doublyEncode);
+            Assert.assertEquals(Gf2eDokvsFactory.getM(EnvType.STANDARD, type, n), storage.length);
+            // bulk decode, reuse half of the outputs
+            byte[][] decodeValues = new byte[n][];
+            for (int index = 0; index < n; index += 2) {
+                decodeValues[index] = BytesUtils.randomByteArray(DEFAULT_L / Byte.SIZE, SECURE_RANDOM);
+            }
+            dokvs.decode(storage, keys, decodeValues);
+            for (int index = 0; index < n; index++) {
+                Assert.assertArrayEquals(values[index], decodeValues[index]);
+                // storage can be decoded with Long keys
+                Assert.assertArrayEquals(values[index], dokvs.decode(storage, keys[index]));
+            }
+        }
+        // storage encoded with Long keys can be decoded in bulk
+        Map<Long, byte[]> keyValueMap = IntStream.range(0, n).boxed()
+            .collect(Collectors.toMap(index -> keys[index], index -> values[index]));
+        byte[][] storage = dokvs.encode(keyValueMap, true);
+        byte[][] decodeValues = new byte[n][];
+        dokvs.decode(storage, keys, decodeValues);
+        for (int index = 0; index < n; index++) {
+            Assert.assertArrayEquals(values[index], decodeValues[index]);
+        }
+    }
+
+    private void testBytesKeyDokvs(int n, boolean parallelEncode) {
+        byte[][] hashKeys = BlockUtils.randomBlocks(hashKeyNum, SECURE_RANDOM);
+        Gf2eDokvs<ByteBuffer> dokvs = Gf2eDokvsFactory.createInstance(EnvType.STANDARD, type, n, DEFAULT_L, hashKeys);
+        dokvs.setParallelEncode(parallelEncode);
+        byte[][] keys = BlockUtils.randomBlocks(n, SECURE_RANDOM);
+        byte[][] values = randomValues(n, DEFAULT_L);
+        for (boolean doublyEncode : new boolean[]{false, true}) {
+            byte[][] storage = dokvs.encode(keys, values, doublyEncode);
+            Assert.assertEquals(Gf2eDokvsFactory.getM(EnvType.STANDARD, type, n), storage.length);
+            byte[][] decodeValues = new byte[n][];
+            dokvs.decode(storage, keys, decodeValues);
+            for (int index = 0; index < n; index++) {
+                Assert.assertArrayEquals(values[index], decodeValues[index]);
+                // storage can be decoded with ByteBuffer keys
+                Assert.assertArrayEquals(values[index], dokvs.decode(storage, ByteBuffer.wrap(keys[index])));
+            }
+        }
+        // storage encoded with ByteBuffer keys can be decoded in bulk
+        Map<ByteBuffer, byte[]> keyValueMap = IntStream.range(0, n).boxed()
+            .collect(Collectors.toMap(index -> ByteBuffer.wrap(keys[index]), index -> values[index]));
+        byte[][] storage = dokvs.encode(keyValueMap, true);
+        byte[][] decodeValues = new byte[n][];
+        dokvs.decode(storage, keys, decodeValues);
+        for (int index = 0; index < n; index++) {
+            Assert.assertArrayEquals(values[index], decodeValues[index]);
+        }
+    }
+
     private void testDokvs(int n) {
         testDokvs(n, DEFAULT_L);
     }
@@ -233,6 +309,13 @@ public class Gf2eDokvsTest {
         }
     }
 
+    static byte[][] randomValues(int n, int l) {
+        int byteL = CommonUtils.getByteLength(l);
+        return IntStream.range(0, n)
+            .mapToObj(index -> BytesUtils.randomByteArray(byteL, l, SECURE_RANDOM))
+            .toArray(byte[][]::new);
+    }
+
     static Map<ByteBuffer, byte[]> randomKeyValueMap(int n, int l) {
         int byteL = CommonUtils.getByteLength(l);
         Map<ByteBuffer, byte[]> keyValueMap = new HashMap<>();
@@ -139,6 +139,22 @@ public class ExtremeSparseBitMatrix implements SparseBitMatrix {
         }
     }
 
+    /**
+     * Computes y = x · M ⊕ y, where y is given in one flat byte array with y_i at
+     * <code>[i * x[0].length, (i + 1) * x[0].length)</code>.
+     *
+     * @param xVec the GF2L vector x.
+     * @param yVec the GF2L vector y in one flat byte array.
+     */
+    public void lExtMulAddi(byte[][] xVec, byte[] yVec) {
+        assert xVec.length == rows;
+        int byteL = xVec[0].length;
+        assert yVec.length == columns * byteL;
+        for (int columnIndex : nonEmptyColumnMap.keys()) {
+            nonEmptyColumnMap.get(columnIndex).rightGf2lMultiplyXori(xVec, yVec, columnIndex * byteL);
+        }
+    }
+
     @Override
     public int getRows() {
         return rows;
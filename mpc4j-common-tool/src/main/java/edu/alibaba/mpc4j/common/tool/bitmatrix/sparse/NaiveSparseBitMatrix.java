@@ -281,6 +281,22 @@ public class NaiveSparseBitMatrix implements SparseBitMatrix {
         iColumnStream.forEach(iColumn -> columnList.get(iColumn).rightGf2lMultiplyXori(x, y[iColumn]));
     }
 
+    /**
+     * Computes y = x · M ⊕ y, where y is given in one flat byte array with y_i at
+     * <code>[i * x[0].length, (i + 1) * x[0].length)</code>.
+     *
+     * @param x the GF2L vector x.
+     * @param y the GF2L vector y in one flat byte array.
+     */
+    public void lExtMulAddi(byte[][] x, byte[] y) {
+        // validation check for x will be done during the computation.
+        int byteL = x[0].length;
+        MathPreconditions.checkEqual("columns * x[0].length", "y.length", columns * byteL, y.length);
+        IntStream iColumnStream = IntStream.range(0, columns);
+        iColumnStream = parallel ? iColumnStream.parallel() : iColumnStream;
+        iColumnStream.forEach(iColumn -> columnList.get(iColumn).rightGf2lMultiplyXori(x, y, iColumn * byteL));
+    }
+
     @Override
     public int getRows() {
         return rows;
@@ -390,6 +390,25 @@ public class SparseBitVector {
         }
     }
 
+    /**
+     * Gieven a GF2L vector v, computes t = &lt;x,v&gt; ⊕ t by treating each entry in v as 1's in the GF2L field, where t
+     * is at <code>[tOffset, tOffset + v[0].length)</code> of the given byte array.
+     *
+     * @param v       the GF2E vector v.
+     * @param t       the byte array containing the GF2E element t.
+     * @param tOffset the offset of t in the byte array.
+     */
+    public void rightGf2lMultiplyXori(final byte[][] v, byte[] t, int tOffset) {
+        assert bitNum == v.length;
+        int byteL = v[0].length;
+        for (int i = 0; i < positions.size(); i++) {
+            byte[] vi = v[positions.get(i)];
+            for (int j = 0; j < byteL; j++) {
+                t[tOffset + j] ^= vi[j];
+            }
+        }
+    }
+
     /**
      * Gets x[i].
      *
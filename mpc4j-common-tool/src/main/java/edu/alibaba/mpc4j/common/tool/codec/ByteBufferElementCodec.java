@@ -0,0 +1,43 @@
+package edu.alibaba.mpc4j.common.tool.codec;
+
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory.ElementCodecType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Element codec for ByteBuffer with the fixed byte length. As {@code ObjectUtils.objectToByteArray}, the encoded
+ * element is the backing array of the ByteBuffer, which is returned without copying.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class ByteBufferElementCodec implements ElementCodec<ByteBuffer> {
+    /**
+     * byte length
+     */
+    private final int byteLength;
+
+    ByteBufferElementCodec(int byteLength) {
+        MathPreconditions.checkPositive("byteLength", byteLength);
+        this.byteLength = byteLength;
+    }
+
+    @Override
+    public ElementCodecType getType() {
+        return ElementCodecType.BYTE_BUFFER;
+    }
+
+    @Override
+    public int getElementByteLength() {
+        return byteLength;
+    }
+
+    @Override
+    public byte[] encode(ByteBuffer element) {
+        byte[] array = element.array();
+        MathPreconditions.checkEqual("byteLength", "element.length", byteLength, array.length);
+        return array;
+    }
+
+}
@@ -0,0 +1,39 @@
+package edu.alibaba.mpc4j.common.tool.codec;
+
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory.ElementCodecType;
+
+/**
+ * Element codec for byte[] with the fixed byte length. The element itself is the encoded element.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class BytesElementCodec implements ElementCodec<byte[]> {
+    /**
+     * byte length
+     */
+    private final int byteLength;
+
+    BytesElementCodec(int byteLength) {
+        MathPreconditions.checkPositive("byteLength", byteLength);
+        this.byteLength = byteLength;
+    }
+
+    @Override
+    public ElementCodecType getType() {
+        return ElementCodecType.BYTES;
+    }
+
+    @Override
+    public int getElementByteLength() {
+        return byteLength;
+    }
+
+    @Override
+    public byte[] encode(byte[] element) {
+        MathPreconditions.checkEqual("byteLength", "element.length", byteLength, element.length);
+        return element;
+    }
+
+}
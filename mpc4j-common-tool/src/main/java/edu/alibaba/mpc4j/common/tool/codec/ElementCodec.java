@@ -0,0 +1,41 @@
+package edu.alibaba.mpc4j.common.tool.codec;
+
+/**
+ * Element codec that encodes elements into byte arrays. Unlike {@code ObjectUtils.objectToByteArray}, a codec is
+ * bound to one element type, so that it does not dispatch on the element type or fall back to Java serialization.
+ * All specialized codecs output the same byte arrays as {@code ObjectUtils.objectToByteArray}, so that parties using
+ * different codecs for the same element type still agree on the encodings.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public interface ElementCodec<T> {
+    /**
+     * element byte length for codecs with variable-length outputs
+     */
+    int VARIABLE_BYTE_LENGTH = -1;
+
+    /**
+     * Gets the type of the codec.
+     *
+     * @return the type of the codec.
+     */
+    ElementCodecFactory.ElementCodecType getType();
+
+    /**
+     * Gets the byte length of each encoded element, or {@link #VARIABLE_BYTE_LENGTH} if the encoded elements have
+     * variable lengths.
+     *
+     * @return the byte length of each encoded element.
+     */
+    int getElementByteLength();
+
+    /**
+     * Encodes the element. The encoded element might share memory with the element (e.g., codecs for byte[] and
+     * ByteBuffer return the array of the element without copying), so that the encoded element must not be modified.
+     *
+     * @param element the element.
+     * @return the encoded element.
+     */
+    byte[] encode(T element);
+}
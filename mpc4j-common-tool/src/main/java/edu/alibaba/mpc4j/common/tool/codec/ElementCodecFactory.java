@@ -0,0 +1,91 @@
+package edu.alibaba.mpc4j.common.tool.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Element codec factory.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class ElementCodecFactory {
+    /**
+     * private constructor.
+     */
+    private ElementCodecFactory() {
+        // empty
+    }
+
+    /**
+     * element codec type
+     */
+    public enum ElementCodecType {
+        /**
+         * any object, encoded by ObjectUtils.objectToByteArray
+         */
+        OBJECT,
+        /**
+         * long, encoded in 8 bytes with big-endian
+         */
+        LONG,
+        /**
+         * fixed-length byte[]
+         */
+        BYTES,
+        /**
+         * fixed-length ByteBuffer
+         */
+        BYTE_BUFFER,
+        /**
+         * String, encoded in UTF-8
+         */
+        UTF8,
+    }
+
+    /**
+     * Creates a codec for any object, which is the default codec used in protocols.
+     *
+     * @return a codec for any object.
+     */
+    public static <T> ElementCodec<T> createObjectCodec() {
+        return new ObjectElementCodec<>();
+    }
+
+    /**
+     * Creates a codec for long.
+     *
+     * @return a codec for long.
+     */
+    public static ElementCodec<Long> createLongCodec() {
+        return new LongElementCodec();
+    }
+
+    /**
+     * Creates a codec for byte[] with the fixed byte length.
+     *
+     * @param byteLength byte length.
+     * @return a codec for byte[].
+     */
+    public static ElementCodec<byte[]> createBytesCodec(int byteLength) {
+        return new BytesElementCodec(byteLength);
+    }
+
+    /**
+     * Creates a codec for ByteBuffer with the fixed byte length.
+     *
+     * @param byteLength byte length.
+     * @return a codec for ByteBuffer.
+     */
+    public static ElementCodec<ByteBuffer> createByteBufferCodec(int byteLength) {
+        return new ByteBufferElementCodec(byteLength);
+    }
+
+    /**
+     * Creates a codec for String in UTF-8.
+     *
+     * @return a codec for String.
+     */
+    public static ElementCodec<String> createUtf8Codec() {
+        return new Utf8ElementCodec();
+    }
+}
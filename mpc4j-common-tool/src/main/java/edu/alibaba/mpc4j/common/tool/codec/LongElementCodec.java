@@ -0,0 +1,33 @@
+package edu.alibaba.mpc4j.common.tool.codec;
+
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory.ElementCodecType;
+import edu.alibaba.mpc4j.common.tool.utils.LongUtils;
+
+/**
+ * Element codec for long, encoded in {@link Long#BYTES} bytes with big-endian.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class LongElementCodec implements ElementCodec<Long> {
+
+    LongElementCodec() {
+        // empty
+    }
+
+    @Override
+    public ElementCodecType getType() {
+        return ElementCodecType.LONG;
+    }
+
+    @Override
+    public int getElementByteLength() {
+        return Long.BYTES;
+    }
+
+    @Override
+    public byte[] encode(Long element) {
+        return LongUtils.longToByteArray(element);
+    }
+
+}
@@ -0,0 +1,32 @@
+package edu.alibaba.mpc4j.common.tool.codec;
+
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory.ElementCodecType;
+import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
+
+/**
+ * Element codec for any object, encoded by {@code ObjectUtils.objectToByteArray}.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class ObjectElementCodec<T> implements ElementCodec<T> {
+
+    ObjectElementCodec() {
+        // empty
+    }
+
+    @Override
+    public ElementCodecType getType() {
+        return ElementCodecType.OBJECT;
+    }
+
+    @Override
+    public int getElementByteLength() {
+        return VARIABLE_BYTE_LENGTH;
+    }
+
+    @Override
+    public byte[] encode(T element) {
+        return ObjectUtils.objectToByteArray(element);
+    }
+}
@@ -0,0 +1,33 @@
+package edu.alibaba.mpc4j.common.tool.codec;
+
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory.ElementCodecType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Element codec for String, encoded in UTF-8.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class Utf8ElementCodec implements ElementCodec<String> {
+
+    Utf8ElementCodec() {
+        // empty
+    }
+
+    @Override
+    public ElementCodecType getType() {
+        return ElementCodecType.UTF8;
+    }
+
+    @Override
+    public int getElementByteLength() {
+        return VARIABLE_BYTE_LENGTH;
+    }
+
+    @Override
+    public byte[] encode(String element) {
+        return element.getBytes(StandardCharsets.UTF_8);
+    }
+}
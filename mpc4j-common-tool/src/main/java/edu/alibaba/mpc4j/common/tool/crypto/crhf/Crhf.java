@@ -1,5 +1,9 @@
 package edu.alibaba.mpc4j.common.tool.crypto.crhf;
 
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
+
+import java.util.Arrays;
+
 /**
  * 抗关联哈希函数（Correlation Robustness Hash Function，CRHF）接口。抗关联哈希函数以128比特为输入，输出128比特的哈希结果。
  * 下述论文给出了抗关联哈希函数的2种实现：
@@ -20,6 +24,24 @@ public interface Crhf {
      */
     byte[] hash(byte[] block);
 
+    /**
+     * 将连续存储的多个输入分组哈希为输出分组，第i个分组位于[i * 16, (i + 1) * 16)。
+     * 与逐个调用{@link #hash(byte[])}相比，不需要为每个分组分配输出数组，底层伪随机置换也可以一次处理所有分组。
+     *
+     * @param blocks  连续存储的输入分组，长度必须为16的整数倍。
+     * @param outputs 连续存储的哈希结果，长度必须与输入相同。
+     */
+    default void hash(byte[] blocks, byte[] outputs) {
+        assert blocks.length % CommonConstants.BLOCK_BYTE_LENGTH == 0
+            : "blocks.length must be divisible by " + CommonConstants.BLOCK_BYTE_LENGTH + ": " + blocks.length;
+        assert outputs.length == blocks.length
+            : "outputs.length must be equal to " + blocks.length + ": " + outputs.length;
+        for (int offset = 0; offset < blocks.length; offset += CommonConstants.BLOCK_BYTE_LENGTH) {
+            byte[] output = hash(Arrays.copyOfRange(blocks, offset, offset + CommonConstants.BLOCK_BYTE_LENGTH));
+            System.arraycopy(output, 0, outputs, offset, CommonConstants.BLOCK_BYTE_LENGTH);
+        }
+    }
+
     /**
      * 返回抗关联哈希函数类型。
      *
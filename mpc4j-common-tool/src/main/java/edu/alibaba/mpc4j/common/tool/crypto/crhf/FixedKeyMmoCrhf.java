@@ -5,6 +5,7 @@ import edu.alibaba.mpc4j.common.tool.crypto.crhf.CrhfFactory.CrhfType;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.DefaultFixedKeyPrp;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.FixedKeyPrp;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 
 /**
  * MMO(x) = π(x) ⊕ x, where π is initialized using fixed-key PRP. The scheme is presented in Section 7.2 of the paper:
@@ -48,6 +49,13 @@ public class FixedKeyMmoCrhf implements Crhf {
         return output;
     }
 
+    @Override
+    public void hash(byte[] blocks, byte[] outputs) {
+        // MMO(x) = π(x) ⊕ x, computing π(x) for all blocks at once
+        fixedKeyPrp.prp(blocks, outputs);
+        BytesUtils.xori(outputs, blocks);
+    }
+
     @Override
     public CrhfFactory.CrhfType getCrhfType() {
         return CrhfType.FIXED_KEY_MMO;
@@ -1,9 +1,11 @@
 package edu.alibaba.mpc4j.common.tool.crypto.crhf;
 
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.EnvType;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.Prp;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.PrpFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 
 /**
  * MMO_σ(x) = π(σ(x)) ⊕ σ(x)（满足电路抗关联性），由下述论文第7.3节给出：
@@ -53,6 +55,28 @@ class JdkMmoSigmaCrhf implements Crhf {
         return output;
     }
 
+    @Override
+    public void hash(byte[] blocks, byte[] outputs) {
+        assert blocks.length % CommonConstants.BLOCK_BYTE_LENGTH == 0;
+        assert outputs.length == blocks.length;
+        // σ(x)，直接在连续存储的数组上计算
+        byte[] sigmaXs = new byte[blocks.length];
+        for (int offset = 0; offset < blocks.length; offset += CommonConstants.BLOCK_BYTE_LENGTH) {
+            for (int i = 0; i < Integer.BYTES; i++) {
+                // σ(x) = [a_1 ⊕ a_0, a_0 ⊕ a_1, a_3, a_2]
+                byte a0 = blocks[offset + i];
+                byte a1 = blocks[offset + Integer.BYTES + i];
+                sigmaXs[offset + i] = (byte) (a1 ^ a0);
+                sigmaXs[offset + Integer.BYTES + i] = (byte) (a0 ^ a1);
+                sigmaXs[offset + Integer.BYTES * 2 + i] = blocks[offset + Integer.BYTES * 3 + i];
+                sigmaXs[offset + Integer.BYTES * 3 + i] = blocks[offset + Integer.BYTES * 2 + i];
+            }
+        }
+        // π(σ(x)) ⊕ σ(x)
+        prp.prp(sigmaXs, outputs);
+        BytesUtils.xori(outputs, sigmaXs);
+    }
+
     @Override
     public CrhfFactory.CrhfType getCrhfType() {
         return CrhfFactory.CrhfType.JDK_MMO_SIGMA;
@@ -4,6 +4,7 @@ import edu.alibaba.mpc4j.common.tool.EnvType;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.Prp;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.PrpFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 
 /**
  * MMO(x) = π(x) ⊕ x（满足抗关联性），由下述论文第7.2节给出：
@@ -38,6 +39,13 @@ class MmoCrhf implements Crhf {
         return output;
     }
 
+    @Override
+    public void hash(byte[] blocks, byte[] outputs) {
+        // MMO(x) = π(x) ⊕ x，所有分组的π(x)一次计算完毕
+        prp.prp(blocks, outputs);
+        BytesUtils.xori(outputs, blocks);
+    }
+
     @Override
     public CrhfFactory.CrhfType getCrhfType() {
         return CrhfFactory.CrhfType.MMO;
@@ -1,13 +1,16 @@
 package edu.alibaba.mpc4j.common.tool.crypto.crhf;
 
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.EnvType;
 import edu.alibaba.mpc4j.common.tool.crypto.crhf.CrhfFactory.CrhfType;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.Prp;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.PrpFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import jdk.incubator.vector.ByteVector;
 import jdk.incubator.vector.VectorOperators;
 import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
 
 /**
  * MMO_σ(x) = π(σ(x)) ⊕ σ(x) using SIMD.
@@ -34,6 +37,23 @@ public class SimdMmoSigmaCrhf implements Crhf {
         ByteVector.SPECIES_128,
         4, 5, 6, 7, 0, 1, 2, 3, 12, 13, 14, 15, 8, 9, 10, 11
     );
+    /**
+     * the widest species for batch σ(x), each lane group of 16 bytes is one block
+     */
+    private static final VectorSpecies<Byte> WIDE_SPECIES =
+        ByteVector.SPECIES_PREFERRED.length() >= CommonConstants.BLOCK_BYTE_LENGTH
+            ? ByteVector.SPECIES_PREFERRED : ByteVector.SPECIES_128;
+    /**
+     * mask = (1^{64} || 0^{64})^{*} in wide lanes
+     */
+    private static final ByteVector WIDE_MASK = ByteVector.fromArray(WIDE_SPECIES, createWideMask(), 0);
+    /**
+     * mm_shuffle_epi32(a, 78) applied to each block in wide lanes
+     */
+    private static final VectorShuffle<Byte> WIDE_VECTOR_SHUFFLE = VectorShuffle.fromOp(
+        WIDE_SPECIES,
+        i -> (i & ~0x0F) | ((i & 0x0F) ^ 0x04)
+    );
     /**
      * pseudo-random permutation
      */
@@ -65,6 +85,43 @@ public class SimdMmoSigmaCrhf implements Crhf {
         return CrhfType.SIMD_MMO_SIGMA;
     }
 
+    @Override
+    public void hash(byte[] blocks, byte[] outputs) {
+        assert blocks.length % CommonConstants.BLOCK_BYTE_LENGTH == 0;
+        assert outputs.length == blocks.length;
+        // σ(x) for all blocks, using the widest lanes and then 128-bit lanes for the remaining blocks
+        byte[] sigmaXs = new byte[blocks.length];
+        int offset = 0;
+        for (; offset <= blocks.length - WIDE_SPECIES.length(); offset += WIDE_SPECIES.length()) {
+            ByteVector vectorX = ByteVector.fromArray(WIDE_SPECIES, blocks, offset);
+            vectorX.rearrange(WIDE_VECTOR_SHUFFLE)
+                .lanewise(VectorOperators.XOR, vectorX.and(WIDE_MASK))
+                .intoArray(sigmaXs, offset);
+        }
+        for (; offset < blocks.length; offset += CommonConstants.BLOCK_BYTE_LENGTH) {
+            ByteVector vectorX = ByteVector.fromArray(ByteVector.SPECIES_128, blocks, offset);
+            vectorX.rearrange(VECTOR_SHUFFLE)
+                .lanewise(VectorOperators.XOR, vectorX.and(MASK))
+                .intoArray(sigmaXs, offset);
+        }
+        // π(σ(x)) ⊕ σ(x)
+        prp.prp(sigmaXs, outputs);
+        BytesUtils.xori(outputs, sigmaXs);
+    }
+
+    /**
+     * Creates mask = (1^{64} || 0^{64})^{*} for wide lanes.
+     *
+     * @return mask.
+     */
+    private static byte[] createWideMask() {
+        byte[] mask = new byte[WIDE_SPECIES.length()];
+        for (int i = 0; i < mask.length; i++) {
+            mask[i] = (i % CommonConstants.BLOCK_BYTE_LENGTH < Long.BYTES) ? (byte) 0xFF : (byte) 0x00;
+        }
+        return mask;
+    }
+
     /**
      * σ(x) = mm_shuffle_epi32(a, 78) ⊕ and_si128(a, mask) using SIMD.
      *
@@ -1,5 +1,7 @@
 package edu.alibaba.mpc4j.common.tool.crypto.ecc;
 
+import edu.alibaba.mpc4j.common.tool.crypto.ecc.utils.BatchEccUtils;
+
 import java.math.BigInteger;
 import java.security.SecureRandom;
 
@@ -87,6 +89,45 @@ public interface ByteFullEcc extends ByteMulEcc {
      */
     byte[] mul(byte[] p, BigInteger k);
 
+    /**
+     * 批量计算R_i = k_i · P_i。
+     *
+     * @param ps       椭圆曲线点P_1, ..., P_n。
+     * @param ks       幂指数k_1, ..., k_n。
+     * @param parallel 是否并行计算。
+     * @return 结果R_1, ..., R_n。
+     */
+    default byte[][] mul(byte[][] ps, BigInteger[] ks, boolean parallel) {
+        assert ps.length == ks.length : "# of points (" + ps.length + ") must be equal to # of scalars (" + ks.length + ")";
+        byte[][] results = new byte[ps.length][];
+        BatchEccUtils.forEachChunk(ps.length, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = mul(ps[i], ks[i]);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * 计算内积R = Σ_i k_i · P_i。
+     * <p></p>
+     * 字节椭圆曲线的每次点加都要解码和编码，在字节层面实现Pippenger多标量乘法反而更慢。默认实现先批量计算k_i · P_i再求和，
+     * 能访问内部点表示的实现应覆盖此方法。
+     *
+     * @param ps       椭圆曲线点P_1, ..., P_n。
+     * @param ks       幂指数k_1, ..., k_n。
+     * @param parallel 是否并行计算。
+     * @return 结果R。
+     */
+    default byte[] innerProduct(byte[][] ps, BigInteger[] ks, boolean parallel) {
+        byte[][] products = mul(ps, ks, parallel);
+        byte[] innerProduct = getInfinity();
+        for (byte[] product : products) {
+            addi(innerProduct, product);
+        }
+        return innerProduct;
+    }
+
     /**
      * 计算R = k · G。
      *
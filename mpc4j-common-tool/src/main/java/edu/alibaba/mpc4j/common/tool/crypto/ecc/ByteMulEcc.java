@@ -1,5 +1,7 @@
 package edu.alibaba.mpc4j.common.tool.crypto.ecc;
 
+import edu.alibaba.mpc4j.common.tool.crypto.ecc.utils.BatchEccUtils;
+
 import java.security.SecureRandom;
 
 /**
@@ -55,6 +57,23 @@ public interface ByteMulEcc {
      */
     byte[] hashToCurve(byte[] message);
 
+    /**
+     * 将{@code byte[]}表示的数据批量映射到椭圆曲线上。
+     *
+     * @param messages 数据。
+     * @param parallel 是否并行计算。
+     * @return 椭圆曲线映射点。
+     */
+    default byte[][] hashToCurve(byte[][] messages, boolean parallel) {
+        byte[][] results = new byte[messages.length][];
+        BatchEccUtils.forEachChunk(messages.length, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = hashToCurve(messages[i]);
+            }
+        });
+        return results;
+    }
+
     /**
      * 计算R = k · P。
      *
@@ -64,6 +83,25 @@ public interface ByteMulEcc {
      */
     byte[] mul(byte[] p, byte[] k);
 
+    /**
+     * 批量计算R_i = k_i · P_i。
+     *
+     * @param ps       椭圆曲线点P_1, ..., P_n。
+     * @param ks       幂指数k_1, ..., k_n。
+     * @param parallel 是否并行计算。
+     * @return 结果R_1, ..., R_n。
+     */
+    default byte[][] mul(byte[][] ps, byte[][] ks, boolean parallel) {
+        assert ps.length == ks.length : "# of points (" + ps.length + ") must be equal to # of scalars (" + ks.length + ")";
+        byte[][] results = new byte[ps.length][];
+        BatchEccUtils.forEachChunk(ps.length, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = mul(ps[i], ks[i]);
+            }
+        });
+        return results;
+    }
+
     /**
      * 计算R = k · G。
      *
@@ -1,7 +1,9 @@
 package edu.alibaba.mpc4j.common.tool.crypto.ecc;
 
+import edu.alibaba.mpc4j.common.tool.crypto.ecc.utils.BatchEccUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BigIntegerUtils;
 import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.math.ec.ECCurve;
 import org.bouncycastle.math.ec.ECPoint;
 
 import java.math.BigInteger;
@@ -93,6 +95,25 @@ public interface Ecc {
      */
     ECPoint hashToCurve(byte[] data);
 
+    /**
+     * Hashes the data array to EC points. The results are normalized.
+     *
+     * @param data     the data array.
+     * @param parallel parallel hashing.
+     * @return the hashed EC points.
+     */
+    default ECPoint[] hashToCurve(byte[][] data, boolean parallel) {
+        ECCurve curve = getEcDomainParameters().getCurve();
+        ECPoint[] results = new ECPoint[data.length];
+        BatchEccUtils.forEachChunk(data.length, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = hashToCurve(data[i]);
+            }
+            curve.normalizeAll(results, from, to - from, null);
+        });
+        return results;
+    }
+
     /**
      * Encodes the EC point.
      *
@@ -137,6 +158,40 @@ public interface Ecc {
      */
     ECPoint multiply(ECPoint p, BigInteger r);
 
+    /**
+     * Computes r_i · P_i for each i. The results are normalized.
+     *
+     * @param ps       the EC points P_1, ..., P_n.
+     * @param rs       the scalars r_1, ..., r_n.
+     * @param parallel parallel multiplication.
+     * @return r_1 · P_1, ..., r_n · P_n.
+     */
+    default ECPoint[] multiply(ECPoint[] ps, BigInteger[] rs, boolean parallel) {
+        assert ps.length == rs.length : "# of points (" + ps.length + ") must be equal to # of scalars (" + rs.length + ")";
+        ECCurve curve = getEcDomainParameters().getCurve();
+        ECPoint[] results = new ECPoint[ps.length];
+        BatchEccUtils.forEachChunk(ps.length, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = multiply(ps[i], rs[i]);
+            }
+            curve.normalizeAll(results, from, to - from, null);
+        });
+        return results;
+    }
+
+    /**
+     * Normalizes the EC points to the affine coordinates using Montgomery's batch inversion, i.e., only one field
+     * inversion for all points.
+     *
+     * @param ps the EC points.
+     * @return the normalized EC points.
+     */
+    default ECPoint[] normalize(ECPoint[] ps) {
+        ECPoint[] results = ps.clone();
+        getEcDomainParameters().getCurve().normalizeAll(results);
+        return results;
+    }
+
     /**
      * Adds two EC points, i.e., p + q.
      *
@@ -203,6 +258,30 @@ public interface Ecc {
         return value;
     }
 
+    /**
+     * Computes the inner-product Σ_i r_i · P_i using Pippenger's multi-scalar multiplication. All points must be in
+     * the subgroup with order n, since the scalars are reduced modulo n.
+     *
+     * @param ps       the EC points P_1, ..., P_n.
+     * @param rs       the scalars r_1, ..., r_n.
+     * @param parallel parallel computation.
+     * @return the inner product.
+     */
+    default ECPoint innerProduct(ECPoint[] ps, BigInteger[] rs, boolean parallel) {
+        assert ps.length == rs.length : "# of points (" + ps.length + ") must be equal to # of scalars (" + rs.length + ")";
+        BigInteger n = getN();
+        BigInteger[] reduceRs = new BigInteger[rs.length];
+        for (int i = 0; i < rs.length; i++) {
+            reduceRs[i] = rs[i].mod(n);
+        }
+        // affine inputs make each addition in the buckets a mixed addition
+        ECPoint[] normalizePs = normalize(ps);
+        ECPoint innerProduct = BatchEccUtils.pippenger(
+            normalizePs, reduceRs, getInfinity(), ECPoint::add, ECPoint::twice, parallel
+        );
+        return innerProduct.normalize();
+    }
+
     /**
      * Gets the EC type.
      *
@@ -2,6 +2,7 @@ package edu.alibaba.mpc4j.common.tool.crypto.ecc.cafe;
 
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteEccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteFullEcc;
+import edu.alibaba.mpc4j.common.tool.crypto.ecc.utils.BatchEccUtils;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.utils.Ed25519ByteEccUtils;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
@@ -130,6 +131,39 @@ public class Ed25519CafeByteFullEcc implements ByteFullEcc {
         return pFieldElement.mul(cafeScalarK).compress().encode();
     }
 
+    @Override
+    public byte[][] mul(byte[][] ps, BigInteger[] ks, boolean parallel) {
+        assert ps.length == ks.length : "# of points (" + ps.length + ") must be equal to # of scalars (" + ks.length + ")";
+        byte[][] results = new byte[ps.length][];
+        BatchEccUtils.forEachChunk(ps.length, parallel, (from, to) -> {
+            CafeEdwardsPoint[] points = new CafeEdwardsPoint[to - from];
+            for (int i = from; i < to; i++) {
+                assert ps[i].length == Ed25519ByteEccUtils.POINT_BYTES;
+                CafeScalar cafeScalarK = new CafeScalar(Ed25519ByteEccUtils.toByteK(ks[i]));
+                points[i - from] = new CafeEdwardsCompressedPoint(ps[i]).decompress().mul(cafeScalarK);
+            }
+            // one field inversion for the whole chunk
+            CafeEdwardsCompressedPoint[] compressedPoints = CafeEdwardsPoint.compressAll(points);
+            for (int i = from; i < to; i++) {
+                results[i] = compressedPoints[i - from].encode();
+            }
+        });
+        return results;
+    }
+
+    @Override
+    public byte[] innerProduct(byte[][] ps, BigInteger[] ks, boolean parallel) {
+        assert ps.length == ks.length : "# of points (" + ps.length + ") must be equal to # of scalars (" + ks.length + ")";
+        CafeEdwardsPoint[] points = new CafeEdwardsPoint[ps.length];
+        for (int i = 0; i < ps.length; i++) {
+            assert BigIntegerUtils.greaterOrEqual(ks[i], BigInteger.ZERO) && BigIntegerUtils.less(ks[i], Ed25519ByteEccUtils.N);
+            points[i] = new CafeEdwardsCompressedPoint(ps[i]).decompress();
+        }
+        return BatchEccUtils.pippenger(points, ks, CafeEdwardsPoint.IDENTITY, CafeEdwardsPoint::add, CafeEdwardsPoint::dbl, parallel)
+            .compress()
+            .encode();
+    }
+
     @Override
     public byte[] baseMul(BigInteger k) {
         byte[] byteK = Ed25519ByteEccUtils.toByteK(k);
@@ -2,6 +2,7 @@ package edu.alibaba.mpc4j.common.tool.crypto.ecc.cafe;
 
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteEccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteFullEcc;
+import edu.alibaba.mpc4j.common.tool.crypto.ecc.utils.BatchEccUtils;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.utils.Ed25519ByteEccUtils;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
@@ -123,6 +124,19 @@ public class RistrettoCafeByteFullEcc implements ByteFullEcc {
         return pointP.mul(cafeScalarK).compress().encode();
     }
 
+    @Override
+    public byte[] innerProduct(byte[][] ps, BigInteger[] ks, boolean parallel) {
+        assert ps.length == ks.length : "# of points (" + ps.length + ") must be equal to # of scalars (" + ks.length + ")";
+        CafeRistrettoPoint[] points = new CafeRistrettoPoint[ps.length];
+        for (int i = 0; i < ps.length; i++) {
+            assert BigIntegerUtils.greaterOrEqual(ks[i], BigInteger.ZERO) && BigIntegerUtils.less(ks[i], Ed25519ByteEccUtils.N);
+            points[i] = new CafeRistrettoCompressedPoint(ps[i]).decompress();
+        }
+        return BatchEccUtils.pippenger(points, ks, CafeRistrettoPoint.IDENTITY, CafeRistrettoPoint::add, CafeRistrettoPoint::dbl, parallel)
+            .compress()
+            .encode();
+    }
+
     @Override
     public byte[] baseMul(BigInteger k) {
         byte[] byteK = Ed25519ByteEccUtils.toByteK(k);
@@ -0,0 +1,185 @@
+package edu.alibaba.mpc4j.common.tool.crypto.ecc.utils;
+
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+
+import java.math.BigInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Batch ECC utilities, including chunking for batch operations and Pippenger's multi-scalar multiplication (MSM).
+ * <p>
+ * Pippenger's MSM computes Σ_i r_i · P_i by splitting each scalar into c-bit windows. For each window, points are put
+ * into 2^c - 1 buckets according to their window digits, and the window sum Σ_j j · B_j is computed with 2 · 2^c
+ * additions using running sums. The total cost is about (n + 2^{c + 1}) · ⌈l / c⌉ additions and l doublings, compared
+ * with n · l doublings and n · l / 2 additions for n separate multiplications, where l is the bit length of scalars.
+ * See the following paper for details:
+ * <p>
+ * Bernstein, Daniel J., Jeroen Doumen, Tanja Lange, and Jan-Jaap Oosterwijk. Faster batch forgery identification.
+ * INDOCRYPT 2012, pp. 454-473.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public final class BatchEccUtils {
+    /**
+     * chunk size for batch operations. Each chunk is processed by one thread, and the results in a chunk are normalized
+     * with one field inversion (Montgomery's trick).
+     */
+    public static final int CHUNK_SIZE = 1 << 10;
+    /**
+     * max window size
+     */
+    private static final int MAX_WINDOW_SIZE = 16;
+
+    private BatchEccUtils() {
+        // empty
+    }
+
+    /**
+     * Chunk operation.
+     */
+    @FunctionalInterface
+    public interface ChunkOperation {
+        /**
+         * Operates the chunk [from, to).
+         *
+         * @param from from index (inclusive).
+         * @param to   to index (exclusive).
+         */
+        void apply(int from, int to);
+    }
+
+    /**
+     * Splits [0, num) into chunks with {@link #CHUNK_SIZE} elements and applies the operation for each chunk.
+     *
+     * @param num       number of elements.
+     * @param parallel  parallel operation.
+     * @param operation the operation.
+     */
+    public static void forEachChunk(int num, boolean parallel, ChunkOperation operation) {
+        int chunkNum = CommonUtils.getUnitNum(num, CHUNK_SIZE);
+        IntStream chunkIntStream = IntStream.range(0, chunkNum);
+        chunkIntStream = parallel ? chunkIntStream.parallel() : chunkIntStream;
+        chunkIntStream.forEach(chunkIndex -> {
+            int from = chunkIndex * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, num);
+            operation.apply(from, to);
+        });
+    }
+
+    /**
+     * Gets the window size c for Pippenger's MSM with n points, which is about ln(n).
+     *
+     * @param n number of points.
+     * @return window size.
+     */
+    static int getWindowSize(int n) {
+        if (n < 32) {
+            return 3;
+        }
+        return Math.min(MAX_WINDOW_SIZE, (int) Math.ceil(Math.log(n)));
+    }
+
+    /**
+     * Computes Σ_i r_i · P_i using Pippenger's MSM. Windows are processed in parallel if parallel is true.
+     *
+     * @param ps       points P_1, ..., P_n.
+     * @param rs       non-negative scalars r_1, ..., r_n.
+     * @param infinity the infinity point.
+     * @param adder    point addition.
+     * @param doubler  point doubling.
+     * @param parallel parallel operation.
+     * @param <T>      point type.
+     * @return Σ_i r_i · P_i.
+     */
+    public static <T> T pippenger(T[] ps, BigInteger[] rs, T infinity,
+                                  BinaryOperator<T> adder, UnaryOperator<T> doubler, boolean parallel) {
+        assert ps.length == rs.length : "# of points (" + ps.length + ") must be equal to # of scalars (" + rs.length + ")";
+        int n = ps.length;
+        if (n == 0) {
+            return infinity;
+        }
+        int bitLength = 0;
+        byte[][] scalars = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            assert rs[i].signum() >= 0 : "r_" + i + " must be non-negative: " + rs[i];
+            scalars[i] = rs[i].toByteArray();
+            bitLength = Math.max(bitLength, rs[i].bitLength());
+        }
+        if (bitLength == 0) {
+            return infinity;
+        }
+        int c = getWindowSize(n);
+        int windowNum = CommonUtils.getUnitNum(bitLength, c);
+        IntStream windowIntStream = IntStream.range(0, windowNum);
+        windowIntStream = parallel ? windowIntStream.parallel() : windowIntStream;
+        // null represents the infinity point, so that we do not add the infinity point
+        Object[] windowSums = windowIntStream
+            .mapToObj(windowIndex -> windowSum(ps, scalars, windowIndex * c, c, adder))
+            .toArray();
+        // Horner's rule: Σ_w 2^{w · c} · S_w
+        T result = null;
+        for (int windowIndex = windowNum - 1; windowIndex >= 0; windowIndex--) {
+            if (result != null) {
+                for (int j = 0; j < c; j++) {
+                    result = doubler.apply(result);
+                }
+            }
+            @SuppressWarnings("unchecked")
+            T windowSum = (T) windowSums[windowIndex];
+            result = addNullable(result, windowSum, adder);
+        }
+        return result == null ? infinity : result;
+    }
+
+    private static <T> T windowSum(T[] ps, byte[][] scalars, int from, int c, BinaryOperator<T> adder) {
+        @SuppressWarnings("unchecked")
+        T[] buckets = (T[]) new Object[(1 << c) - 1];
+        for (int i = 0; i < ps.length; i++) {
+            int digit = getDigit(scalars[i], from, c);
+            if (digit != 0) {
+                buckets[digit - 1] = addNullable(buckets[digit - 1], ps[i], adder);
+            }
+        }
+        // Σ_j j · B_j = Σ_j (B_j + B_{j + 1} + ... + B_{2^c - 1})
+        T runningSum = null;
+        T windowSum = null;
+        for (int j = buckets.length - 1; j >= 0; j--) {
+            runningSum = addNullable(runningSum, buckets[j], adder);
+            windowSum = addNullable(windowSum, runningSum, adder);
+        }
+        return windowSum;
+    }
+
+    private static <T> T addNullable(T p, T q, BinaryOperator<T> adder) {
+        if (p == null) {
+            return q;
+        }
+        if (q == null) {
+            return p;
+        }
+        return adder.apply(p, q);
+    }
+
+    /**
+     * Gets bits [from, from + c) of the scalar, where bit 0 is the least significant bit.
+     *
+     * @param scalar the scalar in big-endian two's-complement representation.
+     * @param from   from bit.
+     * @param c      number of bits.
+     * @return the digit.
+     */
+    private static int getDigit(byte[] scalar, int from, int c) {
+        int digit = 0;
+        for (int i = 0; i < c; i++) {
+            int bit = from + i;
+            int byteIndex = scalar.length - 1 - (bit >>> 3);
+            if (byteIndex >= 0 && ((scalar[byteIndex] >>> (bit & 7)) & 1) != 0) {
+                digit |= (1 << i);
+            }
+        }
+        return digit;
+    }
+}
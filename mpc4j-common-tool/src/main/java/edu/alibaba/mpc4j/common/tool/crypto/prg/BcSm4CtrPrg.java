@@ -25,9 +25,21 @@ public class BcSm4CtrPrg implements Prg {
      * 输出字节长度
      */
     private final int outputByteLength;
+    /**
+     * PRG加密的是一个全零的明文，明文只读，可在线程间共享
+     */
+    private final byte[] plaintext;
+    /**
+     * 经过测试，SM4/CTR模式不是线程安全的，每个线程复用自己的实例，每次扩展只需要用新的种子重新初始化
+     */
+    private final ThreadLocal<BufferedBlockCipher> cipherThreadLocal;
 
     BcSm4CtrPrg(int outputByteLength) {
         this.outputByteLength = outputByteLength;
+        plaintext = new byte[outputByteLength];
+        cipherThreadLocal = ThreadLocal.withInitial(
+            () -> new DefaultBufferedBlockCipher(SICBlockCipher.newInstance(new SM4Engine()))
+        );
     }
 
     @Override
@@ -37,21 +49,28 @@ public class BcSm4CtrPrg implements Prg {
 
     @Override
     public byte[] extendToBytes(byte[] seed) {
+        byte[] ciphertext = new byte[outputByteLength];
+        extendToBytes(seed, ciphertext, 0);
+        return ciphertext;
+    }
+
+    @Override
+    public void extendToBytes(byte[][] seeds, byte[] out) {
+        assert out.length == seeds.length * outputByteLength
+            : "out.length must be equal to " + seeds.length * outputByteLength + ": " + out.length;
+        for (int index = 0; index < seeds.length; index++) {
+            extendToBytes(seeds[index], out, index * outputByteLength);
+        }
+    }
+
+    private void extendToBytes(byte[] seed, byte[] out, int outOffset) {
         assert BlockUtils.valid(seed);
-        // 经过测试，SM4/CTR模式不是线程安全的，每次扩展要创建新的实例
+        BufferedBlockCipher sm4CtrCipher = cipherThreadLocal.get();
         try {
-            KeyParameter keyParameter = new KeyParameter(seed);
-            ParametersWithIV parametersWithIv = new ParametersWithIV(keyParameter, IV);
-            // 初始化SM4/CTR引擎
-            BufferedBlockCipher sm4CtrCipher = new DefaultBufferedBlockCipher(SICBlockCipher.newInstance(new SM4Engine()));
-            sm4CtrCipher.init(true, parametersWithIv);
-            // PRG加密的是一个全零的明文
-            byte[] plaintext = new byte[outputByteLength];
-            byte[] ciphertext = new byte[outputByteLength];
-            int offset = sm4CtrCipher.processBytes(plaintext, 0, plaintext.length, ciphertext, 0);
-            sm4CtrCipher.doFinal(ciphertext, offset);
-
-            return ciphertext;
+            // 用新的种子重新初始化SM4/CTR引擎，计数器也随之重置
+            sm4CtrCipher.init(true, new ParametersWithIV(new KeyParameter(seed), IV));
+            int offset = sm4CtrCipher.processBytes(plaintext, 0, outputByteLength, out, outOffset);
+            sm4CtrCipher.doFinal(out, outOffset + offset);
         } catch (InvalidCipherTextException e) {
             throw new IllegalStateException(String.format("Invalid seed length: %s bytes", seed.length));
         }
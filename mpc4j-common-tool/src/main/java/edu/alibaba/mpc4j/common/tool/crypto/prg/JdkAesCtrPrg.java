@@ -6,6 +6,7 @@ import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.security.InvalidAlgorithmParameterException;
@@ -36,9 +37,25 @@ public class JdkAesCtrPrg implements Prg {
      * 输出字节长度
      */
     private final int outputByteLength;
+    /**
+     * PRG加密的是一个全零的明文，明文只读，可在线程间共享
+     */
+    private final byte[] plaintext;
+    /**
+     * 经过测试，AES/CTR模式不是线程安全的，每个线程复用自己的实例，每次扩展只需要用新的种子重新初始化
+     */
+    private final ThreadLocal<Cipher> cipherThreadLocal;
 
     JdkAesCtrPrg(int outputByteLength) {
         this.outputByteLength = outputByteLength;
+        plaintext = new byte[outputByteLength];
+        cipherThreadLocal = ThreadLocal.withInitial(() -> {
+            try {
+                return Cipher.getInstance(JDK_AES_MODE_NAME);
+            } catch (NoSuchPaddingException | NoSuchAlgorithmException e) {
+                throw new IllegalStateException("System does not support " + JDK_AES_MODE_NAME);
+            }
+        });
     }
 
     @Override
@@ -48,21 +65,32 @@ public class JdkAesCtrPrg implements Prg {
 
     @Override
     public byte[] extendToBytes(byte[] seed) {
+        byte[] output = new byte[outputByteLength];
+        extendToBytes(seed, output, 0);
+        return output;
+    }
+
+    @Override
+    public void extendToBytes(byte[][] seeds, byte[] out) {
+        assert out.length == seeds.length * outputByteLength
+            : "out.length must be equal to " + seeds.length * outputByteLength + ": " + out.length;
+        for (int index = 0; index < seeds.length; index++) {
+            extendToBytes(seeds[index], out, index * outputByteLength);
+        }
+    }
+
+    private void extendToBytes(byte[] seed, byte[] out, int outOffset) {
         assert BlockUtils.valid(seed);
-        // 经过测试，AES/CTR模式不是线程安全的，每次扩展要创建新的实例
+        Cipher cipher = cipherThreadLocal.get();
         try {
-            Cipher cipher = Cipher.getInstance(JDK_AES_MODE_NAME);
             Key keySpec = new SecretKeySpec(seed, JDK_AES_ALGORITHM_NAME);
-            // 初始化AES/CTR/NoPadding
+            // 用新的种子重新初始化AES/CTR/NoPadding，计数器也随之重置
             cipher.init(Cipher.ENCRYPT_MODE, keySpec, IV);
-            // PRG加密的是一个全零的明文
-            byte[] plaintext = new byte[outputByteLength];
-
-            return cipher.doFinal(plaintext);
+            cipher.doFinal(plaintext, 0, outputByteLength, out, outOffset);
         } catch (InvalidKeyException e) {
             throw new IllegalStateException(String.format("Invalid seed length: %s bytes", seed.length));
         } catch (InvalidAlgorithmParameterException | IllegalBlockSizeException | BadPaddingException
-            | NoSuchPaddingException | NoSuchAlgorithmException ignored) {
+            | ShortBufferException ignored) {
             throw new IllegalStateException("System does not support " + JDK_AES_MODE_NAME);
         }
     }
@@ -8,7 +8,15 @@ import edu.alibaba.mpc4j.common.tool.crypto.prp.PrpFactory.PrpType;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
 
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.stream.IntStream;
 
@@ -22,6 +30,14 @@ import java.util.stream.IntStream;
  * @date 2021/12/06
  */
 public class JdkAesEcbPrg implements Prg {
+    /**
+     * JDK无填充AES-ECB模式名称
+     */
+    private static final String JDK_AES_MODE_NAME = "AES/ECB/NoPadding";
+    /**
+     * JDK的AES算法名称
+     */
+    private static final String JDK_AES_ALGORITHM_NAME = "AES";
     /**
      * 输出字节长度
      */
@@ -34,6 +50,10 @@ public class JdkAesEcbPrg implements Prg {
      * 是否需要截断处理
      */
     private final boolean needTruncate;
+    /**
+     * 批量扩展时使用的AES/ECB实例，第j个实例的密钥与第j个伪随机置换相同。每个线程复用自己的实例
+     */
+    private final ThreadLocal<Cipher[]> ciphersThreadLocal;
 
     JdkAesEcbPrg(int outputByteLength) {
         this.outputByteLength = outputByteLength;
@@ -44,14 +64,34 @@ public class JdkAesEcbPrg implements Prg {
         prps = IntStream.range(0, prpNum)
             .mapToObj(prpIndex -> {
                 Prp prp = PrpFactory.createInstance(PrpType.JDK_AES);
-                // 将种子密钥设置为PRP的索引值
-                byte[] key = ByteBuffer.allocate(CommonConstants.BLOCK_BYTE_LENGTH)
-                    .putInt(CommonConstants.BLOCK_BYTE_LENGTH - Integer.BYTES, prpIndex)
-                    .array();
-                prp.setKey(key);
+                prp.setKey(getPrpKey(prpIndex));
                 return prp;
             })
             .toArray(Prp[]::new);
+        ciphersThreadLocal = ThreadLocal.withInitial(() -> IntStream.range(0, prpNum)
+            .mapToObj(prpIndex -> {
+                try {
+                    Cipher cipher = Cipher.getInstance(JDK_AES_MODE_NAME);
+                    cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(getPrpKey(prpIndex), JDK_AES_ALGORITHM_NAME));
+                    return cipher;
+                } catch (InvalidKeyException | NoSuchPaddingException | NoSuchAlgorithmException e) {
+                    throw new IllegalStateException("System does not support " + JDK_AES_MODE_NAME);
+                }
+            })
+            .toArray(Cipher[]::new)
+        );
+    }
+
+    /**
+     * 将种子密钥设置为PRP的索引值。
+     *
+     * @param prpIndex PRP的索引值。
+     * @return 种子密钥。
+     */
+    private static byte[] getPrpKey(int prpIndex) {
+        return ByteBuffer.allocate(CommonConstants.BLOCK_BYTE_LENGTH)
+            .putInt(CommonConstants.BLOCK_BYTE_LENGTH - Integer.BYTES, prpIndex)
+            .array();
     }
 
     @Override
@@ -87,6 +127,40 @@ public class JdkAesEcbPrg implements Prg {
 
     }
 
+    @Override
+    public void extendToBytes(byte[][] seeds, byte[] out) {
+        assert out.length == seeds.length * outputByteLength
+            : "out.length must be equal to " + seeds.length * outputByteLength + ": " + out.length;
+        if (seeds.length == 0) {
+            return;
+        }
+        // ECB模式逐分组独立加密，把所有种子拼接后，每个伪随机置换只需要调用一次
+        byte[] seedBlocks = new byte[seeds.length * CommonConstants.BLOCK_BYTE_LENGTH];
+        for (int index = 0; index < seeds.length; index++) {
+            assert seeds[index].length == CommonConstants.BLOCK_BYTE_LENGTH;
+            System.arraycopy(seeds[index], 0, seedBlocks, index * CommonConstants.BLOCK_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH);
+        }
+        byte[] prpBlocks = new byte[seedBlocks.length];
+        Cipher[] ciphers = ciphersThreadLocal.get();
+        for (int prpIndex = 0; prpIndex < ciphers.length; prpIndex++) {
+            try {
+                ciphers[prpIndex].doFinal(seedBlocks, 0, seedBlocks.length, prpBlocks, 0);
+            } catch (ShortBufferException | IllegalBlockSizeException | BadPaddingException e) {
+                throw new IllegalStateException(String.format("Invalid plaintext length: %s bytes", seedBlocks.length));
+            }
+            // PRF_seed(k) \xor k，最后一个分组可能需要截断
+            int blockOffset = prpIndex * CommonConstants.BLOCK_BYTE_LENGTH;
+            int copyLength = Math.min(CommonConstants.BLOCK_BYTE_LENGTH, outputByteLength - blockOffset);
+            for (int index = 0; index < seeds.length; index++) {
+                int prpOffset = index * CommonConstants.BLOCK_BYTE_LENGTH;
+                int outOffset = index * outputByteLength + blockOffset;
+                for (int i = 0; i < copyLength; i++) {
+                    out[outOffset + i] = (byte) (prpBlocks[prpOffset + i] ^ seedBlocks[prpOffset + i]);
+                }
+            }
+        }
+    }
+
     @Override
     public PrgType getPrgType() {
         return PrgType.JDK_AES_ECB;
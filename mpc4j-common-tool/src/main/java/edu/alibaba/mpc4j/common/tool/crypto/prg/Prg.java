@@ -22,6 +22,22 @@ public interface Prg {
      */
     byte[] extendToBytes(byte[] seed);
 
+    /**
+     * 将一组种子扩展为指定字节长度的随机数，第i个种子的扩展结果写入out[i * outputByteLength, (i + 1) * outputByteLength)。
+     * 与逐个调用{@link #extendToBytes(byte[])}相比，不需要为每个种子分配输出数组。
+     *
+     * @param seeds 种子。
+     * @param out   输出，长度必须为seeds.length * outputByteLength。
+     */
+    default void extendToBytes(byte[][] seeds, byte[] out) {
+        int outputByteLength = getOutputByteLength();
+        assert out.length == seeds.length * outputByteLength
+            : "out.length must be equal to " + seeds.length * outputByteLength + ": " + out.length;
+        for (int index = 0; index < seeds.length; index++) {
+            System.arraycopy(extendToBytes(seeds[index]), 0, out, index * outputByteLength, outputByteLength);
+        }
+    }
+
     /**
      * 返回伪随机数生成器类型。
      *
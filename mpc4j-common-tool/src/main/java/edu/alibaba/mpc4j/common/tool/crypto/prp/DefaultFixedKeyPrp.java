@@ -27,4 +27,9 @@ public class DefaultFixedKeyPrp implements FixedKeyPrp {
     public byte[] prp(byte[] plaintext) {
         return prp.prp(plaintext);
     }
+
+    @Override
+    public void prp(byte[] plaintexts, byte[] ciphertexts) {
+        prp.prp(plaintexts, ciphertexts);
+    }
 }
@@ -1,5 +1,9 @@
 package edu.alibaba.mpc4j.common.tool.crypto.prp;
 
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
+
+import java.util.Arrays;
+
 /**
  * Fixed key pseudo-random permutation. This is used in client-preprocessing PIR.
  *
@@ -14,4 +18,21 @@ public interface FixedKeyPrp {
      * @return ciphertext.
      */
     byte[] prp(byte[] plaintext);
+
+    /**
+     * Gets the random permutations of blocks stored contiguously, the i-th block is in [i * 16, (i + 1) * 16).
+     *
+     * @param plaintexts  plaintexts, the length must be divisible by 16.
+     * @param ciphertexts ciphertexts, the length must be equal to plaintexts.length.
+     */
+    default void prp(byte[] plaintexts, byte[] ciphertexts) {
+        assert plaintexts.length % CommonConstants.BLOCK_BYTE_LENGTH == 0
+            : "plaintexts.length must be divisible by " + CommonConstants.BLOCK_BYTE_LENGTH + ": " + plaintexts.length;
+        assert ciphertexts.length == plaintexts.length
+            : "ciphertexts.length must be equal to " + plaintexts.length + ": " + ciphertexts.length;
+        for (int offset = 0; offset < plaintexts.length; offset += CommonConstants.BLOCK_BYTE_LENGTH) {
+            byte[] ciphertext = prp(Arrays.copyOfRange(plaintexts, offset, offset + CommonConstants.BLOCK_BYTE_LENGTH));
+            System.arraycopy(ciphertext, 0, ciphertexts, offset, CommonConstants.BLOCK_BYTE_LENGTH);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
@@ -67,6 +68,19 @@ class JdkAesPrp implements Prp {
         }
     }
 
+    @Override
+    public void prp(byte[] plaintexts, byte[] ciphertexts) {
+        assert encryptCipher != null;
+        assert plaintexts.length % CommonConstants.BLOCK_BYTE_LENGTH == 0;
+        assert ciphertexts.length == plaintexts.length;
+        try {
+            // ECB模式下各分组独立加密，一次调用即可完成所有分组的置换，JDK会使用AES-NI流水线处理
+            encryptCipher.doFinal(plaintexts, 0, plaintexts.length, ciphertexts, 0);
+        } catch (ShortBufferException | IllegalBlockSizeException | BadPaddingException e) {
+            throw new IllegalStateException(String.format("Invalid plaintext length: %s bytes", plaintexts.length));
+        }
+    }
+
     @Override
     public byte[] invPrp(byte[] ciphertext) {
         assert decryptCipher != null;
@@ -43,6 +43,15 @@ public class NativeAesPrp implements Prp, Closeable {
      */
     private native byte[] nativeEncrypt(ByteBuffer keyPointer, byte[] plaintext);
 
+    /**
+     * 本地批量加密。
+     *
+     * @param keyPointer  本地密钥指针。
+     * @param plaintexts  连续存储的明文分组。
+     * @param ciphertexts 连续存储的密文分组。
+     */
+    private native void nativeBatchEncrypt(ByteBuffer keyPointer, byte[] plaintexts, byte[] ciphertexts);
+
     /**
      * 本地解密。
      *
@@ -78,6 +87,16 @@ public class NativeAesPrp implements Prp, Closeable {
         return nativeEncrypt(keyPointer, plaintext);
     }
 
+    @Override
+    public void prp(byte[] plaintexts, byte[] ciphertexts) {
+        assert keyPointer != null : "Please set key before encryption";
+        assert plaintexts.length % CommonConstants.BLOCK_BYTE_LENGTH == 0
+            : "plaintexts byte length must be divisible by " + CommonConstants.BLOCK_BYTE_LENGTH;
+        assert ciphertexts.length == plaintexts.length
+            : "ciphertexts byte length must be " + plaintexts.length;
+        nativeBatchEncrypt(keyPointer, plaintexts, ciphertexts);
+    }
+
     @Override
     public byte[] invPrp(byte[] ciphertext) {
         assert keyPointer != null : "Please set key before encryption";
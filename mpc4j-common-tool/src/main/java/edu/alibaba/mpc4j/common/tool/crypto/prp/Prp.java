@@ -1,7 +1,10 @@
 package edu.alibaba.mpc4j.common.tool.crypto.prp;
 
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.PrpFactory.PrpType;
 
+import java.util.Arrays;
+
 /**
  * 伪随机置换（Pseudo-Random Permutation，PRP）接口。PRP使用{0,1}^κ的密钥进行初始化，以{0,1}^κ为输入，返回{0,1}^κ的输出。
  *
@@ -24,6 +27,23 @@ public interface Prp {
      */
     byte[] prp(byte[] plaintext);
 
+    /**
+     * 对连续存储的多个明文分组伪随机置换，第i个分组位于[i * κ, (i + 1) * κ)。
+     *
+     * @param plaintexts  连续存储的明文分组，长度必须为κ的整数倍。
+     * @param ciphertexts 连续存储的密文分组，长度必须与明文相同。
+     */
+    default void prp(byte[] plaintexts, byte[] ciphertexts) {
+        assert plaintexts.length % CommonConstants.BLOCK_BYTE_LENGTH == 0
+            : "plaintexts.length must be divisible by " + CommonConstants.BLOCK_BYTE_LENGTH + ": " + plaintexts.length;
+        assert ciphertexts.length == plaintexts.length
+            : "ciphertexts.length must be equal to " + plaintexts.length + ": " + ciphertexts.length;
+        for (int offset = 0; offset < plaintexts.length; offset += CommonConstants.BLOCK_BYTE_LENGTH) {
+            byte[] ciphertext = prp(Arrays.copyOfRange(plaintexts, offset, offset + CommonConstants.BLOCK_BYTE_LENGTH));
+            System.arraycopy(ciphertext, 0, ciphertexts, offset, CommonConstants.BLOCK_BYTE_LENGTH);
+        }
+    }
+
     /**
      * 对密文逆伪随机置换。
      *
@@ -1,7 +1,10 @@
 package edu.alibaba.mpc4j.common.tool.crypto.tcrhf;
 
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.crypto.tcrhf.TcrhfFactory.TcrhfType;
 
+import java.util.Arrays;
+
 /**
  * 可调抗关联哈希函数（Tweakable Circular Correlation Robustness）接口。可调抗关联哈希函数以128比特和索引值为输入，输出128比特哈希值。
  *
@@ -18,6 +21,26 @@ public interface Tcrhf {
      */
     byte[] hash(int index, byte[] block);
 
+    /**
+     * 将连续存储的多个输入分组哈希为输出分组，第i个分组位于[i * 16, (i + 1) * 16)，对应的索引值为indexes[i]。
+     * 与逐个调用{@link #hash(int, byte[])}相比，不需要为每个分组分配输出数组，底层伪随机置换也可以一次处理所有分组。
+     *
+     * @param indexes 索引值。
+     * @param blocks  连续存储的输入分组，长度必须为indexes.length * 16。
+     * @param outputs 连续存储的哈希结果，长度必须与输入相同。
+     */
+    default void hash(int[] indexes, byte[] blocks, byte[] outputs) {
+        assert blocks.length == indexes.length * CommonConstants.BLOCK_BYTE_LENGTH
+            : "blocks.length must be equal to " + indexes.length * CommonConstants.BLOCK_BYTE_LENGTH + ": " + blocks.length;
+        assert outputs.length == blocks.length
+            : "outputs.length must be equal to " + blocks.length + ": " + outputs.length;
+        for (int i = 0; i < indexes.length; i++) {
+            int offset = i * CommonConstants.BLOCK_BYTE_LENGTH;
+            byte[] output = hash(indexes[i], Arrays.copyOfRange(blocks, offset, offset + CommonConstants.BLOCK_BYTE_LENGTH));
+            System.arraycopy(output, 0, outputs, offset, CommonConstants.BLOCK_BYTE_LENGTH);
+        }
+    }
+
     /**
      * 将如数的分组哈希为输出分组。
      *
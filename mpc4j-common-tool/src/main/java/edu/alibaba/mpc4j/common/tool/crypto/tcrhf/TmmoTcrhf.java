@@ -5,6 +5,7 @@ import edu.alibaba.mpc4j.common.tool.EnvType;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.Prp;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.PrpFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 
 import java.nio.ByteBuffer;
 
@@ -49,6 +50,28 @@ class TmmoTcrhf implements Tcrhf {
         return output;
     }
 
+    @Override
+    public void hash(int[] indexes, byte[] blocks, byte[] outputs) {
+        assert blocks.length == indexes.length * CommonConstants.BLOCK_BYTE_LENGTH;
+        assert outputs.length == blocks.length;
+        // π(x)
+        byte[] pais = new byte[blocks.length];
+        prp.prp(blocks, pais);
+        // π(x) ⊕ i，索引值位于每个分组的最后4个字节
+        System.arraycopy(pais, 0, outputs, 0, pais.length);
+        for (int i = 0; i < indexes.length; i++) {
+            int offset = (i + 1) * CommonConstants.BLOCK_BYTE_LENGTH - Integer.BYTES;
+            int index = indexes[i];
+            outputs[offset] ^= (byte) (index >>> 24);
+            outputs[offset + 1] ^= (byte) (index >>> 16);
+            outputs[offset + 2] ^= (byte) (index >>> 8);
+            outputs[offset + 3] ^= (byte) index;
+        }
+        // TMMO(x) = π(π(x) ⊕ i) ⊕ π(x)
+        prp.prp(outputs, outputs);
+        BytesUtils.xori(outputs, pais);
+    }
+
     @Override
     public byte[] hash(int leftIndex, int rightIndex, byte[] block) {
         // 将两个索引值转换为indexBytes的最后8个字节
@@ -0,0 +1,100 @@
+package edu.alibaba.mpc4j.common.tool.codec;
+
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * element codec test.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class ElementCodecTest {
+    /**
+     * random state
+     */
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    /**
+     * number of elements
+     */
+    private static final int NUM = 100;
+    /**
+     * byte length
+     */
+    private static final int BYTE_LENGTH = 16;
+
+    @Test
+    public void testLongCodec() {
+        ElementCodec<Long> codec = ElementCodecFactory.createLongCodec();
+        List<Long> elements = IntStream.range(0, NUM)
+            .mapToObj(index -> SECURE_RANDOM.nextLong())
+            .collect(Collectors.toList());
+        testCodec(codec, elements);
+    }
+
+    @Test
+    public void testBytesCodec() {
+        ElementCodec<byte[]> codec = ElementCodecFactory.createBytesCodec(BYTE_LENGTH);
+        List<byte[]> elements = IntStream.range(0, NUM)
+            .mapToObj(index -> BytesUtils.randomByteArray(BYTE_LENGTH, SECURE_RANDOM))
+            .collect(Collectors.toList());
+        testCodec(codec, elements);
+        // the element is encoded without copying
+        Assert.assertSame(elements.get(0), codec.encode(elements.get(0)));
+        // invalid length
+        Assert.assertThrows(IllegalArgumentException.class, () -> codec.encode(new byte[BYTE_LENGTH - 1]));
+    }
+
+    @Test
+    public void testByteBufferCodec() {
+        ElementCodec<ByteBuffer> codec = ElementCodecFactory.createByteBufferCodec(BYTE_LENGTH);
+        List<ByteBuffer> elements = IntStream.range(0, NUM)
+            .mapToObj(index -> ByteBuffer.wrap(BytesUtils.randomByteArray(BYTE_LENGTH, SECURE_RANDOM)))
+            .collect(Collectors.toList());
+        testCodec(codec, elements);
+        // the backing array is encoded without copying
+        Assert.assertSame(elements.get(0).array(), codec.encode(elements.get(0)));
+        // invalid length
+        Assert.assertThrows(IllegalArgumentException.class, () -> codec.encode(ByteBuffer.allocate(BYTE_LENGTH + 1)));
+    }
+
+    @Test
+    public void testUtf8Codec() {
+        ElementCodec<String> codec = ElementCodecFactory.createUtf8Codec();
+        List<String> elements = IntStream.range(0, NUM)
+            .mapToObj(index -> "元素-" + SECURE_RANDOM.nextInt(index + 1))
+            .collect(Collectors.toList());
+        testCodec(codec, elements);
+    }
+
+    @Test
+    public void testObjectCodec() {
+        ElementCodec<Integer> codec = ElementCodecFactory.createObjectCodec();
+        List<Integer> elements = IntStream.range(0, NUM)
+            .map(index -> SECURE_RANDOM.nextInt())
+            .boxed()
+            .collect(Collectors.toList());
+        testCodec(codec, elements);
+    }
+
+    private <T> void testCodec(ElementCodec<T> codec, List<T> elements) {
+        // codecs output the same encodings as ObjectUtils
+        for (T element : elements) {
+            Assert.assertArrayEquals(ObjectUtils.objectToByteArray(element), codec.encode(element));
+        }
+        // fixed-length codecs output encodings with the element byte length
+        if (codec.getElementByteLength() != ElementCodec.VARIABLE_BYTE_LENGTH) {
+            for (T element : elements) {
+                Assert.assertEquals(codec.getElementByteLength(), codec.encode(element).length);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package edu.alibaba.mpc4j.common.tool.crypto.crhf;
 
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.EnvType;
 import edu.alibaba.mpc4j.common.tool.crypto.crhf.CrhfFactory.CrhfType;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
@@ -11,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.text.DecimalFormat;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
@@ -40,6 +42,47 @@ public class CrhfEfficiencyTest {
         stopWatch = new StopWatch();
     }
 
+    @Test
+    public void testBatchEfficiency() {
+        LOGGER.info("{}\t{}\t{}\t{}", "                name", "    log(n)", " loop(M/s)", "batch(M/s)");
+        for (CrhfType type : CrhfType.values()) {
+            Crhf crhf = CrhfFactory.createInstance(EnvType.STANDARD, type);
+            testBatchEfficiency(crhf);
+        }
+    }
+
+    private void testBatchEfficiency(Crhf crhf) {
+        int n = 1 << LOG_N;
+        byte[] blocks = new byte[n * CommonConstants.BLOCK_BYTE_LENGTH];
+        byte[] outputs = new byte[blocks.length];
+        // warm-up
+        crhf.hash(blocks, outputs);
+        // per-block loop
+        stopWatch.start();
+        for (int index = 0; index < n; index++) {
+            int offset = index * CommonConstants.BLOCK_BYTE_LENGTH;
+            byte[] output = crhf.hash(Arrays.copyOfRange(blocks, offset, offset + CommonConstants.BLOCK_BYTE_LENGTH));
+            System.arraycopy(output, 0, outputs, offset, CommonConstants.BLOCK_BYTE_LENGTH);
+        }
+        stopWatch.stop();
+        double loopTime = (double) stopWatch.getTime(TimeUnit.MICROSECONDS);
+        stopWatch.reset();
+        // batch
+        stopWatch.start();
+        crhf.hash(blocks, outputs);
+        stopWatch.stop();
+        double batchTime = (double) stopWatch.getTime(TimeUnit.MICROSECONDS);
+        stopWatch.reset();
+        // blocks per microsecond = million blocks per second
+        LOGGER.info(
+            "{}\t{}\t{}\t{}",
+            StringUtils.leftPad(crhf.getCrhfType().name(), 20),
+            StringUtils.leftPad(Integer.toString(LOG_N), 10),
+            StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(n / loopTime), 10),
+            StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(n / batchTime), 10)
+        );
+    }
+
     @Test
     public void testEfficiency() {
         LOGGER.info("{}\t{}\t{}\t{}", "                name", "    log(n)", "  parallel", "  crhf(us)");
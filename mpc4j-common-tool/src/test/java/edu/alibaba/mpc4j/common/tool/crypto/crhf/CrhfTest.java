@@ -14,6 +14,7 @@ import org.junit.runners.Parameterized;
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -119,6 +120,25 @@ public class CrhfTest {
         Assert.assertEquals(MAX_RANDOM_ROUND, randomHashSet.size());
     }
 
+    @Test
+    public void testBatch() {
+        Crhf crhf = CrhfFactory.createInstance(EnvType.STANDARD, type);
+        // 批量哈希结果应与逐个哈希结果相同，分组数量覆盖向量化的尾部处理
+        for (int num : new int[]{0, 1, 3, 4, 5, 7, 8, 9, MAX_RANDOM_ROUND}) {
+            byte[] blocks = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+            SECURE_RANDOM.nextBytes(blocks);
+            byte[] outputs = new byte[blocks.length];
+            crhf.hash(blocks, outputs);
+            for (int index = 0; index < num; index++) {
+                int from = index * CommonConstants.BLOCK_BYTE_LENGTH;
+                int to = from + CommonConstants.BLOCK_BYTE_LENGTH;
+                Assert.assertArrayEquals(
+                    crhf.hash(Arrays.copyOfRange(blocks, from, to)), Arrays.copyOfRange(outputs, from, to)
+                );
+            }
+        }
+    }
+
     @Test
     public void testParallel() {
         Crhf crhf = CrhfFactory.createInstance(EnvType.STANDARD, type);
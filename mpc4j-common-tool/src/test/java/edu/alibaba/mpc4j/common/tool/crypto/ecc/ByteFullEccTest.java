@@ -3,6 +3,7 @@ package edu.alibaba.mpc4j.common.tool.crypto.ecc;
 import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteEccFactory.ByteEccType;
+import edu.alibaba.mpc4j.common.tool.crypto.ecc.utils.BatchEccUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -123,6 +124,55 @@ public class ByteFullEccTest {
         }
     }
 
+    @Test
+    public void testBatchMul() {
+        testBatchMul(0);
+        testBatchMul(1);
+        testBatchMul(BatchEccUtils.CHUNK_SIZE + 1);
+    }
+
+    private void testBatchMul(int num) {
+        ByteFullEcc byteFullEcc = ByteEccFactory.createFullInstance(byteEccType);
+        byte[][] ps = IntStream.range(0, num)
+            .mapToObj(index -> byteFullEcc.randomPoint(SECURE_RANDOM))
+            .toArray(byte[][]::new);
+        BigInteger[] ks = IntStream.range(0, num)
+            .mapToObj(index -> byteFullEcc.randomZn(SECURE_RANDOM))
+            .toArray(BigInteger[]::new);
+        for (boolean parallel : new boolean[]{false, true}) {
+            byte[][] actual = byteFullEcc.mul(ps, ks, parallel);
+            Assert.assertEquals(num, actual.length);
+            for (int i = 0; i < num; i++) {
+                Assert.assertArrayEquals(byteFullEcc.mul(ps[i], ks[i]), actual[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testInnerProduct() {
+        testInnerProduct(0);
+        testInnerProduct(1);
+        testInnerProduct(CommonConstants.BLOCK_BIT_LENGTH);
+    }
+
+    private void testInnerProduct(int num) {
+        ByteFullEcc byteFullEcc = ByteEccFactory.createFullInstance(byteEccType);
+        byte[][] ps = IntStream.range(0, num)
+            .mapToObj(index -> byteFullEcc.randomPoint(SECURE_RANDOM))
+            .toArray(byte[][]::new);
+        // random scalars, including 0 and 1
+        BigInteger[] ks = IntStream.range(0, num)
+            .mapToObj(index -> index % 4 == 0 ? BigInteger.valueOf(index % 8 / 4) : byteFullEcc.randomZn(SECURE_RANDOM))
+            .toArray(BigInteger[]::new);
+        byte[] expect = byteFullEcc.getInfinity();
+        for (int i = 0; i < num; i++) {
+            byteFullEcc.addi(expect, byteFullEcc.mul(ps[i], ks[i]));
+        }
+        for (boolean parallel : new boolean[]{false, true}) {
+            Assert.assertArrayEquals(expect, byteFullEcc.innerProduct(ps, ks, parallel));
+        }
+    }
+
     @Test
     public void testBaseMul() {
         ByteFullEcc byteFullEcc = ByteEccFactory.createFullInstance(byteEccType);
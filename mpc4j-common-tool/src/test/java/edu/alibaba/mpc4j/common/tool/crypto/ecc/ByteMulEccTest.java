@@ -4,6 +4,7 @@ import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteEccFactory.ByteEccType;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Assert;
 import org.junit.Test;
@@ -140,6 +141,26 @@ public class ByteMulEccTest {
         }
     }
 
+    @Test
+    public void testBatchMul() {
+        ByteMulEcc byteMulEcc = ByteEccFactory.createMulInstance(byteEccType);
+        int num = MAX_RANDOM_ROUND;
+        byte[][] messages = IntStream.range(0, num)
+            .mapToObj(IntUtils::intToByteArray)
+            .toArray(byte[][]::new);
+        byte[][] ks = IntStream.range(0, num)
+            .mapToObj(index -> byteMulEcc.randomScalar(SECURE_RANDOM))
+            .toArray(byte[][]::new);
+        for (boolean parallel : new boolean[]{false, true}) {
+            byte[][] ps = byteMulEcc.hashToCurve(messages, parallel);
+            byte[][] actual = byteMulEcc.mul(ps, ks, parallel);
+            for (int i = 0; i < num; i++) {
+                Assert.assertArrayEquals(byteMulEcc.hashToCurve(messages[i]), ps[i]);
+                Assert.assertArrayEquals(byteMulEcc.mul(ps[i], ks[i]), actual[i]);
+            }
+        }
+    }
+
     @Test
     public void testBaseMul() {
         ByteMulEcc byteMulEcc = ByteEccFactory.createMulInstance(byteEccType);
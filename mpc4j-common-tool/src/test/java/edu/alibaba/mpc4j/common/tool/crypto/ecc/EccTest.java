@@ -3,8 +3,10 @@ package edu.alibaba.mpc4j.common.tool.crypto.ecc;
 import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.EccFactory.EccType;
+import edu.alibaba.mpc4j.common.tool.crypto.ecc.utils.BatchEccUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BigIntegerUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.bouncycastle.math.ec.ECPoint;
 import org.junit.Assert;
@@ -270,6 +272,103 @@ public class EccTest {
         Assert.assertEquals(ecc.multiply(g, BigInteger.valueOf(num)), ecc.innerProduct(gs, binary));
     }
 
+    @Test
+    public void testBatchHashToCurve() {
+        testBatchHashToCurve(0);
+        testBatchHashToCurve(1);
+        testBatchHashToCurve(BatchEccUtils.CHUNK_SIZE + 1);
+    }
+
+    private void testBatchHashToCurve(int num) {
+        Ecc ecc = EccFactory.createInstance(eccType);
+        byte[][] messages = IntStream.range(0, num)
+            .mapToObj(IntUtils::intToByteArray)
+            .toArray(byte[][]::new);
+        for (boolean parallel : new boolean[]{false, true}) {
+            ECPoint[] actual = ecc.hashToCurve(messages, parallel);
+            Assert.assertEquals(num, actual.length);
+            for (int i = 0; i < num; i++) {
+                Assert.assertTrue(actual[i].isNormalized());
+                Assert.assertEquals(ecc.hashToCurve(messages[i]), actual[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testBatchMultiply() {
+        testBatchMultiply(0);
+        testBatchMultiply(1);
+        testBatchMultiply(BatchEccUtils.CHUNK_SIZE + 1);
+    }
+
+    private void testBatchMultiply(int num) {
+        Ecc ecc = EccFactory.createInstance(eccType);
+        ECPoint[] ps = IntStream.range(0, num)
+            .mapToObj(index -> ecc.randomPoint(SECURE_RANDOM))
+            .toArray(ECPoint[]::new);
+        BigInteger[] rs = IntStream.range(0, num)
+            .mapToObj(index -> ecc.randomZn(SECURE_RANDOM))
+            .toArray(BigInteger[]::new);
+        for (boolean parallel : new boolean[]{false, true}) {
+            ECPoint[] actual = ecc.multiply(ps, rs, parallel);
+            Assert.assertEquals(num, actual.length);
+            for (int i = 0; i < num; i++) {
+                Assert.assertTrue(actual[i].isNormalized());
+                Assert.assertEquals(ecc.multiply(ps[i], rs[i]), actual[i]);
+            }
+        }
+        // normalize
+        ECPoint[] normalize = ecc.normalize(ps);
+        for (int i = 0; i < num; i++) {
+            Assert.assertTrue(normalize[i].isNormalized());
+            Assert.assertEquals(ps[i], normalize[i]);
+        }
+    }
+
+    @Test
+    public void testMsm() {
+        testMsm(0);
+        testMsm(1);
+        testMsm(MAX_ARRAY_LENGTH);
+        testMsm(CommonConstants.BLOCK_BIT_LENGTH);
+    }
+
+    private void testMsm(int num) {
+        Ecc ecc = EccFactory.createInstance(eccType);
+        ECPoint[] ps = IntStream.range(0, num)
+            .mapToObj(index -> ecc.randomPoint(SECURE_RANDOM))
+            .toArray(ECPoint[]::new);
+        // random scalars, including 0, 1, n - 1 and negative scalars
+        BigInteger n = ecc.getN();
+        BigInteger[] rs = IntStream.range(0, num)
+            .mapToObj(index -> {
+                switch (index % 8) {
+                    case 0:
+                        return BigInteger.ZERO;
+                    case 1:
+                        return BigInteger.ONE;
+                    case 2:
+                        return n.subtract(BigInteger.ONE);
+                    case 3:
+                        return ecc.randomZn(SECURE_RANDOM).negate();
+                    default:
+                        return ecc.randomZn(SECURE_RANDOM);
+                }
+            })
+            .toArray(BigInteger[]::new);
+        ECPoint expect = ecc.getInfinity();
+        for (int i = 0; i < num; i++) {
+            expect = ecc.add(expect, ecc.multiply(ps[i], rs[i].mod(n)));
+        }
+        for (boolean parallel : new boolean[]{false, true}) {
+            Assert.assertEquals(expect, ecc.innerProduct(ps, rs, parallel));
+        }
+        // all-zero scalars
+        BigInteger[] zeros = new BigInteger[num];
+        Arrays.fill(zeros, BigInteger.ZERO);
+        Assert.assertTrue(ecc.innerProduct(ps, zeros, false).isInfinity());
+    }
+
     @Test
     public void testParallel() {
         Ecc ecc = EccFactory.createInstance(eccType);
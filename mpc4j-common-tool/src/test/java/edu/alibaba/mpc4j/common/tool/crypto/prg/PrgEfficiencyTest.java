@@ -51,7 +51,9 @@ public class PrgEfficiencyTest {
 
     @Test
     public void testEfficiency() {
-        LOGGER.info("{}\t{}\t{}\t{}", "                name", "    log(n)", "output_len", "   prg(us)");
+        LOGGER.info(
+            "{}\t{}\t{}\t{}\t{}", "                name", "    log(n)", "output_len", "   prg(us)", " batch(us)"
+        );
         // PRF函数最大测试到2^9 = 512比特，即2^6 = 64字节
         testEfficiency(1);
         testEfficiency(1 << 1);
@@ -73,13 +75,23 @@ public class PrgEfficiencyTest {
             STOP_WATCH.stop();
             double time = (double) STOP_WATCH.getTime(TimeUnit.MICROSECONDS) / n;
             STOP_WATCH.reset();
-            LOGGER.info("{}\t{}\t{}\t{}",
+            // 批量扩展
+            byte[][] seeds = IntStream.range(0, n).mapToObj(index -> ZERO_SEED).toArray(byte[][]::new);
+            byte[] out = new byte[n * outputByteLength];
+            prg.extendToBytes(seeds, out);
+            STOP_WATCH.start();
+            prg.extendToBytes(seeds, out);
+            STOP_WATCH.stop();
+            double batchTime = (double) STOP_WATCH.getTime(TimeUnit.MICROSECONDS) / n;
+            STOP_WATCH.reset();
+            LOGGER.info("{}\t{}\t{}\t{}\t{}",
                 StringUtils.leftPad(type.name(), 20),
                 StringUtils.leftPad(String.valueOf(LOG_N), 10),
                 StringUtils.leftPad(String.valueOf(outputByteLength), 10),
-                StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(time), 10)
+                StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(time), 10),
+                StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(batchTime), 10)
             );
         }
-        LOGGER.info(StringUtils.rightPad("", 60, '-'));
+        LOGGER.info(StringUtils.rightPad("", 70, '-'));
     }
 }
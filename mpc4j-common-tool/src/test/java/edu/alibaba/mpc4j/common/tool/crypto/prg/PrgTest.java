@@ -13,6 +13,7 @@ import org.junit.runners.Parameterized;
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -135,6 +136,38 @@ public class PrgTest {
         Assert.assertEquals(MAX_RANDOM_ROUND, outputSet.size());
     }
 
+    @Test
+    public void testBatch() {
+        testBatch(0, CommonConstants.BLOCK_BYTE_LENGTH);
+        testBatch(1, CommonConstants.BLOCK_BYTE_LENGTH);
+        testBatch(MAX_RANDOM_ROUND, CommonConstants.STATS_BYTE_LENGTH);
+        testBatch(MAX_RANDOM_ROUND, CommonConstants.BLOCK_BYTE_LENGTH - 1);
+        testBatch(MAX_RANDOM_ROUND, CommonConstants.BLOCK_BYTE_LENGTH);
+        testBatch(MAX_RANDOM_ROUND, CommonConstants.BLOCK_BYTE_LENGTH + 1);
+        testBatch(MAX_RANDOM_ROUND, 2 * CommonConstants.BLOCK_BYTE_LENGTH - 1);
+        testBatch(MAX_RANDOM_ROUND, 2 * CommonConstants.BLOCK_BYTE_LENGTH);
+        testBatch(MAX_RANDOM_ROUND, 2 * CommonConstants.BLOCK_BYTE_LENGTH + 1);
+    }
+
+    private void testBatch(int num, int outputByteLength) {
+        Prg prg = PrgFactory.createInstance(type, outputByteLength);
+        byte[][] seeds = IntStream.range(0, num)
+            .mapToObj(index -> BlockUtils.randomBlock(SECURE_RANDOM))
+            .toArray(byte[][]::new);
+        byte[] out = new byte[num * outputByteLength];
+        prg.extendToBytes(seeds, out);
+        for (int index = 0; index < num; index++) {
+            Assert.assertArrayEquals(
+                prg.extendToBytes(seeds[index]),
+                Arrays.copyOfRange(out, index * outputByteLength, (index + 1) * outputByteLength)
+            );
+        }
+        // invoke batch PRG with invalid output length
+        if (num > 0) {
+            Assert.assertThrows(AssertionError.class, () -> prg.extendToBytes(seeds, new byte[out.length - 1]));
+        }
+    }
+
     @Test
     public void testParallel() {
         Prg prg = PrgFactory.createInstance(type, CommonConstants.BLOCK_BYTE_LENGTH);
@@ -144,5 +177,17 @@ public class PrgTest {
             .map(ByteBuffer::wrap)
             .collect(Collectors.toSet());
         Assert.assertEquals(1, extendSet.size());
+        // batch
+        byte[][] seeds = IntStream.range(0, MAX_PARALLEL).mapToObj(index -> ZERO_SEED).toArray(byte[][]::new);
+        Set<ByteBuffer> batchExtendSet = IntStream.range(0, MAX_PARALLEL)
+            .parallel()
+            .mapToObj(index -> {
+                byte[] out = new byte[seeds.length * CommonConstants.BLOCK_BYTE_LENGTH];
+                prg.extendToBytes(seeds, out);
+                return out;
+            })
+            .map(ByteBuffer::wrap)
+            .collect(Collectors.toSet());
+        Assert.assertEquals(1, batchExtendSet.size());
     }
 }
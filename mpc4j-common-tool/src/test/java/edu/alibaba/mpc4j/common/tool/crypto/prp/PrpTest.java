@@ -13,6 +13,7 @@ import org.junit.runners.Parameterized;
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -249,6 +250,26 @@ public class PrpTest {
         Assert.assertEquals(MAX_RANDOM_ROUND, randomCiphertextInvPrpSet.size());
     }
 
+    @Test
+    public void testBatchPrp() {
+        Prp prp = PrpFactory.createInstance(type);
+        prp.setKey(BlockUtils.randomBlock(SECURE_RANDOM));
+        // 批量置换结果应与逐个置换结果相同，分组数量覆盖本地实现的交错处理与尾部处理
+        for (int num : new int[]{0, 1, 7, 8, 9, 17, MAX_RANDOM_ROUND}) {
+            byte[] plaintexts = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+            SECURE_RANDOM.nextBytes(plaintexts);
+            byte[] ciphertexts = new byte[plaintexts.length];
+            prp.prp(plaintexts, ciphertexts);
+            for (int index = 0; index < num; index++) {
+                int from = index * CommonConstants.BLOCK_BYTE_LENGTH;
+                int to = from + CommonConstants.BLOCK_BYTE_LENGTH;
+                Assert.assertArrayEquals(
+                    prp.prp(Arrays.copyOfRange(plaintexts, from, to)), Arrays.copyOfRange(ciphertexts, from, to)
+                );
+            }
+        }
+    }
+
     @Test
     public void testParallelPrp() {
         Prp prp = PrpFactory.createInstance(type);
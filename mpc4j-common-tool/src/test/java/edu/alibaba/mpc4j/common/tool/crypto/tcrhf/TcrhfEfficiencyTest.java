@@ -1,5 +1,6 @@
 package edu.alibaba.mpc4j.common.tool.crypto.tcrhf;
 
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.EnvType;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -10,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.text.DecimalFormat;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
@@ -67,4 +69,41 @@ public class TcrhfEfficiencyTest {
             );
         }
     }
+
+    @Test
+    public void testBatchEfficiency() {
+        LOGGER.info("{}\t{}\t{}\t{}", "                name", "    log(n)", " loop(M/s)", "batch(M/s)");
+        int n = 1 << LOG_N;
+        int[] indexes = IntStream.range(0, n).toArray();
+        byte[] blocks = new byte[n * CommonConstants.BLOCK_BYTE_LENGTH];
+        byte[] outputs = new byte[blocks.length];
+        for (TcrhfFactory.TcrhfType type : TYPES) {
+            Tcrhf tcrhf = TcrhfFactory.createInstance(EnvType.STANDARD, type);
+            // warm-up
+            tcrhf.hash(indexes, blocks, outputs);
+            // per-block loop
+            STOP_WATCH.start();
+            for (int index = 0; index < n; index++) {
+                int offset = index * CommonConstants.BLOCK_BYTE_LENGTH;
+                byte[] block = Arrays.copyOfRange(blocks, offset, offset + CommonConstants.BLOCK_BYTE_LENGTH);
+                System.arraycopy(tcrhf.hash(index, block), 0, outputs, offset, CommonConstants.BLOCK_BYTE_LENGTH);
+            }
+            STOP_WATCH.stop();
+            double loopTime = (double) STOP_WATCH.getTime(TimeUnit.MICROSECONDS);
+            STOP_WATCH.reset();
+            // batch
+            STOP_WATCH.start();
+            tcrhf.hash(indexes, blocks, outputs);
+            STOP_WATCH.stop();
+            double batchTime = (double) STOP_WATCH.getTime(TimeUnit.MICROSECONDS);
+            STOP_WATCH.reset();
+            // blocks per microsecond = million blocks per second
+            LOGGER.info("{}\t{}\t{}\t{}",
+                StringUtils.leftPad(type.name(), 20),
+                StringUtils.leftPad(LOG_N_DECIMAL_FORMAT.format(LOG_N), 10),
+                StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(n / loopTime), 10),
+                StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(n / batchTime), 10)
+            );
+        }
+    }
 }
@@ -14,6 +14,7 @@ import org.junit.runners.Parameterized;
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -117,6 +118,26 @@ public class TcrhfTest {
         Assert.assertEquals(MAX_RANDOM_ROUND, randomHashSet.size());
     }
 
+    @Test
+    public void testBatch() {
+        Tcrhf tcrhf = TcrhfFactory.createInstance(EnvType.STANDARD, type);
+        // 批量哈希结果应与逐个哈希结果相同
+        for (int num : new int[]{0, 1, MAX_RANDOM_ROUND}) {
+            int[] indexes = IntStream.range(0, num).map(index -> SECURE_RANDOM.nextInt()).toArray();
+            byte[] blocks = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+            SECURE_RANDOM.nextBytes(blocks);
+            byte[] outputs = new byte[blocks.length];
+            tcrhf.hash(indexes, blocks, outputs);
+            for (int index = 0; index < num; index++) {
+                int from = index * CommonConstants.BLOCK_BYTE_LENGTH;
+                int to = from + CommonConstants.BLOCK_BYTE_LENGTH;
+                Assert.assertArrayEquals(
+                    tcrhf.hash(indexes[index], Arrays.copyOfRange(blocks, from, to)), Arrays.copyOfRange(outputs, from, to)
+                );
+            }
+        }
+    }
+
     @Test
     public void testParallel() {
         Tcrhf tcrhf = TcrhfFactory.createInstance(EnvType.STANDARD, type);
@@ -15,6 +15,7 @@ import edu.alibaba.mpc4j.crypto.fhe.seal.ntt.NttTool;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rq.PolyArithmeticSmallMod;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rq.PolyCore;
 import edu.alibaba.mpc4j.crypto.fhe.seal.utils.Constants;
+import edu.alibaba.mpc4j.crypto.fhe.seal.utils.MemoryPoolHandle;
 import edu.alibaba.mpc4j.crypto.fhe.seal.utils.ValCheck;
 import edu.alibaba.mpc4j.crypto.fhe.seal.zq.Common;
 import edu.alibaba.mpc4j.crypto.fhe.seal.zq.UintArithmetic;
@@ -57,15 +58,33 @@ public class Decryptor {
      * the secret key array
      */
     private long[] secretKeyArray;
+    /**
+     * memory pool for temporary allocations
+     */
+    private final MemoryPoolHandle pool;
 
     /**
      * Creates a Decryptor instance initialized with the specified SEALContext
-     * and secret key.
+     * and secret key. Dynamic memory allocations are allocated from the global
+     * memory pool.
      *
      * @param context   the SEALContext.
      * @param secretKey the secret key.
      */
     public Decryptor(SealContext context, SecretKey secretKey) {
+        this(context, secretKey, MemoryPoolHandle.global());
+    }
+
+    /**
+     * Creates a Decryptor instance initialized with the specified SEALContext
+     * and secret key. Dynamic memory allocations in decryption are allocated
+     * from the memory pool pointed to by the given MemoryPoolHandle.
+     *
+     * @param context   the SEALContext.
+     * @param secretKey the secret key.
+     * @param pool      the MemoryPoolHandle pointing to a valid memory pool.
+     */
+    public Decryptor(SealContext context, SecretKey secretKey, MemoryPoolHandle pool) {
         // Verify parameters
         if (!context.isParametersSet()) {
             throw new IllegalArgumentException("encryption parameters are not set correctly");
@@ -74,6 +93,7 @@ public class Decryptor {
             throw new IllegalArgumentException("secret key is not valid for encryption parameters");
         }
         this.context = context;
+        this.pool = pool;
         EncryptionParameters parms = context.keyContextData().parms();
         Modulus[] coeffModulus = parms.coeffModulus();
         int coeffCount = parms.polyModulusDegree();
@@ -135,7 +155,7 @@ public class Decryptor {
         // Add Delta / 2, and now we have something which is Delta * (m + epsilon) where epsilon < 1
         // Therefore, we can (integer) divide by Delta and the answer will round down to m.
         // Make a temp destination for all the arithmetic mod qi before calling FastBConverse
-        RnsIterator tempDestModQ = RnsIterator.allocate(coeffCount, coeffModulusSize);
+        RnsIterator tempDestModQ = RnsIterator.allocate(coeffCount, coeffModulusSize, pool);
 
         // put < (c_1 , c_2, ... , c_{count-1}) , (s,s^2,...,s^{count-1}) > mod q in destination
         // Now do the dot product of encrypted_copy and the secret key array using NTT.
@@ -148,7 +168,8 @@ public class Decryptor {
         CoeffIterator destinationCoeff = CoeffIterator.wrap(destination.data(), coeffCount);
 
         // Divide scaling variant using BEHZ FullRNS techniques
-        contextData.rnsTool().decryptScaleAndRound(tempDestModQ, destinationCoeff);
+        contextData.rnsTool().decryptScaleAndRound(tempDestModQ, destinationCoeff, pool);
+        pool.release(tempDestModQ.coeff());
 
         // How many non-zero coefficients do we really have in the result?
         int plainCoeffCount = UintCore.getSignificantUint64CountUint(destination.data(), coeffCount);
@@ -311,7 +332,7 @@ public class Decryptor {
             // put < (c_1 , c_2, ... , c_{count-1}) , (s,s^2,...,s^{count-1}) > mod q in destination
             // Now do the dot product of encrypted_copy and the secret key array using NTT.
             // The secret key powers are already NTT transformed.
-            PolyIterator encryptedCopy = PolyIterator.allocate(encryptedSize - 1, coeffCount, coeffModulusSize);
+            PolyIterator encryptedCopy = PolyIterator.allocate(encryptedSize - 1, coeffCount, coeffModulusSize, pool);
 
             PolyCore.setPolyArray(
                 encrypted.data(), encrypted.getPolyOffset(1),
@@ -342,6 +363,7 @@ public class Decryptor {
             for (int i = 0; i < (encryptedSize - 1); i++) {
                 PolyArithmeticSmallMod.addPolyCoeffMod(destination, encryptedCopy.rnsIter[i], coeffModulusSize, coeffModulus, destination);
             }
+            pool.release(encryptedCopy.coeff());
             if (!isNttForm) {
                 // If the input was not in NTT form, need to transform back
                 NttTool.inverseNttNegacyclicHarveyRns(destination, coeffModulusSize, nttTables);
@@ -411,7 +433,7 @@ public class Decryptor {
         long[] norm = new long[coeff_modulus_size];
 
         // Storage for noise poly
-        RnsIterator noise_poly = RnsIterator.allocate(coeff_count, coeff_modulus_size);
+        RnsIterator noise_poly = RnsIterator.allocate(coeff_count, coeff_modulus_size, pool);
 
         // Now need to compute c(s) - Delta*m (mod q)
         // Firstly find c_0 + c_1 *s + ... + c_{count-1} * s^{count-1} mod q
@@ -440,6 +462,7 @@ public class Decryptor {
         // Next we compute the infinity norm mod parms.coeff_modulus()
         StrideIterator wide_noise_poly = StrideIterator.wrap(noise_poly.coeff(), 0, coeff_modulus_size);
         poly_infty_norm_coeffmod(wide_noise_poly, coeff_count, context_data.totalCoeffModulus(), norm);
+        pool.release(noise_poly.coeff());
 
         // The -1 accounts for scaling the invariant noise by 2;
         // note that we already took plain_modulus into account in compose
@@ -12,6 +12,7 @@ import edu.alibaba.mpc4j.crypto.fhe.seal.rns.RnsTool;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rq.PolyArithmeticSmallMod;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rq.PolyCore;
 import edu.alibaba.mpc4j.crypto.fhe.seal.serialization.SealSerializable;
+import edu.alibaba.mpc4j.crypto.fhe.seal.utils.MemoryPoolHandle;
 import edu.alibaba.mpc4j.crypto.fhe.seal.utils.RingLwe;
 import edu.alibaba.mpc4j.crypto.fhe.seal.utils.ScalingVariant;
 import edu.alibaba.mpc4j.crypto.fhe.seal.utils.ValCheck;
@@ -52,6 +53,10 @@ public class Encryptor {
      * secret key
      */
     private SecretKey secretKey;
+    /**
+     * memory pool for temporary allocations
+     */
+    private MemoryPoolHandle pool = MemoryPoolHandle.global();
 
     /**
      * Creates an Encryptor instance initialized with the specified SEALContext
@@ -135,6 +140,16 @@ public class Encryptor {
         this.publicKey = publicKey;
     }
 
+    /**
+     * Sets the memory pool. Dynamic memory allocations in encryption are allocated from the memory pool pointed to by
+     * the given MemoryPoolHandle. By default, the global memory pool is used.
+     *
+     * @param pool the MemoryPoolHandle pointing to a valid memory pool.
+     */
+    public void setPool(MemoryPoolHandle pool) {
+        this.pool = pool;
+    }
+
     /**
      * Give a new instance of secret key.
      *
@@ -362,7 +377,7 @@ public class Encryptor {
 
                 // Zero encryption without modulus switching
                 Ciphertext temp = new Ciphertext();
-                RingLwe.encryptZeroAsymmetric(publicKey, context, prev_parms_id, is_ntt_form, temp);
+                RingLwe.encryptZeroAsymmetric(publicKey, context, prev_parms_id, is_ntt_form, temp, pool);
 
                 // Modulus switching
                 PolyIterator tempIterator = PolyIterator.fromCiphertext(temp);
@@ -389,11 +404,11 @@ public class Encryptor {
                 destination.setCorrectionFactor(temp.correctionFactor());
             } else {
                 // Does not require modulus switching
-                RingLwe.encryptZeroAsymmetric(publicKey, context, parms_id, is_ntt_form, destination);
+                RingLwe.encryptZeroAsymmetric(publicKey, context, parms_id, is_ntt_form, destination, pool);
             }
         } else {
             // Does not require modulus switching
-            RingLwe.encryptZeroSymmetric(secretKey, context, parms_id, is_ntt_form, saveSeed, destination);
+            RingLwe.encryptZeroSymmetric(secretKey, context, parms_id, is_ntt_form, saveSeed, destination, pool);
         }
     }
 
@@ -18,6 +18,7 @@ import edu.alibaba.mpc4j.crypto.fhe.seal.rq.PolyArithmeticSmallMod;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rq.PolyCore;
 import edu.alibaba.mpc4j.crypto.fhe.seal.utils.Constants;
 import edu.alibaba.mpc4j.crypto.fhe.seal.utils.GaloisTool;
+import edu.alibaba.mpc4j.crypto.fhe.seal.utils.MemoryPoolHandle;
 import edu.alibaba.mpc4j.crypto.fhe.seal.utils.ScalingVariant;
 import edu.alibaba.mpc4j.crypto.fhe.seal.utils.ValCheck;
 import edu.alibaba.mpc4j.crypto.fhe.seal.zq.*;
@@ -199,17 +200,34 @@ public class Evaluator {
      * SEALContext
      */
     private final SealContext context;
+    /**
+     * memory pool for temporary allocations
+     */
+    private final MemoryPoolHandle pool;
 
     /**
-     * Creates an Evaluator instance initialized with the specified SEALContext.
+     * Creates an Evaluator instance initialized with the specified SEALContext. Dynamic memory allocations are
+     * allocated from the global memory pool.
      *
      * @param context the SEALContext.
      */
     public Evaluator(SealContext context) {
+        this(context, MemoryPoolHandle.global());
+    }
+
+    /**
+     * Creates an Evaluator instance initialized with the specified SEALContext. Dynamic memory allocations in
+     * operations are allocated from the memory pool pointed to by the given MemoryPoolHandle.
+     *
+     * @param context the SEALContext.
+     * @param pool    the MemoryPoolHandle pointing to a valid memory pool.
+     */
+    public Evaluator(SealContext context, MemoryPoolHandle pool) {
         if (!context.isParametersSet()) {
             throw new IllegalArgumentException("encryption parameters are not set correctly");
         }
         this.context = context;
+        this.pool = pool;
     }
 
     /**
@@ -588,22 +606,22 @@ public class Evaluator {
         encrypted1.resize(context, contextData.parmsId(), destinationSize);
 
         // Allocate space for a base q output of behz_extend_base_convert_to_ntt for encrypted1
-        PolyIterator encrypted1Q = PolyIterator.allocate(encrypted1Size, coeffCount, baseQSize);
+        PolyIterator encrypted1Q = PolyIterator.allocate(encrypted1Size, coeffCount, baseQSize, pool);
         // Allocate space for a base Bsk output of behz_extend_base_convert_to_ntt for encrypted1
-        PolyIterator encrypted1Bsk = PolyIterator.allocate(encrypted1Size, coeffCount, baseBskSize);
+        PolyIterator encrypted1Bsk = PolyIterator.allocate(encrypted1Size, coeffCount, baseBskSize, pool);
 
         // Perform BEHZ steps (1)-(3) for encrypted1
         behzExtendBaseConvertToNtt(encrypted1, encrypted1Size, rnsTool, baseQNttTables, encrypted1Q, encrypted1Bsk);
 
         // Repeat for encrypted2
-        PolyIterator encrypted2Q = PolyIterator.allocate(encrypted2Size, coeffCount, baseQSize);
-        PolyIterator encrypted2Bsk = PolyIterator.allocate(encrypted2Size, coeffCount, baseBskSize);
+        PolyIterator encrypted2Q = PolyIterator.allocate(encrypted2Size, coeffCount, baseQSize, pool);
+        PolyIterator encrypted2Bsk = PolyIterator.allocate(encrypted2Size, coeffCount, baseBskSize, pool);
         behzExtendBaseConvertToNtt(encrypted2, encrypted2Size, rnsTool, baseQNttTables, encrypted2Q, encrypted2Bsk);
 
         // Allocate temporary space for the output of step (4)
         // We allocate space separately for the base q and the base Bsk components
-        PolyIterator tempDestinationQ = PolyIterator.allocate(destinationSize, coeffCount, baseQSize);
-        PolyIterator tempDestinationBsk = PolyIterator.allocate(destinationSize, coeffCount, baseBskSize);
+        PolyIterator tempDestinationQ = PolyIterator.allocate(destinationSize, coeffCount, baseQSize, pool);
+        PolyIterator tempDestinationBsk = PolyIterator.allocate(destinationSize, coeffCount, baseBskSize, pool);
 
         // Perform BEHZ step (4): dyadic multiplication on arbitrary size ciphertexts
         for (int i = 0; i < destinationSize; i++) {
@@ -633,11 +651,16 @@ public class Evaluator {
         NttTool.inverseNttNegacyclicHarveyLazyPoly(tempDestinationQ, destinationSize, baseQNttTables);
         NttTool.inverseNttNegacyclicHarveyLazyPoly(tempDestinationBsk, destinationSize, baseBskNttTables);
 
+        pool.release(encrypted1Q.coeff());
+        pool.release(encrypted1Bsk.coeff());
+        pool.release(encrypted2Q.coeff());
+        pool.release(encrypted2Bsk.coeff());
+
         PolyIterator encrypted1Poly = PolyIterator.fromCiphertext(encrypted1);
         // Perform BEHZ steps (6)-(8)
         for (int i = 0; i < destinationSize; i++) {
             // Bring together the base q and base Bsk components into a single allocation a RnsIter
-            RnsIterator tempQBsk = RnsIterator.allocate(coeffCount, baseQSize + baseBskSize);
+            RnsIterator tempQBsk = RnsIterator.allocate(coeffCount, baseQSize + baseBskSize, pool);
 
             // Step (6): multiply base q components by t (plain_modulus), ct_i * t mod q
             PolyArithmeticSmallMod.multiplyPolyScalarCoeffMod(
@@ -652,14 +675,18 @@ public class Evaluator {
                 tempQBsk.subRnsIterator(baseQSize, tempQBsk.k() - 1)
             );
             // Allocate yet another temporary for fast divide-and-floor result in base Bsk a RnsIter
-            RnsIterator tempBsk = RnsIterator.allocate(coeffCount, baseBskSize);
+            RnsIterator tempBsk = RnsIterator.allocate(coeffCount, baseBskSize, pool);
 
             // Step (7): divide by q and floor, producing a result in base Bsk
             rnsTool.fastFloorRnsIter(tempQBsk, tempBsk);
 
             // Step (8): use Shenoy-Kumaresan method to convert the result to base q and write to encrypted1
             rnsTool.fastBConvSkRnsIter(tempBsk, encrypted1Poly.rnsIter[i]);
+            pool.release(tempQBsk.coeff());
+            pool.release(tempBsk.coeff());
         }
+        pool.release(tempDestinationQ.coeff());
+        pool.release(tempDestinationBsk.coeff());
     }
 
     /**
@@ -700,7 +727,7 @@ public class Evaluator {
             NttTool.nttNegacyclicHarveyLazyRns(encryptedQ.rnsIter[i], baseQSize, baseQNttTables);
 
             // Allocate temporary space for a polynomial in base {B_sk, {m_tilde}}
-            RnsIterator temp = RnsIterator.allocate(n, baseBskMTildeSize);
+            RnsIterator temp = RnsIterator.allocate(n, baseBskMTildeSize, pool);
 
             // 1) Convert from base q to base {B_sk, {m_tilde}}
             PolyIterator encryptedPoly = PolyIterator.fromCiphertext(encrypt);
@@ -708,6 +735,7 @@ public class Evaluator {
 
             // (2) Reduce q-overflows in with Montgomery reduction, switching base to B_sk
             rnsTool.smMrqRnsIter(temp, encryptedBsk.rnsIter[i]);
+            pool.release(temp.coeff());
             // Transform to NTT form in base B_sk
             // Lazy reduction
             NttTool.nttNegacyclicHarveyLazyRns(encryptedBsk.rnsIter[i], baseBskSize, baseBskNttTables);
@@ -733,13 +761,14 @@ public class Evaluator {
         PolyIterator shiftedIn1Iter = in1.subPolyIterator(in1Index, in1.m() - 1);
 
         RnsIterator shiftedOutIter = destination.rnsIter[desIndex];
+        // temp is fully overwritten by each dyadic product, so we allocate it only once
+        CoeffIterator temp = CoeffIterator.allocate(n, pool);
         for (int j = 0; j < steps; j++) {
             // Create a shifted reverse iterator for the second input
             // 在这里每一次精确获取 in2 对应的 RnsIter
             RnsIterator shiftedReversedIn2Iter = RnsIterator.wrap(in2.coeff(), in2.ptr() + (in2Index - j) * n * baseSize, n, in2.k());
 
             for (int k = 0; k < baseSize; k++) {
-                CoeffIterator temp = CoeffIterator.allocate(n);
                 // c_1 mod q_i, c_2 mod q_i in NTT form, compute c_1 * c_2 mod q_i
                 PolyArithmeticSmallMod.dyadicProductCoeffMod(
                     shiftedIn1Iter.rnsIter[j].coeffIter[k], shiftedReversedIn2Iter.coeffIter[k],
@@ -750,6 +779,7 @@ public class Evaluator {
                 );
             }
         }
+        pool.release(temp.coeff());
     }
 
     private void ckks_multiply(Ciphertext encrypted1, final Ciphertext encrypted2) {
@@ -811,7 +841,7 @@ public class Evaluator {
 
             // Temporary buffer to store intermediate results
             // SEAL_ALLOCATE_GET_COEFF_ITER(temp, tile_size, pool);
-            CoeffIterator temp = CoeffIterator.allocate(tile_size);
+            CoeffIterator temp = CoeffIterator.allocate(tile_size, pool);
 
             // Computes the output tile_size coefficients at a time
             // Given input tuples of polynomials x = (x[0], x[1], x[2]), y = (y[0], y[1]), computes
@@ -865,10 +895,14 @@ public class Evaluator {
                     ptr++;
                 }
             }
+            pool.release(temp.coeff());
         } else {
             // Allocate temporary space for the result
             // SEAL_ALLOCATE_ZERO_GET_POLY_ITER(temp, dest_size, coeff_count, coeff_modulus_size, pool);
-            PolyIterator temp = PolyIterator.allocate(dest_size, coeff_count, coeff_modulus_size);
+            PolyIterator temp = PolyIterator.allocate(dest_size, coeff_count, coeff_modulus_size, pool);
+            // SEAL_ALLOCATE_GET_COEFF_ITER(prod, coeff_count, pool);
+            // prod is fully overwritten by each dyadic product, so we allocate it only once
+            CoeffIterator prod = CoeffIterator.allocate(coeff_count, pool);
 
             // SEAL_ITERATE(iter(size_t(0)), dest_size, [&](auto I) {
             for (int I = 0; I < dest_size; I++) {
@@ -893,8 +927,6 @@ public class Evaluator {
                 for (int J = 0; J < steps; J++) {
                     // SEAL_ITERATE(iter(J, coeff_modulus, temp[I]), coeff_modulus_size, [&](auto K)
                     for (int K = 0; K < coeff_modulus.length; K++) {
-                        // SEAL_ALLOCATE_GET_COEFF_ITER(prod, coeff_count, pool);
-                        CoeffIterator prod = CoeffIterator.allocate(coeff_count);
                         // dyadic_product_coeffmod(get<0, 0>(K), get<0, 1>(K), coeff_count, get<1>(K), prod);
                         PolyArithmeticSmallMod.dyadicProductCoeffMod(
                             encrypted1_iter.rnsIter[shifted_encrypted1_iter].coeffIter[K],
@@ -916,6 +948,8 @@ public class Evaluator {
 
             // Set the final result
             PolyCore.setPolyArray(temp.coeff(), dest_size, coeff_count, coeff_modulus_size, encrypted1.data());
+            pool.release(temp.coeff());
+            pool.release(prod.coeff());
         }
 
         // Set the scale
@@ -1029,10 +1063,10 @@ public class Evaluator {
         // Here we do not use a separate function since this lambda function is invoked only once
 
         // Allocate space for a base q output of behz_extend_base_convert_to_ntt for encrypted1
-        PolyIterator encrypted_q = PolyIterator.allocate(encrypted_size, coeff_count, base_q_size);
+        PolyIterator encrypted_q = PolyIterator.allocate(encrypted_size, coeff_count, base_q_size, pool);
 
         // Allocate space for a base Bsk output of behz_extend_base_convert_to_ntt for encrypted1
-        PolyIterator encrypted_Bsk = PolyIterator.allocate(encrypted_size, coeff_count, base_Bsk_size);
+        PolyIterator encrypted_Bsk = PolyIterator.allocate(encrypted_size, coeff_count, base_Bsk_size, pool);
 
         PolyIterator encrypted_iter = PolyIterator.fromCiphertext(encrypted);
 
@@ -1048,13 +1082,14 @@ public class Evaluator {
             NttTool.nttNegacyclicHarveyLazyRns(encrypted_q.rnsIter[i], base_q_size, base_q_ntt_tables);
 
             // Allocate temporary space for a polynomial in base {B_sk, {m_tilde}}
-            RnsIterator temp = RnsIterator.allocate(coeff_count, base_Bsk_m_tilde_size);
+            RnsIterator temp = RnsIterator.allocate(coeff_count, base_Bsk_m_tilde_size, pool);
 
             // 1) Convert from base q to base Bsk U {m_tilde}
             rns_tool.fastBConvMTildeRnsIter(encrypted_iter.rnsIter[i], temp);
 
             // (2) Reduce q-overflows in with Montgomery reduction, switching base to B_sk
             rns_tool.smMrqRnsIter(temp, encrypted_Bsk.rnsIter[i]);
+            pool.release(temp.coeff());
 
             // Transform to NTT form in base B_sk
             // Lazy reduction
@@ -1063,8 +1098,8 @@ public class Evaluator {
 
         // Allocate temporary space for the output of step (4)
         // We allocate space separately for the base q and the base Bsk components
-        PolyIterator temp_dest_q = PolyIterator.allocate(dest_size, coeff_count, base_q_size);
-        PolyIterator temp_dest_Bsk = PolyIterator.allocate(dest_size, coeff_count, base_Bsk_size);
+        PolyIterator temp_dest_q = PolyIterator.allocate(dest_size, coeff_count, base_q_size, pool);
+        PolyIterator temp_dest_Bsk = PolyIterator.allocate(dest_size, coeff_count, base_Bsk_size, pool);
 
         // Perform BEHZ step (4): dyadic multiplication on arbitrary size ciphertexts
         // behz_ciphertext_square(encrypted_q, base_q, base_q_size, temp_dest_q);
@@ -1076,11 +1111,13 @@ public class Evaluator {
         // Lazy reduction here. The following multiply_poly_scalar_coeffmod will correct the value back to [0, p)
         NttTool.inverseNttNegacyclicHarveyLazyPoly(temp_dest_q, dest_size, base_q_ntt_tables);
         NttTool.inverseNttNegacyclicHarveyLazyPoly(temp_dest_Bsk, dest_size, base_Bsk_ntt_tables);
+        pool.release(encrypted_q.coeff());
+        pool.release(encrypted_Bsk.coeff());
 
         // Perform BEHZ steps (6)-(8)
         for (int i = 0; i < dest_size; i++) {
             // Bring together the base q and base Bsk components into a single allocation
-            RnsIterator temp_q_Bsk = RnsIterator.allocate(coeff_count, base_q_size + base_Bsk_size);
+            RnsIterator temp_q_Bsk = RnsIterator.allocate(coeff_count, base_q_size + base_Bsk_size, pool);
 
             // Step (6): multiply base q components by t (plain_modulus)
             PolyArithmeticSmallMod.multiplyPolyScalarCoeffMod(
@@ -1096,14 +1133,18 @@ public class Evaluator {
             );
 
             // Allocate yet another temporary for fast divide-and-floor result in base Bsk
-            RnsIterator tempBsk = RnsIterator.allocate(coeff_count, base_Bsk_size);
+            RnsIterator tempBsk = RnsIterator.allocate(coeff_count, base_Bsk_size, pool);
 
             // Step (7): divide by q and floor, producing a result in base Bsk
             rns_tool.fastFloorRnsIter(temp_q_Bsk, tempBsk);
 
             // Step (8): use Shenoy-Kumaresan method to convert the result to base q and write to encrypted1
             rns_tool.fastBConvSkRnsIter(tempBsk, encrypted_iter.rnsIter[i]);
+            pool.release(temp_q_Bsk.coeff());
+            pool.release(tempBsk.coeff());
         }
+        pool.release(temp_dest_q.coeff());
+        pool.release(temp_dest_Bsk.coeff());
     }
 
     /**
@@ -1447,7 +1488,7 @@ public class Evaluator {
         if (encrypted == destination) {
             // Switching in-place so need temporary space
             // SEAL_ALLOCATE_GET_POLY_ITER(temp, encrypted_size, coeff_count, next_coeff_modulus_size, pool);
-            PolyIterator temp = PolyIterator.allocate(encrypted_size, coeff_count, next_coeff_modulus_size);
+            PolyIterator temp = PolyIterator.allocate(encrypted_size, coeff_count, next_coeff_modulus_size, pool);
 
             // Copy data over to temp; only copy the RNS components relevant after modulus drop
             PolyIterator encrypted_iter = PolyIterator.fromCiphertext(encrypted);
@@ -1458,6 +1499,7 @@ public class Evaluator {
 
             // Copy data to destination
             PolyCore.setPolyArray(temp.coeff(), encrypted_size, coeff_count, next_coeff_modulus_size, destination.data());
+            pool.release(temp.coeff());
             // TODO: avoid copying and temporary space allocation
         } else {
             // Resize destination before writing
@@ -2166,7 +2208,7 @@ public class Evaluator {
             if (plain.at(mono_exponent) >= plain_upper_half_threshold) {
                 if (!context_data.qualifiers().isUsingFastPlainLift()) {
                     // Allocate temporary space for a single RNS coefficient
-                    CoeffIterator temp = CoeffIterator.allocate(coeff_modulus_size);
+                    CoeffIterator temp = CoeffIterator.allocate(coeff_modulus_size, pool);
 
                     // We need to adjust the monomial modulo each coeff_modulus prime separately when the coeff_modulus
                     // primes may be larger than the plain_modulus. We add plain_upper_half_increment (i.e., q-t) to
@@ -2180,6 +2222,7 @@ public class Evaluator {
                     PolyArithmeticSmallMod.negacyclicMultiplyPolyMonoCoeffModPoly(
                         encrypted_iter, encrypted_size, temp, mono_exponent, coeff_modulus, encrypted_iter
                     );
+                    pool.release(temp.coeff());
                 } else {
                     // Every coeff_modulus prime is larger than plain_modulus, so there is no need to adjust the
                     // monomial. Instead, just do an RNS multiplication.
@@ -2207,7 +2250,7 @@ public class Evaluator {
 
         // Generic case: any plaintext polynomial
         // Allocate temporary space for an entire RNS polynomial
-        long[] temp = new long[coeff_count * coeff_modulus_size];
+        long[] temp = pool.allocate(coeff_count * coeff_modulus_size);
 
         if (!context_data.qualifiers().isUsingFastPlainLift()) {
             StrideIterator temp_iter = StrideIterator.wrap(temp, coeff_modulus_size);
@@ -2256,6 +2299,7 @@ public class Evaluator {
                 NttTool.inverseNttNegacyclicHarvey(encrypted_iter.rnsIter[I].coeffIter[J], ntt_tables[J]);
             }
         }
+        pool.release(temp);
 
         // Set the scale
         if (parms.scheme().equals(SchemeType.CKKS)) {
@@ -2365,7 +2409,7 @@ public class Evaluator {
         if (!context_data.qualifiers().isUsingFastPlainLift()) {
             // Allocate temporary space for an entire RNS polynomial
             // Slight semantic misuse of RNSIter here, but this works well
-            RnsIterator temp = RnsIterator.allocate(coeff_modulus_size, coeff_count);
+            RnsIterator temp = RnsIterator.allocate(coeff_modulus_size, coeff_count, pool);
 
             // iter(plain.data(), temp), plain_coeff_count, [&](auto I)
             for (int i = 0; i < plain_coeff_count; i++) {
@@ -2380,6 +2424,7 @@ public class Evaluator {
 
             // Copy data back to plain
             System.arraycopy(temp.coeff(), 0, plain.data(), 0, coeff_count * coeff_modulus_size);
+            pool.release(temp.coeff());
         } else {
             // Note that in this case plain_upper_half_increment holds its value in RNS form modulo the coeff_modulus
             // primes.
@@ -2599,7 +2644,7 @@ public class Evaluator {
         }
 
         // SEAL_ALLOCATE_GET_RNS_ITER(temp, coeff_count, coeff_modulus_size, pool);
-        RnsIterator temp = RnsIterator.allocate(coeff_count, coeff_modulus_size);
+        RnsIterator temp = RnsIterator.allocate(coeff_count, coeff_modulus_size, pool);
 
         // DO NOT CHANGE EXECUTION ORDER OF FOLLOWING SECTION
         // BEGIN: Apply Galois for each ciphertext
@@ -2639,6 +2684,7 @@ public class Evaluator {
 
         // Calculate (temp * galois_key[0], temp * galois_key[1]) + (ct[0], 0)
         switch_key_inplace(encrypted, temp, galoisKeys, GaloisKeys.getIndex(galoisElt));
+        pool.release(temp.coeff());
 
         // Transparent ciphertext output is not allowed.
         if (encrypted.isTransparent()) {
@@ -2926,7 +2972,7 @@ public class Evaluator {
 
         // Create a copy of target_iter
         // SEAL_ALLOCATE_GET_RNS_ITER(t_target, coeff_count, decomp_modulus_size, pool)
-        RnsIterator t_target = RnsIterator.allocate(coeff_count, decomp_modulus_size);
+        RnsIterator t_target = RnsIterator.allocate(coeff_count, decomp_modulus_size, pool);
         UintCore.setUint(
             target_iter.coeff(), target_iter.ptr(), decomp_modulus_size * coeff_count,
             t_target.coeff(), 0, decomp_modulus_size * coeff_count
@@ -2938,7 +2984,13 @@ public class Evaluator {
         }
 
         // Temporary result
-        PolyIterator t_poly_prod = PolyIterator.allocate(key_component_count, coeff_count, rns_modulus_size);
+        PolyIterator t_poly_prod = PolyIterator.allocate(key_component_count, coeff_count, rns_modulus_size, pool);
+        // SEAL_ALLOCATE_GET_COEFF_ITER(t_ntt, coeff_count, pool);
+        // t_ntt is fully overwritten before each use, so we allocate it only once
+        CoeffIterator t_ntt = CoeffIterator.allocate(coeff_count, pool);
+        // unsigned long long qword[2]{ 0, 0 };
+        long[] qword = new long[2];
+        long[] uint128_temp = new long[2];
 
         // SEAL_ITERATE(iter(size_t(0)), rns_modulus_size, [&](auto I)
         for (int I = 0; I < rns_modulus_size; I++) {
@@ -2949,15 +3001,13 @@ public class Evaluator {
 
             // Allocate memory for a lazy accumulator (128-bit coefficients)
             // auto t_poly_lazy(allocate_zero_poly_array(key_component_count, coeff_count, 2, pool));
-            long[] t_poly_lazy = new long[key_component_count * coeff_count * 2];
+            long[] t_poly_lazy = pool.allocate(key_component_count * coeff_count * 2);
 
             // Semantic misuse of PolyIter; this is really pointing to the data for a single RNS factor
 
             // Multiply with keys and perform lazy reduction on product's coefficients
             // SEAL_ITERATE(iter(size_t(0)), decomp_modulus_size, [&](auto J)
             for (int J = 0; J < decomp_modulus_size; J++) {
-                // SEAL_ALLOCATE_GET_COEFF_ITER(t_ntt, coeff_count, pool);
-                CoeffIterator t_ntt = CoeffIterator.allocate(coeff_count);
                 CoeffIterator t_operand;
 
                 // RNS-NTT form exists in input
@@ -2993,8 +3043,6 @@ public class Evaluator {
                     if (lazy_reduction_counter == 0) {
                         // SEAL_ITERATE(iter(t_operand, get<0>(K)[key_index], get<1>(K)), coeff_count, [&](auto L)
                         for (int L = 0; L < coeff_count; L++) {
-                            // unsigned long long qword[2]{ 0, 0 };
-                            long[] qword = new long[2];
                             // multiply_uint64(get<0>(L), get<1>(L), qword);
                             UintArithmetic.multiplyUint64(
                                 t_operand.getCoeff(L),
@@ -3004,9 +3052,8 @@ public class Evaluator {
 
                             // Accumulate product of t_operand and t_key_acc to t_poly_lazy and reduce
                             // add_uint128(qword, get<2>(L).ptr(), qword);
-                            long[] uint128_temp = new long[]{
-                                t_poly_lazy[tPolyLazyK + L * 2], t_poly_lazy[tPolyLazyK + L * 2 + 1],
-                            };
+                            uint128_temp[0] = t_poly_lazy[tPolyLazyK + L * 2];
+                            uint128_temp[1] = t_poly_lazy[tPolyLazyK + L * 2 + 1];
                             UintArithmetic.addUint128(qword, uint128_temp, qword);
                             // get<2>(L)[0] = barrett_reduce_128(qword, key_modulus[key_index]);
                             t_poly_lazy[tPolyLazyK + L * 2] = UintArithmeticSmallMod.barrettReduce128(qword, key_modulus[key_index]);
@@ -3017,8 +3064,6 @@ public class Evaluator {
                         // Same as above but no reduction
                         // SEAL_ITERATE(iter(t_operand, get<0>(K)[key_index], get<1>(K)), coeff_count, [&](auto L)
                         for (int L = 0; L < coeff_count; L++) {
-                            // unsigned long long qword[2]{ 0, 0 };
-                            long[] qword = new long[2];
                             // multiply_uint64(get<0>(L), get<1>(L), qword);
                             UintArithmetic.multiplyUint64(
                                 t_operand.getCoeff(L),
@@ -3026,9 +3071,8 @@ public class Evaluator {
                                 qword
                             );
                             // add_uint128(qword, get<2>(L).ptr(), qword);
-                            long[] uint128_temp = new long[]{
-                                t_poly_lazy[tPolyLazyK + L * 2], t_poly_lazy[tPolyLazyK + L * 2 + 1],
-                            };
+                            uint128_temp[0] = t_poly_lazy[tPolyLazyK + L * 2];
+                            uint128_temp[1] = t_poly_lazy[tPolyLazyK + L * 2 + 1];
                             UintArithmetic.addUint128(qword, uint128_temp, qword);
                             // get<2>(L)[0] = qword[0];
                             t_poly_lazy[tPolyLazyK + L * 2] = qword[0];
@@ -3057,7 +3101,6 @@ public class Evaluator {
                     }
                 } else {
                     // Same as above except need to still do reduction
-                    long[] uint128_temp = new long[2];
                     for (int l = 0; l < coeff_count; l++) {
                         uint128_temp[0] = t_poly_lazy[K * coeff_count * 2 + 2 * l];
                         uint128_temp[1] = t_poly_lazy[K * coeff_count * 2 + 2 * l + 1];
@@ -3069,7 +3112,9 @@ public class Evaluator {
                     }
                 }
             }
+            pool.release(t_poly_lazy);
         }
+        pool.release(t_target.coeff());
         // Accumulated products are now stored in t_poly_prod
 
         // Perform modulus switching with scaling
@@ -3098,9 +3143,6 @@ public class Evaluator {
 
                 // SEAL_ITERATE(iter(I, key_modulus, key_ntt_tables, modswitch_factors), decomp_modulus_size, [&](auto J)
                 for (int J = 0; J < decomp_modulus_size; J++) {
-                    // SEAL_ALLOCATE_GET_COEFF_ITER(t_ntt, coeff_count, pool);
-                    CoeffIterator t_ntt = CoeffIterator.allocate(coeff_count);
-
                     // (ct mod 4qk) mod qi
                     long qi = key_modulus[J].value();
                     if (qk > qi) {
@@ -3153,5 +3195,7 @@ public class Evaluator {
                 }
             }
         }
+        pool.release(t_ntt.coeff());
+        pool.release(t_poly_prod.coeff());
     }
 }
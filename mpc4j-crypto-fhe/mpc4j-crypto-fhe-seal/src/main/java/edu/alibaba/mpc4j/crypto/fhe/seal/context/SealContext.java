@@ -4,6 +4,7 @@ import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.CoeffModulus;
 import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.CoeffModulus.SecLevelType;
 import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.Modulus;
 import edu.alibaba.mpc4j.crypto.fhe.seal.ntt.NttTables;
+import edu.alibaba.mpc4j.crypto.fhe.seal.ntt.NttType;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rand.UniformRandomGeneratorFactory;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rns.RnsBase;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rns.RnsTool;
@@ -15,6 +16,7 @@ import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Performs sanity checks (validation) and pre-computations for a given set of encryption
@@ -83,6 +85,14 @@ public class SealContext {
      * is keyswitching supported by the encryption parameters?
      */
     private final boolean usingKeySwitching;
+    /**
+     * NTT type
+     */
+    private final NttType nttType;
+    /**
+     * the executor for processing RNS components of NTT in parallel, null for serial processing
+     */
+    private final ForkJoinPool rnsExecutor;
 
     /**
      * Creates an instance of SEALContext and performs several pre-computations
@@ -115,7 +125,28 @@ public class SealContext {
      *                       HomomorphicEncryption.org security standard.
      */
     public SealContext(EncryptionParameters parms, boolean expandModChain, SecLevelType secLevel) {
+        this(parms, expandModChain, secLevel, NttType.SCALAR, null);
+    }
+
+    /**
+     * Creates an instance of SEALContext and performs several pre-computations
+     * on the given EncryptionParameters. Note that there is no such constructor in SEAL.
+     * All NTT tables in the context are created with the given NTT type. If rnsExecutor
+     * is not null, NTT and INTT process different small modulus in parallel using the
+     * executor.
+     *
+     * @param parms          the encryption parameters.
+     * @param expandModChain determines whether the modulus switching chain should be created.
+     * @param secLevel       determines whether a specific security level should be enforced according to
+     *                       HomomorphicEncryption.org security standard.
+     * @param nttType        the NTT type.
+     * @param rnsExecutor    the executor for processing RNS components of NTT in parallel, null for serial processing.
+     */
+    public SealContext(EncryptionParameters parms, boolean expandModChain, SecLevelType secLevel,
+                       NttType nttType, ForkJoinPool rnsExecutor) {
         this.secLevel = secLevel;
+        this.nttType = nttType;
+        this.rnsExecutor = rnsExecutor;
 
         // Set random generator
         if (parms.randomGeneratorFactory() == null) {
@@ -266,7 +297,7 @@ public class SealContext {
         // Can we use NTT with coeff_modulus?
         contextData.qualifiers.usingNtt = true;
         try {
-            NttTables.createNttTables(coeffCountPower, coeffModulus, contextData.smallNttTables);
+            NttTables.createNttTables(coeffCountPower, coeffModulus, contextData.smallNttTables, nttType, rnsExecutor);
         } catch (IllegalArgumentException e) {
             contextData.qualifiers.usingNtt = false;
             // Parameters are not valid
@@ -302,7 +333,7 @@ public class SealContext {
             contextData.qualifiers.usingBatching = true;
             try {
                 // create small NTT table for plain modulus
-                contextData.plainNttTables = new NttTables(coeffCountPower, plainModulus);
+                contextData.plainNttTables = new NttTables(coeffCountPower, plainModulus, nttType);
             } catch (IllegalArgumentException e) {
                 contextData.qualifiers.usingBatching = false;
             }
@@ -399,7 +430,7 @@ public class SealContext {
         //   (1) auxiliary base being too large
         //   (2) cannot find inverse of punctured products in auxiliary base
         try {
-            contextData.rnsTool = new RnsTool(polyModulusDegree, coeffModulusBase, plainModulus);
+            contextData.rnsTool = new RnsTool(polyModulusDegree, coeffModulusBase, plainModulus, nttType, rnsExecutor);
         } catch (IllegalArgumentException e) {
             // Parameters are not valid
             contextData.qualifiers.parameterError = ErrorType.FAILED_CREATING_RNS_TOOL;
@@ -562,6 +593,24 @@ public class SealContext {
         return keyParmsId;
     }
 
+    /**
+     * Returns the NTT type of all NTT tables in the context.
+     *
+     * @return the NTT type.
+     */
+    public NttType nttType() {
+        return nttType;
+    }
+
+    /**
+     * Returns the executor for processing RNS components of NTT in parallel.
+     *
+     * @return the executor for processing RNS components of NTT in parallel, null for serial processing.
+     */
+    public ForkJoinPool rnsExecutor() {
+        return rnsExecutor;
+    }
+
     /**
      * Class to hold pre-computation data for a given set of encryption parameters.
      * <p>
@@ -839,6 +888,8 @@ public class SealContext {
 
     @Override
     public String toString() {
-        return new ReflectionToStringBuilder(this, new MultilineRecursiveToStringStyle()).toString();
+        return new ReflectionToStringBuilder(this, new MultilineRecursiveToStringStyle())
+            .setExcludeFieldNames("rnsExecutor")
+            .toString();
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package edu.alibaba.mpc4j.crypto.fhe.seal.iterator;
 
+import edu.alibaba.mpc4j.crypto.fhe.seal.utils.MemoryPoolHandle;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -29,6 +30,18 @@ public class CoeffIterator implements SealIterator {
         return new CoeffIterator(new long[n], 0, n);
     }
 
+    /**
+     * Allocates coefficients with all zero values from the memory pool and wraps by a coefficient iterator. The
+     * coefficients should be released by <code>pool.release(iterator.coeff())</code>.
+     *
+     * @param n    N, i.e., the modulus polynomial degree.
+     * @param pool the memory pool.
+     * @return a coefficient iterator.
+     */
+    public static CoeffIterator allocate(int n, MemoryPoolHandle pool) {
+        return new CoeffIterator(pool.allocate(n), 0, n);
+    }
+
     /**
      * Warps coefficients by a coefficient iterator.
      *
@@ -2,6 +2,7 @@ package edu.alibaba.mpc4j.crypto.fhe.seal.iterator;
 
 import edu.alibaba.mpc4j.crypto.fhe.seal.Ciphertext;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rq.PolyCore;
+import edu.alibaba.mpc4j.crypto.fhe.seal.utils.MemoryPoolHandle;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -124,6 +125,24 @@ public class PolyIterator implements SealIterator {
         return new PolyIterator(new long[m * n * k], 0, m, n, k);
     }
 
+    /**
+     * Allocates M RNS representations with all zero values from the memory pool and wraps by a poly iterator. The
+     * coefficients should be released by <code>pool.release(iterator.coeff())</code>.
+     *
+     * @param m    M, i.e., number of RNS representations.
+     * @param n    N, i.e., the modulus polynomial degree.
+     * @param k    k, i.e., the number of RNS bases.
+     * @param pool the memory pool.
+     * @return a poly iterator.
+     */
+    public static PolyIterator allocate(int m, int n, int k, MemoryPoolHandle pool) {
+        assert m > 0;
+        assert n > 0;
+        assert k > 0;
+
+        return new PolyIterator(pool.allocate(m * n * k), 0, m, n, k);
+    }
+
     /**
      * Creates a poly iterator without the number of RNS representations.
      *
@@ -1,6 +1,7 @@
 package edu.alibaba.mpc4j.crypto.fhe.seal.iterator;
 
 import edu.alibaba.mpc4j.crypto.fhe.seal.rq.PolyCore;
+import edu.alibaba.mpc4j.crypto.fhe.seal.utils.MemoryPoolHandle;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -90,6 +91,22 @@ public class RnsIterator implements SealIterator {
         return new RnsIterator(new long[n * k], 0, n, k);
     }
 
+    /**
+     * Allocates an RNS representation with all zero values from the memory pool and wraps by an RNS iterator. The
+     * coefficients should be released by <code>pool.release(iterator.coeff())</code>.
+     *
+     * @param n    N, i.e., the modulus polynomial degree.
+     * @param k    K, i.e., the number of RNS bases.
+     * @param pool the memory pool.
+     * @return an RNS iterator.
+     */
+    public static RnsIterator allocate(int n, int k, MemoryPoolHandle pool) {
+        assert n > 0;
+        assert k > 0;
+
+        return new RnsIterator(pool.allocate(n * k), 0, n, k);
+    }
+
     /**
      * Warps coefficients by an RNS iterator.
      *
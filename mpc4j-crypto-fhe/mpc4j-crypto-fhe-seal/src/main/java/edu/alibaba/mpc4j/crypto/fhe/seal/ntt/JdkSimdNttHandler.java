@@ -0,0 +1,246 @@
+package edu.alibaba.mpc4j.crypto.fhe.seal.ntt;
+
+import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.AbstractModulus;
+import edu.alibaba.mpc4j.crypto.fhe.seal.zq.MultiplyUintModOperand;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * NTT handler using jdk.incubator.vector. Layers whose gap t is at least the number of lanes compute t butterflies
+ * sharing the same root in one vector operation, other layers fall back to the scalar butterflies. The results are
+ * exactly the same as {@link NttHandler}, including the lazy ranges [0, 4q) for NTT and [0, 2q) for INTT.
+ * <p>
+ * The Vector API has no 64 × 64 → 128-bit multiplication, so the high 64 bits in Shoup's multiplication (i.e.,
+ * <code>multiply_uint64_hw64</code>) are computed from four 32 × 32 → 64-bit products.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class JdkSimdNttHandler extends NttHandler {
+    /**
+     * species
+     */
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    /**
+     * number of lanes
+     */
+    private static final int LANES = SPECIES.length();
+    /**
+     * mask for the low 32 bits
+     */
+    private static final long LOW_MASK = 0xFFFFFFFFL;
+    /**
+     * q in all lanes, transient so that reflection-based toString() does not access vector internals
+     */
+    private final transient LongVector modulusVector;
+    /**
+     * 2q in all lanes
+     */
+    private final transient LongVector twoTimesModulusVector;
+
+    /**
+     * Creates an NTT handler using jdk.incubator.vector.
+     *
+     * @param arithmetic lazy modulo arithmetic operation for q.
+     * @param modulus    modulus q.
+     */
+    public JdkSimdNttHandler(ModArithLazy arithmetic, AbstractModulus modulus) {
+        super(arithmetic);
+        modulusVector = LongVector.broadcast(SPECIES, modulus.value());
+        twoTimesModulusVector = LongVector.broadcast(SPECIES, modulus.value() << 1);
+    }
+
+    @Override
+    public void transformToRev(long[] values, int startIndex, int logN, MultiplyUintModOperand[] roots, MultiplyUintModOperand scalar) {
+        int n = 1 << logN;
+        MultiplyUintModOperand r;
+        long u;
+        long v;
+        int gap = n >>> 1;
+        int m = 1;
+        int rootsIndex = 0;
+        for (; m < (n >>> 1); m <<= 1) {
+            int offset = startIndex;
+            if (gap < LANES) {
+                for (int i = 0; i < m; i++) {
+                    r = roots[++rootsIndex];
+                    for (int x = offset, y = offset + gap; x < offset + gap; x++, y++) {
+                        u = arithmetic.guard(values[x]);
+                        v = arithmetic.mulRoot(values[y], r);
+                        values[x] = arithmetic.add(u, v);
+                        values[y] = arithmetic.sub(u, v);
+                    }
+                    offset += (gap << 1);
+                }
+            } else {
+                for (int i = 0; i < m; i++) {
+                    r = roots[++rootsIndex];
+                    LongVector operand = LongVector.broadcast(SPECIES, r.operand);
+                    LongVector quotientLow = LongVector.broadcast(SPECIES, r.quotient & LOW_MASK);
+                    LongVector quotientHigh = LongVector.broadcast(SPECIES, r.quotient >>> 32);
+                    for (int x = offset, y = offset + gap; x < offset + gap; x += LANES, y += LANES) {
+                        // U = a[j], V = a[j + t] · S
+                        LongVector uVector = guard(LongVector.fromArray(SPECIES, values, x));
+                        LongVector vVector = mulRoot(
+                            LongVector.fromArray(SPECIES, values, y), operand, quotientLow, quotientHigh
+                        );
+                        // a[j] = U + V, a[j + t] = U − V
+                        uVector.add(vVector).intoArray(values, x);
+                        uVector.add(twoTimesModulusVector).sub(vVector).intoArray(values, y);
+                    }
+                    offset += (gap << 1);
+                }
+            }
+            gap >>>= 1;
+        }
+        // the last layer has gap = 1, handle scalar
+        int valuesIndex = startIndex;
+        if (scalar != null) {
+            MultiplyUintModOperand scaledR;
+            for (int i = 0; i < m; i++) {
+                r = roots[++rootsIndex];
+                scaledR = arithmetic.mulRootScalar(r, scalar);
+                u = arithmetic.mulScalar(arithmetic.guard(values[valuesIndex]), scalar);
+                v = arithmetic.mulRoot(values[valuesIndex + 1], scaledR);
+                values[valuesIndex] = arithmetic.add(u, v);
+                values[valuesIndex + 1] = arithmetic.sub(u, v);
+                valuesIndex += 2;
+            }
+        } else {
+            for (int i = 0; i < m; i++) {
+                r = roots[++rootsIndex];
+                u = arithmetic.guard(values[valuesIndex]);
+                v = arithmetic.mulRoot(values[valuesIndex + 1], r);
+                values[valuesIndex] = arithmetic.add(u, v);
+                values[valuesIndex + 1] = arithmetic.sub(u, v);
+                valuesIndex += 2;
+            }
+        }
+    }
+
+    @Override
+    public void transformFromRev(long[] values, int startIndex, int logN, MultiplyUintModOperand[] roots, MultiplyUintModOperand scalar) {
+        int n = 1 << logN;
+        MultiplyUintModOperand r;
+        long u;
+        long v;
+        int gap = 1;
+        int m = n >>> 1;
+        int rootsIndex = 0;
+        for (; m > 1; m >>= 1) {
+            int offset = startIndex;
+            if (gap < LANES) {
+                for (int i = 0; i < m; i++) {
+                    r = roots[++rootsIndex];
+                    for (int x = offset, y = offset + gap; x < offset + gap; x++, y++) {
+                        u = values[x];
+                        v = values[y];
+                        values[x] = arithmetic.guard(arithmetic.add(u, v));
+                        values[y] = arithmetic.mulRoot(arithmetic.sub(u, v), r);
+                    }
+                    offset += (gap << 1);
+                }
+            } else {
+                for (int i = 0; i < m; i++) {
+                    r = roots[++rootsIndex];
+                    LongVector operand = LongVector.broadcast(SPECIES, r.operand);
+                    LongVector quotientLow = LongVector.broadcast(SPECIES, r.quotient & LOW_MASK);
+                    LongVector quotientHigh = LongVector.broadcast(SPECIES, r.quotient >>> 32);
+                    for (int x = offset, y = offset + gap; x < offset + gap; x += LANES, y += LANES) {
+                        LongVector uVector = LongVector.fromArray(SPECIES, values, x);
+                        LongVector vVector = LongVector.fromArray(SPECIES, values, y);
+                        // a[j] = U + V mod q, a[j + t] = (U − V) · S mod q
+                        guard(uVector.add(vVector)).intoArray(values, x);
+                        mulRoot(uVector.add(twoTimesModulusVector).sub(vVector), operand, quotientLow, quotientHigh)
+                            .intoArray(values, y);
+                    }
+                    offset += (gap << 1);
+                }
+            }
+            gap <<= 1;
+        }
+        // the last layer has gap = n / 2, handle scalar
+        r = roots[++rootsIndex];
+        if (scalar != null) {
+            r = arithmetic.mulRootScalar(r, scalar);
+        }
+        if (gap < LANES) {
+            for (int x = startIndex, y = startIndex + gap; x < startIndex + gap; x++, y++) {
+                if (scalar != null) {
+                    u = arithmetic.guard(values[x]);
+                    v = values[y];
+                    values[x] = arithmetic.mulScalar(arithmetic.guard(arithmetic.add(u, v)), scalar);
+                } else {
+                    u = values[x];
+                    v = values[y];
+                    values[x] = arithmetic.guard(arithmetic.add(u, v));
+                }
+                values[y] = arithmetic.mulRoot(arithmetic.sub(u, v), r);
+            }
+        } else {
+            LongVector operand = LongVector.broadcast(SPECIES, r.operand);
+            LongVector quotientLow = LongVector.broadcast(SPECIES, r.quotient & LOW_MASK);
+            LongVector quotientHigh = LongVector.broadcast(SPECIES, r.quotient >>> 32);
+            LongVector scalarOperand = null;
+            LongVector scalarQuotientLow = null;
+            LongVector scalarQuotientHigh = null;
+            if (scalar != null) {
+                scalarOperand = LongVector.broadcast(SPECIES, scalar.operand);
+                scalarQuotientLow = LongVector.broadcast(SPECIES, scalar.quotient & LOW_MASK);
+                scalarQuotientHigh = LongVector.broadcast(SPECIES, scalar.quotient >>> 32);
+            }
+            for (int x = startIndex, y = startIndex + gap; x < startIndex + gap; x += LANES, y += LANES) {
+                LongVector uVector = LongVector.fromArray(SPECIES, values, x);
+                LongVector vVector = LongVector.fromArray(SPECIES, values, y);
+                if (scalar != null) {
+                    uVector = guard(uVector);
+                    mulRoot(guard(uVector.add(vVector)), scalarOperand, scalarQuotientLow, scalarQuotientHigh)
+                        .intoArray(values, x);
+                } else {
+                    guard(uVector.add(vVector)).intoArray(values, x);
+                }
+                mulRoot(uVector.add(twoTimesModulusVector).sub(vVector), operand, quotientLow, quotientHigh)
+                    .intoArray(values, y);
+            }
+        }
+    }
+
+    /**
+     * Ensures that each lane of a is in [0, 2q). See {@link ModArithLazy#guard(long)}.
+     *
+     * @param a a.
+     * @return a with each lane in [0, 2q).
+     */
+    private LongVector guard(LongVector a) {
+        return a.sub(twoTimesModulusVector, a.compare(VectorOperators.GE, twoTimesModulusVector));
+    }
+
+    /**
+     * Computes a · r mod q in [0, 2q) for each lane, where r = (operand, quotient) is a root with pre-computed Shoup's
+     * quotient. See {@link ModArithLazy#mulRoot(long, MultiplyUintModOperand)}.
+     *
+     * @param a            a.
+     * @param operand      the root.
+     * @param quotientLow  the low 32 bits of the quotient.
+     * @param quotientHigh the high 32 bits of the quotient.
+     * @return a · r mod q in [0, 2q).
+     */
+    private LongVector mulRoot(LongVector a, LongVector operand, LongVector quotientLow, LongVector quotientHigh) {
+        // hw64(a · quotient) from four 32 × 32 → 64-bit products, all carries are kept in the middle sum.
+        LongVector aLow = a.and(LOW_MASK);
+        LongVector aHigh = a.lanewise(VectorOperators.LSHR, 32);
+        LongVector lowLow = aLow.mul(quotientLow);
+        LongVector lowHigh = aLow.mul(quotientHigh);
+        LongVector highLow = aHigh.mul(quotientLow);
+        LongVector middle = lowLow.lanewise(VectorOperators.LSHR, 32)
+            .add(lowHigh.and(LOW_MASK))
+            .add(highLow.and(LOW_MASK));
+        LongVector high = aHigh.mul(quotientHigh)
+            .add(lowHigh.lanewise(VectorOperators.LSHR, 32))
+            .add(highLow.lanewise(VectorOperators.LSHR, 32))
+            .add(middle.lanewise(VectorOperators.LSHR, 32));
+        // a · operand − hw64(a · quotient) · q
+        return a.mul(operand).sub(high.mul(modulusVector));
+    }
+}
@@ -24,7 +24,7 @@ class NttHandler {
     /**
      * lazy modulo arithmetic operation for q
      */
-    private final ModArithLazy arithmetic;
+    final ModArithLazy arithmetic;
 
     /**
      * Creates an NTT handler.
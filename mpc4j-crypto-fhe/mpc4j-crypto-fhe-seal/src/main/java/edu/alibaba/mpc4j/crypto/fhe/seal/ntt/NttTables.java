@@ -6,6 +6,8 @@ import edu.alibaba.mpc4j.crypto.fhe.seal.zq.*;
 import org.apache.commons.lang3.builder.MultilineRecursiveToStringStyle;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * NTT tables used for fast polynomial multiplication in the ring Z[x] / (x^n + 1), where n = 2^k is a power of 2.
  * <p>
@@ -29,9 +31,25 @@ public class NttTables {
      * @param nttTables       where to store the created NTT tables.
      */
     public static void createNttTables(int coeffCountPower, AbstractModulus[] modulusArray, NttTables[] nttTables) {
+        createNttTables(coeffCountPower, modulusArray, nttTables, NttType.SCALAR, null);
+    }
+
+    /**
+     * Creates multiple NTT tables based on multiple modulus and stores in nttTables. If rnsExecutor is not null, NTT
+     * and INTT for RNS (and Poly-RNS) representations in {@link NttTool} process different small modulus in parallel.
+     *
+     * @param coeffCountPower k, where n = 2^k.
+     * @param modulusArray    modulus array.
+     * @param nttTables       where to store the created NTT tables.
+     * @param nttType         NTT type.
+     * @param rnsExecutor     the executor for processing RNS components in parallel, null for serial processing.
+     */
+    public static void createNttTables(int coeffCountPower, AbstractModulus[] modulusArray, NttTables[] nttTables,
+                                       NttType nttType, ForkJoinPool rnsExecutor) {
         assert modulusArray.length == nttTables.length;
         for (int i = 0; i < modulusArray.length; i++) {
-            nttTables[i] = new NttTables(coeffCountPower, modulusArray[i]);
+            nttTables[i] = new NttTables(coeffCountPower, modulusArray[i], nttType);
+            nttTables[i].rnsExecutor = rnsExecutor;
         }
     }
 
@@ -71,10 +89,18 @@ public class NttTables {
      * lazy modulo operation
      */
     private ModArithLazy modArithLazy;
+    /**
+     * NTT type
+     */
+    private NttType nttType;
     /**
      * NTT handler
      */
     NttHandler nttHandler;
+    /**
+     * the executor for processing RNS components in parallel, null for serial processing
+     */
+    private ForkJoinPool rnsExecutor;
 
     /**
      * Creates an NTT table with the given k and modulus q.
@@ -83,6 +109,18 @@ public class NttTables {
      * @param modulus         modulus q.
      */
     public NttTables(int coeffCountPower, AbstractModulus modulus) {
+        this(coeffCountPower, modulus, NttType.SCALAR);
+    }
+
+    /**
+     * Creates an NTT table with the given k, modulus q and NTT type.
+     *
+     * @param coeffCountPower k, where n = 2^k.
+     * @param modulus         modulus q.
+     * @param nttType         NTT type.
+     */
+    public NttTables(int coeffCountPower, AbstractModulus modulus, NttType nttType) {
+        this.nttType = nttType;
         initialize(coeffCountPower, modulus);
     }
 
@@ -143,7 +181,18 @@ public class NttTables {
         invDegreeModulo = new MultiplyUintModOperand();
         invDegreeModulo.set(temp[0], modulus);
         modArithLazy = new ModArithLazy(modulus);
-        nttHandler = new NttHandler(modArithLazy);
+        nttHandler = createNttHandler();
+    }
+
+    private NttHandler createNttHandler() {
+        switch (nttType) {
+            case SCALAR:
+                return new NttHandler(modArithLazy);
+            case JDK_SIMD:
+                return new JdkSimdNttHandler(modArithLazy, modulus);
+            default:
+                throw new IllegalArgumentException("Invalid " + NttType.class.getSimpleName() + ": " + nttType.name());
+        }
     }
 
     /**
@@ -162,8 +211,10 @@ public class NttTables {
         this.invRootPowers = new MultiplyUintModOperand[coeffCount];
         System.arraycopy(copy.rootPowers, 0, this.rootPowers, 0, coeffCount);
         System.arraycopy(copy.invRootPowers, 0, this.invRootPowers, 0, coeffCount);
+        this.nttType = copy.nttType;
+        this.rnsExecutor = copy.rnsExecutor;
         modArithLazy = new ModArithLazy(modulus);
-        nttHandler = new NttHandler(modArithLazy);
+        nttHandler = createNttHandler();
     }
 
     /**
@@ -229,6 +280,24 @@ public class NttTables {
         return nttHandler;
     }
 
+    /**
+     * Gets the NTT type.
+     *
+     * @return the NTT type.
+     */
+    public NttType getNttType() {
+        return nttType;
+    }
+
+    /**
+     * Gets the executor for processing RNS components in parallel.
+     *
+     * @return the executor for processing RNS components in parallel, null for serial processing.
+     */
+    public ForkJoinPool getRnsExecutor() {
+        return rnsExecutor;
+    }
+
     /**
      * Gets n^(-1) modulo q.
      *
@@ -279,6 +348,8 @@ public class NttTables {
 
     @Override
     public String toString() {
-        return new ReflectionToStringBuilder(this, new MultilineRecursiveToStringStyle()).toString();
+        return new ReflectionToStringBuilder(this, new MultilineRecursiveToStringStyle())
+            .setExcludeFieldNames("rnsExecutor")
+            .toString();
     }
 }
@@ -5,6 +5,11 @@ import edu.alibaba.mpc4j.crypto.fhe.seal.iterator.PolyIterator;
 import edu.alibaba.mpc4j.crypto.fhe.seal.iterator.RnsIterator;
 import edu.alibaba.mpc4j.crypto.fhe.seal.zq.MultiplyUintModOperand;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
 /**
  * NTT tool class, used to perform NTT operations on polynomials. Note that there is no such class in SEAL.
  * Here, the NTT related methods in SEAL under the util namespace are encapsulated into this class.
@@ -15,6 +20,9 @@ import edu.alibaba.mpc4j.crypto.fhe.seal.zq.MultiplyUintModOperand;
  * <p>
  * The implementation is from inline methods in <code>NTTTables</code> located at
  * <a href="https://github.com/microsoft/SEAL/blob/v4.0.0/native/src/seal/util/ntt.h#L69">ntt.h</a>.
+ * <p>
+ * If the NTT tables are created with an RNS executor (see {@link NttTables#getRnsExecutor()}), NTT and INTT for RNS
+ * and Poly-RNS representations process different small modulus in parallel using the executor.
  *
  * @author Anony_Trent, Weiran Liu
  * @date 2023/8/27
@@ -27,6 +35,26 @@ public class NttTool {
         // empty
     }
 
+    /**
+     * Performs the operation for each index in [0, num). If the tables have an RNS executor, the operations are
+     * performed in parallel using the executor.
+     *
+     * @param num       number of operations.
+     * @param tables    the pre-computed NTT tables.
+     * @param operation the operation.
+     */
+    private static void forEachRns(int num, NttTables[] tables, IntConsumer operation) {
+        ForkJoinPool rnsExecutor = tables[0].getRnsExecutor();
+        if (rnsExecutor == null || num <= 1) {
+            for (int i = 0; i < num; i++) {
+                operation.accept(i);
+            }
+        } else {
+            // a parallel stream inside a ForkJoinTask uses the pool that runs the task
+            rnsExecutor.invoke(ForkJoinTask.adapt(() -> IntStream.range(0, num).parallel().forEach(operation)));
+        }
+    }
+
     /**
      * Negative cyclic NTT using Harvey's butterfly with lazy modulo operation.
      *
@@ -60,9 +88,7 @@ public class NttTool {
         assert k == tables.length;
         assert rns.n() == tables[0].getCoeffCount();
 
-        for (int j = 0; j < k; j++) {
-            nttNegacyclicHarveyLazy(rns.coeffIter[j], tables[j]);
-        }
+        forEachRns(k, tables, j -> nttNegacyclicHarveyLazy(rns.coeffIter[j], tables[j]));
     }
 
     /**
@@ -133,9 +159,7 @@ public class NttTool {
      */
     public static void nttNegacyclicHarveyRns(RnsIterator rns, int k, NttTables[] tables) {
         assert k == tables.length;
-        for (int j = 0; j < k; j++) {
-            nttNegacyclicHarvey(rns.coeffIter[j], tables[j]);
-        }
+        forEachRns(k, tables, j -> nttNegacyclicHarvey(rns.coeffIter[j], tables[j]));
     }
 
     /**
@@ -162,9 +186,11 @@ public class NttTool {
      * @param tables the pre-computed NTT tables.
      */
     public static void nttNegacyclicHarveyPoly(PolyIterator poly, int m, NttTables[] tables) {
-        for (int r = 0; r < m; r++) {
-            nttNegacyclicHarveyRns(poly.rnsIter[r], poly.k(), tables);
-        }
+        int k = poly.k();
+        assert k == tables.length;
+        forEachRns(m * k, tables, rj ->
+            nttNegacyclicHarvey(poly.rnsIter[rj / k].coeffIter[rj % k], tables[rj % k])
+        );
     }
 
     /**
@@ -182,11 +208,11 @@ public class NttTool {
         assert k == tables.length;
         assert r >= 0 && r < m;
         int rOffset = r * n * k;
-        for (int j = 0; j < k; j++) {
+        forEachRns(k, tables, j -> {
             assert n == tables[j].getCoeffCount();
             int pos = rOffset + j * n;
             nttNegacyclicHarvey(poly, pos, tables[j]);
-        }
+        });
     }
 
     /**
@@ -208,10 +234,7 @@ public class NttTool {
      * @param tables the pre-computed NTT tables.
      */
     public static void inverseNttNegacyclicHarveyLazyRns(RnsIterator rns, int k, NttTables[] tables) {
-
-        for (int j = 0; j < k; j++) {
-            inverseNttNegacyclicHarveyLazy(rns.coeffIter[j], tables[j]);
-        }
+        forEachRns(k, tables, j -> inverseNttNegacyclicHarveyLazy(rns.coeffIter[j], tables[j]));
     }
 
 
@@ -237,9 +260,10 @@ public class NttTool {
      * @param tables the pre-computed NTT tables.
      */
     public static void inverseNttNegacyclicHarveyLazyPoly(PolyIterator poly, int m, NttTables[] tables) {
-        for (int r = 0; r < m; r++) {
-            inverseNttNegacyclicHarveyLazyRns(poly.rnsIter[r], poly.k(), tables);
-        }
+        int k = poly.k();
+        forEachRns(m * k, tables, rj ->
+            inverseNttNegacyclicHarveyLazy(poly.rnsIter[rj / k].coeffIter[rj % k], tables[rj % k])
+        );
     }
 
     /**
@@ -301,9 +325,7 @@ public class NttTool {
         // For CKKS, we sometimes only need to use less tables
         assert k <= tables.length;
 
-        for (int j = 0; j < k; j++) {
-            inverseNttNegacyclicHarvey(rns.coeffIter[j], tables[j]);
-        }
+        forEachRns(k, tables, j -> inverseNttNegacyclicHarvey(rns.coeffIter[j], tables[j]));
     }
 
     /**
@@ -315,9 +337,12 @@ public class NttTool {
      */
     public static void inverseNttNegacyclicHarveyPoly(PolyIterator poly, int m, NttTables[] tables) {
         assert m > 0;
+        // For CKKS, we sometimes only need to use less tables
+        int k = poly.k();
+        assert k <= tables.length;
 
-        for (int r = 0; r < m; r++) {
-            inverseNttNegacyclicHarveyRns(poly.rnsIter[r], poly.k(), tables);
-        }
+        forEachRns(m * k, tables, rj ->
+            inverseNttNegacyclicHarvey(poly.rnsIter[rj / k].coeffIter[rj % k], tables[rj % k])
+        );
     }
 }
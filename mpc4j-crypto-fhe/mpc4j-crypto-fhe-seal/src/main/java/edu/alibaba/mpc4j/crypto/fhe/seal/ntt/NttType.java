@@ -0,0 +1,18 @@
+package edu.alibaba.mpc4j.crypto.fhe.seal.ntt;
+
+/**
+ * NTT type, i.e., the implementation of Harvey's butterflies used in NTT and INTT.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public enum NttType {
+    /**
+     * scalar butterflies, the same as SEAL.
+     */
+    SCALAR,
+    /**
+     * butterflies using jdk.incubator.vector.
+     */
+    JDK_SIMD,
+}
@@ -6,10 +6,14 @@ import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.AbstractModulus;
 import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.Modulus;
 import edu.alibaba.mpc4j.crypto.fhe.seal.ntt.NttTables;
 import edu.alibaba.mpc4j.crypto.fhe.seal.ntt.NttTool;
+import edu.alibaba.mpc4j.crypto.fhe.seal.ntt.NttType;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rq.PolyArithmeticSmallMod;
 import edu.alibaba.mpc4j.crypto.fhe.seal.utils.Constants;
+import edu.alibaba.mpc4j.crypto.fhe.seal.utils.MemoryPoolHandle;
 import edu.alibaba.mpc4j.crypto.fhe.seal.zq.*;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * This class implements the BEHZ16 RNS scheme. The scheme comes from:
  * <p>
@@ -150,7 +154,21 @@ public class RnsTool {
      * @param plainModulus      the plaintext modulus.
      */
     public RnsTool(int polyModulusDegree, RnsBase coeffModulus, AbstractModulus plainModulus) {
-        initialize(polyModulusDegree, coeffModulus, plainModulus);
+        this(polyModulusDegree, coeffModulus, plainModulus, NttType.SCALAR, null);
+    }
+
+    /**
+     * Constructs an RNS tool instance for the given parameters.
+     *
+     * @param polyModulusDegree the degree of the polynomial.
+     * @param coeffModulus      the coefficient modulus.
+     * @param plainModulus      the plaintext modulus.
+     * @param nttType           the NTT type of the B_sk NTT tables.
+     * @param rnsExecutor       the RNS executor of the B_sk NTT tables, null for serial processing.
+     */
+    public RnsTool(int polyModulusDegree, RnsBase coeffModulus, AbstractModulus plainModulus,
+                   NttType nttType, ForkJoinPool rnsExecutor) {
+        initialize(polyModulusDegree, coeffModulus, plainModulus, nttType, rnsExecutor);
     }
 
     /**
@@ -159,8 +177,11 @@ public class RnsTool {
      * @param polyModulusDegree the degree of the polynomial.
      * @param q                 the coefficient modulus.
      * @param t                 the plaintext modulus.
+     * @param nttType           the NTT type of the B_sk NTT tables.
+     * @param rnsExecutor       the RNS executor of the B_sk NTT tables.
      */
-    private void initialize(int polyModulusDegree, RnsBase q, AbstractModulus t) {
+    private void initialize(int polyModulusDegree, RnsBase q, AbstractModulus t,
+                            NttType nttType, ForkJoinPool rnsExecutor) {
         // Return if q is out of bounds
         if (q.size() < Constants.SEAL_COEFF_MOD_COUNT_MIN || q.size() > Constants.SEAL_COEFF_MOD_COUNT_MAX) {
             throw new IllegalArgumentException("rns base is invalid.");
@@ -218,7 +239,7 @@ public class RnsTool {
         // Generate the B_sk NTTTables; these are used for NTT after base extension to B_sk
         baseBskNttTables = new NttTables[baseBskSize];
         try {
-            NttTables.createNttTables(coeffCountPower, baseBsk.getBase(), baseBskNttTables);
+            NttTables.createNttTables(coeffCountPower, baseBsk.getBase(), baseBskNttTables, nttType, rnsExecutor);
         } catch (Exception e) {
             throw new IllegalArgumentException("invalid rns bases");
         }
@@ -366,6 +387,18 @@ public class RnsTool {
      * @param destination the result to overwrite with decrypted values, the length is the coefficient count.
      */
     public void decryptScaleAndRound(RnsIterator input, CoeffIterator destination) {
+        decryptScaleAndRound(input, destination, MemoryPoolHandle.global());
+    }
+
+    /**
+     * Decrypts a ciphertext and stores the result in destination. The algorithm is from Algorithm 1 in [BEHZ16].
+     * Temporary polynomials are allocated from the given memory pool.
+     *
+     * @param input       polynomial in RNS form to decrypt.
+     * @param destination the result to overwrite with decrypted values, the length is the coefficient count.
+     * @param pool        the memory pool.
+     */
+    public void decryptScaleAndRound(RnsIterator input, CoeffIterator destination, MemoryPoolHandle pool) {
         assert input != null;
         assert input.n() == this.coeffCount;
         assert destination.n() == this.coeffCount;
@@ -373,7 +406,7 @@ public class RnsTool {
         // the decryption RNS modulus {t, γ}
         int baseTGammaSize = baseTGamma.size();
         // step 1-3: compute |γt · ct(s)|_{q_1, ..., q_k}, where |γt|_{q_1, ..., q_k} is pre-computed
-        RnsIterator temp = RnsIterator.allocate(input.n(), baseQSize);
+        RnsIterator temp = RnsIterator.allocate(input.n(), baseQSize, pool);
 
         for (int i = 0; i < baseQSize; i++) {
             // compute temp = |γt · ct(s)|_{q_1, ..., q_k}
@@ -383,8 +416,9 @@ public class RnsTool {
         }
         // compute s^{t, γ} = FastBconv(temp, {q_1, ..., q_k}, {t, γ})
         // therefore, s^{t, γ} = FastBconv(|γt · ct(s)|_{q_1, ..., q_k}, {q_1, ..., q_k}, {t, γ})
-        RnsIterator tempTGammaRns = RnsIterator.allocate(input.n(), baseTGammaSize);
+        RnsIterator tempTGammaRns = RnsIterator.allocate(input.n(), baseTGammaSize, pool);
         baseQToTGammaConv.fastConvertArrayRnsIter(temp, tempTGammaRns);
+        pool.release(temp.coeff());
 
         // compute s^{t, γ} = s^{t, γ} × |-q^{-1}|_{t, γ}
         // therefore, s^{t, γ} = FastBconv(|γt · ct(s)|_{q_1, ..., q_k}, {q_1, ..., q_k}, {t, γ}) × |-q^{-1}|_{t, γ}
@@ -427,6 +461,7 @@ public class RnsTool {
                 );
             }
         }
+        pool.release(tempTGammaRns.coeff());
     }
 
     /**
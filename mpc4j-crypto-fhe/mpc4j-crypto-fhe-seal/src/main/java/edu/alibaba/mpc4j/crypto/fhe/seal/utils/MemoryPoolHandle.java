@@ -0,0 +1,159 @@
+package edu.alibaba.mpc4j.crypto.fhe.seal.utils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Manages a shared pointer to a memory pool. Operations in Evaluator, Encryptor and Decryptor allocate many temporary
+ * polynomials whose lengths only depend on the encryption parameters, i.e., (number of polynomials) * N * k, where N
+ * is the poly modulus degree and k is the number of coefficient moduli. Instead of allocating fresh long[] for each
+ * operation, temporaries are allocated from the memory pool and returned to the memory pool once the operation
+ * finishes, so that repeated operations under the same parameters reuse the same buffers.
+ * <p>
+ * Each thread has its own arena, so that a MemoryPoolHandle can be shared by Evaluator, Encryptor and Decryptor used
+ * in different threads without any synchronization. Each arena keeps the released arrays grouped by their lengths, and
+ * at most {@link #MAX_POOLED_NUM} arrays with the same length are kept. An array that is allocated but never released
+ * (e.g., when the operation throws an exception) is simply reclaimed by the garbage collector.
+ * <p>
+ * The implementation is from
+ * <a href="https://github.com/microsoft/SEAL/blob/v4.0.0/native/src/seal/memorymanager.h">memorymanager.h</a>.
+ * Different from SEAL, the memory pool only manages long[], and the caller is responsible for returning the
+ * allocation by calling {@link #release(long[])}.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class MemoryPoolHandle {
+    /**
+     * maximal number of pooled arrays with the same length in each arena.
+     */
+    public static final int MAX_POOLED_NUM = 16;
+    /**
+     * the global memory pool
+     */
+    private static final MemoryPoolHandle GLOBAL = new MemoryPoolHandle(true);
+    /**
+     * the memory pool that does not pool any allocation
+     */
+    private static final MemoryPoolHandle DISABLED = new MemoryPoolHandle(false);
+
+    /**
+     * Returns a MemoryPoolHandle pointing to the global memory pool. This is the default memory pool used by
+     * Evaluator, Encryptor and Decryptor.
+     *
+     * @return the global memory pool.
+     */
+    public static MemoryPoolHandle global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns a MemoryPoolHandle pointing to a new memory pool.
+     *
+     * @return a new memory pool.
+     */
+    public static MemoryPoolHandle newPool() {
+        return new MemoryPoolHandle(true);
+    }
+
+    /**
+     * Returns a MemoryPoolHandle that allocates fresh arrays for each allocation and drops released arrays.
+     *
+     * @return a memory pool without pooling.
+     */
+    public static MemoryPoolHandle disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * arena of a thread.
+     */
+    private static class Arena {
+        /**
+         * released arrays, grouped by lengths
+         */
+        private final HashMap<Integer, ArrayDeque<long[]>> pools = new HashMap<>();
+        /**
+         * number of bytes allocated from the heap
+         */
+        private long allocByteCount;
+    }
+
+    /**
+     * whether the memory pool pools allocations
+     */
+    private final boolean enabled;
+    /**
+     * thread-local arenas
+     */
+    private final ThreadLocal<Arena> arenas;
+
+    private MemoryPoolHandle(boolean enabled) {
+        this.enabled = enabled;
+        arenas = ThreadLocal.withInitial(Arena::new);
+    }
+
+    /**
+     * Allocates an array with all zero values.
+     *
+     * @param length the length of the array.
+     * @return an array with all zero values.
+     */
+    public long[] allocate(int length) {
+        Arena arena = arenas.get();
+        if (enabled) {
+            ArrayDeque<long[]> pool = arena.pools.get(length);
+            if (pool != null && !pool.isEmpty()) {
+                long[] array = pool.pop();
+                Arrays.fill(array, 0L);
+                return array;
+            }
+        }
+        arena.allocByteCount += (long) length * Long.BYTES;
+        return new long[length];
+    }
+
+    /**
+     * Returns an array allocated by {@link #allocate(int)} back to the memory pool. The caller must not use the array
+     * after releasing it.
+     *
+     * @param array the array.
+     */
+    public void release(long[] array) {
+        if (!enabled) {
+            return;
+        }
+        ArrayDeque<long[]> pool = arenas.get().pools.computeIfAbsent(array.length, length -> new ArrayDeque<>());
+        if (pool.size() < MAX_POOLED_NUM) {
+            pool.push(array);
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated from the heap by the arena of the current thread.
+     *
+     * @return the number of bytes allocated from the heap.
+     */
+    public long allocByteCount() {
+        return arenas.get().allocByteCount;
+    }
+
+    /**
+     * Returns the number of different allocation lengths in the arena of the current thread.
+     *
+     * @return the number of different allocation lengths.
+     */
+    public int poolCount() {
+        return arenas.get().pools.size();
+    }
+
+    /**
+     * Returns whether the memory pool pools allocations.
+     *
+     * @return true if the memory pool pools allocations.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
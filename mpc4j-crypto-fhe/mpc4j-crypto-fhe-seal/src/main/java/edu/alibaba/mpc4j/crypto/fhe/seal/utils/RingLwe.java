@@ -255,6 +255,21 @@ public class RingLwe {
      */
     public static void encryptZeroAsymmetric(PublicKey publicKey, SealContext context, ParmsId parmsId,
                                              boolean isNttForm, Ciphertext destination) {
+        encryptZeroAsymmetric(publicKey, context, parmsId, isNttForm, destination, MemoryPoolHandle.global());
+    }
+
+    /**
+     * Creates an encryption of zero with a public key and store in a ciphertext.
+     *
+     * @param publicKey   the public key used for encryption.
+     * @param context     the SEALContext containing a chain of ContextData.
+     * @param parmsId     indicates the level of encryption.
+     * @param isNttForm   if true, store ciphertext in NTT form.
+     * @param destination the output ciphertext - an encryption of zero.
+     * @param pool        the memory pool for temporary polynomials.
+     */
+    public static void encryptZeroAsymmetric(PublicKey publicKey, SealContext context, ParmsId parmsId,
+                                             boolean isNttForm, Ciphertext destination, MemoryPoolHandle pool) {
         if (!ValCheck.isValidFor(publicKey, context)) {
             throw new IllegalArgumentException("public key is not valid for the encryption parameters");
         }
@@ -282,7 +297,7 @@ public class RingLwe {
         UniformRandomGenerator prng = parms.randomGeneratorFactory().create();
 
         // Generate u <-- R_3
-        long[] u = new long[coeffCount * coeffModulusSize];
+        long[] u = pool.allocate(coeffCount * coeffModulusSize);
         samplePolyTernary(prng, parms, u);
 
         // c[j] = u * public_key[j]
@@ -323,6 +338,7 @@ public class RingLwe {
 
             PolyArithmeticSmallMod.addPolyCoeffMod(gaussianIter, dstIter, coeffModulusSize, coeffModulus, dstIter);
         }
+        pool.release(u);
     }
 
     /**
@@ -338,6 +354,23 @@ public class RingLwe {
      */
     public static void encryptZeroSymmetric(SecretKey secretKey, SealContext context, ParmsId parmsId, boolean isNttForm,
                                             boolean saveSeed, Ciphertext destination) {
+        encryptZeroSymmetric(secretKey, context, parmsId, isNttForm, saveSeed, destination, MemoryPoolHandle.global());
+    }
+
+    /**
+     * Creates an encryption of zero with a secret key and store in a ciphertext.
+     *
+     * @param secretKey   the secret key used for encryption.
+     * @param context     the SEALContext containing a chain of ContextData.
+     * @param parmsId     indicates the level of encryption.
+     * @param isNttForm   if true, store ciphertext in NTT form.
+     * @param saveSeed    if true, the second component of ciphertext is
+     *                    replaced with the random seed used to sample this component.
+     * @param destination the output ciphertext - an encryption of zero.
+     * @param pool        the memory pool for temporary polynomials.
+     */
+    public static void encryptZeroSymmetric(SecretKey secretKey, SealContext context, ParmsId parmsId, boolean isNttForm,
+                                            boolean saveSeed, Ciphertext destination, MemoryPoolHandle pool) {
         if (!ValCheck.isValidFor(secretKey, context)) {
             throw new IllegalArgumentException("secret key is not valid for the encryption parameters");
         }
@@ -395,7 +428,7 @@ public class RingLwe {
         }
 
         // Sample e <-- chi
-        long[] noise = new long[coeffCount * coeffModulusSize];
+        long[] noise = pool.allocate(coeffCount * coeffModulusSize);
         samplePolyCbd(bootstrapPrng, parms, noise);
 
         // Calculate -(as+ e) (mod q) and store in c[0] in BFV/CKKS
@@ -428,6 +461,7 @@ public class RingLwe {
                 coeffCount, coeffModulus[i], destination.data(), c0Offset + i * coeffCount
             );
         }
+        pool.release(noise);
         if (!isNttForm && !saveSeed) {
             for (int i = 0; i < coeffModulusSize; i++) {
                 // Transform the c1 into non-NTT representation
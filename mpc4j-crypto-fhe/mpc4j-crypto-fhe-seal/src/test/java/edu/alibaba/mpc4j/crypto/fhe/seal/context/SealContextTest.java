@@ -3,10 +3,15 @@ package edu.alibaba.mpc4j.crypto.fhe.seal.context;
 import edu.alibaba.mpc4j.crypto.fhe.seal.context.SealContext.ContextData;
 import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.CoeffModulus;
 import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.CoeffModulus.SecLevelType;
+import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.PlainModulus;
+import edu.alibaba.mpc4j.crypto.fhe.seal.ntt.NttTables;
+import edu.alibaba.mpc4j.crypto.fhe.seal.ntt.NttType;
 import edu.alibaba.mpc4j.crypto.fhe.seal.rand.UniformRandomGeneratorFactory;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * SEALContext unit tests.
  * <p>
@@ -434,4 +439,40 @@ public class SealContextTest {
     // TODO: testBGVContextConstructor
 
     // TODO: testBGVParameterError
+
+    @Test
+    public void testNttType() {
+        EncryptionParameters parms = new EncryptionParameters(SchemeType.BFV);
+        parms.setPolyModulusDegree(4096);
+        parms.setCoeffModulus(CoeffModulus.bfvDefault(4096));
+        parms.setPlainModulus(PlainModulus.batching(4096, 20));
+        // default context uses scalar NTT without RNS executor
+        SealContext context = new SealContext(parms);
+        Assert.assertEquals(NttType.SCALAR, context.nttType());
+        Assert.assertNull(context.rnsExecutor());
+
+        ForkJoinPool rnsExecutor = new ForkJoinPool(2);
+        try {
+            context = new SealContext(parms, true, SecLevelType.TC128, NttType.JDK_SIMD, rnsExecutor);
+            Assert.assertTrue(context.isParametersSet());
+            Assert.assertEquals(NttType.JDK_SIMD, context.nttType());
+            Assert.assertSame(rnsExecutor, context.rnsExecutor());
+            // all NTT tables in the modulus switching chain use the NTT type and the RNS executor
+            ContextData contextData = context.keyContextData();
+            while (contextData != null) {
+                for (NttTables nttTables : contextData.smallNttTables()) {
+                    Assert.assertEquals(NttType.JDK_SIMD, nttTables.getNttType());
+                    Assert.assertSame(rnsExecutor, nttTables.getRnsExecutor());
+                }
+                Assert.assertEquals(NttType.JDK_SIMD, contextData.plainNttTables().getNttType());
+                for (NttTables nttTables : contextData.rnsTool().baseBskNttTables()) {
+                    Assert.assertEquals(NttType.JDK_SIMD, nttTables.getNttType());
+                    Assert.assertSame(rnsExecutor, nttTables.getRnsExecutor());
+                }
+                contextData = contextData.nextContextData();
+            }
+        } finally {
+            rnsExecutor.shutdown();
+        }
+    }
 }
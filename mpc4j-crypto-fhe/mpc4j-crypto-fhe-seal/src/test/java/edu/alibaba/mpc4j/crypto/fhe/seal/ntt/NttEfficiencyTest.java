@@ -0,0 +1,114 @@
+package edu.alibaba.mpc4j.crypto.fhe.seal.ntt;
+
+import edu.alibaba.mpc4j.crypto.fhe.seal.iterator.PolyIterator;
+import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.CoeffModulus;
+import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.Modulus;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NTT efficiency tests. We compare the scalar NTT with the NTT using jdk.incubator.vector, both with and without the
+ * RNS executor, for Poly-RNS representations with m = 2 polynomials and BFV default coefficient modulus.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+@Ignore
+public class NttEfficiencyTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NttEfficiencyTest.class);
+    /**
+     * min log(N)
+     */
+    private static final int MIN_LOG_N = 12;
+    /**
+     * max log(N)
+     */
+    private static final int MAX_LOG_N = 15;
+    /**
+     * number of polynomials
+     */
+    private static final int M = 2;
+    /**
+     * number of rounds
+     */
+    private static final int ROUND = 100;
+    /**
+     * stop watch
+     */
+    private final StopWatch stopWatch;
+
+    public NttEfficiencyTest() {
+        stopWatch = new StopWatch();
+    }
+
+    @Test
+    public void testEfficiency() {
+        ForkJoinPool rnsExecutor = ForkJoinPool.commonPool();
+        LOGGER.info(
+            "{}\t{}\t{}\t{}\t{}\t{}",
+            "                log(N)", "                     k",
+            "           scalar (us)", "         jdk_simd (us)",
+            "  scalar_parallel (us)", "jdk_simd_parallel (us)"
+        );
+        for (int logN = MIN_LOG_N; logN <= MAX_LOG_N; logN++) {
+            int n = 1 << logN;
+            Modulus[] coeffModulus = CoeffModulus.bfvDefault(n);
+            int k = coeffModulus.length;
+            long[] poly = new long[M * k * n];
+            Random random = new Random();
+            for (int r = 0; r < M; r++) {
+                for (int j = 0; j < k; j++) {
+                    for (int i = 0; i < n; i++) {
+                        poly[(r * k + j) * n + i] = Math.floorMod(random.nextLong(), coeffModulus[j].value());
+                    }
+                }
+            }
+            double scalarTime = getTime(logN, coeffModulus, poly, NttType.SCALAR, null);
+            double simdTime = getTime(logN, coeffModulus, poly, NttType.JDK_SIMD, null);
+            double scalarParallelTime = getTime(logN, coeffModulus, poly, NttType.SCALAR, rnsExecutor);
+            double simdParallelTime = getTime(logN, coeffModulus, poly, NttType.JDK_SIMD, rnsExecutor);
+            LOGGER.info(
+                "{}\t{}\t{}\t{}\t{}\t{}",
+                StringUtils.leftPad(String.valueOf(logN), 22),
+                StringUtils.leftPad(String.valueOf(k), 22),
+                StringUtils.leftPad(String.format("%.2f", scalarTime), 22),
+                StringUtils.leftPad(String.format("%.2f", simdTime), 22),
+                StringUtils.leftPad(String.format("%.2f", scalarParallelTime), 22),
+                StringUtils.leftPad(String.format("%.2f", simdParallelTime), 22)
+            );
+        }
+    }
+
+    private double getTime(int logN, Modulus[] coeffModulus, long[] poly, NttType nttType, ForkJoinPool rnsExecutor) {
+        int n = 1 << logN;
+        int k = coeffModulus.length;
+        NttTables[] tables = new NttTables[k];
+        NttTables.createNttTables(logN, coeffModulus, tables, nttType, rnsExecutor);
+        long[] copy = new long[poly.length];
+        PolyIterator polyIterator = PolyIterator.wrap(copy, M, n, k);
+        // warm up
+        for (int round = 0; round < ROUND; round++) {
+            System.arraycopy(poly, 0, copy, 0, poly.length);
+            NttTool.nttNegacyclicHarveyPoly(polyIterator, M, tables);
+            NttTool.inverseNttNegacyclicHarveyPoly(polyIterator, M, tables);
+        }
+        System.arraycopy(poly, 0, copy, 0, poly.length);
+        stopWatch.start();
+        for (int round = 0; round < ROUND; round++) {
+            NttTool.nttNegacyclicHarveyPoly(polyIterator, M, tables);
+            NttTool.inverseNttNegacyclicHarveyPoly(polyIterator, M, tables);
+        }
+        stopWatch.stop();
+        double time = (double) stopWatch.getTime(TimeUnit.MICROSECONDS) / ROUND;
+        stopWatch.reset();
+        return time;
+    }
+}
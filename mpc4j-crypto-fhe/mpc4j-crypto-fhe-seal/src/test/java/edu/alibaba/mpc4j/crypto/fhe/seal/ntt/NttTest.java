@@ -1,13 +1,16 @@
 package edu.alibaba.mpc4j.crypto.fhe.seal.ntt;
 
 import edu.alibaba.mpc4j.crypto.fhe.seal.iterator.CoeffIterator;
+import edu.alibaba.mpc4j.crypto.fhe.seal.iterator.PolyIterator;
 import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.CoeffModulus;
 import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.Modulus;
 import edu.alibaba.mpc4j.crypto.fhe.seal.zq.Numth;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * NTT unit tests.
@@ -113,4 +116,84 @@ public class NttTest {
         NttTool.inverseNttNegacyclicHarvey(CoeffIterator.wrap(poly), tables);
         Assert.assertArrayEquals(temp, poly);
     }
+
+    @Test
+    public void testJdkSimdNtt() {
+        Random random = new Random();
+        for (int coeffCountPower = 1; coeffCountPower <= 15; coeffCountPower++) {
+            int n = 1 << coeffCountPower;
+            for (int bitCount : new int[]{20, 40, 60}) {
+                Modulus modulus = Numth.getPrime(2L << coeffCountPower, bitCount);
+                NttTables scalarTables = new NttTables(coeffCountPower, modulus, NttType.SCALAR);
+                NttTables simdTables = new NttTables(coeffCountPower, modulus, NttType.JDK_SIMD);
+                Assert.assertEquals(NttType.JDK_SIMD, simdTables.getNttType());
+                long[] poly = new long[n];
+                for (int i = 0; i < n; i++) {
+                    poly[i] = Math.floorMod(random.nextLong(), modulus.value());
+                }
+                // the lazy results must be exactly the same
+                long[] expect = Arrays.copyOf(poly, n);
+                long[] actual = Arrays.copyOf(poly, n);
+                NttTool.nttNegacyclicHarveyLazy(CoeffIterator.wrap(expect), scalarTables);
+                NttTool.nttNegacyclicHarveyLazy(CoeffIterator.wrap(actual), simdTables);
+                Assert.assertArrayEquals(expect, actual);
+                long[] ntt = Arrays.copyOf(poly, n);
+                NttTool.nttNegacyclicHarvey(ntt, simdTables);
+                expect = Arrays.copyOf(ntt, n);
+                actual = Arrays.copyOf(ntt, n);
+                NttTool.inverseNttNegacyclicHarveyLazy(CoeffIterator.wrap(expect), scalarTables);
+                NttTool.inverseNttNegacyclicHarveyLazy(CoeffIterator.wrap(actual), simdTables);
+                Assert.assertArrayEquals(expect, actual);
+                // the full results
+                NttTool.inverseNttNegacyclicHarvey(ntt, simdTables);
+                Assert.assertArrayEquals(poly, ntt);
+            }
+        }
+    }
+
+    @Test
+    public void testRnsExecutor() {
+        int coeffCountPower = 12;
+        int n = 1 << coeffCountPower;
+        int k = 5;
+        int m = 3;
+        Modulus[] coeffModulus = CoeffModulus.create(n, new int[]{60, 50, 40, 30, 20});
+        NttTables[] serialTables = new NttTables[k];
+        NttTables.createNttTables(coeffCountPower, coeffModulus, serialTables);
+        Assert.assertNull(serialTables[0].getRnsExecutor());
+        ForkJoinPool rnsExecutor = new ForkJoinPool(4);
+        try {
+            for (NttType nttType : NttType.values()) {
+                NttTables[] parallelTables = new NttTables[k];
+                NttTables.createNttTables(coeffCountPower, coeffModulus, parallelTables, nttType, rnsExecutor);
+                Assert.assertSame(rnsExecutor, parallelTables[0].getRnsExecutor());
+
+                Random random = new Random();
+                long[] poly = new long[m * k * n];
+                for (int r = 0; r < m; r++) {
+                    for (int j = 0; j < k; j++) {
+                        for (int i = 0; i < n; i++) {
+                            poly[(r * k + j) * n + i] = Math.floorMod(random.nextLong(), coeffModulus[j].value());
+                        }
+                    }
+                }
+                long[] expect = Arrays.copyOf(poly, poly.length);
+                long[] actual = Arrays.copyOf(poly, poly.length);
+                NttTool.nttNegacyclicHarveyPoly(PolyIterator.wrap(expect, m, n, k), m, serialTables);
+                NttTool.nttNegacyclicHarveyPoly(PolyIterator.wrap(actual, m, n, k), m, parallelTables);
+                Assert.assertArrayEquals(expect, actual);
+                NttTool.inverseNttNegacyclicHarveyLazyPoly(PolyIterator.wrap(expect, m, n, k), m, serialTables);
+                NttTool.inverseNttNegacyclicHarveyLazyPoly(PolyIterator.wrap(actual, m, n, k), m, parallelTables);
+                Assert.assertArrayEquals(expect, actual);
+                NttTool.nttNegacyclicHarveyPoly(expect, m, n, k, 1, serialTables);
+                NttTool.nttNegacyclicHarveyPoly(actual, m, n, k, 1, parallelTables);
+                Assert.assertArrayEquals(expect, actual);
+                NttTool.inverseNttNegacyclicHarveyPoly(PolyIterator.wrap(expect, m, n, k), m, serialTables);
+                NttTool.inverseNttNegacyclicHarveyPoly(PolyIterator.wrap(actual, m, n, k), m, parallelTables);
+                Assert.assertArrayEquals(expect, actual);
+            }
+        } finally {
+            rnsExecutor.shutdown();
+        }
+    }
 }
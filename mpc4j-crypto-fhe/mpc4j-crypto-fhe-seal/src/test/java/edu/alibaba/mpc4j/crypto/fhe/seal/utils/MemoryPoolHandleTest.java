@@ -0,0 +1,165 @@
+package edu.alibaba.mpc4j.crypto.fhe.seal.utils;
+
+import edu.alibaba.mpc4j.crypto.fhe.seal.*;
+import edu.alibaba.mpc4j.crypto.fhe.seal.context.EncryptionParameters;
+import edu.alibaba.mpc4j.crypto.fhe.seal.context.SchemeType;
+import edu.alibaba.mpc4j.crypto.fhe.seal.context.SealContext;
+import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.CoeffModulus;
+import edu.alibaba.mpc4j.crypto.fhe.seal.modulus.PlainModulus;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Memory pool handle unit tests.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class MemoryPoolHandleTest {
+
+    @Test
+    public void testAllocateRelease() {
+        MemoryPoolHandle pool = MemoryPoolHandle.newPool();
+        Assert.assertTrue(pool.isEnabled());
+        Assert.assertEquals(0, pool.allocByteCount());
+        Assert.assertEquals(0, pool.poolCount());
+
+        long[] array = pool.allocate(16);
+        Assert.assertEquals(16, array.length);
+        Assert.assertEquals(16 * Long.BYTES, pool.allocByteCount());
+        Arrays.fill(array, 1L);
+        pool.release(array);
+        Assert.assertEquals(1, pool.poolCount());
+
+        // the released array is reused and zeroed
+        long[] reused = pool.allocate(16);
+        Assert.assertSame(array, reused);
+        Assert.assertArrayEquals(new long[16], reused);
+        Assert.assertEquals(16 * Long.BYTES, pool.allocByteCount());
+
+        // arrays with different lengths are not mixed
+        long[] other = pool.allocate(32);
+        Assert.assertEquals(32, other.length);
+        Assert.assertEquals(48 * Long.BYTES, pool.allocByteCount());
+        pool.release(reused);
+        pool.release(other);
+        Assert.assertEquals(2, pool.poolCount());
+    }
+
+    @Test
+    public void testMaxPooledNum() {
+        MemoryPoolHandle pool = MemoryPoolHandle.newPool();
+        int num = MemoryPoolHandle.MAX_POOLED_NUM + 1;
+        long[][] arrays = new long[num][];
+        for (int i = 0; i < num; i++) {
+            arrays[i] = pool.allocate(8);
+        }
+        for (int i = 0; i < num; i++) {
+            pool.release(arrays[i]);
+        }
+        long allocByteCount = pool.allocByteCount();
+        for (int i = 0; i < num; i++) {
+            arrays[i] = pool.allocate(8);
+        }
+        // only MAX_POOLED_NUM arrays are kept, the last allocation comes from the heap
+        Assert.assertEquals(allocByteCount + 8 * Long.BYTES, pool.allocByteCount());
+    }
+
+    @Test
+    public void testDisabled() {
+        MemoryPoolHandle pool = MemoryPoolHandle.disabled();
+        Assert.assertFalse(pool.isEnabled());
+        long[] array = pool.allocate(16);
+        pool.release(array);
+        Assert.assertNotSame(array, pool.allocate(16));
+        Assert.assertEquals(0, pool.poolCount());
+    }
+
+    @Test
+    public void testThreadLocal() throws InterruptedException {
+        MemoryPoolHandle pool = MemoryPoolHandle.newPool();
+        long[] array = pool.allocate(16);
+        pool.release(array);
+        // another thread has its own arena
+        AtomicReference<long[]> otherArray = new AtomicReference<>();
+        Thread thread = new Thread(() -> otherArray.set(pool.allocate(16)));
+        thread.start();
+        thread.join();
+        Assert.assertNotSame(array, otherArray.get());
+        Assert.assertSame(array, pool.allocate(16));
+    }
+
+    @Test
+    public void testBfvEvaluator() {
+        EncryptionParameters parms = new EncryptionParameters(SchemeType.BFV);
+        int polyModulusDegree = 8192;
+        parms.setPolyModulusDegree(polyModulusDegree);
+        parms.setCoeffModulus(CoeffModulus.bfvDefault(polyModulusDegree));
+        parms.setPlainModulus(PlainModulus.batching(polyModulusDegree, 20));
+        SealContext context = new SealContext(parms);
+        KeyGenerator keygen = new KeyGenerator(context);
+        PublicKey publicKey = new PublicKey();
+        keygen.createPublicKey(publicKey);
+        RelinKeys relinKeys = new RelinKeys();
+        keygen.createRelinKeys(relinKeys);
+        GaloisKeys galoisKeys = new GaloisKeys();
+        keygen.createGaloisKeys(galoisKeys);
+
+        MemoryPoolHandle pool = MemoryPoolHandle.newPool();
+        Encryptor encryptor = new Encryptor(context, publicKey);
+        encryptor.setPool(pool);
+        Evaluator evaluator = new Evaluator(context, pool);
+        Decryptor decryptor = new Decryptor(context, keygen.secretKey(), pool);
+        BatchEncoder batchEncoder = new BatchEncoder(context);
+        int slotCount = batchEncoder.slotCount();
+        int rowSize = slotCount / 2;
+        long plainModulus = parms.plainModulus().value();
+
+        Random random = new Random();
+        long allocByteCount = 0;
+        for (int round = 0; round < 3; round++) {
+            long[] x = new long[slotCount];
+            long[] y = new long[slotCount];
+            for (int i = 0; i < slotCount; i++) {
+                x[i] = Math.floorMod(random.nextLong(), plainModulus);
+                y[i] = Math.floorMod(random.nextLong(), plainModulus);
+            }
+            Plaintext plainX = new Plaintext();
+            Plaintext plainY = new Plaintext();
+            batchEncoder.encode(x, plainX);
+            batchEncoder.encode(y, plainY);
+            Ciphertext encryptedX = new Ciphertext();
+            Ciphertext encryptedY = new Ciphertext();
+            encryptor.encrypt(plainX, encryptedX);
+            encryptor.encrypt(plainY, encryptedY);
+            // (x * y) rotated by 1, then add y^2
+            evaluator.multiplyInplace(encryptedX, encryptedY);
+            evaluator.relinearizeInplace(encryptedX, relinKeys);
+            evaluator.rotateRowsInplace(encryptedX, 1, galoisKeys);
+            evaluator.squareInplace(encryptedY);
+            evaluator.relinearizeInplace(encryptedY, relinKeys);
+            evaluator.addInplace(encryptedX, encryptedY);
+            evaluator.modSwitchToNextInplace(encryptedX);
+
+            Plaintext plain = new Plaintext();
+            decryptor.decrypt(encryptedX, plain);
+            long[] result = new long[slotCount];
+            batchEncoder.decode(plain, result);
+            for (int i = 0; i < slotCount; i++) {
+                int source = (i / rowSize) * rowSize + (i % rowSize + 1) % rowSize;
+                long expect = (x[source] * y[source] % plainModulus + y[i] * y[i] % plainModulus) % plainModulus;
+                Assert.assertEquals(expect, result[i]);
+            }
+            if (round == 0) {
+                allocByteCount = pool.allocByteCount();
+            } else {
+                // temporaries are all reused after the first round
+                Assert.assertEquals(allocByteCount, pool.allocByteCount());
+            }
+        }
+    }
+}
@@ -237,4 +237,43 @@ inline void aes_ecb_decrypt(uint8_t *ciphertext, const AES_KEY *key) {
 
 #endif
 
+/**
+ * 批量加密时交错处理的分组数量，使AES指令流水线保持满载
+ */
+#define AES_BATCH_BLOCK_NUM 8
+
+#ifdef __x86_64__
+__attribute__((target("aes,sse2")))
+inline void aes_ecb_encrypt_blocks(uint8_t *blocks, size_t num, const AES_KEY *key) {
+    size_t index = 0;
+    // 每次交错加密8个分组，隐藏aesenc指令的延迟
+    for (; index + AES_BATCH_BLOCK_NUM <= num; index += AES_BATCH_BLOCK_NUM) {
+        auto *p = (__m128i *) (blocks + index * BLOCK_BYTE_LENGTH);
+        __m128i m[AES_BATCH_BLOCK_NUM];
+        for (int j = 0; j < AES_BATCH_BLOCK_NUM; j++) {
+            m[j] = _mm_xor_si128(_mm_loadu_si128(p + j), key->rd_key[0]);
+        }
+        for (int round = 1; round < 10; round++) {
+            for (int j = 0; j < AES_BATCH_BLOCK_NUM; j++) {
+                m[j] = _mm_aesenc_si128(m[j], key->rd_key[round]);
+            }
+        }
+        for (int j = 0; j < AES_BATCH_BLOCK_NUM; j++) {
+            _mm_storeu_si128(p + j, _mm_aesenclast_si128(m[j], key->rd_key[10]));
+        }
+    }
+    for (; index < num; index++) {
+        aes_ecb_encrypt(blocks + index * BLOCK_BYTE_LENGTH, key);
+    }
+}
+#elif __aarch64__
+
+inline void aes_ecb_encrypt_blocks(uint8_t *blocks, size_t num, const AES_KEY *key) {
+    for (size_t index = 0; index < num; index++) {
+        aes_ecb_encrypt(blocks + index * BLOCK_BYTE_LENGTH, key);
+    }
+}
+
+#endif
+
 #endif //MPC4J_NATIVE_TOOL_AES_H
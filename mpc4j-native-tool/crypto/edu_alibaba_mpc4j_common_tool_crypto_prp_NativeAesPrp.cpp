@@ -40,6 +40,19 @@ JNIEXPORT jbyteArray JNICALL Java_edu_alibaba_mpc4j_common_tool_crypto_prp_Nativ
     return jCiphertextByteArray;
 }
 
+JNIEXPORT void JNICALL Java_edu_alibaba_mpc4j_common_tool_crypto_prp_NativeAesPrp_nativeBatchEncrypt
+        (JNIEnv *env, jobject context, jobject jKeyPointer, jbyteArray jPlaintextsByteArray, jbyteArray jCiphertextsByteArray) {
+    auto * aesKey = (AES_KEY *)(*env).GetDirectBufferAddress(jKeyPointer);
+    jsize length = (*env).GetArrayLength(jPlaintextsByteArray);
+    auto * plaintexts = (uint8_t *)(*env).GetPrimitiveArrayCritical(jPlaintextsByteArray, nullptr);
+    auto * ciphertexts = (uint8_t *)(*env).GetPrimitiveArrayCritical(jCiphertextsByteArray, nullptr);
+    // 先把明文拷贝到密文数组中，再在密文数组上原地加密，避免为每个分组分配新的数组
+    memmove(ciphertexts, plaintexts, length);
+    (*env).ReleasePrimitiveArrayCritical(jPlaintextsByteArray, plaintexts, JNI_ABORT);
+    aes_ecb_encrypt_blocks(ciphertexts, length / BLOCK_BYTE_LENGTH, aesKey);
+    (*env).ReleasePrimitiveArrayCritical(jCiphertextsByteArray, ciphertexts, 0);
+}
+
 JNIEXPORT jbyteArray JNICALL Java_edu_alibaba_mpc4j_common_tool_crypto_prp_NativeAesPrp_nativeDecrypt
         (JNIEnv *env, jobject context, jobject jKeyPointer, jbyteArray jCiphertextByteArray) {
     auto * aesKey = (AES_KEY *)(*env).GetDirectBufferAddress(jKeyPointer);
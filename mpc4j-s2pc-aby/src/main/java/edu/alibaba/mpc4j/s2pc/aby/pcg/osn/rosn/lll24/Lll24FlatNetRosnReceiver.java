@@ -9,7 +9,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.prg.Prg;
 import edu.alibaba.mpc4j.common.tool.crypto.prg.PrgFactory;
 import edu.alibaba.mpc4j.common.tool.network.waksman.WaksmanNetwork;
 import edu.alibaba.mpc4j.common.tool.network.waksman.WaksmanNetworkFactory;
-import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.s2pc.aby.pcg.osn.rosn.AbstractNetRosnReceiver;
 import edu.alibaba.mpc4j.s2pc.aby.pcg.osn.rosn.RosnReceiverOutput;
@@ -176,21 +175,18 @@ public class Lll24FlatNetRosnReceiver extends AbstractNetRosnReceiver {
         switchWireMask = new byte[maxWidth][];
         // padding to max width
         boolean[] paddingChoices = new boolean[maxWidth];
-        byte[][] paddingRbArray = new byte[maxWidth][];
+        byte[] paddingRbBytes = new byte[maxWidth * CommonConstants.BLOCK_BYTE_LENGTH];
         int index = 0;
         for (int widthIndex = 0; widthIndex < maxWidth; widthIndex++) {
             byte[] gates = waksmanNetwork.getGates(levelIndex);
             if (gates[widthIndex] != 2) {
-                paddingRbArray[widthIndex] = cotReceiverOutputs.getRb(index);
+                cotReceiverOutputs.copyRb(index, paddingRbBytes, widthIndex * CommonConstants.BLOCK_BYTE_LENGTH);
                 paddingChoices[widthIndex] = cotReceiverOutputs.getChoice(index);
                 index++;
-            } else {
-                paddingRbArray[widthIndex] = BlockUtils.zeroBlock();
-                paddingChoices[widthIndex] = false;
             }
         }
         assert index == cotReceiverOutputs.getNum();
-        CotReceiverOutput paddingCotReceiverOutputs = CotReceiverOutput.create(paddingChoices, paddingRbArray);
+        CotReceiverOutput paddingCotReceiverOutputs = CotReceiverOutput.create(paddingChoices, paddingRbBytes);
         // level = O(log(n)) but width = O(n), batch in width
         IntStream widthIndexIntStream = parallel ? IntStream.range(0, maxWidth).parallel() : IntStream.range(0, maxWidth);
         if (byteLength <= CommonConstants.BLOCK_BYTE_LENGTH) {
@@ -154,19 +154,17 @@ public class Lll24FlatNetRosnSender extends AbstractNetRosnSender {
 
     private void handleCotSenderOutputsInLayer(CotSenderOutput cotSenderOutputs, int levelIndex) {
         byte[] delta = cotSenderOutputs.getDelta();
-        byte[][] paddingR0Array = new byte[maxWidth][];
+        byte[] paddingR0Bytes = new byte[maxWidth * CommonConstants.BLOCK_BYTE_LENGTH];
         int index = 0;
         for (int widthIndex = 0; widthIndex < maxWidth; widthIndex++) {
             byte[] gates = waksmanNetwork.getGates(levelIndex);
             if (gates[widthIndex] != 2) {
-                paddingR0Array[widthIndex] = cotSenderOutputs.getR0(index);
+                cotSenderOutputs.copyR0(index, paddingR0Bytes, widthIndex * CommonConstants.BLOCK_BYTE_LENGTH);
                 index++;
-            } else {
-                paddingR0Array[widthIndex] = BlockUtils.zeroBlock();
             }
         }
         assert index == cotSenderOutputs.getNum();
-        CotSenderOutput paddingCotSenderOutputs = CotSenderOutput.create(delta, paddingR0Array);
+        CotSenderOutput paddingCotSenderOutputs = CotSenderOutput.create(delta, paddingR0Bytes);
         switchWireMask0 = new byte[maxWidth][];
         switchWireMask1 = new byte[maxWidth][];
         // level = O(log(n)) but width = O(n), batch in width
@@ -8,7 +8,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.prg.Prg;
 import edu.alibaba.mpc4j.common.tool.crypto.prg.PrgFactory;
 import edu.alibaba.mpc4j.common.tool.network.waksman.WaksmanNetwork;
 import edu.alibaba.mpc4j.common.tool.network.waksman.WaksmanNetworkFactory;
-import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.DoubleUtils;
 import edu.alibaba.mpc4j.s2pc.aby.pcg.osn.rosn.lll24.Lll24NetRosnPtoDesc.PtoStep;
@@ -138,21 +137,20 @@ public class Lll24NetRosnReceiver extends AbstractNetRosnReceiver {
         CotReceiverOutput[] paddingCotReceiverOutputs = new CotReceiverOutput[level];
         for (int levelIndex = 0; levelIndex < level; levelIndex++) {
             boolean[] paddingChoices = new boolean[maxWidth];
-            byte[][] paddingRbArray = new byte[maxWidth][];
+            byte[] paddingRbBytes = new byte[maxWidth * CommonConstants.BLOCK_BYTE_LENGTH];
             int index = 0;
             for (int widthIndex = 0; widthIndex < maxWidth; widthIndex++) {
                 byte[] gates = waksmanNetwork.getGates(levelIndex);
                 if (gates[widthIndex] != 2) {
-                    paddingRbArray[widthIndex] = cotReceiverOutputs[levelIndex].getRb(index);
+                    cotReceiverOutputs[levelIndex].copyRb(
+                        index, paddingRbBytes, widthIndex * CommonConstants.BLOCK_BYTE_LENGTH
+                    );
                     paddingChoices[widthIndex] = cotReceiverOutputs[levelIndex].getChoice(index);
                     index++;
-                } else {
-                    paddingRbArray[widthIndex] = BlockUtils.zeroBlock();
-                    paddingChoices[widthIndex] = false;
                 }
             }
             assert index == cotReceiverOutputs[levelIndex].getNum();
-            paddingCotReceiverOutputs[levelIndex] = CotReceiverOutput.create(paddingChoices, paddingRbArray);
+            paddingCotReceiverOutputs[levelIndex] = CotReceiverOutput.create(paddingChoices, paddingRbBytes);
         }
         // level = O(log(n)) but width = O(n), batch in width
         IntStream widthIndexIntStream = parallel ? IntStream.range(0, maxWidth).parallel() : IntStream.range(0, maxWidth);
@@ -132,19 +132,19 @@ public class Lll24NetRosnSender extends AbstractNetRosnSender {
         CotSenderOutput[] paddingCotSenderOutputs = new CotSenderOutput[level];
         for (int levelIndex = 0; levelIndex < level; levelIndex++) {
             byte[] delta = cotSenderOutputs[levelIndex].getDelta();
-            byte[][] paddingR0Array = new byte[maxWidth][];
+            byte[] paddingR0Bytes = new byte[maxWidth * CommonConstants.BLOCK_BYTE_LENGTH];
             int index = 0;
             for (int widthIndex = 0; widthIndex < maxWidth; widthIndex++) {
                 byte[] gates = waksmanNetwork.getGates(levelIndex);
                 if (gates[widthIndex] != 2) {
-                    paddingR0Array[widthIndex] = cotSenderOutputs[levelIndex].getR0(index);
+                    cotSenderOutputs[levelIndex].copyR0(
+                        index, paddingR0Bytes, widthIndex * CommonConstants.BLOCK_BYTE_LENGTH
+                    );
                     index++;
-                } else {
-                    paddingR0Array[widthIndex] = BlockUtils.zeroBlock();
                 }
             }
             assert index == cotSenderOutputs[levelIndex].getNum();
-            paddingCotSenderOutputs[levelIndex] = CotSenderOutput.create(delta, paddingR0Array);
+            paddingCotSenderOutputs[levelIndex] = CotSenderOutput.create(delta, paddingR0Bytes);
         }
         switchWireMask0s = new byte[level][maxWidth][];
         switchWireMask1s = new byte[level][maxWidth][];
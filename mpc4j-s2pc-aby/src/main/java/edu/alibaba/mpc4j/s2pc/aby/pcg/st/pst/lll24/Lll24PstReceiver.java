@@ -95,6 +95,8 @@ public class Lll24PstReceiver extends AbstractPstReceiver implements PstReceiver
             int logEachNum = LongUtils.ceilLog2(eachNum);
             int afterEachGroupOt = (eachNum - 1) * logEachNum;
             int beforeEachGroupOt = afterEachGroupOt - (eachNum / 2 - 1) - (eachNum / 4 - 1);
+            // get R0 array once, each call of getR0Array() creates a new array
+            byte[][] cotR0Array = cotSenderOutput.getR0Array();
             IntStream intStream = parallel ? IntStream.range(0, batchNum).parallel() : IntStream.range(0, batchNum);
             if (isLeft) {
                 // 相邻的两个PPRF，choice的最低位不同；并且相邻四个数的倒数第二位的choice只有2^3中选择
@@ -104,18 +106,18 @@ public class Lll24PstReceiver extends AbstractPstReceiver implements PstReceiver
                     for (int rowIndex = 0; rowIndex < eachNum - 1; rowIndex++) {
                         switch (rowIndex % 4) {
                             case 0, 2:
-                                System.arraycopy(cotSenderOutput.getR0Array(), srcStartIndex, r0New, destStartIndex, logEachNum);
+                                System.arraycopy(cotR0Array, srcStartIndex, r0New, destStartIndex, logEachNum);
                                 srcStartIndex += logEachNum;
                                 break;
                             case 1:
-                                System.arraycopy(cotSenderOutput.getR0Array(), srcStartIndex, r0New, destStartIndex, logEachNum - 2);
-                                r0New[destStartIndex - 2 + logEachNum] = BytesUtils.xor(cotSenderOutput.getR0(srcStartIndex - 2 + logEachNum), r0New[destStartIndex - 2]);
+                                System.arraycopy(cotR0Array, srcStartIndex, r0New, destStartIndex, logEachNum - 2);
+                                r0New[destStartIndex - 2 + logEachNum] = BytesUtils.xor(cotR0Array[srcStartIndex - 2 + logEachNum], r0New[destStartIndex - 2]);
                                 r0New[destStartIndex - 1 + logEachNum] = cotSenderOutput.getR1(srcStartIndex - 1);
                                 srcStartIndex += logEachNum - 1;
                                 break;
                             case 3:
-                                System.arraycopy(cotSenderOutput.getR0Array(), srcStartIndex, r0New, destStartIndex, logEachNum - 2);
-                                r0New[destStartIndex - 2 + logEachNum] = BytesUtils.xor(cotSenderOutput.getR0(srcStartIndex - 2 - logEachNum), r0New[destStartIndex - 2]);
+                                System.arraycopy(cotR0Array, srcStartIndex, r0New, destStartIndex, logEachNum - 2);
+                                r0New[destStartIndex - 2 + logEachNum] = BytesUtils.xor(cotR0Array[srcStartIndex - 2 - logEachNum], r0New[destStartIndex - 2]);
                                 r0New[destStartIndex - 1 + logEachNum] = cotSenderOutput.getR1(srcStartIndex - 1);
                                 srcStartIndex += logEachNum - 2;
                         }
@@ -141,7 +143,7 @@ public class Lll24PstReceiver extends AbstractPstReceiver implements PstReceiver
                                 firstBitRes[rowIndex] = cotSenderOutput.getR1(srcStartIndex);
                                 secondBitRes[rowIndex] = cotSenderOutput.getR0(srcStartIndex + 1);
 
-                                System.arraycopy(cotSenderOutput.getR0Array(), srcStartIndex, r0New, destStartIndex, logEachNum);
+                                System.arraycopy(cotR0Array, srcStartIndex, r0New, destStartIndex, logEachNum);
                                 srcStartIndex += logEachNum;
                                 break;
                             case 2:
@@ -153,7 +155,7 @@ public class Lll24PstReceiver extends AbstractPstReceiver implements PstReceiver
                                 r0New[destStartIndex++] = firstBitRes[halfSearchIndex];
                                 r0New[destStartIndex++] = BytesUtils.xor(secondBitRes[halfSearchIndex], twoSwitchXorRes[quarterSearchIndex]);
 
-                                System.arraycopy(cotSenderOutput.getR0Array(), srcStartIndex, r0New, destStartIndex, logEachNum - 2);
+                                System.arraycopy(cotR0Array, srcStartIndex, r0New, destStartIndex, logEachNum - 2);
                                 srcStartIndex += logEachNum - 2;
                                 break;
                         }
@@ -95,6 +95,9 @@ public class Lll24PstSender extends AbstractPstSender implements PstSender {
             int logEachNum = LongUtils.ceilLog2(eachNum);
             int afterEachGroupOt = (eachNum - 1) * logEachNum;
             int beforeEachGroupOt = afterEachGroupOt - (eachNum / 2 - 1) - (eachNum / 4 - 1);
+            // get choices and Rb array once, each call of getChoices() / getRbArray() may create a new array
+            boolean[] cotChoices = cotReceiverOutput.getChoices();
+            byte[][] cotRbArray = cotReceiverOutput.getRbArray();
             IntStream intStream = parallel ? IntStream.range(0, batchNum).parallel() : IntStream.range(0, batchNum);
             if (isLeft) {
                 // 相邻的两个PPRF，choice的最低位不同
@@ -110,26 +113,26 @@ public class Lll24PstSender extends AbstractPstSender implements PstSender {
                                 assert (piArray[i][rowIndex] & 1) != (piArray[i][rowIndex + 1] & 1);
                                 assert (piArray[i][rowIndex + 2] & 1) != (piArray[i][rowIndex + 3] & 1);
                             case 2:
-                                System.arraycopy(cotReceiverOutput.getChoices(), srcStartIndex, flag, destStartIndex, logEachNum);
-                                System.arraycopy(cotReceiverOutput.getRbArray(), srcStartIndex, resByte, destStartIndex, logEachNum);
+                                System.arraycopy(cotChoices, srcStartIndex, flag, destStartIndex, logEachNum);
+                                System.arraycopy(cotRbArray, srcStartIndex, resByte, destStartIndex, logEachNum);
                                 srcStartIndex += logEachNum;
                                 break;
                             case 1:
-                                System.arraycopy(cotReceiverOutput.getChoices(), srcStartIndex, flag, destStartIndex, logEachNum - 2);
-                                System.arraycopy(cotReceiverOutput.getRbArray(), srcStartIndex, resByte, destStartIndex, logEachNum - 2);
+                                System.arraycopy(cotChoices, srcStartIndex, flag, destStartIndex, logEachNum - 2);
+                                System.arraycopy(cotRbArray, srcStartIndex, resByte, destStartIndex, logEachNum - 2);
                                 flag[destStartIndex - 2 + logEachNum] = cotReceiverOutput.getChoice(srcStartIndex - 2 + logEachNum) ^ flag[destStartIndex - 2];
-                                resByte[destStartIndex - 2 + logEachNum] = BytesUtils.xor(cotReceiverOutput.getRb(srcStartIndex - 2 + logEachNum), resByte[destStartIndex - 2]);
+                                resByte[destStartIndex - 2 + logEachNum] = BytesUtils.xor(cotRbArray[srcStartIndex - 2 + logEachNum], resByte[destStartIndex - 2]);
                                 flag[destStartIndex + logEachNum - 1] = !cotReceiverOutput.getChoice(srcStartIndex - 1);
-                                resByte[destStartIndex + logEachNum - 1] = BytesUtils.clone(cotReceiverOutput.getRb(srcStartIndex - 1));
+                                resByte[destStartIndex + logEachNum - 1] = BytesUtils.clone(cotRbArray[srcStartIndex - 1]);
                                 srcStartIndex += logEachNum - 1;
                                 break;
                             case 3:
-                                System.arraycopy(cotReceiverOutput.getChoices(), srcStartIndex, flag, destStartIndex, logEachNum - 2);
-                                System.arraycopy(cotReceiverOutput.getRbArray(), srcStartIndex, resByte, destStartIndex, logEachNum - 2);
+                                System.arraycopy(cotChoices, srcStartIndex, flag, destStartIndex, logEachNum - 2);
+                                System.arraycopy(cotRbArray, srcStartIndex, resByte, destStartIndex, logEachNum - 2);
                                 flag[destStartIndex - 2 + logEachNum] = cotReceiverOutput.getChoice(srcStartIndex - 2 - logEachNum) ^ flag[destStartIndex - 2];
-                                resByte[destStartIndex - 2 + logEachNum] = BytesUtils.xor(cotReceiverOutput.getRb(srcStartIndex - 2 - logEachNum), resByte[destStartIndex - 2]);
+                                resByte[destStartIndex - 2 + logEachNum] = BytesUtils.xor(cotRbArray[srcStartIndex - 2 - logEachNum], resByte[destStartIndex - 2]);
                                 flag[destStartIndex + logEachNum - 1] = !cotReceiverOutput.getChoice(srcStartIndex - 1);
-                                resByte[destStartIndex - 1 + logEachNum] = BytesUtils.clone(cotReceiverOutput.getRb(srcStartIndex - 1));
+                                resByte[destStartIndex - 1 + logEachNum] = BytesUtils.clone(cotRbArray[srcStartIndex - 1]);
                                 srcStartIndex += logEachNum - 2;
                         }
                         destStartIndex += logEachNum;
@@ -160,12 +163,12 @@ public class Lll24PstSender extends AbstractPstSender implements PstSender {
                                 assert (piArray[i][rowIndex] >= halfNum) != (piArray[i][rowIndex + halfNum] >= halfNum);
                             case 1:
                                 firstBitChoice[rowIndex] = !cotReceiverOutput.getChoice(srcStartIndex);
-                                firstBitRes[rowIndex] = BytesUtils.clone(cotReceiverOutput.getRb(srcStartIndex));
+                                firstBitRes[rowIndex] = BytesUtils.clone(cotRbArray[srcStartIndex]);
                                 secondBitChoice[rowIndex] = cotReceiverOutput.getChoice(srcStartIndex + 1);
-                                secondBitRes[rowIndex] = BytesUtils.clone(cotReceiverOutput.getRb(srcStartIndex + 1));
+                                secondBitRes[rowIndex] = BytesUtils.clone(cotRbArray[srcStartIndex + 1]);
 
-                                System.arraycopy(cotReceiverOutput.getChoices(), srcStartIndex, flag, destStartIndex, logEachNum);
-                                System.arraycopy(cotReceiverOutput.getRbArray(), srcStartIndex, resByte, destStartIndex, logEachNum);
+                                System.arraycopy(cotChoices, srcStartIndex, flag, destStartIndex, logEachNum);
+                                System.arraycopy(cotRbArray, srcStartIndex, resByte, destStartIndex, logEachNum);
                                 srcStartIndex += logEachNum;
                                 break;
                             case 2:
@@ -181,8 +184,8 @@ public class Lll24PstSender extends AbstractPstSender implements PstSender {
                                 flag[destStartIndex] = secondBitChoice[halfSearchIndex] ^ twoSwitchChoice[quarterSearchIndex];
                                 resByte[destStartIndex++] = BytesUtils.xor(secondBitRes[halfSearchIndex], twoSwitchXorRes[quarterSearchIndex]);
 
-                                System.arraycopy(cotReceiverOutput.getChoices(), srcStartIndex, flag, destStartIndex, logEachNum - 2);
-                                System.arraycopy(cotReceiverOutput.getRbArray(), srcStartIndex, resByte, destStartIndex, logEachNum - 2);
+                                System.arraycopy(cotChoices, srcStartIndex, flag, destStartIndex, logEachNum - 2);
+                                System.arraycopy(cotRbArray, srcStartIndex, resByte, destStartIndex, logEachNum - 2);
                                 srcStartIndex += logEachNum - 2;
                                 break;
                         }
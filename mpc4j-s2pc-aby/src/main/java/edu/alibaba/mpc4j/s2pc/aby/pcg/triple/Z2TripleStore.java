@@ -0,0 +1,109 @@
+package edu.alibaba.mpc4j.s2pc.aby.pcg.triple;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.tool.bitvector.BitVector;
+import edu.alibaba.mpc4j.common.tool.bitvector.BitVectorFactory;
+import edu.alibaba.mpc4j.s2pc.pcg.store.PcgStore;
+import edu.alibaba.mpc4j.s2pc.pcg.store.PcgStore.PcgStoreType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Z2 triple store. The meta is empty, each record is one byte where the lowest three bits are a, b and c.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class Z2TripleStore implements Closeable {
+    /**
+     * record byte length
+     */
+    private static final int RECORD_BYTE_LENGTH = 1;
+    /**
+     * PCG store
+     */
+    private final PcgStore pcgStore;
+
+    /**
+     * Saves triples.
+     *
+     * @param path    file path.
+     * @param session session.
+     * @param triple  triples.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void save(Path path, byte[] session, Z2Triple triple) throws IOException {
+        int num = triple.getNum();
+        byte[] records = new byte[num * RECORD_BYTE_LENGTH];
+        if (num > 0) {
+            BitVector a = triple.getVectorA();
+            BitVector b = triple.getVectorB();
+            BitVector c = triple.getVectorC();
+            for (int index = 0; index < num; index++) {
+                int record = a.get(index) ? 0b001 : 0;
+                record |= b.get(index) ? 0b010 : 0;
+                record |= c.get(index) ? 0b100 : 0;
+                records[index] = (byte) record;
+            }
+        }
+        PcgStore.save(path, PcgStoreType.Z2_TRIPLE, session, new byte[0], RECORD_BYTE_LENGTH, records);
+    }
+
+    /**
+     * Opens a triple store.
+     *
+     * @param path    file path.
+     * @param session session.
+     * @return triple store.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static Z2TripleStore open(Path path, byte[] session) throws IOException {
+        PcgStore pcgStore = PcgStore.open(path, PcgStoreType.Z2_TRIPLE, session);
+        try {
+            return new Z2TripleStore(pcgStore);
+        } catch (RuntimeException e) {
+            pcgStore.close();
+            throw e;
+        }
+    }
+
+    private Z2TripleStore(PcgStore pcgStore) {
+        Preconditions.checkState(pcgStore.getRecordByteLength() == RECORD_BYTE_LENGTH);
+        this.pcgStore = pcgStore;
+    }
+
+    /**
+     * Takes triples. Taken triples are removed from the store.
+     *
+     * @param num num.
+     * @return triples.
+     */
+    public Z2Triple take(int num) {
+        byte[] records = pcgStore.take(num);
+        BitVector a = BitVectorFactory.createZeros(num);
+        BitVector b = BitVectorFactory.createZeros(num);
+        BitVector c = BitVectorFactory.createZeros(num);
+        for (int index = 0; index < num; index++) {
+            a.set(index, (records[index] & 0b001) != 0);
+            b.set(index, (records[index] & 0b010) != 0);
+            c.set(index, (records[index] & 0b100) != 0);
+        }
+        return Z2Triple.create(num, a.getBytes(), b.getBytes(), c.getBytes());
+    }
+
+    /**
+     * Gets the num of remaining triples.
+     *
+     * @return the num of remaining triples.
+     */
+    public long getRemainNum() {
+        return pcgStore.getRemainNum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        pcgStore.close();
+    }
+}
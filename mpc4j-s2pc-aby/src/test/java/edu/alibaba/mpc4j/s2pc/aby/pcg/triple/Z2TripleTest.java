@@ -5,8 +5,13 @@ import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.*;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.security.SecureRandom;
 
 /**
@@ -24,6 +29,11 @@ public class Z2TripleTest {
      * the maximum triple num
      */
     private static final int MAX_NUM = 128;
+    /**
+     * temporary folder
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
     /**
      * random state
      */
@@ -214,4 +224,28 @@ public class Z2TripleTest {
             Assert.assertEquals(copyTripleHalf, tripleHalf);
         }
     }
+
+    @Test
+    public void testStore() throws IOException {
+        byte[] session = "P_1-P_2-session".getBytes(StandardCharsets.UTF_8);
+        for (int num = MIN_NUM + 1; num < MAX_NUM; num++) {
+            Z2Triple senderTriple = Z2Triple.createRandom(num, secureRandom);
+            Z2Triple receiverTriple = Z2Triple.createRandom(senderTriple, secureRandom);
+            Path senderPath = temporaryFolder.getRoot().toPath().resolve("sender_" + num);
+            Path receiverPath = temporaryFolder.getRoot().toPath().resolve("receiver_" + num);
+            Z2TripleStore.save(senderPath, session, senderTriple);
+            Z2TripleStore.save(receiverPath, session, receiverTriple);
+            try (Z2TripleStore senderStore = Z2TripleStore.open(senderPath, session);
+                 Z2TripleStore receiverStore = Z2TripleStore.open(receiverPath, session)) {
+                Z2Triple takeSenderTriple = senderStore.take(num / 2);
+                Z2Triple takeReceiverTriple = receiverStore.take(num / 2);
+                takeSenderTriple.merge(senderStore.take(num - num / 2));
+                takeReceiverTriple.merge(receiverStore.take(num - num / 2));
+                Assert.assertEquals(0, senderStore.getRemainNum());
+                Assert.assertEquals(senderTriple, takeSenderTriple);
+                Assert.assertEquals(receiverTriple, takeReceiverTriple);
+                TripleTestUtils.assertOutput(num, takeSenderTriple, takeReceiverTriple);
+            }
+        }
+    }
 }
@@ -192,7 +192,7 @@ public class Gyw23BpCdpprfReceiver extends AbstractBpCdpprfReceiver {
             .mapToObj(batchIndex -> {
                 // set K_i^{!α_i} := M[r_i] ⊕ c_i for i ∈ [1, n]
                 for (int i = 0; i < h; i++) {
-                    BlockUtils.xori(kbsArray[batchIndex * h + i], cotReceiverOutput.getRb(batchIndex * h + i));
+                    cotReceiverOutput.xoriRb(batchIndex * h + i, kbsArray[batchIndex * h + i], 0);
                 }
                 ArrayList<byte[][]> ggmTree = new ArrayList<>(h + 1);
                 // place the level-0 key with an empty key
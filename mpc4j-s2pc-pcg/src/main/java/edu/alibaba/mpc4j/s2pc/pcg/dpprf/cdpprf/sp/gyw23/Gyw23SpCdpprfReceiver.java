@@ -175,7 +175,7 @@ public class Gyw23SpCdpprfReceiver extends AbstractSpCdpprfReceiver {
         // set K_i^{!α_i} := M[r_i] ⊕ c_i for i ∈ [1, n]
         byte[][] kbs = correlationPayload.toArray(new byte[0][]);
         for (int i = 0; i < h; i++) {
-            BlockUtils.xori(kbs[i], cotReceiverOutput.getRb(i));
+            cotReceiverOutput.xoriRb(i, kbs[i], 0);
         }
         ggmTree = new ArrayList<>(h + 1);
         // place the level-0 key with an empty key
@@ -2,11 +2,12 @@ package edu.alibaba.mpc4j.s2pc.pcg.ot.cot;
 
 import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.stream.IntStream;
 
 import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
-import edu.alibaba.mpc4j.common.tool.utils.BinaryUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.s2pc.pcg.MergedPcgPartyOutput;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.OtReceiverOutput;
@@ -14,20 +15,33 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 /**
- * COT receiver output.
+ * COT receiver output. Choice bits and Rbs are stored in a flat boolean array and a flat byte array, where the choice
+ * bit and Rb with index i are at <code>offset + i</code> and <code>[(offset + i) * λ(B), (offset + i + 1) * λ(B))</code>.
+ * Splitting and reducing only create views on the same flat arrays without copying.
+ * <p></p>
+ * {@link #getRb(int)} returns a copy for each call. Callers in hot loops should use {@link #copyRb(int, byte[], int)}
+ * or {@link #xoriRb(int, byte[], int)} to avoid the copy.
  *
  * @author Weiran Liu
  * @date 2021/12/26
  */
 public class CotReceiverOutput implements OtReceiverOutput, MergedPcgPartyOutput {
     /**
-     * choice bits.
+     * flat choice bits, may be shared with other outputs.
      */
-    private boolean[] choices;
+    private boolean[] flatChoices;
     /**
-     * Rb array.
+     * flat Rb bytes, may be shared with other outputs.
      */
-    private byte[][] rbArray;
+    private byte[] rbBytes;
+    /**
+     * offset of the first choice bit / Rb in the flat arrays.
+     */
+    private int offset;
+    /**
+     * num.
+     */
+    private int num;
 
     /**
      * Creates a receiver output.
@@ -40,10 +54,33 @@ public class CotReceiverOutput implements OtReceiverOutput, MergedPcgPartyOutput
         CotReceiverOutput receiverOutput = new CotReceiverOutput();
         int num = choices.length;
         MathPreconditions.checkEqual("num", "RbArray.length", num, rbArray.length);
-        receiverOutput.choices = BinaryUtils.clone(choices);
-        receiverOutput.rbArray = Arrays.stream(rbArray)
-            .peek(rb -> Preconditions.checkArgument(BlockUtils.valid(rb)))
-            .toArray(byte[][]::new);
+        byte[] rbBytes = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+        for (int index = 0; index < num; index++) {
+            Preconditions.checkArgument(BlockUtils.valid(rbArray[index]));
+            System.arraycopy(
+                rbArray[index], 0, rbBytes, index * CommonConstants.BLOCK_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH
+            );
+        }
+        receiverOutput.setFlat(Arrays.copyOf(choices, num), rbBytes, 0, num);
+
+        return receiverOutput;
+    }
+
+    /**
+     * Creates a receiver output from flat Rb bytes. Choice bits and flat Rb bytes are not copied and must not be
+     * modified later.
+     *
+     * @param choices choice bits.
+     * @param rbBytes flat Rb bytes.
+     * @return a receiver output.
+     */
+    public static CotReceiverOutput create(boolean[] choices, byte[] rbBytes) {
+        CotReceiverOutput receiverOutput = new CotReceiverOutput();
+        int num = choices.length;
+        MathPreconditions.checkEqual(
+            "num * λ(B)", "RbBytes.length", num * CommonConstants.BLOCK_BYTE_LENGTH, rbBytes.length
+        );
+        receiverOutput.setFlat(choices, rbBytes, 0, num);
 
         return receiverOutput;
     }
@@ -55,8 +92,7 @@ public class CotReceiverOutput implements OtReceiverOutput, MergedPcgPartyOutput
      */
     public static CotReceiverOutput createEmpty() {
         CotReceiverOutput receiverOutput = new CotReceiverOutput();
-        receiverOutput.choices = new boolean[0];
-        receiverOutput.rbArray = BlockUtils.zeroBlocks(0);
+        receiverOutput.setFlat(new boolean[0], new byte[0], 0, 0);
 
         return receiverOutput;
     }
@@ -71,16 +107,19 @@ public class CotReceiverOutput implements OtReceiverOutput, MergedPcgPartyOutput
     public static CotReceiverOutput createRandom(CotSenderOutput senderOutput, SecureRandom secureRandom) {
         int num = senderOutput.getNum();
         CotReceiverOutput receiverOutput = new CotReceiverOutput();
-        receiverOutput.choices = BinaryUtils.randomBinary(num, secureRandom);
-        receiverOutput.rbArray = IntStream.range(0, num)
-            .mapToObj(index -> {
-                if (receiverOutput.choices[index]) {
-                    return BlockUtils.clone(senderOutput.getR1(index));
-                } else {
-                    return BlockUtils.clone(senderOutput.getR0(index));
+        boolean[] choices = new boolean[num];
+        byte[] rbBytes = senderOutput.getR0Bytes().clone();
+        byte[] delta = senderOutput.getDelta();
+        for (int index = 0; index < num; index++) {
+            choices[index] = secureRandom.nextBoolean();
+            if (choices[index]) {
+                int from = index * CommonConstants.BLOCK_BYTE_LENGTH;
+                for (int j = 0; j < CommonConstants.BLOCK_BYTE_LENGTH; j++) {
+                    rbBytes[from + j] ^= delta[j];
                 }
-            })
-            .toArray(byte[][]::new);
+            }
+        }
+        receiverOutput.setFlat(choices, rbBytes, 0, num);
         return receiverOutput;
     }
 
@@ -91,94 +130,159 @@ public class CotReceiverOutput implements OtReceiverOutput, MergedPcgPartyOutput
         // empty
     }
 
+    private void setFlat(boolean[] flatChoices, byte[] rbBytes, int offset, int num) {
+        this.flatChoices = flatChoices;
+        this.rbBytes = rbBytes;
+        this.offset = offset;
+        this.num = num;
+    }
+
     @Override
     public CotReceiverOutput copy() {
         CotReceiverOutput copy = new CotReceiverOutput();
-        copy.choices = BinaryUtils.clone(choices);
-        copy.rbArray = BlockUtils.clone(rbArray);
+        copy.setFlat(Arrays.copyOfRange(flatChoices, offset, offset + num), getRbBytes().clone(), 0, num);
         return copy;
     }
 
     @Override
     public CotReceiverOutput split(int splitNum) {
-        int num = getNum();
         MathPreconditions.checkPositiveInRangeClosed("splitNum", splitNum, num);
-        // split choices
-        boolean[] subChoices = new boolean[splitNum];
-        boolean[] remainChoices = new boolean[num - splitNum];
-        System.arraycopy(choices, num - splitNum, subChoices, 0, splitNum);
-        System.arraycopy(choices, 0, remainChoices, 0, num - splitNum);
-        choices = remainChoices;
-        // split Rb array
-        byte[][] rbSubArray = new byte[splitNum][];
-        byte[][] rbRemainArray = new byte[num - splitNum][];
-        System.arraycopy(rbArray, num - splitNum, rbSubArray, 0, splitNum);
-        System.arraycopy(rbArray, 0, rbRemainArray, 0, num - splitNum);
-        rbArray = rbRemainArray;
-
-        return CotReceiverOutput.create(subChoices, rbSubArray);
+        // the split output is a view of the last splitNum ones, the remaining output is a view of the first ones
+        CotReceiverOutput splitOutput = new CotReceiverOutput();
+        splitOutput.setFlat(flatChoices, rbBytes, offset + num - splitNum, splitNum);
+        setFlat(flatChoices, rbBytes, offset, num - splitNum);
+
+        return splitOutput;
     }
 
     @Override
     public void reduce(int reduceNum) {
-        int num = getNum();
         MathPreconditions.checkPositiveInRangeClosed("reduceNum", reduceNum, num);
         if (reduceNum < num) {
             // reduce only when reduceNum < num
-            boolean[] remainChoices = new boolean[reduceNum];
-            System.arraycopy(choices, 0, remainChoices, 0, reduceNum);
-            choices = remainChoices;
-            byte[][] rbRemainArray = new byte[reduceNum][];
-            System.arraycopy(rbArray, 0, rbRemainArray, 0, reduceNum);
-            rbArray = rbRemainArray;
+            setFlat(flatChoices, rbBytes, offset, reduceNum);
         }
     }
 
     @Override
     public void merge(MergedPcgPartyOutput other) {
         CotReceiverOutput that = (CotReceiverOutput) other;
-        // merge choices
-        boolean[] mergeChoices = new boolean[this.choices.length + that.choices.length];
-        System.arraycopy(this.choices, 0, mergeChoices, 0, this.choices.length);
-        System.arraycopy(that.choices, 0, mergeChoices, this.choices.length, that.choices.length);
-        choices = mergeChoices;
-        // merge Rb array
-        byte[][] mergeRbArray = new byte[this.rbArray.length + that.rbArray.length][];
-        System.arraycopy(this.rbArray, 0, mergeRbArray, 0, this.rbArray.length);
-        System.arraycopy(that.rbArray, 0, mergeRbArray, this.rbArray.length, that.rbArray.length);
-        rbArray = mergeRbArray;
+        if (that.num == 0) {
+            return;
+        }
+        if (this.num == 0) {
+            setFlat(that.flatChoices, that.rbBytes, that.offset, that.num);
+            return;
+        }
+        // the flat arrays may be shared, so we always copy into new flat arrays
+        boolean[] mergeChoices = new boolean[this.num + that.num];
+        System.arraycopy(this.flatChoices, this.offset, mergeChoices, 0, this.num);
+        System.arraycopy(that.flatChoices, that.offset, mergeChoices, this.num, that.num);
+        byte[] mergeRbBytes = new byte[(this.num + that.num) * CommonConstants.BLOCK_BYTE_LENGTH];
+        System.arraycopy(
+            this.rbBytes, this.offset * CommonConstants.BLOCK_BYTE_LENGTH,
+            mergeRbBytes, 0, this.num * CommonConstants.BLOCK_BYTE_LENGTH
+        );
+        System.arraycopy(
+            that.rbBytes, that.offset * CommonConstants.BLOCK_BYTE_LENGTH,
+            mergeRbBytes, this.num * CommonConstants.BLOCK_BYTE_LENGTH, that.num * CommonConstants.BLOCK_BYTE_LENGTH
+        );
+        setFlat(mergeChoices, mergeRbBytes, 0, this.num + that.num);
     }
 
     @Override
     public boolean getChoice(int index) {
-        return choices[index];
+        Objects.checkIndex(index, num);
+        return flatChoices[offset + index];
     }
 
+    /**
+     * Gets choice bits. The result must not be modified.
+     *
+     * @return choice bits.
+     */
     @Override
     public boolean[] getChoices() {
-        return choices;
+        if (offset == 0 && flatChoices.length == num) {
+            return flatChoices;
+        }
+        return Arrays.copyOfRange(flatChoices, offset, offset + num);
     }
 
     @Override
     public byte[] getRb(int index) {
-        return rbArray[index];
+        Objects.checkIndex(index, num);
+        int from = (offset + index) * CommonConstants.BLOCK_BYTE_LENGTH;
+        return Arrays.copyOfRange(rbBytes, from, from + CommonConstants.BLOCK_BYTE_LENGTH);
+    }
+
+    /**
+     * Gets flat Rb bytes, where Rb with index i is at <code>[i * λ(B), (i + 1) * λ(B))</code>. The result must not be
+     * modified.
+     *
+     * @return flat Rb bytes.
+     */
+    public byte[] getRbBytes() {
+        int length = num * CommonConstants.BLOCK_BYTE_LENGTH;
+        if (offset == 0 && rbBytes.length == length) {
+            return rbBytes;
+        }
+        int from = offset * CommonConstants.BLOCK_BYTE_LENGTH;
+        return Arrays.copyOfRange(rbBytes, from, from + length);
+    }
+
+    /**
+     * Copies Rb with the given index into dest, starting from destOffset.
+     *
+     * @param index      index.
+     * @param dest       the destination.
+     * @param destOffset starting position in the destination.
+     */
+    public void copyRb(int index, byte[] dest, int destOffset) {
+        Objects.checkIndex(index, num);
+        System.arraycopy(
+            rbBytes, (offset + index) * CommonConstants.BLOCK_BYTE_LENGTH,
+            dest, destOffset, CommonConstants.BLOCK_BYTE_LENGTH
+        );
+    }
+
+    /**
+     * XORs Rb with the given index into dest, starting from destOffset.
+     *
+     * @param index      index.
+     * @param dest       the destination.
+     * @param destOffset starting position in the destination.
+     */
+    public void xoriRb(int index, byte[] dest, int destOffset) {
+        Objects.checkIndex(index, num);
+        int from = (offset + index) * CommonConstants.BLOCK_BYTE_LENGTH;
+        for (int j = 0; j < CommonConstants.BLOCK_BYTE_LENGTH; j++) {
+            dest[destOffset + j] ^= rbBytes[from + j];
+        }
     }
 
+    /**
+     * Gets Rb array. Each call creates a new Rb array, callers should prefer {@link #getRbBytes()}.
+     *
+     * @return Rb array.
+     */
     @Override
     public byte[][] getRbArray() {
-        return rbArray;
+        return IntStream.range(0, num)
+            .mapToObj(this::getRb)
+            .toArray(byte[][]::new);
     }
 
     @Override
     public int getNum() {
-        return rbArray.length;
+        return num;
     }
 
     @Override
     public int hashCode() {
         return new HashCodeBuilder()
-            .append(choices)
-            .append(rbArray)
+            .append(getChoices())
+            .append(getRbBytes())
             .hashCode();
     }
 
@@ -189,8 +293,8 @@ public class CotReceiverOutput implements OtReceiverOutput, MergedPcgPartyOutput
         }
         if (obj instanceof CotReceiverOutput that) {
             return new EqualsBuilder()
-                .append(this.choices, that.choices)
-                .append(this.rbArray, that.rbArray)
+                .append(this.getChoices(), that.getChoices())
+                .append(this.getRbBytes(), that.getRbBytes())
                 .isEquals();
         }
         return false;
@@ -2,8 +2,11 @@ package edu.alibaba.mpc4j.s2pc.pcg.ot.cot;
 
 import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
 
 import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.s2pc.pcg.MergedPcgPartyOutput;
@@ -12,7 +15,12 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 /**
- * COT sender output.
+ * COT sender output. All R0s are stored in a flat byte array, where R0 with index i is at
+ * <code>[(offset + i) * λ(B), (offset + i + 1) * λ(B))</code>. Splitting and reducing only create views on the same
+ * flat byte array without copying. Different views never write into the flat byte array, so they can safely share it.
+ * <p></p>
+ * {@link #getR0(int)} and {@link #getR1(int)} return a copy for each call. Callers in hot loops should use
+ * {@link #copyR0(int, byte[], int)} or {@link #xoriR0(int, byte[], int)} (and the R1 ones) to avoid the copy.
  *
  * @author Weiran Liu
  * @date 2021/12/26
@@ -23,9 +31,17 @@ public class CotSenderOutput implements OtSenderOutput, MergedPcgPartyOutput {
      */
     private final byte[] delta;
     /**
-     * R0 array
+     * flat R0 bytes, may be shared with other outputs
      */
-    private byte[][] r0Array;
+    private byte[] r0Bytes;
+    /**
+     * offset (in blocks) of the first R0 in the flat R0 bytes
+     */
+    private int offset;
+    /**
+     * num
+     */
+    private int num;
 
     /**
      * Creates a sender output.
@@ -36,9 +52,30 @@ public class CotSenderOutput implements OtSenderOutput, MergedPcgPartyOutput {
      */
     public static CotSenderOutput create(byte[] delta, byte[][] r0Array) {
         CotSenderOutput senderOutput = new CotSenderOutput(delta);
-        senderOutput.r0Array = Arrays.stream(r0Array)
-            .peek(r0 -> Preconditions.checkArgument(BlockUtils.valid(r0)))
-            .toArray(byte[][]::new);
+        int num = r0Array.length;
+        byte[] r0Bytes = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+        for (int index = 0; index < num; index++) {
+            Preconditions.checkArgument(BlockUtils.valid(r0Array[index]));
+            System.arraycopy(
+                r0Array[index], 0, r0Bytes, index * CommonConstants.BLOCK_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH
+            );
+        }
+        senderOutput.setR0Bytes(r0Bytes, 0, num);
+
+        return senderOutput;
+    }
+
+    /**
+     * Creates a sender output from flat R0 bytes. The flat R0 bytes are not copied and must not be modified later.
+     *
+     * @param delta   Δ.
+     * @param r0Bytes flat R0 bytes.
+     * @return a sender output.
+     */
+    public static CotSenderOutput create(byte[] delta, byte[] r0Bytes) {
+        Preconditions.checkArgument(r0Bytes.length % CommonConstants.BLOCK_BYTE_LENGTH == 0);
+        CotSenderOutput senderOutput = new CotSenderOutput(delta);
+        senderOutput.setR0Bytes(r0Bytes, 0, r0Bytes.length / CommonConstants.BLOCK_BYTE_LENGTH);
 
         return senderOutput;
     }
@@ -51,7 +88,7 @@ public class CotSenderOutput implements OtSenderOutput, MergedPcgPartyOutput {
      */
     public static CotSenderOutput createEmpty(byte[] delta) {
         CotSenderOutput senderOutput = new CotSenderOutput(delta);
-        senderOutput.r0Array = BlockUtils.zeroBlocks(0);
+        senderOutput.setR0Bytes(new byte[0], 0, 0);
 
         return senderOutput;
     }
@@ -66,7 +103,9 @@ public class CotSenderOutput implements OtSenderOutput, MergedPcgPartyOutput {
      */
     public static CotSenderOutput createRandom(int num, byte[] delta, SecureRandom secureRandom) {
         CotSenderOutput senderOutput = new CotSenderOutput(delta);
-        senderOutput.r0Array = BlockUtils.randomBlocks(num, secureRandom);
+        byte[] r0Bytes = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+        secureRandom.nextBytes(r0Bytes);
+        senderOutput.setR0Bytes(r0Bytes, 0, num);
         return senderOutput;
     }
 
@@ -80,36 +119,36 @@ public class CotSenderOutput implements OtSenderOutput, MergedPcgPartyOutput {
         this.delta = BlockUtils.clone(delta);
     }
 
+    private void setR0Bytes(byte[] r0Bytes, int offset, int num) {
+        this.r0Bytes = r0Bytes;
+        this.offset = offset;
+        this.num = num;
+    }
+
     @Override
     public CotSenderOutput copy() {
         CotSenderOutput copy = new CotSenderOutput(delta);
-        copy.r0Array = BlockUtils.clone(r0Array);
+        copy.setR0Bytes(getR0Bytes(), 0, num);
         return copy;
     }
 
     @Override
     public CotSenderOutput split(int splitNum) {
-        int num = getNum();
         MathPreconditions.checkPositiveInRangeClosed("splitNum", splitNum, num);
-        // split R0 array
-        byte[][] r0SubArray = new byte[splitNum][];
-        byte[][] r0RemainArray = new byte[num - splitNum][];
-        System.arraycopy(r0Array, num - splitNum, r0SubArray, 0, splitNum);
-        System.arraycopy(r0Array, 0, r0RemainArray, 0, num - splitNum);
-        r0Array = r0RemainArray;
+        // the split output is a view of the last splitNum R0s, the remaining output is a view of the first ones
+        CotSenderOutput splitOutput = new CotSenderOutput(delta);
+        splitOutput.setR0Bytes(r0Bytes, offset + num - splitNum, splitNum);
+        setR0Bytes(r0Bytes, offset, num - splitNum);
 
-        return CotSenderOutput.create(delta, r0SubArray);
+        return splitOutput;
     }
 
     @Override
     public void reduce(int reduceNum) {
-        int num = getNum();
         MathPreconditions.checkPositiveInRangeClosed("reduceNum", reduceNum, num);
         if (reduceNum < num) {
             // reduce only when reduceNum < num
-            byte[][] r0RemainArray = new byte[reduceNum][];
-            System.arraycopy(r0Array, 0, r0RemainArray, 0, reduceNum);
-            r0Array = r0RemainArray;
+            setR0Bytes(r0Bytes, offset, reduceNum);
         }
     }
 
@@ -117,11 +156,24 @@ public class CotSenderOutput implements OtSenderOutput, MergedPcgPartyOutput {
     public void merge(MergedPcgPartyOutput other) {
         CotSenderOutput that = (CotSenderOutput) other;
         Preconditions.checkArgument(BlockUtils.equals(this.delta, that.delta));
-        // merge R0 array
-        byte[][] mergeR0Array = new byte[this.r0Array.length + that.r0Array.length][];
-        System.arraycopy(this.r0Array, 0, mergeR0Array, 0, this.r0Array.length);
-        System.arraycopy(that.r0Array, 0, mergeR0Array, this.r0Array.length, that.r0Array.length);
-        r0Array = mergeR0Array;
+        if (that.num == 0) {
+            return;
+        }
+        if (this.num == 0) {
+            setR0Bytes(that.r0Bytes, that.offset, that.num);
+            return;
+        }
+        // merge R0 bytes. The flat R0 bytes may be shared, so we always copy into new flat R0 bytes
+        byte[] mergeR0Bytes = new byte[(this.num + that.num) * CommonConstants.BLOCK_BYTE_LENGTH];
+        System.arraycopy(
+            this.r0Bytes, this.offset * CommonConstants.BLOCK_BYTE_LENGTH,
+            mergeR0Bytes, 0, this.num * CommonConstants.BLOCK_BYTE_LENGTH
+        );
+        System.arraycopy(
+            that.r0Bytes, that.offset * CommonConstants.BLOCK_BYTE_LENGTH,
+            mergeR0Bytes, this.num * CommonConstants.BLOCK_BYTE_LENGTH, that.num * CommonConstants.BLOCK_BYTE_LENGTH
+        );
+        setR0Bytes(mergeR0Bytes, 0, this.num + that.num);
     }
 
     /**
@@ -135,36 +187,135 @@ public class CotSenderOutput implements OtSenderOutput, MergedPcgPartyOutput {
 
     @Override
     public byte[] getR0(int index) {
-        return r0Array[index];
+        Objects.checkIndex(index, num);
+        int from = (offset + index) * CommonConstants.BLOCK_BYTE_LENGTH;
+        return Arrays.copyOfRange(r0Bytes, from, from + CommonConstants.BLOCK_BYTE_LENGTH);
     }
 
+    /**
+     * Gets flat R0 bytes, where R0 with index i is at <code>[i * λ(B), (i + 1) * λ(B))</code>. The result must not be
+     * modified.
+     *
+     * @return flat R0 bytes.
+     */
+    public byte[] getR0Bytes() {
+        int length = num * CommonConstants.BLOCK_BYTE_LENGTH;
+        if (offset == 0 && r0Bytes.length == length) {
+            return r0Bytes;
+        }
+        int from = offset * CommonConstants.BLOCK_BYTE_LENGTH;
+        return Arrays.copyOfRange(r0Bytes, from, from + length);
+    }
+
+    /**
+     * Copies R0 with the given index into dest, starting from destOffset.
+     *
+     * @param index      index.
+     * @param dest       the destination.
+     * @param destOffset starting position in the destination.
+     */
+    public void copyR0(int index, byte[] dest, int destOffset) {
+        Objects.checkIndex(index, num);
+        System.arraycopy(
+            r0Bytes, (offset + index) * CommonConstants.BLOCK_BYTE_LENGTH,
+            dest, destOffset, CommonConstants.BLOCK_BYTE_LENGTH
+        );
+    }
+
+    /**
+     * XORs R0 with the given index into dest, starting from destOffset.
+     *
+     * @param index      index.
+     * @param dest       the destination.
+     * @param destOffset starting position in the destination.
+     */
+    public void xoriR0(int index, byte[] dest, int destOffset) {
+        Objects.checkIndex(index, num);
+        int from = (offset + index) * CommonConstants.BLOCK_BYTE_LENGTH;
+        for (int j = 0; j < CommonConstants.BLOCK_BYTE_LENGTH; j++) {
+            dest[destOffset + j] ^= r0Bytes[from + j];
+        }
+    }
+
+    /**
+     * Gets R0 array. Each call creates a new R0 array, callers should prefer {@link #getR0Bytes()}.
+     *
+     * @return R0 array.
+     */
     @Override
     public byte[][] getR0Array() {
-        return r0Array;
+        return IntStream.range(0, num)
+            .mapToObj(this::getR0)
+            .toArray(byte[][]::new);
     }
 
     @Override
     public byte[] getR1(int index) {
-        return BlockUtils.xor(delta, getR0(index));
+        byte[] r1 = getR0(index);
+        BlockUtils.xori(r1, delta);
+        return r1;
+    }
+
+    /**
+     * Copies R1 with the given index into dest, starting from destOffset.
+     *
+     * @param index      index.
+     * @param dest       the destination.
+     * @param destOffset starting position in the destination.
+     */
+    public void copyR1(int index, byte[] dest, int destOffset) {
+        copyR0(index, dest, destOffset);
+        for (int j = 0; j < CommonConstants.BLOCK_BYTE_LENGTH; j++) {
+            dest[destOffset + j] ^= delta[j];
+        }
+    }
+
+    /**
+     * XORs R1 with the given index into dest, starting from destOffset.
+     *
+     * @param index      index.
+     * @param dest       the destination.
+     * @param destOffset starting position in the destination.
+     */
+    public void xoriR1(int index, byte[] dest, int destOffset) {
+        xoriR0(index, dest, destOffset);
+        for (int j = 0; j < CommonConstants.BLOCK_BYTE_LENGTH; j++) {
+            dest[destOffset + j] ^= delta[j];
+        }
     }
 
     @Override
     public byte[][] getR1Array() {
-        return Arrays.stream(r0Array)
-            .map(r0 -> BlockUtils.xor(delta, r0))
+        return IntStream.range(0, num)
+            .mapToObj(this::getR1)
             .toArray(byte[][]::new);
     }
 
+    /**
+     * Gets flat R1 bytes, where R1 with index i is at <code>[i * λ(B), (i + 1) * λ(B))</code>.
+     *
+     * @return flat R1 bytes.
+     */
+    public byte[] getR1Bytes() {
+        int length = num * CommonConstants.BLOCK_BYTE_LENGTH;
+        int from = offset * CommonConstants.BLOCK_BYTE_LENGTH;
+        byte[] r1Bytes = Arrays.copyOfRange(r0Bytes, from, from + length);
+        for (int i = 0; i < length; i++) {
+            r1Bytes[i] ^= delta[i % CommonConstants.BLOCK_BYTE_LENGTH];
+        }
+        return r1Bytes;
+    }
+
     @Override
     public int getNum() {
-        return r0Array.length;
+        return num;
     }
 
     @Override
     public int hashCode() {
         return new HashCodeBuilder()
             .append(delta)
-            .append(r0Array)
+            .append(getR0Bytes())
             .hashCode();
     }
 
@@ -176,7 +327,7 @@ public class CotSenderOutput implements OtSenderOutput, MergedPcgPartyOutput {
         if (obj instanceof CotSenderOutput that) {
             return new EqualsBuilder()
                 .append(this.delta, that.delta)
-                .append(this.r0Array, that.r0Array)
+                .append(this.getR0Bytes(), that.getR0Bytes())
                 .isEquals();
         }
         return false;
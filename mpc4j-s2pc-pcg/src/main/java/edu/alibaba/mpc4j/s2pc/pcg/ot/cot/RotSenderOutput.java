@@ -1,11 +1,13 @@
 package edu.alibaba.mpc4j.s2pc.pcg.ot.cot;
 
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.EnvType;
 import edu.alibaba.mpc4j.common.tool.crypto.crhf.Crhf;
 import edu.alibaba.mpc4j.common.tool.crypto.crhf.CrhfFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.crhf.CrhfFactory.CrhfType;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.OtSenderOutput;
 
+import java.util.Arrays;
 import java.util.stream.IntStream;
 
 /**
@@ -47,8 +49,14 @@ public class RotSenderOutput implements OtSenderOutput {
 
     @Override
     public byte[][] getR1Array() {
+        // hash all R1 in one batch on the flat R1 bytes
+        byte[] r1Bytes = cotSenderOutput.getR1Bytes();
+        byte[] hashR1Bytes = new byte[r1Bytes.length];
+        crhf.hash(r1Bytes, hashR1Bytes);
         return IntStream.range(0, cotSenderOutput.getNum())
-            .mapToObj(this::getR1)
+            .mapToObj(index -> Arrays.copyOfRange(
+                hashR1Bytes, index * CommonConstants.BLOCK_BYTE_LENGTH, (index + 1) * CommonConstants.BLOCK_BYTE_LENGTH
+            ))
             .toArray(byte[][]::new);
     }
 
@@ -120,10 +120,14 @@ public class Alsz13CoreCotReceiver extends AbstractCoreCotReceiver {
         // 将矩阵T转置，按行获取
         TransBitMatrix tMatrixTranspose = tMatrix.transpose();
         tMatrix = null;
-        byte[][] rbArray = IntStream.range(0, num)
-            .mapToObj(tMatrixTranspose::getColumn)
-            .toArray(byte[][]::new);
+        byte[] rbBytes = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+        for (int index = 0; index < num; index++) {
+            System.arraycopy(
+                tMatrixTranspose.getColumn(index), 0,
+                rbBytes, index * CommonConstants.BLOCK_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH
+            );
+        }
         // 打包u^i
-        return CotReceiverOutput.create(choices, rbArray);
+        return CotReceiverOutput.create(choices, rbBytes);
     }
 }
@@ -99,10 +99,14 @@ public class Alsz13CoreCotSender extends AbstractCoreCotSender {
         // 矩阵转置，方便按行获取Q
         TransBitMatrix qMatrixTranspose = qMatrix.transpose();
         // 生成r0
-        byte[][] r0Array = IntStream.range(0, num)
-            .mapToObj(qMatrixTranspose::getColumn)
-            .toArray(byte[][]::new);
+        byte[] r0Bytes = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+        for (int index = 0; index < num; index++) {
+            System.arraycopy(
+                qMatrixTranspose.getColumn(index), 0,
+                r0Bytes, index * CommonConstants.BLOCK_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH
+            );
+        }
 
-        return CotSenderOutput.create(delta, r0Array);
+        return CotSenderOutput.create(delta, r0Bytes);
     }
 }
\ No newline at end of file
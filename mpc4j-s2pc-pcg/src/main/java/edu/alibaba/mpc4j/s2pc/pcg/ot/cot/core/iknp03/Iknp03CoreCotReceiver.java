@@ -127,10 +127,14 @@ public class Iknp03CoreCotReceiver extends AbstractCoreCotReceiver {
         // 生成密钥数组，将矩阵T转置，按行获取
         TransBitMatrix tMatrixTranspose = tMatrix.transpose();
         tMatrix = null;
-        byte[][] rbArray = IntStream.range(0, num)
-            .mapToObj(tMatrixTranspose::getColumn)
-            .toArray(byte[][]::new);
+        byte[] rbBytes = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+        for (int index = 0; index < num; index++) {
+            System.arraycopy(
+                tMatrixTranspose.getColumn(index), 0,
+                rbBytes, index * CommonConstants.BLOCK_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH
+            );
+        }
 
-        return CotReceiverOutput.create(choices, rbArray);
+        return CotReceiverOutput.create(choices, rbBytes);
     }
 }
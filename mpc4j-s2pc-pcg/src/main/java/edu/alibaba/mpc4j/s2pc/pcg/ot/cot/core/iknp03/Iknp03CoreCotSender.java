@@ -98,10 +98,14 @@ public class Iknp03CoreCotSender extends AbstractCoreCotSender {
         });
         // 矩阵转置，方便按行获取Q
         TransBitMatrix qMatrixTranspose = qMatrix.transpose();
-        byte[][] r0Array = IntStream.range(0, num)
-            .mapToObj(qMatrixTranspose::getColumn)
-            .toArray(byte[][]::new);
+        byte[] r0Bytes = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+        for (int index = 0; index < num; index++) {
+            System.arraycopy(
+                qMatrixTranspose.getColumn(index), 0,
+                r0Bytes, index * CommonConstants.BLOCK_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH
+            );
+        }
 
-        return CotSenderOutput.create(delta, r0Array);
+        return CotSenderOutput.create(delta, r0Bytes);
     }
 }
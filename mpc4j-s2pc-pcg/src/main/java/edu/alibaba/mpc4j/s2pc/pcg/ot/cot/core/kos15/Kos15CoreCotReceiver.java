@@ -214,9 +214,13 @@ public class Kos15CoreCotReceiver extends AbstractCoreCotReceiver {
     }
 
     private CotReceiverOutput generateReceiverOutput() {
-        byte[][] rbArray = IntStream.range(0, num)
-            .mapToObj(tTransposeMatrix::getColumn)
-            .toArray(byte[][]::new);
-        return CotReceiverOutput.create(choices, rbArray);
+        byte[] rbBytes = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+        for (int index = 0; index < num; index++) {
+            System.arraycopy(
+                tTransposeMatrix.getColumn(index), 0,
+                rbBytes, index * CommonConstants.BLOCK_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH
+            );
+        }
+        return CotReceiverOutput.create(choices, rbBytes);
     }
 }
@@ -206,9 +206,13 @@ public class Kos15CoreCotSender extends AbstractCoreCotSender {
             }
         });
         // 生成r0
-        byte[][] r0Array = IntStream.range(0, num)
-            .mapToObj(qTransposeMatrix::getColumn)
-            .toArray(byte[][]::new);
-        return CotSenderOutput.create(delta, r0Array);
+        byte[] r0Bytes = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+        for (int index = 0; index < num; index++) {
+            System.arraycopy(
+                qTransposeMatrix.getColumn(index), 0,
+                r0Bytes, index * CommonConstants.BLOCK_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH
+            );
+        }
+        return CotSenderOutput.create(delta, r0Bytes);
     }
 }
@@ -0,0 +1,255 @@
+package edu.alibaba.mpc4j.s2pc.pcg.ot.cot.impl.silent;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.s2pc.pcg.MergedPcgPartyOutput;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * silent COT buffer. In synchronous mode, the buffer generates COTs in the caller's thread when it runs dry. In
+ * asynchronous mode, the buffer refills itself to the high watermark on a background thread whenever the number of
+ * buffered COTs drops below the low watermark.
+ * <p>
+ * Generating COTs is an interactive protocol, so the sender and the receiver must refill at the same time. Both
+ * parties take the same number of COTs in the same order, so their buffered nums are always equal. Refilling is
+ * triggered only by the buffered num, which makes both parties schedule exactly the same refills. At most one refill
+ * is in flight and the caller waits for it before touching the buffer, so the underlying NC-COT party is never used
+ * by two threads at the same time.
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class SilentCotBuffer<T extends MergedPcgPartyOutput> {
+    /**
+     * round generator.
+     */
+    @FunctionalInterface
+    interface RoundGenerator<T> {
+        /**
+         * Generates one round of COTs.
+         *
+         * @return one round of COTs.
+         * @throws MpcAbortException the protocol failure aborts.
+         */
+        T generate() throws MpcAbortException;
+    }
+
+    /**
+     * round generator
+     */
+    private final RoundGenerator<T> roundGenerator;
+    /**
+     * low watermark, 0 if the buffer works in synchronous mode
+     */
+    private final int lowWatermark;
+    /**
+     * high watermark, 0 if the buffer works in synchronous mode
+     */
+    private final int highWatermark;
+    /**
+     * the background executor, null if the buffer works in synchronous mode
+     */
+    private final ExecutorService executorService;
+    /**
+     * buffer
+     */
+    private final T buffer;
+    /**
+     * the in-flight refill, null if there is no refill
+     */
+    private Future<?> refillFuture;
+    /**
+     * buffered num, can be read by other threads
+     */
+    private volatile int bufferNum;
+    /**
+     * number of generated rounds
+     */
+    private final AtomicLong roundNum;
+    /**
+     * total time (in nanoseconds) spent in background refills
+     */
+    private final AtomicLong refillNanoTime;
+    /**
+     * number of background refills
+     */
+    private final AtomicLong refillNum;
+    /**
+     * total time (in nanoseconds) the caller is blocked waiting for COTs
+     */
+    private final AtomicLong stallNanoTime;
+
+    /**
+     * Creates a silent COT buffer.
+     *
+     * @param buffer         empty buffer.
+     * @param roundGenerator round generator.
+     * @param lowWatermark   low watermark, 0 for synchronous mode.
+     * @param highWatermark  high watermark, 0 for synchronous mode.
+     * @param threadName     name of the background thread.
+     */
+    SilentCotBuffer(T buffer, RoundGenerator<T> roundGenerator, int lowWatermark, int highWatermark, String threadName) {
+        MathPreconditions.checkEqual("buffer.num", "0", buffer.getNum(), 0);
+        this.buffer = buffer;
+        this.roundGenerator = roundGenerator;
+        if (lowWatermark == 0 && highWatermark == 0) {
+            executorService = null;
+        } else {
+            MathPreconditions.checkPositive("low_watermark", lowWatermark);
+            MathPreconditions.checkGreaterOrEqual("high_watermark", highWatermark, lowWatermark);
+            executorService = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        roundNum = new AtomicLong();
+        refillNanoTime = new AtomicLong();
+        refillNum = new AtomicLong();
+        stallNanoTime = new AtomicLong();
+        // pre-generate COTs right after initialization
+        scheduleRefill();
+    }
+
+    /**
+     * Takes COTs from the buffer.
+     *
+     * @param num num.
+     * @return COTs.
+     * @throws MpcAbortException the protocol failure aborts.
+     */
+    @SuppressWarnings("unchecked")
+    T take(int num) throws MpcAbortException {
+        long startNanoTime = System.nanoTime();
+        awaitRefill();
+        while (num > buffer.getNum()) {
+            // generate COT when we do not have enough ones
+            generateRound();
+        }
+        stallNanoTime.addAndGet(System.nanoTime() - startNanoTime);
+        T output = (T) buffer.split(num);
+        bufferNum = buffer.getNum();
+        scheduleRefill();
+        return output;
+    }
+
+    private void generateRound() throws MpcAbortException {
+        T round = roundGenerator.generate();
+        buffer.merge(round);
+        bufferNum = buffer.getNum();
+        roundNum.incrementAndGet();
+    }
+
+    private void scheduleRefill() {
+        if (executorService == null || buffer.getNum() >= lowWatermark) {
+            return;
+        }
+        refillFuture = executorService.submit(() -> {
+            long startNanoTime = System.nanoTime();
+            while (buffer.getNum() < highWatermark) {
+                generateRound();
+            }
+            refillNanoTime.addAndGet(System.nanoTime() - startNanoTime);
+            refillNum.incrementAndGet();
+            return null;
+        });
+    }
+
+    private void awaitRefill() throws MpcAbortException {
+        if (refillFuture == null) {
+            return;
+        }
+        try {
+            refillFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MpcAbortException("Interrupted while waiting for background COT generation", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MpcAbortException) {
+                throw (MpcAbortException) e.getCause();
+            }
+            throw new IllegalStateException("Background COT generation failed", e.getCause());
+        } finally {
+            refillFuture = null;
+        }
+    }
+
+    /**
+     * Gets the number of buffered COTs. This can be invoked by any thread.
+     *
+     * @return the number of buffered COTs.
+     */
+    int getBufferNum() {
+        return bufferNum;
+    }
+
+    /**
+     * Gets the number of generated rounds, including synchronous and background ones.
+     *
+     * @return the number of generated rounds.
+     */
+    long getRoundNum() {
+        return roundNum.get();
+    }
+
+    /**
+     * Gets the number of background refills.
+     *
+     * @return the number of background refills.
+     */
+    long getRefillNum() {
+        return refillNum.get();
+    }
+
+    /**
+     * Gets the total time spent in background refills.
+     *
+     * @param timeUnit time unit.
+     * @return the total time spent in background refills.
+     */
+    long getRefillTime(TimeUnit timeUnit) {
+        return timeUnit.convert(refillNanoTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the total time the caller is blocked waiting for COTs, including waiting for background refills and
+     * generating COTs synchronously.
+     *
+     * @param timeUnit time unit.
+     * @return the total stall time.
+     */
+    long getStallTime(TimeUnit timeUnit) {
+        return timeUnit.convert(stallNanoTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Destroys the buffer. The in-flight refill, if any, is an interactive protocol that the other party also runs, so
+     * we wait for it to finish instead of interrupting it. When this returns, the background thread has terminated and
+     * the underlying NC-COT party is no longer used, so that it can be safely re-initialized or destroyed.
+     */
+    void destroy() {
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        try {
+            if (refillFuture != null) {
+                refillFuture.get();
+            }
+            while (!executorService.awaitTermination(1, TimeUnit.SECONDS)) {
+                // wait until the background thread terminates
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // the buffer is destroyed anyway, the failure of the in-flight refill is ignored
+        } finally {
+            refillFuture = null;
+        }
+    }
+}
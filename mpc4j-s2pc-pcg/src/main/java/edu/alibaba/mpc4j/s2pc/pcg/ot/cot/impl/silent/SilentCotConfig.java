@@ -2,6 +2,7 @@ package edu.alibaba.mpc4j.s2pc.pcg.ot.cot.impl.silent;
 
 import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractMultiPartyPtoConfig;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.CotConfig;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.CotFactory;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.nc.NcCotConfig;
@@ -24,11 +25,21 @@ public class SilentCotConfig extends AbstractMultiPartyPtoConfig implements CotC
      * pre-compute COT config
      */
     private final PreCotConfig preCotConfig;
+    /**
+     * low watermark of background pre-generation, 0 if COTs are generated synchronously
+     */
+    private final int lowWatermark;
+    /**
+     * high watermark of background pre-generation, 0 if COTs are generated synchronously
+     */
+    private final int highWatermark;
 
     private SilentCotConfig(Builder builder) {
         super(SecurityModel.MALICIOUS, builder.ncCotConfig, builder.preCotConfig);
         ncCotConfig = builder.ncCotConfig;
         preCotConfig = builder.preCotConfig;
+        lowWatermark = builder.lowWatermark;
+        highWatermark = builder.highWatermark;
     }
 
     public NcCotConfig getNcCotConfig() {
@@ -39,6 +50,23 @@ public class SilentCotConfig extends AbstractMultiPartyPtoConfig implements CotC
         return preCotConfig;
     }
 
+    /**
+     * Returns whether COTs are pre-generated on a background thread.
+     *
+     * @return true if COTs are pre-generated on a background thread.
+     */
+    public boolean isAsyncRefill() {
+        return lowWatermark > 0;
+    }
+
+    public int getLowWatermark() {
+        return lowWatermark;
+    }
+
+    public int getHighWatermark() {
+        return highWatermark;
+    }
+
     @Override
     public CotFactory.CotType getPtoType() {
         return CotFactory.CotType.SILENT;
@@ -58,10 +86,20 @@ public class SilentCotConfig extends AbstractMultiPartyPtoConfig implements CotC
          * precompute COT config
          */
         private final PreCotConfig preCotConfig;
+        /**
+         * low watermark of background pre-generation
+         */
+        private int lowWatermark;
+        /**
+         * high watermark of background pre-generation
+         */
+        private int highWatermark;
 
         public Builder(SecurityModel securityModel) {
             ncCotConfig = NcCotFactory.createDefaultConfig(securityModel);
             preCotConfig = PreCotFactory.createDefaultConfig(securityModel);
+            lowWatermark = 0;
+            highWatermark = 0;
         }
 
         public Builder setNcCotConfig(NcCotConfig ncCotConfig) {
@@ -69,6 +107,23 @@ public class SilentCotConfig extends AbstractMultiPartyPtoConfig implements CotC
             return this;
         }
 
+        /**
+         * Enables background pre-generation. Once the number of buffered COTs drops below the low watermark, both
+         * parties refill the buffer on a background thread until it reaches the high watermark. Both parties must use
+         * the same watermarks.
+         *
+         * @param lowWatermark  low watermark.
+         * @param highWatermark high watermark.
+         * @return the builder.
+         */
+        public Builder setAsyncRefill(int lowWatermark, int highWatermark) {
+            MathPreconditions.checkPositive("low_watermark", lowWatermark);
+            MathPreconditions.checkGreaterOrEqual("high_watermark", highWatermark, lowWatermark);
+            this.lowWatermark = lowWatermark;
+            this.highWatermark = highWatermark;
+            return this;
+        }
+
         @Override
         public SilentCotConfig build() {
             return new SilentCotConfig(this);
@@ -33,10 +33,18 @@ public class SilentCotReceiver extends AbstractCotReceiver {
      * max round num
      */
     private final int maxRoundNum;
+    /**
+     * low watermark of background pre-generation
+     */
+    private final int lowWatermark;
+    /**
+     * high watermark of background pre-generation
+     */
+    private final int highWatermark;
     /**
      * buffer
      */
-    private CotReceiverOutput buffer;
+    private SilentCotBuffer<CotReceiverOutput> buffer;
 
     public SilentCotReceiver(Rpc receiverRpc, Party senderParty, SilentCotConfig config) {
         super(SilentCotPtoDesc.getInstance(), receiverRpc, senderParty, config);
@@ -44,6 +52,8 @@ public class SilentCotReceiver extends AbstractCotReceiver {
         ncCotReceiver = NcCotFactory.createReceiver(receiverRpc, senderParty, ncCotConfig);
         addSubPto(ncCotReceiver);
         maxRoundNum = ncCotConfig.maxNum();
+        lowWatermark = config.getLowWatermark();
+        highWatermark = config.getHighWatermark();
         preCotReceiver = PreCotFactory.createReceiver(receiverRpc, senderParty, config.getPreCotConfig());
         addSubPto(preCotReceiver);
     }
@@ -55,9 +65,16 @@ public class SilentCotReceiver extends AbstractCotReceiver {
 
         stopWatch.start();
         int roundNum = Math.min(maxRoundNum, expectNum);
+        // wait for the in-flight background refill before re-initializing the NC-COT party
+        if (buffer != null) {
+            buffer.destroy();
+        }
         ncCotReceiver.init(roundNum);
-        buffer = CotReceiverOutput.createEmpty();
         preCotReceiver.init();
+        buffer = new SilentCotBuffer<>(
+            CotReceiverOutput.createEmpty(), ncCotReceiver::receive, lowWatermark, highWatermark,
+            getPtoDesc().getPtoName() + "_" + ownParty().getPartyName() + "_REFILL"
+        );
         stopWatch.stop();
         long initTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
@@ -77,13 +94,8 @@ public class SilentCotReceiver extends AbstractCotReceiver {
         logPhaseInfo(PtoState.PTO_BEGIN);
 
         stopWatch.start();
-        while (num > buffer.getNum()) {
-            // generate COT when we do not have enough ones
-            CotReceiverOutput cotReceiverOutput = ncCotReceiver.receive();
-            buffer.merge(cotReceiverOutput);
-        }
+        CotReceiverOutput receiverOutput = buffer.take(num);
         stopWatch.stop();
-        CotReceiverOutput receiverOutput = buffer.split(num);
         long roundTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
         logStepInfo(PtoState.PTO_STEP, 1, 2, roundTime);
@@ -106,12 +118,7 @@ public class SilentCotReceiver extends AbstractCotReceiver {
         logPhaseInfo(PtoState.PTO_BEGIN);
 
         stopWatch.start();
-        while (num > buffer.getNum()) {
-            // generate COT when we do not have enough ones
-            CotReceiverOutput cotReceiverOutput = ncCotReceiver.receive();
-            buffer.merge(cotReceiverOutput);
-        }
-        CotReceiverOutput receiverOutput = buffer.split(num);
+        CotReceiverOutput receiverOutput = buffer.take(num);
         stopWatch.stop();
         long splitTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
@@ -120,4 +127,54 @@ public class SilentCotReceiver extends AbstractCotReceiver {
         logPhaseInfo(PtoState.PTO_END);
         return receiverOutput;
     }
+
+    /**
+     * Gets the number of buffered COTs.
+     *
+     * @return the number of buffered COTs.
+     */
+    public int getBufferNum() {
+        checkInitialized();
+        return buffer.getBufferNum();
+    }
+
+    /**
+     * Gets the number of background refills.
+     *
+     * @return the number of background refills.
+     */
+    public long getRefillNum() {
+        checkInitialized();
+        return buffer.getRefillNum();
+    }
+
+    /**
+     * Gets the total time spent in background refills.
+     *
+     * @param timeUnit time unit.
+     * @return the total time spent in background refills.
+     */
+    public long getRefillTime(TimeUnit timeUnit) {
+        checkInitialized();
+        return buffer.getRefillTime(timeUnit);
+    }
+
+    /**
+     * Gets the total time that invocations are blocked waiting for COTs.
+     *
+     * @param timeUnit time unit.
+     * @return the total stall time.
+     */
+    public long getStallTime(TimeUnit timeUnit) {
+        checkInitialized();
+        return buffer.getStallTime(timeUnit);
+    }
+
+    @Override
+    public void destroy() {
+        if (buffer != null) {
+            buffer.destroy();
+        }
+        super.destroy();
+    }
 }
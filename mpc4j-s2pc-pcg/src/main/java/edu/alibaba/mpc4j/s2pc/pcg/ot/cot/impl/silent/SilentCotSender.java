@@ -33,10 +33,18 @@ public class SilentCotSender extends AbstractCotSender {
      * max round num
      */
     private final int maxRoundNum;
+    /**
+     * low watermark of background pre-generation
+     */
+    private final int lowWatermark;
+    /**
+     * high watermark of background pre-generation
+     */
+    private final int highWatermark;
     /**
      * buffer
      */
-    private CotSenderOutput buffer;
+    private SilentCotBuffer<CotSenderOutput> buffer;
 
     public SilentCotSender(Rpc senderRpc, Party receiverParty, SilentCotConfig config) {
         super(SilentCotPtoDesc.getInstance(), senderRpc, receiverParty, config);
@@ -46,6 +54,8 @@ public class SilentCotSender extends AbstractCotSender {
         preCotSender = PreCotFactory.createSender(senderRpc, receiverParty, config.getPreCotConfig());
         addSubPto(preCotSender);
         maxRoundNum = ncCotConfig.maxNum();
+        lowWatermark = config.getLowWatermark();
+        highWatermark = config.getHighWatermark();
     }
 
     @Override
@@ -55,9 +65,16 @@ public class SilentCotSender extends AbstractCotSender {
 
         stopWatch.start();
         int roundNum = Math.min(maxRoundNum, expectNum);
+        // wait for the in-flight background refill before re-initializing the NC-COT party
+        if (buffer != null) {
+            buffer.destroy();
+        }
         ncCotSender.init(delta, roundNum);
         preCotSender.init();
-        buffer = CotSenderOutput.createEmpty(delta);
+        buffer = new SilentCotBuffer<>(
+            CotSenderOutput.createEmpty(delta), ncCotSender::send, lowWatermark, highWatermark,
+            getPtoDesc().getPtoName() + "_" + ownParty().getPartyName() + "_REFILL"
+        );
         stopWatch.stop();
         long initTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
@@ -77,12 +94,7 @@ public class SilentCotSender extends AbstractCotSender {
         logPhaseInfo(PtoState.PTO_BEGIN);
 
         stopWatch.start();
-        while (num > buffer.getNum()) {
-            // generate COT when we do not have enough ones
-            CotSenderOutput cotSenderOutput = ncCotSender.send();
-            buffer.merge(cotSenderOutput);
-        }
-        CotSenderOutput senderOutput = buffer.split(num);
+        CotSenderOutput senderOutput = buffer.take(num);
         stopWatch.stop();
         long roundTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
@@ -106,12 +118,7 @@ public class SilentCotSender extends AbstractCotSender {
         logPhaseInfo(PtoState.PTO_BEGIN);
 
         stopWatch.start();
-        while (num > buffer.getNum()) {
-            // generate COT when we do not have enough ones
-            CotSenderOutput cotSenderOutput = ncCotSender.send();
-            buffer.merge(cotSenderOutput);
-        }
-        CotSenderOutput senderOutput = buffer.split(num);
+        CotSenderOutput senderOutput = buffer.take(num);
         stopWatch.stop();
         long roundTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
@@ -120,4 +127,54 @@ public class SilentCotSender extends AbstractCotSender {
         logPhaseInfo(PtoState.PTO_END);
         return senderOutput;
     }
+
+    /**
+     * Gets the number of buffered COTs.
+     *
+     * @return the number of buffered COTs.
+     */
+    public int getBufferNum() {
+        checkInitialized();
+        return buffer.getBufferNum();
+    }
+
+    /**
+     * Gets the number of background refills.
+     *
+     * @return the number of background refills.
+     */
+    public long getRefillNum() {
+        checkInitialized();
+        return buffer.getRefillNum();
+    }
+
+    /**
+     * Gets the total time spent in background refills.
+     *
+     * @param timeUnit time unit.
+     * @return the total time spent in background refills.
+     */
+    public long getRefillTime(TimeUnit timeUnit) {
+        checkInitialized();
+        return buffer.getRefillTime(timeUnit);
+    }
+
+    /**
+     * Gets the total time that invocations are blocked waiting for COTs.
+     *
+     * @param timeUnit time unit.
+     * @return the total stall time.
+     */
+    public long getStallTime(TimeUnit timeUnit) {
+        checkInitialized();
+        return buffer.getStallTime(timeUnit);
+    }
+
+    @Override
+    public void destroy() {
+        if (buffer != null) {
+            buffer.destroy();
+        }
+        super.destroy();
+    }
 }
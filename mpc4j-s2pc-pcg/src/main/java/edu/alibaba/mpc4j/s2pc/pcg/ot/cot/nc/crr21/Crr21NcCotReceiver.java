@@ -105,7 +105,7 @@ public class Crr21NcCotReceiver extends AbstractNcCotReceiver {
         boolean[] extendB = silverCoder.dualEncode(initB);
         // z = z * G^T。
         byte[][] initZ = rMspCotReceiverOutput.getRbArray();
-        byte[][] extendZ = silverCoder.dualEncode(initZ);
+        byte[] extendZ = silverCoder.dualEncodeFlat(initZ);
         // 更新输出。
         CotReceiverOutput receiverOutput = CotReceiverOutput.create(extendB, extendZ);
         receiverOutput.reduce(num);
@@ -99,7 +99,7 @@ public class Crr21NcCotSender extends AbstractNcCotSender {
 
         stopWatch.start();
         // y = v * G^T。
-        byte[][] y = silverCoder.dualEncode(sMspCotSenderOutput.getR0Array());
+        byte[] y = silverCoder.dualEncodeFlat(sMspCotSenderOutput.getR0Array());
         // 更新输出。
         CotSenderOutput senderOutput = CotSenderOutput.create(delta, y);
         senderOutput.reduce(num);
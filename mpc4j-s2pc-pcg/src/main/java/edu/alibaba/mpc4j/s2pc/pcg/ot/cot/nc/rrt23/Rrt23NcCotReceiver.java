@@ -96,7 +96,7 @@ public class Rrt23NcCotReceiver extends AbstractNcCotReceiver {
         }
         boolean[] extendB = exCoder.dualEncode(initB);
         byte[][] initZ = rMspCotReceiverOutput.getRbArray();
-        byte[][] extendZ = exCoder.dualEncode(initZ);
+        byte[] extendZ = exCoder.dualEncodeFlat(initZ);
         CotReceiverOutput receiverOutput = CotReceiverOutput.create(extendB, extendZ);
         receiverOutput.reduce(num);
         stopWatch.stop();
@@ -89,7 +89,7 @@ public class Rrt23NcCotSender extends AbstractNcCotSender {
         logStepInfo(PtoState.PTO_STEP, 1, 2, sTime);
 
         stopWatch.start();
-        byte[][] y = exCoder.dualEncode(sMspCotSenderOutput.getR0Array());
+        byte[] y = exCoder.dualEncodeFlat(sMspCotSenderOutput.getR0Array());
         CotSenderOutput senderOutput = CotSenderOutput.create(delta, y);
         senderOutput.reduce(num);
         stopWatch.stop();
@@ -2,10 +2,10 @@ package edu.alibaba.mpc4j.s2pc.pcg.ot.cot.pre.bea95;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
 
 import edu.alibaba.mpc4j.common.rpc.*;
 import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.utils.BinaryUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
@@ -47,12 +47,18 @@ public class Bea95PreCotSender extends AbstractPreCotSender {
         MpcAbortPreconditions.checkArgument(xorPayload.size() == 1);
         byte[] xors = xorPayload.remove(0);
         int offset = CommonUtils.getByteLength(num) * Byte.SIZE - num;
-        byte[][] r0Array = IntStream.range(0, num)
+        byte[] delta = preSenderOutput.getDelta();
+        byte[] r0Bytes = BytesUtils.clone(preSenderOutput.getR0Bytes());
+        for (int index = 0; index < num; index++) {
             // switch the position if xor = 1
-            .mapToObj(index -> BinaryUtils.getBoolean(xors, index + offset) ?
-                preSenderOutput.getR1(index) : BytesUtils.clone(preSenderOutput.getR0(index)))
-            .toArray(byte[][]::new);
-        CotSenderOutput senderOutput = CotSenderOutput.create(preSenderOutput.getDelta(), r0Array);
+            if (BinaryUtils.getBoolean(xors, index + offset)) {
+                int from = index * CommonConstants.BLOCK_BYTE_LENGTH;
+                for (int j = 0; j < CommonConstants.BLOCK_BYTE_LENGTH; j++) {
+                    r0Bytes[from + j] ^= delta[j];
+                }
+            }
+        }
+        CotSenderOutput senderOutput = CotSenderOutput.create(delta, r0Bytes);
         stopWatch.stop();
         long time = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
@@ -0,0 +1,107 @@
+package edu.alibaba.mpc4j.s2pc.pcg.store;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.CotReceiverOutput;
+import edu.alibaba.mpc4j.s2pc.pcg.store.PcgStore.PcgStoreType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * COT receiver store. The meta is empty, each record is Rb followed by one byte for the choice bit.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class CotReceiverStore implements Closeable {
+    /**
+     * record byte length
+     */
+    private static final int RECORD_BYTE_LENGTH = CommonConstants.BLOCK_BYTE_LENGTH + 1;
+    /**
+     * PCG store
+     */
+    private final PcgStore pcgStore;
+
+    /**
+     * Saves the receiver output.
+     *
+     * @param path           file path.
+     * @param session        session.
+     * @param receiverOutput receiver output.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void save(Path path, byte[] session, CotReceiverOutput receiverOutput) throws IOException {
+        int num = receiverOutput.getNum();
+        byte[] rbBytes = receiverOutput.getRbBytes();
+        byte[] records = new byte[num * RECORD_BYTE_LENGTH];
+        for (int index = 0; index < num; index++) {
+            System.arraycopy(
+                rbBytes, index * CommonConstants.BLOCK_BYTE_LENGTH,
+                records, index * RECORD_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH
+            );
+            records[index * RECORD_BYTE_LENGTH + CommonConstants.BLOCK_BYTE_LENGTH]
+                = receiverOutput.getChoice(index) ? (byte) 1 : (byte) 0;
+        }
+        PcgStore.save(path, PcgStoreType.COT_RECEIVER, session, new byte[0], RECORD_BYTE_LENGTH, records);
+    }
+
+    /**
+     * Opens a receiver store.
+     *
+     * @param path    file path.
+     * @param session session.
+     * @return receiver store.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static CotReceiverStore open(Path path, byte[] session) throws IOException {
+        PcgStore pcgStore = PcgStore.open(path, PcgStoreType.COT_RECEIVER, session);
+        try {
+            return new CotReceiverStore(pcgStore);
+        } catch (RuntimeException e) {
+            pcgStore.close();
+            throw e;
+        }
+    }
+
+    private CotReceiverStore(PcgStore pcgStore) {
+        Preconditions.checkState(pcgStore.getRecordByteLength() == RECORD_BYTE_LENGTH);
+        this.pcgStore = pcgStore;
+    }
+
+    /**
+     * Takes receiver outputs. Taken outputs are removed from the store.
+     *
+     * @param num num.
+     * @return receiver output.
+     */
+    public CotReceiverOutput take(int num) {
+        byte[] records = pcgStore.take(num);
+        boolean[] choices = new boolean[num];
+        byte[] rbBytes = new byte[num * CommonConstants.BLOCK_BYTE_LENGTH];
+        for (int index = 0; index < num; index++) {
+            System.arraycopy(
+                records, index * RECORD_BYTE_LENGTH,
+                rbBytes, index * CommonConstants.BLOCK_BYTE_LENGTH, CommonConstants.BLOCK_BYTE_LENGTH
+            );
+            choices[index] = records[index * RECORD_BYTE_LENGTH + CommonConstants.BLOCK_BYTE_LENGTH] != 0;
+        }
+        return CotReceiverOutput.create(choices, rbBytes);
+    }
+
+    /**
+     * Gets the num of remaining outputs.
+     *
+     * @return the num of remaining outputs.
+     */
+    public long getRemainNum() {
+        return pcgStore.getRemainNum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        pcgStore.close();
+    }
+}
@@ -0,0 +1,101 @@
+package edu.alibaba.mpc4j.s2pc.pcg.store;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.CotSenderOutput;
+import edu.alibaba.mpc4j.s2pc.pcg.store.PcgStore.PcgStoreType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * COT sender store. The meta is Δ, each record is R0.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class CotSenderStore implements Closeable {
+    /**
+     * PCG store
+     */
+    private final PcgStore pcgStore;
+    /**
+     * Δ
+     */
+    private final byte[] delta;
+
+    /**
+     * Saves the sender output.
+     *
+     * @param path         file path.
+     * @param session      session.
+     * @param senderOutput sender output.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void save(Path path, byte[] session, CotSenderOutput senderOutput) throws IOException {
+        PcgStore.save(
+            path, PcgStoreType.COT_SENDER, session, senderOutput.getDelta(),
+            CommonConstants.BLOCK_BYTE_LENGTH, senderOutput.getR0Bytes()
+        );
+    }
+
+    /**
+     * Opens a sender store.
+     *
+     * @param path    file path.
+     * @param session session.
+     * @return sender store.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static CotSenderStore open(Path path, byte[] session) throws IOException {
+        PcgStore pcgStore = PcgStore.open(path, PcgStoreType.COT_SENDER, session);
+        try {
+            return new CotSenderStore(pcgStore);
+        } catch (RuntimeException e) {
+            pcgStore.close();
+            throw e;
+        }
+    }
+
+    private CotSenderStore(PcgStore pcgStore) {
+        Preconditions.checkState(pcgStore.getRecordByteLength() == CommonConstants.BLOCK_BYTE_LENGTH);
+        Preconditions.checkState(BlockUtils.valid(pcgStore.getMeta()));
+        this.pcgStore = pcgStore;
+        delta = pcgStore.getMeta();
+    }
+
+    /**
+     * Takes sender outputs. Taken outputs are removed from the store.
+     *
+     * @param num num.
+     * @return sender output.
+     */
+    public CotSenderOutput take(int num) {
+        return CotSenderOutput.create(delta, pcgStore.take(num));
+    }
+
+    /**
+     * Gets Δ.
+     *
+     * @return Δ.
+     */
+    public byte[] getDelta() {
+        return delta;
+    }
+
+    /**
+     * Gets the num of remaining outputs.
+     *
+     * @return the num of remaining outputs.
+     */
+    public long getRemainNum() {
+        return pcgStore.getRemainNum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        pcgStore.close();
+    }
+}
@@ -0,0 +1,129 @@
+package edu.alibaba.mpc4j.s2pc.pcg.store;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.tool.galoisfield.sgf2k.Sgf2k;
+import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
+import edu.alibaba.mpc4j.s2pc.pcg.store.PcgStore.PcgStoreType;
+import edu.alibaba.mpc4j.s2pc.pcg.vole.gf2k.Gf2kVoleReceiverOutput;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * GF2K-VOLE receiver store. The meta is the subfield L followed by Δ, each record is q.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class Gf2kVoleReceiverStore implements Closeable {
+    /**
+     * PCG store
+     */
+    private final PcgStore pcgStore;
+    /**
+     * field
+     */
+    private final Sgf2k field;
+    /**
+     * Δ
+     */
+    private final byte[] delta;
+
+    /**
+     * Saves the receiver output.
+     *
+     * @param path           file path.
+     * @param session        session.
+     * @param receiverOutput receiver output.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void save(Path path, byte[] session, Gf2kVoleReceiverOutput receiverOutput) throws IOException {
+        Sgf2k field = receiverOutput.getField();
+        int fieldByteL = field.getByteL();
+        int num = receiverOutput.getNum();
+        byte[] records = new byte[num * fieldByteL];
+        for (int index = 0; index < num; index++) {
+            System.arraycopy(receiverOutput.getQ(index), 0, records, index * fieldByteL, fieldByteL);
+        }
+        byte[] delta = receiverOutput.getDelta();
+        byte[] meta = ByteBuffer.allocate(Integer.BYTES + delta.length)
+            .putInt(field.getSubfieldL())
+            .put(delta)
+            .array();
+        PcgStore.save(path, PcgStoreType.GF2K_VOLE_RECEIVER, session, meta, fieldByteL, records);
+    }
+
+    /**
+     * Opens a receiver store.
+     *
+     * @param path    file path.
+     * @param session session.
+     * @param field   field, must be the same as the one used when saving.
+     * @return receiver store.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static Gf2kVoleReceiverStore open(Path path, byte[] session, Sgf2k field) throws IOException {
+        PcgStore pcgStore = PcgStore.open(path, PcgStoreType.GF2K_VOLE_RECEIVER, session);
+        try {
+            return new Gf2kVoleReceiverStore(pcgStore, field);
+        } catch (RuntimeException e) {
+            pcgStore.close();
+            throw e;
+        }
+    }
+
+    private Gf2kVoleReceiverStore(PcgStore pcgStore, Sgf2k field) {
+        byte[] meta = pcgStore.getMeta();
+        Preconditions.checkState(meta.length == Integer.BYTES + field.getByteL());
+        int subfieldL = IntUtils.byteArrayToInt(Arrays.copyOf(meta, Integer.BYTES));
+        Preconditions.checkState(
+            subfieldL == field.getSubfieldL(), "stored subfield L = %s, expect %s", subfieldL, field.getSubfieldL()
+        );
+        Preconditions.checkState(pcgStore.getRecordByteLength() == field.getByteL());
+        this.pcgStore = pcgStore;
+        this.field = field;
+        delta = Arrays.copyOfRange(meta, Integer.BYTES, meta.length);
+    }
+
+    /**
+     * Takes receiver outputs. Taken outputs are removed from the store.
+     *
+     * @param num num.
+     * @return receiver output.
+     */
+    public Gf2kVoleReceiverOutput take(int num) {
+        byte[] records = pcgStore.take(num);
+        int fieldByteL = field.getByteL();
+        byte[][] qs = new byte[num][];
+        for (int index = 0; index < num; index++) {
+            qs[index] = Arrays.copyOfRange(records, index * fieldByteL, (index + 1) * fieldByteL);
+        }
+        return Gf2kVoleReceiverOutput.create(field, delta, qs);
+    }
+
+    /**
+     * Gets Δ.
+     *
+     * @return Δ.
+     */
+    public byte[] getDelta() {
+        return delta;
+    }
+
+    /**
+     * Gets the num of remaining outputs.
+     *
+     * @return the num of remaining outputs.
+     */
+    public long getRemainNum() {
+        return pcgStore.getRemainNum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        pcgStore.close();
+    }
+}
@@ -0,0 +1,126 @@
+package edu.alibaba.mpc4j.s2pc.pcg.store;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.tool.galoisfield.sgf2k.Sgf2k;
+import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
+import edu.alibaba.mpc4j.s2pc.pcg.store.PcgStore.PcgStoreType;
+import edu.alibaba.mpc4j.s2pc.pcg.vole.gf2k.Gf2kVoleSenderOutput;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * GF2K-VOLE sender store. The meta is the subfield L, each record is x followed by t.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class Gf2kVoleSenderStore implements Closeable {
+    /**
+     * PCG store
+     */
+    private final PcgStore pcgStore;
+    /**
+     * field
+     */
+    private final Sgf2k field;
+    /**
+     * subfield byte length
+     */
+    private final int subfieldByteL;
+    /**
+     * field byte length
+     */
+    private final int fieldByteL;
+
+    /**
+     * Saves the sender output.
+     *
+     * @param path         file path.
+     * @param session      session.
+     * @param senderOutput sender output.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void save(Path path, byte[] session, Gf2kVoleSenderOutput senderOutput) throws IOException {
+        Sgf2k field = senderOutput.getField();
+        int subfieldByteL = field.getSubfieldByteL();
+        int fieldByteL = field.getByteL();
+        int recordByteLength = subfieldByteL + fieldByteL;
+        int num = senderOutput.getNum();
+        byte[] records = new byte[num * recordByteLength];
+        for (int index = 0; index < num; index++) {
+            System.arraycopy(senderOutput.getX(index), 0, records, index * recordByteLength, subfieldByteL);
+            System.arraycopy(
+                senderOutput.getT(index), 0, records, index * recordByteLength + subfieldByteL, fieldByteL
+            );
+        }
+        byte[] meta = IntUtils.intToByteArray(field.getSubfieldL());
+        PcgStore.save(path, PcgStoreType.GF2K_VOLE_SENDER, session, meta, recordByteLength, records);
+    }
+
+    /**
+     * Opens a sender store.
+     *
+     * @param path    file path.
+     * @param session session.
+     * @param field   field, must be the same as the one used when saving.
+     * @return sender store.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static Gf2kVoleSenderStore open(Path path, byte[] session, Sgf2k field) throws IOException {
+        PcgStore pcgStore = PcgStore.open(path, PcgStoreType.GF2K_VOLE_SENDER, session);
+        try {
+            return new Gf2kVoleSenderStore(pcgStore, field);
+        } catch (RuntimeException e) {
+            pcgStore.close();
+            throw e;
+        }
+    }
+
+    private Gf2kVoleSenderStore(PcgStore pcgStore, Sgf2k field) {
+        int subfieldL = IntUtils.byteArrayToInt(pcgStore.getMeta());
+        Preconditions.checkState(
+            subfieldL == field.getSubfieldL(), "stored subfield L = %s, expect %s", subfieldL, field.getSubfieldL()
+        );
+        subfieldByteL = field.getSubfieldByteL();
+        fieldByteL = field.getByteL();
+        Preconditions.checkState(pcgStore.getRecordByteLength() == subfieldByteL + fieldByteL);
+        this.pcgStore = pcgStore;
+        this.field = field;
+    }
+
+    /**
+     * Takes sender outputs. Taken outputs are removed from the store.
+     *
+     * @param num num.
+     * @return sender output.
+     */
+    public Gf2kVoleSenderOutput take(int num) {
+        byte[] records = pcgStore.take(num);
+        int recordByteLength = subfieldByteL + fieldByteL;
+        byte[][] x = new byte[num][];
+        byte[][] t = new byte[num][];
+        for (int index = 0; index < num; index++) {
+            int from = index * recordByteLength;
+            x[index] = Arrays.copyOfRange(records, from, from + subfieldByteL);
+            t[index] = Arrays.copyOfRange(records, from + subfieldByteL, from + recordByteLength);
+        }
+        return Gf2kVoleSenderOutput.create(field, x, t);
+    }
+
+    /**
+     * Gets the num of remaining outputs.
+     *
+     * @return the num of remaining outputs.
+     */
+    public long getRemainNum() {
+        return pcgStore.getRemainNum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        pcgStore.close();
+    }
+}
@@ -0,0 +1,331 @@
+package edu.alibaba.mpc4j.s2pc.pcg.store;
+
+import com.google.common.base.Preconditions;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * PCG store. Correlations generated by PCG are input-independent, so we can generate them in one session, save them
+ * into a file, and memory-map them back in a later session. Each correlation is stored as a fixed-length record.
+ * <p>
+ * File layout:
+ * <pre>
+ * [magic(8B)][version(4B)][type(4B)][record byte length(4B)][session length(4B)][meta length(4B)][reserved(4B)]
+ * [num(8B)][consumed num(8B)][session][meta] ... [records]
+ * </pre>
+ * Records start at a 64-byte aligned offset. The session binds the file to a protocol session (e.g., party IDs and a
+ * random session ID agreed by all parties), the meta contains public parameters of the correlations (e.g., Δ).
+ * </p>
+ * <p>
+ * Correlations must never be reused. Before returning any records, the consumed num is updated and flushed to the
+ * file, and the returned records are overwritten with zeros in the file. Even if the process crashes right after
+ * taking records, the next session can only take the remaining ones. The file is exclusively locked while it is open,
+ * so two processes cannot take the same records.
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class PcgStore implements Closeable {
+    /**
+     * magic
+     */
+    private static final long MAGIC = 0x6D706334_6A504347L;
+    /**
+     * version
+     */
+    private static final int VERSION = 1;
+    /**
+     * offset of the consumed num
+     */
+    private static final int CONSUMED_NUM_OFFSET = 40;
+    /**
+     * fixed header byte length
+     */
+    private static final int FIXED_HEADER_BYTE_LENGTH = 48;
+    /**
+     * alignment of records
+     */
+    private static final int RECORD_ALIGNMENT = 64;
+    /**
+     * maximal length of the mapped region
+     */
+    private static final long MAX_MAPPED_BYTE_LENGTH = Integer.MAX_VALUE;
+
+    /**
+     * PCG store type.
+     */
+    public enum PcgStoreType {
+        /**
+         * COT sender
+         */
+        COT_SENDER,
+        /**
+         * COT receiver
+         */
+        COT_RECEIVER,
+        /**
+         * GF2K-VOLE sender
+         */
+        GF2K_VOLE_SENDER,
+        /**
+         * GF2K-VOLE receiver
+         */
+        GF2K_VOLE_RECEIVER,
+        /**
+         * Z2 triple
+         */
+        Z2_TRIPLE,
+    }
+
+    /**
+     * file channel
+     */
+    private final FileChannel fileChannel;
+    /**
+     * file lock
+     */
+    private final FileLock fileLock;
+    /**
+     * mapped file
+     */
+    private final MappedByteBuffer buffer;
+    /**
+     * record byte length
+     */
+    private final int recordByteLength;
+    /**
+     * meta
+     */
+    private final byte[] meta;
+    /**
+     * offset of records
+     */
+    private final int recordOffset;
+    /**
+     * num
+     */
+    private final long num;
+    /**
+     * consumed num
+     */
+    private long consumedNum;
+
+    /**
+     * Saves records into a new store. The file is first written to a temporary file and then atomically moved to the
+     * target path, so that a partially written store is never opened.
+     *
+     * @param path             file path.
+     * @param type             type.
+     * @param session          session.
+     * @param meta             meta.
+     * @param recordByteLength record byte length.
+     * @param records          records, the i-th record is at [i * recordByteLength, (i + 1) * recordByteLength).
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void save(Path path, PcgStoreType type, byte[] session, byte[] meta, int recordByteLength,
+                            byte[] records) throws IOException {
+        MathPreconditions.checkPositive("recordByteLength", recordByteLength);
+        Preconditions.checkArgument(
+            records.length % recordByteLength == 0,
+            "records.length (%s) must be divisible by recordByteLength (%s)", records.length, recordByteLength
+        );
+        int recordOffset = getRecordOffset(session.length, meta.length);
+        long fileByteLength = (long) recordOffset + records.length;
+        Preconditions.checkArgument(
+            fileByteLength <= MAX_MAPPED_BYTE_LENGTH, "store byte length (%s) is too large", fileByteLength
+        );
+        ByteBuffer header = ByteBuffer.allocate(recordOffset);
+        header.putLong(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(type.ordinal());
+        header.putInt(recordByteLength);
+        header.putInt(session.length);
+        header.putInt(meta.length);
+        header.putInt(0);
+        header.putLong(records.length / recordByteLength);
+        header.putLong(0L);
+        header.put(session);
+        header.put(meta);
+        header.rewind();
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer[] buffers = new ByteBuffer[] {header, ByteBuffer.wrap(records)};
+            long remain = fileByteLength;
+            while (remain > 0) {
+                remain -= channel.write(buffers);
+            }
+            channel.force(true);
+        }
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static int getRecordOffset(int sessionLength, int metaLength) {
+        int headerByteLength = FIXED_HEADER_BYTE_LENGTH + sessionLength + metaLength;
+        return (headerByteLength + RECORD_ALIGNMENT - 1) / RECORD_ALIGNMENT * RECORD_ALIGNMENT;
+    }
+
+    /**
+     * Opens a store. The store is exclusively locked until it is closed.
+     *
+     * @param path    file path.
+     * @param type    expected type.
+     * @param session expected session.
+     * @return the store.
+     * @throws IOException if an I/O error occurs, or the file is already locked.
+     */
+    public static PcgStore open(Path path, PcgStoreType type, byte[] session) throws IOException {
+        FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            FileLock fileLock;
+            try {
+                fileLock = fileChannel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                fileLock = null;
+            }
+            if (fileLock == null) {
+                throw new IOException(path + " is being used by another store");
+            }
+            return new PcgStore(fileChannel, fileLock, path, type, session);
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    private PcgStore(FileChannel fileChannel, FileLock fileLock, Path path, PcgStoreType type, byte[] session)
+        throws IOException {
+        this.fileChannel = fileChannel;
+        this.fileLock = fileLock;
+        long fileByteLength = fileChannel.size();
+        Preconditions.checkState(
+            fileByteLength >= FIXED_HEADER_BYTE_LENGTH && fileByteLength <= MAX_MAPPED_BYTE_LENGTH,
+            "%s is not a PCG store", path
+        );
+        buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileByteLength);
+        Preconditions.checkState(buffer.getLong() == MAGIC, "%s is not a PCG store", path);
+        int version = buffer.getInt();
+        Preconditions.checkState(version == VERSION, "unsupported version %s for %s", version, path);
+        int typeOrdinal = buffer.getInt();
+        // check the range first, since a corrupted ordinal cannot be mapped to a type
+        Preconditions.checkState(
+            typeOrdinal >= 0 && typeOrdinal < PcgStoreType.values().length, "%s stores unknown type ordinal %s",
+            path, typeOrdinal
+        );
+        Preconditions.checkState(
+            typeOrdinal == type.ordinal(), "%s stores %s, expect %s",
+            path, PcgStoreType.values()[typeOrdinal], type
+        );
+        recordByteLength = buffer.getInt();
+        int sessionLength = buffer.getInt();
+        int metaLength = buffer.getInt();
+        buffer.getInt();
+        num = buffer.getLong();
+        consumedNum = buffer.getLong();
+        byte[] storedSession = new byte[sessionLength];
+        buffer.get(storedSession);
+        Preconditions.checkState(Arrays.equals(storedSession, session), "%s is bound to another session", path);
+        meta = new byte[metaLength];
+        buffer.get(meta);
+        recordOffset = getRecordOffset(sessionLength, metaLength);
+        Preconditions.checkState(
+            recordOffset + num * recordByteLength == fileByteLength, "%s is truncated or corrupted", path
+        );
+        Preconditions.checkState(consumedNum >= 0 && consumedNum <= num, "%s is corrupted", path);
+    }
+
+    /**
+     * Takes records. The records are marked as consumed in the file before returned.
+     *
+     * @param takeNum number of records.
+     * @return records.
+     */
+    public synchronized byte[] take(int takeNum) {
+        Preconditions.checkState(fileChannel.isOpen(), "store is closed");
+        MathPreconditions.checkPositiveInRangeClosed("takeNum", takeNum, (int) Math.min(getRemainNum(), Integer.MAX_VALUE));
+        int from = Math.toIntExact(recordOffset + consumedNum * recordByteLength);
+        int length = Math.multiplyExact(takeNum, recordByteLength);
+        // first mark records as consumed, then read them, then wipe them
+        consumedNum += takeNum;
+        buffer.putLong(CONSUMED_NUM_OFFSET, consumedNum);
+        buffer.force(CONSUMED_NUM_OFFSET, Long.BYTES);
+        byte[] records = new byte[length];
+        buffer.get(from, records);
+        buffer.put(from, new byte[length]);
+        buffer.force(from, length);
+        return records;
+    }
+
+    /**
+     * Gets the record byte length.
+     *
+     * @return record byte length.
+     */
+    public int getRecordByteLength() {
+        return recordByteLength;
+    }
+
+    /**
+     * Gets the meta.
+     *
+     * @return meta.
+     */
+    public byte[] getMeta() {
+        return meta;
+    }
+
+    /**
+     * Gets the total num of records.
+     *
+     * @return the total num of records.
+     */
+    public long getNum() {
+        return num;
+    }
+
+    /**
+     * Gets the num of consumed records.
+     *
+     * @return the num of consumed records.
+     */
+    public synchronized long getConsumedNum() {
+        return consumedNum;
+    }
+
+    /**
+     * Gets the num of remaining records.
+     *
+     * @return the num of remaining records.
+     */
+    public synchronized long getRemainNum() {
+        return num - consumedNum;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (fileChannel.isOpen()) {
+            try {
+                buffer.force();
+                fileLock.release();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                fileChannel.close();
+            }
+        }
+    }
+}
@@ -330,7 +330,8 @@ public class Gyw23Gf2kBspVodeReceiver extends AbstractGf2kBspVodeReceiver {
                 byte[][] correlations = new byte[h + 3][];
                 // c_1 := K[r1] ⊕ k, c_i := K[r_i] ⊕ K_i^0 for i ∈ [2, n − 1]
                 for (int i = 0; i < h - 1; i++) {
-                    byte[] ci = BlockUtils.xor(knsArray[batchIndex][i], cotSenderOutput.getR0(cotOffset + i));
+                    byte[] ci = BlockUtils.clone(knsArray[batchIndex][i]);
+                    cotSenderOutput.xoriR0(cotOffset + i, ci, 0);
                     correlations[i] = ci;
                 }
                 byte[] mu = BlockUtils.randomBlock(secureRandom);
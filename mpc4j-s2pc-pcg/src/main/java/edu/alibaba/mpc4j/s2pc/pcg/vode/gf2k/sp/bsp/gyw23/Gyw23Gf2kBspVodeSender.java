@@ -289,7 +289,7 @@ public class Gyw23Gf2kBspVodeSender extends AbstractGf2kBspVodeSender {
                 byte[][] kbs = new byte[h - 1][];
                 System.arraycopy(cns, 0, kbs, 0, h - 1);
                 for (int i = 0; i < h - 1; i++) {
-                    BlockUtils.xori(kbs[i], cotReceiverOutput.getRb(cotOffset + i));
+                    cotReceiverOutput.xoriRb(cotOffset + i, kbs[i], 0);
                 }
                 // K_n^{!α_n} = c_n^{r_n} - H(µ ⊕ M[r_n])
                 byte[] kn = notBinaryAlphaArray[batchIndex][h - 1] ? cn1 : cn0;
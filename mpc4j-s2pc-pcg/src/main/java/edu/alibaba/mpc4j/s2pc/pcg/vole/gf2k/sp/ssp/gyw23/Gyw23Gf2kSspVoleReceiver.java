@@ -296,7 +296,8 @@ public class Gyw23Gf2kSspVoleReceiver extends AbstractGf2kSspVoleReceiver {
         byte[][] correlation = new byte[h + 3][];
         // c_1 := K[r1] ⊕ k, c_i := K[r_i] ⊕ K_i^0 for i ∈ [2, n − 1]
         for (int i = 0; i < h - 1; i++) {
-            byte[] ci = BlockUtils.xor(kns[i], cotSenderOutput.getR0(i));
+            byte[] ci = BlockUtils.clone(kns[i]);
+            cotSenderOutput.xoriR0(i, ci, 0);
             correlation[i] = ci;
         }
         byte[] mu = BlockUtils.randomBlock(secureRandom);
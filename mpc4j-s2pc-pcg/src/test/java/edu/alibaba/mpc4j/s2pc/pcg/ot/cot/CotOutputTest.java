@@ -9,6 +9,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.security.SecureRandom;
+import java.util.Arrays;
 
 /**
  * COT output tests.
@@ -315,4 +316,127 @@ public class CotOutputTest {
             Assert.assertEquals(copyReceiverOutputHalf, receiverOutputHalf);
         }
     }
+
+    @Test
+    public void testFlatCreate() {
+        for (int num = 0; num < MAX_NUM; num++) {
+            testFlatCreate(num);
+        }
+    }
+
+    private void testFlatCreate(int num) {
+        byte[] delta = BlockUtils.randomBlock(secureRandom);
+        CotSenderOutput senderOutput = CotSenderOutput.createRandom(num, delta, secureRandom);
+        CotReceiverOutput receiverOutput = CotReceiverOutput.createRandom(senderOutput, secureRandom);
+        // create from the array form and the flat form
+        CotSenderOutput arraySenderOutput = CotSenderOutput.create(delta, senderOutput.getR0Array());
+        CotSenderOutput flatSenderOutput = CotSenderOutput.create(delta, senderOutput.getR0Bytes());
+        Assert.assertEquals(senderOutput, arraySenderOutput);
+        Assert.assertEquals(senderOutput, flatSenderOutput);
+        CotReceiverOutput arrayReceiverOutput = CotReceiverOutput.create(
+            receiverOutput.getChoices(), receiverOutput.getRbArray()
+        );
+        CotReceiverOutput flatReceiverOutput = CotReceiverOutput.create(
+            receiverOutput.getChoices(), receiverOutput.getRbBytes()
+        );
+        Assert.assertEquals(receiverOutput, arrayReceiverOutput);
+        Assert.assertEquals(receiverOutput, flatReceiverOutput);
+        OtTestUtils.assertOutput(num, flatSenderOutput, flatReceiverOutput);
+        // flat R1 bytes
+        byte[] r1Bytes = senderOutput.getR1Bytes();
+        for (int index = 0; index < num; index++) {
+            Assert.assertArrayEquals(
+                senderOutput.getR1(index),
+                Arrays.copyOfRange(
+                    r1Bytes, index * CommonConstants.BLOCK_BYTE_LENGTH, (index + 1) * CommonConstants.BLOCK_BYTE_LENGTH
+                )
+            );
+        }
+    }
+
+    @Test
+    public void testSplitView() {
+        for (int num = MIN_NUM + 1; num < MAX_NUM; num++) {
+            testSplitView(num);
+        }
+    }
+
+    private void testSplitView(int num) {
+        byte[] delta = BlockUtils.randomBlock(secureRandom);
+        CotSenderOutput senderOutput = CotSenderOutput.createRandom(num, delta, secureRandom);
+        CotReceiverOutput receiverOutput = CotReceiverOutput.createRandom(senderOutput, secureRandom);
+        CotSenderOutput copySenderOutput = senderOutput.copy();
+        CotReceiverOutput copyReceiverOutput = receiverOutput.copy();
+        // split views share the flat storage, merging into the remaining output must not change the split one
+        CotSenderOutput splitSenderOutput = senderOutput.split(num / 2);
+        CotReceiverOutput splitReceiverOutput = receiverOutput.split(num / 2);
+        CotSenderOutput copySplitSenderOutput = splitSenderOutput.copy();
+        CotReceiverOutput copySplitReceiverOutput = splitReceiverOutput.copy();
+        CotSenderOutput mergeSenderOutput = CotSenderOutput.createRandom(num, delta, secureRandom);
+        senderOutput.merge(mergeSenderOutput);
+        receiverOutput.merge(CotReceiverOutput.createRandom(mergeSenderOutput, secureRandom));
+        Assert.assertEquals(copySplitSenderOutput, splitSenderOutput);
+        Assert.assertEquals(copySplitReceiverOutput, splitReceiverOutput);
+        OtTestUtils.assertOutput(num / 2, splitSenderOutput, splitReceiverOutput);
+        OtTestUtils.assertOutput(num - num / 2 + num, senderOutput, receiverOutput);
+        // the split output is the tail of the original output
+        for (int index = 0; index < num / 2; index++) {
+            Assert.assertArrayEquals(copySenderOutput.getR0(num - num / 2 + index), splitSenderOutput.getR0(index));
+            Assert.assertArrayEquals(copyReceiverOutput.getRb(num - num / 2 + index), splitReceiverOutput.getRb(index));
+            Assert.assertEquals(
+                copyReceiverOutput.getChoice(num - num / 2 + index), splitReceiverOutput.getChoice(index)
+            );
+        }
+        // out of range access on a view is rejected, although the flat storage is larger
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> splitSenderOutput.getR0(num / 2));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> splitReceiverOutput.getRb(num / 2));
+    }
+
+    @Test
+    public void testOffsetAccess() {
+        for (int num = MIN_NUM + 1; num < MAX_NUM; num++) {
+            testOffsetAccess(num);
+        }
+    }
+
+    private void testOffsetAccess(int num) {
+        byte[] delta = BlockUtils.randomBlock(secureRandom);
+        CotSenderOutput senderOutput = CotSenderOutput.createRandom(num, delta, secureRandom);
+        CotReceiverOutput receiverOutput = CotReceiverOutput.createRandom(senderOutput, secureRandom);
+        // access on a split view, so that the offset in the flat storage is not 0
+        CotSenderOutput splitSenderOutput = senderOutput.split(num / 2);
+        CotReceiverOutput splitReceiverOutput = receiverOutput.split(num / 2);
+        int destOffset = CommonConstants.BLOCK_BYTE_LENGTH / 2;
+        for (int index = 0; index < num / 2; index++) {
+            byte[] mask = BlockUtils.randomBlock(secureRandom);
+            // copy
+            byte[] dest = new byte[destOffset + CommonConstants.BLOCK_BYTE_LENGTH];
+            splitSenderOutput.copyR0(index, dest, destOffset);
+            Assert.assertArrayEquals(splitSenderOutput.getR0(index), Arrays.copyOfRange(dest, destOffset, dest.length));
+            splitSenderOutput.copyR1(index, dest, destOffset);
+            Assert.assertArrayEquals(splitSenderOutput.getR1(index), Arrays.copyOfRange(dest, destOffset, dest.length));
+            splitReceiverOutput.copyRb(index, dest, destOffset);
+            Assert.assertArrayEquals(splitReceiverOutput.getRb(index), Arrays.copyOfRange(dest, destOffset, dest.length));
+            // xor
+            dest = new byte[destOffset + CommonConstants.BLOCK_BYTE_LENGTH];
+            System.arraycopy(mask, 0, dest, destOffset, CommonConstants.BLOCK_BYTE_LENGTH);
+            splitSenderOutput.xoriR0(index, dest, destOffset);
+            Assert.assertArrayEquals(
+                BlockUtils.xor(mask, splitSenderOutput.getR0(index)), Arrays.copyOfRange(dest, destOffset, dest.length)
+            );
+            System.arraycopy(mask, 0, dest, destOffset, CommonConstants.BLOCK_BYTE_LENGTH);
+            splitSenderOutput.xoriR1(index, dest, destOffset);
+            Assert.assertArrayEquals(
+                BlockUtils.xor(mask, splitSenderOutput.getR1(index)), Arrays.copyOfRange(dest, destOffset, dest.length)
+            );
+            System.arraycopy(mask, 0, dest, destOffset, CommonConstants.BLOCK_BYTE_LENGTH);
+            splitReceiverOutput.xoriRb(index, dest, destOffset);
+            Assert.assertArrayEquals(
+                BlockUtils.xor(mask, splitReceiverOutput.getRb(index)), Arrays.copyOfRange(dest, destOffset, dest.length)
+            );
+        }
+        byte[] dest = new byte[CommonConstants.BLOCK_BYTE_LENGTH];
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> splitSenderOutput.copyR0(num / 2, dest, 0));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> splitReceiverOutput.xoriRb(num / 2, dest, 0));
+    }
 }
@@ -54,6 +54,15 @@ public class CotTest extends AbstractTwoPartyMemoryRpcPto {
             CotFactory.CotType.SILENT.name() + " (" + SecurityModel.MALICIOUS + ")",
             new SilentCotConfig.Builder(SecurityModel.MALICIOUS).build(),
         });
+        // CACHE with background pre-generation
+        configurations.add(new Object[] {
+            CotFactory.CotType.SILENT.name() + " (async, " + SecurityModel.SEMI_HONEST + ")",
+            new SilentCotConfig.Builder(SecurityModel.SEMI_HONEST).setAsyncRefill(1 << 10, 1 << 12).build(),
+        });
+        configurations.add(new Object[] {
+            CotFactory.CotType.SILENT.name() + " (async, " + SecurityModel.MALICIOUS + ")",
+            new SilentCotConfig.Builder(SecurityModel.MALICIOUS).setAsyncRefill(1 << 10, 1 << 12).build(),
+        });
 
         return configurations;
     }
@@ -0,0 +1,167 @@
+package edu.alibaba.mpc4j.s2pc.pcg.store;
+
+import edu.alibaba.mpc4j.common.tool.EnvType;
+import edu.alibaba.mpc4j.common.tool.galoisfield.sgf2k.Sgf2k;
+import edu.alibaba.mpc4j.common.tool.galoisfield.sgf2k.Sgf2kFactory;
+import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.s2pc.pcg.ot.OtTestUtils;
+import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.CotReceiverOutput;
+import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.CotSenderOutput;
+import edu.alibaba.mpc4j.s2pc.pcg.store.PcgStore.PcgStoreType;
+import edu.alibaba.mpc4j.s2pc.pcg.vole.VoleTestUtils;
+import edu.alibaba.mpc4j.s2pc.pcg.vole.gf2k.Gf2kVoleReceiverOutput;
+import edu.alibaba.mpc4j.s2pc.pcg.vole.gf2k.Gf2kVoleSenderOutput;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * PCG store test.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class PcgStoreTest {
+    /**
+     * num
+     */
+    private static final int NUM = 1000;
+    /**
+     * session
+     */
+    private static final byte[] SESSION = "P_1-P_2-session".getBytes(StandardCharsets.UTF_8);
+    /**
+     * temporary folder
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    /**
+     * random state
+     */
+    private final SecureRandom secureRandom;
+
+    public PcgStoreTest() {
+        secureRandom = new SecureRandom();
+    }
+
+    @Test
+    public void testCot() throws IOException {
+        byte[] delta = BlockUtils.randomBlock(secureRandom);
+        CotSenderOutput senderOutput = CotSenderOutput.createRandom(NUM, delta, secureRandom);
+        CotReceiverOutput receiverOutput = CotReceiverOutput.createRandom(senderOutput, secureRandom);
+        Path senderPath = temporaryFolder.getRoot().toPath().resolve("cot_sender");
+        Path receiverPath = temporaryFolder.getRoot().toPath().resolve("cot_receiver");
+        CotSenderStore.save(senderPath, SESSION, senderOutput);
+        CotReceiverStore.save(receiverPath, SESSION, receiverOutput);
+        try (CotSenderStore senderStore = CotSenderStore.open(senderPath, SESSION);
+             CotReceiverStore receiverStore = CotReceiverStore.open(receiverPath, SESSION)) {
+            Assert.assertArrayEquals(delta, senderStore.getDelta());
+            Assert.assertEquals(NUM, senderStore.getRemainNum());
+            Assert.assertEquals(NUM, receiverStore.getRemainNum());
+            CotSenderOutput takeSenderOutput = senderStore.take(NUM / 3);
+            CotReceiverOutput takeReceiverOutput = receiverStore.take(NUM / 3);
+            takeSenderOutput.merge(senderStore.take(NUM - NUM / 3));
+            takeReceiverOutput.merge(receiverStore.take(NUM - NUM / 3));
+            OtTestUtils.assertOutput(NUM, takeSenderOutput, takeReceiverOutput);
+            Assert.assertEquals(senderOutput, takeSenderOutput);
+            Assert.assertEquals(receiverOutput, takeReceiverOutput);
+            Assert.assertEquals(0, senderStore.getRemainNum());
+            Assert.assertEquals(0, receiverStore.getRemainNum());
+        }
+    }
+
+    @Test
+    public void testGf2kVole() throws IOException {
+        for (int subfieldL : new int[]{2, 8, 64, 128}) {
+            Sgf2k field = Sgf2kFactory.getInstance(EnvType.STANDARD, subfieldL);
+            byte[] delta = field.createRangeRandom(secureRandom);
+            Gf2kVoleReceiverOutput receiverOutput = Gf2kVoleReceiverOutput.createRandom(field, NUM, delta, secureRandom);
+            Gf2kVoleSenderOutput senderOutput = Gf2kVoleSenderOutput.createRandom(receiverOutput, secureRandom);
+            Path senderPath = temporaryFolder.getRoot().toPath().resolve("vole_sender_" + subfieldL);
+            Path receiverPath = temporaryFolder.getRoot().toPath().resolve("vole_receiver_" + subfieldL);
+            Gf2kVoleSenderStore.save(senderPath, SESSION, senderOutput);
+            Gf2kVoleReceiverStore.save(receiverPath, SESSION, receiverOutput);
+            try (Gf2kVoleSenderStore senderStore = Gf2kVoleSenderStore.open(senderPath, SESSION, field);
+                 Gf2kVoleReceiverStore receiverStore = Gf2kVoleReceiverStore.open(receiverPath, SESSION, field)) {
+                Assert.assertArrayEquals(delta, receiverStore.getDelta());
+                Gf2kVoleSenderOutput takeSenderOutput = senderStore.take(NUM);
+                Gf2kVoleReceiverOutput takeReceiverOutput = receiverStore.take(NUM);
+                VoleTestUtils.assertOutput(field, NUM, takeSenderOutput, takeReceiverOutput);
+                Assert.assertEquals(senderOutput, takeSenderOutput);
+                Assert.assertEquals(receiverOutput, takeReceiverOutput);
+            }
+            // open with a different field
+            Sgf2k otherField = Sgf2kFactory.getInstance(EnvType.STANDARD, subfieldL == 2 ? 4 : 2);
+            Assert.assertThrows(
+                IllegalStateException.class, () -> Gf2kVoleSenderStore.open(senderPath, SESSION, otherField)
+            );
+        }
+    }
+
+    @Test
+    public void testOneTimeUse() throws IOException {
+        byte[] delta = BlockUtils.randomBlock(secureRandom);
+        CotSenderOutput senderOutput = CotSenderOutput.createRandom(NUM, delta, secureRandom);
+        Path path = temporaryFolder.getRoot().toPath().resolve("cot_sender");
+        CotSenderStore.save(path, SESSION, senderOutput);
+        CotSenderOutput firstOutput;
+        try (CotSenderStore senderStore = CotSenderStore.open(path, SESSION)) {
+            firstOutput = senderStore.take(NUM / 2);
+        }
+        // a later session can only take the remaining outputs
+        try (CotSenderStore senderStore = CotSenderStore.open(path, SESSION)) {
+            Assert.assertEquals(NUM - NUM / 2, senderStore.getRemainNum());
+            CotSenderOutput secondOutput = senderStore.take(NUM - NUM / 2);
+            firstOutput.merge(secondOutput);
+            Assert.assertEquals(senderOutput, firstOutput);
+            // no more outputs
+            Assert.assertThrows(IllegalArgumentException.class, () -> senderStore.take(1));
+        }
+        // consumed records are wiped from the file
+        try (PcgStore pcgStore = PcgStore.open(path, PcgStoreType.COT_SENDER, SESSION)) {
+            Assert.assertEquals(NUM, pcgStore.getConsumedNum());
+        }
+        byte[] fileBytes = Files.readAllBytes(path);
+        int recordByteLength = senderOutput.getR0Bytes().length;
+        Assert.assertArrayEquals(
+            new byte[recordByteLength],
+            Arrays.copyOfRange(fileBytes, fileBytes.length - recordByteLength, fileBytes.length)
+        );
+    }
+
+    @Test
+    public void testIllegalOpen() throws IOException {
+        byte[] delta = BlockUtils.randomBlock(secureRandom);
+        CotSenderOutput senderOutput = CotSenderOutput.createRandom(NUM, delta, secureRandom);
+        Path path = temporaryFolder.getRoot().toPath().resolve("cot_sender");
+        CotSenderStore.save(path, SESSION, senderOutput);
+        // open with a different session
+        byte[] otherSession = "P_1-P_3-session".getBytes(StandardCharsets.UTF_8);
+        Assert.assertThrows(IllegalStateException.class, () -> CotSenderStore.open(path, otherSession));
+        // open with a different type
+        Assert.assertThrows(IllegalStateException.class, () -> CotReceiverStore.open(path, SESSION));
+        // open twice
+        try (CotSenderStore ignored = CotSenderStore.open(path, SESSION)) {
+            Assert.assertThrows(IOException.class, () -> CotSenderStore.open(path, SESSION));
+        }
+        // the store can be opened again after closed
+        try (CotSenderStore senderStore = CotSenderStore.open(path, SESSION)) {
+            Assert.assertEquals(NUM, senderStore.getRemainNum());
+        }
+        // open with a corrupted type ordinal, which follows the magic and the version
+        byte[] fileBytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(fileBytes).putInt(Long.BYTES + Integer.BYTES, Integer.MAX_VALUE);
+        Path corruptedPath = temporaryFolder.getRoot().toPath().resolve("cot_sender_corrupted");
+        Files.write(corruptedPath, fileBytes);
+        Assert.assertThrows(IllegalStateException.class, () -> CotSenderStore.open(corruptedPath, SESSION));
+    }
+}
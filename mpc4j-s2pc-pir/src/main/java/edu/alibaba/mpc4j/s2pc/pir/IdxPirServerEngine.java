@@ -0,0 +1,209 @@
+package edu.alibaba.mpc4j.s2pc.pir;
+
+import edu.alibaba.mpc4j.common.rpc.Party;
+import edu.alibaba.mpc4j.common.rpc.Rpc;
+import edu.alibaba.mpc4j.common.rpc.pto.PtoExecutor;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * index PIR server engine. The engine serves many clients with one preprocessed database.
+ * <p>
+ * Each client session creates its own {@link SharableIdxPirServer}, which keeps per-client states and reads the shared
+ * preprocessed database, so that the memory cost is O(database) + O(sessions × per-client states) instead of
+ * O(sessions × database). Sessions are executed by a bounded worker pool: at most workerNum sessions are served at the
+ * same time, and later sessions wait in the queue until a worker is available.
+ * </p>
+ * Sessions can share one server RPC, since messages in different sessions have different receivers or senders.
+ * The body of each session runs in the executor of the engine, so that all parallel computations of the session run in
+ * that executor and do not compete with other engines in the JVM-wide common pool. A running session occupies one
+ * worker of a dedicated executor while it waits for messages, so the parallelism of the executor should be larger than
+ * the number of workers.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class IdxPirServerEngine<T extends PreprocessedIdxPirDatabase> {
+    /**
+     * server creator.
+     */
+    @FunctionalInterface
+    public interface ServerCreator<T extends PreprocessedIdxPirDatabase> {
+        /**
+         * Creates a server for one client session.
+         *
+         * @param serverRpc   server RPC.
+         * @param clientParty client party.
+         * @return a server.
+         */
+        SharableIdxPirServer<T> create(Rpc serverRpc, Party clientParty);
+    }
+
+    /**
+     * preprocessed database
+     */
+    private final T database;
+    /**
+     * server creator
+     */
+    private final ServerCreator<T> serverCreator;
+    /**
+     * worker num
+     */
+    private final int workerNum;
+    /**
+     * executor that runs parallel computations of sessions
+     */
+    private final PtoExecutor ptoExecutor;
+    /**
+     * worker pool
+     */
+    private final ExecutorService executorService;
+    /**
+     * number of sessions in service
+     */
+    private final AtomicInteger activeSessionNum;
+    /**
+     * number of finished sessions
+     */
+    private final AtomicLong finishedSessionNum;
+
+    /**
+     * Creates an index PIR server engine.
+     *
+     * @param database      preprocessed database.
+     * @param serverCreator server creator.
+     * @param workerNum     number of workers, i.e., max number of sessions served at the same time.
+     */
+    public IdxPirServerEngine(T database, ServerCreator<T> serverCreator, int workerNum) {
+        this(database, serverCreator, workerNum, PtoExecutor.commonPool());
+    }
+
+    /**
+     * Creates an index PIR server engine.
+     *
+     * @param database      preprocessed database.
+     * @param serverCreator server creator.
+     * @param workerNum     number of workers, i.e., max number of sessions served at the same time.
+     * @param ptoExecutor   executor that runs sessions and their parallel computations.
+     */
+    public IdxPirServerEngine(T database, ServerCreator<T> serverCreator, int workerNum, PtoExecutor ptoExecutor) {
+        MathPreconditions.checkPositive("worker_num", workerNum);
+        this.database = database;
+        this.serverCreator = serverCreator;
+        this.workerNum = workerNum;
+        this.ptoExecutor = ptoExecutor;
+        AtomicInteger workerIndex = new AtomicInteger();
+        executorService = Executors.newFixedThreadPool(workerNum, runnable -> {
+            Thread thread = new Thread(runnable, "idx-pir-server-worker-" + workerIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        activeSessionNum = new AtomicInteger();
+        finishedSessionNum = new AtomicLong();
+    }
+
+    /**
+     * Submits a client session. The server initializes the protocol with the preprocessed database, and then executes
+     * the protocol once for each batch num.
+     *
+     * @param serverRpc   server RPC.
+     * @param clientParty client party.
+     * @param maxBatchNum max batch num.
+     * @param batchNums   batch num for each execution.
+     * @return the future of the session, which throws the failure (e.g., MpcAbortException) if the session aborts.
+     */
+    public Future<Void> submit(Rpc serverRpc, Party clientParty, int maxBatchNum, int[] batchNums) {
+        MathPreconditions.checkPositive("max_batch_num", maxBatchNum);
+        for (int batchNum : batchNums) {
+            MathPreconditions.checkPositiveInRangeClosed("batch_num", batchNum, maxBatchNum);
+        }
+        return executorService.submit(() -> {
+            activeSessionNum.incrementAndGet();
+            SharableIdxPirServer<T> server = serverCreator.create(serverRpc, clientParty);
+            server.setPtoExecutor(ptoExecutor);
+            try {
+                // run the session body in the executor, so that all parallel streams of the session (including those
+                // in sub-protocols) inherit the pool of the executor
+                ptoExecutor.run(() -> {
+                    server.init(database, maxBatchNum);
+                    for (int batchNum : batchNums) {
+                        server.pir(batchNum);
+                    }
+                });
+                return null;
+            } finally {
+                server.destroy();
+                activeSessionNum.decrementAndGet();
+                finishedSessionNum.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Gets the preprocessed database.
+     *
+     * @return the preprocessed database.
+     */
+    public T getDatabase() {
+        return database;
+    }
+
+    /**
+     * Gets the number of workers.
+     *
+     * @return the number of workers.
+     */
+    public int getWorkerNum() {
+        return workerNum;
+    }
+
+    /**
+     * Gets the executor that runs parallel computations of sessions.
+     *
+     * @return the executor.
+     */
+    public PtoExecutor getPtoExecutor() {
+        return ptoExecutor;
+    }
+
+    /**
+     * Gets the number of sessions in service.
+     *
+     * @return the number of sessions in service.
+     */
+    public int getActiveSessionNum() {
+        return activeSessionNum.get();
+    }
+
+    /**
+     * Gets the number of finished (including aborted) sessions.
+     *
+     * @return the number of finished sessions.
+     */
+    public long getFinishedSessionNum() {
+        return finishedSessionNum.get();
+    }
+
+    /**
+     * Stops accepting new sessions. Submitted sessions are still served.
+     */
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    /**
+     * Waits until all submitted sessions are finished after {@link #shutdown()}.
+     *
+     * @param timeout timeout.
+     * @param unit    time unit of the timeout.
+     * @return true if all sessions are finished, false if the timeout elapsed.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executorService.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,35 @@
+package edu.alibaba.mpc4j.s2pc.pir;
+
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+
+/**
+ * preprocessed index PIR database. The preprocessed database is immutable and does not depend on any client, so that
+ * it can be shared by index PIR servers concurrently serving many clients.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public interface PreprocessedIdxPirDatabase {
+    /**
+     * Gets the database size.
+     *
+     * @return database size.
+     */
+    int rows();
+
+    /**
+     * Gets the entry bit length.
+     *
+     * @return entry bit length.
+     */
+    int getL();
+
+    /**
+     * Gets the entry byte length.
+     *
+     * @return entry byte length.
+     */
+    default int getByteL() {
+        return CommonUtils.getByteLength(getL());
+    }
+}
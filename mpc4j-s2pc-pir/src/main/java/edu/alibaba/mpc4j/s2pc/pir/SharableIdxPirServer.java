@@ -0,0 +1,31 @@
+package edu.alibaba.mpc4j.s2pc.pir;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+
+/**
+ * sharable index PIR server. The server can be initialized with a preprocessed database, in which case the server only
+ * keeps per-client states (e.g., keys, hints in transit) and reads the preprocessed database without modifying it.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public interface SharableIdxPirServer<T extends PreprocessedIdxPirDatabase> extends IdxPirServer {
+    /**
+     * Server initializes the protocol with a preprocessed database.
+     *
+     * @param database    preprocessed database.
+     * @param maxBatchNum max batch num.
+     * @throws MpcAbortException the protocol failure aborts.
+     */
+    void init(T database, int maxBatchNum) throws MpcAbortException;
+
+    /**
+     * Server initializes the protocol with a preprocessed database.
+     *
+     * @param database preprocessed database.
+     * @throws MpcAbortException the protocol failure aborts.
+     */
+    default void init(T database) throws MpcAbortException {
+        init(database, 1);
+    }
+}
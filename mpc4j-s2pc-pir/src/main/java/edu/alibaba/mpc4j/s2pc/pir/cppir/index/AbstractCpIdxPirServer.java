@@ -1,11 +1,14 @@
 package edu.alibaba.mpc4j.s2pc.pir.cppir.index;
 
+import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.Party;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyPto;
-import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
+import edu.alibaba.mpc4j.common.structure.database.Database;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import edu.alibaba.mpc4j.s2pc.pir.PreprocessedIdxPirDatabase;
 
 /**
  * abstract client-specific preprocessing index PIR server.
@@ -35,7 +38,16 @@ public abstract class AbstractCpIdxPirServer extends AbstractTwoPartyPto impleme
         super(ptoDesc, serverRpc, clientParty, config);
     }
 
-    protected void setInitInput(NaiveDatabase database, int maxBatchNum) {
+    protected void setInitInput(Database database, int maxBatchNum) {
+        n = database.rows();
+        l = database.getL();
+        byteL = database.getByteL();
+        MathPreconditions.checkPositive("max_batch_num", maxBatchNum);
+        this.maxBatchNum = maxBatchNum;
+        initState();
+    }
+
+    protected void setInitInput(PreprocessedIdxPirDatabase database, int maxBatchNum) {
         n = database.rows();
         l = database.getL();
         byteL = database.getByteL();
@@ -48,4 +60,13 @@ public abstract class AbstractCpIdxPirServer extends AbstractTwoPartyPto impleme
         checkInitialized();
         MathPreconditions.checkPositiveInRangeClosed("batch_num", batchNum, maxBatchNum);
     }
+
+    protected void setUpdateInput(int[] xs, byte[][] entries) {
+        checkInitialized();
+        MathPreconditions.checkEqual("xs.length", "entries.length", xs.length, entries.length);
+        for (int round = 0; round < xs.length; round++) {
+            MathPreconditions.checkNonNegativeInRange("x", xs[round], n);
+            Preconditions.checkArgument(BytesUtils.isFixedReduceByteArray(entries[round], byteL, l));
+        }
+    }
 }
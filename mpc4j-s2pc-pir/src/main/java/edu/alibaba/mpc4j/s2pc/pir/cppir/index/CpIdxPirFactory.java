@@ -184,6 +184,12 @@ public class CpIdxPirFactory implements PtoFactory {
     public static StreamCpIdxPirServer createUpdatableServer(Rpc serverRpc, Party clientParty, CpIdxPirConfig config) {
         CpIdxPirType type = config.getPtoType();
         switch (type) {
+            case FRODO -> {
+                return new FrodoCpIdxPirServer(serverRpc, clientParty, (FrodoCpIdxPirConfig) config);
+            }
+            case SIMPLE -> {
+                return new SimpleCpIdxPirServer(serverRpc, clientParty, (SimpleCpIdxPirConfig) config);
+            }
             case PIANO -> {
                 return new PianoCpIdxPirServer(serverRpc, clientParty, (PianoCpIdxPirConfig) config);
             }
@@ -212,6 +218,12 @@ public class CpIdxPirFactory implements PtoFactory {
     public static StreamCpIdxPirClient createStreamClient(Rpc clientRpc, Party serverParty, CpIdxPirConfig config) {
         CpIdxPirType type = config.getPtoType();
         switch (type) {
+            case FRODO -> {
+                return new FrodoCpIdxPirClient(clientRpc, serverParty, (FrodoCpIdxPirConfig) config);
+            }
+            case SIMPLE -> {
+                return new SimpleCpIdxPirClient(clientRpc, serverParty, (SimpleCpIdxPirConfig) config);
+            }
             case PIANO -> {
                 return new PianoCpIdxPirClient(clientRpc, serverParty, (PianoCpIdxPirConfig) config);
             }
@@ -1,5 +1,8 @@
 package edu.alibaba.mpc4j.s2pc.pir.cppir.index;
 
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.structure.database.Database;
+import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
 import edu.alibaba.mpc4j.s2pc.pir.IdxPirServer;
 
 /**
@@ -9,4 +12,28 @@ import edu.alibaba.mpc4j.s2pc.pir.IdxPirServer;
  * @date 2024/7/9
  */
 public interface CpIdxPirServer extends IdxPirServer {
+    /**
+     * Server initializes the protocol. The server only reads the database row by row, so that the database can be
+     * stored out of the heap, e.g., an OffHeapDatabase.
+     *
+     * @param database    database.
+     * @param maxBatchNum max batch num.
+     * @throws MpcAbortException the protocol failure aborts.
+     */
+    void init(Database database, int maxBatchNum) throws MpcAbortException;
+
+    /**
+     * Server initializes the protocol.
+     *
+     * @param database database.
+     * @throws MpcAbortException the protocol failure aborts.
+     */
+    default void init(Database database) throws MpcAbortException {
+        init(database, 1);
+    }
+
+    @Override
+    default void init(NaiveDatabase database, int maxBatchNum) throws MpcAbortException {
+        init((Database) database, maxBatchNum);
+    }
 }
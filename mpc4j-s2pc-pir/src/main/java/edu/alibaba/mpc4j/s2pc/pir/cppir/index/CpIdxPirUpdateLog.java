@@ -0,0 +1,182 @@
+package edu.alibaba.mpc4j.s2pc.pir.cppir.index;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.rpc.MpcAbortPreconditions;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Mutation log for stream client-specific preprocessing index PIR servers.
+ * <p>
+ * The server logs updates without touching its database, so that queries are still answered with the database as of
+ * the last flush, which is consistent with hints in the client. When flushing, the server applies the latest logged
+ * entry of each index to the database, and sends one delta for each logged index, i.e., the difference between the
+ * entry before and after the flush. An index updated many times between two flushes costs only one delta, and all
+ * deltas are sent in one message so that the client refreshes its hints in one pass.
+ * </p>
+ * The flushed payload is empty if there is no update, otherwise it contains two byte arrays: the sorted indexes
+ * (each in {@link Integer#BYTES} bytes), and the concatenated deltas.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class CpIdxPirUpdateLog {
+    /**
+     * Parses indexes in the flushed payload, and verifies that indexes are distinct, sorted and in range [0, n).
+     *
+     * @param payload    the flushed payload.
+     * @param n          database size.
+     * @param deltaByteL byte length of each delta.
+     * @return indexes, an empty array if the payload is empty.
+     * @throws MpcAbortException the protocol failure aborts.
+     */
+    public static int[] parseIndexes(List<byte[]> payload, int n, int deltaByteL) throws MpcAbortException {
+        MpcAbortPreconditions.checkArgument(payload.isEmpty() || payload.size() == 2);
+        if (payload.isEmpty()) {
+            return new int[0];
+        }
+        MpcAbortPreconditions.checkArgument(payload.get(0).length > 0 && payload.get(0).length % Integer.BYTES == 0);
+        int[] xs = IntUtils.byteArrayToIntArray(payload.get(0));
+        MpcAbortPreconditions.checkArgument(payload.get(1).length == xs.length * deltaByteL);
+        for (int k = 0; k < xs.length; k++) {
+            MpcAbortPreconditions.checkArgument(xs[k] >= 0 && xs[k] < n);
+            MpcAbortPreconditions.checkArgument(k == 0 || xs[k] > xs[k - 1]);
+        }
+        return xs;
+    }
+
+    /**
+     * entry byte length
+     */
+    private final int byteL;
+    /**
+     * index -> latest logged entry
+     */
+    private final TIntObjectMap<byte[]> entryMap;
+
+    public CpIdxPirUpdateLog(int byteL) {
+        MathPreconditions.checkPositive("byteL", byteL);
+        this.byteL = byteL;
+        entryMap = new TIntObjectHashMap<>();
+    }
+
+    /**
+     * Logs an update. The entry overwrites the previously logged entry of the same index.
+     *
+     * @param x     index.
+     * @param entry entry.
+     */
+    public void log(int x, byte[] entry) {
+        assert entry.length == byteL;
+        entryMap.put(x, BytesUtils.clone(entry));
+    }
+
+    /**
+     * Gets the number of logged indexes.
+     *
+     * @return number of logged indexes.
+     */
+    public int size() {
+        return entryMap.size();
+    }
+
+    /**
+     * Returns if there is no logged index.
+     *
+     * @return true if there is no logged index.
+     */
+    public boolean isEmpty() {
+        return entryMap.isEmpty();
+    }
+
+    /**
+     * Gets the logged indexes in ascending order.
+     *
+     * @return logged indexes.
+     */
+    public int[] getIndexes() {
+        int[] xs = entryMap.keys();
+        Arrays.sort(xs);
+        return xs;
+    }
+
+    /**
+     * Gets the latest logged entry.
+     *
+     * @param x index.
+     * @return the latest logged entry, or null if the index is not logged.
+     */
+    public byte[] getEntry(int x) {
+        return entryMap.get(x);
+    }
+
+    /**
+     * Clears the log.
+     */
+    public void clear() {
+        entryMap.clear();
+    }
+
+    /**
+     * Flushes the log with XOR deltas, i.e., each delta is (flushed entry) ⊕ (logged entry) in byteL bytes.
+     *
+     * @param getter index -> flushed entry.
+     * @param setter (logged entry, index) -> sets the flushed entry.
+     * @return the payload.
+     */
+    public List<byte[]> flushXorDeltas(IntFunction<byte[]> getter, ObjIntConsumer<byte[]> setter) {
+        List<byte[]> payload = new ArrayList<>(2);
+        if (!isEmpty()) {
+            int[] xs = getIndexes();
+            ByteBuffer deltaByteBuffer = ByteBuffer.allocate(xs.length * byteL);
+            for (int x : xs) {
+                byte[] entry = entryMap.get(x);
+                deltaByteBuffer.put(BytesUtils.xor(getter.apply(x), entry));
+                setter.accept(entry, x);
+            }
+            payload.add(IntUtils.intArrayToByteArray(xs));
+            payload.add(deltaByteBuffer.array());
+        }
+        clear();
+        return payload;
+    }
+
+    /**
+     * Flushes the log with subtractive deltas, i.e., for each byte of the entry, the delta is (logged byte) - (flushed
+     * byte) where bytes are treated as unsigned elements in [0, 2^8). Each delta is in [-255, 255] and is encoded as a
+     * short, so that each entry takes 2 · byteL bytes.
+     *
+     * @param getter index -> flushed entry.
+     * @param setter (logged entry, index) -> sets the flushed entry.
+     * @return the payload.
+     */
+    public List<byte[]> flushSubDeltas(IntFunction<byte[]> getter, ObjIntConsumer<byte[]> setter) {
+        List<byte[]> payload = new ArrayList<>(2);
+        if (!isEmpty()) {
+            int[] xs = getIndexes();
+            ByteBuffer deltaByteBuffer = ByteBuffer.allocate(xs.length * byteL * Short.BYTES);
+            for (int x : xs) {
+                byte[] flushedEntry = getter.apply(x);
+                byte[] entry = entryMap.get(x);
+                for (int entryIndex = 0; entryIndex < byteL; entryIndex++) {
+                    deltaByteBuffer.putShort((short) ((entry[entryIndex] & 0xFF) - (flushedEntry[entryIndex] & 0xFF)));
+                }
+                setter.accept(entry, x);
+            }
+            payload.add(IntUtils.intArrayToByteArray(xs));
+            payload.add(deltaByteBuffer.array());
+        }
+        clear();
+        return payload;
+    }
+}
@@ -10,16 +10,19 @@ import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
  */
 public interface StreamCpIdxPirClient extends CpIdxPirClient {
     /**
-     * Updates an entry.
+     * Updates hints with deltas sent by one flush of the server.
+     *
+     * @throws MpcAbortException the protocol failure aborts.
      */
     default void update() throws MpcAbortException {
         update(1);
     }
 
     /**
-     * Updates entries.
+     * Updates hints with deltas sent by the given number of flushes of the server.
      *
-     * @param updateNum update num.
+     * @param flushNum number of flushes.
+     * @throws MpcAbortException the protocol failure aborts.
      */
-    void update(int updateNum) throws MpcAbortException;
+    void update(int flushNum) throws MpcAbortException;
 }
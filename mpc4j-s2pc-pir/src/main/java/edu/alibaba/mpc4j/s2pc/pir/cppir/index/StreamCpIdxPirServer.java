@@ -2,6 +2,12 @@ package edu.alibaba.mpc4j.s2pc.pir.cppir.index;
 
 /**
  * Updatable client-specific preprocessing index PIR server.
+ * <p>
+ * The server can either update and immediately send deltas via {@link #update(int[], byte[][])}, or log updates via
+ * {@link #logUpdate(int[], byte[][])} while serving queries, and later send all coalesced deltas via
+ * {@link #flushUpdates()}. Each flush sends exactly one message, which the client handles by one call of
+ * {@link StreamCpIdxPirClient#update()}.
+ * </p>
  *
  * @author Weiran Liu
  * @date 2024/10/10
@@ -18,10 +24,40 @@ public interface StreamCpIdxPirServer extends CpIdxPirServer {
     }
 
     /**
-     * Updates entries.
+     * Updates entries and sends the deltas in one message.
      *
      * @param xs      indexes.
      * @param entries entries.
      */
-    void update(int[] xs, byte[][] entries);
+    default void update(int[] xs, byte[][] entries) {
+        logUpdate(xs, entries);
+        flushUpdates();
+    }
+
+    /**
+     * Logs an update without any communication. The database is unchanged until the next {@link #flushUpdates()},
+     * which applies the logged update together with its hint delta, so that queries before then see the old entry.
+     *
+     * @param i     index.
+     * @param entry entry.
+     */
+    default void logUpdate(int i, byte[] entry) {
+        logUpdate(new int[]{i}, new byte[][]{entry});
+    }
+
+    /**
+     * Logs updates without any communication. The database is unchanged until the next {@link #flushUpdates()},
+     * which applies the logged updates together with their hint deltas, so that queries before then see old entries.
+     *
+     * @param xs      indexes.
+     * @param entries entries.
+     */
+    void logUpdate(int[] xs, byte[][] entries);
+
+    /**
+     * Applies all logged updates to the database, sends their deltas in one message, and clears the log.
+     *
+     * @return number of distinct updated indexes.
+     */
+    int flushUpdates();
 }
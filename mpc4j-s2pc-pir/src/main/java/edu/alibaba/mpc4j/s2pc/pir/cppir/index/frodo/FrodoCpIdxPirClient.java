@@ -4,11 +4,15 @@ import edu.alibaba.mpc4j.common.rpc.*;
 import edu.alibaba.mpc4j.common.structure.matrix.IntMatrix;
 import edu.alibaba.mpc4j.common.structure.vector.IntVector;
 import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.AbstractCpIdxPirClient;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirUpdateLog;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.HintCpIdxPirClient;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.StreamCpIdxPirClient;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.frodo.FrodoCpIdxPirPtoDesc.PtoStep;
 
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -20,7 +24,7 @@ import java.util.stream.IntStream;
  * @author Weiran Liu
  * @date 2024/7/24
  */
-public class FrodoCpIdxPirClient extends AbstractCpIdxPirClient implements HintCpIdxPirClient {
+public class FrodoCpIdxPirClient extends AbstractCpIdxPirClient implements HintCpIdxPirClient, StreamCpIdxPirClient {
     /**
      * matrix A
      */
@@ -154,4 +158,45 @@ public class FrodoCpIdxPirClient extends AbstractCpIdxPirClient implements HintC
         stopWatch.reset();
         logStepInfo(PtoState.PTO_STEP, 1, 1, keyTime, "Client updates keys");
     }
+
+    @Override
+    public void update(int flushNum) throws MpcAbortException {
+        MathPreconditions.checkPositive("flush_num", flushNum);
+        logPhaseInfo(PtoState.PTO_BEGIN);
+
+        for (int flush = 0; flush < flushNum; flush++) {
+            List<byte[]> updatePayload = receiveOtherPartyPayload(PtoStep.SERVER_SEND_UPDATE.ordinal());
+
+            stopWatch.start();
+            int[] xs = CpIdxPirUpdateLog.parseIndexes(updatePayload, n, byteL * Short.BYTES);
+            ByteBuffer deltaByteBuffer = updatePayload.isEmpty()
+                ? ByteBuffer.allocate(0) : ByteBuffer.wrap(updatePayload.get(1));
+            int[] matrixElementsA = matrixA.getFlatElements();
+            int[] matrixElementsM = matrixM.getFlatElements();
+            for (int x : xs) {
+                for (int entryIndex = 0; entryIndex < byteL; entryIndex++) {
+                    int delta = deltaByteBuffer.getShort();
+                    if (delta == 0) {
+                        continue;
+                    }
+                    // D[x][j] += Δ, so that M[·][j] = A · D[·][j] += Δ · A[·][x]
+                    for (int k = 0; k < FrodoCpIdxPirPtoDesc.N; k++) {
+                        matrixElementsM[k * byteL + entryIndex] += delta * matrixElementsA[k * n + x];
+                    }
+                    // c[j] = (s · M)[j] += Δ · (s · A)[x] = Δ · b[x]
+                    for (int batchIndex = 0; batchIndex < bs.length; batchIndex++) {
+                        cs[batchIndex].addi(entryIndex, delta * bs[batchIndex].getElement(x));
+                    }
+                }
+            }
+            stopWatch.stop();
+            long updateTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+            stopWatch.reset();
+            logStepInfo(
+                PtoState.PTO_STEP, flush + 1, flushNum, updateTime, "Client updates " + xs.length + " entries"
+            );
+        }
+
+        logPhaseInfo(PtoState.PTO_END);
+    }
 }
@@ -45,6 +45,10 @@ class FrodoCpIdxPirPtoDesc implements PtoDesc {
          * server send response
          */
         SERVER_SEND_RESPONSE,
+        /**
+         * server send update
+         */
+        SERVER_SEND_UPDATE,
     }
 
     /**
@@ -1,15 +1,19 @@
 package edu.alibaba.mpc4j.s2pc.pir.cppir.index.frodo;
 
 import edu.alibaba.mpc4j.common.rpc.*;
-import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
+import edu.alibaba.mpc4j.common.structure.database.Database;
 import edu.alibaba.mpc4j.common.structure.matrix.IntMatrix;
+import edu.alibaba.mpc4j.common.structure.matrix.NarrowIntMatrix;
 import edu.alibaba.mpc4j.common.structure.vector.IntVector;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.AbstractCpIdxPirServer;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirUpdateLog;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.HintCpIdxPirServer;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.StreamCpIdxPirServer;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.frodo.FrodoCpIdxPirPtoDesc.PtoStep;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -21,18 +25,22 @@ import java.util.stream.IntStream;
  * @author Weiran Liu
  * @date 2024/7/24
  */
-public class FrodoCpIdxPirServer extends AbstractCpIdxPirServer implements HintCpIdxPirServer {
+public class FrodoCpIdxPirServer extends AbstractCpIdxPirServer implements HintCpIdxPirServer, StreamCpIdxPirServer {
     /**
      * database
      */
-    private IntMatrix db;
+    private NarrowIntMatrix db;
+    /**
+     * update log
+     */
+    private CpIdxPirUpdateLog updateLog;
 
     public FrodoCpIdxPirServer(Rpc serverRpc, Party clientParty, FrodoCpIdxPirConfig config) {
         super(FrodoCpIdxPirPtoDesc.getInstance(), serverRpc, clientParty, config);
     }
 
     @Override
-    public void init(NaiveDatabase database, int matchBatchNum) throws MpcAbortException {
+    public void init(Database database, int matchBatchNum) throws MpcAbortException {
         setInitInput(database, matchBatchNum);
         logPhaseInfo(PtoState.INIT_BEGIN);
 
@@ -49,14 +57,14 @@ public class FrodoCpIdxPirServer extends AbstractCpIdxPirServer implements HintC
         stopWatch.start();
         // server runs D ← parse(DB, ρ), where parse encodes the DB into a matrix D ∈ Z_q^{m×ω}, where ω = w/ρ.
         // here we set ρ = 8, so that ω = byteL
-        db = IntMatrix.createZeros(n, byteL);
+        db = NarrowIntMatrix.createZeros(n, byteL);
+        byte[] dbElements = db.getFlatElements();
         for (int i = 0; i < database.rows(); i++) {
             byte[] entry = database.getBytesData(i);
             assert entry.length == byteL;
-            for (int j = 0; j < byteL; j++) {
-                db.set(i, j, entry[j] & 0xFF);
-            }
+            System.arraycopy(entry, 0, dbElements, i * byteL, byteL);
         }
+        updateLog = new CpIdxPirUpdateLog(byteL);
         // server runs M ← A · D, recall that A ∈ Z_q^{n×m}
         IntMatrix matrixA = IntMatrix.createRandom(FrodoCpIdxPirPtoDesc.N, n, seed);
         IntMatrix matrixM = matrixA.mul(db);
@@ -101,4 +109,36 @@ public class FrodoCpIdxPirServer extends AbstractCpIdxPirServer implements HintC
         List<byte[]> responsePayload = Collections.singletonList(IntUtils.intArrayToByteArray(ans.getElements()));
         sendOtherPartyPayload(PtoStep.SERVER_SEND_RESPONSE.ordinal(), responsePayload);
     }
+
+    @Override
+    public void logUpdate(int[] xs, byte[][] entries) {
+        setUpdateInput(xs, entries);
+        // D is unchanged until flushing, so that queries are consistent with hints in the client
+        for (int round = 0; round < xs.length; round++) {
+            updateLog.log(xs[round], entries[round]);
+        }
+    }
+
+    @Override
+    public int flushUpdates() {
+        checkInitialized();
+        logPhaseInfo(PtoState.PTO_BEGIN);
+
+        stopWatch.start();
+        int updateNum = updateLog.size();
+        // M = A · D is linear in D, the client updates M with deltas in Z_q and A, instead of receiving M
+        byte[] dbElements = db.getFlatElements();
+        List<byte[]> serverUpdatePayload = updateLog.flushSubDeltas(
+            x -> Arrays.copyOfRange(dbElements, x * byteL, (x + 1) * byteL),
+            (entry, x) -> System.arraycopy(entry, 0, dbElements, x * byteL, byteL)
+        );
+        sendOtherPartyPayload(PtoStep.SERVER_SEND_UPDATE.ordinal(), serverUpdatePayload);
+        stopWatch.stop();
+        long updateTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        stopWatch.reset();
+        logStepInfo(PtoState.PTO_STEP, 1, 1, updateTime, "Server flushes " + updateNum + " updated entries");
+
+        logPhaseInfo(PtoState.PTO_END);
+        return updateNum;
+    }
 }
@@ -5,9 +5,9 @@ import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.common.tool.bitvector.BitVector;
 import edu.alibaba.mpc4j.common.tool.bitvector.BitVectorFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
-import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.FixedKeyPrp;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.AbstractCpIdxPirClient;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirUpdateLog;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.StreamCpIdxPirClient;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.mir.MirCpIdxPirPtoDesc.PtoStep;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.mir.hint.*;
@@ -393,48 +393,72 @@ public class MirCpIdxPirClient extends AbstractCpIdxPirClient implements StreamC
     }
 
     @Override
-    public void update(int updateNum) throws MpcAbortException {
-        MathPreconditions.checkPositive("update_num", updateNum);
+    public void update(int flushNum) throws MpcAbortException {
+        MathPreconditions.checkPositive("flush_num", flushNum);
         logPhaseInfo(PtoState.PTO_BEGIN);
 
-        for (int round = 0; round < updateNum; round++) {
+        for (int flush = 0; flush < flushNum; flush++) {
             List<byte[]> updatePayload = receiveOtherPartyPayload(PtoStep.SERVER_SEND_UPDATE.ordinal());
 
             stopWatch.start();
-            MpcAbortPreconditions.checkArgument(updatePayload.size() == 2);
-            // Parse (i, u) ← δ_ℓ
-            int i = IntUtils.byteArrayToInt(updatePayload.get(0));
-            byte[] u = updatePayload.get(1);
-            int chunkId = i / chunkSize;
-            int chunkIndex = Math.abs(i % chunkSize);
-            // update primary hints
-            Stream<MirPrimaryHint> primaryHintStream = parallel ? Arrays.stream(primaryHints).parallel() : Arrays.stream(primaryHints);
-            primaryHintStream.forEach(primaryHint -> {
-                if (primaryHint.contains(i)) {
-                    primaryHint.xori(u);
-                }
-            });
-            // update backup hints
-            Stream<MirBackupHint> backupHintStream = parallel ? backupHints.stream().parallel() : backupHints.stream();
-            backupHintStream.forEach(backupHint -> {
-                int offset = backupHint.expandOffset(chunkId);
-                if (offset == chunkIndex) {
-                    if (backupHint.containsChunkId(chunkId)) {
-                        backupHint.xoriLeftParity(u);
-                    } else {
-                        backupHint.xoriRightParity(u);
+            // Parse {(i, u)} ← δ
+            int[] xs = CpIdxPirUpdateLog.parseIndexes(updatePayload, n, byteL);
+            if (xs.length > 0) {
+                ByteBuffer deltaByteBuffer = ByteBuffer.wrap(updatePayload.get(1));
+                // group deltas by chunk ID, so that each hint expands its offset once for each updated chunk
+                TIntObjectMap<TIntObjectMap<byte[]>> chunkDeltaMap = new TIntObjectHashMap<>();
+                for (int i : xs) {
+                    byte[] u = new byte[byteL];
+                    deltaByteBuffer.get(u);
+                    int chunkId = i / chunkSize;
+                    int chunkIndex = i % chunkSize;
+                    if (!chunkDeltaMap.containsKey(chunkId)) {
+                        chunkDeltaMap.put(chunkId, new TIntObjectHashMap<>());
+                    }
+                    chunkDeltaMap.get(chunkId).put(chunkIndex, u);
+                    // update cache entries
+                    if (localCacheEntries.containsKey(i)) {
+                        // replace rather than XOR in place, since cached entries are returned by previous queries
+                        localCacheEntries.put(i, BytesUtils.xor(localCacheEntries.get(i), u));
                     }
                 }
-            });
-            // update cache entries
-            if (localCacheEntries.containsKey(i)) {
-                byte[] entry = localCacheEntries.get(i);
-                BytesUtils.xori(entry, u);
+                int[] chunkIds = chunkDeltaMap.keys();
+                List<TIntObjectMap<byte[]>> chunkDeltas = Arrays.stream(chunkIds)
+                    .mapToObj(chunkDeltaMap::get)
+                    .toList();
+                // update primary hints
+                Stream<MirPrimaryHint> primaryHintStream = parallel ? Arrays.stream(primaryHints).parallel() : Arrays.stream(primaryHints);
+                primaryHintStream.forEach(primaryHint -> {
+                    for (int index = 0; index < chunkIds.length; index++) {
+                        if (primaryHint.containsChunkId(chunkIds[index])) {
+                            byte[] u = chunkDeltas.get(index).get(primaryHint.expandOffset(chunkIds[index]));
+                            if (u != null) {
+                                primaryHint.xori(u);
+                            }
+                        }
+                    }
+                });
+                // update backup hints
+                Stream<MirBackupHint> backupHintStream = parallel ? backupHints.stream().parallel() : backupHints.stream();
+                backupHintStream.forEach(backupHint -> {
+                    for (int index = 0; index < chunkIds.length; index++) {
+                        byte[] u = chunkDeltas.get(index).get(backupHint.expandOffset(chunkIds[index]));
+                        if (u != null) {
+                            if (backupHint.containsChunkId(chunkIds[index])) {
+                                backupHint.xoriLeftParity(u);
+                            } else {
+                                backupHint.xoriRightParity(u);
+                            }
+                        }
+                    }
+                });
             }
             stopWatch.stop();
             long updateTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
             stopWatch.reset();
-            logStepInfo(PtoState.PTO_STEP, 1, 1, updateTime, "Client updates " + (round + 1) + "-th entry");
+            logStepInfo(
+                PtoState.PTO_STEP, flush + 1, flushNum, updateTime, "Client updates " + xs.length + " entries"
+            );
         }
 
         logPhaseInfo(PtoState.PTO_END);
@@ -1,7 +1,7 @@
 package edu.alibaba.mpc4j.s2pc.pir.cppir.index.pai;
 
 import edu.alibaba.mpc4j.common.rpc.*;
-import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
+import edu.alibaba.mpc4j.common.structure.database.Database;
 import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
@@ -42,7 +42,7 @@ public class PaiCpIdxPirServer extends AbstractCpIdxPirServer {
     }
 
     @Override
-    public void init(NaiveDatabase database, int maxBatchNum) throws MpcAbortException {
+    public void init(Database database, int maxBatchNum) throws MpcAbortException {
         setInitInput(database, maxBatchNum);
         logPhaseInfo(PtoState.INIT_BEGIN);
 
@@ -1,13 +1,11 @@
 package edu.alibaba.mpc4j.s2pc.pir.cppir.index.piano;
 
-import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.*;
-import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
-import edu.alibaba.mpc4j.common.structure.database.ZlDatabase;
-import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.structure.database.Database;
+import edu.alibaba.mpc4j.common.structure.database.OffHeapDatabase;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
-import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.AbstractCpIdxPirServer;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirUpdateLog;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.StreamCpIdxPirServer;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.piano.PianoCpIdxPirPtoDesc.PtoStep;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.piano.hint.PianoHint;
@@ -39,7 +37,11 @@ public class PianoCpIdxPirServer extends AbstractCpIdxPirServer implements Strea
     /**
      * padding database
      */
-    private ZlDatabase paddingDatabase;
+    private OffHeapDatabase paddingDatabase;
+    /**
+     * update log
+     */
+    private CpIdxPirUpdateLog updateLog;
     /**
      * query num for each preprocessing round
      */
@@ -54,7 +56,7 @@ public class PianoCpIdxPirServer extends AbstractCpIdxPirServer implements Strea
     }
 
     @Override
-    public void init(NaiveDatabase database, int maxBatchNum) throws MpcAbortException {
+    public void init(Database database, int maxBatchNum) throws MpcAbortException {
         setInitInput(database, maxBatchNum);
         logPhaseInfo(PtoState.INIT_BEGIN);
 
@@ -63,15 +65,9 @@ public class PianoCpIdxPirServer extends AbstractCpIdxPirServer implements Strea
         chunkNum = PianoCpIdxPirUtils.getChunkNum(n);
         assert chunkSize * chunkNum >= n
             : "chunkSize * chunkNum must be greater than or equal to n (" + n + "): " + chunkSize * chunkNum;
-        // pad the database
-        byte[][] paddingData = new byte[chunkSize * chunkNum][byteL];
-        for (int x = 0; x < n; x++) {
-            paddingData[x] = database.getBytesData(x);
-        }
-        for (int x = n; x < chunkSize * chunkNum; x++) {
-            paddingData[x] = BytesUtils.randomByteArray(byteL, l, secureRandom);
-        }
-        paddingDatabase = ZlDatabase.create(l, paddingData);
+        // pad the database out of the heap, so that the server can handle databases larger than the heap
+        paddingDatabase = OffHeapDatabase.createPadding(database, chunkSize * chunkNum, secureRandom);
+        updateLog = new CpIdxPirUpdateLog(byteL);
         roundQueryNum = PianoCpIdxPirUtils.getRoundQueryNum(n);
         stopWatch.stop();
         long paddingTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
@@ -100,7 +96,7 @@ public class PianoCpIdxPirServer extends AbstractCpIdxPirServer implements Strea
                 // concatenate database into the whole byte buffer
                 ByteBuffer byteBuffer = ByteBuffer.allocate(byteL * chunkSize);
                 for (int offset = 0; offset < chunkSize; offset++) {
-                    byteBuffer.put(paddingDatabase.getBytesData(chunkId * chunkSize + offset));
+                    byteBuffer.put(paddingDatabase.getRowView(chunkId * chunkSize + offset));
                 }
                 List<byte[]> streamRequestPayload = Collections.singletonList(byteBuffer.array());
                 sendOtherPartyPayload(PtoStep.SERVER_SEND_STREAM_DATABASE_REQUEST.ordinal(), streamRequestPayload);
@@ -195,33 +191,32 @@ public class PianoCpIdxPirServer extends AbstractCpIdxPirServer implements Strea
     }
 
     @Override
-    public void update(int[] xs, byte[][] entries) {
-        MathPreconditions.checkEqual("xs.length", "entries.length", xs.length, entries.length);
-        logPhaseInfo(PtoState.PTO_BEGIN);
-
+    public void logUpdate(int[] xs, byte[][] entries) {
+        setUpdateInput(xs, entries);
+        // D is unchanged until flushing, so that queries are consistent with hints in the client
         for (int round = 0; round < xs.length; round++) {
-            stopWatch.start();
-            int x = xs[round];
-            byte[] entry = entries[round];
-            MathPreconditions.checkNonNegativeInRange("x", x, n);
-            Preconditions.checkArgument(BytesUtils.isFixedReduceByteArray(entry, byteL, l));
-            // δ ← (i, D[i] ⊕ d)
-            byte[] delta = new byte[byteL];
-            BytesUtils.xori(delta, paddingDatabase.getBytesData(x));
-            BytesUtils.xori(delta, entry);
-            // D[i] ← d
-            paddingDatabase.setBytesData(x, entry);
-            // Return δ
-            List<byte[]> serverUpdatePayload = new LinkedList<>();
-            serverUpdatePayload.add(IntUtils.intToByteArray(x));
-            serverUpdatePayload.add(delta);
-            sendOtherPartyPayload(PtoStep.SERVER_SEND_UPDATE.ordinal(), serverUpdatePayload);
-            stopWatch.stop();
-            long updateTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
-            stopWatch.reset();
-            logStepInfo(PtoState.PTO_STEP, 1, 1, updateTime, "Server updates " + (round + 1) + "-th entry");
+            updateLog.log(xs[round], entries[round]);
         }
+    }
+
+    @Override
+    public int flushUpdates() {
+        checkInitialized();
+        logPhaseInfo(PtoState.PTO_BEGIN);
+
+        stopWatch.start();
+        int updateNum = updateLog.size();
+        // for each logged (i, d), δ ← (i, D[i] ⊕ d), D[i] ← d, return all δ in one message
+        List<byte[]> serverUpdatePayload = updateLog.flushXorDeltas(
+            paddingDatabase::getBytesData, (entry, x) -> paddingDatabase.setBytesData(x, entry)
+        );
+        sendOtherPartyPayload(PtoStep.SERVER_SEND_UPDATE.ordinal(), serverUpdatePayload);
+        stopWatch.stop();
+        long updateTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        stopWatch.reset();
+        logStepInfo(PtoState.PTO_STEP, 1, 1, updateTime, "Server flushes " + updateNum + " updated entries");
 
         logPhaseInfo(PtoState.PTO_END);
+        return updateNum;
     }
 }
@@ -9,9 +9,9 @@ import edu.alibaba.mpc4j.common.tool.crypto.prp.Prp;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.PrpFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
-import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import edu.alibaba.mpc4j.crypto.algs.iprf.InversePrf;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.AbstractCpIdxPirClient;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirUpdateLog;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.StreamCpIdxPirClient;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.mir.MirCpIdxPirUtils;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.plinko.MirPlinkoCpIdxPirPtoDesc.PtoStep;
@@ -645,65 +645,71 @@ public class MirPlinkoCpIdxPirClient extends AbstractCpIdxPirClient implements S
     }
 
     @Override
-    public void update(int updateNum) throws MpcAbortException {
-        MathPreconditions.checkPositive("update_num", updateNum);
+    public void update(int flushNum) throws MpcAbortException {
+        MathPreconditions.checkPositive("flush_num", flushNum);
         logPhaseInfo(PtoState.PTO_BEGIN);
 
-        for (int round = 0; round < updateNum; round++) {
+        for (int flush = 0; flush < flushNum; flush++) {
             List<byte[]> updatePayload = receiveOtherPartyPayload(PtoStep.SERVER_SEND_UPDATE.ordinal());
 
             stopWatch.start();
-            MpcAbortPreconditions.checkArgument(updatePayload.size() == 2);
-            // Parse (i, u) ← δ_ℓ
-            int i = IntUtils.byteArrayToInt(updatePayload.get(0));
-            byte[] u = updatePayload.get(1);
-            // (α, β) ← (⌊i/w⌋, i mod w)
-            int alpha = i / blockSize;
-            int beta = Math.abs(i % blockSize);
-            // For each j ∈ iF.F^{−1}(K[α], β):
-            int[] js = inversePrfs[alpha].inversePrf(beta);
-            for (int j : js) {
-                // If j < λw and H[j] != ⊥: If α ∈ P: H[j] ← H[j] ⊕ u. This handles regular hints
-                if (j < m1 && hs[j] != null) {
-                    if (primaryContainsBlockId(j, alpha)) {
-                        BytesUtils.xori(hs[j], u);
+            // Parse {(i, u)} ← δ
+            int[] xs = CpIdxPirUpdateLog.parseIndexes(updatePayload, n, byteL);
+            ByteBuffer deltaByteBuffer = updatePayload.isEmpty()
+                ? ByteBuffer.allocate(0) : ByteBuffer.wrap(updatePayload.get(1));
+            for (int i : xs) {
+                byte[] u = new byte[byteL];
+                deltaByteBuffer.get(u);
+                // (α, β) ← (⌊i/w⌋, i mod w)
+                int alpha = i / blockSize;
+                int beta = Math.abs(i % blockSize);
+                // For each j ∈ iF.F^{−1}(K[α], β):
+                int[] js = inversePrfs[alpha].inversePrf(beta);
+                for (int j : js) {
+                    // If j < λw and H[j] != ⊥: If α ∈ P: H[j] ← H[j] ⊕ u. This handles regular hints
+                    if (j < m1 && hs[j] != null) {
+                        if (primaryContainsBlockId(j, alpha)) {
+                            BytesUtils.xori(hs[j], u);
+                        }
                     }
-                }
-                // If j ≥ λw and H[j] != ⊥: If α ∈ P: H[j] ← (P, x, p ⊕ u) This handles promoted backup hints
-                if (j >= m1 && hs[j] != null) {
-                    if (backupOnlineCutoffContainsBlockId(j, alpha)) {
-                        BytesUtils.xori(hs[j], u);
+                    // If j ≥ λw and H[j] != ⊥: If α ∈ P: H[j] ← (P, x, p ⊕ u) This handles promoted backup hints
+                    if (j >= m1 && hs[j] != null) {
+                        if (backupOnlineCutoffContainsBlockId(j, alpha)) {
+                            BytesUtils.xori(hs[j], u);
+                        }
                     }
-                }
-                // If j ≥ λw and T[j] != ⊥. This handles backup hints
-                if (j >= m1 && tls[j] != null) {
-                    assert trs[j] != null;
-                    if (backupOnlineCutoffContainsBlockId(j, alpha)) {
-                        // If α ∈ P: T[j] ← (P, p1 ⊕ u, p2)
-                        BytesUtils.xori(tls[j], u);
-                    } else {
-                        // If α !∈ P: T[j] ← (P, p1, p2 ⊕ u)
-                        BytesUtils.xori(trs[j], u);
+                    // If j ≥ λw and T[j] != ⊥. This handles backup hints
+                    if (j >= m1 && tls[j] != null) {
+                        assert trs[j] != null;
+                        if (backupOnlineCutoffContainsBlockId(j, alpha)) {
+                            // If α ∈ P: T[j] ← (P, p1 ⊕ u, p2)
+                            BytesUtils.xori(tls[j], u);
+                        } else {
+                            // If α !∈ P: T[j] ← (P, p1, p2 ⊕ u)
+                            BytesUtils.xori(trs[j], u);
+                        }
                     }
                 }
-            }
-            // If Q[i] != ⊥: this handles target promoted backup hints
-            if (cacheHintIndexes.containsKey(i)) {
-                // (a, j) ← Q[i] (where a is the answer); (i, p) ← H[j].
-                assert cacheHintIndexes.containsKey(i);
-                int j = cacheHintIndexes.get(i);
-                // update unused promoted backup hints
-                if (hs[j] != null) {
-                    BytesUtils.xori(hs[j], u);
+                // If Q[i] != ⊥: this handles target promoted backup hints
+                if (cacheHintIndexes.containsKey(i)) {
+                    // (a, j) ← Q[i] (where a is the answer); (i, p) ← H[j].
+                    assert cacheHintIndexes.containsKey(i);
+                    int j = cacheHintIndexes.get(i);
+                    // update unused promoted backup hints
+                    if (hs[j] != null) {
+                        BytesUtils.xori(hs[j], u);
+                    }
+                    // Here we also need to update entry in cache.
+                    byte[] newEntry = BytesUtils.xor(localCacheEntries.get(i), u);
+                    localCacheEntries.put(i, newEntry);
                 }
-                // Here we also need to update entry in cache.
-                byte[] entry = localCacheEntries.get(i);
-                BytesUtils.xori(entry, u);
             }
             stopWatch.stop();
             long updateTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
             stopWatch.reset();
-            logStepInfo(PtoState.PTO_STEP, 1, 1, updateTime, "Client updates " + (round + 1) + "-th entry");
+            logStepInfo(
+                PtoState.PTO_STEP, flush + 1, flushNum, updateTime, "Client updates " + xs.length + " entries"
+            );
         }
 
         logPhaseInfo(PtoState.PTO_END);
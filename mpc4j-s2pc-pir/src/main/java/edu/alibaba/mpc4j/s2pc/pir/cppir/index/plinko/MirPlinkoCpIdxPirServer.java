@@ -1,16 +1,14 @@
 package edu.alibaba.mpc4j.s2pc.pir.cppir.index.plinko;
 
-import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.*;
-import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
+import edu.alibaba.mpc4j.common.structure.database.Database;
 import edu.alibaba.mpc4j.common.structure.database.ZlDatabase;
-import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.common.tool.bitvector.BitVector;
 import edu.alibaba.mpc4j.common.tool.bitvector.BitVectorFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
-import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.AbstractCpIdxPirServer;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirUpdateLog;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.StreamCpIdxPirServer;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.plinko.MirPlinkoCpIdxPirPtoDesc.PtoStep;
 
@@ -47,6 +45,10 @@ public class MirPlinkoCpIdxPirServer extends AbstractCpIdxPirServer implements S
      * padding database
      */
     private ZlDatabase paddingDatabase;
+    /**
+     * update log
+     */
+    private CpIdxPirUpdateLog updateLog;
     /**
      * query num for each preprocessing round
      */
@@ -62,7 +64,7 @@ public class MirPlinkoCpIdxPirServer extends AbstractCpIdxPirServer implements S
     }
 
     @Override
-    public void init(NaiveDatabase database, int matchBatchNum) throws MpcAbortException {
+    public void init(Database database, int matchBatchNum) throws MpcAbortException {
         setInitInput(database, matchBatchNum);
         logPhaseInfo(PtoState.INIT_BEGIN);
 
@@ -81,6 +83,7 @@ public class MirPlinkoCpIdxPirServer extends AbstractCpIdxPirServer implements S
             paddingData[x] = BytesUtils.randomByteArray(byteL, l, secureRandom);
         }
         paddingDatabase = ZlDatabase.create(l, paddingData);
+        updateLog = new CpIdxPirUpdateLog(byteL);
         int defaultQ = MirPlinkoCpIdxPirUtils.getRoundQueryNum(n);
         q = specificQ < 0 ? defaultQ : specificQ;
         stopWatch.stop();
@@ -199,33 +202,32 @@ public class MirPlinkoCpIdxPirServer extends AbstractCpIdxPirServer implements S
     }
 
     @Override
-    public void update(int[] xs, byte[][] entries) {
-        MathPreconditions.checkEqual("xs.length", "entries.length", xs.length, entries.length);
-        logPhaseInfo(PtoState.PTO_BEGIN);
-
+    public void logUpdate(int[] xs, byte[][] entries) {
+        setUpdateInput(xs, entries);
+        // D is unchanged until flushing, so that queries are consistent with hints in the client
         for (int round = 0; round < xs.length; round++) {
-            stopWatch.start();
-            int x = xs[round];
-            byte[] entry = entries[round];
-            MathPreconditions.checkNonNegativeInRange("x", x, n);
-            Preconditions.checkArgument(BytesUtils.isFixedReduceByteArray(entry, byteL, l));
-            // δ ← (i, D[i] ⊕ d)
-            byte[] delta = new byte[byteL];
-            BytesUtils.xori(delta, paddingDatabase.getBytesData(x));
-            BytesUtils.xori(delta, entry);
-            // D[i] ← d
-            paddingDatabase.setBytesData(x, entry);
-            // Return δ
-            List<byte[]> serverUpdatePayload = new LinkedList<>();
-            serverUpdatePayload.add(IntUtils.intToByteArray(x));
-            serverUpdatePayload.add(delta);
-            sendOtherPartyPayload(PtoStep.SERVER_SEND_UPDATE.ordinal(), serverUpdatePayload);
-            stopWatch.stop();
-            long updateTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
-            stopWatch.reset();
-            logStepInfo(PtoState.PTO_STEP, 1, 1, updateTime, "Server updates " + (round + 1) + "-th entry");
+            updateLog.log(xs[round], entries[round]);
         }
+    }
+
+    @Override
+    public int flushUpdates() {
+        checkInitialized();
+        logPhaseInfo(PtoState.PTO_BEGIN);
+
+        stopWatch.start();
+        int updateNum = updateLog.size();
+        // for each logged (i, d), δ ← (i, D[i] ⊕ d), D[i] ← d, return all δ in one message
+        List<byte[]> serverUpdatePayload = updateLog.flushXorDeltas(
+            paddingDatabase::getBytesData, (entry, x) -> paddingDatabase.setBytesData(x, entry)
+        );
+        sendOtherPartyPayload(PtoStep.SERVER_SEND_UPDATE.ordinal(), serverUpdatePayload);
+        stopWatch.stop();
+        long updateTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        stopWatch.reset();
+        logStepInfo(PtoState.PTO_STEP, 1, 1, updateTime, "Server flushes " + updateNum + " updated entries");
 
         logPhaseInfo(PtoState.PTO_END);
+        return updateNum;
     }
 }
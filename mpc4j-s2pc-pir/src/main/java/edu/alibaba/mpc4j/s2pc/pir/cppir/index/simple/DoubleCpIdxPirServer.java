@@ -1,8 +1,9 @@
 package edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple;
 
 import edu.alibaba.mpc4j.common.rpc.*;
-import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
+import edu.alibaba.mpc4j.common.structure.database.Database;
 import edu.alibaba.mpc4j.common.structure.matrix.IntMatrix;
+import edu.alibaba.mpc4j.common.structure.matrix.NarrowIntMatrix;
 import edu.alibaba.mpc4j.common.structure.vector.IntVector;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
@@ -28,6 +29,10 @@ public class DoubleCpIdxPirServer extends AbstractCpIdxPirServer implements Hint
      * κ
      */
     private static final int KAPPA = Integer.SIZE / Byte.SIZE;
+    /**
+     * max number of queries answered in one scan of the databases
+     */
+    private static final int QUERY_WINDOW_SIZE = 1 << 5;
     /**
      * LWE dimension
      */
@@ -41,9 +46,9 @@ public class DoubleCpIdxPirServer extends AbstractCpIdxPirServer implements Hint
      */
     private int columns;
     /**
-     * db ∈ Z_q^{ℓ × m}, we totally have [byteL] db, here ℓ is rows, m is columns, where we store the transposed db.
+     * db ∈ Z_q^{ℓ × m}, we totally have [byteL] db, here ℓ is rows, m is columns, each entry is in [0, 2^8).
      */
-    private IntMatrix[] tdb;
+    private NarrowIntMatrix[] dbs;
     /**
      * each hint_s ∈ Z_q^{n × ℓ}, we totally have [byteL]×[κ] hint_s, where κ = log(q) / log(p) = 32 / 8 = 4.
      */
@@ -60,7 +65,7 @@ public class DoubleCpIdxPirServer extends AbstractCpIdxPirServer implements Hint
     }
 
     @Override
-    public void init(NaiveDatabase database, int matchBatchNum) throws MpcAbortException {
+    public void init(Database database, int matchBatchNum) throws MpcAbortException {
         setInitInput(database, matchBatchNum);
         logPhaseInfo(PtoState.INIT_BEGIN);
 
@@ -79,7 +84,7 @@ public class DoubleCpIdxPirServer extends AbstractCpIdxPirServer implements Hint
         int[] sizes = DoubleCpIdxPirPtoDesc.getMatrixSize(n);
         rows = sizes[0];
         columns = sizes[1];
-        tdb = new IntMatrix[byteL];
+        dbs = new NarrowIntMatrix[byteL];
         transposeExtendHintS = new IntMatrix[byteL][KAPPA];
         byte[][] byteArrayDatabase = database.getBytesData();
         // A1 ∈ Z_q^{m × n}, here we directly generated the transposed version
@@ -91,15 +96,15 @@ public class DoubleCpIdxPirServer extends AbstractCpIdxPirServer implements Hint
         IntStream byteIndexIntStream = parallel ? IntStream.range(0, byteL).parallel() : IntStream.range(0, byteL);
         byteIndexIntStream.forEach(byteIndex -> {
             // create database
-            IntMatrix db = IntMatrix.createZeros(rows, columns);
+            NarrowIntMatrix db = NarrowIntMatrix.createZeros(rows, columns);
             for (int dataIndex = 0; dataIndex < n; dataIndex++) {
                 int iRow = dataIndex % rows;
                 int iColumn = dataIndex / rows;
-                db.set(iRow, iColumn, (byteArrayDatabase[dataIndex][byteIndex] & 0xFF));
+                db.set(iRow, iColumn, byteArrayDatabase[dataIndex][byteIndex]);
             }
-            tdb[byteIndex] = db.transpose();
+            dbs[byteIndex] = db;
             // hint_s = Decomp(A_1^T * db^T).
-            IntMatrix[] hintS = IntMatrix.decomposeToByteVector(transposeMatrixA1.mul(tdb[byteIndex]));
+            IntMatrix[] hintS = IntMatrix.decomposeToByteVector(transposeMatrixA1.mul(db.transpose()));
             for (int k = 0; k < KAPPA; k++) {
                 hintC[byteIndex][k] = hintS[k].mul(matrixA2);
                 IntMatrix extendHintS = hintS[k].concat(IntVector.createZeros(rows));
@@ -131,58 +136,89 @@ public class DoubleCpIdxPirServer extends AbstractCpIdxPirServer implements Hint
         logPhaseInfo(PtoState.PTO_BEGIN);
 
         stopWatch.start();
-        for (int i = 0; i < batchNum; i++) {
-            answer();
+        // queries in one window are answered with one scan of the databases
+        for (int from = 0; from < batchNum; from += QUERY_WINDOW_SIZE) {
+            batchAnswer(Math.min(QUERY_WINDOW_SIZE, batchNum - from));
         }
         stopWatch.stop();
         long responseTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        double amortizedTime = (double) stopWatch.getNanoTime() / batchNum / 1e6;
         stopWatch.reset();
-        logStepInfo(PtoState.PTO_STEP, 1, 1, responseTime, "Server generates reply");
+        logStepInfo(
+            PtoState.PTO_STEP, 1, 1, responseTime,
+            String.format("Server generates reply (%d queries, %.3f ms/query)", batchNum, amortizedTime)
+        );
 
         logPhaseInfo(PtoState.PTO_END);
     }
 
     @Override
     public void answer() throws MpcAbortException {
-        List<byte[]> clientQueryPayload = receiveOtherPartyPayload(PtoStep.CLIENT_SEND_QUERY.ordinal());
-        MpcAbortPreconditions.checkArgument(clientQueryPayload.size() == byteL);
-        int[][] qus = clientQueryPayload.stream()
-            .map(IntUtils::byteArrayToIntArray)
-            .toArray(int[][]::new);
-        for (int byteIndex = 0; byteIndex < byteL; byteIndex++) {
-            MpcAbortPreconditions.checkArgument(qus[byteIndex].length == rows + columns);
+        batchAnswer(1);
+    }
+
+    private void batchAnswer(int queryNum) throws MpcAbortException {
+        int[][][] qus = new int[queryNum][][];
+        for (int q = 0; q < queryNum; q++) {
+            List<byte[]> clientQueryPayload = receiveOtherPartyPayload(PtoStep.CLIENT_SEND_QUERY.ordinal());
+            MpcAbortPreconditions.checkArgument(clientQueryPayload.size() == byteL);
+            qus[q] = clientQueryPayload.stream()
+                .map(IntUtils::byteArrayToIntArray)
+                .toArray(int[][]::new);
+            for (int byteIndex = 0; byteIndex < byteL; byteIndex++) {
+                MpcAbortPreconditions.checkArgument(qus[q][byteIndex].length == rows + columns);
+            }
         }
         IntStream byteIndexIntStream = parallel ? IntStream.range(0, byteL).parallel() : IntStream.range(0, byteL);
-        List<byte[]> responsePayload = byteIndexIntStream
+        byte[][][] responses = parallelInvoke(() -> byteIndexIntStream
             .mapToObj(byteIndex -> {
                 // parse qu = (c_1, c_2)
-                int[] c1c2 = qus[byteIndex];
-                IntVector c1 = IntVector.create(Arrays.copyOfRange(c1c2, 0, columns));
-                IntVector c2 = IntVector.create(Arrays.copyOfRange(c1c2, columns, columns + rows));
-                // ans_1 ← Decomp(c_1^T · db^T) ∈ Z_q^{κ × ℓ}
-                IntVector[] ans1 = IntVector.decomposeToByteVector(tdb[byteIndex].leftMul(c1));
-                // h ← ans_1 · A_2 ∈ Z_q^{κ × n}
-                IntVector[] hs = Arrays.stream(ans1).map(matrixA2::leftMul).toArray(IntVector[]::new);
-                // [ans_h // ans_2] ← [hint_s // ans_1] · c_2 ∈ Z_q^{κ × (n+1)}
-                IntVector[] ansh2 = IntStream.range(0, KAPPA)
-                    .mapToObj(k -> {
-                        IntMatrix transposeHintS1 = transposeExtendHintS[byteIndex][k].copy();
-                        for (int t = 0; t < rows; t++) {
-                            transposeHintS1.set(t, dimension, ans1[k].getElement(t));
-                        }
-                        return transposeHintS1.leftMul(c2);
-                    })
-                    .toArray(IntVector[]::new);
-                IntBuffer ansBuffer = IntBuffer.allocate(KAPPA * dimension + KAPPA * (dimension + 1));
-                for (int k = 0; k < KAPPA; k++) {
-                    ansBuffer.put(hs[k].getElements());
+                IntVector[] c1s = new IntVector[queryNum];
+                IntVector[] c2s = new IntVector[queryNum];
+                for (int q = 0; q < queryNum; q++) {
+                    int[] c1c2 = qus[q][byteIndex];
+                    c1s[q] = IntVector.create(Arrays.copyOfRange(c1c2, 0, columns));
+                    c2s[q] = IntVector.create(Arrays.copyOfRange(c1c2, columns, columns + rows));
                 }
-                for (int k = 0; k < KAPPA; k++) {
-                    ansBuffer.put(ansh2[k].getElements());
+                // db · c_1 for all queries, computed with one scan of db
+                IntVector[] dbc1s = dbs[byteIndex].rightMul(c1s);
+                return IntStream.range(0, queryNum)
+                    .mapToObj(q -> answer(byteIndex, dbc1s[q], c2s[q]))
+                    .toArray(byte[][]::new);
+            })
+            .toArray(byte[][][]::new)
+        );
+        for (int q = 0; q < queryNum; q++) {
+            final int finalQ = q;
+            List<byte[]> responsePayload = IntStream.range(0, byteL)
+                .mapToObj(byteIndex -> responses[byteIndex][finalQ])
+                .toList();
+            sendOtherPartyPayload(PtoStep.SERVER_SEND_RESPONSE.ordinal(), responsePayload);
+        }
+    }
+
+    private byte[] answer(int byteIndex, IntVector dbc1, IntVector c2) {
+        // ans_1 ← Decomp(c_1^T · db^T) ∈ Z_q^{κ × ℓ}, computed as db · c_1 without transposing db
+        IntVector[] ans1 = IntVector.decomposeToByteVector(dbc1);
+        // h ← ans_1 · A_2 ∈ Z_q^{κ × n}
+        IntVector[] hs = Arrays.stream(ans1).map(matrixA2::leftMul).toArray(IntVector[]::new);
+        // [ans_h // ans_2] ← [hint_s // ans_1] · c_2 ∈ Z_q^{κ × (n+1)}
+        IntVector[] ansh2 = IntStream.range(0, KAPPA)
+            .mapToObj(k -> {
+                IntMatrix transposeHintS1 = transposeExtendHintS[byteIndex][k].copy();
+                for (int t = 0; t < rows; t++) {
+                    transposeHintS1.set(t, dimension, ans1[k].getElement(t));
                 }
-                return IntUtils.intArrayToByteArray(ansBuffer.array());
+                return transposeHintS1.leftMul(c2);
             })
-            .toList();
-        sendOtherPartyPayload(PtoStep.SERVER_SEND_RESPONSE.ordinal(), responsePayload);
+            .toArray(IntVector[]::new);
+        IntBuffer ansBuffer = IntBuffer.allocate(KAPPA * dimension + KAPPA * (dimension + 1));
+        for (int k = 0; k < KAPPA; k++) {
+            ansBuffer.put(hs[k].getElements());
+        }
+        for (int k = 0; k < KAPPA; k++) {
+            ansBuffer.put(ansh2[k].getElements());
+        }
+        return IntUtils.intArrayToByteArray(ansBuffer.array());
     }
 }
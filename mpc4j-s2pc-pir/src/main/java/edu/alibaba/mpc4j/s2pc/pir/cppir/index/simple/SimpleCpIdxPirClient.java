@@ -4,10 +4,13 @@ import edu.alibaba.mpc4j.common.rpc.*;
 import edu.alibaba.mpc4j.common.structure.matrix.IntMatrix;
 import edu.alibaba.mpc4j.common.structure.vector.IntVector;
 import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.GaussianLweParam;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.AbstractCpIdxPirClient;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirUpdateLog;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.HintCpIdxPirClient;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.StreamCpIdxPirClient;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple.SimpleCpIdxPirPtoDesc.PtoStep;
 
 import java.nio.ByteBuffer;
@@ -22,7 +25,7 @@ import java.util.stream.IntStream;
  * @author Liqiang Peng
  * @date 2023/9/18
  */
-public class SimpleCpIdxPirClient extends AbstractCpIdxPirClient implements HintCpIdxPirClient {
+public class SimpleCpIdxPirClient extends AbstractCpIdxPirClient implements HintCpIdxPirClient, StreamCpIdxPirClient {
     /**
      * LWE dimension
      */
@@ -217,4 +220,51 @@ public class SimpleCpIdxPirClient extends AbstractCpIdxPirClient implements Hint
         stopWatch.reset();
         logStepInfo(PtoState.PTO_STEP, 1, 1, keyTime, "Client updates keys");
     }
+
+    @Override
+    public void update(int flushNum) throws MpcAbortException {
+        MathPreconditions.checkPositive("flush_num", flushNum);
+        logPhaseInfo(PtoState.PTO_BEGIN);
+
+        for (int flush = 0; flush < flushNum; flush++) {
+            List<byte[]> updatePayload = receiveOtherPartyPayload(PtoStep.SERVER_SEND_UPDATE.ordinal());
+
+            stopWatch.start();
+            int[] xs = CpIdxPirUpdateLog.parseIndexes(updatePayload, n, byteL * Short.BYTES);
+            ByteBuffer deltaByteBuffer = updatePayload.isEmpty()
+                ? ByteBuffer.allocate(0) : ByteBuffer.wrap(updatePayload.get(1));
+            int[] transposeMatrixElements = transposeMatrixA.getFlatElements();
+            for (int x : xs) {
+                for (int entryIndex = 0; entryIndex < byteL; entryIndex++) {
+                    int delta = deltaByteBuffer.getShort();
+                    if (delta == 0) {
+                        continue;
+                    }
+                    // locate the updated element (i, j) in the p-th database, see how the server encodes databases
+                    int paddingEntryIndex = subByteL * partition - byteL + entryIndex;
+                    int p = paddingEntryIndex / subByteL;
+                    int position = x * subByteL + paddingEntryIndex % subByteL;
+                    int i = position % rows;
+                    int j = position / rows;
+                    // D[i][j] += Δ, so that hint[i] = D[i] · A += Δ · A[j], i.e., hint^T[·][i] += Δ · A^T[·][j]
+                    int[] transposeHintElements = transposeHint[p].getFlatElements();
+                    for (int k = 0; k < dimension; k++) {
+                        transposeHintElements[k * rows + i] += delta * transposeMatrixElements[k * columns + j];
+                    }
+                    // (hint · s)[i] += Δ · (A · s)[j]
+                    for (int batchIndex = 0; batchIndex < ass.length; batchIndex++) {
+                        hss[batchIndex][p].addi(i, delta * ass[batchIndex].getElement(j));
+                    }
+                }
+            }
+            stopWatch.stop();
+            long updateTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+            stopWatch.reset();
+            logStepInfo(
+                PtoState.PTO_STEP, flush + 1, flushNum, updateTime, "Client updates " + xs.length + " entries"
+            );
+        }
+
+        logPhaseInfo(PtoState.PTO_END);
+    }
 }
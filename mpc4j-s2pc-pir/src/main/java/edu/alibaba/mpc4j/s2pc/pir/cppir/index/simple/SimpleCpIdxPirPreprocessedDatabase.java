@@ -0,0 +1,176 @@
+package edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple;
+
+import edu.alibaba.mpc4j.common.structure.database.Database;
+import edu.alibaba.mpc4j.common.structure.matrix.IntMatrix;
+import edu.alibaba.mpc4j.common.structure.matrix.NarrowIntMatrix;
+import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
+import edu.alibaba.mpc4j.s2pc.pir.PreprocessedIdxPirDatabase;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Simple client-specific preprocessing index PIR preprocessed database. The seed of the random matrix A is public, so
+ * the encoded database D and the hint D · A do not depend on any client and can be shared by many Simple PIR servers.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class SimpleCpIdxPirPreprocessedDatabase implements PreprocessedIdxPirDatabase {
+    /**
+     * Preprocesses the database.
+     *
+     * @param config       config.
+     * @param database     database.
+     * @param parallel     parallel preprocessing.
+     * @param secureRandom random state used to generate the seed.
+     * @return preprocessed database.
+     */
+    public static SimpleCpIdxPirPreprocessedDatabase create(SimpleCpIdxPirConfig config, Database database,
+                                                            boolean parallel, SecureRandom secureRandom) {
+        return new SimpleCpIdxPirPreprocessedDatabase(config, database, parallel, secureRandom);
+    }
+
+    /**
+     * LWE dimension
+     */
+    private final int dimension;
+    /**
+     * database size
+     */
+    private final int n;
+    /**
+     * value bit length
+     */
+    private final int l;
+    /**
+     * seed for the random matrix A
+     */
+    private final byte[] seed;
+    /**
+     * byteL for each partition
+     */
+    private final int subByteL;
+    /**
+     * rows
+     */
+    private final int rows;
+    /**
+     * columns
+     */
+    private final int columns;
+    /**
+     * databases, each entry is in [0, 2^8)
+     */
+    private final NarrowIntMatrix[] dbs;
+    /**
+     * hint payload for each partition, each row of the hint is in one byte array
+     */
+    private final List<List<byte[]>> hintPayloads;
+
+    private SimpleCpIdxPirPreprocessedDatabase(SimpleCpIdxPirConfig config, Database database, boolean parallel,
+                                               SecureRandom secureRandom) {
+        dimension = config.getGaussianLweParam().getDimension();
+        n = database.rows();
+        l = database.getL();
+        int byteL = database.getByteL();
+        seed = BlockUtils.randomBlock(secureRandom);
+        subByteL = Math.min(byteL, SimpleCpIdxPirPtoDesc.getMaxSubByteL(n));
+        int[] sizes = SimpleCpIdxPirPtoDesc.getMatrixSize(n, byteL);
+        rows = sizes[0];
+        columns = sizes[1];
+        int partition = sizes[2];
+        // create database
+        dbs = IntStream.range(0, partition)
+            .mapToObj(p -> NarrowIntMatrix.createZeros(rows, columns))
+            .toArray(NarrowIntMatrix[]::new);
+        int i = 0;
+        int j = 0;
+        for (int dataIndex = 0; dataIndex < database.rows(); dataIndex++) {
+            byte[] element = database.getBytesData(dataIndex);
+            assert element.length == byteL;
+            byte[] paddingElement = BytesUtils.paddingByteArray(element, subByteL * partition);
+            // encode each row into partition databases
+            for (int entryIndex = 0; entryIndex < subByteL; entryIndex++) {
+                for (int p = 0; p < partition; p++) {
+                    dbs[p].set(i, j, paddingElement[p * subByteL + entryIndex]);
+                }
+                i++;
+                // change column index
+                if (i == rows) {
+                    i = 0;
+                    j++;
+                }
+            }
+        }
+        // create hint
+        IntMatrix matrixA = IntMatrix.createRandom(columns, dimension, seed);
+        IntStream intStream = parallel ? IntStream.range(0, partition).parallel() : IntStream.range(0, partition);
+        IntMatrix[] hint = intStream.mapToObj(p -> dbs[p].mul(matrixA)).toArray(IntMatrix[]::new);
+        hintPayloads = IntStream.range(0, partition)
+            .mapToObj(p -> {
+                IntStream hintIntStream = parallel ? IntStream.range(0, rows).parallel() : IntStream.range(0, rows);
+                return hintIntStream
+                    .mapToObj(rowIndex -> IntUtils.intArrayToByteArray(hint[p].getRow(rowIndex).getElements()))
+                    .toList();
+            })
+            .toList();
+    }
+
+    @Override
+    public int rows() {
+        return n;
+    }
+
+    @Override
+    public int getL() {
+        return l;
+    }
+
+    int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Gets the seed. The seed must not be modified.
+     *
+     * @return the seed.
+     */
+    byte[] getSeed() {
+        return seed;
+    }
+
+    int getSubByteL() {
+        return subByteL;
+    }
+
+    int getMatrixRows() {
+        return rows;
+    }
+
+    int getMatrixColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets databases. Databases must not be modified unless the preprocessed database is owned by one server.
+     *
+     * @return databases.
+     */
+    NarrowIntMatrix[] getDbs() {
+        return dbs;
+    }
+
+    /**
+     * Gets the hint payload of the partition. The payload is unmodifiable.
+     *
+     * @param p partition index.
+     * @return the hint payload.
+     */
+    List<byte[]> getHintPayload(int p) {
+        return hintPayloads.get(p);
+    }
+}
@@ -47,6 +47,10 @@ public class SimpleCpIdxPirPtoDesc implements PtoDesc {
          * server send response
          */
         SERVER_SEND_RESPONSE,
+        /**
+         * server send update
+         */
+        SERVER_SEND_UPDATE,
     }
 
     /**
@@ -1,21 +1,25 @@
 package edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple;
 
+import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.*;
-import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
-import edu.alibaba.mpc4j.common.structure.matrix.IntMatrix;
+import edu.alibaba.mpc4j.common.structure.database.Database;
+import edu.alibaba.mpc4j.common.structure.matrix.NarrowIntMatrix;
 import edu.alibaba.mpc4j.common.structure.vector.IntVector;
-import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
+import edu.alibaba.mpc4j.s2pc.pir.SharableIdxPirServer;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.GaussianLweParam;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.AbstractCpIdxPirServer;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirUpdateLog;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.HintCpIdxPirServer;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.StreamCpIdxPirServer;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple.SimpleCpIdxPirPtoDesc.PtoStep;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
@@ -24,122 +28,210 @@ import java.util.stream.IntStream;
  * @author Liqiang Peng
  * @date 2023/9/18
  */
-public class SimpleCpIdxPirServer extends AbstractCpIdxPirServer implements HintCpIdxPirServer {
+public class SimpleCpIdxPirServer extends AbstractCpIdxPirServer implements HintCpIdxPirServer, StreamCpIdxPirServer,
+    SharableIdxPirServer<SimpleCpIdxPirPreprocessedDatabase> {
+    /**
+     * max number of queries answered in one scan of the databases
+     */
+    private static final int QUERY_WINDOW_SIZE = 1 << 5;
+    /**
+     * config
+     */
+    private final SimpleCpIdxPirConfig config;
     /**
      * LWE dimension
      */
     private final int dimension;
+    /**
+     * byteL for each partition
+     */
+    private int subByteL;
+    /**
+     * rows
+     */
+    private int rows;
     /**
      * columns
      */
     private int columns;
     /**
-     * transpose database database
+     * databases, each entry is in [0, 2^8)
+     */
+    private NarrowIntMatrix[] dbs;
+    /**
+     * update log
      */
-    private IntMatrix[] tdbs;
+    private CpIdxPirUpdateLog updateLog;
+    /**
+     * whether databases are shared with other servers
+     */
+    private boolean shared;
 
     public SimpleCpIdxPirServer(Rpc serverRpc, Party clientParty, SimpleCpIdxPirConfig config) {
         super(SimpleCpIdxPirPtoDesc.getInstance(), serverRpc, clientParty, config);
+        this.config = config;
         GaussianLweParam gaussianLweParam = config.getGaussianLweParam();
         dimension = gaussianLweParam.getDimension();
     }
 
     @Override
-    public void init(NaiveDatabase database, int matchBatchNum) throws MpcAbortException {
+    public void init(Database database, int matchBatchNum) throws MpcAbortException {
         setInitInput(database, matchBatchNum);
         logPhaseInfo(PtoState.INIT_BEGIN);
 
         stopWatch.start();
-        // server generates and sends the seed for the random matrix A.
-        byte[] seed = BlockUtils.randomBlock(secureRandom);
-        List<byte[]> seedPayload = Collections.singletonList(seed);
-        sendOtherPartyPayload(PtoStep.SERVER_SEND_SEED.ordinal(), seedPayload);
+        // the preprocessed database is owned by this server, so that it can be updated
+        SimpleCpIdxPirPreprocessedDatabase preprocessedDatabase = SimpleCpIdxPirPreprocessedDatabase.create(
+            config, database, parallel, secureRandom
+        );
+        shared = false;
+        stopWatch.stop();
+        long hintTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        stopWatch.reset();
+        logStepInfo(PtoState.INIT_STEP, 1, 2, hintTime, "Server generates hints");
+
+        stopWatch.start();
+        sendHint(preprocessedDatabase);
         stopWatch.stop();
-        long seedTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        long sendTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
-        logStepInfo(PtoState.INIT_STEP, 1, 2, seedTime, "Server generates seed");
+        logStepInfo(PtoState.INIT_STEP, 2, 2, sendTime, "Server sends seed and hints");
+
+        logPhaseInfo(PtoState.INIT_END);
+    }
+
+    @Override
+    public void init(SimpleCpIdxPirPreprocessedDatabase database, int maxBatchNum) throws MpcAbortException {
+        MathPreconditions.checkEqual("dimension", "database.dimension", dimension, database.getDimension());
+        setInitInput(database, maxBatchNum);
+        logPhaseInfo(PtoState.INIT_BEGIN);
 
         stopWatch.start();
-        int subByteL = Math.min(byteL, SimpleCpIdxPirPtoDesc.getMaxSubByteL(n));
-        int[] sizes = SimpleCpIdxPirPtoDesc.getMatrixSize(n, byteL);
-        int rows = sizes[0];
-        columns = sizes[1];
-        int partition = sizes[2];
-        // create database
-        IntMatrix[] dbs = IntStream.range(0, partition)
-            .mapToObj(p -> IntMatrix.createZeros(rows, columns))
-            .toArray(IntMatrix[]::new);
-        int i = 0;
-        int j = 0;
-        for (int dataIndex = 0; dataIndex < database.rows(); dataIndex++) {
-            byte[] element = database.getBytesData(dataIndex);
-            assert element.length == byteL;
-            byte[] paddingElement = BytesUtils.paddingByteArray(element, subByteL * partition);
-            // encode each row into partition databases
-            for (int entryIndex = 0; entryIndex < subByteL; entryIndex++) {
-                for (int p = 0; p < partition; p++) {
-                    dbs[p].set(i, j, (paddingElement[p * subByteL + entryIndex] & 0xFF));
-                }
-                i++;
-                // change column index
-                if (i == rows) {
-                    i = 0;
-                    j++;
-                }
-            }
-        }
-        // create hint
-        IntMatrix matrixA = IntMatrix.createRandom(columns, dimension, seed);
-        tdbs = new IntMatrix[partition];
-        IntStream intStream = parallel ? IntStream.range(0, partition).parallel() : IntStream.range(0, partition);
-        IntMatrix[] hint = intStream.mapToObj(p -> dbs[p].mul(matrixA)).toArray(IntMatrix[]::new);
-        // transpose database
-        IntStream.range(0, partition).forEach(p -> {
-            IntStream hintIntStream = parallel ? IntStream.range(0, rows).parallel() : IntStream.range(0, rows);
-            List<byte[]> hintPayload = hintIntStream
-                .mapToObj(rowIndex -> IntUtils.intArrayToByteArray(hint[p].getRow(rowIndex).getElements()))
-                .collect(Collectors.toList());
-            sendOtherPartyPayload(PtoStep.SERVER_SEND_HINT.ordinal(), hintPayload);
-            tdbs[p] = dbs[p].transpose();
-        });
+        // the preprocessed database is shared with other servers, so that it cannot be updated
+        shared = true;
+        sendHint(database);
         stopWatch.stop();
-        long hintTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        long sendTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
-        logStepInfo(PtoState.INIT_STEP, 2, 2, hintTime, "Server generates hints");
+        logStepInfo(PtoState.INIT_STEP, 1, 1, sendTime, "Server sends seed and hints");
 
         logPhaseInfo(PtoState.INIT_END);
     }
 
+    private void sendHint(SimpleCpIdxPirPreprocessedDatabase preprocessedDatabase) {
+        subByteL = preprocessedDatabase.getSubByteL();
+        rows = preprocessedDatabase.getMatrixRows();
+        columns = preprocessedDatabase.getMatrixColumns();
+        dbs = preprocessedDatabase.getDbs();
+        updateLog = new CpIdxPirUpdateLog(byteL);
+        // server sends the seed for the random matrix A.
+        List<byte[]> seedPayload = Collections.singletonList(preprocessedDatabase.getSeed());
+        sendOtherPartyPayload(PtoStep.SERVER_SEND_SEED.ordinal(), seedPayload);
+        // send hint
+        IntStream.range(0, dbs.length).forEach(p ->
+            sendOtherPartyPayload(PtoStep.SERVER_SEND_HINT.ordinal(), preprocessedDatabase.getHintPayload(p))
+        );
+    }
+
     @Override
     public void pir(int batchNum) throws MpcAbortException {
         setPtoInput(batchNum);
         logPhaseInfo(PtoState.PTO_BEGIN);
 
         stopWatch.start();
-        for (int i = 0; i < batchNum; i++) {
-            answer();
+        // queries in one window are answered with one scan of the databases
+        for (int from = 0; from < batchNum; from += QUERY_WINDOW_SIZE) {
+            batchAnswer(Math.min(QUERY_WINDOW_SIZE, batchNum - from));
         }
         stopWatch.stop();
         long responseTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        double amortizedTime = (double) stopWatch.getNanoTime() / batchNum / 1e6;
         stopWatch.reset();
-        logStepInfo(PtoState.PTO_STEP, 1, 1, responseTime, "Server generates reply");
+        logStepInfo(
+            PtoState.PTO_STEP, 1, 1, responseTime,
+            String.format("Server generates reply (%d queries, %.3f ms/query)", batchNum, amortizedTime)
+        );
 
         logPhaseInfo(PtoState.PTO_END);
     }
 
     @Override
     public void answer() throws MpcAbortException {
-        List<byte[]> clientQueryPayload = receiveOtherPartyPayload(PtoStep.CLIENT_SEND_QUERY.ordinal());
-        MpcAbortPreconditions.checkArgument(clientQueryPayload.size() == 1);
-        // parse qu
-        IntVector qu = IntVector.create(IntUtils.byteArrayToIntArray(clientQueryPayload.get(0)));
-        MpcAbortPreconditions.checkArgument(qu.getNum() == columns);
-        // generate response
-        IntStream pIntStream = parallel ? IntStream.range(0, tdbs.length).parallel() : IntStream.range(0, tdbs.length);
-        List<byte[]> responsePayload = pIntStream
-            .mapToObj(p -> tdbs[p].leftMul(qu))
-            .map(ans -> IntUtils.intArrayToByteArray(ans.getElements()))
-            .toList();
-        sendOtherPartyPayload(PtoStep.SERVER_SEND_RESPONSE.ordinal(), responsePayload);
+        batchAnswer(1);
+    }
+
+    private void batchAnswer(int queryNum) throws MpcAbortException {
+        IntVector[] qus = new IntVector[queryNum];
+        for (int q = 0; q < queryNum; q++) {
+            List<byte[]> clientQueryPayload = receiveOtherPartyPayload(PtoStep.CLIENT_SEND_QUERY.ordinal());
+            MpcAbortPreconditions.checkArgument(clientQueryPayload.size() == 1);
+            // parse qu
+            qus[q] = IntVector.create(IntUtils.byteArrayToIntArray(clientQueryPayload.get(0)));
+            MpcAbortPreconditions.checkArgument(qus[q].getNum() == columns);
+        }
+        // generate responses, D · qu equals qu^T · D^T without transposing D, all qu are applied in one scan of D
+        IntStream pIntStream = parallel ? IntStream.range(0, dbs.length).parallel() : IntStream.range(0, dbs.length);
+        IntVector[][] answers = parallelInvoke(() ->
+            pIntStream.mapToObj(p -> dbs[p].rightMul(qus)).toArray(IntVector[][]::new)
+        );
+        for (int q = 0; q < queryNum; q++) {
+            final int finalQ = q;
+            List<byte[]> responsePayload = IntStream.range(0, dbs.length)
+                .mapToObj(p -> IntUtils.intArrayToByteArray(answers[p][finalQ].getElements()))
+                .toList();
+            sendOtherPartyPayload(PtoStep.SERVER_SEND_RESPONSE.ordinal(), responsePayload);
+        }
+    }
+
+    @Override
+    public void logUpdate(int[] xs, byte[][] entries) {
+        setUpdateInput(xs, entries);
+        Preconditions.checkState(!shared, "Cannot update a preprocessed database shared with other servers");
+        // D is unchanged until flushing, so that queries are consistent with hints in the client
+        for (int round = 0; round < xs.length; round++) {
+            updateLog.log(xs[round], entries[round]);
+        }
+    }
+
+    @Override
+    public int flushUpdates() {
+        checkInitialized();
+        logPhaseInfo(PtoState.PTO_BEGIN);
+
+        stopWatch.start();
+        int updateNum = updateLog.size();
+        // hint is linear in D, the client updates hint with deltas in Z_q and A, instead of receiving hint rows
+        List<byte[]> serverUpdatePayload = updateLog.flushSubDeltas(this::getEntry, (entry, x) -> setEntry(x, entry));
+        sendOtherPartyPayload(PtoStep.SERVER_SEND_UPDATE.ordinal(), serverUpdatePayload);
+        stopWatch.stop();
+        long updateTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        stopWatch.reset();
+        logStepInfo(PtoState.PTO_STEP, 1, 1, updateTime, "Server flushes " + updateNum + " updated entries");
+
+        logPhaseInfo(PtoState.PTO_END);
+        return updateNum;
+    }
+
+    private byte[] getEntry(int x) {
+        int partition = dbs.length;
+        byte[] paddingEntry = new byte[subByteL * partition];
+        for (int entryIndex = 0; entryIndex < subByteL; entryIndex++) {
+            int position = x * subByteL + entryIndex;
+            for (int p = 0; p < partition; p++) {
+                paddingEntry[p * subByteL + entryIndex] = (byte) dbs[p].get(position % rows, position / rows);
+            }
+        }
+        return Arrays.copyOfRange(paddingEntry, subByteL * partition - byteL, subByteL * partition);
+    }
+
+    private void setEntry(int x, byte[] entry) {
+        int partition = dbs.length;
+        byte[] paddingEntry = BytesUtils.paddingByteArray(entry, subByteL * partition);
+        for (int entryIndex = 0; entryIndex < subByteL; entryIndex++) {
+            int position = x * subByteL + entryIndex;
+            for (int p = 0; p < partition; p++) {
+                dbs[p].set(position % rows, position / rows, paddingEntry[p * subByteL + entryIndex]);
+            }
+        }
     }
 }
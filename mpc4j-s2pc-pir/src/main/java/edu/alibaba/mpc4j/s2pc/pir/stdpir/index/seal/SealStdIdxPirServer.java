@@ -1,16 +1,14 @@
 package edu.alibaba.mpc4j.s2pc.pir.stdpir.index.seal;
 
+import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.*;
 import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
-import edu.alibaba.mpc4j.common.structure.database.ZlDatabase;
 import edu.alibaba.mpc4j.common.tool.CommonConstants;
-import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
-import edu.alibaba.mpc4j.s2pc.pir.PirUtils;
+import edu.alibaba.mpc4j.s2pc.pir.SharableIdxPirServer;
 import edu.alibaba.mpc4j.s2pc.pir.stdpir.index.AbstractStdIdxPirServer;
 import edu.alibaba.mpc4j.s2pc.pir.stdpir.index.PbcableStdIdxPirServer;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -26,7 +24,8 @@ import static edu.alibaba.mpc4j.s2pc.pir.stdpir.index.seal.SealStdIdxPirPtoDesc.
  * @author Liqiang Peng
  * @date 2023/1/17
  */
-public class SealStdIdxPirServer extends AbstractStdIdxPirServer implements PbcableStdIdxPirServer {
+public class SealStdIdxPirServer extends AbstractStdIdxPirServer
+    implements PbcableStdIdxPirServer, SharableIdxPirServer<SealStdIdxPirPreprocessedDatabase> {
 
     static {
         System.loadLibrary(CommonConstants.MPC4J_NATIVE_FHE_NAME);
@@ -44,30 +43,14 @@ public class SealStdIdxPirServer extends AbstractStdIdxPirServer implements Pbca
      * partition size
      */
     protected int partitionSize;
-    /**
-     * partition bit-length
-     */
-    protected int partitionBitLength;
-    /**
-     * partition byte length
-     */
-    protected int partitionByteLength;
-    /**
-     * element size per BFV plaintext
-     */
-    private int elementSizeOfPlaintext;
-    /**
-     * BFV plaintext size
-     */
-    private int plaintextSize;
     /**
      * dimension size
      */
     private int[] dimensionSize;
     /**
-     * BFV plaintext in NTT form
+     * preprocessed database, i.e., BFV plaintexts in NTT form, which may be shared with other servers
      */
-    private List<byte[][]> encodedDatabase;
+    private SealStdIdxPirPreprocessedDatabase preprocessedDatabase;
     /**
      * query payload size
      */
@@ -93,27 +76,10 @@ public class SealStdIdxPirServer extends AbstractStdIdxPirServer implements Pbca
             logPhaseInfo(PtoState.INIT_BEGIN);
 
             stopWatch.start();
-            MpcAbortPreconditions.checkArgument(serverKeys.size() == 1);
-            this.galoisKeys = serverKeys.get(0);
-            int maxPartitionBitLength = params.getPolyModulusDegree() * params.getPlainModulusBitLength();
-            partitionBitLength = Math.min(maxPartitionBitLength, database.getL());
-            partitionByteLength = CommonUtils.getByteLength(partitionBitLength);
-            ZlDatabase[] databases = database.partitionZl(partitionBitLength);
-            partitionSize = databases.length;
-            elementSizeOfPlaintext = PirUtils.elementSizeOfPlaintext(
-                partitionByteLength, params.getPolyModulusDegree(), params.getPlainModulusBitLength()
-            );
-            plaintextSize = CommonUtils.getUnitNum(database.rows(), elementSizeOfPlaintext);
-            dimensionSize = PirUtils.computeDimensionLength(plaintextSize, params.getDimension());
-            for (int j : dimensionSize) {
-                MpcAbortPreconditions.checkArgument(j <= params.getPolyModulusDegree());
-            }
             // encode database
-            IntStream intStream = parallel ? IntStream.range(0, partitionSize).parallel() : IntStream.range(0, partitionSize);
-            encodedDatabase = intStream
-                .mapToObj(partitionIndex -> preprocessDatabase(databases, partitionIndex))
-                .collect(Collectors.toList());
-            queryPayloadSize = params.getDimension();
+            SealStdIdxPirPreprocessedDatabase preprocessedDatabase
+                = SealStdIdxPirPreprocessedDatabase.create(params, database, parallel);
+            setPreprocessedDatabase(serverKeys, preprocessedDatabase);
             stopWatch.stop();
             long initTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
             stopWatch.reset();
@@ -123,6 +89,36 @@ public class SealStdIdxPirServer extends AbstractStdIdxPirServer implements Pbca
         }
     }
 
+    @Override
+    public void init(SealStdIdxPirPreprocessedDatabase database, int maxBatchNum) throws MpcAbortException {
+        Preconditions.checkArgument(database.isCompatible(params), "database is not preprocessed with %s", params);
+        setInitInput(database, maxBatchNum);
+        logPhaseInfo(PtoState.INIT_BEGIN);
+
+        stopWatch.start();
+        List<byte[]> serverKeysPayload = receiveOtherPartyPayload(PtoStep.CLIENT_SEND_PUBLIC_KEYS.ordinal());
+        setPreprocessedDatabase(serverKeysPayload, database);
+        stopWatch.stop();
+        long initTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        stopWatch.reset();
+        logStepInfo(PtoState.INIT_STEP, 1, 1, initTime, "Server receives keys");
+
+        logPhaseInfo(PtoState.INIT_END);
+    }
+
+    private void setPreprocessedDatabase(List<byte[]> serverKeys, SealStdIdxPirPreprocessedDatabase database)
+        throws MpcAbortException {
+        MpcAbortPreconditions.checkArgument(serverKeys.size() == 1);
+        galoisKeys = serverKeys.get(0);
+        dimensionSize = database.getDimensionSize();
+        for (int j : dimensionSize) {
+            MpcAbortPreconditions.checkArgument(j <= params.getPolyModulusDegree());
+        }
+        partitionSize = database.getPartitionSize();
+        preprocessedDatabase = database;
+        queryPayloadSize = params.getDimension();
+    }
+
     @Override
     public void pir(int batchNum) throws MpcAbortException {
         setPtoInput(batchNum);
@@ -140,61 +136,6 @@ public class SealStdIdxPirServer extends AbstractStdIdxPirServer implements Pbca
         logPhaseInfo(PtoState.PTO_END);
     }
 
-    /**
-     * database preprocess.
-     *
-     * @param partitionIndex partition index.
-     * @return BFV plaintexts in NTT form.
-     */
-    private byte[][] preprocessDatabase(ZlDatabase[] databases, int partitionIndex) {
-        byte[] combinedBytes = new byte[databases[partitionIndex].rows() * partitionByteLength];
-        IntStream.range(0, databases[partitionIndex].rows()).forEach(rowIndex -> {
-            byte[] element = databases[partitionIndex].getBytesData(rowIndex);
-            System.arraycopy(element, 0, combinedBytes, rowIndex * partitionByteLength, partitionByteLength);
-        });
-        // number of FV plaintexts needed to create the d-dimensional matrix
-        int prod = Arrays.stream(dimensionSize).reduce(1, (a, b) -> a * b);
-        assert (plaintextSize <= prod);
-        List<long[]> coeffsList = new ArrayList<>();
-        int byteSizeOfPlaintext = elementSizeOfPlaintext * partitionByteLength;
-        int totalByteSize = databases[partitionIndex].rows() * partitionByteLength;
-        int usedCoeffSize = elementSizeOfPlaintext *
-            CommonUtils.getUnitNum(Byte.SIZE * partitionByteLength, params.getPlainModulusBitLength());
-        assert (usedCoeffSize <= params.getPolyModulusDegree())
-            : "coefficient num must be less than or equal to polynomial degree";
-        int offset = 0;
-        for (int i = 0; i < plaintextSize; i++) {
-            int processByteSize;
-            if (totalByteSize <= offset) {
-                break;
-            } else if (totalByteSize < offset + byteSizeOfPlaintext) {
-                processByteSize = totalByteSize - offset;
-            } else {
-                processByteSize = byteSizeOfPlaintext;
-            }
-            assert (processByteSize % partitionByteLength == 0);
-            // Get the coefficients of the elements that will be packed in plaintext i
-            long[] coeffs = PirUtils.convertBytesToCoeffs(
-                params.getPlainModulusBitLength(), offset, processByteSize, combinedBytes
-            );
-            assert (coeffs.length <= usedCoeffSize);
-            offset += processByteSize;
-            long[] paddingCoeffsArray = new long[params.getPolyModulusDegree()];
-            System.arraycopy(coeffs, 0, paddingCoeffsArray, 0, coeffs.length);
-            // Pad the rest with 1s
-            IntStream.range(coeffs.length, params.getPolyModulusDegree()).forEach(j -> paddingCoeffsArray[j] = 1L);
-            coeffsList.add(paddingCoeffsArray);
-        }
-        // Add padding plaintext to make database a matrix
-        int currentPlaintextSize = coeffsList.size();
-        assert (currentPlaintextSize <= plaintextSize);
-        IntStream.range(0, (prod - currentPlaintextSize))
-            .mapToObj(i -> IntStream.range(0, params.getPolyModulusDegree()).mapToLong(i1 -> 1L).toArray())
-            .forEach(coeffsList::add);
-        return SealStdIdxPirNativeUtils.nttTransform(params.getEncryptionParams(), coeffsList)
-            .toArray(new byte[0][]);
-    }
-
     @Override
     public void answer() throws MpcAbortException {
         List<byte[]> queryPayload = receiveOtherPartyPayload(PtoStep.CLIENT_SEND_QUERY.ordinal());
@@ -202,7 +143,7 @@ public class SealStdIdxPirServer extends AbstractStdIdxPirServer implements Pbca
         IntStream intStream = parallel ? IntStream.range(0, partitionSize).parallel() : IntStream.range(0, partitionSize);
         List<byte[]> serverResponsePayload = intStream
             .mapToObj(i -> SealStdIdxPirNativeUtils.generateReply(
-                params.getEncryptionParams(), galoisKeys, queryPayload, encodedDatabase.get(i), dimensionSize)
+                params.getEncryptionParams(), galoisKeys, queryPayload, preprocessedDatabase.getEncodedPartition(i), dimensionSize)
             )
             .flatMap(Collection::stream)
             .collect(Collectors.toCollection(ArrayList::new));
@@ -0,0 +1,261 @@
+package edu.alibaba.mpc4j.s2pc.pir;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.rpc.Party;
+import edu.alibaba.mpc4j.common.rpc.Rpc;
+import edu.alibaba.mpc4j.common.rpc.RpcManager;
+import edu.alibaba.mpc4j.common.rpc.impl.memory.MemoryRpcManager;
+import edu.alibaba.mpc4j.common.rpc.pto.MultiPartyPtoConfig;
+import edu.alibaba.mpc4j.common.rpc.pto.PtoExecutor;
+import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirFactory.CpIdxPirType;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple.SimpleCpIdxPirClient;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple.SimpleCpIdxPirConfig;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple.SimpleCpIdxPirPreprocessedDatabase;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple.SimpleCpIdxPirServer;
+import edu.alibaba.mpc4j.s2pc.pir.stdpir.index.seal.SealStdIdxPirClient;
+import edu.alibaba.mpc4j.s2pc.pir.stdpir.index.seal.SealStdIdxPirConfig;
+import edu.alibaba.mpc4j.s2pc.pir.stdpir.index.seal.SealStdIdxPirPreprocessedDatabase;
+import edu.alibaba.mpc4j.s2pc.pir.stdpir.index.seal.SealStdIdxPirServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+/**
+ * index PIR server engine test. One server RPC concurrently serves many clients with one preprocessed database.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+@RunWith(Parameterized.class)
+public class IdxPirServerEngineTest {
+    /**
+     * random state
+     */
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    /**
+     * default l
+     */
+    private static final int DEFAULT_L = Double.SIZE;
+    /**
+     * large l
+     */
+    private static final int LARGE_L = CommonConstants.BLOCK_BIT_LENGTH - 1;
+    /**
+     * small n
+     */
+    private static final int SMALL_N = (1 << 5) - 1;
+    /**
+     * default n
+     */
+    private static final int DEFAULT_N = 1 << 10;
+    /**
+     * client num
+     */
+    private static final int CLIENT_NUM = 5;
+    /**
+     * default worker num, less than the client num so that some sessions wait in the queue
+     */
+    private static final int DEFAULT_WORKER_NUM = 2;
+    /**
+     * default batch nums in each session
+     */
+    private static final int[] DEFAULT_BATCH_NUMS = new int[]{3, 1, 2};
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> configurations() {
+        Collection<Object[]> configurations = new ArrayList<>();
+
+//        // SEAL PIR
+//        configurations.add(new Object[]{
+//            StdIdxPirType.SEAL.name(), new SealStdIdxPirConfig.Builder().build()
+//        });
+
+        // SIMPLE
+        configurations.add(new Object[]{
+            CpIdxPirType.SIMPLE.name(), new SimpleCpIdxPirConfig.Builder().build()
+        });
+
+        return configurations;
+    }
+
+    /**
+     * config
+     */
+    private final MultiPartyPtoConfig config;
+    /**
+     * server RPC
+     */
+    private final Rpc serverRpc;
+    /**
+     * client RPCs
+     */
+    private final Rpc[] clientRpcs;
+
+    public IdxPirServerEngineTest(String name, MultiPartyPtoConfig config) {
+        this.config = config;
+        RpcManager rpcManager = new MemoryRpcManager(CLIENT_NUM + 1);
+        serverRpc = rpcManager.getRpc(0);
+        clientRpcs = IntStream.range(0, CLIENT_NUM)
+            .mapToObj(clientIndex -> rpcManager.getRpc(clientIndex + 1))
+            .toArray(Rpc[]::new);
+    }
+
+    @Before
+    public void connect() {
+        serverRpc.connect();
+        Arrays.stream(clientRpcs).forEach(Rpc::connect);
+    }
+
+    @After
+    public void disconnect() {
+        serverRpc.disconnect();
+        Arrays.stream(clientRpcs).forEach(Rpc::disconnect);
+    }
+
+    @Test
+    public void testDefault() {
+        testPto(DEFAULT_N, DEFAULT_L, DEFAULT_WORKER_NUM, DEFAULT_BATCH_NUMS);
+    }
+
+    @Test
+    public void testOneWorker() {
+        testPto(DEFAULT_N, DEFAULT_L, 1, DEFAULT_BATCH_NUMS);
+    }
+
+    @Test
+    public void testEnoughWorkers() {
+        testPto(DEFAULT_N, DEFAULT_L, CLIENT_NUM, DEFAULT_BATCH_NUMS);
+    }
+
+    @Test
+    public void testPtoExecutor() {
+        try (PtoExecutor ptoExecutor = PtoExecutor.create("idx-pir-server", DEFAULT_WORKER_NUM)) {
+            testPto(DEFAULT_N, DEFAULT_L, DEFAULT_WORKER_NUM, DEFAULT_BATCH_NUMS, ptoExecutor);
+        }
+    }
+
+    @Test
+    public void testSmallN() {
+        testPto(SMALL_N, DEFAULT_L, DEFAULT_WORKER_NUM, DEFAULT_BATCH_NUMS);
+    }
+
+    @Test
+    public void testLargeL() {
+        testPto(DEFAULT_N, LARGE_L, DEFAULT_WORKER_NUM, DEFAULT_BATCH_NUMS);
+    }
+
+    private void testPto(int n, int l, int workerNum, int[] batchNums) {
+        testPto(n, l, workerNum, batchNums, PtoExecutor.commonPool());
+    }
+
+    private void testPto(int n, int l, int workerNum, int[] batchNums, PtoExecutor ptoExecutor) {
+        // sessions run parallel computations only if the executor is dedicated
+        boolean parallel = ptoExecutor.isDedicated();
+        NaiveDatabase database = NaiveDatabase.createRandom(l, n, SECURE_RANDOM);
+        if (config instanceof SealStdIdxPirConfig sealConfig) {
+            testPto(
+                database,
+                SealStdIdxPirPreprocessedDatabase.create(sealConfig.getStdIdxPirParams(), database, true),
+                (serverRpc, clientParty) -> {
+                    SealStdIdxPirServer server = new SealStdIdxPirServer(serverRpc, clientParty, sealConfig);
+                    server.setParallel(parallel);
+                    return server;
+                },
+                (clientRpc, serverParty) -> new SealStdIdxPirClient(clientRpc, serverParty, sealConfig),
+                workerNum, batchNums, ptoExecutor
+            );
+        } else if (config instanceof SimpleCpIdxPirConfig simpleConfig) {
+            testPto(
+                database,
+                SimpleCpIdxPirPreprocessedDatabase.create(simpleConfig, database, true, SECURE_RANDOM),
+                (serverRpc, clientParty) -> {
+                    SimpleCpIdxPirServer server = new SimpleCpIdxPirServer(serverRpc, clientParty, simpleConfig);
+                    server.setParallel(parallel);
+                    return server;
+                },
+                (clientRpc, serverParty) -> new SimpleCpIdxPirClient(clientRpc, serverParty, simpleConfig),
+                workerNum, batchNums, ptoExecutor
+            );
+        } else {
+            throw new IllegalArgumentException("Invalid config: " + config.getClass().getSimpleName());
+        }
+    }
+
+    private <T extends PreprocessedIdxPirDatabase> void testPto(NaiveDatabase database, T preprocessedDatabase,
+                                                                IdxPirServerEngine.ServerCreator<T> serverCreator,
+                                                                BiFunction<Rpc, Party, IdxPirClient> clientCreator,
+                                                                int workerNum, int[] batchNums,
+                                                                PtoExecutor ptoExecutor) {
+        int n = database.rows();
+        int l = database.getL();
+        int maxBatchNum = Arrays.stream(batchNums).max().orElseThrow();
+        IdxPirServerEngine<T> engine = new IdxPirServerEngine<>(
+            preprocessedDatabase, serverCreator, workerNum, ptoExecutor
+        );
+        int[][][] xs = new int[CLIENT_NUM][][];
+        byte[][][][] entries = new byte[CLIENT_NUM][batchNums.length][][];
+        boolean[] clientSuccess = new boolean[CLIENT_NUM];
+        Thread[] clientThreads = IntStream.range(0, CLIENT_NUM)
+            .mapToObj(clientIndex -> new Thread(() -> {
+                IdxPirClient client = clientCreator.apply(clientRpcs[clientIndex], serverRpc.ownParty());
+                try {
+                    xs[clientIndex] = Arrays.stream(batchNums)
+                        .mapToObj(batchNum -> IntStream.range(0, batchNum).map(i -> SECURE_RANDOM.nextInt(n)).toArray())
+                        .toArray(int[][]::new);
+                    client.init(n, l, maxBatchNum);
+                    for (int round = 0; round < batchNums.length; round++) {
+                        entries[clientIndex][round] = client.pir(xs[clientIndex][round]);
+                    }
+                    clientSuccess[clientIndex] = true;
+                } catch (MpcAbortException e) {
+                    e.printStackTrace();
+                } finally {
+                    client.destroy();
+                }
+            }))
+            .toArray(Thread[]::new);
+        try {
+            Arrays.stream(clientThreads).forEach(Thread::start);
+            Future<?>[] sessions = IntStream.range(0, CLIENT_NUM)
+                .mapToObj(clientIndex -> engine.submit(serverRpc, clientRpcs[clientIndex].ownParty(), maxBatchNum, batchNums))
+                .toArray(Future<?>[]::new);
+            Assert.assertTrue(engine.getActiveSessionNum() <= workerNum);
+            for (Future<?> session : sessions) {
+                session.get();
+            }
+            for (Thread clientThread : clientThreads) {
+                clientThread.join();
+            }
+            engine.shutdown();
+            Assert.assertTrue(engine.awaitTermination(1, TimeUnit.MINUTES));
+            Assert.assertEquals(CLIENT_NUM, engine.getFinishedSessionNum());
+            // verify result
+            for (int clientIndex = 0; clientIndex < CLIENT_NUM; clientIndex++) {
+                Assert.assertTrue(clientSuccess[clientIndex]);
+                for (int round = 0; round < batchNums.length; round++) {
+                    for (int i = 0; i < batchNums[round]; i++) {
+                        int x = xs[clientIndex][round][i];
+                        Assert.assertArrayEquals(database.getBytesData(x), entries[clientIndex][round][i]);
+                    }
+                }
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package edu.alibaba.mpc4j.s2pc.pir.cppir.index;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyMemoryRpcPto;
+import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirFactory.CpIdxPirType;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple.DoubleCpIdxPirConfig;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple.SimpleCpIdxPirConfig;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * client-specific preprocessing index PIR batch efficiency test. We report the amortized server latency (ms/query) of
+ * LWE-based schemes.
+ * <ul>
+ * <li>per-query: the server answers queries one by one, each query scans the whole database.</li>
+ * <li>batched: the server answers all queries in one batch, queries in one window share one scan of the database.</li>
+ * </ul>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+@Ignore
+@RunWith(Parameterized.class)
+public class CpIdxPirBatchEfficiencyTest extends AbstractTwoPartyMemoryRpcPto {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CpIdxPirBatchEfficiencyTest.class);
+    /**
+     * time format
+     */
+    private static final DecimalFormat TIME_DECIMAL_FORMAT = new DecimalFormat("0.000");
+    /**
+     * element bit length
+     */
+    private static final int L = 64;
+    /**
+     * log(n)
+     */
+    private static final int LOG_N = 18;
+    /**
+     * database size
+     */
+    private static final int N = 1 << LOG_N;
+    /**
+     * query num
+     */
+    private static final int QUERY_NUM = 1 << 6;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> configurations() {
+        Collection<Object[]> configurations = new ArrayList<>();
+
+        // DOUBLE
+        configurations.add(new Object[]{CpIdxPirType.DOUBLE.name(), new DoubleCpIdxPirConfig.Builder().build(),});
+        // SIMPLE
+        configurations.add(new Object[]{CpIdxPirType.SIMPLE.name(), new SimpleCpIdxPirConfig.Builder().build(),});
+
+        return configurations;
+    }
+
+    /**
+     * config
+     */
+    private final CpIdxPirConfig config;
+
+    public CpIdxPirBatchEfficiencyTest(String name, CpIdxPirConfig config) {
+        super(name);
+        this.config = config;
+    }
+
+    @Test
+    public void testEfficiency() throws InterruptedException {
+        LOGGER.info(
+            "{}\t{}\t{}\t{}\t{}",
+            "                name", "      mode", " log(n)", " query_num", "  ms/query"
+        );
+        testEfficiency(false);
+        testEfficiency(true);
+    }
+
+    private void testEfficiency(boolean batched) throws InterruptedException {
+        int byteL = CommonUtils.getByteLength(L);
+        NaiveDatabase database = NaiveDatabase.create(L, BytesUtils.randomByteArrayVector(N, byteL, L, SECURE_RANDOM));
+        int[] xs = IntStream.range(0, QUERY_NUM).map(i -> SECURE_RANDOM.nextInt(N)).toArray();
+        CpIdxPirServer server = CpIdxPirFactory.createServer(firstRpc, secondRpc.ownParty(), config);
+        CpIdxPirClient client = CpIdxPirFactory.createClient(secondRpc, firstRpc.ownParty(), config);
+        boolean[] success = new boolean[2];
+        Thread serverThread = new Thread(() -> {
+            try {
+                server.init(database, QUERY_NUM);
+                server.getRpc().synchronize();
+                STOP_WATCH.start();
+                if (batched) {
+                    server.pir(QUERY_NUM);
+                } else {
+                    for (int i = 0; i < QUERY_NUM; i++) {
+                        server.pir(1);
+                    }
+                }
+                STOP_WATCH.stop();
+                server.getRpc().synchronize();
+                success[0] = true;
+            } catch (MpcAbortException e) {
+                e.printStackTrace();
+            }
+        });
+        Thread clientThread = new Thread(() -> {
+            try {
+                client.init(N, L, QUERY_NUM);
+                client.getRpc().synchronize();
+                if (batched) {
+                    client.pir(xs);
+                } else {
+                    for (int i = 0; i < QUERY_NUM; i++) {
+                        client.pir(new int[]{xs[i]});
+                    }
+                }
+                client.getRpc().synchronize();
+                success[1] = true;
+            } catch (MpcAbortException e) {
+                e.printStackTrace();
+            }
+        });
+        server.setParallel(true);
+        client.setParallel(true);
+        serverThread.start();
+        clientThread.start();
+        serverThread.join();
+        clientThread.join();
+        Assert.assertTrue(success[0]);
+        Assert.assertTrue(success[1]);
+        double time = (double) STOP_WATCH.getNanoTime() / 1e6;
+        STOP_WATCH.reset();
+        LOGGER.info(
+            "{}\t{}\t{}\t{}\t{}",
+            StringUtils.leftPad(config.getPtoType().name(), 20),
+            StringUtils.leftPad(batched ? "batched" : "per-query", 10),
+            StringUtils.leftPad(String.valueOf(LOG_N), 7),
+            StringUtils.leftPad(String.valueOf(QUERY_NUM), 10),
+            StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(time / QUERY_NUM), 10)
+        );
+        new Thread(server::destroy).start();
+        new Thread(client::destroy).start();
+    }
+}
@@ -84,8 +84,8 @@ class StreamCpIdxPirClientThread extends Thread {
             client.getRpc().synchronize();
             client.getRpc().reset();
 
-            // update database
-            client.update(updateIndexes.length);
+            // update database, the server flushes updates twice
+            client.update(2);
 
             // query
             xs = IntStream.range(0, queryNum).map(i -> {
@@ -0,0 +1,197 @@
+package edu.alibaba.mpc4j.s2pc.pir.cppir.index;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyMemoryRpcPto;
+import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirFactory.CpIdxPirType;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.frodo.FrodoCpIdxPirConfig;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.mir.MirCpIdxPirConfig;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.piano.PianoCpIdxPirConfig;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.plinko.MirPlinkoCpIdxPirConfig;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.plinko.PianoPlinkoCpIdxPirConfig;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple.SimpleCpIdxPirConfig;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * stream client-specific preprocessing index PIR efficiency test. We report the sustained update throughput
+ * (updates/s) when the server interleaves updates with queries, i.e., in each round, the server receives a batch of
+ * updates, answers queries, and then sends deltas to the client.
+ * <ul>
+ * <li>per-entry: the server sends one delta for each update, and the client refreshes hints for each delta.</li>
+ * <li>batched: the server logs updates and flushes all coalesced deltas in one message after answering queries, and
+ * the client refreshes hints once for each flush.</li>
+ * </ul>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+@Ignore
+@RunWith(Parameterized.class)
+public class StreamCpIdxPirEfficiencyTest extends AbstractTwoPartyMemoryRpcPto {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamCpIdxPirEfficiencyTest.class);
+    /**
+     * throughput format
+     */
+    private static final DecimalFormat THROUGHPUT_DECIMAL_FORMAT = new DecimalFormat("0.00");
+    /**
+     * element bit length
+     */
+    private static final int L = 64;
+    /**
+     * log(n)
+     */
+    private static final int LOG_N = 16;
+    /**
+     * database size
+     */
+    private static final int N = 1 << LOG_N;
+    /**
+     * round num
+     */
+    private static final int ROUND_NUM = 8;
+    /**
+     * update num in each round
+     */
+    private static final int ROUND_UPDATE_NUM = 1 << 8;
+    /**
+     * query num in each round
+     */
+    private static final int ROUND_QUERY_NUM = 1;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> configurations() {
+        Collection<Object[]> configurations = new ArrayList<>();
+
+        // MIR
+        configurations.add(new Object[]{CpIdxPirType.MIR.name(), new MirCpIdxPirConfig.Builder().build(),});
+        // PIANO
+        configurations.add(new Object[]{CpIdxPirType.PIANO.name(), new PianoCpIdxPirConfig.Builder().build(),});
+        // MIR_PLINKO
+        configurations.add(new Object[]{
+            CpIdxPirType.MIR_PLINKO.name(), new MirPlinkoCpIdxPirConfig.Builder().build(),
+        });
+        // PIANO_PLINKO
+        configurations.add(new Object[]{
+            CpIdxPirType.PIANO_PLINKO.name(), new PianoPlinkoCpIdxPirConfig.Builder().build(),
+        });
+        // FRODO
+        configurations.add(new Object[]{CpIdxPirType.FRODO.name(), new FrodoCpIdxPirConfig.Builder().build(),});
+        // SIMPLE
+        configurations.add(new Object[]{CpIdxPirType.SIMPLE.name(), new SimpleCpIdxPirConfig.Builder().build(),});
+
+        return configurations;
+    }
+
+    /**
+     * config
+     */
+    private final CpIdxPirConfig config;
+
+    public StreamCpIdxPirEfficiencyTest(String name, CpIdxPirConfig config) {
+        super(name);
+        this.config = config;
+    }
+
+    @Test
+    public void testEfficiency() throws InterruptedException {
+        LOGGER.info(
+            "{}\t{}\t{}\t{}\t{}",
+            "                name", "      mode", " log(n)", "  update/round", "  updates/s"
+        );
+        testEfficiency(false);
+        testEfficiency(true);
+    }
+
+    private void testEfficiency(boolean batched) throws InterruptedException {
+        int byteL = CommonUtils.getByteLength(L);
+        NaiveDatabase database = NaiveDatabase.create(L, BytesUtils.randomByteArrayVector(N, byteL, L, SECURE_RANDOM));
+        int[][] updateIndexes = IntStream.range(0, ROUND_NUM)
+            .mapToObj(round -> IntStream.range(0, ROUND_UPDATE_NUM).map(i -> SECURE_RANDOM.nextInt(N)).toArray())
+            .toArray(int[][]::new);
+        byte[][][] updateEntries = IntStream.range(0, ROUND_NUM)
+            .mapToObj(round -> BytesUtils.randomByteArrayVector(ROUND_UPDATE_NUM, byteL, L, SECURE_RANDOM))
+            .toArray(byte[][][]::new);
+        StreamCpIdxPirServer server = CpIdxPirFactory.createUpdatableServer(firstRpc, secondRpc.ownParty(), config);
+        StreamCpIdxPirClient client = CpIdxPirFactory.createStreamClient(secondRpc, firstRpc.ownParty(), config);
+        boolean[] success = new boolean[2];
+        Thread serverThread = new Thread(() -> {
+            try {
+                server.init(database, ROUND_QUERY_NUM);
+                server.getRpc().synchronize();
+                for (int round = 0; round < ROUND_NUM; round++) {
+                    if (batched) {
+                        server.logUpdate(updateIndexes[round], updateEntries[round]);
+                        server.pir(ROUND_QUERY_NUM);
+                        server.flushUpdates();
+                    } else {
+                        for (int i = 0; i < ROUND_UPDATE_NUM; i++) {
+                            server.update(updateIndexes[round][i], updateEntries[round][i]);
+                        }
+                        server.pir(ROUND_QUERY_NUM);
+                    }
+                }
+                server.getRpc().synchronize();
+                success[0] = true;
+            } catch (MpcAbortException e) {
+                e.printStackTrace();
+            }
+        });
+        Thread clientThread = new Thread(() -> {
+            try {
+                client.init(N, L, ROUND_QUERY_NUM);
+                client.getRpc().synchronize();
+                STOP_WATCH.start();
+                for (int round = 0; round < ROUND_NUM; round++) {
+                    int[] xs = IntStream.range(0, ROUND_QUERY_NUM).map(i -> SECURE_RANDOM.nextInt(N)).toArray();
+                    if (batched) {
+                        client.pir(xs);
+                        client.update();
+                    } else {
+                        client.update(ROUND_UPDATE_NUM);
+                        client.pir(xs);
+                    }
+                }
+                client.getRpc().synchronize();
+                STOP_WATCH.stop();
+                success[1] = true;
+            } catch (MpcAbortException e) {
+                e.printStackTrace();
+            }
+        });
+        server.setParallel(true);
+        client.setParallel(true);
+        serverThread.start();
+        clientThread.start();
+        serverThread.join();
+        clientThread.join();
+        Assert.assertTrue(success[0]);
+        Assert.assertTrue(success[1]);
+        double time = (double) STOP_WATCH.getTime(TimeUnit.MILLISECONDS) / 1000;
+        STOP_WATCH.reset();
+        LOGGER.info(
+            "{}\t{}\t{}\t{}\t{}",
+            StringUtils.leftPad(config.getPtoType().name(), 20),
+            StringUtils.leftPad(batched ? "batched" : "per-entry", 10),
+            StringUtils.leftPad(String.valueOf(LOG_N), 7),
+            StringUtils.leftPad(String.valueOf(ROUND_UPDATE_NUM), 14),
+            StringUtils.leftPad(THROUGHPUT_DECIMAL_FORMAT.format(ROUND_NUM * ROUND_UPDATE_NUM / time), 11)
+        );
+        new Thread(server::destroy).start();
+        new Thread(client::destroy).start();
+    }
+}
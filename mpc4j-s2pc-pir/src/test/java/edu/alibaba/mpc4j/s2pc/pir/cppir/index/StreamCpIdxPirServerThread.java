@@ -5,6 +5,8 @@ import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+
 /**
  * stream client-specific preprocessing index PIR server thread.
  *
@@ -64,8 +66,13 @@ class StreamCpIdxPirServerThread extends Thread {
             server.getRpc().synchronize();
             server.getRpc().reset();
 
-            // update the database
-            server.update(updateIndexes, updateEntries);
+            // update the database, the first half is updated directly, the second half is logged and then flushed
+            int halfNum = updateIndexes.length / 2;
+            server.update(Arrays.copyOf(updateIndexes, halfNum), Arrays.copyOf(updateEntries, halfNum));
+            for (int i = halfNum; i < updateIndexes.length; i++) {
+                server.logUpdate(updateIndexes[i], updateEntries[i]);
+            }
+            server.flushUpdates();
 
             // query
             server.pir(queryNum);
@@ -1,20 +1,24 @@
 package edu.alibaba.mpc4j.s2pc.pir.cppir.index;
 
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyMemoryRpcPto;
 import edu.alibaba.mpc4j.common.structure.database.NaiveDatabase;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.CpIdxPirFactory.CpIdxPirType;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.frodo.FrodoCpIdxPirConfig;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.mir.MirCpIdxPirConfig;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.piano.PianoCpIdxPirConfig;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.plinko.MirPlinkoCpIdxPirConfig;
 import edu.alibaba.mpc4j.s2pc.pir.cppir.index.plinko.PianoPlinkoCpIdxPirConfig;
+import edu.alibaba.mpc4j.s2pc.pir.cppir.index.simple.SimpleCpIdxPirConfig;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.stream.IntStream;
 
@@ -69,6 +73,14 @@ public class StreamCpIdxPirTest extends AbstractTwoPartyMemoryRpcPto {
             CpIdxPirType.PIANO_PLINKO.name() + "(specific Q)",
             new PianoPlinkoCpIdxPirConfig.Builder().setQ(1 << 12).build(),
         });
+        // FRODO
+        configurations.add(new Object[]{
+            CpIdxPirType.FRODO.name(), new FrodoCpIdxPirConfig.Builder().build(),
+        });
+        // SIMPLE
+        configurations.add(new Object[]{
+            CpIdxPirType.SIMPLE.name(), new SimpleCpIdxPirConfig.Builder().build(),
+        });
 
         return configurations;
     }
@@ -143,6 +155,65 @@ public class StreamCpIdxPirTest extends AbstractTwoPartyMemoryRpcPto {
         testPto(1 << 17, DEFAULT_L, DEFAULT_QUERY_NUM, true);
     }
 
+    @Test
+    public void testQueryBeforeFlush() {
+        int n = DEFAULT_N;
+        int byteL = CommonUtils.getByteLength(DEFAULT_L);
+        byte[][] dataByteArrays = BytesUtils.randomByteArrayVector(n, byteL, DEFAULT_L, SECURE_RANDOM);
+        NaiveDatabase database = NaiveDatabase.create(DEFAULT_L, dataByteArrays);
+        int x = SECURE_RANDOM.nextInt(n);
+        byte[] oldEntry = database.getBytesData(x);
+        byte[] newEntry = BytesUtils.randomByteArray(byteL, DEFAULT_L, SECURE_RANDOM);
+        while (Arrays.equals(oldEntry, newEntry)) {
+            newEntry = BytesUtils.randomByteArray(byteL, DEFAULT_L, SECURE_RANDOM);
+        }
+        byte[] updateEntry = newEntry;
+        StreamCpIdxPirServer server = CpIdxPirFactory.createUpdatableServer(firstRpc, secondRpc.ownParty(), config);
+        StreamCpIdxPirClient client = CpIdxPirFactory.createStreamClient(secondRpc, firstRpc.ownParty(), config);
+        boolean[] success = new boolean[2];
+        byte[][] entries = new byte[2][];
+        Thread serverThread = new Thread(() -> {
+            try {
+                server.init(database, 1);
+                // the logged update is not applied until flushing
+                server.logUpdate(x, updateEntry);
+                server.pir();
+                server.flushUpdates();
+                server.pir();
+                success[0] = true;
+            } catch (MpcAbortException e) {
+                e.printStackTrace();
+            }
+        });
+        Thread clientThread = new Thread(() -> {
+            try {
+                client.init(n, DEFAULT_L, 1);
+                entries[0] = client.pir(x);
+                client.update();
+                entries[1] = client.pir(x);
+                success[1] = true;
+            } catch (MpcAbortException e) {
+                e.printStackTrace();
+            }
+        });
+        try {
+            serverThread.start();
+            clientThread.start();
+            serverThread.join();
+            clientThread.join();
+            Assert.assertTrue(success[0]);
+            Assert.assertTrue(success[1]);
+            // query before flushing gets the old entry, query after flushing gets the new entry
+            Assert.assertArrayEquals(oldEntry, entries[0]);
+            Assert.assertArrayEquals(newEntry, entries[1]);
+            // destroy
+            new Thread(server::destroy).start();
+            new Thread(client::destroy).start();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+
     private void testPto(int n, int l, int queryNum, boolean parallel) {
         int updateNum = 4 * (int) Math.ceil(Math.sqrt(n));
         int byteL = CommonUtils.getByteLength(l);
@@ -1,10 +1,13 @@
 package edu.alibaba.mpc4j.s2pc.pjc.pid;
 
+import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.Party;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyPto;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory;
 
 import java.util.ArrayList;
 import java.util.Set;
@@ -16,6 +19,10 @@ import java.util.Set;
  * @date 2022/01/19
  */
 public abstract class AbstractPidParty<T> extends AbstractTwoPartyPto implements PidParty<T> {
+    /**
+     * element codec
+     */
+    protected ElementCodec<T> elementCodec = ElementCodecFactory.createObjectCodec();
     /**
      * 最大自己元素数量
      */
@@ -60,4 +67,10 @@ public abstract class AbstractPidParty<T> extends AbstractTwoPartyPto implements
         this.otherElementSetSize = otherElementSetSize;
         extraInfo++;
     }
+
+    @Override
+    public void setElementCodec(ElementCodec<T> elementCodec) {
+        checkNonInitialized();
+        this.elementCodec = Preconditions.checkNotNull(elementCodec, "elementCodec");
+    }
 }
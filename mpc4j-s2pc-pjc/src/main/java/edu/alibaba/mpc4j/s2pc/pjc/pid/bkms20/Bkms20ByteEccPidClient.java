@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteEccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteMulEcc;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.AbstractPidParty;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidPartyOutput;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidUtils;
@@ -181,7 +180,7 @@ public class Bkms20ByteEccPidClient<T> extends AbstractPidParty<T> {
         Stream<T> pStream = ownElementArrayList.stream();
         pStream = parallel ? pStream.parallel() : pStream;
         byte[][] up = pStream
-            .map(piElement -> byteMulEcc.hashToCurve(ObjectUtils.objectToByteArray(piElement)))
+            .map(piElement -> byteMulEcc.hashToCurve(elementCodec.encode(piElement)))
             .map(pi -> byteMulEcc.mul(pi, kp))
             .toArray(byte[][]::new);
         // Randomly shuffle the elements in U_p using a permutation π_p
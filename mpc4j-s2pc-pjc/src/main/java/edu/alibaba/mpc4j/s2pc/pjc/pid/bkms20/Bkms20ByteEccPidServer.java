@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteEccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteMulEcc;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.AbstractPidParty;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidPartyOutput;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidUtils;
@@ -193,7 +192,7 @@ public class Bkms20ByteEccPidServer<T> extends AbstractPidParty<T> {
         Stream<T> cStream = ownElementArrayList.stream();
         cStream = parallel ? cStream.parallel() : cStream;
         byte[][] uc = cStream
-            .map(ciElement -> byteMulEcc.hashToCurve(ObjectUtils.objectToByteArray(ciElement)))
+            .map(ciElement -> byteMulEcc.hashToCurve(elementCodec.encode(ciElement)))
             .map(ci -> byteMulEcc.mul(ci, kc))
             .toArray(byte[][]::new);
         // Randomly shuffle the elements in U_c using a permutation π_c
@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.Ecc;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.EccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.AbstractPidParty;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidPartyOutput;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidUtils;
@@ -188,7 +187,7 @@ public class Bkms20EccPidClient<T> extends AbstractPidParty<T> {
         Stream<T> pStream = ownElementArrayList.stream();
         pStream = parallel ? pStream.parallel() : pStream;
         ECPoint[] up = pStream
-            .map(piElement -> ecc.hashToCurve(ObjectUtils.objectToByteArray(piElement)))
+            .map(piElement -> ecc.hashToCurve(elementCodec.encode(piElement)))
             .map(pi -> ecc.multiply(pi, kp))
             .toArray(ECPoint[]::new);
         // Randomly shuffle the elements in U_p using a permutation π_p
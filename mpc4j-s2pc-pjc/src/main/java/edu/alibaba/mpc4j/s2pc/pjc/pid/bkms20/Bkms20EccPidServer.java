@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.Ecc;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.EccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.AbstractPidParty;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidPartyOutput;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidUtils;
@@ -200,7 +199,7 @@ public class Bkms20EccPidServer<T> extends AbstractPidParty<T> {
         Stream<T> cStream = ownElementArrayList.stream();
         cStream = parallel ? cStream.parallel() : cStream;
         ECPoint[] uc = cStream
-            .map(ciElement -> ecc.hashToCurve(ObjectUtils.objectToByteArray(ciElement)))
+            .map(ciElement -> ecc.hashToCurve(elementCodec.encode(ciElement)))
             .map(ci -> ecc.multiply(ci, kc))
             .toArray(ECPoint[]::new);
         // Randomly shuffle the elements in U_c using a permutation π_c
@@ -16,7 +16,6 @@ import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBin;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory.CuckooHashBinType;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.*;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.AbstractPidParty;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidPartyOutput;
@@ -343,7 +342,7 @@ public class Czz24PidServer<T> extends AbstractPidParty<T> {
     private List<byte[]> generateServerOkvsPayload() {
         // 客户端字节元素
         ByteBuffer[] serverElementByteBuffers = ownElementArrayList.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ByteBuffer::wrap)
             .toArray(ByteBuffer[]::new);
         // 客户端扩展字节元素
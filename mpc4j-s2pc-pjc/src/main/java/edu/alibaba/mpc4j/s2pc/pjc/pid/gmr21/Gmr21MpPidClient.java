@@ -9,7 +9,6 @@ import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.*;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.AbstractPidParty;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidPartyOutput;
@@ -98,7 +97,7 @@ public class Gmr21MpPidClient<T> extends AbstractPidParty<T> {
         int pidByteLength = PidUtils.getPidByteLength(this.otherElementSetSize, ownElementSetSize);
         pidMap = HashFactory.createInstance(envType, pidByteLength);
         clientElementByteArrays = ownElementArrayList.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .toArray(byte[][]::new);
         // Alice and Bob invoke the OPRF functionality F_{oprf}.
         // Bob acts as receiver with input Y ′ and receives {F_{k_A}(y) | y ∈ Y'}.
@@ -5,7 +5,6 @@ import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.*;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.AbstractPidParty;
 import edu.alibaba.mpc4j.s2pc.pjc.pid.PidPartyOutput;
@@ -94,7 +93,7 @@ public class Gmr21MpPidServer<T> extends AbstractPidParty<T> {
         int pidByteLength = PidUtils.getPidByteLength(ownElementSetSize, this.otherElementSetSize);
         pidMap = HashFactory.createInstance(envType, pidByteLength);
         serverElementByteArrays = ownElementArrayList.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .toArray(byte[][]::new);
         // Alice and Bob invoke the OPRF functionality F_{oprf}.
         // Alice acts as sender and receives a PRF key k_A
@@ -13,7 +13,6 @@ import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBin;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory.CuckooHashBinType;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvs;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory.Gf2eDokvsType;
@@ -288,7 +287,7 @@ public class Gmr21SloppyPidClient<T> extends AbstractPidParty<T> {
     private List<byte[]> generateClientOkvsPayload() {
         // 客户端字节元素
         ByteBuffer[] clientElementByteBuffers = ownElementArrayList.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ByteBuffer::wrap)
             .toArray(ByteBuffer[]::new);
         // 客户端扩展字节元素
@@ -1,10 +1,13 @@
 package edu.alibaba.mpc4j.s2pc.pjc.pmid;
 
+import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.Party;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyPto;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -18,6 +21,10 @@ import java.util.stream.Collectors;
  * @date 2022/5/6
  */
 public abstract class AbstractPmidServer<T> extends AbstractTwoPartyPto implements PmidServer<T> {
+    /**
+     * element codec
+     */
+    protected ElementCodec<T> elementCodec = ElementCodecFactory.createObjectCodec();
     /**
      * 服务端集合最大数量
      */
@@ -114,4 +121,10 @@ public abstract class AbstractPmidServer<T> extends AbstractTwoPartyPto implemen
         this.clientU = clientU;
         extraInfo++;
     }
+
+    @Override
+    public void setElementCodec(ElementCodec<T> elementCodec) {
+        checkNonInitialized();
+        this.elementCodec = Preconditions.checkNotNull(elementCodec, "elementCodec");
+    }
 }
@@ -2,6 +2,7 @@ package edu.alibaba.mpc4j.s2pc.pjc.pmid;
 
 import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
 import edu.alibaba.mpc4j.common.rpc.pto.TwoPartyPto;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
 
 import java.util.Map;
 import java.util.Set;
@@ -65,4 +66,12 @@ public interface PmidServer<T> extends TwoPartyPto {
      * @throws MpcAbortException 如果协议异常中止。
      */
     PmidPartyOutput<T> pmid(Map<T, Integer> serverElementMap, int clientSetSize, int clientU) throws MpcAbortException;
+
+    /**
+     * Sets the element codec that encodes elements into byte arrays. It must be set before initializing the protocol.
+     * The default codec is {@code ElementCodecFactory.createObjectCodec()}.
+     *
+     * @param elementCodec element codec.
+     */
+    void setElementCodec(ElementCodec<T> elementCodec);
 }
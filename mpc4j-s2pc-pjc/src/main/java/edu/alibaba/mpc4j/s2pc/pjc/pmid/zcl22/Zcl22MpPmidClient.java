@@ -233,7 +233,7 @@ public class Zcl22MpPmidClient<T> extends AbstractPmidClient<T> {
         );
         sigmaOkvsValueMap = HashFactory.createInstance(envType, sigmaOkvsValueByteLength);
         clientElementByteArrays = clientElementArrayList.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .toArray(byte[][]::new);
     }
 
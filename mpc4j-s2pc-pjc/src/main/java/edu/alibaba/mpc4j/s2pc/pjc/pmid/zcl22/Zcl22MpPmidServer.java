@@ -237,7 +237,7 @@ public class Zcl22MpPmidServer<T> extends AbstractPmidServer<T> {
         );
         sigmaOkvsValueMap = HashFactory.createInstance(envType, sigmaOkvsValueByteLength);
         serverElementByteArrays = serverElementArrayList.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .toArray(byte[][]::new);
     }
 
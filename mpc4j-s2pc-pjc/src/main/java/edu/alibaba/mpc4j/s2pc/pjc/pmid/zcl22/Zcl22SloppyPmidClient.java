@@ -402,7 +402,7 @@ public class Zcl22SloppyPmidClient<T> extends AbstractPmidClient<T> {
     private List<byte[]> generateClientPidOkvsPayload() {
         // 客户端字节元素
         ByteBuffer[] clientElementByteBuffers = clientElementArrayList.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ByteBuffer::wrap)
             .toArray(ByteBuffer[]::new);
         // 客户端扩展字节元素
@@ -530,7 +530,7 @@ public class Zcl22SloppyPmidClient<T> extends AbstractPmidClient<T> {
                 // key = y_i
                 clientPid -> {
                     T y = clientPidMap.get(clientPid);
-                    return ByteBuffer.wrap(sigmaOkvsValueMap.digestToBytes(ObjectUtils.objectToByteArray(y)));
+                    return ByteBuffer.wrap(sigmaOkvsValueMap.digestToBytes(elementCodec.encode(y)));
                 },
                 // value = q_{y_i} ⊕ c_{y_i}
                 clientPid -> {
@@ -593,7 +593,7 @@ public class Zcl22SloppyPmidClient<T> extends AbstractPmidClient<T> {
             clientPid -> clientPid,
             clientPid -> {
                 T y = clientPidMap.get(clientPid);
-                ByteBuffer yi = ByteBuffer.wrap(sigmaOkvsValueMap.digestToBytes(ObjectUtils.objectToByteArray(y)));
+                ByteBuffer yi = ByteBuffer.wrap(sigmaOkvsValueMap.digestToBytes(elementCodec.encode(y)));
                 // Alice computes d_i = q_{y_i} ⊕ Decode_H(D, y_i) for i ∈ [n].
                 byte[] qyBytes = qyMap.get(clientPid);
                 byte[] dyBytes = serverSigmaOkvs.decode(serverSigmaOkvsStorage, yi);
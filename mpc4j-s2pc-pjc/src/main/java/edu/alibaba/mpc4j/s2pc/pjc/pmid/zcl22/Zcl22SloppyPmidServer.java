@@ -402,7 +402,7 @@ public class Zcl22SloppyPmidServer<T> extends AbstractPmidServer<T> {
     private List<byte[]> generateServerPidOkvsPayload() {
         // 客户端字节元素
         ByteBuffer[] serverElementByteBuffers = serverElementArrayList.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ByteBuffer::wrap)
             .toArray(ByteBuffer[]::new);
         // 客户端扩展字节元素
@@ -554,7 +554,7 @@ public class Zcl22SloppyPmidServer<T> extends AbstractPmidServer<T> {
             serverPid -> serverPid,
             serverPid -> {
                 T x = serverPidMap.get(serverPid);
-                ByteBuffer xi = ByteBuffer.wrap(sigmaOkvsValueMap.digestToBytes(ObjectUtils.objectToByteArray(x)));
+                ByteBuffer xi = ByteBuffer.wrap(sigmaOkvsValueMap.digestToBytes(elementCodec.encode(x)));
                 // Alice computes d_i = q_{x_i} ⊕ Decode_H(D, x_i) for i ∈ [m].
                 byte[] qxBytes = qxMap.get(serverPid);
                 byte[] dxBytes = clientSigmaOkvs.decode(clientSigmaOkvsStorage, xi);
@@ -580,7 +580,7 @@ public class Zcl22SloppyPmidServer<T> extends AbstractPmidServer<T> {
                 // key = x_i
                 serverPid -> {
                     T x = serverPidMap.get(serverPid);
-                    return ByteBuffer.wrap(sigmaOkvsValueMap.digestToBytes(ObjectUtils.objectToByteArray(x)));
+                    return ByteBuffer.wrap(sigmaOkvsValueMap.digestToBytes(elementCodec.encode(x)));
                 },
                 // value = q_{x_i} ⊕ c_{x_i}
                 serverPid -> {
@@ -1,10 +1,13 @@
 package edu.alibaba.mpc4j.s2pc.pso.psi;
 
+import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.Party;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyPto;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory;
 
 import java.util.ArrayList;
 import java.util.Set;
@@ -16,6 +19,10 @@ import java.util.Set;
  * @date 2022/9/19
  */
 public abstract class AbstractPsiServer<T> extends AbstractTwoPartyPto implements PsiServer<T> {
+    /**
+     * element codec
+     */
+    protected ElementCodec<T> elementCodec = ElementCodecFactory.createObjectCodec();
     /**
      * the max size of server's elements
      */
@@ -62,4 +69,10 @@ public abstract class AbstractPsiServer<T> extends AbstractTwoPartyPto implement
         this.clientElementSize = clientElementSize;
         extraInfo++;
     }
+
+    @Override
+    public void setElementCodec(ElementCodec<T> elementCodec) {
+        checkNonInitialized();
+        this.elementCodec = Preconditions.checkNotNull(elementCodec, "elementCodec");
+    }
 }
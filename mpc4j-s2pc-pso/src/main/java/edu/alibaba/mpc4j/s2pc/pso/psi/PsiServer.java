@@ -2,6 +2,7 @@ package edu.alibaba.mpc4j.s2pc.pso.psi;
 
 import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
 import edu.alibaba.mpc4j.common.rpc.pto.TwoPartyPto;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
 
 import java.util.Set;
 
@@ -29,4 +30,12 @@ public interface PsiServer<T> extends TwoPartyPto {
      * @throws MpcAbortException If protocol aborts
      */
     void psi(Set<T> serverElementSet, int clientElementSize) throws MpcAbortException;
+
+    /**
+     * Sets the element codec that encodes elements into byte arrays. It must be set before initializing the protocol.
+     * The default codec is {@code ElementCodecFactory.createObjectCodec()}.
+     *
+     * @param elementCodec element codec.
+     */
+    void setElementCodec(ElementCodec<T> elementCodec);
 }
@@ -9,7 +9,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.Prp;
 import edu.alibaba.mpc4j.common.tool.crypto.prp.PrpFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pcg.ct.CoinTossFactory;
 import edu.alibaba.mpc4j.s2pc.pcg.ct.CoinTossParty;
 import edu.alibaba.mpc4j.s2pc.pso.psi.aid.AbstractAidPsiServer;
@@ -82,7 +81,7 @@ public class Kmrs14AidPsiServer<T> extends AbstractAidPsiServer<T> {
         Map<ByteBuffer, T> serverPrpElementMap = serverElementStream
             .collect(Collectors.toMap(
                     element -> {
-                        byte[] hashElement = hash.digestToBytes(ObjectUtils.objectToByteArray(element));
+                        byte[] hashElement = hash.digestToBytes(elementCodec.encode(element));
                         return ByteBuffer.wrap(prp.prp(hashElement));
                     },
                     element -> element
@@ -12,7 +12,6 @@ import edu.alibaba.mpc4j.common.structure.filter.FilterFactory;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory.CuckooHashBinType;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.OprfFactory;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.OprfSender;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.OprfSenderOutput;
@@ -172,7 +171,7 @@ public class Kkrt16PsiServer<T> extends AbstractPsiServer<T> {
         serverElementStream = parallel ? serverElementStream.parallel() : serverElementStream;
         List<byte[]> binPrfList = serverElementStream
             .map(element -> {
-                byte[] elementByteArray = ObjectUtils.objectToByteArray(element);
+                byte[] elementByteArray = elementCodec.encode(element);
                 int keyIndex = binHashes[hashIndex].getInteger(elementByteArray, binNum);
                 // OPRF(x || hashIndex)
                 byte[] extendElementByteArray = ByteBuffer.allocate(elementByteArray.length + Integer.BYTES)
@@ -195,7 +194,7 @@ public class Kkrt16PsiServer<T> extends AbstractPsiServer<T> {
         serverElementStream = parallel ? serverElementStream.parallel() : serverElementStream;
         List<byte[]> serverStashPrfList = serverElementStream
             .map(element -> {
-                byte[] elementByteArray = ObjectUtils.objectToByteArray(element);
+                byte[] elementByteArray = elementCodec.encode(element);
                 int keyIndex = binNum + stashIndex;
                 byte[] stashPrf = oprfSenderOutput.getPrf(keyIndex, elementByteArray);
                 return peqtHash.digestToBytes(stashPrf);
@@ -12,7 +12,6 @@ import edu.alibaba.mpc4j.common.structure.filter.FilterFactory;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory.CuckooHashBinType;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.lcot.LcotFactory;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.lcot.LcotSender;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.lcot.LcotSenderOutput;
@@ -169,7 +168,7 @@ public class Oos17PsiServer<T> extends AbstractPsiServer<T> {
 
 
     private byte[] getBinPrf(T x, int hashIndex, LcotSenderOutput lcotSenderOutput) {
-        byte[] xBytes = ObjectUtils.objectToByteArray(x);
+        byte[] xBytes = elementCodec.encode(x);
         int binIndex = binHashes[hashIndex].getInteger(xBytes, binNum);
         // OPRF(x || hashIndex)
         byte[] hx = ByteBuffer.allocate(xBytes.length + Integer.BYTES)
@@ -195,7 +194,7 @@ public class Oos17PsiServer<T> extends AbstractPsiServer<T> {
     }
 
     private byte[] getStashPrf(T x, int stashIndex, LcotSenderOutput lcotSenderOutput) {
-        byte[] xBytes = ObjectUtils.objectToByteArray(x);
+        byte[] xBytes = elementCodec.encode(x);
         // OPRF(x || hashIndex)
         byte[] hx = ByteBuffer.allocate(xBytes.length + Integer.BYTES)
             .put(xBytes)
@@ -13,7 +13,6 @@ import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory.CuckooHashBinType;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.lcot.LcotFactory;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.lcot.LcotSender;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.lcot.LcotSenderOutput;
@@ -173,7 +172,7 @@ public class Psz14PsiServer<T> extends AbstractPsiServer<T> {
 
 
     private byte[] getBinPrf(T x, int hashIndex, LcotSenderOutput lcotSenderOutput) {
-        byte[] xBytes = ObjectUtils.objectToByteArray(x);
+        byte[] xBytes = elementCodec.encode(x);
         int binIndex = binHashes[hashIndex].getInteger(xBytes, binNum);
         // OPRF(x || hashIndex)
         byte[] hx = ByteBuffer.allocate(xBytes.length + Integer.BYTES)
@@ -203,7 +202,7 @@ public class Psz14PsiServer<T> extends AbstractPsiServer<T> {
     }
 
     private byte[] getStashPrf(T x, int stashIndex, LcotSenderOutput lcotSenderOutput) {
-        byte[] xBytes = ObjectUtils.objectToByteArray(x);
+        byte[] xBytes = elementCodec.encode(x);
         // OPRF(x || hashIndex)
         byte[] hx = ByteBuffer.allocate(xBytes.length + Integer.BYTES)
             .put(xBytes)
@@ -1,29 +1,28 @@
 package edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf;
 
 import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.rpc.MpcAbortPreconditions;
 import edu.alibaba.mpc4j.common.rpc.Party;
 import edu.alibaba.mpc4j.common.rpc.PtoState;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
-import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
 import edu.alibaba.mpc4j.common.structure.filter.Filter;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.MpOprfReceiver;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.MpOprfReceiverOutput;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.OprfFactory;
 import edu.alibaba.mpc4j.s2pc.pso.psi.AbstractPsiClient;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiUtils;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
@@ -33,6 +32,10 @@ import java.util.stream.IntStream;
  * @date 2023/9/10
  */
 public abstract class AbstractMpOprfPsiClient<T> extends AbstractPsiClient<T> {
+    /**
+     * number of elements in one probe block
+     */
+    private static final int PROBE_BLOCK_SIZE = 1 << 12;
     /**
      * mp-OPRF receiver
      */
@@ -45,12 +48,22 @@ public abstract class AbstractMpOprfPsiClient<T> extends AbstractPsiClient<T> {
      * SecurityModel
      */
     private final SecurityModel securityModel;
+    /**
+     * number of filter chunks
+     */
+    private final int filterChunkNum;
+    /**
+     * compress filter
+     */
+    private final boolean compressFilter;
 
     public AbstractMpOprfPsiClient(PtoDesc ptoDesc, Rpc clientRpc, Party serverParty, MpOprfPsiConfig config) {
         super(ptoDesc, clientRpc, serverParty, config);
         securityModel = config.getSecurityModel();
         mpOprfReceiver = OprfFactory.createMpOprfReceiver(clientRpc, serverParty, config.getMpOprfConfig());
         addSubPto(mpOprfReceiver);
+        filterChunkNum = config.getFilterChunkNum();
+        compressFilter = config.getCompressFilter();
     }
 
     @Override
@@ -88,7 +101,7 @@ public abstract class AbstractMpOprfPsiClient<T> extends AbstractPsiClient<T> {
         }
         peqtHash = HashFactory.createInstance(envType, peqtByteLength);
         byte[][] clientElementByteArrays = clientElementArrayList.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .toArray(byte[][]::new);
         stopWatch.stop();
         long prepareInputTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
@@ -97,38 +110,116 @@ public abstract class AbstractMpOprfPsiClient<T> extends AbstractPsiClient<T> {
 
         stopWatch.start();
         MpOprfReceiverOutput mpOprfReceiverOutput = mpOprfReceiver.oprf(clientElementByteArrays);
+        // hash all PRFs into one flat buffer, the i-th hashed PRF is in [i * peqtByteLength, (i + 1) * peqtByteLength)
+        byte[] clientPeqtBuffer = new byte[clientElementSize * peqtByteLength];
         IntStream clientElementIndexIntStream = IntStream.range(0, clientElementSize);
         clientElementIndexIntStream = parallel ? clientElementIndexIntStream.parallel() : clientElementIndexIntStream;
-        ArrayList<byte[]> clientOprfArrayList = clientElementIndexIntStream
-            .mapToObj(index -> peqtHash.digestToBytes(mpOprfReceiverOutput.getPrf(index)))
-            .collect(Collectors.toCollection(ArrayList::new));
+        clientElementIndexIntStream.forEach(index -> {
+            byte[] peqt = peqtHash.digestToBytes(mpOprfReceiverOutput.getPrf(index));
+            System.arraycopy(peqt, 0, clientPeqtBuffer, index * peqtByteLength, peqtByteLength);
+        });
         stopWatch.stop();
         long oprfTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
         logStepInfo(PtoState.PTO_STEP, 2, 3, oprfTime, "Client runs OPRFs and hash outputs");
 
-        DataPacketHeader serverPrfFilterHeader = new DataPacketHeader(
-            encodeTaskId, getPtoDesc().getPtoId(), MpOprfPsiPtoStep.SERVER_SEND_PRFS.ordinal(),
-            extraInfo, otherParty().getPartyId(), ownParty().getPartyId()
-        );
-        List<byte[]> serverPrfFilterPayload = rpc.receive(serverPrfFilterHeader).getPayload();
-
         stopWatch.start();
-        Filter<byte[]> serverPrfFilter = FilterFactory.loadFilter(envType, serverPrfFilterPayload);
-        Set<T> intersection = IntStream.range(0, clientElementSize)
-            .mapToObj(elementIndex -> {
-                T element = clientElementArrayList.get(elementIndex);
-                byte[] elementPrf = clientOprfArrayList.get(elementIndex);
-                return serverPrfFilter.mightContain(elementPrf) ? element : null;
-            })
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
+        // group elements by filter chunks, so that each chunk is probed once its filter arrives
+        List<byte[]> chunkNumPayload = receiveOtherPartyPayload(MpOprfPsiPtoStep.SERVER_SEND_CHUNK_NUM.ordinal());
+        MpcAbortPreconditions.checkArgument(chunkNumPayload.size() == 1);
+        int chunkNum = IntUtils.byteArrayToInt(chunkNumPayload.get(0));
+        MpcAbortPreconditions.checkArgument(chunkNum >= filterChunkNum && chunkNum < 2 * filterChunkNum);
+        int[][] chunkElementIndexes = groupByChunk(clientPeqtBuffer, peqtByteLength, chunkNum);
+        boolean[] hits = new boolean[clientElementSize];
+        for (int chunkIndex = 0; chunkIndex < chunkNum; chunkIndex++) {
+            List<byte[]> serverPrfFilterPayload = receiveOtherPartyPayload(MpOprfPsiPtoStep.SERVER_SEND_PRFS.ordinal());
+            // the server sends an empty payload for an empty chunk, in which no element hits
+            if (serverPrfFilterPayload.isEmpty()) {
+                continue;
+            }
+            Filter<byte[]> serverPrfFilter = compressFilter
+                ? FilterFactory.loadCompressedFilter(envType, serverPrfFilterPayload)
+                : FilterFactory.loadFilter(envType, serverPrfFilterPayload);
+            probe(serverPrfFilter, clientPeqtBuffer, peqtByteLength, chunkElementIndexes[chunkIndex], hits);
+        }
+        // materialize the intersection only at the end
+        Set<T> intersection = new HashSet<>();
+        for (int elementIndex = 0; elementIndex < clientElementSize; elementIndex++) {
+            if (hits[elementIndex]) {
+                intersection.add(clientElementArrayList.get(elementIndex));
+            }
+        }
         stopWatch.stop();
         long intersectionTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
-        logStepInfo(PtoState.PTO_STEP, 3, 3, intersectionTime, "Client computes the intersection");
+        logStepInfo(
+            PtoState.PTO_STEP, 3, 3, intersectionTime,
+            String.format("Client probes PRF filters in %d chunks", chunkNum)
+        );
 
         logPhaseInfo(PtoState.PTO_END);
         return intersection;
     }
+
+    /**
+     * Groups indexes of hashed PRFs in the flat buffer by filter chunks.
+     *
+     * @param peqtBuffer     the flat buffer of hashed PRFs.
+     * @param peqtByteLength byte length of each hashed PRF.
+     * @param chunkNum       number of chunks.
+     * @return indexes of hashed PRFs in each chunk.
+     */
+    private int[][] groupByChunk(byte[] peqtBuffer, int peqtByteLength, int chunkNum) {
+        int num = peqtBuffer.length / peqtByteLength;
+        if (chunkNum == 1) {
+            return new int[][]{IntStream.range(0, num).toArray()};
+        }
+        int[] chunkIndexes = new int[num];
+        int[] chunkSizes = new int[chunkNum];
+        for (int index = 0; index < num; index++) {
+            chunkIndexes[index] = MpOprfPsiUtils.getChunkIndex(
+                peqtBuffer, index * peqtByteLength, peqtByteLength, chunkNum
+            );
+            chunkSizes[chunkIndexes[index]]++;
+        }
+        int[][] chunkElementIndexes = new int[chunkNum][];
+        for (int chunkIndex = 0; chunkIndex < chunkNum; chunkIndex++) {
+            chunkElementIndexes[chunkIndex] = new int[chunkSizes[chunkIndex]];
+            chunkSizes[chunkIndex] = 0;
+        }
+        for (int index = 0; index < num; index++) {
+            int chunkIndex = chunkIndexes[index];
+            chunkElementIndexes[chunkIndex][chunkSizes[chunkIndex]++] = index;
+        }
+        return chunkElementIndexes;
+    }
+
+    /**
+     * Probes the filter with the given hashed PRFs in the flat buffer. Elements are probed in blocks, each block reuses
+     * one probe array, and blocks are probed in parallel if parallel is set. Filters are read-only when probing, so
+     * that concurrent probes are safe.
+     *
+     * @param filter         the filter.
+     * @param peqtBuffer     the flat buffer of hashed PRFs.
+     * @param peqtByteLength byte length of each hashed PRF.
+     * @param indexes        indexes of hashed PRFs to probe.
+     * @param hits           hits, the i-th element is set to {@code true} if the i-th hashed PRF might be in the filter.
+     */
+    private void probe(Filter<byte[]> filter, byte[] peqtBuffer, int peqtByteLength, int[] indexes, boolean[] hits) {
+        int num = indexes.length;
+        int blockNum = CommonUtils.getUnitNum(num, PROBE_BLOCK_SIZE);
+        IntStream blockIndexIntStream = IntStream.range(0, blockNum);
+        blockIndexIntStream = parallel ? blockIndexIntStream.parallel() : blockIndexIntStream;
+        // each block writes hits of its own indexes, so that no synchronization is required
+        blockIndexIntStream.forEach(blockIndex -> {
+            byte[] probe = new byte[peqtByteLength];
+            int from = blockIndex * PROBE_BLOCK_SIZE;
+            int to = Math.min(from + PROBE_BLOCK_SIZE, num);
+            for (int i = from; i < to; i++) {
+                int index = indexes[i];
+                System.arraycopy(peqtBuffer, index * peqtByteLength, probe, 0, peqtByteLength);
+                hits[index] = filter.mightContain(probe);
+            }
+        });
+    }
 }
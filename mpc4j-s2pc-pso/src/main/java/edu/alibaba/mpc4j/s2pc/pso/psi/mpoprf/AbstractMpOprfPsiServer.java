@@ -6,25 +6,22 @@ import edu.alibaba.mpc4j.common.rpc.PtoState;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
-import edu.alibaba.mpc4j.common.rpc.utils.DataPacket;
-import edu.alibaba.mpc4j.common.rpc.utils.DataPacketHeader;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
+import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
 import edu.alibaba.mpc4j.common.structure.filter.Filter;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.MpOprfSender;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.MpOprfSenderOutput;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.OprfFactory;
 import edu.alibaba.mpc4j.s2pc.pso.psi.AbstractPsiServer;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiUtils;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -42,6 +39,14 @@ public abstract class AbstractMpOprfPsiServer<T> extends AbstractPsiServer<T> {
      * filter type
      */
     private final FilterType filterType;
+    /**
+     * number of filter chunks
+     */
+    private final int filterChunkNum;
+    /**
+     * compress filter
+     */
+    private final boolean compressFilter;
     /**
      * PEQT hash
      */
@@ -57,6 +62,8 @@ public abstract class AbstractMpOprfPsiServer<T> extends AbstractPsiServer<T> {
         mpOprfSender = OprfFactory.createMpOprfSender(serverRpc, clientParty, config.getMpOprfConfig());
         addSubPto(mpOprfSender);
         filterType = config.getFilterType();
+        filterChunkNum = config.getFilterChunkNum();
+        compressFilter = config.getCompressFilter();
     }
 
     @Override
@@ -110,25 +117,57 @@ public abstract class AbstractMpOprfPsiServer<T> extends AbstractPsiServer<T> {
         serverElementStream = parallel ? serverElementStream.parallel() : serverElementStream;
         List<byte[]> serverPrfs = serverElementStream
             .map(element -> {
-                byte[] elementByteArray = ObjectUtils.objectToByteArray(element);
+                byte[] elementByteArray = elementCodec.encode(element);
                 byte[] prf = mpOprfSenderOutput.getPrf(elementByteArray);
                 return peqtHash.digestToBytes(prf);
             })
             .collect(Collectors.toList());
         Collections.shuffle(serverPrfs, secureRandom);
-        // construct the filter
-        Filter<byte[]> serverPrfFilter = FilterFactory.createFilter(envType, filterType, serverElementSize, secureRandom);
-        serverPrfs.forEach(serverPrfFilter::put);
-        List<byte[]> serverPrfFilterPayload = serverPrfFilter.save();
-        DataPacketHeader serverPrfFilterHeader = new DataPacketHeader(
-            encodeTaskId, getPtoDesc().getPtoId(), MpOprfPsiPtoStep.SERVER_SEND_PRFS.ordinal(),
-            extraInfo, ownParty().getPartyId(), otherParty().getPartyId()
-        );
-        rpc.send(DataPacket.fromByteArrayList(serverPrfFilterHeader, serverPrfFilterPayload));
+        // choose the number of chunks from the hashed PRFs and send it to the client. Hashed PRFs are pseudo-random, so
+        // that the number of chunks does not reveal the server elements.
+        int[] chunkValues = serverPrfs.stream()
+            .mapToInt(serverPrf -> MpOprfPsiUtils.getChunkValue(serverPrf, 0, peqtByteLength))
+            .toArray();
+        int chunkNum = MpOprfPsiUtils.getFilterChunkNum(chunkValues, filterChunkNum);
+        List<byte[]> chunkNumPayload = Collections.singletonList(IntUtils.intToByteArray(chunkNum));
+        sendOtherPartyPayload(MpOprfPsiPtoStep.SERVER_SEND_CHUNK_NUM.ordinal(), chunkNumPayload);
+        // split PRFs into chunks, construct and send the filter for each chunk once it is built, so that the client
+        // probes the filter while the other chunks are in transfer
+        List<List<byte[]>> serverPrfChunks = IntStream.range(0, chunkNum)
+            .mapToObj(chunkIndex -> new ArrayList<byte[]>())
+            .collect(Collectors.toList());
+        for (int index = 0; index < serverPrfs.size(); index++) {
+            serverPrfChunks.get(Math.floorMod(chunkValues[index], chunkNum)).add(serverPrfs.get(index));
+        }
+        // all chunk filters are sized for the largest chunk. Some filters (e.g., the sparse random Bloom Filter) round
+        // sizes up to powers of two, and the number of chunks is chosen so that the largest chunk stays below the power
+        // of two if possible.
+        int chunkFilterMaxSize = serverPrfChunks.stream()
+            .mapToInt(List::size)
+            .max()
+            .orElse(0);
+        for (List<byte[]> serverPrfChunk : serverPrfChunks) {
+            List<byte[]> serverPrfFilterPayload;
+            if (serverPrfChunk.isEmpty()) {
+                // filters must have at least one element, send an empty payload for an empty chunk
+                serverPrfFilterPayload = new LinkedList<>();
+            } else {
+                Filter<byte[]> serverPrfFilter = FilterFactory.createFilter(
+                    envType, filterType, chunkFilterMaxSize, secureRandom
+                );
+                serverPrfChunk.forEach(serverPrfFilter::put);
+                serverPrfFilterPayload = compressFilter
+                    ? FilterFactory.saveCompressedFilter(serverPrfFilter) : serverPrfFilter.save();
+            }
+            sendOtherPartyPayload(MpOprfPsiPtoStep.SERVER_SEND_PRFS.ordinal(), serverPrfFilterPayload);
+        }
         stopWatch.stop();
         long serverPrfTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
         stopWatch.reset();
-        logStepInfo(PtoState.PTO_STEP, 3, 3, serverPrfTime, "Server sends PRF filter");
+        logStepInfo(
+            PtoState.PTO_STEP, 3, 3, serverPrfTime,
+            String.format("Server sends PRF filters in %d chunks", chunkNum)
+        );
 
         logPhaseInfo(PtoState.PTO_END);
     }
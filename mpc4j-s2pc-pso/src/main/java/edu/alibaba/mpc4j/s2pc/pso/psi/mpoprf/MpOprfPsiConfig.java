@@ -16,4 +16,21 @@ public interface MpOprfPsiConfig extends FilterPsiConfig {
      * @return mp-OPRF config.
      */
     MpOprfConfig getMpOprfConfig();
+
+    /**
+     * Gets the number of filter chunks. The server splits PRFs into chunks and sends one filter for each chunk as soon
+     * as the filter is built, so that the client probes filters while the other chunks are in transfer. The server
+     * might use a few more chunks (fewer than twice), so that the largest chunk stays below a power of two.
+     *
+     * @return the number of filter chunks.
+     */
+    int getFilterChunkNum();
+
+    /**
+     * Gets whether to compress filters. Only the sparse random Bloom Filter is compressed, since it is a sparse bit
+     * vector while other filters are dense.
+     *
+     * @return whether to compress filters.
+     */
+    boolean getCompressFilter();
 }
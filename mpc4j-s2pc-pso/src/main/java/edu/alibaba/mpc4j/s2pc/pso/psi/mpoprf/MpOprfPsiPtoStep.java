@@ -8,7 +8,11 @@ package edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf;
  */
 enum MpOprfPsiPtoStep {
     /**
-     * server sends PRFs
+     * server sends the number of filter chunks
+     */
+    SERVER_SEND_CHUNK_NUM,
+    /**
+     * server sends PRFs, one filter for each chunk
      */
     SERVER_SEND_PRFS,
 }
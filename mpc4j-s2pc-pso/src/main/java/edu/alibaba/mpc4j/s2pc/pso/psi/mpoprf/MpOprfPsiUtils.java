@@ -0,0 +1,91 @@
+package edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf;
+
+import edu.alibaba.mpc4j.common.tool.utils.LongUtils;
+
+/**
+ * mp-OPRF-based PSI utilities.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class MpOprfPsiUtils {
+    /**
+     * private constructor.
+     */
+    private MpOprfPsiUtils() {
+        // empty
+    }
+
+    /**
+     * Gets the filter chunk index of the hashed PRF. Hashed PRFs are pseudo-random, so that we take the leading bytes
+     * as the chunk index, and equal hashed PRFs of both parties are in chunks with the same index.
+     *
+     * @param data       data that contains the hashed PRF.
+     * @param offset     offset of the hashed PRF.
+     * @param byteLength byte length of the hashed PRF.
+     * @param chunkNum   number of chunks.
+     * @return the filter chunk index.
+     */
+    static int getChunkIndex(byte[] data, int offset, int byteLength, int chunkNum) {
+        return Math.floorMod(getChunkValue(data, offset, byteLength), chunkNum);
+    }
+
+    /**
+     * Gets the value of the hashed PRF used to compute its filter chunk index, i.e., the leading bytes as an integer.
+     *
+     * @param data       data that contains the hashed PRF.
+     * @param offset     offset of the hashed PRF.
+     * @param byteLength byte length of the hashed PRF.
+     * @return the value used to compute the filter chunk index.
+     */
+    static int getChunkValue(byte[] data, int offset, int byteLength) {
+        int value = 0;
+        for (int i = 0; i < Math.min(Integer.BYTES, byteLength); i++) {
+            value = (value << Byte.SIZE) | (data[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the number of filter chunks used for the server hashed PRFs. All chunk filters are sized for the largest
+     * chunk, and some filters (e.g., the sparse random Bloom Filter) round sizes up to powers of two. With c chunks, if
+     * the largest chunk is slightly above a power of two, all chunk filters double. We therefore use the number of
+     * chunks in [c, 2c) that minimizes (number of chunks) * (largest chunk size rounded up to a power of two), so that
+     * the total size of chunk filters grows linearly with n. Ties are broken by fewer chunks.
+     *
+     * @param chunkValues    values of hashed PRFs used to compute filter chunk indexes.
+     * @param filterChunkNum configured number of filter chunks.
+     * @return the number of filter chunks.
+     */
+    static int getFilterChunkNum(int[] chunkValues, int filterChunkNum) {
+        if (filterChunkNum == 1 || chunkValues.length <= filterChunkNum) {
+            return filterChunkNum;
+        }
+        int bestChunkNum = filterChunkNum;
+        long bestCapacity = Long.MAX_VALUE;
+        for (int chunkNum = filterChunkNum; chunkNum < 2 * filterChunkNum; chunkNum++) {
+            long capacity = (long) chunkNum << LongUtils.ceilLog2(getMaxChunkSize(chunkValues, chunkNum));
+            if (capacity < bestCapacity) {
+                bestChunkNum = chunkNum;
+                bestCapacity = capacity;
+            }
+        }
+        return bestChunkNum;
+    }
+
+    /**
+     * Gets the size of the largest chunk when splitting hashed PRFs into the given number of chunks.
+     *
+     * @param chunkValues values of hashed PRFs used to compute filter chunk indexes.
+     * @param chunkNum    number of chunks.
+     * @return the size of the largest chunk.
+     */
+    static int getMaxChunkSize(int[] chunkValues, int chunkNum) {
+        int[] chunkSizes = new int[chunkNum];
+        int maxChunkSize = 0;
+        for (int chunkValue : chunkValues) {
+            maxChunkSize = Math.max(maxChunkSize, ++chunkSizes[Math.floorMod(chunkValue, chunkNum)]);
+        }
+        return maxChunkSize;
+    }
+}
@@ -3,6 +3,7 @@ package edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf.cm20;
 import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractMultiPartyPtoConfig;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.MpOprfConfig;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.cm20.Cm20MpOprfConfig;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiFactory.PsiType;
@@ -23,11 +24,21 @@ public class Cm20PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
      * filter type
      */
     private final FilterType filterType;
+    /**
+     * number of filter chunks
+     */
+    private final int filterChunkNum;
+    /**
+     * compress filter
+     */
+    private final boolean compressFilter;
 
     private Cm20PsiConfig(Cm20PsiConfig.Builder builder) {
         super(SecurityModel.SEMI_HONEST, builder.mpOprfConfig);
         mpOprfConfig = builder.mpOprfConfig;
         filterType = builder.filterType;
+        filterChunkNum = builder.filterChunkNum;
+        compressFilter = builder.compressFilter;
     }
 
     @Override
@@ -45,6 +56,16 @@ public class Cm20PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
         return filterType;
     }
 
+    @Override
+    public int getFilterChunkNum() {
+        return filterChunkNum;
+    }
+
+    @Override
+    public boolean getCompressFilter() {
+        return compressFilter;
+    }
+
     public static class Builder implements org.apache.commons.lang3.builder.Builder<Cm20PsiConfig> {
         /**
          * MP-OPRF config
@@ -54,10 +75,20 @@ public class Cm20PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
          * filter type
          */
         private FilterType filterType;
+        /**
+         * number of filter chunks
+         */
+        private int filterChunkNum;
+        /**
+         * compress filter
+         */
+        private boolean compressFilter;
 
         public Builder() {
             mpOprfConfig = new Cm20MpOprfConfig.Builder().build();
             filterType = FilterType.SET_FILTER;
+            filterChunkNum = 1;
+            compressFilter = false;
         }
 
         public Builder setFilterType(FilterType filterType) {
@@ -65,6 +96,17 @@ public class Cm20PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
             return this;
         }
 
+        public Builder setFilterChunkNum(int filterChunkNum) {
+            MathPreconditions.checkPositive("filterChunkNum", filterChunkNum);
+            this.filterChunkNum = filterChunkNum;
+            return this;
+        }
+
+        public Builder setCompressFilter(boolean compressFilter) {
+            this.compressFilter = compressFilter;
+            return this;
+        }
+
         @Override
         public Cm20PsiConfig build() {
             return new Cm20PsiConfig(this);
@@ -4,6 +4,7 @@ import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractMultiPartyPtoConfig;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2k.Gf2kDokvsFactory.Gf2kDokvsType;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.MpOprfConfig;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.rs21.Rs21MpOprfConfig;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiFactory.PsiType;
@@ -24,11 +25,21 @@ public class Rr22PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
      * filter type
      */
     private final FilterType filterType;
+    /**
+     * number of filter chunks
+     */
+    private final int filterChunkNum;
+    /**
+     * compress filter
+     */
+    private final boolean compressFilter;
 
     private Rr22PsiConfig(Builder builder) {
         super(SecurityModel.MALICIOUS, builder.mpOprfConfig);
         mpOprfConfig = builder.mpOprfConfig;
         filterType = builder.filterType;
+        filterChunkNum = builder.filterChunkNum;
+        compressFilter = builder.compressFilter;
     }
 
     @Override
@@ -46,6 +57,16 @@ public class Rr22PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
         return filterType;
     }
 
+    @Override
+    public int getFilterChunkNum() {
+        return filterChunkNum;
+    }
+
+    @Override
+    public boolean getCompressFilter() {
+        return compressFilter;
+    }
+
     public static class Builder implements org.apache.commons.lang3.builder.Builder<Rr22PsiConfig> {
         /**
          * MP-OPRF config
@@ -55,6 +76,14 @@ public class Rr22PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
          * filter type
          */
         private FilterType filterType;
+        /**
+         * number of filter chunks
+         */
+        private int filterChunkNum;
+        /**
+         * compress filter
+         */
+        private boolean compressFilter;
 
         public Builder(SecurityModel securityModel) {
             this(securityModel, Gf2kDokvsType.H3_CLUSTER_FIELD_BLAZE_GCT);
@@ -65,6 +94,8 @@ public class Rr22PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
                 .setOkvsType(okvsType)
                 .build();
             filterType = FilterType.SET_FILTER;
+            filterChunkNum = 1;
+            compressFilter = false;
         }
 
         public Builder setFilterType(FilterType filterType) {
@@ -72,6 +103,17 @@ public class Rr22PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
             return this;
         }
 
+        public Builder setFilterChunkNum(int filterChunkNum) {
+            MathPreconditions.checkPositive("filterChunkNum", filterChunkNum);
+            this.filterChunkNum = filterChunkNum;
+            return this;
+        }
+
+        public Builder setCompressFilter(boolean compressFilter) {
+            this.compressFilter = compressFilter;
+            return this;
+        }
+
         @Override
         public Rr22PsiConfig build() {
             return new Rr22PsiConfig(this);
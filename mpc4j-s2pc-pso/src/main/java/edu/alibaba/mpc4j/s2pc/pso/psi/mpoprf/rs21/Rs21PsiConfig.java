@@ -4,6 +4,7 @@ import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractMultiPartyPtoConfig;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2k.Gf2kDokvsFactory.Gf2kDokvsType;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.MpOprfConfig;
 import edu.alibaba.mpc4j.s2pc.opf.oprf.rs21.Rs21MpOprfConfig;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiFactory.PsiType;
@@ -24,11 +25,21 @@ public class Rs21PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
      * filter type
      */
     private final FilterType filterType;
+    /**
+     * number of filter chunks
+     */
+    private final int filterChunkNum;
+    /**
+     * compress filter
+     */
+    private final boolean compressFilter;
 
     private Rs21PsiConfig(Builder builder) {
         super(SecurityModel.MALICIOUS, builder.mpOprfConfig);
         mpOprfConfig = builder.mpOprfConfig;
         filterType = builder.filterType;
+        filterChunkNum = builder.filterChunkNum;
+        compressFilter = builder.compressFilter;
     }
 
     @Override
@@ -46,6 +57,16 @@ public class Rs21PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
         return filterType;
     }
 
+    @Override
+    public int getFilterChunkNum() {
+        return filterChunkNum;
+    }
+
+    @Override
+    public boolean getCompressFilter() {
+        return compressFilter;
+    }
+
     public static class Builder implements org.apache.commons.lang3.builder.Builder<Rs21PsiConfig> {
         /**
          * MP-OPRF config
@@ -55,12 +76,22 @@ public class Rs21PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
          * filter type
          */
         private FilterType filterType;
+        /**
+         * number of filter chunks
+         */
+        private int filterChunkNum;
+        /**
+         * compress filter
+         */
+        private boolean compressFilter;
 
         public Builder(SecurityModel securityModel) {
             mpOprfConfig = new Rs21MpOprfConfig.Builder(securityModel)
                 .setOkvsType(Gf2kDokvsType.H2_BINARY_SINGLETON_GCT)
                 .build();
             filterType = FilterType.SET_FILTER;
+            filterChunkNum = 1;
+            compressFilter = false;
         }
 
         public Builder setFilterType(FilterType filterType) {
@@ -68,6 +99,17 @@ public class Rs21PsiConfig extends AbstractMultiPartyPtoConfig implements MpOprf
             return this;
         }
 
+        public Builder setFilterChunkNum(int filterChunkNum) {
+            MathPreconditions.checkPositive("filterChunkNum", filterChunkNum);
+            this.filterChunkNum = filterChunkNum;
+            return this;
+        }
+
+        public Builder setCompressFilter(boolean compressFilter) {
+            this.compressFilter = compressFilter;
+            return this;
+        }
+
         @Override
         public Rs21PsiConfig build() {
             return new Rs21PsiConfig(this);
@@ -8,7 +8,6 @@ import edu.alibaba.mpc4j.common.tool.bitvector.BitVectorFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.opf.mqrpmt.MqRpmtFactory;
 import edu.alibaba.mpc4j.s2pc.opf.mqrpmt.MqRpmtServer;
 import edu.alibaba.mpc4j.s2pc.pso.psi.AbstractPsiClient;
@@ -76,7 +75,7 @@ public abstract class AbstractMqRpmtPsiClient<T> extends AbstractPsiClient<T> {
         clientElementStream = parallel ? clientElementStream.parallel() : clientElementStream;
         Map<ByteBuffer, T> clientHashElementMap = clientElementStream
             .collect(Collectors.toMap(
-                element -> ByteBuffer.wrap(hash.digestToBytes(ObjectUtils.objectToByteArray(element))),
+                element -> ByteBuffer.wrap(hash.digestToBytes(elementCodec.encode(element))),
                 element -> element
             ));
         if (clientElementSize == 1) {
@@ -11,7 +11,6 @@ import edu.alibaba.mpc4j.common.tool.bitvector.BitVectorFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.opf.mqrpmt.MqRpmtClient;
 import edu.alibaba.mpc4j.s2pc.opf.mqrpmt.MqRpmtFactory;
 import edu.alibaba.mpc4j.s2pc.pso.psi.AbstractPsiServer;
@@ -75,7 +74,7 @@ public abstract class AbstractMqRpmtPsiServer<T> extends AbstractPsiServer<T> {
         Stream<T> serverElementStream = serverElementSet.stream();
         serverElementStream = parallel ? serverElementStream.parallel() : serverElementStream;
         Set<ByteBuffer> serverHashElementSet = serverElementStream
-            .map(element -> hash.digestToBytes(ObjectUtils.objectToByteArray(element)))
+            .map(element -> hash.digestToBytes(elementCodec.encode(element)))
             .map(ByteBuffer::wrap)
             .collect(Collectors.toSet());
         // pad a random element when server_size = 1, this is because mq-RPMT cannot support n = 1.
@@ -20,7 +20,6 @@ import edu.alibaba.mpc4j.common.tool.polynomial.gf2e.Gf2ePolyFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BinaryUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.CotReceiverOutput;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.RotReceiverOutput;
 import edu.alibaba.mpc4j.s2pc.pcg.ot.cot.core.CoreCotFactory;
@@ -223,7 +222,7 @@ public class Prty19FastPsiServer<T> extends AbstractPsiServer<T> {
         IntStream elementIndexIntStream = IntStream.range(0, serverElementSize);
         elementIndexIntStream = parallel ? elementIndexIntStream.parallel() : elementIndexIntStream;
         elementIndexIntStream.forEach(index -> {
-            byte[] x = ObjectUtils.objectToByteArray(serverElementArrayList.get(index));
+            byte[] x = elementCodec.encode(serverElementArrayList.get(index));
             byte[] x0 = new byte[x.length + 1];
             x0[0] = 0;
             System.arraycopy(x, 0, x0, 1, x.length);
@@ -242,7 +241,7 @@ public class Prty19FastPsiServer<T> extends AbstractPsiServer<T> {
         serverElementIntStream = parallel ? serverElementIntStream.parallel() : serverElementIntStream;
         List<byte[]> serverElementPrfs = serverElementIntStream
             .mapToObj(index -> {
-                byte[] elementByteArray = ObjectUtils.objectToByteArray(serverElementArrayList.get(index));
+                byte[] elementByteArray = elementCodec.encode(serverElementArrayList.get(index));
                 int binIndex = binHash.getInteger(elementByteArray, binNum);
                 byte[] x = xs[index];
                 byte[] ex = new byte[byteL];
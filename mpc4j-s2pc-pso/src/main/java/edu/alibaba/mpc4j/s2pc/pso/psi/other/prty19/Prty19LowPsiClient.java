@@ -210,7 +210,7 @@ public class Prty19LowPsiClient<T> extends AbstractPsiClient<T> {
         IntStream elementIndexIntStream = IntStream.range(0, clientElementSize);
         elementIndexIntStream = parallel ? elementIndexIntStream.parallel() : elementIndexIntStream;
         elementIndexIntStream.forEach(index -> {
-            ys[index] = ObjectUtils.objectToByteArray(clientElementArrayList.get(index));
+            ys[index] = elementCodec.encode(clientElementArrayList.get(index));
             ys[index] = elementPrf.getBytes(ys[index]);
         });
     }
@@ -210,7 +210,7 @@ public class Prty19LowPsiServer<T> extends AbstractPsiServer<T> {
         IntStream elementIndexIntStream = IntStream.range(0, serverElementSize);
         elementIndexIntStream = parallel ? elementIndexIntStream.parallel() : elementIndexIntStream;
         elementIndexIntStream.forEach(index -> {
-            xs[index] = ObjectUtils.objectToByteArray(serverElementArrayList.get(index));
+            xs[index] = elementCodec.encode(serverElementArrayList.get(index));
             xs[index] = elementPrf.getBytes(xs[index]);
         });
     }
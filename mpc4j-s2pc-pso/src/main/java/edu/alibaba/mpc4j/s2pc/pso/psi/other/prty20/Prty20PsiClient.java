@@ -11,7 +11,6 @@ import edu.alibaba.mpc4j.common.structure.filter.FilterFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvs;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory.Gf2eDokvsType;
@@ -127,7 +126,7 @@ public class Prty20PsiClient<T> extends AbstractPsiClient<T> {
             .collect(Collectors.toMap(
                 y -> y,
                 y -> {
-                    byte[] yBytes = ObjectUtils.objectToByteArray(y);
+                    byte[] yBytes = elementCodec.encode(y);
                     byte[] h1y = h1.digestToBytes(yBytes);
                     BytesUtils.reduceByteArray(h1y, maxL);
                     return h1y;
@@ -154,7 +153,7 @@ public class Prty20PsiClient<T> extends AbstractPsiClient<T> {
                     // Decode(R, y)
                     byte[] decode = paxosR.decode(r, y);
                     // H_2(y, Decode(R, y))
-                    byte[] yBytes = ObjectUtils.objectToByteArray(y);
+                    byte[] yBytes = elementCodec.encode(y);
                     byte[] yDecode = ByteBuffer.allocate(yBytes.length + decode.length)
                         .put(yBytes)
                         .put(decode)
@@ -12,7 +12,6 @@ import edu.alibaba.mpc4j.common.structure.filter.FilterFactory;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvs;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory.Gf2eDokvsType;
@@ -150,7 +149,7 @@ public class Prty20PsiServer<T> extends AbstractPsiServer<T> {
             .mapToObj(index -> {
                 T x = serverElementArrayList.get(index);
                 // H_1(x)
-                byte[] xBytes = ObjectUtils.objectToByteArray(x);
+                byte[] xBytes = elementCodec.encode(x);
                 byte[] hx = h1.digestToBytes(xBytes);
                 BytesUtils.reduceByteArray(hx, maxL);
                 // C(H_1(x))
@@ -173,7 +173,7 @@ public class Rr16PsiClient<T> extends AbstractPsiClient<T> {
 
         stopWatch.start();
         Stream<T> elementStream = parallel ? clientElementArrayList.stream().parallel() : clientElementArrayList.stream();
-        byte[][] clientElementByteArrays = elementStream.map(ObjectUtils::objectToByteArray).toArray(byte[][]::new);
+        byte[][] clientElementByteArrays = elementStream.map(elementCodec::encode).toArray(byte[][]::new);
         IntStream.range(0, clientElementByteArrays.length).forEach(index -> filter.put(clientElementByteArrays[index]));
         // permutation
         List<byte[]> piPayload = generatePermutation();
@@ -232,7 +232,7 @@ public class Rr16PsiClient<T> extends AbstractPsiClient<T> {
                 usedOne.add(index);
             } else {
                 usedZero.add(index);
-                BytesUtils.xori(response, cotReceiverOutput.getRb(index));
+                cotReceiverOutput.xoriRb(index, response, 0);
                 challenge.add(x);
             }
         });
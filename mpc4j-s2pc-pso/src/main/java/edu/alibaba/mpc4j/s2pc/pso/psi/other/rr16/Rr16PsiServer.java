@@ -158,7 +158,7 @@ public class Rr16PsiServer<T> extends AbstractPsiServer<T> {
         Stream<T> serverElementStream = parallel ? serverElementArrayList.stream().parallel() : serverElementArrayList.stream();
         List<byte[]> serverPrfs = serverElementStream
             .map(element -> {
-                byte[] elementByteArray = ObjectUtils.objectToByteArray(element);
+                byte[] elementByteArray = elementCodec.encode(element);
                 byte[] prf = Rr16PsiUtils.decode(q1, elementByteArray, gbfHash);
                 return peqtHash.digestToBytes(prf);
             })
@@ -199,7 +199,7 @@ public class Rr16PsiServer<T> extends AbstractPsiServer<T> {
             .mapToInt(IntUtils::byteArrayToInt)
             .toArray();
         byte[] zero = BlockUtils.zeroBlock();
-        IntStream.range(0, index.length).forEach(i -> BlockUtils.xori(zero, cotSenderOutput.getR0(index[i])));
+        IntStream.range(0, index.length).forEach(i -> cotSenderOutput.xoriR0(index[i], zero, 0));
         MpcAbortPreconditions.checkArgument(BlockUtils.equals(zero, responsePayload.get(responsePayload.size() - 1)));
     }
 }
\ No newline at end of file
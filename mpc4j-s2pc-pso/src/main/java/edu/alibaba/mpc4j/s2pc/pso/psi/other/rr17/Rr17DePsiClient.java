@@ -151,7 +151,7 @@ public class Rr17DePsiClient<T> extends AbstractPsiClient<T> {
         // insert the elements of client into HashBin
         Stream<T> elementStream = parallel ? clientElementArrayList.stream().parallel() : clientElementArrayList.stream();
         phaseHashBin.insertItems(elementStream.map(arr -> {
-            BigInteger intArr = BigIntegerUtils.byteArrayToNonNegBigInteger(h1.digestToBytes(ObjectUtils.objectToByteArray(arr)));
+            BigInteger intArr = BigIntegerUtils.byteArrayToNonNegBigInteger(h1.digestToBytes(elementCodec.encode(arr)));
             elementMap.put(intArr, arr);
             return intArr;
         }).collect(Collectors.toList()));
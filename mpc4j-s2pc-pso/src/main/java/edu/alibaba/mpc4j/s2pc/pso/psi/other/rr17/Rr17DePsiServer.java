@@ -145,7 +145,7 @@ public class Rr17DePsiServer<T> extends AbstractPsiServer<T> {
         peqtHash = HashFactory.createInstance(envType, peqtByteLength);
 
         phaseHashBin.insertItems(serverElementArrayList.stream().map(arr ->
-                BigIntegerUtils.byteArrayToNonNegBigInteger(h1.digestToBytes(ObjectUtils.objectToByteArray(arr))))
+                BigIntegerUtils.byteArrayToNonNegBigInteger(h1.digestToBytes(elementCodec.encode(arr))))
             .collect(Collectors.toList()));
         phaseHashBin.insertPaddingItems(BigInteger.ZERO);
         stopWatch.stop();
@@ -154,7 +154,7 @@ public class Rr17EcPsiClient<T> extends AbstractPsiClient<T> {
         stopWatch.start();
         elementMap = new HashMap<>(clientElementSize);
         phaseHashBin.insertItems(clientElementArrayList.stream().map(arr -> {
-            BigInteger intArr = BigIntegerUtils.byteArrayToNonNegBigInteger(h1.digestToBytes(ObjectUtils.objectToByteArray(arr)));
+            BigInteger intArr = BigIntegerUtils.byteArrayToNonNegBigInteger(h1.digestToBytes(elementCodec.encode(arr)));
             elementMap.put(intArr, arr);
             return intArr;
         }).collect(Collectors.toList()));
@@ -146,7 +146,7 @@ public class Rr17EcPsiServer<T> extends AbstractPsiServer<T> {
 
         stopWatch.start();
         phaseHashBin.insertItems(serverElementArrayList.stream().map(arr ->
-            BigIntegerUtils.byteArrayToNonNegBigInteger(h1.digestToBytes(ObjectUtils.objectToByteArray(arr)))).collect(Collectors.toList()));
+            BigIntegerUtils.byteArrayToNonNegBigInteger(h1.digestToBytes(elementCodec.encode(arr)))).collect(Collectors.toList()));
         phaseHashBin.insertPaddingItems(BigInteger.ZERO);
         stopWatch.stop();
         long hashTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteEccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteMulEcc;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psi.AbstractPsiClient;
 import edu.alibaba.mpc4j.s2pc.pso.psi.pke.hfh99.Hfh99ByteEccPsiPtoDesc.PtoStep;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiUtils;
@@ -113,7 +112,7 @@ public class Hfh99ByteEccPsiClient<T> extends AbstractPsiClient<T> {
         Stream<T> clientElementStream = clientElementArrayList.stream();
         clientElementStream = parallel ? clientElementStream.parallel() : clientElementStream;
         return clientElementStream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(byteMulEcc::hashToCurve)
             .map(p -> byteMulEcc.mul(p, beta))
             .collect(Collectors.toList());
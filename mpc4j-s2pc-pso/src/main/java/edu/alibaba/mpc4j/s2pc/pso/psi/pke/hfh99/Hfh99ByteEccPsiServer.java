@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteEccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.ByteMulEcc;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psi.AbstractPsiServer;
 import edu.alibaba.mpc4j.s2pc.pso.psi.pke.hfh99.Hfh99ByteEccPsiPtoDesc.PtoStep;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiUtils;
@@ -106,7 +105,7 @@ public class Hfh99ByteEccPsiServer<T> extends AbstractPsiServer<T> {
         Stream<T> serverElementStream = serverElementArrayList.stream();
         serverElementStream = parallel ? serverElementStream.parallel() : serverElementStream;
         return serverElementStream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(byteMulEcc::hashToCurve)
             .map(p -> byteMulEcc.mul(p, alpha))
             .collect(Collectors.toList());
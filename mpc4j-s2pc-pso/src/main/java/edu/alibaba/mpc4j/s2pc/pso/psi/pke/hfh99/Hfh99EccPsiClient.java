@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.Ecc;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.EccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psi.AbstractPsiClient;
 import edu.alibaba.mpc4j.s2pc.pso.psi.pke.hfh99.Hfh99EccPsiPtoDesc.PtoStep;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiUtils;
@@ -119,7 +118,7 @@ public class Hfh99EccPsiClient<T> extends AbstractPsiClient<T> {
         Stream<T> clientElementStream = clientElementArrayList.stream();
         clientElementStream = parallel ? clientElementStream.parallel() : clientElementStream;
         return clientElementStream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ecc::hashToCurve)
             .map(p -> ecc.multiply(p, beta))
             .map(p -> ecc.encode(p, compressEncode))
@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.Ecc;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.EccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psi.AbstractPsiServer;
 import edu.alibaba.mpc4j.s2pc.pso.psi.pke.hfh99.Hfh99EccPsiPtoDesc.PtoStep;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiUtils;
@@ -112,7 +111,7 @@ public class Hfh99EccPsiServer<T> extends AbstractPsiServer<T> {
         Stream<T> serverElementStream = serverElementArrayList.stream();
         serverElementStream = parallel ? serverElementStream.parallel() : serverElementStream;
         return serverElementStream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ecc::hashToCurve)
             .map(p -> ecc.multiply(p, alpha))
             .map(p -> ecc.encode(p, compressEncode))
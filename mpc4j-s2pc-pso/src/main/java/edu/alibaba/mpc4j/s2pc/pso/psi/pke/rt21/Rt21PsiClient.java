@@ -14,7 +14,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.prf.PrfFactory;
 import edu.alibaba.mpc4j.common.structure.filter.Filter;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvs;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory.Gf2eDokvsType;
@@ -187,7 +186,7 @@ public class Rt21PsiClient<T> extends AbstractPsiClient<T> {
             .boxed()
             .collect(Collectors.toMap(
                 index -> {
-                    byte[] elementByteArray = ObjectUtils.objectToByteArray(clientElementArrayList.get(index));
+                    byte[] elementByteArray = elementCodec.encode(clientElementArrayList.get(index));
                     return ByteBuffer.wrap(h1.digestToBytes(elementByteArray));
                 },
                 index -> {
@@ -217,7 +216,7 @@ public class Rt21PsiClient<T> extends AbstractPsiClient<T> {
         return clientElementIntStream
             .mapToObj(index -> {
                 T element = clientElementArrayList.get(index);
-                byte[] elementByteArray = ObjectUtils.objectToByteArray(element);
+                byte[] elementByteArray = elementCodec.encode(element);
                 byte[] h2Input = ByteBuffer.allocate(kArray[index].length + elementByteArray.length)
                     .put(kArray[index])
                     .put(elementByteArray)
@@ -16,7 +16,6 @@ import edu.alibaba.mpc4j.common.structure.filter.Filter;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvs;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory.Gf2eDokvsType;
@@ -176,7 +175,7 @@ public class Rt21PsiServer<T> extends AbstractPsiServer<T> {
         serverElementStream = parallel ? serverElementStream.parallel() : serverElementStream;
         List<byte[]> serverPeqtList = serverElementStream
             .map(element -> {
-                byte[] elementByteArray = ObjectUtils.objectToByteArray(element);
+                byte[] elementByteArray = elementCodec.encode(element);
                 //  P(H1(x))
                 byte[] ph1x = dokvs.decode(storage, ByteBuffer.wrap(h1.digestToBytes(elementByteArray)));
                 // prp(P(H1(x)))
@@ -12,7 +12,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
 import edu.alibaba.mpc4j.common.structure.filter.Filter;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory;
 import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.opf.sqoprf.SqOprfFactory;
 import edu.alibaba.mpc4j.s2pc.opf.sqoprf.SqOprfKey;
 import edu.alibaba.mpc4j.s2pc.opf.sqoprf.SqOprfSender;
@@ -94,7 +93,7 @@ public abstract class AbstractSqOprfPsiServer<T> extends AbstractPsiServer<T> {
         serverElementStream = parallel ? serverElementStream.parallel() : serverElementStream;
         List<byte[]> serverPrfs = serverElementStream
             .map(x -> {
-                byte[] xBytes = ObjectUtils.objectToByteArray(x);
+                byte[] xBytes = elementCodec.encode(x);
                 byte[] prf = key.getPrf(xBytes);
                 return peqtHash.digestToBytes(prf);
             })
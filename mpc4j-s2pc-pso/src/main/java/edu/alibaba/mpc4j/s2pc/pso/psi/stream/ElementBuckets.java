@@ -0,0 +1,234 @@
+package edu.alibaba.mpc4j.s2pc.pso.psi.stream;
+
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.hash.IntHash;
+import edu.alibaba.mpc4j.common.tool.hash.IntHashFactory;
+import edu.alibaba.mpc4j.common.tool.hash.IntHashFactory.IntHashType;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Element buckets on disk. Elements are written into the bucket indexed by a public hash of the element, so that
+ * both parties put equal elements into buckets with the same index. Each bucket is a file of length-prefixed elements,
+ * and is deleted once it is read.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class ElementBuckets implements AutoCloseable {
+    /**
+     * Writes elements into buckets.
+     *
+     * @param workDirectory  work directory, in which a temporary directory is created for the bucket files.
+     * @param bucketNum      number of buckets.
+     * @param elements       elements.
+     * @param maxElementSize max number of elements.
+     * @return buckets.
+     */
+    static ElementBuckets create(Path workDirectory, int bucketNum, Iterator<ByteBuffer> elements, int maxElementSize) {
+        return new ElementBuckets(workDirectory, bucketNum, elements, maxElementSize);
+    }
+
+    /**
+     * Encodes a line into an element.
+     *
+     * @param line line.
+     * @return element.
+     */
+    static ByteBuffer lineToElement(String line) {
+        return ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes an element into a line.
+     *
+     * @param element element.
+     * @return line.
+     */
+    static String elementToLine(ByteBuffer element) {
+        return new String(toByteArray(element), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the remaining bytes of the element, i.e., bytes in [position, limit). The position of the element is not
+     * changed. The element can be a slice of a larger buffer or a direct buffer.
+     *
+     * @param element element.
+     * @return the remaining bytes of the element.
+     */
+    static byte[] toByteArray(ByteBuffer element) {
+        if (element.hasArray() && element.arrayOffset() == 0 && element.position() == 0
+            && element.remaining() == element.array().length) {
+            // the element wraps the whole array, which is the case for elements created by ByteBuffer.wrap(byte[])
+            return element.array();
+        }
+        byte[] bytes = new byte[element.remaining()];
+        element.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Splits the bucket into chunks with at most chunkSize elements. The i-th chunk has
+     * min(chunkSize, bucket.size() - i * chunkSize) elements.
+     *
+     * @param bucket    bucket.
+     * @param chunkSize chunk size.
+     * @return chunks.
+     */
+    static List<Set<ByteBuffer>> split(Set<ByteBuffer> bucket, int chunkSize) {
+        if (bucket.size() <= chunkSize) {
+            return bucket.isEmpty() ? Collections.emptyList() : Collections.singletonList(bucket);
+        }
+        List<ByteBuffer> elements = new ArrayList<>(bucket);
+        List<Set<ByteBuffer>> chunks = new ArrayList<>();
+        for (int from = 0; from < elements.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, elements.size());
+            chunks.add(new HashSet<>(elements.subList(from, to)));
+        }
+        return chunks;
+    }
+
+    /**
+     * hash for bucket indexes
+     */
+    private final IntHash bucketHash;
+    /**
+     * temporary directory
+     */
+    private final Path directory;
+    /**
+     * bucket files
+     */
+    private final Path[] bucketFiles;
+    /**
+     * number of written elements in each bucket, including duplicates
+     */
+    private final int[] bucketSizes;
+    /**
+     * number of written elements
+     */
+    private int elementSize;
+
+    private ElementBuckets(Path workDirectory, int bucketNum, Iterator<ByteBuffer> elements, int maxElementSize) {
+        MathPreconditions.checkPositive("bucketNum", bucketNum);
+        bucketHash = IntHashFactory.createInstance(IntHashType.BOB_HASH_32);
+        try {
+            directory = Files.createTempDirectory(workDirectory, "stream-psi-");
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create bucket directory in " + workDirectory, e);
+        }
+        bucketFiles = new Path[bucketNum];
+        bucketSizes = new int[bucketNum];
+        DataOutputStream[] outputStreams = new DataOutputStream[bucketNum];
+        try {
+            for (int bucketIndex = 0; bucketIndex < bucketNum; bucketIndex++) {
+                bucketFiles[bucketIndex] = directory.resolve("bucket-" + bucketIndex);
+                outputStreams[bucketIndex] = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(bucketFiles[bucketIndex]))
+                );
+            }
+            elementSize = 0;
+            while (elements.hasNext()) {
+                byte[] element = toByteArray(elements.next());
+                elementSize++;
+                MathPreconditions.checkLessOrEqual("elementSize", elementSize, maxElementSize);
+                // the hash does not accept empty inputs, so that we put the empty element into the first bucket
+                int bucketIndex = element.length == 0 ? 0 : Math.floorMod(bucketHash.hash(element), bucketNum);
+                outputStreams[bucketIndex].writeInt(element.length);
+                outputStreams[bucketIndex].write(element);
+                bucketSizes[bucketIndex]++;
+            }
+            for (DataOutputStream outputStream : outputStreams) {
+                outputStream.close();
+            }
+        } catch (IOException e) {
+            closeQuietly(outputStreams);
+            close();
+            throw new IllegalStateException("Failed to write buckets in " + directory, e);
+        } catch (RuntimeException e) {
+            closeQuietly(outputStreams);
+            close();
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(OutputStream[] outputStreams) {
+        for (OutputStream outputStream : outputStreams) {
+            if (outputStream != null) {
+                try {
+                    outputStream.close();
+                } catch (IOException ignored) {
+                    // the file is deleted anyway
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of buckets.
+     *
+     * @return the number of buckets.
+     */
+    int getBucketNum() {
+        return bucketFiles.length;
+    }
+
+    /**
+     * Gets the number of written elements, including duplicates.
+     *
+     * @return the number of written elements.
+     */
+    int getElementSize() {
+        return elementSize;
+    }
+
+    /**
+     * Reads the distinct elements in the bucket, and deletes the bucket file.
+     *
+     * @param bucketIndex bucket index.
+     * @return distinct elements in the bucket.
+     */
+    Set<ByteBuffer> read(int bucketIndex) {
+        MathPreconditions.checkNonNegativeInRange("bucketIndex", bucketIndex, bucketFiles.length);
+        Set<ByteBuffer> bucket = new HashSet<>(bucketSizes[bucketIndex]);
+        try (DataInputStream inputStream = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(bucketFiles[bucketIndex]))
+        )) {
+            for (int i = 0; i < bucketSizes[bucketIndex]; i++) {
+                byte[] element = new byte[inputStream.readInt()];
+                inputStream.readFully(element);
+                bucket.add(ByteBuffer.wrap(element));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read bucket " + bucketFiles[bucketIndex], e);
+        }
+        delete(bucketFiles[bucketIndex]);
+        return bucket;
+    }
+
+    /**
+     * Deletes all bucket files and the temporary directory.
+     */
+    @Override
+    public void close() {
+        for (Path bucketFile : bucketFiles) {
+            if (bucketFile != null) {
+                delete(bucketFile);
+            }
+        }
+        delete(directory);
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to delete " + path, e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package edu.alibaba.mpc4j.s2pc.pso.psi.stream;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.rpc.MpcAbortPreconditions;
+import edu.alibaba.mpc4j.common.rpc.Party;
+import edu.alibaba.mpc4j.common.rpc.PtoState;
+import edu.alibaba.mpc4j.common.rpc.Rpc;
+import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyPto;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
+import edu.alibaba.mpc4j.s2pc.pso.psi.PsiClient;
+import edu.alibaba.mpc4j.s2pc.pso.psi.PsiFactory;
+import edu.alibaba.mpc4j.s2pc.pso.psi.stream.StreamPsiPtoDesc.PtoStep;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * stream PSI client. The client reads elements from an iterator or a file, writes them into buckets on disk, runs the
+ * underlying PSI client bucket by bucket, and streams the intersection to a sink, so that the memory is bounded by the
+ * bucket element size instead of the number of elements.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class StreamPsiClient extends AbstractTwoPartyPto {
+    /**
+     * PSI client
+     */
+    private final PsiClient<ByteBuffer> psiClient;
+    /**
+     * bucket element size
+     */
+    private final int bucketElementSize;
+    /**
+     * max client element size
+     */
+    private int maxClientElementSize;
+    /**
+     * max server element size
+     */
+    private int maxServerElementSize;
+    /**
+     * number of buckets
+     */
+    private int bucketNum;
+
+    public StreamPsiClient(Rpc clientRpc, Party serverParty, StreamPsiConfig config) {
+        super(StreamPsiPtoDesc.getInstance(), clientRpc, serverParty, config);
+        psiClient = PsiFactory.createClient(clientRpc, serverParty, config.getPsiConfig());
+        addSubPto(psiClient);
+        bucketElementSize = config.getBucketElementSize();
+    }
+
+    /**
+     * init protocol
+     *
+     * @param maxClientElementSize max size of elements of client
+     * @param maxServerElementSize max size of elements of server
+     * @throws MpcAbortException If protocol aborts
+     */
+    public void init(int maxClientElementSize, int maxServerElementSize) throws MpcAbortException {
+        MathPreconditions.checkPositive("maxClientElementSize", maxClientElementSize);
+        this.maxClientElementSize = maxClientElementSize;
+        MathPreconditions.checkPositive("maxServerElementSize", maxServerElementSize);
+        this.maxServerElementSize = maxServerElementSize;
+        initState();
+        logPhaseInfo(PtoState.INIT_BEGIN);
+
+        stopWatch.start();
+        bucketNum = StreamPsiPtoDesc.getBucketNum(maxServerElementSize, maxClientElementSize, bucketElementSize);
+        psiClient.init(Math.min(maxClientElementSize, bucketElementSize), Math.min(maxServerElementSize, bucketElementSize));
+        stopWatch.stop();
+        long initTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        stopWatch.reset();
+        logStepInfo(PtoState.INIT_STEP, 1, 1, initTime, String.format("Client inits with %d buckets", bucketNum));
+
+        logPhaseInfo(PtoState.INIT_END);
+    }
+
+    /**
+     * run the protocol, each line of the file is one element. Each line of the intersection file is one element in
+     * the intersection.
+     *
+     * @param clientElementFile the file of client's elements
+     * @param workDirectory     the directory for buckets
+     * @param intersectionFile  the file of the intersection
+     * @return intersection size
+     * @throws MpcAbortException If protocol aborts
+     */
+    public int psi(Path clientElementFile, Path workDirectory, Path intersectionFile) throws MpcAbortException {
+        try (Stream<String> lines = Files.lines(clientElementFile, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(intersectionFile, StandardCharsets.UTF_8)) {
+            return psi(lines.map(ElementBuckets::lineToElement).iterator(), workDirectory, element -> {
+                try {
+                    writer.write(ElementBuckets.elementToLine(element));
+                    writer.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException("Failed to read " + clientElementFile + " or write " + intersectionFile, e);
+        }
+    }
+
+    /**
+     * run the protocol. Duplicate elements are allowed, and each element in the intersection is sent to the sink once.
+     * Each element is the remaining bytes of the ByteBuffer.
+     *
+     * @param clientElements   the client's elements
+     * @param workDirectory    the directory for buckets
+     * @param intersectionSink the sink of the intersection
+     * @return intersection size
+     * @throws MpcAbortException If protocol aborts
+     */
+    public int psi(Iterator<ByteBuffer> clientElements, Path workDirectory, Consumer<ByteBuffer> intersectionSink)
+        throws MpcAbortException {
+        checkInitialized();
+        logPhaseInfo(PtoState.PTO_BEGIN);
+
+        stopWatch.start();
+        int intersectionSize = 0;
+        try (ElementBuckets buckets = ElementBuckets.create(workDirectory, bucketNum, clientElements, maxClientElementSize)) {
+            stopWatch.stop();
+            long bucketTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+            stopWatch.reset();
+            logStepInfo(
+                PtoState.PTO_STEP, 1, 2, bucketTime,
+                String.format("Client writes %d elements into %d buckets", buckets.getElementSize(), bucketNum)
+            );
+
+            stopWatch.start();
+            int serverElementSize = 0;
+            for (int bucketIndex = 0; bucketIndex < bucketNum; bucketIndex++) {
+                Set<ByteBuffer> clientBucket = buckets.read(bucketIndex);
+                List<byte[]> serverBucketSizePayload = receiveOtherPartyPayload(PtoStep.SERVER_SEND_BUCKET_SIZE.ordinal());
+                List<byte[]> clientBucketSizePayload = Collections.singletonList(IntUtils.intToByteArray(clientBucket.size()));
+                sendOtherPartyPayload(PtoStep.CLIENT_SEND_BUCKET_SIZE.ordinal(), clientBucketSizePayload);
+                MpcAbortPreconditions.checkArgument(serverBucketSizePayload.size() == 1);
+                int serverBucketSize = IntUtils.byteArrayToInt(serverBucketSizePayload.get(0));
+                MpcAbortPreconditions.checkArgument(serverBucketSize >= 0);
+                serverElementSize += serverBucketSize;
+                MpcAbortPreconditions.checkArgument(serverElementSize <= maxServerElementSize);
+                // run PSI on each pair of server and client chunks, the server chunks are disjoint so that each
+                // element in the intersection is found once
+                int serverChunkNum = CommonUtils.getUnitNum(serverBucketSize, bucketElementSize);
+                List<Set<ByteBuffer>> clientChunks = ElementBuckets.split(clientBucket, bucketElementSize);
+                for (int serverChunkIndex = 0; serverChunkIndex < serverChunkNum; serverChunkIndex++) {
+                    int serverChunkSize = Math.min(bucketElementSize, serverBucketSize - serverChunkIndex * bucketElementSize);
+                    for (Set<ByteBuffer> clientChunk : clientChunks) {
+                        Set<ByteBuffer> intersection = psiClient.psi(clientChunk, serverChunkSize);
+                        intersection.forEach(intersectionSink);
+                        intersectionSize += intersection.size();
+                    }
+                }
+            }
+            stopWatch.stop();
+            long psiTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+            stopWatch.reset();
+            logStepInfo(PtoState.PTO_STEP, 2, 2, psiTime, "Client runs PSI in buckets");
+        }
+
+        logPhaseInfo(PtoState.PTO_END);
+        return intersectionSize;
+    }
+}
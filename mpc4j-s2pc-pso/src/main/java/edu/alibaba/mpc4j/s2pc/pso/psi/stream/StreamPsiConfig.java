@@ -0,0 +1,75 @@
+package edu.alibaba.mpc4j.s2pc.pso.psi.stream;
+
+import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
+import edu.alibaba.mpc4j.common.rpc.pto.AbstractMultiPartyPtoConfig;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.s2pc.pso.psi.PsiConfig;
+import edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf.rr22.Rr22PsiConfig;
+
+/**
+ * stream PSI config.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class StreamPsiConfig extends AbstractMultiPartyPtoConfig {
+    /**
+     * default bucket element size
+     */
+    private static final int DEFAULT_BUCKET_ELEMENT_SIZE = 1 << 20;
+    /**
+     * PSI config
+     */
+    private final PsiConfig psiConfig;
+    /**
+     * bucket element size, i.e., the max number of elements that the underlying PSI handles at a time
+     */
+    private final int bucketElementSize;
+
+    private StreamPsiConfig(Builder builder) {
+        // both parties learn the sizes of the other party's buckets
+        super(SecurityModel.SEMI_HONEST, builder.psiConfig);
+        psiConfig = builder.psiConfig;
+        bucketElementSize = builder.bucketElementSize;
+    }
+
+    public PsiConfig getPsiConfig() {
+        return psiConfig;
+    }
+
+    public int getBucketElementSize() {
+        return bucketElementSize;
+    }
+
+    public static class Builder implements org.apache.commons.lang3.builder.Builder<StreamPsiConfig> {
+        /**
+         * PSI config
+         */
+        private PsiConfig psiConfig;
+        /**
+         * bucket element size
+         */
+        private int bucketElementSize;
+
+        public Builder() {
+            psiConfig = new Rr22PsiConfig.Builder(SecurityModel.SEMI_HONEST).build();
+            bucketElementSize = DEFAULT_BUCKET_ELEMENT_SIZE;
+        }
+
+        public Builder setPsiConfig(PsiConfig psiConfig) {
+            this.psiConfig = psiConfig;
+            return this;
+        }
+
+        public Builder setBucketElementSize(int bucketElementSize) {
+            MathPreconditions.checkGreater("bucketElementSize", bucketElementSize, 1);
+            this.bucketElementSize = bucketElementSize;
+            return this;
+        }
+
+        @Override
+        public StreamPsiConfig build() {
+            return new StreamPsiConfig(this);
+        }
+    }
+}
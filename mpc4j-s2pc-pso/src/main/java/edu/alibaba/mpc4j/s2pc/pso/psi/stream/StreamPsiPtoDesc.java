@@ -0,0 +1,88 @@
+package edu.alibaba.mpc4j.s2pc.pso.psi.stream;
+
+import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
+import edu.alibaba.mpc4j.common.rpc.desc.PtoDescManager;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+
+/**
+ * stream PSI protocol description. Both parties write their elements into buckets on disk by a public hash, and run
+ * the underlying PSI bucket by bucket, so that only one bucket is in memory at a time.
+ * <p>
+ * Both parties learn the sizes of the other party's buckets. If a bucket has more elements than the bucket element
+ * size, the bucket is split into chunks and the underlying PSI runs on each pair of server and client chunks.
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+class StreamPsiPtoDesc implements PtoDesc {
+    /**
+     * protocol ID
+     */
+    private static final int PTO_ID = Math.abs((int) 4702557160631937219L);
+    /**
+     * protocol name
+     */
+    private static final String PTO_NAME = "STREAM_PSI";
+
+    /**
+     * protocol step
+     */
+    enum PtoStep {
+        /**
+         * server sends the bucket size
+         */
+        SERVER_SEND_BUCKET_SIZE,
+        /**
+         * client sends the bucket size
+         */
+        CLIENT_SEND_BUCKET_SIZE,
+    }
+
+    /**
+     * singleton mode
+     */
+    private static final StreamPsiPtoDesc INSTANCE = new StreamPsiPtoDesc();
+
+    /**
+     * private constructor.
+     */
+    private StreamPsiPtoDesc() {
+        // empty
+    }
+
+    public static PtoDesc getInstance() {
+        return INSTANCE;
+    }
+
+    static {
+        PtoDescManager.registerPtoDesc(getInstance());
+    }
+
+    @Override
+    public int getPtoId() {
+        return PTO_ID;
+    }
+
+    @Override
+    public String getPtoName() {
+        return PTO_NAME;
+    }
+
+    /**
+     * Gets the number of buckets. We set the expected number of elements in each bucket to be half of the bucket
+     * element size, so that buckets rarely need to be split into chunks.
+     *
+     * @param maxServerElementSize max server element size.
+     * @param maxClientElementSize max client element size.
+     * @param bucketElementSize    bucket element size.
+     * @return the number of buckets.
+     */
+    static int getBucketNum(int maxServerElementSize, int maxClientElementSize, int bucketElementSize) {
+        MathPreconditions.checkPositive("maxServerElementSize", maxServerElementSize);
+        MathPreconditions.checkPositive("maxClientElementSize", maxClientElementSize);
+        MathPreconditions.checkGreater("bucketElementSize", bucketElementSize, 1);
+        int maxElementSize = Math.max(maxServerElementSize, maxClientElementSize);
+        return (int) Math.max(1, ((long) maxElementSize * 2 + bucketElementSize - 1) / bucketElementSize);
+    }
+}
@@ -0,0 +1,158 @@
+package edu.alibaba.mpc4j.s2pc.pso.psi.stream;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.rpc.MpcAbortPreconditions;
+import edu.alibaba.mpc4j.common.rpc.Party;
+import edu.alibaba.mpc4j.common.rpc.PtoState;
+import edu.alibaba.mpc4j.common.rpc.Rpc;
+import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyPto;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
+import edu.alibaba.mpc4j.common.tool.utils.IntUtils;
+import edu.alibaba.mpc4j.s2pc.pso.psi.PsiFactory;
+import edu.alibaba.mpc4j.s2pc.pso.psi.PsiServer;
+import edu.alibaba.mpc4j.s2pc.pso.psi.stream.StreamPsiPtoDesc.PtoStep;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * stream PSI server. The server reads elements from an iterator or a file, writes them into buckets on disk, and runs
+ * the underlying PSI server bucket by bucket, so that the memory is bounded by the bucket element size instead of the
+ * number of elements.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class StreamPsiServer extends AbstractTwoPartyPto {
+    /**
+     * PSI server
+     */
+    private final PsiServer<ByteBuffer> psiServer;
+    /**
+     * bucket element size
+     */
+    private final int bucketElementSize;
+    /**
+     * max server element size
+     */
+    private int maxServerElementSize;
+    /**
+     * max client element size
+     */
+    private int maxClientElementSize;
+    /**
+     * number of buckets
+     */
+    private int bucketNum;
+
+    public StreamPsiServer(Rpc serverRpc, Party clientParty, StreamPsiConfig config) {
+        super(StreamPsiPtoDesc.getInstance(), serverRpc, clientParty, config);
+        psiServer = PsiFactory.createServer(serverRpc, clientParty, config.getPsiConfig());
+        addSubPto(psiServer);
+        bucketElementSize = config.getBucketElementSize();
+    }
+
+    /**
+     * init protocol
+     *
+     * @param maxServerElementSize max size of elements of server
+     * @param maxClientElementSize max size of elements of client
+     * @throws MpcAbortException If protocol aborts
+     */
+    public void init(int maxServerElementSize, int maxClientElementSize) throws MpcAbortException {
+        MathPreconditions.checkPositive("maxServerElementSize", maxServerElementSize);
+        this.maxServerElementSize = maxServerElementSize;
+        MathPreconditions.checkPositive("maxClientElementSize", maxClientElementSize);
+        this.maxClientElementSize = maxClientElementSize;
+        initState();
+        logPhaseInfo(PtoState.INIT_BEGIN);
+
+        stopWatch.start();
+        bucketNum = StreamPsiPtoDesc.getBucketNum(maxServerElementSize, maxClientElementSize, bucketElementSize);
+        psiServer.init(Math.min(maxServerElementSize, bucketElementSize), Math.min(maxClientElementSize, bucketElementSize));
+        stopWatch.stop();
+        long initTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+        stopWatch.reset();
+        logStepInfo(PtoState.INIT_STEP, 1, 1, initTime, String.format("Server inits with %d buckets", bucketNum));
+
+        logPhaseInfo(PtoState.INIT_END);
+    }
+
+    /**
+     * run the protocol, each line of the file is one element.
+     *
+     * @param serverElementFile the file of server's elements
+     * @param workDirectory     the directory for buckets
+     * @throws MpcAbortException If protocol aborts
+     */
+    public void psi(Path serverElementFile, Path workDirectory) throws MpcAbortException {
+        try (Stream<String> lines = Files.lines(serverElementFile, StandardCharsets.UTF_8)) {
+            psi(lines.map(ElementBuckets::lineToElement).iterator(), workDirectory);
+        } catch (IOException | UncheckedIOException e) {
+            // Files.lines throws UncheckedIOException if reading fails after the file is opened
+            throw new IllegalStateException("Failed to read element file " + serverElementFile, e);
+        }
+    }
+
+    /**
+     * run the protocol. Duplicate elements are allowed. Each element is the remaining bytes of the ByteBuffer.
+     *
+     * @param serverElements the server's elements
+     * @param workDirectory  the directory for buckets
+     * @throws MpcAbortException If protocol aborts
+     */
+    public void psi(Iterator<ByteBuffer> serverElements, Path workDirectory) throws MpcAbortException {
+        checkInitialized();
+        logPhaseInfo(PtoState.PTO_BEGIN);
+
+        stopWatch.start();
+        try (ElementBuckets buckets = ElementBuckets.create(workDirectory, bucketNum, serverElements, maxServerElementSize)) {
+            stopWatch.stop();
+            long bucketTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+            stopWatch.reset();
+            logStepInfo(
+                PtoState.PTO_STEP, 1, 2, bucketTime,
+                String.format("Server writes %d elements into %d buckets", buckets.getElementSize(), bucketNum)
+            );
+
+            stopWatch.start();
+            int clientElementSize = 0;
+            for (int bucketIndex = 0; bucketIndex < bucketNum; bucketIndex++) {
+                Set<ByteBuffer> serverBucket = buckets.read(bucketIndex);
+                List<byte[]> serverBucketSizePayload = Collections.singletonList(IntUtils.intToByteArray(serverBucket.size()));
+                sendOtherPartyPayload(PtoStep.SERVER_SEND_BUCKET_SIZE.ordinal(), serverBucketSizePayload);
+                List<byte[]> clientBucketSizePayload = receiveOtherPartyPayload(PtoStep.CLIENT_SEND_BUCKET_SIZE.ordinal());
+                MpcAbortPreconditions.checkArgument(clientBucketSizePayload.size() == 1);
+                int clientBucketSize = IntUtils.byteArrayToInt(clientBucketSizePayload.get(0));
+                MpcAbortPreconditions.checkArgument(clientBucketSize >= 0);
+                clientElementSize += clientBucketSize;
+                MpcAbortPreconditions.checkArgument(clientElementSize <= maxClientElementSize);
+                // run PSI on each pair of server and client chunks
+                int clientChunkNum = CommonUtils.getUnitNum(clientBucketSize, bucketElementSize);
+                for (Set<ByteBuffer> serverChunk : ElementBuckets.split(serverBucket, bucketElementSize)) {
+                    for (int clientChunkIndex = 0; clientChunkIndex < clientChunkNum; clientChunkIndex++) {
+                        int clientChunkSize = Math.min(bucketElementSize, clientBucketSize - clientChunkIndex * bucketElementSize);
+                        psiServer.psi(serverChunk, clientChunkSize);
+                    }
+                }
+            }
+            stopWatch.stop();
+            long psiTime = stopWatch.getTime(TimeUnit.MILLISECONDS);
+            stopWatch.reset();
+            logStepInfo(PtoState.PTO_STEP, 2, 2, psiTime, "Server runs PSI in buckets");
+        }
+
+        logPhaseInfo(PtoState.PTO_END);
+    }
+}
@@ -1,10 +1,13 @@
 package edu.alibaba.mpc4j.s2pc.pso.psica;
 
+import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.Party;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyPto;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory;
 
 import java.util.ArrayList;
 import java.util.Set;
@@ -16,6 +19,10 @@ import java.util.Set;
  * @date 2023/4/23
  */
 public abstract class AbstractPsiCaClient<T> extends AbstractTwoPartyPto implements PsiCaClient<T> {
+    /**
+     * element codec
+     */
+    protected ElementCodec<T> elementCodec = ElementCodecFactory.createObjectCodec();
 
     /**
      * 客户端最大元素数量
@@ -59,4 +66,10 @@ public abstract class AbstractPsiCaClient<T> extends AbstractTwoPartyPto impleme
         this.serverElementSize = serverElementSize;
         extraInfo++;
     }
+
+    @Override
+    public void setElementCodec(ElementCodec<T> elementCodec) {
+        checkNonInitialized();
+        this.elementCodec = Preconditions.checkNotNull(elementCodec, "elementCodec");
+    }
 }
@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.Ecc;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.EccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psica.AbstractPsiCaClient;
 import edu.alibaba.mpc4j.s2pc.pso.psica.cgt12.Cgt12EccPsiCaPtoDesc.PtoStep;
@@ -118,7 +117,7 @@ public class Cgt12EccPsiCaClient<T> extends AbstractPsiCaClient<T> {
         clientElementStream = parallel ? clientElementStream.parallel() : clientElementStream;
         // Note that no random permutation is required here
         return clientElementStream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ecc::hashToCurve)
             .map(p -> ecc.multiply(p, beta))
             .map(p -> ecc.encode(p, compressEncode))
@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.Ecc;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.EccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psica.AbstractPsiCaServer;
 import edu.alibaba.mpc4j.s2pc.pso.psica.cgt12.Cgt12EccPsiCaPtoDesc.PtoStep;
@@ -118,7 +117,7 @@ public class Cgt12EccPsiCaServer<T> extends AbstractPsiCaServer<T> {
 
         // Note that hash needs to be performed on the once-encrypted value, refer to Figure 1. in CGT12 paper
         return serverElementStream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ecc::hashToCurve)
             .map(p -> ecc.multiply(p, alpha))
             .map(p -> ecc.encode(p, false))
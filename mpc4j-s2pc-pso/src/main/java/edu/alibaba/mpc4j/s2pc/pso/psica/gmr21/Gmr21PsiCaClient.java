@@ -1,7 +1,6 @@
 package edu.alibaba.mpc4j.s2pc.pso.psica.gmr21;
 
 import edu.alibaba.mpc4j.common.rpc.*;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.opf.mqrpmt.gmr21.Gmr21MqRpmtClient;
 import edu.alibaba.mpc4j.s2pc.pso.psica.AbstractPsiCaClient;
 
@@ -52,7 +51,7 @@ public class Gmr21PsiCaClient<T> extends AbstractPsiCaClient<T> {
 
         stopWatch.start();
         Set<ByteBuffer> clientElementByteBufferSet = clientElementSet.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ByteBuffer::wrap)
             .collect(Collectors.toSet());
         boolean[] choices = gmr21MqRpmtClient.mqRpmt(clientElementByteBufferSet, serverElementSize);
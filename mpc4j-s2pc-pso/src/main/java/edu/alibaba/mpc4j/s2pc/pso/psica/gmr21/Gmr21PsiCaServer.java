@@ -1,7 +1,6 @@
 package edu.alibaba.mpc4j.s2pc.pso.psica.gmr21;
 
 import edu.alibaba.mpc4j.common.rpc.*;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.opf.mqrpmt.gmr21.Gmr21MqRpmtServer;
 import edu.alibaba.mpc4j.s2pc.pso.psica.AbstractPsiCaServer;
 
@@ -50,7 +49,7 @@ public class Gmr21PsiCaServer<T> extends AbstractPsiCaServer<T> {
 
         stopWatch.start();
         Set<ByteBuffer> serverElementByteBufferSet = serverElementSet.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ByteBuffer::wrap)
             .collect(Collectors.toSet());
         gmr21MqRpmtServer.mqRpmt(serverElementByteBufferSet, clientElementSize);
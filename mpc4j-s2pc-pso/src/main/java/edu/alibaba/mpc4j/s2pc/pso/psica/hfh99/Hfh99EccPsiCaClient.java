@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.Ecc;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.EccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psica.AbstractPsiCaClient;
 import edu.alibaba.mpc4j.s2pc.pso.psica.hfh99.Hfh99EccPsiCaPtoDesc.PtoStep;
@@ -123,7 +122,7 @@ public class Hfh99EccPsiCaClient<T> extends AbstractPsiCaClient<T> {
         Stream<T> clientElementStream = clientElementArrayList.stream();
         clientElementStream = parallel ? clientElementStream.parallel() : clientElementStream;
         List<byte[]> result = clientElementStream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ecc::hashToCurve)
             .map(p -> ecc.multiply(p, beta))
             .map(p -> ecc.encode(p, compressEncode))
@@ -7,7 +7,6 @@ import edu.alibaba.mpc4j.common.tool.crypto.ecc.Ecc;
 import edu.alibaba.mpc4j.common.tool.crypto.ecc.EccFactory;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.Hash;
 import edu.alibaba.mpc4j.common.tool.crypto.hash.HashFactory;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psi.PsiUtils;
 import edu.alibaba.mpc4j.s2pc.pso.psica.AbstractPsiCaServer;
 import edu.alibaba.mpc4j.s2pc.pso.psica.hfh99.Hfh99EccPsiCaPtoDesc.PtoStep;
@@ -114,7 +113,7 @@ public class Hfh99EccPsiCaServer<T> extends AbstractPsiCaServer<T> {
         serverElementStream = parallel ? serverElementStream.parallel() : serverElementStream;
 
         List<byte[]> result = serverElementStream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ecc::hashToCurve)
             .map(p -> ecc.multiply(p, alpha))
             .map(p -> ecc.encode(p, compressEncode))
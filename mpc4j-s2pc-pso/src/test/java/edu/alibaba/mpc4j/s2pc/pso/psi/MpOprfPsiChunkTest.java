@@ -0,0 +1,160 @@
+package edu.alibaba.mpc4j.s2pc.pso.psi;
+
+import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
+import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyMemoryRpcPto;
+import edu.alibaba.mpc4j.common.structure.filter.Filter;
+import edu.alibaba.mpc4j.common.structure.filter.FilterFactory;
+import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.common.tool.EnvType;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import edu.alibaba.mpc4j.s2pc.pso.PsoUtils;
+import edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf.rr22.Rr22PsiConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * mp-OPRF-based PSI test with chunked filters. The intersection with chunked filters must be the same as the one with
+ * a single filter, and chunked filters must not be much larger than the single filter.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+@RunWith(Parameterized.class)
+public class MpOprfPsiChunkTest extends AbstractTwoPartyMemoryRpcPto {
+    /**
+     * default size
+     */
+    private static final int DEFAULT_SIZE = 999;
+    /**
+     * large size
+     */
+    private static final int LARGE_SIZE = 1 << 14;
+    /**
+     * element byte length
+     */
+    private static final int ELEMENT_BYTE_LENGTH = CommonConstants.BLOCK_BYTE_LENGTH;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> configurations() {
+        Collection<Object[]> configurations = new ArrayList<>();
+
+        configurations.add(new Object[]{FilterType.SET_FILTER.name(), FilterType.SET_FILTER,});
+        configurations.add(new Object[]{
+            FilterType.SPARSE_RANDOM_BLOOM_FILTER.name(), FilterType.SPARSE_RANDOM_BLOOM_FILTER,
+        });
+
+        return configurations;
+    }
+
+    /**
+     * filter type
+     */
+    private final FilterType filterType;
+    /**
+     * payload byte length sent by the server in the last run
+     */
+    private long serverPayloadByteLength;
+
+    public MpOprfPsiChunkTest(String name, FilterType filterType) {
+        super(name);
+        this.filterType = filterType;
+    }
+
+    @Test
+    public void test2Chunk() {
+        testPto(DEFAULT_SIZE, DEFAULT_SIZE, 2);
+    }
+
+    @Test
+    public void test3Chunk() {
+        testPto(DEFAULT_SIZE, DEFAULT_SIZE, 3);
+    }
+
+    @Test
+    public void testManyChunk() {
+        // some chunks are empty
+        testPto(10, DEFAULT_SIZE, 16);
+    }
+
+    @Test
+    public void testLarge() {
+        testPto(LARGE_SIZE, LARGE_SIZE, 7);
+    }
+
+    @Test
+    public void testPowerOfTwoChunkSize() {
+        // n / c is a power of two, so that the largest chunk would be above the power of two with c chunks
+        int serverSetSize = LARGE_SIZE;
+        int filterChunkNum = 4;
+        ArrayList<Set<ByteBuffer>> sets = PsoUtils.generateBytesSets(serverSetSize, DEFAULT_SIZE, ELEMENT_BYTE_LENGTH);
+        Set<ByteBuffer> serverSet = sets.get(0);
+        Set<ByteBuffer> clientSet = sets.get(1);
+        Set<ByteBuffer> intersectionSet = runPto(serverSet, clientSet, 1);
+        long payloadByteLength = serverPayloadByteLength;
+        Set<ByteBuffer> chunkIntersectionSet = runPto(serverSet, clientSet, filterChunkNum);
+        long chunkPayloadByteLength = serverPayloadByteLength;
+        Assert.assertEquals(intersectionSet, chunkIntersectionSet);
+        // mp-OPRF messages are the same in both runs, so that the difference comes from filters
+        long filterByteLength = getFilterByteLength(serverSetSize, clientSet.size());
+        Assert.assertTrue(chunkPayloadByteLength - payloadByteLength <= filterByteLength / 2);
+    }
+
+    private long getFilterByteLength(int serverSetSize, int clientSetSize) {
+        int peqtByteLength = PsiUtils.getSemiHonestPeqtByteLength(serverSetSize, clientSetSize);
+        Filter<byte[]> filter = FilterFactory.createFilter(EnvType.STANDARD, filterType, serverSetSize, SECURE_RANDOM);
+        for (int i = 0; i < serverSetSize; i++) {
+            filter.put(BytesUtils.randomByteArray(peqtByteLength, SECURE_RANDOM));
+        }
+        return filter.save().stream().mapToLong(bytes -> bytes.length).sum();
+    }
+
+    private void testPto(int serverSetSize, int clientSetSize, int filterChunkNum) {
+        ArrayList<Set<ByteBuffer>> sets = PsoUtils.generateBytesSets(serverSetSize, clientSetSize, ELEMENT_BYTE_LENGTH);
+        Set<ByteBuffer> serverSet = sets.get(0);
+        Set<ByteBuffer> clientSet = sets.get(1);
+        Set<ByteBuffer> intersectionSet = runPto(serverSet, clientSet, 1);
+        Set<ByteBuffer> chunkIntersectionSet = runPto(serverSet, clientSet, filterChunkNum);
+        Set<ByteBuffer> expectIntersectionSet = new HashSet<>(serverSet);
+        expectIntersectionSet.retainAll(clientSet);
+        Assert.assertEquals(expectIntersectionSet, intersectionSet);
+        Assert.assertEquals(intersectionSet, chunkIntersectionSet);
+    }
+
+    private Set<ByteBuffer> runPto(Set<ByteBuffer> serverSet, Set<ByteBuffer> clientSet, int filterChunkNum) {
+        PsiConfig config = new Rr22PsiConfig.Builder(SecurityModel.SEMI_HONEST)
+            .setFilterType(filterType)
+            .setFilterChunkNum(filterChunkNum)
+            .build();
+        PsiServer<ByteBuffer> server = PsiFactory.createServer(firstRpc, secondRpc.ownParty(), config);
+        PsiClient<ByteBuffer> client = PsiFactory.createClient(secondRpc, firstRpc.ownParty(), config);
+        int randomTaskId = Math.abs(SECURE_RANDOM.nextInt());
+        server.setTaskId(randomTaskId);
+        client.setTaskId(randomTaskId);
+        PsiServerThread serverThread = new PsiServerThread(server, serverSet, clientSet.size());
+        PsiClientThread clientThread = new PsiClientThread(client, clientSet, serverSet.size());
+        try {
+            serverThread.start();
+            clientThread.start();
+            serverThread.join();
+            clientThread.join();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+        serverPayloadByteLength = firstRpc.getPayloadByteLength();
+        firstRpc.reset();
+        secondRpc.reset();
+        // destroy
+        new Thread(server::destroy).start();
+        new Thread(client::destroy).start();
+        return clientThread.getIntersectionSet();
+    }
+}
@@ -0,0 +1,132 @@
+package edu.alibaba.mpc4j.s2pc.pso.psi;
+
+import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
+import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyMemoryRpcPto;
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.s2pc.pso.PsoUtils;
+import edu.alibaba.mpc4j.s2pc.pso.psi.PsiFactory.PsiType;
+import edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf.cm20.Cm20PsiConfig;
+import edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf.rr22.Rr22PsiConfig;
+import edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf.rs21.Rs21PsiConfig;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * mp-OPRF-based PSI efficiency test. We report the total time (s) for large sets, in which the client hashes PRFs into
+ * one flat buffer and probes the filter in blocks.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+@Ignore
+@RunWith(Parameterized.class)
+public class MpOprfPsiEfficiencyTest extends AbstractTwoPartyMemoryRpcPto {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MpOprfPsiEfficiencyTest.class);
+    /**
+     * time format
+     */
+    private static final DecimalFormat TIME_DECIMAL_FORMAT = new DecimalFormat("0.000");
+    /**
+     * element byte length
+     */
+    private static final int ELEMENT_BYTE_LENGTH = CommonConstants.BLOCK_BYTE_LENGTH;
+    /**
+     * min log(n)
+     */
+    private static final int MIN_LOG_N = 20;
+    /**
+     * max log(n)
+     */
+    private static final int MAX_LOG_N = 24;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> configurations() {
+        Collection<Object[]> configurations = new ArrayList<>();
+
+        // RR22
+        configurations.add(new Object[]{
+            PsiType.RR22.name(), new Rr22PsiConfig.Builder(SecurityModel.SEMI_HONEST).build(),
+        });
+        // RS21
+        configurations.add(new Object[]{
+            PsiType.RS21.name(), new Rs21PsiConfig.Builder(SecurityModel.SEMI_HONEST).build(),
+        });
+        // CM20
+        configurations.add(new Object[]{
+            PsiType.CM20.name(), new Cm20PsiConfig.Builder().build(),
+        });
+
+        return configurations;
+    }
+
+    /**
+     * config
+     */
+    private final PsiConfig config;
+
+    public MpOprfPsiEfficiencyTest(String name, PsiConfig config) {
+        super(name);
+        this.config = config;
+    }
+
+    @Test
+    public void testEfficiency() throws InterruptedException {
+        LOGGER.info(
+            "{}\t{}\t{}\t{}",
+            "                name", "  parallel", " log(n)", "  time(s)"
+        );
+        for (int logN = MIN_LOG_N; logN <= MAX_LOG_N; logN++) {
+            testEfficiency(logN, false);
+            testEfficiency(logN, true);
+        }
+    }
+
+    private void testEfficiency(int logN, boolean parallel) throws InterruptedException {
+        int n = 1 << logN;
+        ArrayList<Set<ByteBuffer>> sets = PsoUtils.generateBytesSets(n, n, ELEMENT_BYTE_LENGTH);
+        Set<ByteBuffer> serverSet = sets.get(0);
+        Set<ByteBuffer> clientSet = sets.get(1);
+        PsiServer<ByteBuffer> server = PsiFactory.createServer(firstRpc, secondRpc.ownParty(), config);
+        PsiClient<ByteBuffer> client = PsiFactory.createClient(secondRpc, firstRpc.ownParty(), config);
+        server.setParallel(parallel);
+        client.setParallel(parallel);
+        int randomTaskId = Math.abs(SECURE_RANDOM.nextInt());
+        server.setTaskId(randomTaskId);
+        client.setTaskId(randomTaskId);
+        PsiServerThread serverThread = new PsiServerThread(server, serverSet, clientSet.size());
+        PsiClientThread clientThread = new PsiClientThread(client, clientSet, serverSet.size());
+        STOP_WATCH.start();
+        serverThread.start();
+        clientThread.start();
+        serverThread.join();
+        clientThread.join();
+        STOP_WATCH.stop();
+        double time = (double) STOP_WATCH.getNanoTime() / 1e9;
+        STOP_WATCH.reset();
+        Set<ByteBuffer> expectIntersectionSet = new HashSet<>(serverSet);
+        expectIntersectionSet.retainAll(clientSet);
+        Assert.assertEquals(expectIntersectionSet, clientThread.getIntersectionSet());
+        LOGGER.info(
+            "{}\t{}\t{}\t{}",
+            StringUtils.leftPad(config.getPtoType().name(), 20),
+            StringUtils.leftPad(String.valueOf(parallel), 10),
+            StringUtils.leftPad(String.valueOf(logN), 7),
+            StringUtils.leftPad(TIME_DECIMAL_FORMAT.format(time), 9)
+        );
+        new Thread(server::destroy).start();
+        new Thread(client::destroy).start();
+    }
+}
@@ -3,7 +3,10 @@ package edu.alibaba.mpc4j.s2pc.pso.psi;
 import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyMemoryRpcPto;
 import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory;
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory.CuckooHashBinType;
+import edu.alibaba.mpc4j.common.structure.filter.FilterFactory.FilterType;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2e.Gf2eDokvsFactory.Gf2eDokvsType;
 import edu.alibaba.mpc4j.common.structure.okve.dokvs.gf2k.Gf2kDokvsFactory.Gf2kDokvsType;
 import edu.alibaba.mpc4j.s2pc.pso.PsoUtils;
@@ -86,6 +89,15 @@ public class PsiTest extends AbstractTwoPartyMemoryRpcPto {
             PsiType.RR22.name() + "(" + SecurityModel.MALICIOUS + ", " + Gf2kDokvsType.H3_CLUSTER_BINARY_BLAZE_GCT + ")",
             new Rr22PsiConfig.Builder(SecurityModel.MALICIOUS, Gf2kDokvsType.H3_CLUSTER_BINARY_BLAZE_GCT).build(),
         });
+        configurations.add(new Object[]{
+            PsiType.RR22.name() + "(" + SecurityModel.SEMI_HONEST + ", " + FilterType.SPARSE_RANDOM_BLOOM_FILTER
+                + ", chunked, compressed)",
+            new Rr22PsiConfig.Builder(SecurityModel.SEMI_HONEST)
+                .setFilterType(FilterType.SPARSE_RANDOM_BLOOM_FILTER)
+                .setFilterChunkNum(4)
+                .setCompressFilter(true)
+                .build(),
+        });
         // RS21
         configurations.add(new Object[]{
             PsiType.RS21.name() + "(" + SecurityModel.SEMI_HONEST + ")",
@@ -264,9 +276,22 @@ public class PsiTest extends AbstractTwoPartyMemoryRpcPto {
         testPto(LARGE_SIZE, LARGE_SIZE, true);
     }
 
+    @Test
+    public void testByteBufferCodec() {
+        PsiServer<ByteBuffer> server = PsiFactory.createServer(firstRpc, secondRpc.ownParty(), config);
+        Assert.assertThrows(NullPointerException.class, () -> server.setElementCodec(null));
+        testPto(DEFAULT_SIZE, DEFAULT_SIZE, false, ElementCodecFactory.createByteBufferCodec(ELEMENT_BYTE_LENGTH));
+    }
+
     private void testPto(int serverSetSize, int clientSetSize, boolean parallel) {
+        testPto(serverSetSize, clientSetSize, parallel, ElementCodecFactory.createObjectCodec());
+    }
+
+    private void testPto(int serverSetSize, int clientSetSize, boolean parallel, ElementCodec<ByteBuffer> elementCodec) {
         PsiServer<ByteBuffer> server = PsiFactory.createServer(firstRpc, secondRpc.ownParty(), config);
         PsiClient<ByteBuffer> client = PsiFactory.createClient(secondRpc, firstRpc.ownParty(), config);
+        server.setElementCodec(elementCodec);
+        client.setElementCodec(elementCodec);
         server.setParallel(parallel);
         client.setParallel(parallel);
         int randomTaskId = Math.abs(SECURE_RANDOM.nextInt());
@@ -295,6 +320,8 @@ public class PsiTest extends AbstractTwoPartyMemoryRpcPto {
             stopWatch.reset();
             // verify
             assertOutput(serverSet, clientSet, clientThread.getIntersectionSet());
+            // the element codec cannot be changed after initializing the protocol
+            Assert.assertThrows(IllegalStateException.class, () -> server.setElementCodec(elementCodec));
             printAndResetRpc(time);
             // destroy
             new Thread(server::destroy).start();
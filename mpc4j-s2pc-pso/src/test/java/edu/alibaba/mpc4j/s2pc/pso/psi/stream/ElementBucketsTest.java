@@ -0,0 +1,135 @@
+package edu.alibaba.mpc4j.s2pc.pso.psi.stream;
+
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * element buckets test. Elements are the remaining bytes of ByteBuffers, which can be slices of larger buffers or
+ * direct buffers.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class ElementBucketsTest {
+    /**
+     * random state
+     */
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    /**
+     * element num
+     */
+    private static final int ELEMENT_NUM = 99;
+    /**
+     * element byte length
+     */
+    private static final int ELEMENT_BYTE_LENGTH = CommonConstants.BLOCK_BYTE_LENGTH;
+    /**
+     * bucket num
+     */
+    private static final int BUCKET_NUM = 7;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testSlicedElements() throws IOException {
+        byte[][] elementByteArrays = IntStream.range(0, ELEMENT_NUM)
+            .mapToObj(index -> BytesUtils.randomByteArray(ELEMENT_BYTE_LENGTH, SECURE_RANDOM))
+            .toArray(byte[][]::new);
+        // all elements are in one buffer, each element is a slice with a non-zero array offset
+        ByteBuffer flatBuffer = ByteBuffer.allocate(ELEMENT_NUM * ELEMENT_BYTE_LENGTH);
+        Arrays.stream(elementByteArrays).forEach(flatBuffer::put);
+        List<ByteBuffer> elements = IntStream.range(0, ELEMENT_NUM)
+            .mapToObj(index -> {
+                ByteBuffer element = flatBuffer.duplicate();
+                element.position(index * ELEMENT_BYTE_LENGTH);
+                element.limit((index + 1) * ELEMENT_BYTE_LENGTH);
+                return element.slice();
+            })
+            .collect(Collectors.toList());
+        testBuckets(elements, elementByteArrays);
+    }
+
+    @Test
+    public void testPositionedElements() throws IOException {
+        byte[][] elementByteArrays = IntStream.range(0, ELEMENT_NUM)
+            .mapToObj(index -> BytesUtils.randomByteArray(ELEMENT_BYTE_LENGTH, SECURE_RANDOM))
+            .toArray(byte[][]::new);
+        // each element is in [1, 1 + ELEMENT_BYTE_LENGTH) of a larger array
+        List<ByteBuffer> elements = Arrays.stream(elementByteArrays)
+            .map(elementByteArray -> {
+                byte[] array = new byte[ELEMENT_BYTE_LENGTH + 2];
+                System.arraycopy(elementByteArray, 0, array, 1, ELEMENT_BYTE_LENGTH);
+                return ByteBuffer.wrap(array, 1, ELEMENT_BYTE_LENGTH);
+            })
+            .collect(Collectors.toList());
+        testBuckets(elements, elementByteArrays);
+    }
+
+    @Test
+    public void testDirectElements() throws IOException {
+        byte[][] elementByteArrays = IntStream.range(0, ELEMENT_NUM)
+            .mapToObj(index -> BytesUtils.randomByteArray(ELEMENT_BYTE_LENGTH, SECURE_RANDOM))
+            .toArray(byte[][]::new);
+        List<ByteBuffer> elements = Arrays.stream(elementByteArrays)
+            .map(elementByteArray -> {
+                ByteBuffer element = ByteBuffer.allocateDirect(ELEMENT_BYTE_LENGTH);
+                element.put(elementByteArray);
+                element.flip();
+                return element;
+            })
+            .collect(Collectors.toList());
+        testBuckets(elements, elementByteArrays);
+    }
+
+    @Test
+    public void testElementToLine() {
+        String line = "ID-12345";
+        byte[] lineBytes = line.getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(line, ElementBuckets.elementToLine(ElementBuckets.lineToElement(line)));
+        // sliced element
+        byte[] array = new byte[lineBytes.length + 2];
+        System.arraycopy(lineBytes, 0, array, 1, lineBytes.length);
+        ByteBuffer slicedElement = ByteBuffer.wrap(array, 1, lineBytes.length).slice();
+        Assert.assertEquals(line, ElementBuckets.elementToLine(slicedElement));
+        // direct element
+        ByteBuffer directElement = ByteBuffer.allocateDirect(lineBytes.length);
+        directElement.put(lineBytes);
+        directElement.flip();
+        Assert.assertEquals(line, ElementBuckets.elementToLine(directElement));
+        Assert.assertEquals(0, directElement.position());
+    }
+
+    private void testBuckets(List<ByteBuffer> elements, byte[][] elementByteArrays) throws IOException {
+        Path workDirectory = temporaryFolder.newFolder().toPath();
+        Set<ByteBuffer> bucketElements = new HashSet<>();
+        Iterator<ByteBuffer> iterator = elements.iterator();
+        try (ElementBuckets buckets = ElementBuckets.create(workDirectory, BUCKET_NUM, iterator, ELEMENT_NUM)) {
+            Assert.assertEquals(ELEMENT_NUM, buckets.getElementSize());
+            for (int bucketIndex = 0; bucketIndex < buckets.getBucketNum(); bucketIndex++) {
+                bucketElements.addAll(buckets.read(bucketIndex));
+            }
+        }
+        Set<ByteBuffer> expectElements = Arrays.stream(elementByteArrays)
+            .map(ByteBuffer::wrap)
+            .collect(Collectors.toSet());
+        Assert.assertEquals(expectElements, bucketElements);
+        // positions of elements are not changed
+        for (ByteBuffer element : elements) {
+            Assert.assertEquals(ELEMENT_BYTE_LENGTH, element.remaining());
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package edu.alibaba.mpc4j.s2pc.pso.psi.stream;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
+import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyMemoryRpcPto;
+import edu.alibaba.mpc4j.common.tool.CommonConstants;
+import edu.alibaba.mpc4j.s2pc.pso.PsoUtils;
+import edu.alibaba.mpc4j.s2pc.pso.psi.PsiConfig;
+import edu.alibaba.mpc4j.s2pc.pso.psi.PsiFactory.PsiType;
+import edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf.cm20.Cm20PsiConfig;
+import edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf.rr22.Rr22PsiConfig;
+import edu.alibaba.mpc4j.s2pc.pso.psi.mpoprf.rs21.Rs21PsiConfig;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * stream PSI test.
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+@RunWith(Parameterized.class)
+public class StreamPsiTest extends AbstractTwoPartyMemoryRpcPto {
+    /**
+     * default size
+     */
+    private static final int DEFAULT_SIZE = 999;
+    /**
+     * small size
+     */
+    private static final int SMALL_SIZE = 99;
+    /**
+     * default bucket element size
+     */
+    private static final int DEFAULT_BUCKET_ELEMENT_SIZE = 1 << 7;
+    /**
+     * element byte length
+     */
+    private static final int ELEMENT_BYTE_LENGTH = CommonConstants.BLOCK_BYTE_LENGTH;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> configurations() {
+        Collection<Object[]> configurations = new ArrayList<>();
+
+        // RR22
+        configurations.add(new Object[]{
+            PsiType.RR22.name(), new Rr22PsiConfig.Builder(SecurityModel.SEMI_HONEST).build(),
+        });
+        // RS21
+        configurations.add(new Object[]{
+            PsiType.RS21.name(), new Rs21PsiConfig.Builder(SecurityModel.SEMI_HONEST).build(),
+        });
+        // CM20
+        configurations.add(new Object[]{
+            PsiType.CM20.name(), new Cm20PsiConfig.Builder().build(),
+        });
+
+        return configurations;
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    /**
+     * PSI config
+     */
+    private final PsiConfig psiConfig;
+
+    public StreamPsiTest(String name, PsiConfig psiConfig) {
+        super(name);
+        this.psiConfig = psiConfig;
+    }
+
+    @Test
+    public void testOneBucket() throws IOException {
+        testPto(DEFAULT_SIZE, DEFAULT_SIZE, DEFAULT_SIZE * 2, false);
+    }
+
+    @Test
+    public void testDefault() throws IOException {
+        testPto(DEFAULT_SIZE, DEFAULT_SIZE, DEFAULT_BUCKET_ELEMENT_SIZE, false);
+    }
+
+    @Test
+    public void testParallelDefault() throws IOException {
+        testPto(DEFAULT_SIZE, DEFAULT_SIZE, DEFAULT_BUCKET_ELEMENT_SIZE, true);
+    }
+
+    @Test
+    public void testLargeServerSize() throws IOException {
+        testPto(DEFAULT_SIZE, 10, DEFAULT_BUCKET_ELEMENT_SIZE, false);
+    }
+
+    @Test
+    public void testLargeClientSize() throws IOException {
+        testPto(10, DEFAULT_SIZE, DEFAULT_BUCKET_ELEMENT_SIZE, false);
+    }
+
+    @Test
+    public void testSplitBucket() throws IOException {
+        // buckets often have more elements than the bucket element size
+        testPto(SMALL_SIZE, SMALL_SIZE, 3, false);
+    }
+
+    @Test
+    public void testDuplicate() throws IOException {
+        StreamPsiConfig config = new StreamPsiConfig.Builder()
+            .setPsiConfig(psiConfig)
+            .setBucketElementSize(DEFAULT_BUCKET_ELEMENT_SIZE)
+            .build();
+        ArrayList<Set<ByteBuffer>> sets = PsoUtils.generateBytesSets(DEFAULT_SIZE, DEFAULT_SIZE, ELEMENT_BYTE_LENGTH);
+        // each element appears twice
+        List<ByteBuffer> serverElements = Stream.concat(sets.get(0).stream(), sets.get(0).stream())
+            .collect(Collectors.toList());
+        List<ByteBuffer> clientElements = Stream.concat(sets.get(1).stream(), sets.get(1).stream())
+            .collect(Collectors.toList());
+        Set<ByteBuffer> intersection = new HashSet<>();
+        int intersectionSize = run(config, serverElements, clientElements, intersection::add, false);
+        assertOutput(sets.get(0), sets.get(1), intersection);
+        Assert.assertEquals(intersection.size(), intersectionSize);
+    }
+
+    @Test
+    public void testFile() throws IOException {
+        StreamPsiConfig config = new StreamPsiConfig.Builder()
+            .setPsiConfig(psiConfig)
+            .setBucketElementSize(DEFAULT_BUCKET_ELEMENT_SIZE)
+            .build();
+        List<String> serverLines = IntStream.range(0, DEFAULT_SIZE)
+            .mapToObj(i -> "ID-" + i * 2)
+            .collect(Collectors.toList());
+        List<String> clientLines = IntStream.range(0, DEFAULT_SIZE)
+            .mapToObj(i -> "ID-" + i * 3)
+            .collect(Collectors.toList());
+        Path serverElementFile = temporaryFolder.newFile().toPath();
+        Files.write(serverElementFile, serverLines, StandardCharsets.UTF_8);
+        Path clientElementFile = temporaryFolder.newFile().toPath();
+        Files.write(clientElementFile, clientLines, StandardCharsets.UTF_8);
+        Path intersectionFile = temporaryFolder.newFile().toPath();
+        Path serverDirectory = temporaryFolder.newFolder().toPath();
+        Path clientDirectory = temporaryFolder.newFolder().toPath();
+
+        StreamPsiServer server = new StreamPsiServer(firstRpc, secondRpc.ownParty(), config);
+        StreamPsiClient client = new StreamPsiClient(secondRpc, firstRpc.ownParty(), config);
+        int[] intersectionSize = new int[1];
+        runParties(
+            () -> {
+                server.init(DEFAULT_SIZE, DEFAULT_SIZE);
+                server.psi(serverElementFile, serverDirectory);
+            },
+            () -> {
+                client.init(DEFAULT_SIZE, DEFAULT_SIZE);
+                intersectionSize[0] = client.psi(clientElementFile, clientDirectory, intersectionFile);
+            }
+        );
+        Set<String> expectIntersection = new HashSet<>(serverLines);
+        expectIntersection.retainAll(clientLines);
+        List<String> intersection = Files.readAllLines(intersectionFile, StandardCharsets.UTF_8);
+        Assert.assertEquals(expectIntersection.size(), intersectionSize[0]);
+        Assert.assertEquals(expectIntersection.size(), intersection.size());
+        Assert.assertEquals(expectIntersection, new HashSet<>(intersection));
+        // buckets are deleted
+        try (Stream<Path> serverFiles = Files.list(serverDirectory); Stream<Path> clientFiles = Files.list(clientDirectory)) {
+            Assert.assertEquals(0, serverFiles.count());
+            Assert.assertEquals(0, clientFiles.count());
+        }
+        new Thread(server::destroy).start();
+        new Thread(client::destroy).start();
+    }
+
+    @Test
+    public void testMalformedFile() throws IOException {
+        StreamPsiConfig config = new StreamPsiConfig.Builder()
+            .setPsiConfig(psiConfig)
+            .setBucketElementSize(DEFAULT_BUCKET_ELEMENT_SIZE)
+            .build();
+        // the file is not UTF-8 encoded, Files.lines fails with UncheckedIOException when reading it
+        Path serverElementFile = temporaryFolder.newFile().toPath();
+        Files.write(serverElementFile, new byte[]{'I', 'D', (byte) 0xFF, '\n'});
+        Path serverDirectory = temporaryFolder.newFolder().toPath();
+
+        StreamPsiServer server = new StreamPsiServer(firstRpc, secondRpc.ownParty(), config);
+        StreamPsiClient client = new StreamPsiClient(secondRpc, firstRpc.ownParty(), config);
+        runParties(
+            () -> server.init(SMALL_SIZE, SMALL_SIZE),
+            () -> client.init(SMALL_SIZE, SMALL_SIZE)
+        );
+        // the server fails when writing buckets, before any communication
+        IllegalStateException exception = Assert.assertThrows(
+            IllegalStateException.class, () -> server.psi(serverElementFile, serverDirectory)
+        );
+        Assert.assertTrue(exception.getCause() instanceof UncheckedIOException);
+        // buckets are deleted
+        try (Stream<Path> serverFiles = Files.list(serverDirectory)) {
+            Assert.assertEquals(0, serverFiles.count());
+        }
+        new Thread(server::destroy).start();
+        new Thread(client::destroy).start();
+    }
+
+    private void testPto(int serverSetSize, int clientSetSize, int bucketElementSize, boolean parallel) throws IOException {
+        StreamPsiConfig config = new StreamPsiConfig.Builder()
+            .setPsiConfig(psiConfig)
+            .setBucketElementSize(bucketElementSize)
+            .build();
+        ArrayList<Set<ByteBuffer>> sets = PsoUtils.generateBytesSets(serverSetSize, clientSetSize, ELEMENT_BYTE_LENGTH);
+        Set<ByteBuffer> intersection = new HashSet<>();
+        int intersectionSize = run(config, new ArrayList<>(sets.get(0)), new ArrayList<>(sets.get(1)), intersection::add, parallel);
+        assertOutput(sets.get(0), sets.get(1), intersection);
+        Assert.assertEquals(intersection.size(), intersectionSize);
+    }
+
+    private int run(StreamPsiConfig config, List<ByteBuffer> serverElements, List<ByteBuffer> clientElements,
+                    Consumer<ByteBuffer> intersectionSink, boolean parallel) throws IOException {
+        Path serverDirectory = temporaryFolder.newFolder().toPath();
+        Path clientDirectory = temporaryFolder.newFolder().toPath();
+        StreamPsiServer server = new StreamPsiServer(firstRpc, secondRpc.ownParty(), config);
+        StreamPsiClient client = new StreamPsiClient(secondRpc, firstRpc.ownParty(), config);
+        server.setParallel(parallel);
+        client.setParallel(parallel);
+        int randomTaskId = Math.abs(SECURE_RANDOM.nextInt());
+        server.setTaskId(randomTaskId);
+        client.setTaskId(randomTaskId);
+        int[] intersectionSize = new int[1];
+        runParties(
+            () -> {
+                server.init(serverElements.size(), clientElements.size());
+                server.psi(serverElements.iterator(), serverDirectory);
+            },
+            () -> {
+                client.init(clientElements.size(), serverElements.size());
+                intersectionSize[0] = client.psi(clientElements.iterator(), clientDirectory, intersectionSink);
+            }
+        );
+        new Thread(server::destroy).start();
+        new Thread(client::destroy).start();
+        return intersectionSize[0];
+    }
+
+    private interface PartyTask {
+        void run() throws MpcAbortException;
+    }
+
+    private void runParties(PartyTask serverTask, PartyTask clientTask) {
+        boolean[] success = new boolean[2];
+        Thread serverThread = new Thread(() -> {
+            try {
+                serverTask.run();
+                success[0] = true;
+            } catch (MpcAbortException e) {
+                e.printStackTrace();
+            }
+        });
+        Thread clientThread = new Thread(() -> {
+            try {
+                clientTask.run();
+                success[1] = true;
+            } catch (MpcAbortException e) {
+                e.printStackTrace();
+            }
+        });
+        serverThread.start();
+        clientThread.start();
+        try {
+            serverThread.join();
+            clientThread.join();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        Assert.assertTrue(success[0]);
+        Assert.assertTrue(success[1]);
+    }
+
+    private void assertOutput(Set<ByteBuffer> serverSet, Set<ByteBuffer> clientSet, Set<ByteBuffer> outputIntersectionSet) {
+        Set<ByteBuffer> expectIntersectionSet = new HashSet<>(serverSet);
+        expectIntersectionSet.retainAll(clientSet);
+        Assert.assertTrue(outputIntersectionSet.containsAll(expectIntersectionSet));
+        Assert.assertTrue(expectIntersectionSet.containsAll(outputIntersectionSet));
+    }
+}
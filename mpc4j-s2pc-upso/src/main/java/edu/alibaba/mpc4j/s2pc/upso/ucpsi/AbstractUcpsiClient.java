@@ -1,10 +1,13 @@
 package edu.alibaba.mpc4j.s2pc.upso.ucpsi;
 
+import com.google.common.base.Preconditions;
 import edu.alibaba.mpc4j.common.rpc.Party;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyPto;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory;
 
 import java.util.ArrayList;
 import java.util.Set;
@@ -16,6 +19,10 @@ import java.util.Set;
  * @date 2023/4/18
  */
 public abstract class AbstractUcpsiClient<T> extends AbstractTwoPartyPto implements UcpsiClient<T> {
+    /**
+     * element codec
+     */
+    protected ElementCodec<T> elementCodec = ElementCodecFactory.createObjectCodec();
     /**
      * max client element size
      */
@@ -53,4 +60,10 @@ public abstract class AbstractUcpsiClient<T> extends AbstractTwoPartyPto impleme
         clientElementSize = clientElementSet.size();
         extraInfo++;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void setElementCodec(ElementCodec<T> elementCodec) {
+        checkNonInitialized();
+        this.elementCodec = Preconditions.checkNotNull(elementCodec, "elementCodec");
+    }
+}
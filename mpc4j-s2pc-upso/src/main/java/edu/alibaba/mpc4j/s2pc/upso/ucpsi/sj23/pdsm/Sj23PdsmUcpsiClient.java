@@ -17,7 +17,6 @@ import edu.alibaba.mpc4j.common.tool.polynomial.zp64.Zp64PolyFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
 import edu.alibaba.mpc4j.common.tool.utils.LongUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.aby.basics.z2.SquareZ2Vector;
 import edu.alibaba.mpc4j.s2pc.opf.psm.pdsm.PdsmFactory;
 import edu.alibaba.mpc4j.s2pc.opf.psm.pdsm.PdsmReceiver;
@@ -411,7 +410,7 @@ public class Sj23PdsmUcpsiClient<T> extends AbstractUcpsiClient<T> {
         Stream<T> stream = clientElementArrayList.stream();
         stream = parallel ? stream.parallel() : stream;
         List<byte[]> itemHash = stream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(hash::digestToBytes)
             .collect(Collectors.toList());
         Map<byte[], T> hashObjectMap = IntStream.range(0, clientElementSize)
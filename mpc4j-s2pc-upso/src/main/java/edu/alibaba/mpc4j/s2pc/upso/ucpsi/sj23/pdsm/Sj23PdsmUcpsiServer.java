@@ -307,7 +307,7 @@ public class Sj23PdsmUcpsiServer<T> extends AbstractUcpsiServer<T> {
         Stream<T> stream = serverElementArrayList.stream();
         stream = parallel ? stream.parallel() : stream;
         List<byte[]> itemList = stream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(hash::digestToBytes)
             .collect(Collectors.toList());
         RandomPadHashBin<byte[]> simpleHashBin = new RandomPadHashBin<>(
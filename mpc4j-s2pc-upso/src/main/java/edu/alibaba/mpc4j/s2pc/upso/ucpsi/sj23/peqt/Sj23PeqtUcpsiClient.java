@@ -16,7 +16,6 @@ import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.CuckooHashBinFactory.
 import edu.alibaba.mpc4j.common.tool.hashbin.object.cuckoo.NoStashCuckooHashBin;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.aby.basics.z2.SquareZ2Vector;
 import edu.alibaba.mpc4j.s2pc.aby.operator.row.peqt.PeqtFactory;
 import edu.alibaba.mpc4j.s2pc.aby.operator.row.peqt.PeqtParty;
@@ -211,7 +210,7 @@ public class Sj23PeqtUcpsiClient<T> extends AbstractUcpsiClient<T> {
         Stream<T> stream = clientElementArrayList.stream();
         stream = parallel ? stream.parallel() : stream;
         List<byte[]> itemHashList = stream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(hash::digestToBytes)
             .collect(Collectors.toList());
         Map<byte[], T> hashObjectMap = IntStream.range(0, clientElementSize)
@@ -16,7 +16,6 @@ import edu.alibaba.mpc4j.common.tool.polynomial.zp64.Zp64PolyFactory;
 import edu.alibaba.mpc4j.common.tool.utils.BlockUtils;
 import edu.alibaba.mpc4j.common.tool.utils.BytesUtils;
 import edu.alibaba.mpc4j.common.tool.utils.CommonUtils;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
 import edu.alibaba.mpc4j.s2pc.aby.basics.z2.SquareZ2Vector;
 import edu.alibaba.mpc4j.s2pc.aby.operator.row.peqt.PeqtFactory;
 import edu.alibaba.mpc4j.s2pc.aby.operator.row.peqt.PeqtParty;
@@ -221,7 +220,7 @@ public class Sj23PeqtUcpsiServer<T> extends AbstractUcpsiServer<T> {
         Stream<T> stream = serverElementArrayList.stream();
         stream = parallel ? stream.parallel() : stream;
         List<byte[]> itemList = stream
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(hash::digestToBytes)
             .collect(Collectors.toList());
         RandomPadHashBin<byte[]> simpleHashBin = new RandomPadHashBin<>(
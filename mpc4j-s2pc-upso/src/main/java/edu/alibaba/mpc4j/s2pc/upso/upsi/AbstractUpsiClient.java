@@ -7,7 +7,8 @@ import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyPto;
 import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory;
 
 import java.nio.ByteBuffer;
 import java.util.*;
@@ -20,6 +21,10 @@ import java.util.stream.Collectors;
  * @date 2022/6/13
  */
 public abstract class AbstractUpsiClient<T> extends AbstractTwoPartyPto implements UpsiClient<T> {
+    /**
+     * element codec
+     */
+    protected ElementCodec<T> elementCodec = ElementCodecFactory.createObjectCodec();
     /**
      * max client element size
      */
@@ -58,15 +63,21 @@ public abstract class AbstractUpsiClient<T> extends AbstractTwoPartyPto implemen
         botElementByteBuffer = ByteBuffer.wrap(botElementByteArray);
         MathPreconditions.checkPositiveInRangeClosed("clientElementSize", clientElementSet.size(), maxClientElementSize);
         clientElementList = clientElementSet.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ByteBuffer::wrap)
             .peek(yi -> Preconditions.checkArgument(!yi.equals(botElementByteBuffer), "xi must not equal ⊥"))
             .collect(Collectors.toCollection(ArrayList::new));
         clientElementSize = clientElementSet.size();
         byteArrayObjectMap = new HashMap<>(clientElementSize);
         clientElementSet.forEach(clientElement ->
-            byteArrayObjectMap.put(ByteBuffer.wrap(ObjectUtils.objectToByteArray(clientElement)), clientElement)
+            byteArrayObjectMap.put(ByteBuffer.wrap(elementCodec.encode(clientElement)), clientElement)
         );
         extraInfo++;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void setElementCodec(ElementCodec<T> elementCodec) {
+        checkNonInitialized();
+        this.elementCodec = Preconditions.checkNotNull(elementCodec, "elementCodec");
+    }
+}
@@ -7,7 +7,8 @@ import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractTwoPartyPto;
 import edu.alibaba.mpc4j.common.tool.CommonConstants;
 import edu.alibaba.mpc4j.common.tool.MathPreconditions;
-import edu.alibaba.mpc4j.common.tool.utils.ObjectUtils;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodecFactory;
 
 import java.nio.ByteBuffer;
 import java.util.*;
@@ -20,6 +21,10 @@ import java.util.stream.Collectors;
  * @date 2022/6/14
  */
 public abstract class AbstractUpsiServer<T> extends AbstractTwoPartyPto implements UpsiServer<T> {
+    /**
+     * element codec
+     */
+    protected ElementCodec<T> elementCodec = ElementCodecFactory.createObjectCodec();
     /**
      * max client element size
      */
@@ -62,7 +67,7 @@ public abstract class AbstractUpsiServer<T> extends AbstractTwoPartyPto implemen
         botElementByteBuffer = ByteBuffer.wrap(botElementByteArray);
         MathPreconditions.checkPositive("serverElementSize", serverElementSet.size());
         serverElementList = serverElementSet.stream()
-            .map(ObjectUtils::objectToByteArray)
+            .map(elementCodec::encode)
             .map(ByteBuffer::wrap)
             .peek(xi -> Preconditions.checkArgument(!xi.equals(botElementByteBuffer), "xi must not equal ⊥"))
             .collect(Collectors.toCollection(ArrayList::new));
@@ -71,8 +76,14 @@ public abstract class AbstractUpsiServer<T> extends AbstractTwoPartyPto implemen
         this.clientElementSize = clientElementSize;
         byteArrayObjectMap = new HashMap<>(serverElementSize);
         serverElementSet.forEach(serverElement ->
-            byteArrayObjectMap.put(ByteBuffer.wrap(ObjectUtils.objectToByteArray(serverElement)), serverElement)
+            byteArrayObjectMap.put(ByteBuffer.wrap(elementCodec.encode(serverElement)), serverElement)
         );
         extraInfo++;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void setElementCodec(ElementCodec<T> elementCodec) {
+        checkNonInitialized();
+        this.elementCodec = Preconditions.checkNotNull(elementCodec, "elementCodec");
+    }
+}
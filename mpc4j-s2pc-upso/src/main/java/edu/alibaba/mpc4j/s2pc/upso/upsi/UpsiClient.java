@@ -2,6 +2,7 @@ package edu.alibaba.mpc4j.s2pc.upso.upsi;
 
 import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
 import edu.alibaba.mpc4j.common.rpc.pto.TwoPartyPto;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
 
 import java.io.IOException;
 import java.util.Set;
@@ -37,4 +38,12 @@ public interface UpsiClient<T> extends TwoPartyPto {
      * @throws MpcAbortException the protocol failure aborts.
      */
     Set<T> psi(Set<T> clientElementSet) throws MpcAbortException, IOException;
+
+    /**
+     * Sets the element codec that encodes elements into byte arrays. It must be set before initializing the protocol.
+     * The default codec is {@code ElementCodecFactory.createObjectCodec()}.
+     *
+     * @param elementCodec element codec.
+     */
+    void setElementCodec(ElementCodec<T> elementCodec);
 }
@@ -2,6 +2,7 @@ package edu.alibaba.mpc4j.s2pc.upso.upsi;
 
 import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
 import edu.alibaba.mpc4j.common.rpc.pto.TwoPartyPto;
+import edu.alibaba.mpc4j.common.tool.codec.ElementCodec;
 
 import java.io.IOException;
 import java.util.Set;
@@ -38,4 +39,12 @@ public interface UpsiServer<T> extends TwoPartyPto {
      * @throws IOException if I/O operations failed.
      */
     void psi(Set<T> serverElementSet, int clientElementSize) throws MpcAbortException, IOException;
+
+    /**
+     * Sets the element codec that encodes elements into byte arrays. It must be set before initializing the protocol.
+     * The default codec is {@code ElementCodecFactory.createObjectCodec()}.
+     *
+     * @param elementCodec element codec.
+     */
+    void setElementCodec(ElementCodec<T> elementCodec);
 }
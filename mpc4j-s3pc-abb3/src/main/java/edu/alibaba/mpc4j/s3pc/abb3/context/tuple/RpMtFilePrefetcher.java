@@ -0,0 +1,159 @@
+package edu.alibaba.mpc4j.s3pc.abb3.context.tuple;
+
+import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
+import edu.alibaba.mpc4j.s3pc.abb3.basic.utils.FileUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * multiplication tuple file prefetcher. A background thread reads tuple files into a bounded ring of at most
+ * prefetchNum files ahead of the caller, so that reading the next file overlaps with consuming the current one. With
+ * prefetchNum = 1, this is double buffering.
+ * <p>
+ * Reading tuple files is local, so prefetching does not change the order of messages among parties. Files are deleted
+ * only when they are taken, so that files prefetched but not taken are kept for later use after destroying.
+ * </p>
+ *
+ * @author Weiran Liu
+ * @date 2026/10/17
+ */
+public class RpMtFilePrefetcher<T> {
+    /**
+     * supplier of the next file name, returns null if there is no more file
+     */
+    private final Supplier<String> fileNameSupplier;
+    /**
+     * file reader
+     */
+    private final Function<String, T> fileReader;
+    /**
+     * whether to delete the file when it is taken
+     */
+    private final boolean deleteFlag;
+    /**
+     * max number of prefetched files
+     */
+    private final int prefetchNum;
+    /**
+     * the background executor
+     */
+    private final ExecutorService executorService;
+    /**
+     * names of prefetched files
+     */
+    private final Deque<String> prefetchFileNames;
+    /**
+     * prefetched files
+     */
+    private final Deque<Future<T>> prefetchFutures;
+    /**
+     * whether the last take blocks, i.e., the file is not prefetched when it is taken
+     */
+    private boolean lastTakeBlocked;
+
+    /**
+     * Creates a multiplication tuple file prefetcher.
+     *
+     * @param fileNameSupplier supplier of the next file name, returns null if there is no more file.
+     * @param fileReader       file reader.
+     * @param deleteFlag       whether to delete the file when it is taken.
+     * @param prefetchNum      max number of prefetched files.
+     * @param threadName       name of the background thread.
+     */
+    public RpMtFilePrefetcher(Supplier<String> fileNameSupplier, Function<String, T> fileReader, boolean deleteFlag,
+                              int prefetchNum, String threadName) {
+        MathPreconditions.checkPositive("prefetchNum", prefetchNum);
+        this.fileNameSupplier = fileNameSupplier;
+        this.fileReader = fileReader;
+        this.deleteFlag = deleteFlag;
+        this.prefetchNum = prefetchNum;
+        executorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        prefetchFileNames = new ArrayDeque<>(prefetchNum);
+        prefetchFutures = new ArrayDeque<>(prefetchNum);
+    }
+
+    /**
+     * Takes the next file, and starts prefetching the following files.
+     *
+     * @return the next file, null if there is no more file.
+     * @throws MpcAbortException the protocol failure aborts.
+     */
+    public T take() throws MpcAbortException {
+        prefetch();
+        if (prefetchFutures.isEmpty()) {
+            return null;
+        }
+        String fileName = prefetchFileNames.poll();
+        Future<T> future = prefetchFutures.poll();
+        lastTakeBlocked = !future.isDone();
+        T file;
+        try {
+            file = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MpcAbortException("Interrupted while waiting for prefetching " + fileName, e);
+        } catch (ExecutionException e) {
+            throw new MpcAbortException("Failed to prefetch " + fileName, e.getCause());
+        }
+        if (deleteFlag) {
+            FileUtils.deleteFile(fileName);
+        }
+        prefetch();
+        return file;
+    }
+
+    private void prefetch() {
+        while (prefetchFutures.size() < prefetchNum) {
+            String fileName = fileNameSupplier.get();
+            if (fileName == null) {
+                return;
+            }
+            prefetchFileNames.add(fileName);
+            prefetchFutures.add(executorService.submit(() -> fileReader.apply(fileName)));
+        }
+    }
+
+    /**
+     * Returns whether the last take blocks, i.e., the file is not prefetched when it is taken.
+     *
+     * @return whether the last take blocks.
+     */
+    public boolean isLastTakeBlocked() {
+        return lastTakeBlocked;
+    }
+
+    /**
+     * Gets names of files that are prefetched but not taken.
+     *
+     * @return names of files that are prefetched but not taken.
+     */
+    public Set<String> getPrefetchFileNames() {
+        return new HashSet<>(prefetchFileNames);
+    }
+
+    /**
+     * Destroys the prefetcher. Files that are prefetched but not taken are not deleted. This waits until the background
+     * thread terminates, so that no file is read after destroying.
+     */
+    public void destroy() {
+        prefetchFutures.forEach(future -> future.cancel(true));
+        prefetchFutures.clear();
+        prefetchFileNames.clear();
+        executorService.shutdownNow();
+        try {
+            while (!executorService.awaitTermination(1, TimeUnit.SECONDS)) {
+                // wait until the background thread terminates
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import edu.alibaba.mpc4j.s3pc.abb3.basic.AbstractAbbThreePartyPto;
 import edu.alibaba.mpc4j.s3pc.abb3.structure.zlong.replicate.TripletRpLongVector;
 
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 /**
  * abstract zl64 mtp for replicated 3p sharing
@@ -27,16 +28,26 @@ public abstract class AbstractRpLongMtp extends AbstractAbbThreePartyPto impleme
      * How many tuples are actually used
      */
     public long allTupleNum;
+    /**
+     * number of times that the online phase waits for refilling the buffer
+     */
+    private long stallNum;
+    /**
+     * total time (in nanoseconds) that the online phase waits for refilling the buffer
+     */
+    private long stallNanoTime;
 
     protected AbstractRpLongMtp(PtoDesc ptoDesc, Rpc rpc, RpLongMtpConfig config) {
         super(ptoDesc, rpc, config);
         allTupleNum = 0L;
+        stallNum = 0L;
+        stallNanoTime = 0L;
     }
 
     @Override
     public TripletRpLongVector[][] getTuple(int[] nums) throws MpcAbortException {
         if(buffer == null || currentLongIndex >= buffer[0].getNum()){
-            fillBuffer();
+            refillBuffer();
         }
         TripletRpLongVector[][] res = new TripletRpLongVector[3][nums.length];
         for(int i = 0; i < nums.length; i++){
@@ -54,7 +65,7 @@ public abstract class AbstractRpLongMtp extends AbstractAbbThreePartyPto impleme
                 }
                 int destStart = bufferResEleNum;
                 while(destStart < nums[i]){
-                    fillBuffer();
+                    refillBuffer();
                     currentLongIndex = Math.min(buffer[0].getNum(), nums[i] - destStart);
                     for(int dim = 0; dim < 3; dim++){
                         res[dim][i].setElements(buffer[dim], 0, destStart, currentLongIndex);
@@ -63,7 +74,7 @@ public abstract class AbstractRpLongMtp extends AbstractAbbThreePartyPto impleme
                 }
             }
             if(currentLongIndex >= buffer[0].getNum() && i < nums.length - 1){
-                fillBuffer();
+                refillBuffer();
             }
         }
         allTupleNum += Arrays.stream(nums).mapToLong(i -> (long) i).sum();
@@ -75,5 +86,31 @@ public abstract class AbstractRpLongMtp extends AbstractAbbThreePartyPto impleme
         return allTupleNum;
     }
 
-    protected abstract void fillBuffer() throws MpcAbortException;
+    @Override
+    public long getStallNum() {
+        return stallNum;
+    }
+
+    @Override
+    public long getStallTime(TimeUnit timeUnit) {
+        return timeUnit.convert(stallNanoTime, TimeUnit.NANOSECONDS);
+    }
+
+    private void refillBuffer() throws MpcAbortException {
+        long startNanoTime = System.nanoTime();
+        boolean blocked = fillBuffer();
+        // only count refills that wait for tuples, a refill with prefetched tuples is not a stall
+        if (blocked) {
+            stallNanoTime += System.nanoTime() - startNanoTime;
+            stallNum++;
+        }
+    }
+
+    /**
+     * fill the buffer
+     *
+     * @return whether filling blocks, i.e., the tuples are not ready when requested
+     * @throws MpcAbortException if the protocol is abort.
+     */
+    protected abstract boolean fillBuffer() throws MpcAbortException;
 }
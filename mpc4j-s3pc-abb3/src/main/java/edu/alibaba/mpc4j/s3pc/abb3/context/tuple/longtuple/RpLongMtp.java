@@ -4,6 +4,8 @@ import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
 import edu.alibaba.mpc4j.common.rpc.pto.ThreePartyPto;
 import edu.alibaba.mpc4j.s3pc.abb3.structure.zlong.replicate.TripletRpLongVector;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * interface of zl64 mtp for replicated 3p sharing
  *
@@ -27,4 +29,16 @@ public interface RpLongMtp extends ThreePartyPto {
      * return the actually used tuples
      */
     long getAllTupleNum();
+
+    /**
+     * return the number of times that the online phase waits for refilling the buffer
+     */
+    long getStallNum();
+
+    /**
+     * return the total time that the online phase waits for refilling the buffer
+     *
+     * @param timeUnit time unit
+     */
+    long getStallTime(TimeUnit timeUnit);
 }
@@ -43,8 +43,9 @@ public class RpLongBufferMtp extends AbstractRpLongMtp implements RpLongMtp {
     }
 
     @Override
-    protected void fillBuffer() throws MpcAbortException {
+    protected boolean fillBuffer() throws MpcAbortException {
         buffer = Arrays.stream(rpLongMtg.genMtOnline()).map(TripletRpLongVector::mergeWithPadding).toArray(TripletRpLongVector[]::new);
         currentLongIndex = 0;
+        return true;
     }
 }
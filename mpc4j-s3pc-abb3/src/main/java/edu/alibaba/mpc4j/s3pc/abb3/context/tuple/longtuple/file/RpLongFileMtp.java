@@ -5,6 +5,7 @@ import edu.alibaba.mpc4j.common.rpc.PartyState;
 import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.s3pc.abb3.basic.utils.FileUtils;
 import edu.alibaba.mpc4j.s3pc.abb3.context.cr.S3pcCrProvider;
+import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.RpMtFilePrefetcher;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.RpMtProviderFactory.FilePtoWorkType;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.longtuple.AbstractRpLongMtp;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.longtuple.RpLongMtp;
@@ -43,11 +44,20 @@ public class RpLongFileMtp extends AbstractRpLongMtp implements RpLongMtp {
      * storing the tuple files
      */
     List<String> allFileName;
+    /**
+     * max number of tuple files read ahead in the background
+     */
+    private final int prefetchNum;
+    /**
+     * tuple file prefetcher
+     */
+    private RpMtFilePrefetcher<TripletRpLongVector[]> prefetcher;
 
     public RpLongFileMtp(Rpc rpc, RpLongFileMtpConfig config, S3pcCrProvider crProvider) {
         super(RpLongFileMtpPtoDesc.getInstance(), rpc, config);
         workType = config.getPtoWorkType();
         fileDir = config.getFileDir();
+        prefetchNum = config.getPrefetchNum();
         RpLongEnvParty envParty = new RpLongEnvParty(rpc, config.getRpZl64EnvConfig(), crProvider);
         rpLongMtg = RpLongMtgFactory.createParty(rpc, config.getRpZl64MtgConfig(), envParty);
         addSubPto(rpLongMtg);
@@ -63,19 +73,56 @@ public class RpLongFileMtp extends AbstractRpLongMtp implements RpLongMtp {
     }
 
     @Override
-    protected void fillBuffer() throws MpcAbortException {
+    public void destroy() {
+        if (prefetcher != null) {
+            prefetcher.destroy();
+            prefetcher = null;
+        }
+        super.destroy();
+    }
+
+    @Override
+    protected boolean fillBuffer() throws MpcAbortException {
         if (allFileName == null) {
             updateFileList();
         }
-        if (allFileName.isEmpty()) {
+        if (prefetcher == null) {
+            prefetcher = new RpMtFilePrefetcher<>(
+                this::pollFileName, RpLongFileMtp::readFile, !workType.equals(FilePtoWorkType.TEST), prefetchNum,
+                rpc.ownParty().getPartyId() + "_rpZl64mt_prefetcher"
+            );
+        }
+        TripletRpLongVector[] tuples = prefetcher.take();
+        if (tuples == null) {
             throw new MpcAbortException("no enough zl64 mt files in the directory");
         }
-        long[][] tmp = FileUtils.readFileIntoLongMatrix(allFileName.get(0), !workType.equals(FilePtoWorkType.TEST));
-        if (!workType.equals(FilePtoWorkType.TEST)) {
-            allFileName.remove(0);
+        buffer = tuples;
+        currentLongIndex = 0;
+        return prefetcher.isLastTakeBlocked();
+    }
+
+    /**
+     * poll the next file to read, in the test mode, the first file is used repeatedly
+     *
+     * @return the next file, null if there is no more file
+     */
+    private String pollFileName() {
+        if (allFileName.isEmpty()) {
+            return null;
         }
+        return workType.equals(FilePtoWorkType.TEST) ? allFileName.get(0) : allFileName.remove(0);
+    }
+
+    /**
+     * read the tuples in the file, this is invoked by the background thread
+     *
+     * @param fileName the file name
+     * @return the tuples
+     */
+    private static TripletRpLongVector[] readFile(String fileName) {
+        long[][] tmp = FileUtils.readFileIntoLongMatrix(fileName, false);
         assert (tmp.length & 1) == 0;
-        buffer = IntStream.range(0, tmp.length >> 1).mapToObj(each ->
+        return IntStream.range(0, tmp.length >> 1).mapToObj(each ->
                 TripletRpLongVector.create(Arrays.copyOfRange(tmp, each << 1, (each << 1) + 2)))
             .toArray(TripletRpLongVector[]::new);
     }
@@ -94,6 +141,10 @@ public class RpLongFileMtp extends AbstractRpLongMtp implements RpLongMtp {
                 .map(File::getPath).collect(Collectors.toList());
         }
         Collections.sort(allFileName);
+        if (prefetcher != null && !workType.equals(FilePtoWorkType.TEST)) {
+            // files that are being prefetched are not deleted yet
+            allFileName.removeAll(prefetcher.getPrefetchFileNames());
+        }
     }
 
     /**
@@ -2,6 +2,7 @@ package edu.alibaba.mpc4j.s3pc.abb3.context.tuple.longtuple.file;
 
 import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractMultiPartyPtoConfig;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.RpMtProviderFactory.FilePtoWorkType;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.RpMtProviderFactory.MtProviderType;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.longtuple.RpLongMtpConfig;
@@ -24,6 +25,10 @@ public class RpLongFileMtpConfig extends AbstractMultiPartyPtoConfig implements
      * mtg config
      */
     private final String fileDir;
+    /**
+     * max number of tuple files read ahead in the background
+     */
+    private final int prefetchNum;
     /**
      * mtg config
      */
@@ -37,6 +42,7 @@ public class RpLongFileMtpConfig extends AbstractMultiPartyPtoConfig implements
         super(SecurityModel.MALICIOUS);
         ptoWorkType = builder.ptoWorkType;
         fileDir = builder.fileDir;
+        prefetchNum = builder.prefetchNum;
         rpLongEnvConfig = builder.rpLongEnvConfig;
         rpLongMtgConfig = builder.rpLongMtgConfig;
     }
@@ -54,6 +60,10 @@ public class RpLongFileMtpConfig extends AbstractMultiPartyPtoConfig implements
         return fileDir;
     }
 
+    public int getPrefetchNum() {
+        return prefetchNum;
+    }
+
     public RpLongEnvConfig getRpZl64EnvConfig() {
         return rpLongEnvConfig;
     }
@@ -71,6 +81,10 @@ public class RpLongFileMtpConfig extends AbstractMultiPartyPtoConfig implements
          * mtg config
          */
         private final String fileDir;
+        /**
+         * max number of tuple files read ahead in the background
+         */
+        private int prefetchNum;
         /**
          * mtg config
          */
@@ -83,6 +97,8 @@ public class RpLongFileMtpConfig extends AbstractMultiPartyPtoConfig implements
         public Builder(FilePtoWorkType ptoWorkType, String fileDir) {
             this.ptoWorkType = ptoWorkType;
             this.fileDir = fileDir;
+            // double buffering: read the next file while consuming the current one
+            prefetchNum = 1;
             rpLongEnvConfig = new RpLongEnvConfig.Builder().build();
             rpLongMtgConfig = RpLongMtgFactory.createDefaultConfig();
         }
@@ -91,6 +107,12 @@ public class RpLongFileMtpConfig extends AbstractMultiPartyPtoConfig implements
             this.rpLongMtgConfig = rpLongMtgConfig;
         }
 
+        public Builder setPrefetchNum(int prefetchNum) {
+            MathPreconditions.checkPositive("prefetchNum", prefetchNum);
+            this.prefetchNum = prefetchNum;
+            return this;
+        }
+
         @Override
         public RpLongFileMtpConfig build() {
             return new RpLongFileMtpConfig(this);
@@ -59,10 +59,11 @@ public class RpLongSimMtp extends AbstractRpLongMtp implements RpLongMtp {
     }
 
     @Override
-    protected void fillBuffer() {
+    protected boolean fillBuffer() {
         buffer = Arrays.stream(constantBuffer)
             .map(TripletRpLongVector::copy)
             .toArray(TripletRpLongVector[]::new);
         currentLongIndex = 0;
+        return true;
     }
 }
@@ -8,6 +8,7 @@ import edu.alibaba.mpc4j.s3pc.abb3.basic.AbstractAbbThreePartyPto;
 import edu.alibaba.mpc4j.s3pc.abb3.structure.z2.replicate.TripletRpZ2Vector;
 
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 /**
  * abstract z2 mtp for replicated 3p sharing
@@ -28,16 +29,26 @@ public abstract class AbstractRpZ2Mtp extends AbstractAbbThreePartyPto implement
      * How many tuples are actually used
      */
     public long allTupleNum;
+    /**
+     * number of times that the online phase waits for refilling the buffer
+     */
+    private long stallNum;
+    /**
+     * total time (in nanoseconds) that the online phase waits for refilling the buffer
+     */
+    private long stallNanoTime;
 
     protected AbstractRpZ2Mtp(PtoDesc ptoDesc, Rpc rpc, RpZ2MtpConfig config) {
         super(ptoDesc, rpc, config);
         allTupleNum = 0L;
+        stallNum = 0L;
+        stallNanoTime = 0L;
     }
 
     @Override
     public TripletRpZ2Vector[][] getTuple(int[] bitNums) throws MpcAbortException {
         if(buffer == null || currentByteIndex >= buffer[0].byteNum()){
-            fillBuffer();
+            refillBuffer();
         }
         TripletRpZ2Vector[][] res = new TripletRpZ2Vector[3][bitNums.length];
         for(int i = 0; i < bitNums.length; i++){
@@ -56,7 +67,7 @@ public abstract class AbstractRpZ2Mtp extends AbstractAbbThreePartyPto implement
                 }
                 int destStart = bufferResByteNum;
                 while(destStart < byteNum){
-                    fillBuffer();
+                    refillBuffer();
                     currentByteIndex = Math.min(buffer[0].byteNum(), byteNum - destStart);
                     for(int dim = 0; dim < 3; dim++){
                         res[dim][i].setBytes(buffer[dim], 0, destStart, currentByteIndex);
@@ -68,7 +79,7 @@ public abstract class AbstractRpZ2Mtp extends AbstractAbbThreePartyPto implement
                 }
             }
             if(currentByteIndex >= buffer[0].byteNum() && i < bitNums.length - 1){
-                fillBuffer();
+                refillBuffer();
             }
         }
         allTupleNum += Arrays.stream(bitNums).mapToLong(i -> (long) i).sum();
@@ -80,5 +91,31 @@ public abstract class AbstractRpZ2Mtp extends AbstractAbbThreePartyPto implement
         return allTupleNum;
     }
 
-    protected abstract void fillBuffer() throws MpcAbortException;
+    @Override
+    public long getStallNum() {
+        return stallNum;
+    }
+
+    @Override
+    public long getStallTime(TimeUnit timeUnit) {
+        return timeUnit.convert(stallNanoTime, TimeUnit.NANOSECONDS);
+    }
+
+    private void refillBuffer() throws MpcAbortException {
+        long startNanoTime = System.nanoTime();
+        boolean blocked = fillBuffer();
+        // only count refills that wait for tuples, a refill with prefetched tuples is not a stall
+        if (blocked) {
+            stallNanoTime += System.nanoTime() - startNanoTime;
+            stallNum++;
+        }
+    }
+
+    /**
+     * fill the buffer
+     *
+     * @return whether filling blocks, i.e., the tuples are not ready when requested
+     * @throws MpcAbortException if the protocol is abort.
+     */
+    protected abstract boolean fillBuffer() throws MpcAbortException;
 }
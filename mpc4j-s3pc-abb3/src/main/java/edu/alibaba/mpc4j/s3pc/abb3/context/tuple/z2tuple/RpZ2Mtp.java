@@ -4,6 +4,8 @@ import edu.alibaba.mpc4j.common.rpc.MpcAbortException;
 import edu.alibaba.mpc4j.common.rpc.pto.ThreePartyPto;
 import edu.alibaba.mpc4j.s3pc.abb3.structure.z2.replicate.TripletRpZ2Vector;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * interface of z2 mtp for replicated 3p sharing
  *
@@ -27,4 +29,16 @@ public interface RpZ2Mtp extends ThreePartyPto {
      * return the actually used tuples
      */
     long getAllTupleNum();
+
+    /**
+     * return the number of times that the online phase waits for refilling the buffer
+     */
+    long getStallNum();
+
+    /**
+     * return the total time that the online phase waits for refilling the buffer
+     *
+     * @param timeUnit time unit
+     */
+    long getStallTime(TimeUnit timeUnit);
 }
@@ -42,8 +42,9 @@ public class RpZ2BufferMtp extends AbstractRpZ2Mtp implements RpZ2Mtp {
     }
 
     @Override
-    protected void fillBuffer() throws MpcAbortException {
+    protected boolean fillBuffer() throws MpcAbortException {
         buffer = Arrays.stream(rpZ2Mtg.genMtOnline()).map(TripletRpZ2Vector::mergeWithPadding).toArray(TripletRpZ2Vector[]::new);
         currentByteIndex = 0;
+        return true;
     }
 }
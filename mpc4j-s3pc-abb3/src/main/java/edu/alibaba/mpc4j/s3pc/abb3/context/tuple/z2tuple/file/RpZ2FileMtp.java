@@ -6,6 +6,7 @@ import edu.alibaba.mpc4j.common.rpc.Rpc;
 import edu.alibaba.mpc4j.common.tool.bitvector.BitVector;
 import edu.alibaba.mpc4j.s3pc.abb3.basic.utils.FileUtils;
 import edu.alibaba.mpc4j.s3pc.abb3.context.cr.S3pcCrProvider;
+import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.RpMtFilePrefetcher;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.RpMtProviderFactory.FilePtoWorkType;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.z2tuple.AbstractRpZ2Mtp;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.z2tuple.RpZ2Mtp;
@@ -44,11 +45,20 @@ public class RpZ2FileMtp extends AbstractRpZ2Mtp implements RpZ2Mtp {
      * storing the tuple files
      */
     List<String> allFileName;
+    /**
+     * max number of tuple files read ahead in the background
+     */
+    private final int prefetchNum;
+    /**
+     * tuple file prefetcher
+     */
+    private RpMtFilePrefetcher<TripletRpZ2Vector[]> prefetcher;
 
     public RpZ2FileMtp(Rpc rpc, RpZ2FileMtpConfig config, S3pcCrProvider crProvider) {
         super(RpZ2FileMtpPtoDesc.getInstance(), rpc, config);
         workType = config.getPtoWorkType();
         fileDir = config.getFileDir();
+        prefetchNum = config.getPrefetchNum();
         RpZ2EnvParty envParty = new RpZ2EnvParty(rpc, config.getRpZ2EnvConfig(), crProvider);
         rpZ2Mtg = RpZ2MtgFactory.createParty(rpc, config.getRpZ2MtgConfig(), envParty);
         addSubPto(rpZ2Mtg);
@@ -64,19 +74,56 @@ public class RpZ2FileMtp extends AbstractRpZ2Mtp implements RpZ2Mtp {
     }
 
     @Override
-    protected void fillBuffer() throws MpcAbortException {
+    public void destroy() {
+        if (prefetcher != null) {
+            prefetcher.destroy();
+            prefetcher = null;
+        }
+        super.destroy();
+    }
+
+    @Override
+    protected boolean fillBuffer() throws MpcAbortException {
         if (allFileName == null) {
             updateFileList();
         }
-        if (allFileName.isEmpty()) {
+        if (prefetcher == null) {
+            prefetcher = new RpMtFilePrefetcher<>(
+                this::pollFileName, RpZ2FileMtp::readFile, !workType.equals(FilePtoWorkType.TEST), prefetchNum,
+                rpc.ownParty().getPartyId() + "_rpZ2mt_prefetcher"
+            );
+        }
+        TripletRpZ2Vector[] tuples = prefetcher.take();
+        if (tuples == null) {
             throw new MpcAbortException("no enough z2mt files in the directory");
         }
-        BitVector[] tmp = FileUtils.readFileIntoBitVectors(allFileName.get(0), !workType.equals(FilePtoWorkType.TEST));
-        if (!workType.equals(FilePtoWorkType.TEST)) {
-            allFileName.remove(0);
+        buffer = tuples;
+        currentByteIndex = 0;
+        return prefetcher.isLastTakeBlocked();
+    }
+
+    /**
+     * poll the next file to read, in the test mode, the first file is used repeatedly
+     *
+     * @return the next file, null if there is no more file
+     */
+    private String pollFileName() {
+        if (allFileName.isEmpty()) {
+            return null;
         }
+        return workType.equals(FilePtoWorkType.TEST) ? allFileName.get(0) : allFileName.remove(0);
+    }
+
+    /**
+     * read the tuples in the file, this is invoked by the background thread
+     *
+     * @param fileName the file name
+     * @return the tuples
+     */
+    private static TripletRpZ2Vector[] readFile(String fileName) {
+        BitVector[] tmp = FileUtils.readFileIntoBitVectors(fileName, false);
         assert (tmp.length & 1) == 0;
-        buffer = IntStream.range(0, tmp.length >> 1).mapToObj(each ->
+        return IntStream.range(0, tmp.length >> 1).mapToObj(each ->
                 TripletRpZ2Vector.create(Arrays.copyOfRange(tmp, each << 1, (each << 1) + 2)))
             .toArray(TripletRpZ2Vector[]::new);
     }
@@ -95,6 +142,10 @@ public class RpZ2FileMtp extends AbstractRpZ2Mtp implements RpZ2Mtp {
                 .map(File::getPath).collect(Collectors.toList());
         }
         Collections.sort(allFileName);
+        if (prefetcher != null && !workType.equals(FilePtoWorkType.TEST)) {
+            // files that are being prefetched are not deleted yet
+            allFileName.removeAll(prefetcher.getPrefetchFileNames());
+        }
     }
 
     /**
@@ -2,6 +2,7 @@ package edu.alibaba.mpc4j.s3pc.abb3.context.tuple.z2tuple.file;
 
 import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
 import edu.alibaba.mpc4j.common.rpc.pto.AbstractMultiPartyPtoConfig;
+import edu.alibaba.mpc4j.common.tool.MathPreconditions;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.RpMtProviderFactory.FilePtoWorkType;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.RpMtProviderFactory.MtProviderType;
 import edu.alibaba.mpc4j.s3pc.abb3.context.tuple.z2tuple.RpZ2MtpConfig;
@@ -24,6 +25,10 @@ public class RpZ2FileMtpConfig extends AbstractMultiPartyPtoConfig implements Rp
      * mtg config
      */
     private final String fileDir;
+    /**
+     * max number of tuple files read ahead in the background
+     */
+    private final int prefetchNum;
     /**
      * mtg config
      */
@@ -37,6 +42,7 @@ public class RpZ2FileMtpConfig extends AbstractMultiPartyPtoConfig implements Rp
         super(SecurityModel.MALICIOUS);
         ptoWorkType = builder.ptoWorkType;
         fileDir = builder.fileDir;
+        prefetchNum = builder.prefetchNum;
         rpZ2EnvConfig = builder.rpZ2EnvConfig;
         rpZ2MtgConfig = builder.rpZ2MtgConfig;
     }
@@ -54,6 +60,10 @@ public class RpZ2FileMtpConfig extends AbstractMultiPartyPtoConfig implements Rp
         return fileDir;
     }
 
+    public int getPrefetchNum() {
+        return prefetchNum;
+    }
+
     public RpZ2EnvConfig getRpZ2EnvConfig() {
         return rpZ2EnvConfig;
     }
@@ -71,6 +81,10 @@ public class RpZ2FileMtpConfig extends AbstractMultiPartyPtoConfig implements Rp
          * mtg config
          */
         private final String fileDir;
+        /**
+         * max number of tuple files read ahead in the background
+         */
+        private int prefetchNum;
         /**
          * mtg config
          */
@@ -83,6 +97,8 @@ public class RpZ2FileMtpConfig extends AbstractMultiPartyPtoConfig implements Rp
         public Builder(FilePtoWorkType ptoWorkType, String fileDir) {
             this.ptoWorkType = ptoWorkType;
             this.fileDir = fileDir;
+            // double buffering: read the next file while consuming the current one
+            prefetchNum = 1;
             rpZ2EnvConfig = new RpZ2EnvConfig.Builder().build();
             rpZ2MtgConfig = RpZ2MtgFactory.createDefaultConfig();
         }
@@ -91,6 +107,12 @@ public class RpZ2FileMtpConfig extends AbstractMultiPartyPtoConfig implements Rp
             this.rpZ2MtgConfig = rpZ2MtgConfig;
         }
 
+        public Builder setPrefetchNum(int prefetchNum) {
+            MathPreconditions.checkPositive("prefetchNum", prefetchNum);
+            this.prefetchNum = prefetchNum;
+            return this;
+        }
+
         @Override
         public RpZ2FileMtpConfig build() {
             return new RpZ2FileMtpConfig(this);
@@ -60,10 +60,11 @@ public class RpZ2SimMtp extends AbstractRpZ2Mtp implements RpZ2Mtp {
     }
 
     @Override
-    protected void fillBuffer() throws MpcAbortException {
+    protected boolean fillBuffer() throws MpcAbortException {
         buffer = Arrays.stream(constantBuffer)
             .map(TripletRpZ2Vector::copy)
             .toArray(TripletRpZ2Vector[]::new);
         currentByteIndex = 0;
+        return true;
     }
 }
@@ -67,6 +67,10 @@ public class RpLongMtpTest extends AbstractThreePartyMemoryRpcPto {
             MtProviderType.FILE.name() + "_READ_WRITE",
             new RpLongFileMtpConfig.Builder(FilePtoWorkType.READ_WRITE, "./").build()
         });
+        configurations.add(new Object[]{
+            MtProviderType.FILE.name() + "_READ_WRITE (prefetch = 2)",
+            new RpLongFileMtpConfig.Builder(FilePtoWorkType.READ_WRITE, "./").setPrefetchNum(2).build()
+        });
 
         return configurations;
     }
@@ -131,6 +135,10 @@ public class RpLongMtpTest extends AbstractThreePartyMemoryRpcPto {
             // destroy
             Arrays.stream(providers).forEach(p -> new Thread(p::destroy).start());
             LOGGER.info("-----test {} (totalBit = {}) end, total time : {}-----", providers[0].getPtoDesc().getPtoName(), totalData, time);
+            LOGGER.info(
+                "stall num : {}, stall time : {}",
+                providers[0].getStallNum(), providers[0].getStallTime(TimeUnit.MILLISECONDS)
+            );
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
@@ -3,6 +3,7 @@ package edu.alibaba.mpc4j.work.scape.s3pc.opf;
 import edu.alibaba.mpc4j.common.rpc.desc.PtoDesc;
 import edu.alibaba.mpc4j.common.rpc.desc.SecurityModel;
 import edu.alibaba.mpc4j.common.rpc.pto.MultiPartyPtoConfig;
+import edu.alibaba.mpc4j.common.rpc.pto.PtoExecutor;
 import edu.alibaba.mpc4j.s3pc.abb3.basic.Abb3Party;
 import edu.alibaba.mpc4j.s3pc.abb3.basic.AbstractAbbThreePartyPto;
 import edu.alibaba.mpc4j.s3pc.abb3.basic.core.z2.TripletZ2cParty;
@@ -57,6 +58,12 @@ public abstract class AbstractThreePartyOpfPto extends AbstractAbbThreePartyPto
         super.setParallel(parallel);
     }
 
+    @Override
+    public void setPtoExecutor(PtoExecutor ptoExecutor) {
+        abb3Party.setPtoExecutor(ptoExecutor);
+        super.setPtoExecutor(ptoExecutor);
+    }
+
     @Override
     public void setTaskId(int taskId) {
         abb3Party.setTaskId(taskId);